@@ -29,6 +29,7 @@ import java.util.List;
 import static org.apache.commons.lang3.builder.EqualsBuilder.reflectionEquals;
 import static org.apache.commons.lang3.builder.HashCodeBuilder.reflectionHashCode;
 import static org.codehaus.jackson.map.annotate.JsonSerialize.Inclusion.NON_EMPTY;
+import static org.springframework.beans.BeanUtils.copyProperties;
 
 /**
  * Facility represents a real world Facility on ground. Defines the contract for creation/upload, eg. the mandatory fields, field type
@@ -174,6 +175,22 @@ public class Facility extends BaseModel implements Importable {
     return new Facility(id, code, name, operatedBy, geographicZone, facilityType, virtualFacility);
   }
 
+  /**
+   * Returns a copy whose supported programs, and the list holding them, can be changed without affecting this facility.
+   * Zone, type, operator and programs are shared.
+   */
+  public Facility copy() {
+    Facility copy = new Facility();
+    copyProperties(this, copy);
+    if (supportedPrograms != null) {
+      copy.supportedPrograms = new ArrayList<>();
+      for (ProgramSupported programSupported : supportedPrograms) {
+        copy.supportedPrograms.add(programSupported.copy());
+      }
+    }
+    return copy;
+  }
+
   public static Facility createFacilityToBeDeleted(Long facilityId, Long modifiedBy) {
     return new Facility(facilityId, false, false, modifiedBy);
   }
@@ -38,7 +38,7 @@ public class Money extends BaseModel {
   }
 
   public Money(BigDecimal value) {
-    this(value.toString());
+    this.value = value.setScale(2, ROUND_HALF_UP);
   }
 
   public Money multiply(BigDecimal decimal) {
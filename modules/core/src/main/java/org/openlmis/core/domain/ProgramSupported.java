@@ -25,10 +25,12 @@ import org.openlmis.upload.annotation.ImportField;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
 import static org.codehaus.jackson.map.annotate.JsonSerialize.Inclusion.NON_EMPTY;
+import static org.springframework.beans.BeanUtils.copyProperties;
 
 /**
  * ProgramSupported represents the Program supported by a Facility. Defines the contract for upload of such mapping like program code,
@@ -71,6 +73,15 @@ public class ProgramSupported extends BaseModel implements Importable {
     this.startDate = startDate;
   }
 
+  public ProgramSupported copy() {
+    ProgramSupported copy = new ProgramSupported();
+    copyProperties(this, copy);
+    if (programProducts != null) {
+      copy.programProducts = new ArrayList<>(programProducts);
+    }
+    return copy;
+  }
+
   @SuppressWarnings("unused")
   public String getStringStartDate() throws ParseException {
     SimpleDateFormat simpleDateFormat = new SimpleDateFormat("yyyy-MM-dd");
@@ -28,9 +28,10 @@ public abstract class BaseFeedDTO {
 
   private static Logger logger = Logger.getLogger(BaseFeedDTO.class);
 
+  private static final ObjectMapper mapper = new ObjectMapper();
+
   @JsonIgnore
   public String getSerializedContents() {
-    ObjectMapper mapper = new ObjectMapper();
     String feed;
 
     try {
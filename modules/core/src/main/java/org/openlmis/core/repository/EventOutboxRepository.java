@@ -0,0 +1,52 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.core.repository;
+
+import org.ict4h.atomfeed.server.service.Event;
+import org.openlmis.core.repository.mapper.EventOutboxMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.openlmis.core.repository.helper.ListPartitioner.partition;
+
+/**
+ * EventOutboxRepository is the repository for feed events waiting to be published to the atom feed.
+ */
+@Repository
+public class EventOutboxRepository {
+
+  static final int BATCH_SIZE = 500;
+  static final long PUBLISHER_LOCK_KEY = 5141;
+
+  @Autowired
+  private EventOutboxMapper mapper;
+
+  public void insertAll(List<Event> events) {
+    for (List<Event> batch : partition(events, BATCH_SIZE)) {
+      mapper.insertAll(batch);
+    }
+  }
+
+  /**
+   * Moves up to limit of the oldest outbox events into the atom feed, in the order they were recorded.
+   * Only one publisher may run at a time so feed ids follow outbox order; returns 0 if another one holds the lock.
+   */
+  @Transactional
+  public int publish(int limit) {
+    if (!mapper.tryLock(PUBLISHER_LOCK_KEY)) {
+      return 0;
+    }
+    return mapper.publish(limit);
+  }
+}
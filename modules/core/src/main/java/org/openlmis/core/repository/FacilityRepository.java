@@ -24,6 +24,7 @@ import java.util.Date;
 import java.util.List;
 
 import static org.openlmis.core.domain.Right.commaSeparateRightNames;
+import static org.openlmis.core.repository.helper.CommaSeparator.commaSeparateValues;
 
 /**
  * FacilityRepository is repository class for Facility related database operations.
@@ -130,6 +131,10 @@ public class FacilityRepository {
     return mapper.getById(id);
   }
 
+  public List<Facility> getAllByIds(List<Long> ids) {
+    return mapper.getAllByIds(commaSeparateValues(ids));
+  }
+
   public Facility updateEnabledAndActiveFor(Facility facility) {
     mapper.updateEnabledAndActiveFor(facility);
     //TODO is this required??
@@ -173,6 +178,10 @@ public class FacilityRepository {
     return mapper.getByCode(code);
   }
 
+  public List<Facility> getIdAndModifiedDateByCodes(List<String> codes) {
+    return mapper.getIdAndModifiedDateByCodes(codes);
+  }
+
   public List<Facility> getAllInDeliveryZoneFor(Long deliveryZoneId, Long programId) {
     return mapper.getAllInDeliveryZoneFor(deliveryZoneId, programId);
   }
@@ -22,6 +22,8 @@ import java.text.ParseException;
 import java.util.Date;
 import java.util.List;
 
+import static org.openlmis.core.repository.helper.CommaSeparator.commaSeparateValues;
+
 /**
  * ProcessingPeriodRepository is Repository class for ProcessingPeriod related database operations.
  */
@@ -80,6 +82,10 @@ public class ProcessingPeriodRepository {
     return mapper.getById(id);
   }
 
+  public List<ProcessingPeriod> getAllByIds(List<Long> ids) {
+    return mapper.getAllByIds(commaSeparateValues(ids));
+  }
+
   public List<ProcessingPeriod> getAllPeriodsForDateRange(Long scheduleId, Date startDate, Date endDate) {
     return mapper.getAllPeriodsForDateRange(scheduleId, startDate, endDate);
   }
@@ -20,6 +20,11 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.openlmis.core.repository.helper.ListPartitioner.partition;
+
 /**
  * ProductCategoryRepository is Repository class for ProductCategory related database operations.
  */
@@ -28,6 +33,8 @@ import org.springframework.stereotype.Repository;
 @NoArgsConstructor
 public class ProductCategoryRepository {
 
+  static final int BATCH_SIZE = 500;
+
   private ProductCategoryMapper categoryMapper;
 
   @Autowired
@@ -38,18 +45,45 @@ public class ProductCategoryRepository {
   public void insert(ProductCategory productCategory) {
     try {
       categoryMapper.insert(productCategory);
-    } catch (DuplicateKeyException duplicateKeyException) {
-      throw new DataException("product.category.name.duplicate");
     } catch (DataIntegrityViolationException dataIntegrityViolationException) {
-      String errorMessage = dataIntegrityViolationException.getMessage().toLowerCase();
-      if (errorMessage.contains("foreign key") || errorMessage.contains("violates not-null constraint")) {
-        throw new DataException("error.reference.data.missing");
+      throw toDataException(dataIntegrityViolationException);
+    }
+  }
+
+  public void saveAll(List<ProductCategory> productCategories) {
+    List<ProductCategory> categoriesToInsert = new ArrayList<>();
+    List<ProductCategory> categoriesToUpdate = new ArrayList<>();
+    for (ProductCategory productCategory : productCategories) {
+      if (productCategory.getId() == null) {
+        categoriesToInsert.add(productCategory);
       } else {
-        throw new DataException("error.incorrect.length");
+        categoriesToUpdate.add(productCategory);
+      }
+    }
+
+    try {
+      for (List<ProductCategory> batch : partition(categoriesToInsert, BATCH_SIZE)) {
+        categoryMapper.insertAll(batch);
+      }
+      for (List<ProductCategory> batch : partition(categoriesToUpdate, BATCH_SIZE)) {
+        categoryMapper.updateAll(batch);
       }
+    } catch (DataIntegrityViolationException dataIntegrityViolationException) {
+      throw toDataException(dataIntegrityViolationException);
     }
   }
 
+  private DataException toDataException(DataIntegrityViolationException dataIntegrityViolationException) {
+    if (dataIntegrityViolationException instanceof DuplicateKeyException) {
+      return new DataException("product.category.name.duplicate");
+    }
+    String errorMessage = dataIntegrityViolationException.getMessage().toLowerCase();
+    if (errorMessage.contains("foreign key") || errorMessage.contains("violates not-null constraint")) {
+      return new DataException("error.reference.data.missing");
+    }
+    return new DataException("error.incorrect.length");
+  }
+
   public void update(ProductCategory productCategory) {
     categoryMapper.update(productCategory);
   }
@@ -65,4 +99,8 @@ public class ProductCategoryRepository {
   public ProductCategory getByCode(String code) {
     return categoryMapper.getProductCategoryByCode(code);
   }
+
+  public List<ProductCategory> getByCodes(List<String> codes) {
+    return categoryMapper.getByCodes(codes);
+  }
 }
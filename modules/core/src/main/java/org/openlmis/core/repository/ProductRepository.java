@@ -23,6 +23,8 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * ProductRepository is Repository class for Product related database operations.
  */
@@ -116,6 +118,10 @@ public class ProductRepository {
     return mapper.getByCode(code);
   }
 
+  public List<Product> getIdAndModifiedDateByCodes(List<String> codes) {
+    return mapper.getIdAndModifiedDateByCodes(codes);
+  }
+
   public Long getDosageUnitIdForCode(String code) {
     return mapper.getDosageUnitIdForCode(code);
   }
@@ -22,6 +22,7 @@ import org.springframework.stereotype.Component;
 import java.util.List;
 
 import static org.openlmis.core.domain.Right.commaSeparateRightNames;
+import static org.openlmis.core.repository.helper.CommaSeparator.commaSeparateValues;
 
 /**
  * ProgramRepository is Repository class for Program related database operations.
@@ -79,6 +80,10 @@ public class ProgramRepository {
     return mapper.getById(id);
   }
 
+  public List<Program> getAllByIds(List<Long> ids) {
+    return mapper.getAllByIds(commaSeparateValues(ids));
+  }
+
   public void setTemplateConfigured(Long id) {
     mapper.setTemplateConfigured(id);
   }
@@ -18,6 +18,11 @@ import org.openlmis.core.repository.mapper.SupplyLineMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
+import static org.openlmis.core.repository.helper.CommaSeparator.commaSeparateValues;
+
 /**
  * SupplyLineRepository is Repository class for SupplyLine related database operations.
  */
@@ -41,6 +46,10 @@ public class SupplyLineRepository {
     return supplyLineMapper.getSupplyLineBy(supervisoryNode, program);
   }
 
+  public List<SupplyLine> getSupplyLinesBy(Collection<Long> supervisoryNodeIds, Collection<Long> programIds) {
+    return supplyLineMapper.getSupplyLinesBy(commaSeparateValues(supervisoryNodeIds), commaSeparateValues(programIds));
+  }
+
   public void update(SupplyLine supplyLine) {
     supplyLineMapper.update(supplyLine);
   }
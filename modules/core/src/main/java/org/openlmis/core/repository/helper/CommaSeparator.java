@@ -14,6 +14,7 @@ import org.openlmis.core.domain.BaseModel;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -31,4 +32,8 @@ public class CommaSeparator<T extends BaseModel> {
     }
     return ids.toString().replace("[", "{").replace("]", "}");
   }
+
+  public static String commaSeparateValues(Collection<?> values) {
+    return values.toString().replace("[", "{").replace("]", "}");
+  }
 }
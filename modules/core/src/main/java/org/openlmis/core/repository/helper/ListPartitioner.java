@@ -0,0 +1,33 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.core.repository.helper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a list into consecutive sub-lists of a bounded size, used to keep multi-row statements within the number of
+ * bind parameters a single JDBC statement can carry.
+ */
+
+public class ListPartitioner {
+
+  private ListPartitioner() {
+  }
+
+  public static <T> List<List<T>> partition(List<T> list, int size) {
+    List<List<T>> partitions = new ArrayList<>();
+    for (int from = 0; from < list.size(); from += size) {
+      partitions.add(list.subList(from, Math.min(from + size, list.size())));
+    }
+    return partitions;
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.core.repository.mapper;
+
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+import org.ict4h.atomfeed.server.service.Event;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * EventOutboxMapper records feed events in the outbox table and moves them into the atom feed event records.
+ */
+@Repository
+public interface EventOutboxMapper {
+
+  @Insert({"<script>",
+      "INSERT INTO event_outbox (uuid, title, category, contents) VALUES",
+      "<foreach collection='events' item='event' separator=','>",
+      "(#{event.uuid}, #{event.title}, #{event.category}, #{event.contents})",
+      "</foreach>",
+      "</script>"})
+  void insertAll(@Param("events") List<Event> events);
+
+  @Select("SELECT pg_try_advisory_xact_lock(#{lockKey})")
+  boolean tryLock(@Param("lockKey") long lockKey);
+
+  @Update({"WITH published AS (",
+      "DELETE FROM event_outbox WHERE id IN (SELECT id FROM event_outbox ORDER BY id LIMIT #{limit})",
+      "RETURNING id, uuid, title, category, contents, createdDate)",
+      "INSERT INTO atomfeed.event_records (uuid, title, timestamp, uri, object, category)",
+      "SELECT uuid, title, createdDate, '', contents, category FROM published ORDER BY id"})
+  int publish(@Param("limit") int limit);
+}
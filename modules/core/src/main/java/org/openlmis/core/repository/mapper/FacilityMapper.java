@@ -79,6 +79,56 @@ public interface FacilityMapper {
   })
   Facility getById(Long id);
 
+  /**
+   * Loads the facilities with their geographic zone (with parent zone and levels, as in
+   * GeographicZoneMapper.getWithParentById), type and operator joined in, so that the whole list is one query.
+   */
+  @Select({"SELECT F.*, GZ.id AS zoneId, GZ.code AS zoneCode, GZ.name AS zoneName,",
+    "GZ.catchmentPopulation AS zoneCatchmentPopulation, GZ.longitude AS zoneLongitude, GZ.latitude AS zoneLatitude,",
+    "GL.id AS zoneLevelId, GL.code AS zoneLevelCode, GL.name AS zoneLevelName, GL.levelNumber AS zoneLevelNumber,",
+    "GZP.code AS parentZoneCode, GZP.name AS parentZoneName, GLP.code AS parentZoneLevelCode, GLP.name AS parentZoneLevelName,",
+    "FT.code AS typeCode, FT.name AS typeName, FT.description AS typeDescription, FT.levelId AS typeLevelId,",
+    "FT.nominalMaxMonth AS typeNominalMaxMonth, FT.nominalEop AS typeNominalEop, FT.displayOrder AS typeDisplayOrder,",
+    "FT.active AS typeActive, FO.code AS operatorCode, FO.text AS operatorText, FO.displayOrder AS operatorDisplayOrder",
+    "FROM facilities F",
+    "LEFT JOIN (geographic_zones GZ INNER JOIN geographic_zones GZP ON GZ.parentId = GZP.id",
+    "INNER JOIN geographic_levels GL ON GZ.levelId = GL.id",
+    "INNER JOIN geographic_levels GLP ON GZP.levelId = GLP.id) ON GZ.id = F.geographicZoneId",
+    "LEFT JOIN facility_types FT ON FT.id = F.typeId",
+    "LEFT JOIN facility_operators FO ON FO.id = F.operatedById",
+    "WHERE F.id = ANY(#{commaSeparatedIds}::INTEGER[])"})
+  @Results(value = {
+    @Result(property = "id", column = "id"),
+    @Result(property = "geographicZone.id", column = "zoneId"),
+    @Result(property = "geographicZone.code", column = "zoneCode"),
+    @Result(property = "geographicZone.name", column = "zoneName"),
+    @Result(property = "geographicZone.catchmentPopulation", column = "zoneCatchmentPopulation"),
+    @Result(property = "geographicZone.longitude", column = "zoneLongitude"),
+    @Result(property = "geographicZone.latitude", column = "zoneLatitude"),
+    @Result(property = "geographicZone.level.id", column = "zoneLevelId"),
+    @Result(property = "geographicZone.level.code", column = "zoneLevelCode"),
+    @Result(property = "geographicZone.level.name", column = "zoneLevelName"),
+    @Result(property = "geographicZone.level.levelNumber", column = "zoneLevelNumber"),
+    @Result(property = "geographicZone.parent.code", column = "parentZoneCode"),
+    @Result(property = "geographicZone.parent.name", column = "parentZoneName"),
+    @Result(property = "geographicZone.parent.level.code", column = "parentZoneLevelCode"),
+    @Result(property = "geographicZone.parent.level.name", column = "parentZoneLevelName"),
+    @Result(property = "facilityType.id", column = "typeId"),
+    @Result(property = "facilityType.code", column = "typeCode"),
+    @Result(property = "facilityType.name", column = "typeName"),
+    @Result(property = "facilityType.description", column = "typeDescription"),
+    @Result(property = "facilityType.levelId", column = "typeLevelId"),
+    @Result(property = "facilityType.nominalMaxMonth", column = "typeNominalMaxMonth"),
+    @Result(property = "facilityType.nominalEop", column = "typeNominalEop"),
+    @Result(property = "facilityType.displayOrder", column = "typeDisplayOrder"),
+    @Result(property = "facilityType.active", column = "typeActive"),
+    @Result(property = "operatedBy.id", column = "operatedById"),
+    @Result(property = "operatedBy.code", column = "operatorCode"),
+    @Result(property = "operatedBy.text", column = "operatorText"),
+    @Result(property = "operatedBy.displayOrder", column = "operatorDisplayOrder")
+  })
+  List<Facility> getAllByIds(String commaSeparatedIds);
+
   @Select("SELECT * FROM facilities WHERE LOWER(code)=LOWER(#{code})")
   @Results(value =
     {
@@ -215,4 +265,9 @@ public interface FacilityMapper {
   @Select({"SELECT id, code FROM facilities WHERE modifiedDate = #{modifiedDate} AND",
     "id IN(SELECT DISTINCT(parentFacilityId) FROM facilities)"})
   List<Facility> getAllParentsByModifiedDate(Date modifiedDate);
-}
\ No newline at end of file
+
+  @Select({"<script>SELECT id, code, modifiedDate FROM facilities WHERE LOWER(code) IN",
+    "<foreach collection='codes' item='code' open='(' separator=',' close=')'>LOWER(#{code})</foreach>",
+    "</script>"})
+  List<Facility> getIdAndModifiedDateByCodes(@Param("codes") List<String> codes);
+}
@@ -43,6 +43,9 @@ public interface ProcessingPeriodMapper {
   @Select("SELECT * FROM processing_periods WHERE id = #{id}")
   ProcessingPeriod getById(Long id);
 
+  @Select("SELECT * FROM processing_periods WHERE id = ANY(#{commaSeparatedIds}::INTEGER[])")
+  List<ProcessingPeriod> getAllByIds(String commaSeparatedIds);
+
   @Select("SELECT * FROM processing_periods " +
     "WHERE scheduleId = #{scheduleId} " +
     "AND startDate > (SELECT pp.endDate FROM processing_periods pp WHERE pp.id = #{startingPeriodId}) " +
@@ -12,11 +12,14 @@ package org.openlmis.core.repository.mapper;
 
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
 import org.openlmis.core.domain.ProductCategory;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * ProductCategoryMapper maps the ProductCategory entity to corresponding representation in database.
  */
@@ -43,4 +46,29 @@ public interface ProductCategoryMapper {
 
   @Select("SELECT id FROM product_categories WHERE LOWER(code) = LOWER(#{code})")
   public Long getProductCategoryIdByCode(String categoryCode);
+
+  @Select({"<script>SELECT * FROM product_categories WHERE LOWER(code) IN",
+      "<foreach collection='codes' item='code' open='(' separator=',' close=')'>LOWER(#{code})</foreach>",
+      "</script>"})
+  public List<ProductCategory> getByCodes(@Param("codes") List<String> codes);
+
+  @Insert({"<script>INSERT INTO product_categories",
+      "(code, name, displayOrder, createdBy, modifiedBy, modifiedDate)",
+      "VALUES",
+      "<foreach collection='categories' item='category' separator=','>",
+      "(#{category.code}, #{category.name}, #{category.displayOrder}, #{category.createdBy}, #{category.modifiedBy},",
+      "COALESCE(#{category.modifiedDate}, NOW()))",
+      "</foreach></script>"})
+  public void insertAll(@Param("categories") List<ProductCategory> categories);
+
+  @Update({"<script>UPDATE product_categories SET name = V.name, displayOrder = V.displayOrder,",
+      "modifiedBy = V.modifiedBy, modifiedDate = V.modifiedDate",
+      "FROM (VALUES",
+      "<foreach collection='categories' item='category' separator=','>",
+      "(#{category.id}::INTEGER, #{category.name}::VARCHAR, #{category.displayOrder}::INTEGER,",
+      "#{category.modifiedBy}::INTEGER, #{category.modifiedDate}::TIMESTAMP)",
+      "</foreach>",
+      ") AS V (id, name, displayOrder, modifiedBy, modifiedDate)",
+      "WHERE product_categories.id = V.id</script>"})
+  public void updateAll(@Param("categories") List<ProductCategory> categories);
 }
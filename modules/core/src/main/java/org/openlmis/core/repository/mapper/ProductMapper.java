@@ -14,6 +14,8 @@ import org.apache.ibatis.annotations.*;
 import org.openlmis.core.domain.*;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * ProductMapper maps the Product entity to corresponding representation in database.
  */
@@ -98,4 +100,9 @@ public interface ProductMapper {
 
   @Select("SELECT active FROM products WHERE code = #{code}")
   boolean isActive(String code);
+
+  @Select({"<script>SELECT id, code, modifiedDate FROM products WHERE LOWER(code) IN",
+    "<foreach collection='codes' item='code' open='(' separator=',' close=')'>LOWER(#{code})</foreach>",
+    "</script>"})
+  List<Product> getIdAndModifiedDateByCodes(@Param("codes") List<String> codes);
 }
@@ -60,6 +60,9 @@ public interface ProgramMapper {
   @Select("SELECT * FROM programs WHERE id = #{id}")
   Program getById(Long id);
 
+  @Select("SELECT * FROM programs WHERE id = ANY(#{commaSeparatedIds}::INTEGER[])")
+  List<Program> getAllByIds(String commaSeparatedIds);
+
   @Select({"SELECT DISTINCT p.*",
     "FROM programs p",
     "INNER JOIN role_assignments ra ON p.id = ra.programId",
@@ -17,6 +17,8 @@ import org.openlmis.core.domain.SupervisoryNode;
 import org.openlmis.core.domain.SupplyLine;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * SupplyLineMapper maps the SupplyLine entity to corresponding representation in database.
  */
@@ -36,6 +38,16 @@ public interface SupplyLineMapper {
   })
   SupplyLine getSupplyLineBy(@Param(value = "supervisoryNode") SupervisoryNode supervisoryNode, @Param(value = "program") Program program);
 
+  @Select({"SELECT * FROM supply_lines WHERE supervisoryNodeId = ANY(#{commaSeparatedSupervisoryNodeIds}::INTEGER[])",
+    "AND programId = ANY(#{commaSeparatedProgramIds}::INTEGER[])"})
+  @Results(value = {
+    @Result(property = "supervisoryNode.id", column = "supervisoryNodeId"),
+    @Result(property = "program.id", column = "programId"),
+    @Result(property = "supplyingFacility.id", column = "supplyingFacilityId")
+  })
+  List<SupplyLine> getSupplyLinesBy(@Param("commaSeparatedSupervisoryNodeIds") String commaSeparatedSupervisoryNodeIds,
+                                    @Param("commaSeparatedProgramIds") String commaSeparatedProgramIds);
+
   @Update("UPDATE supply_lines " +
     "SET description = #{description}, supervisoryNodeId = #{supervisoryNode.id}, programId = #{program.id}, " +
     "supplyingFacilityId = #{supplyingFacility.id}, exportOrders =#{exportOrders},modifiedBy = #{modifiedBy}, modifiedDate = #{modifiedDate} " +
@@ -0,0 +1,50 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.core.service;
+
+import org.ict4h.atomfeed.server.service.Event;
+import org.openlmis.core.repository.EventOutboxRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Exposes the services for recording feed events in the outbox as part of the caller's transaction, and for
+ * publishing recorded events to the atom feed in batches, which is scheduled in the background.
+ */
+@Service
+public class EventOutboxService {
+
+  @Autowired
+  private EventOutboxRepository repository;
+
+  @Value("${event.outbox.publish.batch.size}")
+  int publishBatchSize;
+
+  public void record(Event event) {
+    repository.insertAll(asList(event));
+  }
+
+  public void recordAll(List<Event> events) {
+    repository.insertAll(events);
+  }
+
+  public void publishPending() {
+    int published;
+    do {
+      published = repository.publish(publishBatchSize);
+    } while (published == publishBatchSize);
+  }
+}
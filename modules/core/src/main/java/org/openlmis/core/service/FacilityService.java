@@ -15,7 +15,6 @@ import lombok.NoArgsConstructor;
 import org.apache.commons.collections.Predicate;
 import org.apache.log4j.Logger;
 import org.ict4h.atomfeed.server.service.Event;
-import org.ict4h.atomfeed.server.service.EventService;
 import org.joda.time.DateTime;
 import org.openlmis.core.domain.*;
 import org.openlmis.core.dto.FacilityFeedDTO;
@@ -31,6 +30,7 @@ import java.util.*;
 
 import static java.util.Arrays.asList;
 import static org.apache.commons.collections.CollectionUtils.select;
+import static org.openlmis.core.service.ReferenceDataCache.FACILITIES;
 
 /**
  * Exposes the services for handling Facility entity.
@@ -60,7 +60,10 @@ public class FacilityService {
   private SupervisoryNodeService supervisoryNodeService;
 
   @Autowired
-  private EventService eventService;
+  private EventOutboxService eventOutboxService;
+
+  @Autowired
+  private ReferenceDataCache referenceDataCache;
 
   private static final Logger logger = Logger.getLogger(FacilityService.class);
 
@@ -90,15 +93,32 @@ public class FacilityService {
     return facilityRepository.getHomeFacility(userId);
   }
 
-  public Facility getById(Long id) {
-    Facility facility = facilityRepository.getById(id);
-    facility.setSupportedPrograms(programSupportedService.getAllByFacilityId(id));
-    return facility;
+  /**
+   * Returns a copy of the cached facility with its supported programs, so that callers can change it freely.
+   */
+  public Facility getById(final Long id) {
+    Facility facility = referenceDataCache.get(FACILITIES, id, new ReferenceDataCache.Loader<Facility>() {
+      @Override
+      public Facility load() {
+        Facility facility = facilityRepository.getById(id);
+        facility.setSupportedPrograms(programSupportedService.getAllByFacilityId(id));
+        return facility;
+      }
+    });
+    return facility == null ? null : facility.copy();
+  }
+
+  /**
+   * Fetches the given facilities in a single query. Supported programs are not populated.
+   */
+  public List<Facility> getAllByIds(List<Long> ids) {
+    return facilityRepository.getAllByIds(ids);
   }
 
   @Transactional
   public void updateEnabledAndActiveFor(Facility facility) {
     facility = facilityRepository.updateEnabledAndActiveFor(facility);
+    referenceDataCache.invalidate(FACILITIES, facility.getId());
     notify(asList(facility));
   }
 
@@ -114,6 +134,7 @@ public class FacilityService {
     Facility storedFacility = facilityRepository.getById(newFacility.getId());
 
     facilityRepository.save(newFacility);
+    referenceDataCache.invalidate(FACILITIES, newFacility.getId());
 
     if (!newFacility.equals(storedFacility)) {
       notify(asList(newFacility));
@@ -125,6 +146,7 @@ public class FacilityService {
 
   public void updateAndNotifyForVirtualFacilities(Facility parentFacility) {
     facilityRepository.updateVirtualFacilities(parentFacility);
+    referenceDataCache.invalidateAll(FACILITIES);
     notify(getChildFacilities(parentFacility));
   }
 
@@ -137,16 +159,22 @@ public class FacilityService {
 
   private void notify(List<Facility> facilities) {
     //TODO newFacility doesn't have modifiedDate populated
+    Map<Long, Facility> parentFacilities = new HashMap<>();
+    List<Event> events = new ArrayList<>();
     for (Facility facility : facilities) {
       try {
-        Facility parentFacility = facilityRepository.getById(facility.getParentFacilityId());
-        FacilityFeedDTO facilityFeedDTO = new FacilityFeedDTO(facility, parentFacility);
+        Long parentFacilityId = facility.getParentFacilityId();
+        if (!parentFacilities.containsKey(parentFacilityId)) {
+          parentFacilities.put(parentFacilityId, facilityRepository.getById(parentFacilityId));
+        }
+        FacilityFeedDTO facilityFeedDTO = new FacilityFeedDTO(facility, parentFacilities.get(parentFacilityId));
         String content = facilityFeedDTO.getSerializedContents();
-        eventService.notify(new Event(UUID.randomUUID().toString(), FACILITY_TITLE, DateTime.now(), "", content, FACILITY_CATEGORY));
+        events.add(new Event(UUID.randomUUID().toString(), FACILITY_TITLE, DateTime.now(), "", content, FACILITY_CATEGORY));
       } catch (URISyntaxException e) {
         logger.error("Unable to generate facility event", e);
       }
     }
+    eventOutboxService.recordAll(events);
   }
 
   public List<Facility> getForUserAndRights(Long userId, Right... rights) {
@@ -169,6 +197,10 @@ public class FacilityService {
     return facilityRepository.getByCode(facility.getCode());
   }
 
+  public List<Facility> getIdAndModifiedDateByCodes(List<String> codes) {
+    return facilityRepository.getIdAndModifiedDateByCodes(codes);
+  }
+
   public List<Facility> getAllForDeliveryZoneAndProgram(Long deliveryZoneId, Long programId) {
     List<Facility> facilities = facilityRepository.getAllInDeliveryZoneFor(deliveryZoneId, programId);
     for (Facility facility : facilities) {
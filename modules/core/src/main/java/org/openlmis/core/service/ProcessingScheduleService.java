@@ -24,6 +24,8 @@ import java.text.ParseException;
 import java.util.Date;
 import java.util.List;
 
+import static org.openlmis.core.service.ReferenceDataCache.PERIODS;
+
 /**
  * Exposes the services for handling ProcessingSchedule entity.
  */
@@ -36,14 +38,17 @@ public class ProcessingScheduleService {
   private ProcessingPeriodRepository periodRepository;
   private RequisitionGroupRepository requisitionGroupRepository;
   private RequisitionGroupProgramScheduleRepository requisitionGroupProgramScheduleRepository;
+  private ReferenceDataCache referenceDataCache;
 
   @Autowired
   public ProcessingScheduleService(ProcessingScheduleRepository scheduleRepository, ProcessingPeriodRepository periodRepository,
-                                   RequisitionGroupRepository requisitionGroupRepository, RequisitionGroupProgramScheduleRepository requisitionGroupProgramScheduleRepository) {
+                                   RequisitionGroupRepository requisitionGroupRepository, RequisitionGroupProgramScheduleRepository requisitionGroupProgramScheduleRepository,
+                                   ReferenceDataCache referenceDataCache) {
     this.repository = scheduleRepository;
     this.periodRepository = periodRepository;
     this.requisitionGroupRepository = requisitionGroupRepository;
     this.requisitionGroupProgramScheduleRepository = requisitionGroupProgramScheduleRepository;
+    this.referenceDataCache = referenceDataCache;
   }
 
   public List<ProcessingSchedule> getAll() {
@@ -77,6 +82,7 @@ public class ProcessingScheduleService {
 
   public void deletePeriod(Long processingPeriodId) {
     periodRepository.delete(processingPeriodId);
+    referenceDataCache.invalidate(PERIODS, processingPeriodId);
   }
 
   public List<ProcessingPeriod> getAllPeriodsAfterDateAndPeriod(Long facilityId, Long programId, Date programStartDate, Long startingPeriodId) {
@@ -93,8 +99,17 @@ public class ProcessingScheduleService {
     return requisitionGroupProgramScheduleRepository.getScheduleForRequisitionGroupAndProgram(requisitionGroup.getId(), program.getId());
   }
 
-  public ProcessingPeriod getPeriodById(Long periodId) {
-    return periodRepository.getById(periodId);
+  public ProcessingPeriod getPeriodById(final Long periodId) {
+    return referenceDataCache.get(PERIODS, periodId, new ReferenceDataCache.Loader<ProcessingPeriod>() {
+      @Override
+      public ProcessingPeriod load() {
+        return periodRepository.getById(periodId);
+      }
+    });
+  }
+
+  public List<ProcessingPeriod> getPeriodsByIds(List<Long> periodIds) {
+    return periodRepository.getAllByIds(periodIds);
   }
 
   public List<ProcessingPeriod> getAllPeriodsForDateRange(Facility facility, Program program, Date startDate, Date endDate) {
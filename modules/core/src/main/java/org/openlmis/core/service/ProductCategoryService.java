@@ -16,6 +16,8 @@ import org.openlmis.core.repository.ProductCategoryRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * Exposes the services for handling ProductCategory entity.
  */
@@ -48,6 +50,14 @@ public class ProductCategoryService {
     productCategoryRepository.insert(productCategory);
   }
 
+  public void saveAll(List<ProductCategory> productCategories) {
+    productCategoryRepository.saveAll(productCategories);
+  }
+
+  public List<ProductCategory> getByCodes(List<String> codes) {
+    return productCategoryRepository.getByCodes(codes);
+  }
+
   public ProductCategory getExisting(ProductCategory productCategory) {
     return productCategoryRepository.getExisting(productCategory);
   }
@@ -108,6 +108,10 @@ public class ProductService {
     return repository.getByCode(code);
   }
 
+  public List<Product> getIdAndModifiedDateByCodes(List<String> codes) {
+    return repository.getIdAndModifiedDateByCodes(codes);
+  }
+
   public boolean isActive(String code) {
     return repository.isActive(code);
   }
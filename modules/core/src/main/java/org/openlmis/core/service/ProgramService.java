@@ -11,7 +11,6 @@
 package org.openlmis.core.service;
 
 import lombok.NoArgsConstructor;
-import org.ict4h.atomfeed.server.service.EventService;
 import org.openlmis.core.domain.Program;
 import org.openlmis.core.domain.Right;
 import org.openlmis.core.event.ProgramChangeEvent;
@@ -25,6 +24,8 @@ import java.net.URISyntaxException;
 import java.util.Date;
 import java.util.List;
 
+import static org.openlmis.core.service.ReferenceDataCache.PROGRAMS;
+
 /**
  * Exposes the services for handling Program entity.
  */
@@ -40,7 +41,10 @@ public class ProgramService {
   private ProgramSupportedRepository programSupportedRepository;
 
   @Autowired
-  private EventService eventService;
+  private EventOutboxService eventOutboxService;
+
+  @Autowired
+  private ReferenceDataCache referenceDataCache;
 
   public List<Program> getByFacility(Long facilityId) {
     return programRepository.getByFacility(facilityId);
@@ -70,12 +74,22 @@ public class ProgramService {
     return programSupportedRepository.getProgramStartDate(facilityId, programId);
   }
 
-  public Program getById(Long id) {
-    return programRepository.getById(id);
+  public Program getById(final Long id) {
+    return referenceDataCache.get(PROGRAMS, id, new ReferenceDataCache.Loader<Program>() {
+      @Override
+      public Program load() {
+        return programRepository.getById(id);
+      }
+    });
+  }
+
+  public List<Program> getAllByIds(List<Long> ids) {
+    return programRepository.getAllByIds(ids);
   }
 
   public void setTemplateConfigured(Long id) {
     programRepository.setTemplateConfigured(id);
+    referenceDataCache.invalidate(PROGRAMS, id);
   }
 
   public List<Program> getProgramsForUserByFacilityAndRights(Long facilityId, Long userId, Right... rights) {
@@ -92,18 +106,21 @@ public class ProgramService {
 
   public void setRegimenTemplateConfigured(Long programId) {
     programRepository.setRegimenTemplateConfigured(programId);
+    referenceDataCache.invalidate(PROGRAMS, programId);
   }
 
   public void setFeedSendFlag(Program program, Boolean sendFeed) {
     programRepository.setFeedSendFlag(program, sendFeed);
+    referenceDataCache.invalidate(PROGRAMS, program.getId());
   }
 
   public void notifyProgramChange() {
     List<Program> programsForNotifications = programRepository.getProgramsForNotification();
     for (Program program : programsForNotifications) {
       try {
-        eventService.notify(new ProgramChangeEvent(program));
+        eventOutboxService.record(new ProgramChangeEvent(program));
         programRepository.setFeedSendFlag(program, false);
+        referenceDataCache.invalidate(PROGRAMS, program.getId());
       } catch (URISyntaxException e) {
         throw new DataException("error.malformed.uri");
       }
@@ -11,7 +11,7 @@
 package org.openlmis.core.service;
 
 import org.apache.log4j.Logger;
-import org.ict4h.atomfeed.server.service.EventService;
+import org.ict4h.atomfeed.server.service.Event;
 import org.openlmis.core.domain.Facility;
 import org.openlmis.core.domain.Program;
 import org.openlmis.core.domain.ProgramSupported;
@@ -25,6 +25,8 @@ import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.openlmis.core.service.ReferenceDataCache.FACILITIES;
+
 /**
  * Exposes the services for handling program supported by facilities.
  */
@@ -42,11 +44,14 @@ public class ProgramSupportedService {
   FacilityService facilityService;
 
   @Autowired
-  EventService eventService;
+  EventOutboxService eventOutboxService;
 
   @Autowired
   FacilityProgramProductService facilityProgramProductService;
 
+  @Autowired
+  ReferenceDataCache referenceDataCache;
+
   Logger logger = Logger.getLogger(ProgramSupportedService.class);
 
 
@@ -59,6 +64,7 @@ public class ProgramSupportedService {
     boolean updated = repository.updateSupportedPrograms(facility);
     if (updated) {
       repository.updateForVirtualFacilities(facility);
+      referenceDataCache.invalidateAll(FACILITIES);
       notifyProgramSupportedUpdated(facilityForNotification);
     }
   }
@@ -102,6 +108,7 @@ public class ProgramSupportedService {
     } else {
       repository.updateSupportedProgram(programSupported);
     }
+    referenceDataCache.invalidate(FACILITIES, facility.getId());
   }
 
   public ProgramSupported getProgramSupported(ProgramSupported programSupported) {
@@ -134,13 +141,13 @@ public class ProgramSupportedService {
     try {
       List<ProgramSupported> programsSupported = facility.getSupportedPrograms();
 
-      ProgramSupportedEventDTO eventDTO = new ProgramSupportedEventDTO(facility.getCode(), programsSupported);
-      eventService.notify(eventDTO.createEvent());
+      List<Event> events = new ArrayList<>();
+      events.add(new ProgramSupportedEventDTO(facility.getCode(), programsSupported).createEvent());
 
       for (Facility virtualFacility : facilityService.getChildFacilities(facility)) {
-        eventDTO = new ProgramSupportedEventDTO(virtualFacility.getCode(), programsSupported);
-        eventService.notify(eventDTO.createEvent());
+        events.add(new ProgramSupportedEventDTO(virtualFacility.getCode(), programsSupported).createEvent());
       }
+      eventOutboxService.recordAll(events);
 
     } catch (URISyntaxException e) {
       logger.error("Failed to generate program supported event feed", e);
@@ -153,5 +160,6 @@ public class ProgramSupportedService {
 
   public void updateForVirtualFacilities(Facility parentFacility) {
     repository.updateForVirtualFacilities(parentFacility);
+    referenceDataCache.invalidateAll(FACILITIES);
   }
 }
@@ -0,0 +1,197 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.core.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps small, rarely changing reference data such as programs, processing periods, facilities and loss and
+ * adjustment types in memory. Each kind of data lives in its own region, bounded by size and time to live. Entries
+ * are evicted by the services that change them, immediately and again when the changing transaction completes; loads
+ * that started before an eviction are not cached. Cached objects are shared between callers and must not be modified.
+ */
+
+@Component
+public class ReferenceDataCache {
+
+  public static final String PROGRAMS = "programs";
+  public static final String PERIODS = "periods";
+  public static final String FACILITIES = "facilities";
+  public static final String ADJUSTMENT_TYPES = "adjustmentTypes";
+
+  private final long timeToLiveMillis;
+
+  private final int maxSize;
+
+  private final ConcurrentMap<String, Region> regions = new ConcurrentHashMap<>();
+
+  @Autowired
+  public ReferenceDataCache(@Value("${reference.data.cache.ttl.seconds}") long timeToLiveSeconds,
+                            @Value("${reference.data.cache.max.size}") int maxSize) {
+    this.timeToLiveMillis = timeToLiveSeconds * 1000;
+    this.maxSize = maxSize;
+  }
+
+  public <V> V get(String regionName, Object key, Loader<V> loader) {
+    if (timeToLiveMillis <= 0) return loader.load();
+
+    return region(regionName).get(key, loader);
+  }
+
+  public void invalidate(String regionName, final Object key) {
+    final Region region = region(regionName);
+    evictNowAndOnCompletion(new Runnable() {
+      @Override
+      public void run() {
+        region.remove(key);
+      }
+    });
+  }
+
+  public void invalidateAll(String regionName) {
+    final Region region = region(regionName);
+    evictNowAndOnCompletion(new Runnable() {
+      @Override
+      public void run() {
+        region.clear();
+      }
+    });
+  }
+
+  public Map<String, Statistics> getStatistics() {
+    Map<String, Statistics> statistics = new TreeMap<>();
+    for (Map.Entry<String, Region> region : regions.entrySet()) {
+      statistics.put(region.getKey(), region.getValue().statistics());
+    }
+    return statistics;
+  }
+
+  private Region region(String regionName) {
+    Region region = regions.get(regionName);
+    if (region == null) {
+      regions.putIfAbsent(regionName, new Region(maxSize));
+      region = regions.get(regionName);
+    }
+    return region;
+  }
+
+  private void evictNowAndOnCompletion(final Runnable eviction) {
+    eviction.run();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+        @Override
+        public void afterCompletion(int status) {
+          eviction.run();
+        }
+      });
+    }
+  }
+
+  public interface Loader<V> {
+    V load();
+  }
+
+  @Data
+  @AllArgsConstructor
+  public static class Statistics {
+    private long hits;
+    private long misses;
+    private long evictions;
+    private int size;
+  }
+
+  private class Region {
+
+    private final Map<Object, Entry> entries;
+
+    private long version;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    private Region(final int maxSize) {
+      entries = new LinkedHashMap<Object, Entry>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+          if (size() <= maxSize) return false;
+          evictions++;
+          return true;
+        }
+      };
+    }
+
+    private <V> V get(Object key, Loader<V> loader) {
+      long loadedVersion;
+      synchronized (this) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+          hits++;
+          return (V) entry.value;
+        }
+        if (entry != null) {
+          entries.remove(key);
+          evictions++;
+        }
+        misses++;
+        loadedVersion = version;
+      }
+
+      V value = loader.load();
+      if (value == null) return null;
+
+      synchronized (this) {
+        if (loadedVersion == version) {
+          entries.put(key, new Entry(value, System.currentTimeMillis() + timeToLiveMillis));
+        }
+      }
+      return value;
+    }
+
+    private synchronized void remove(Object key) {
+      version++;
+      if (entries.remove(key) != null) evictions++;
+    }
+
+    private synchronized void clear() {
+      version++;
+      evictions += entries.size();
+      entries.clear();
+    }
+
+    private synchronized Statistics statistics() {
+      return new Statistics(hits, misses, evictions, entries.size());
+    }
+  }
+
+  private static class Entry {
+
+    private final Object value;
+
+    private final long expiresAt;
+
+    private Entry(Object value, long expiresAt) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
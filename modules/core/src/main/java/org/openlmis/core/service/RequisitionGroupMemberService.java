@@ -36,21 +36,24 @@ public class RequisitionGroupMemberService {
   private RequisitionGroupRepository requisitionGroupRepository;
   private RequisitionGroupProgramScheduleRepository requisitionGroupProgramScheduleRepository;
   private ProgramRepository programRepository;
+  private UserRightsCache userRightsCache;
 
   @Autowired
   public RequisitionGroupMemberService(RequisitionGroupMemberRepository requisitionGroupMemberRepository,
                                        FacilityRepository facilityRepository, RequisitionGroupRepository requisitionGroupRepository,
                                        RequisitionGroupProgramScheduleRepository requisitionGroupProgramScheduleRepository,
-                                       ProgramRepository programRepository) {
+                                       ProgramRepository programRepository, UserRightsCache userRightsCache) {
     this.requisitionGroupMemberRepository = requisitionGroupMemberRepository;
     this.facilityRepository = facilityRepository;
     this.requisitionGroupRepository = requisitionGroupRepository;
     this.requisitionGroupProgramScheduleRepository = requisitionGroupProgramScheduleRepository;
     this.programRepository = programRepository;
+    this.userRightsCache = userRightsCache;
   }
 
   public void save(RequisitionGroupMember requisitionGroupMember) {
     insertIfDoesNotExist(requisitionGroupMember);
+    userRightsCache.invalidateAll();
   }
 
   private void insertIfDoesNotExist(RequisitionGroupMember requisitionGroupMember) {
@@ -66,6 +69,7 @@ public class RequisitionGroupMemberService {
 
   public void updateMembersForVirtualFacilities(Facility parentFacility) {
     requisitionGroupMemberRepository.updateMembersForVirtualFacilities(parentFacility);
+    userRightsCache.invalidateAll();
   }
 
   private void validateIfFacilityIsAlreadyAssignedToRequisitionGroupForProgram(RequisitionGroupMember requisitionGroupMember) {
@@ -118,5 +122,6 @@ public class RequisitionGroupMemberService {
 
   public void deleteMembersFor(Facility facility) {
     requisitionGroupMemberRepository.deleteMembersFor(facility);
+    userRightsCache.invalidateAll();
   }
 }
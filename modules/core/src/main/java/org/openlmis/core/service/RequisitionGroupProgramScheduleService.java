@@ -24,18 +24,22 @@ import org.springframework.stereotype.Service;
 @NoArgsConstructor
 public class RequisitionGroupProgramScheduleService {
   private RequisitionGroupProgramScheduleRepository requisitionGroupProgramScheduleRepository;
+  private UserRightsCache userRightsCache;
 
   @Autowired
-  public RequisitionGroupProgramScheduleService(RequisitionGroupProgramScheduleRepository requisitionGroupProgramScheduleRepository) {
+  public RequisitionGroupProgramScheduleService(RequisitionGroupProgramScheduleRepository requisitionGroupProgramScheduleRepository,
+                                                UserRightsCache userRightsCache) {
     this.requisitionGroupProgramScheduleRepository = requisitionGroupProgramScheduleRepository;
+    this.userRightsCache = userRightsCache;
   }
 
   public void save(RequisitionGroupProgramSchedule requisitionGroupProgramSchedule) {
     if (requisitionGroupProgramSchedule.getId() != null) {
       requisitionGroupProgramScheduleRepository.update(requisitionGroupProgramSchedule);
-      return;
+    } else {
+      requisitionGroupProgramScheduleRepository.insert(requisitionGroupProgramSchedule);
     }
-    requisitionGroupProgramScheduleRepository.insert(requisitionGroupProgramSchedule);
+    userRightsCache.invalidateAll();
   }
 
   public RequisitionGroupProgramSchedule getScheduleForRequisitionGroupCodeAndProgramCode(RequisitionGroupProgramSchedule requisitionGroupProgramSchedule) {
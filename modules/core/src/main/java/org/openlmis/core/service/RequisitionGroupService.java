@@ -30,11 +30,14 @@ public class RequisitionGroupService {
 
   private RequisitionGroupRepository requisitionGroupRepository;
   private SupervisoryNodeRepository supervisoryNodeRepository;
+  private UserRightsCache userRightsCache;
 
   @Autowired
-  public RequisitionGroupService(RequisitionGroupRepository requisitionGroupRepository, SupervisoryNodeRepository supervisoryNodeRepository) {
+  public RequisitionGroupService(RequisitionGroupRepository requisitionGroupRepository,
+                                 SupervisoryNodeRepository supervisoryNodeRepository, UserRightsCache userRightsCache) {
     this.requisitionGroupRepository = requisitionGroupRepository;
     this.supervisoryNodeRepository = supervisoryNodeRepository;
+    this.userRightsCache = userRightsCache;
   }
 
   public void save(RequisitionGroup requisitionGroup) {
@@ -45,6 +48,7 @@ public class RequisitionGroupService {
       requisitionGroupRepository.insert(requisitionGroup);
     else
       requisitionGroupRepository.update(requisitionGroup);
+    userRightsCache.invalidateAll();
   }
 
   public List<RequisitionGroup> getRequisitionGroupsBy(List<SupervisoryNode> supervisoryNodes) {
@@ -37,6 +37,9 @@ public class RoleAssignmentService {
   @Autowired
   FulfillmentRoleService fulfillmentRoleService;
 
+  @Autowired
+  UserRightsCache userRightsCache;
+
   public List<RoleAssignment> getHomeFacilityRoles(Long userId) {
     return roleAssignmentRepository.getHomeFacilityRoles(userId);
   }
@@ -68,6 +71,7 @@ public class RoleAssignmentService {
     roleAssignmentRepository.insert(user.getAllocationRoles(), user.getId());
     roleAssignmentRepository.insert(asList(user.getAdminRole()), user.getId());
     fulfillmentRoleService.saveFulfillmentRoles(user);
+    userRightsCache.invalidate(user.getId());
   }
 
   public List<FulfillmentRoleAssignment> getFulfilmentRoles(Long userId) {
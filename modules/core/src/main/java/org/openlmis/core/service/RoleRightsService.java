@@ -32,12 +32,15 @@ public class RoleRightsService {
   private RoleRightsRepository roleRightsRepository;
   private SupervisoryNodeService supervisoryNodeService;
   private FacilityService facilityService;
+  private UserRightsCache userRightsCache;
 
   @Autowired
-  public RoleRightsService(RoleRightsRepository roleRightsRepository, SupervisoryNodeService supervisoryNodeService, FacilityService facilityService) {
+  public RoleRightsService(RoleRightsRepository roleRightsRepository, SupervisoryNodeService supervisoryNodeService,
+                           FacilityService facilityService, UserRightsCache userRightsCache) {
     this.roleRightsRepository = roleRightsRepository;
     this.supervisoryNodeService = supervisoryNodeService;
     this.facilityService = facilityService;
+    this.userRightsCache = userRightsCache;
   }
 
   public Set<Right> getAllRights() {
@@ -75,17 +78,28 @@ public class RoleRightsService {
 
   public void updateRole(Role role) {
     roleRightsRepository.updateRole(role);
+    userRightsCache.invalidateAll();
   }
 
   public Set<Right> getRights(Long userId) {
-    return roleRightsRepository.getAllRightsForUser(userId);
+    UserRightsCache.UserRights userRights = userRightsCache.get(userId);
+    if (userRights.getRights() == null) {
+      userRights.setRights(roleRightsRepository.getAllRightsForUser(userId));
+    }
+    return userRights.getRights();
   }
 
   public Set<Right> getRightsForUserAndFacilityProgram(Long userId, Facility facility, Program program) {
-    Set<Right> result = new HashSet<>();
-    result.addAll(getHomeFacilityRights(userId, facility, program));
-    result.addAll(getSupervisoryRights(userId, facility, program));
-    return result;
+    UserRightsCache.UserRights userRights = userRightsCache.get(userId);
+    Set<Right> rights = userRights.getRights(facility.getId(), program.getId());
+    if (rights == null) {
+      Set<Right> result = new HashSet<>();
+      result.addAll(getHomeFacilityRights(userId, facility, program));
+      result.addAll(getSupervisoryRights(userId, facility, program));
+      userRights.setRights(facility.getId(), program.getId(), result);
+      rights = userRights.getRights(facility.getId(), program.getId());
+    }
+    return rights;
   }
 
   public Set<Right> getRightsForUserAndWarehouse(Long userId, Long warehouseId) {
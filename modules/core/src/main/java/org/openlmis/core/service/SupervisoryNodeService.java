@@ -34,12 +34,15 @@ public class SupervisoryNodeService {
   private SupervisoryNodeRepository supervisoryNodeRepository;
   private UserRepository userRepository;
   private FacilityRepository facilityRepository;
+  private UserRightsCache userRightsCache;
 
   @Autowired
-  public SupervisoryNodeService(SupervisoryNodeRepository supervisoryNodeRepository, UserRepository userRepository, FacilityRepository facilityRepository) {
+  public SupervisoryNodeService(SupervisoryNodeRepository supervisoryNodeRepository, UserRepository userRepository,
+                                FacilityRepository facilityRepository, UserRightsCache userRightsCache) {
     this.supervisoryNodeRepository = supervisoryNodeRepository;
     this.userRepository = userRepository;
     this.facilityRepository = facilityRepository;
+    this.userRightsCache = userRightsCache;
   }
 
   public void save(SupervisoryNode supervisoryNode) {
@@ -49,6 +52,7 @@ public class SupervisoryNodeService {
       supervisoryNodeRepository.insert(supervisoryNode);
     else
       supervisoryNodeRepository.update(supervisoryNode);
+    userRightsCache.invalidateAll();
   }
 
   private void validateParentNode(SupervisoryNode supervisoryNode) {
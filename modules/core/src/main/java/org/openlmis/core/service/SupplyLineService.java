@@ -22,6 +22,10 @@ import org.openlmis.core.repository.SupplyLineRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Exposes the services for handling SupplyLine entity.
  */
@@ -47,6 +51,16 @@ public class SupplyLineService {
     return supplyLineRepository.getSupplyLineBy(supervisoryNode, program);
   }
 
+  /**
+   * Fetches, in one query, the supply lines of any of the given supervisory nodes for any of the given programs. Only
+   * ids of the supervisory node, program and supplying facility are populated.
+   */
+  public List<SupplyLine> getSupplyLinesBy(Collection<Long> supervisoryNodeIds, Collection<Long> programIds) {
+    if (supervisoryNodeIds.isEmpty() || programIds.isEmpty()) return new ArrayList<>();
+
+    return supplyLineRepository.getSupplyLinesBy(supervisoryNodeIds, programIds);
+  }
+
   public void save(SupplyLine supplyLine) {
     validateIfSupervisoryNodeIsTopmostNode(supplyLine);
 
@@ -0,0 +1,148 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.core.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.Charset;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.apache.commons.codec.binary.Base64.encodeBase64String;
+
+/**
+ * Remembers, for a short time, which user a verified user name and password belong to, so that clients calling the
+ * REST API with every request do not hash the password and query the users table each time. Entries are keyed by the
+ * lower cased user name and a keyed digest of the password; the key is generated on start up and the plain password
+ * is never stored. Entries of a user are evicted when the user's password or details change, and again when the
+ * changing transaction completes.
+ */
+
+@Component
+public class UserCredentialCache {
+
+  private static final String DIGEST_ALGORITHM = "HmacSHA256";
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  private final long timeToLiveMillis;
+
+  private final byte[] digestKey = new byte[32];
+
+  private final Map<String, VerifiedCredential> credentials;
+
+  @Autowired
+  public UserCredentialCache(@Value("${rest.api.credential.cache.ttl.seconds}") long timeToLiveSeconds,
+                             @Value("${rest.api.credential.cache.max.size}") final int maxSize) {
+    this.timeToLiveMillis = timeToLiveSeconds * 1000;
+    new SecureRandom().nextBytes(digestKey);
+    credentials = new LinkedHashMap<String, VerifiedCredential>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, VerifiedCredential> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  public Long get(String userName, String password) {
+    if (timeToLiveMillis <= 0) return null;
+
+    String key = key(userName, password);
+    synchronized (credentials) {
+      VerifiedCredential credential = credentials.get(key);
+      if (credential == null) return null;
+      if (credential.expiresAt <= System.currentTimeMillis()) {
+        credentials.remove(key);
+        return null;
+      }
+      return credential.userId;
+    }
+  }
+
+  public void put(String userName, String password, Long userId) {
+    if (timeToLiveMillis <= 0) return;
+
+    VerifiedCredential credential = new VerifiedCredential(userId, System.currentTimeMillis() + timeToLiveMillis);
+    String key = key(userName, password);
+    synchronized (credentials) {
+      credentials.put(key, credential);
+    }
+  }
+
+  public void invalidate(final Long userId) {
+    evictNowAndOnCompletion(new Runnable() {
+      @Override
+      public void run() {
+        synchronized (credentials) {
+          Iterator<VerifiedCredential> iterator = credentials.values().iterator();
+          while (iterator.hasNext()) {
+            if (iterator.next().userId.equals(userId)) {
+              iterator.remove();
+            }
+          }
+        }
+      }
+    });
+  }
+
+  public void invalidateAll() {
+    evictNowAndOnCompletion(new Runnable() {
+      @Override
+      public void run() {
+        synchronized (credentials) {
+          credentials.clear();
+        }
+      }
+    });
+  }
+
+  private void evictNowAndOnCompletion(final Runnable eviction) {
+    eviction.run();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+        @Override
+        public void afterCompletion(int status) {
+          eviction.run();
+        }
+      });
+    }
+  }
+
+  private String key(String userName, String password) {
+    try {
+      Mac mac = Mac.getInstance(DIGEST_ALGORITHM);
+      mac.init(new SecretKeySpec(digestKey, DIGEST_ALGORITHM));
+      return userName.toLowerCase() + ":" + encodeBase64String(mac.doFinal(password.getBytes(UTF_8)));
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static class VerifiedCredential {
+
+    private final Long userId;
+
+    private final long expiresAt;
+
+    private VerifiedCredential(Long userId, long expiresAt) {
+      this.userId = userId;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.core.service;
+
+import org.openlmis.core.domain.Right;
+import org.openlmis.core.domain.RoleAssignment;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+import static java.util.Collections.synchronizedMap;
+import static java.util.Collections.unmodifiableSet;
+
+/**
+ * Holds the rights of each user in memory: the user's global rights, rights per facility and program, and the
+ * supervisory node and program combinations the user can approve for. Entries are filled lazily by the services
+ * that own the queries. They are evicted when role assignments, roles, the supervision hierarchy or requisition group
+ * membership and schedules change, and again when the changing transaction completes so that rights read before the
+ * commit do not linger. The number of users and of facility and program combinations per user are bounded, least
+ * recently used first, and a user's rights are read again once their time to live has passed.
+ */
+
+@Component
+public class UserRightsCache {
+
+  private final long timeToLiveMillis;
+
+  private final int maxFacilityProgramsPerUser;
+
+  private final Map<Long, UserRights> usersRights;
+
+  @Autowired
+  public UserRightsCache(@Value("${user.rights.cache.ttl.seconds}") long timeToLiveSeconds,
+                         @Value("${user.rights.cache.max.users}") final int maxUsers,
+                         @Value("${user.rights.cache.max.facility.programs.per.user}") int maxFacilityProgramsPerUser) {
+    this.timeToLiveMillis = timeToLiveSeconds * 1000;
+    this.maxFacilityProgramsPerUser = maxFacilityProgramsPerUser;
+    usersRights = new LinkedHashMap<Long, UserRights>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, UserRights> eldest) {
+        return size() > maxUsers;
+      }
+    };
+  }
+
+  public UserRights get(Long userId) {
+    long now = System.currentTimeMillis();
+    if (timeToLiveMillis <= 0) return new UserRights(maxFacilityProgramsPerUser, now);
+
+    synchronized (usersRights) {
+      UserRights userRights = usersRights.get(userId);
+      if (userRights == null || userRights.expiresAt <= now) {
+        userRights = new UserRights(maxFacilityProgramsPerUser, now + timeToLiveMillis);
+        usersRights.put(userId, userRights);
+      }
+      return userRights;
+    }
+  }
+
+  public void invalidate(final Long userId) {
+    evictNowAndOnCompletion(new Runnable() {
+      @Override
+      public void run() {
+        synchronized (usersRights) {
+          usersRights.remove(userId);
+        }
+      }
+    });
+  }
+
+  public void invalidateAll() {
+    evictNowAndOnCompletion(new Runnable() {
+      @Override
+      public void run() {
+        synchronized (usersRights) {
+          usersRights.clear();
+        }
+      }
+    });
+  }
+
+  private void evictNowAndOnCompletion(final Runnable eviction) {
+    eviction.run();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+        @Override
+        public void afterCompletion(int status) {
+          eviction.run();
+        }
+      });
+    }
+  }
+
+  public static class UserRights {
+
+    private final long expiresAt;
+
+    private volatile Set<Right> rights;
+
+    private final Map<String, Set<Right>> facilityProgramRights;
+
+    private volatile Set<String> approveAssignments;
+
+    private UserRights(final int maxFacilityPrograms, long expiresAt) {
+      this.expiresAt = expiresAt;
+      this.facilityProgramRights = synchronizedMap(new LinkedHashMap<String, Set<Right>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Set<Right>> eldest) {
+          return size() > maxFacilityPrograms;
+        }
+      });
+    }
+
+    public Set<Right> getRights() {
+      return rights;
+    }
+
+    public void setRights(Set<Right> rights) {
+      this.rights = unmodifiableSet(rights);
+    }
+
+    public Set<Right> getRights(Long facilityId, Long programId) {
+      return facilityProgramRights.get(key(facilityId, programId));
+    }
+
+    public void setRights(Long facilityId, Long programId, Set<Right> rights) {
+      facilityProgramRights.put(key(facilityId, programId), unmodifiableSet(rights));
+    }
+
+    public boolean isApproveAssignmentsLoaded() {
+      return approveAssignments != null;
+    }
+
+    public void setApproveAssignments(List<RoleAssignment> roleAssignments) {
+      Set<String> assignments = new HashSet<>();
+      for (RoleAssignment roleAssignment : roleAssignments) {
+        assignments.add(key(roleAssignment.getSupervisoryNode().getId(), roleAssignment.getProgramId()));
+      }
+      this.approveAssignments = assignments;
+    }
+
+    public boolean canApprove(Long supervisoryNodeId, Long programId) {
+      return approveAssignments.contains(key(supervisoryNodeId, programId));
+    }
+
+    private String key(Long id, Long programId) {
+      return id + ":" + programId;
+    }
+  }
+}
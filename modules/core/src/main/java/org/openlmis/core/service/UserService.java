@@ -48,6 +48,9 @@ public class UserService {
   @Autowired
   private MessageService messageService;
 
+  @Autowired
+  private UserCredentialCache userCredentialCache;
+
   @Transactional
   public void create(User user, String resetPasswordLink) {
     save(user);
@@ -63,6 +66,7 @@ public class UserService {
   public void update(User user) {
     user.validate();
     userRepository.update(user);
+    userCredentialCache.invalidate(user.getId());
     roleAssignmentService.saveRolesForUser(user);
   }
 
@@ -103,6 +107,7 @@ public class UserService {
   public void updateUserPassword(String token, String password) {
     Long userId = getUserIdByPasswordResetToken(token);
     userRepository.updateUserPasswordAndActivate(userId, Encoder.hash(password));
+    userCredentialCache.invalidate(userId);
     userRepository.deletePasswordResetTokenForUser(userId);
   }
 
@@ -122,11 +127,13 @@ public class UserService {
 
   public void updateUserPassword(Long userId, String password) {
     userRepository.updateUserPassword(userId, Encoder.hash(password));
+    userCredentialCache.invalidate(userId);
   }
 
   @Transactional
   public void disable(Long userId, Long modifiedBy) {
     userRepository.disable(userId, modifiedBy);
+    userCredentialCache.invalidate(userId);
     userRepository.deletePasswordResetTokenForUser(userId);
   }
 
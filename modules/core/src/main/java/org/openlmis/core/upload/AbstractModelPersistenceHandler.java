@@ -16,24 +16,31 @@ import lombok.Setter;
 import org.openlmis.core.domain.BaseModel;
 import org.openlmis.core.exception.DataException;
 import org.openlmis.core.message.OpenLmisMessage;
+import org.openlmis.core.repository.helper.Savepoint;
 import org.openlmis.core.service.MessageService;
+import org.openlmis.upload.BatchRecordHandler;
 import org.openlmis.upload.Importable;
-import org.openlmis.upload.RecordHandler;
 import org.openlmis.upload.model.AuditFields;
+import org.openlmis.upload.model.UploadErrors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
+import java.util.*;
+
 /**
  * AbstractModelPersistenceHandler is a base class used for persisting each record of the uploaded file.
  */
 @Component
 @NoArgsConstructor
-public abstract class AbstractModelPersistenceHandler implements RecordHandler<Importable> {
+public abstract class AbstractModelPersistenceHandler implements BatchRecordHandler<Importable> {
 
   @Autowired
   MessageService messageService;
 
+  @Autowired
+  Savepoint savepoint;
+
   abstract BaseModel getExisting(BaseModel record);
 
   abstract void save(BaseModel record);
@@ -42,6 +49,35 @@ public abstract class AbstractModelPersistenceHandler implements RecordHandler<I
   @Setter
   String messageKey;
 
+  /**
+   * Identifies a record within an upload. Handlers returning a key have each chunk looked up through
+   * getExisting(List) and written through save(List), which they can override with single multi-row queries.
+   */
+  String getKey(BaseModel record) {
+    return null;
+  }
+
+  Map<String, BaseModel> getExisting(List<BaseModel> records) {
+    Map<String, BaseModel> existingRecords = new HashMap<>();
+    for (BaseModel record : records) {
+      BaseModel existing = getExisting(record);
+      if (existing != null) {
+        existingRecords.put(getKey(record), existing);
+      }
+    }
+    return existingRecords;
+  }
+
+  /**
+   * Saves a chunk of keyed records that have been looked up and filled in. Handlers can override this with multi-row
+   * statements.
+   */
+  void save(List<BaseModel> records) {
+    for (BaseModel record : records) {
+      save(record);
+    }
+  }
+
   @Override
   public void execute(Importable importable, int rowNumber, AuditFields auditFields) {
     BaseModel currentRecord = (BaseModel) importable;
@@ -49,13 +85,7 @@ public abstract class AbstractModelPersistenceHandler implements RecordHandler<I
 
     try {
       throwExceptionIfProcessedInCurrentUpload(auditFields, existing);
-      currentRecord.setModifiedBy(auditFields.getUser());
-      currentRecord.setModifiedDate(auditFields.getCurrentTimestamp());
-      if (existing != null) {
-        currentRecord.setId(existing.getId());
-      } else {
-        currentRecord.setCreatedBy(auditFields.getUser());
-      }
+      fillAuditFields(currentRecord, existing, auditFields);
 
       save(currentRecord);
 
@@ -66,6 +96,159 @@ public abstract class AbstractModelPersistenceHandler implements RecordHandler<I
     }
   }
 
+  /**
+   * Processes a chunk under a savepoint. When a write in the chunk fails, the chunk is rolled back and processed again
+   * a row at a time, each row under its own savepoint, so that every failing row is reported and the upload goes on.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public void execute(List<Importable> importables, List<Integer> rowNumbers, AuditFields auditFields,
+                      UploadErrors errors) {
+    List<BaseModel> records = (List) importables;
+    if (getKey(records.get(0)) == null) {
+      executeEach(records, rowNumbers, auditFields, errors);
+      return;
+    }
+
+    Map<String, BaseModel> existingRecords = getExisting(records);
+    Set<String> keysInChunk = new HashSet<>();
+    List<BaseModel> recordsToSave = new ArrayList<>();
+    List<Integer> rowNumbersToSave = new ArrayList<>();
+
+    for (int i = 0; i < records.size(); i++) {
+      BaseModel record = records.get(i);
+      String key = getKey(record);
+      BaseModel existing = existingRecords.get(key);
+
+      if (!keysInChunk.add(key) || isProcessedInCurrentUpload(auditFields, existing)) {
+        errors.add(errorMessage(getMessageKey(), rowNumbers.get(i)));
+        continue;
+      }
+
+      fillAuditFields(record, existing, auditFields);
+      recordsToSave.add(record);
+      rowNumbersToSave.add(rowNumbers.get(i));
+    }
+
+    if (recordsToSave.isEmpty()) return;
+
+    saveChunk(recordsToSave, rowNumbersToSave, errors);
+  }
+
+  private void saveChunk(final List<BaseModel> records, List<Integer> rowNumbers, UploadErrors errors) {
+    List<Long> ids = new ArrayList<>();
+    for (BaseModel record : records) {
+      ids.add(record.getId());
+    }
+
+    try {
+      savepoint.run(new Runnable() {
+        @Override
+        public void run() {
+          save(records);
+        }
+      });
+    } catch (DataIntegrityViolationException dataIntegrityViolationException) {
+      restoreIds(records, ids);
+      saveEach(records, rowNumbers, errors);
+    } catch (DataException exception) {
+      restoreIds(records, ids);
+      saveEach(records, rowNumbers, errors);
+    }
+  }
+
+  private void restoreIds(List<BaseModel> records, List<Long> ids) {
+    for (int i = 0; i < records.size(); i++) {
+      records.get(i).setId(ids.get(i));
+    }
+  }
+
+  private void saveEach(List<BaseModel> records, List<Integer> rowNumbers, UploadErrors errors) {
+    for (int i = 0; i < records.size(); i++) {
+      saveRow(records.get(i), rowNumbers.get(i), errors);
+    }
+  }
+
+  private void executeEach(final List<BaseModel> records, final List<Integer> rowNumbers, final AuditFields auditFields,
+                           UploadErrors errors) {
+    final List<String> chunkErrors = new ArrayList<>();
+    try {
+      savepoint.run(new Runnable() {
+        @Override
+        public void run() {
+          for (int i = 0; i < records.size(); i++) {
+            BaseModel record = records.get(i);
+            BaseModel existing = getExisting(record);
+
+            if (isProcessedInCurrentUpload(auditFields, existing)) {
+              chunkErrors.add(errorMessage(getMessageKey(), rowNumbers.get(i)));
+              continue;
+            }
+
+            fillAuditFields(record, existing, auditFields);
+            save(record);
+          }
+        }
+      });
+    } catch (DataIntegrityViolationException dataIntegrityViolationException) {
+      executeEachRow(records, rowNumbers, auditFields, errors);
+      return;
+    } catch (DataException exception) {
+      executeEachRow(records, rowNumbers, auditFields, errors);
+      return;
+    }
+
+    for (String message : chunkErrors) {
+      errors.add(message);
+    }
+  }
+
+  private void executeEachRow(List<BaseModel> records, List<Integer> rowNumbers, AuditFields auditFields,
+                              UploadErrors errors) {
+    for (int i = 0; i < records.size(); i++) {
+      BaseModel record = records.get(i);
+      BaseModel existing = getExisting(record);
+
+      if (isProcessedInCurrentUpload(auditFields, existing)) {
+        errors.add(errorMessage(getMessageKey(), rowNumbers.get(i)));
+        continue;
+      }
+
+      fillAuditFields(record, existing, auditFields);
+      saveRow(record, rowNumbers.get(i), errors);
+    }
+  }
+
+  private void saveRow(final BaseModel record, int rowNumber, UploadErrors errors) {
+    try {
+      savepoint.run(new Runnable() {
+        @Override
+        public void run() {
+          save(record);
+        }
+      });
+    } catch (DataIntegrityViolationException dataIntegrityViolationException) {
+      errors.add(errorMessage("error.incorrect.length", rowNumber));
+    } catch (DataException exception) {
+      errors.add(errorMessage(exception.getOpenLmisMessage().getCode(), rowNumber));
+    }
+  }
+
+  private void fillAuditFields(BaseModel record, BaseModel existing, AuditFields auditFields) {
+    record.setModifiedBy(auditFields.getUser());
+    record.setModifiedDate(auditFields.getCurrentTimestamp());
+    if (existing != null) {
+      record.setId(existing.getId());
+    } else {
+      record.setId(null);
+      record.setCreatedBy(auditFields.getUser());
+    }
+  }
+
+  private String errorMessage(String key, int rowNumber) {
+    return messageService.message("upload.record.error", messageService.message(key), Integer.toString(rowNumber - 1));
+  }
+
   private void throwException(String key1, String key2, int rowNumber) {
     String param1 = messageService.message(key2);
     String param2 = Integer.toString(rowNumber - 1);
@@ -73,13 +256,15 @@ public abstract class AbstractModelPersistenceHandler implements RecordHandler<I
   }
 
   private void throwExceptionIfProcessedInCurrentUpload(AuditFields auditFields, BaseModel existing) {
-    if (existing != null) {
-      if (existing.getModifiedDate().equals(auditFields.getCurrentTimestamp())) {
-        throw new DataException(getMessageKey());
-      }
+    if (isProcessedInCurrentUpload(auditFields, existing)) {
+      throw new DataException(getMessageKey());
     }
   }
 
+  private boolean isProcessedInCurrentUpload(AuditFields auditFields, BaseModel existing) {
+    return existing != null && existing.getModifiedDate().equals(auditFields.getCurrentTimestamp());
+  }
+
   @Override
   public void postProcess(AuditFields auditFields) {
   }
@@ -18,7 +18,10 @@ import org.openlmis.upload.model.AuditFields;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * FacilityPersistenceHandler is used for uploads of Facility. It uploads each Facility record by record.
@@ -39,6 +42,25 @@ public class FacilityPersistenceHandler extends AbstractModelPersistenceHandler
     return facilityService.getByCode((Facility) record);
   }
 
+  @Override
+  protected String getKey(BaseModel record) {
+    return ((Facility) record).getCode().toLowerCase();
+  }
+
+  @Override
+  protected Map<String, BaseModel> getExisting(List<BaseModel> records) {
+    List<String> codes = new ArrayList<>();
+    for (BaseModel record : records) {
+      codes.add(((Facility) record).getCode());
+    }
+
+    Map<String, BaseModel> existingFacilities = new HashMap<>();
+    for (Facility facility : facilityService.getIdAndModifiedDateByCodes(codes)) {
+      existingFacilities.put(facility.getCode().toLowerCase(), facility);
+    }
+    return existingFacilities;
+  }
+
   @Override
   protected void save(BaseModel record) {
     facilityService.save((Facility) record);
@@ -16,9 +16,14 @@ import org.openlmis.core.service.ProductCategoryService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
- * ProductCategoryPersistenceHandler is used for uploads of ProductCategory. It uploads each ProductCategory
- * record by record.
+ * ProductCategoryPersistenceHandler is used for uploads of ProductCategory. It looks up and saves the
+ * ProductCategory records a chunk at a time.
  */
 @Component
 public class ProductCategoryPersistenceHandler extends AbstractModelPersistenceHandler {
@@ -40,6 +45,31 @@ public class ProductCategoryPersistenceHandler extends AbstractModelPersistenceH
     productCategoryService.save((ProductCategory) modelClass);
   }
 
+  @Override
+  protected String getKey(BaseModel record) {
+    return ((ProductCategory) record).getCode().toLowerCase();
+  }
+
+  @Override
+  protected Map<String, BaseModel> getExisting(List<BaseModel> records) {
+    List<String> codes = new ArrayList<>();
+    for (BaseModel record : records) {
+      codes.add(((ProductCategory) record).getCode());
+    }
+
+    Map<String, BaseModel> existingCategories = new HashMap<>();
+    for (ProductCategory productCategory : productCategoryService.getByCodes(codes)) {
+      existingCategories.put(productCategory.getCode().toLowerCase(), productCategory);
+    }
+    return existingCategories;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  protected void save(List<BaseModel> records) {
+    productCategoryService.saveAll((List) records);
+  }
+
   @Override
   public String getMessageKey() {
     return "error.duplicate.product.category";
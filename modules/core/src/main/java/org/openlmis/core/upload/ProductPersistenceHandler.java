@@ -18,6 +18,11 @@ import org.openlmis.upload.model.AuditFields;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * ProductPersistenceHandler is used for uploads of Product. It uploads each Product record by record.
  */
@@ -35,6 +40,25 @@ public class ProductPersistenceHandler extends AbstractModelPersistenceHandler {
     return productService.getByCode(((Product) record).getCode());
   }
 
+  @Override
+  protected String getKey(BaseModel record) {
+    return ((Product) record).getCode().toLowerCase();
+  }
+
+  @Override
+  protected Map<String, BaseModel> getExisting(List<BaseModel> records) {
+    List<String> codes = new ArrayList<>();
+    for (BaseModel record : records) {
+      codes.add(((Product) record).getCode());
+    }
+
+    Map<String, BaseModel> existingProducts = new HashMap<>();
+    for (Product product : productService.getIdAndModifiedDateByCodes(codes)) {
+      existingProducts.put(product.getCode().toLowerCase(), product);
+    }
+    return existingProducts;
+  }
+
   @Override
   protected void save(BaseModel record) {
     productService.save((Product) record);
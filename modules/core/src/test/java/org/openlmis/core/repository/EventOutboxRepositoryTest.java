@@ -0,0 +1,79 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.core.repository;
+
+import org.ict4h.atomfeed.server.service.Event;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.openlmis.core.repository.mapper.EventOutboxMapper;
+import org.openlmis.db.categories.UnitTests;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyList;
+import static org.mockito.Mockito.*;
+import static org.openlmis.core.repository.EventOutboxRepository.BATCH_SIZE;
+import static org.openlmis.core.repository.EventOutboxRepository.PUBLISHER_LOCK_KEY;
+
+@Category(UnitTests.class)
+@RunWith(MockitoJUnitRunner.class)
+public class EventOutboxRepositoryTest {
+
+  @InjectMocks
+  private EventOutboxRepository repository;
+
+  @Mock
+  private EventOutboxMapper mapper;
+
+  @Test
+  public void shouldInsertEventsInBatches() throws Exception {
+    List<Event> events = new ArrayList<>();
+    for (int i = 0; i < BATCH_SIZE + 1; i++) {
+      events.add(mock(Event.class));
+    }
+
+    repository.insertAll(events);
+
+    verify(mapper).insertAll(events.subList(0, BATCH_SIZE));
+    verify(mapper).insertAll(events.subList(BATCH_SIZE, BATCH_SIZE + 1));
+  }
+
+  @Test
+  public void shouldNotInsertIfThereAreNoEvents() throws Exception {
+    repository.insertAll(new ArrayList<Event>());
+
+    verify(mapper, never()).insertAll(anyList());
+  }
+
+  @Test
+  public void shouldPublishEventsWhenPublisherLockIsAcquired() throws Exception {
+    when(mapper.tryLock(PUBLISHER_LOCK_KEY)).thenReturn(true);
+    when(mapper.publish(100)).thenReturn(40);
+
+    assertThat(repository.publish(100), is(40));
+  }
+
+  @Test
+  public void shouldNotPublishEventsWhenAnotherPublisherHoldsTheLock() throws Exception {
+    when(mapper.tryLock(PUBLISHER_LOCK_KEY)).thenReturn(false);
+
+    assertThat(repository.publish(100), is(0));
+    verify(mapper, never()).publish(anyInt());
+  }
+}
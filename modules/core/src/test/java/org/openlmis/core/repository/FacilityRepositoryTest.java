@@ -208,6 +208,16 @@ public class FacilityRepositoryTest {
     assertThat(returnedFacility, is(facility));
   }
 
+  @Test
+  public void shouldGetAllFacilitiesByIdsInOneQuery() throws Exception {
+    List<Facility> facilities = asList(new Facility(1L), new Facility(2L));
+    when(mapper.getAllByIds("{1, 2}")).thenReturn(facilities);
+
+    List<Facility> returnedFacilities = repository.getAllByIds(asList(1L, 2L));
+
+    assertThat(returnedFacilities, is(facilities));
+  }
+
   @Test
   public void shouldUpdateFacilityIfIDIsSet() throws Exception {
     Facility facility = make(a(defaultFacility));
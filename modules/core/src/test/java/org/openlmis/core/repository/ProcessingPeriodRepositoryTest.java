@@ -29,6 +29,7 @@ import org.springframework.dao.DuplicateKeyException;
 import java.util.*;
 
 import static com.natpryce.makeiteasy.MakeItEasy.*;
+import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.*;
@@ -52,6 +53,14 @@ public class ProcessingPeriodRepositoryTest {
     repository = new ProcessingPeriodRepository(mapper);
   }
 
+  @Test
+  public void shouldGetAllPeriodsByIdsInOneQuery() throws Exception {
+    List<ProcessingPeriod> periods = asList(new ProcessingPeriod(1L), new ProcessingPeriod(2L));
+    when(mapper.getAllByIds("{1, 2}")).thenReturn(periods);
+
+    assertThat(repository.getAllByIds(asList(1L, 2L)), is(periods));
+  }
+
   @Test
   public void shouldGetAllPeriodsForGivenSchedule() throws Exception {
     List<ProcessingPeriod> processingPeriodList = new ArrayList<>();
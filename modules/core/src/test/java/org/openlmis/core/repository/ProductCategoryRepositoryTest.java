@@ -25,6 +25,7 @@ import org.openlmis.db.categories.UnitTests;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.DuplicateKeyException;
 
+import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.*;
@@ -97,4 +98,26 @@ public class ProductCategoryRepositoryTest {
     verify(productCategoryMapper).getProductCategoryIdByCode(categoryCode);
     assertThat(returnedCategoryId, is(categoryId));
   }
+
+  @Test
+  public void shouldInsertNewAndUpdateExistingProductCategoriesInBulk() {
+    ProductCategory newCategory = new ProductCategory("C1", "category 1", 1);
+    ProductCategory existingCategory = new ProductCategory("C2", "category 2", 2);
+    existingCategory.setId(2L);
+
+    productCategoryRepository.saveAll(asList(newCategory, existingCategory));
+
+    verify(productCategoryMapper).insertAll(asList(newCategory));
+    verify(productCategoryMapper).updateAll(asList(existingCategory));
+  }
+
+  @Test
+  public void shouldThrowExceptionIfBulkInsertOfProductCategoriesFails() {
+    ProductCategory productCategory = new ProductCategory("C1", "category 1", 1);
+    doThrow(new DuplicateKeyException("some exception")).when(productCategoryMapper).insertAll(asList(productCategory));
+
+    expectedException.expect(dataExceptionMatcher("product.category.name.duplicate"));
+
+    productCategoryRepository.saveAll(asList(productCategory));
+  }
 }
@@ -23,6 +23,7 @@ import org.openlmis.db.categories.UnitTests;
 import java.util.ArrayList;
 import java.util.List;
 
+import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.*;
@@ -102,6 +103,16 @@ public class ProgramRepositoryTest {
     assertThat(actualProgram, is(expectedProgram));
   }
 
+  @Test
+  public void shouldGetAllProgramsByIdsInOneQuery() throws Exception {
+    List<Program> expectedPrograms = asList(new Program(1L), new Program(2L));
+    when(programMapper.getAllByIds("{1, 2}")).thenReturn(expectedPrograms);
+
+    List<Program> actualPrograms = programRepository.getAllByIds(asList(1L, 2L));
+
+    assertThat(actualPrograms, is(expectedPrograms));
+  }
+
   @Test
   public void shouldGetAllSupportedProgramsForFacility() throws Exception {
     List<Program> expectedPrograms = new ArrayList<>();
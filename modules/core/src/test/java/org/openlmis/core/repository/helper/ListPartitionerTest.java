@@ -0,0 +1,43 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.core.repository.helper;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openlmis.db.categories.UnitTests;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+@Category(UnitTests.class)
+public class ListPartitionerTest {
+
+  @Test
+  public void shouldSplitListIntoPartitionsOfGivenSize() {
+    List<List<Integer>> partitions = ListPartitioner.partition(asList(1, 2, 3, 4, 5), 2);
+
+    assertThat(partitions.size(), is(3));
+    assertThat(partitions.get(0), is(asList(1, 2)));
+    assertThat(partitions.get(1), is(asList(3, 4)));
+    assertThat(partitions.get(2), is(asList(5)));
+  }
+
+  @Test
+  public void shouldReturnNoPartitionsForEmptyList() {
+    List<List<Integer>> partitions = ListPartitioner.partition(new ArrayList<Integer>(), 2);
+
+    assertThat(partitions.size(), is(0));
+  }
+}
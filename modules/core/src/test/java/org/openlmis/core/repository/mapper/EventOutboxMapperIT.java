@@ -0,0 +1,123 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.core.repository.mapper;
+
+import org.ict4h.atomfeed.server.service.Event;
+import org.joda.time.DateTime;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.openlmis.core.query.QueryExecutor;
+import org.openlmis.db.categories.IntegrationTests;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.test.context.transaction.TransactionConfiguration;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.URISyntaxException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+@Category(IntegrationTests.class)
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(locations = "classpath:test-applicationContext-core.xml")
+@TransactionConfiguration(defaultRollback = true, transactionManager = "openLmisTransactionManager")
+@Transactional
+public class EventOutboxMapperIT {
+
+  @Autowired
+  private EventOutboxMapper mapper;
+
+  @Autowired
+  private QueryExecutor queryExecutor;
+
+  @Before
+  public void setUp() throws Exception {
+    queryExecutor.executeUpdate("DELETE FROM event_outbox");
+  }
+
+  @Test
+  public void shouldInsertAllEvents() throws Exception {
+    Event firstEvent = event("facilities", "{\"code\":\"F10\"}");
+    Event secondEvent = event("programs-supported", "{\"facilityCode\":\"F10\"}");
+
+    mapper.insertAll(asList(firstEvent, secondEvent));
+
+    ResultSet resultSet = queryExecutor.execute("SELECT * FROM event_outbox ORDER BY id");
+    resultSet.next();
+    assertThat(resultSet.getString("uuid"), is(firstEvent.getUuid()));
+    assertThat(resultSet.getString("title"), is("title"));
+    assertThat(resultSet.getString("category"), is("facilities"));
+    assertThat(resultSet.getString("contents"), is("{\"code\":\"F10\"}"));
+    resultSet.next();
+    assertThat(resultSet.getString("uuid"), is(secondEvent.getUuid()));
+    assertThat(resultSet.next(), is(false));
+  }
+
+  @Test
+  public void shouldPublishOldestEventsToAtomFeedInOrderAndRemoveThemFromOutbox() throws Exception {
+    Event firstEvent = event("outbox-test", "{\"id\":1}");
+    Event secondEvent = event("outbox-test", "{\"id\":2}");
+    Event thirdEvent = event("outbox-test", "{\"id\":3}");
+    mapper.insertAll(asList(firstEvent, secondEvent, thirdEvent));
+
+    int published = mapper.publish(2);
+
+    assertThat(published, is(2));
+    assertThat(publishedUuids("outbox-test"), is(asList(firstEvent.getUuid(), secondEvent.getUuid())));
+    ResultSet resultSet = queryExecutor.execute("SELECT uuid FROM event_outbox");
+    resultSet.next();
+    assertThat(resultSet.getString("uuid"), is(thirdEvent.getUuid()));
+    assertThat(resultSet.next(), is(false));
+  }
+
+  @Test
+  public void shouldPublishEventContentsAsAtomFeedRecords() throws Exception {
+    Event event = event("outbox-test", "{\"id\":1}");
+    mapper.insertAll(asList(event));
+
+    mapper.publish(10);
+
+    ResultSet resultSet = queryExecutor.execute("SELECT * FROM atomfeed.event_records WHERE uuid = ?", event.getUuid());
+    resultSet.next();
+    assertThat(resultSet.getString("title"), is("title"));
+    assertThat(resultSet.getString("uri"), is(""));
+    assertThat(resultSet.getString("object"), is("{\"id\":1}"));
+    assertThat(resultSet.getString("category"), is("outbox-test"));
+  }
+
+  @Test
+  public void shouldAcquirePublisherLock() throws Exception {
+    assertThat(mapper.tryLock(5141L), is(true));
+  }
+
+  private List<String> publishedUuids(String category) throws SQLException {
+    ResultSet resultSet = queryExecutor.execute("SELECT uuid FROM atomfeed.event_records WHERE category = ? ORDER BY id", category);
+    List<String> uuids = new ArrayList<>();
+    while (resultSet.next()) {
+      uuids.add(resultSet.getString("uuid"));
+    }
+    return uuids;
+  }
+
+  private Event event(String category, String contents) throws URISyntaxException {
+    return new Event(randomUUID().toString(), "title", DateTime.now(), "", contents, category);
+  }
+}
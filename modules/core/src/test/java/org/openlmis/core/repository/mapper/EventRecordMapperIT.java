@@ -0,0 +1,63 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.core.repository.mapper;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.openlmis.core.query.QueryExecutor;
+import org.openlmis.db.categories.IntegrationTests;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.test.context.transaction.TransactionConfiguration;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.SQLException;
+
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+@Category(IntegrationTests.class)
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(locations = "classpath:test-applicationContext-core.xml")
+@TransactionConfiguration(defaultRollback = true, transactionManager = "openLmisTransactionManager")
+@Transactional
+public class EventRecordMapperIT {
+
+  @Autowired
+  private EventRecordMapper mapper;
+
+  @Autowired
+  private QueryExecutor queryExecutor;
+
+  @Test
+  public void shouldGetLatestEventIdOfCategory() throws Exception {
+    Long firstEventId = insertEvent("facilities");
+    Long secondEventId = insertEvent("facilities");
+    insertEvent("programs");
+
+    assertThat(mapper.getLatestEventId("facilities"), is(secondEventId));
+    assertThat(secondEventId > firstEventId, is(true));
+  }
+
+  @Test
+  public void shouldReturnNullIfCategoryHasNoEvents() throws Exception {
+    assertThat(mapper.getLatestEventId("no-such-category"), is(nullValue()));
+  }
+
+  private Long insertEvent(String category) throws SQLException {
+    return queryExecutor.executeUpdate("INSERT INTO atomfeed.event_records (uuid, title, uri, object, category) " +
+      "VALUES (?, 'title', '', '{}', ?)", randomUUID().toString(), category);
+  }
+}
@@ -215,6 +215,33 @@ public class FacilityMapperIT {
     assertThat(resultFacility.getLongitude(), is(-321.87654));
   }
 
+  @Test
+  public void shouldGetAllFacilitiesByIdsWithZoneTypeAndOperator() throws Exception {
+    Facility facility = make(a(defaultFacility));
+    mapper.insert(facility);
+    Facility otherFacility = make(a(defaultFacility, with(code, "F10011")));
+    mapper.insert(otherFacility);
+    Facility expected = mapper.getById(facility.getId());
+
+    List<Facility> facilities = mapper.getAllByIds("{" + facility.getId() + ", " + otherFacility.getId() + "}");
+
+    assertThat(facilities.size(), is(2));
+    Facility resultFacility = facilities.get(0).getId().equals(facility.getId()) ? facilities.get(0) : facilities.get(1);
+    assertThat(resultFacility.getCode(), is("F10010"));
+    assertThat(resultFacility.getGeographicZone().getId(), is(expected.getGeographicZone().getId()));
+    assertThat(resultFacility.getGeographicZone().getName(), is("Arusha"));
+    assertThat(resultFacility.getGeographicZone().getLevel().getName(), is(expected.getGeographicZone().getLevel().getName()));
+    assertThat(resultFacility.getGeographicZone().getParent().getName(), is("Root"));
+    assertThat(resultFacility.getGeographicZone().getParent().getLevel().getCode(),
+      is(expected.getGeographicZone().getParent().getLevel().getCode()));
+    assertThat(resultFacility.getFacilityType().getId(), is(expected.getFacilityType().getId()));
+    assertThat(resultFacility.getFacilityType().getCode(), is(expected.getFacilityType().getCode()));
+    assertThat(resultFacility.getFacilityType().getName(), is(expected.getFacilityType().getName()));
+    assertThat(resultFacility.getOperatedBy().getId(), is(expected.getOperatedBy().getId()));
+    assertThat(resultFacility.getOperatedBy().getCode(), is(expected.getOperatedBy().getCode()));
+    assertThat(resultFacility.getOperatedBy().getText(), is(expected.getOperatedBy().getText()));
+  }
+
   @Test
   public void shouldInsertFacilityWithSuppliedModifiedDateIfNotNull() throws Exception {
     Facility facility = make(a(defaultFacility));
@@ -21,6 +21,10 @@ import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.test.context.transaction.TransactionConfiguration;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Date;
+import java.util.List;
+
+import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -99,6 +103,25 @@ public class ProductCategoryMapperIT {
     assertThat(categoryId, is(productCategory.getId()));
   }
 
+  @Test
+  public void shouldInsertAndUpdateProductCategoriesInBulk() {
+    ProductCategory category1 = new ProductCategory("C1", "category 1", 1);
+    ProductCategory category2 = new ProductCategory("C2", "category 2", 2);
+    productCategoryMapper.insertAll(asList(category1, category2));
+
+    List<ProductCategory> categories = productCategoryMapper.getByCodes(asList("c1", "C2"));
+    assertThat(categories.size(), is(2));
+
+    ProductCategory category = productCategoryMapper.getProductCategoryByCode("C1");
+    category.setName("updated category 1");
+    category.setDisplayOrder(3);
+    category.setModifiedBy(2L);
+    category.setModifiedDate(new Date());
+    productCategoryMapper.updateAll(asList(category));
+
+    ProductCategory returnedProductCategory = productCategoryMapper.getProductCategoryByCode("C1");
+    assertThat(returnedProductCategory.getName(), is("updated category 1"));
+    assertThat(returnedProductCategory.getDisplayOrder(), is(3));
+    assertThat(returnedProductCategory.getModifiedBy(), is(2L));
+  }
 }
-
-
@@ -0,0 +1,79 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.core.service;
+
+import org.ict4h.atomfeed.server.service.Event;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.openlmis.core.repository.EventOutboxRepository;
+import org.openlmis.db.categories.UnitTests;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.mockito.Mockito.*;
+
+@Category(UnitTests.class)
+@RunWith(MockitoJUnitRunner.class)
+public class EventOutboxServiceTest {
+
+  @Mock
+  private EventOutboxRepository repository;
+
+  @InjectMocks
+  private EventOutboxService service;
+
+  @Before
+  public void setUp() throws Exception {
+    service.publishBatchSize = 2;
+  }
+
+  @Test
+  public void shouldRecordEventInOutbox() throws Exception {
+    Event event = mock(Event.class);
+
+    service.record(event);
+
+    verify(repository).insertAll(asList(event));
+  }
+
+  @Test
+  public void shouldRecordAllEventsInOutbox() throws Exception {
+    List<Event> events = asList(mock(Event.class), mock(Event.class));
+
+    service.recordAll(events);
+
+    verify(repository).insertAll(events);
+  }
+
+  @Test
+  public void shouldKeepPublishingBatchesUntilOutboxIsDrained() throws Exception {
+    when(repository.publish(2)).thenReturn(2, 2, 1);
+
+    service.publishPending();
+
+    verify(repository, times(3)).publish(2);
+  }
+
+  @Test
+  public void shouldStopPublishingWhenNothingIsPublished() throws Exception {
+    when(repository.publish(2)).thenReturn(0);
+
+    service.publishPending();
+
+    verify(repository, times(1)).publish(2);
+  }
+}
@@ -13,7 +13,6 @@ package org.openlmis.core.service;
 
 import org.hamcrest.Matcher;
 import org.ict4h.atomfeed.server.service.Event;
-import org.ict4h.atomfeed.server.service.EventService;
 import org.joda.time.DateTime;
 import org.junit.Rule;
 import org.junit.Test;
@@ -24,6 +23,7 @@ import org.mockito.ArgumentMatcher;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.openlmis.core.builder.FacilityBuilder;
 import org.openlmis.core.domain.*;
 import org.openlmis.core.dto.FacilityFeedDTO;
@@ -42,6 +42,7 @@ import static com.natpryce.makeiteasy.MakeItEasy.*;
 import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.junit.matchers.JUnitMatchers.hasItem;
 import static org.mockito.Matchers.any;
@@ -51,6 +52,7 @@ import static org.mockito.Mockito.spy;
 import static org.openlmis.core.builder.FacilityBuilder.*;
 import static org.openlmis.core.builder.ProgramSupportedBuilder.*;
 import static org.openlmis.core.domain.Right.CREATE_REQUISITION;
+import static org.openlmis.core.service.ReferenceDataCache.FACILITIES;
 import static org.powermock.api.mockito.PowerMockito.doReturn;
 import static org.powermock.api.mockito.PowerMockito.*;
 import static org.powermock.api.mockito.PowerMockito.when;
@@ -77,11 +79,14 @@ public class FacilityServiceTest {
   private GeographicZoneRepository geographicZoneRepository;
 
   @Mock
-  private EventService eventService;
+  private EventOutboxService eventOutboxService;
 
   @Mock
   private FacilityProgramProductService facilityProgramProductService;
 
+  @Spy
+  private ReferenceDataCache referenceDataCache = new ReferenceDataCache(0, 0);
+
   @InjectMocks
   private FacilityService facilityService;
 
@@ -106,6 +111,25 @@ public class FacilityServiceTest {
     assertThat(returnedFacility.getSupportedPrograms(), is(supportedPrograms));
   }
 
+  @Test
+  public void shouldNotLetChangesToReturnedFacilityReachTheCachedFacility() throws Exception {
+    Long facilityId = 1L;
+    ProgramSupported programSupported = new ProgramSupported(3L, true, null);
+    programSupported.setFacilityId(facilityId);
+    Facility cachedFacility = new Facility(facilityId);
+    cachedFacility.setSupportedPrograms(new ArrayList<>(asList(programSupported)));
+    doReturn(cachedFacility).when(referenceDataCache).get(eq(FACILITIES), eq(facilityId), any(ReferenceDataCache.Loader.class));
+
+    Facility returnedFacility = facilityService.getById(facilityId);
+    returnedFacility.getSupportedPrograms().get(0).setFacilityId(2L);
+    returnedFacility.getSupportedPrograms().clear();
+
+    Facility reReadFacility = facilityService.getById(facilityId);
+    assertThat(reReadFacility.getSupportedPrograms().size(), is(1));
+    assertThat(reReadFacility.getSupportedPrograms().get(0).getFacilityId(), is(facilityId));
+    assertThat(cachedFacility.getSupportedPrograms().get(0), is(sameInstance(programSupported)));
+  }
+
   @Test
   public void shouldUpdateFacilityEnabledAndActiveForFacility() throws Exception {
     Facility facility = make(a(defaultFacility));
@@ -128,18 +152,21 @@ public class FacilityServiceTest {
     facilityService.updateEnabledAndActiveFor(facility);
 
     verify(facilityRepository).updateEnabledAndActiveFor(facility);
+    verify(referenceDataCache).invalidate(FACILITIES, facility.getId());
     verify(facilityRepository).getById(facility.getParentFacilityId());
-    verify(eventService).notify(argThat(eventMatcher(uuid, "Facility", dateTime, "",
+    verify(eventOutboxService).recordAll(argThat(eventsMatcher(uuid, "Facility", dateTime, "",
       facilityFeedDTO.getSerializedContents(), "facilities")));
 
   }
 
-  private static Matcher<Event> eventMatcher(final UUID uuid, final String title, final DateTime timestamp,
-                                             final String uri, final String content, final String category) {
-    return new ArgumentMatcher<Event>() {
+  private static Matcher<List<Event>> eventsMatcher(final UUID uuid, final String title, final DateTime timestamp,
+                                                    final String uri, final String content, final String category) {
+    return new ArgumentMatcher<List<Event>>() {
       @Override
       public boolean matches(Object argument) {
-        Event event = (Event) argument;
+        List<Event> events = (List<Event>) argument;
+        if (events.size() != 1) return false;
+        Event event = events.get(0);
         return event.getUuid().equals(uuid.toString()) && event.getTitle().equals(title) && event.getTimeStamp().equals(timestamp) &&
           event.getUri().toString().equals(uri) && event.getContents().equals(content) && event.getCategory().equals(category);
       }
@@ -219,8 +246,9 @@ public class FacilityServiceTest {
     facilityService.update(facility);
 
     verify(facilityRepository).save(facility);
+    verify(referenceDataCache).invalidate(FACILITIES, facility.getId());
     verify(programSupportedService).updateSupportedPrograms(facility);
-    verify(eventService).notify(any(Event.class));
+    verify(eventOutboxService).recordAll(anyList());
   }
 
   @Test
@@ -238,7 +266,7 @@ public class FacilityServiceTest {
 
     verify(facilityRepository).save(facility);
     verify(programSupportedService).updateSupportedPrograms(facility);
-    verify(eventService, never()).notify(any(Event.class));
+    verify(eventOutboxService, never()).recordAll(anyList());
   }
 
   @Test
@@ -258,7 +286,8 @@ public class FacilityServiceTest {
     verify(programSupportedService).updateSupportedPrograms(parentFacility);
     verify(facilityRepository).getChildFacilities(parentFacility);
     verify(facilityRepository).updateVirtualFacilities(parentFacility);
-    verify(eventService, times(2)).notify(any(Event.class));
+    verify(referenceDataCache).invalidateAll(FACILITIES);
+    verify(eventOutboxService, times(2)).recordAll(anyList());
   }
 
   @Test
@@ -278,7 +307,7 @@ public class FacilityServiceTest {
     verify(programSupportedService).updateSupportedPrograms(parentFacility);
     verify(facilityRepository).getChildFacilities(parentFacility);
     verify(facilityRepository).updateVirtualFacilities(parentFacility);
-    verify(eventService, times(2)).notify(any(Event.class));
+    verify(eventOutboxService, times(2)).recordAll(anyList());
   }
 
   @Test
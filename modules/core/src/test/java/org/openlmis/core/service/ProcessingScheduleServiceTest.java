@@ -17,6 +17,7 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.rules.ExpectedException;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.openlmis.core.builder.RequisitionGroupBuilder;
 import org.openlmis.core.domain.*;
 import org.openlmis.core.exception.DataException;
@@ -54,6 +55,8 @@ public class ProcessingScheduleServiceTest {
   private RequisitionGroupRepository requisitionGroupRepository;
   @Mock
   private RequisitionGroupProgramScheduleRepository requisitionGroupProgramScheduleRepository;
+  @Spy
+  private ReferenceDataCache referenceDataCache = new ReferenceDataCache(0, 0);
 
   private ProcessingScheduleService service;
   private final Long PROCESSING_PERIOD_ID = 1L;
@@ -61,7 +64,8 @@ public class ProcessingScheduleServiceTest {
   @Before
   public void setUp() throws Exception {
     initMocks(this);
-    service = new ProcessingScheduleService(processingScheduleRepository, periodRepository, requisitionGroupRepository, requisitionGroupProgramScheduleRepository);
+    service = new ProcessingScheduleService(processingScheduleRepository, periodRepository, requisitionGroupRepository, requisitionGroupProgramScheduleRepository,
+      referenceDataCache);
   }
 
   @Test
@@ -165,6 +169,7 @@ public class ProcessingScheduleServiceTest {
     processingPeriod.setId(PROCESSING_PERIOD_ID);
     service.deletePeriod(processingPeriod.getId());
     verify(periodRepository).delete(processingPeriod.getId());
+    verify(referenceDataCache).invalidate(ReferenceDataCache.PERIODS, processingPeriod.getId());
   }
 
   @Test
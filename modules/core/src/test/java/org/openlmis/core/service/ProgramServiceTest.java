@@ -10,7 +10,6 @@
 
 package org.openlmis.core.service;
 
-import org.ict4h.atomfeed.server.service.EventService;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -18,6 +17,7 @@ import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.openlmis.core.domain.Program;
 import org.openlmis.core.event.ProgramChangeEvent;
@@ -39,6 +39,7 @@ import static org.openlmis.core.builder.ProgramBuilder.defaultProgram;
 import static org.openlmis.core.builder.ProgramBuilder.programCode;
 import static org.openlmis.core.domain.Right.AUTHORIZE_REQUISITION;
 import static org.openlmis.core.domain.Right.VIEW_REQUISITION;
+import static org.openlmis.core.service.ReferenceDataCache.PROGRAMS;
 
 @RunWith(MockitoJUnitRunner.class)
 @Category(UnitTests.class)
@@ -50,7 +51,10 @@ public class ProgramServiceTest {
   private ProgramRepository programRepository;
 
   @Mock
-  EventService eventService;
+  EventOutboxService eventOutboxService;
+
+  @Spy
+  private ReferenceDataCache referenceDataCache = new ReferenceDataCache(0, 0);
 
   @InjectMocks
   private ProgramService service;
@@ -92,6 +96,7 @@ public class ProgramServiceTest {
   public void shouldSetTemplateConfiguredFlag() {
     service.setTemplateConfigured(1L);
     verify(programRepository).setTemplateConfigured(1L);
+    verify(referenceDataCache).invalidate(PROGRAMS, 1L);
 
   }
 
@@ -99,6 +104,7 @@ public class ProgramServiceTest {
   public void shouldSetRegimenTemplateConfiguredFlag() {
     service.setRegimenTemplateConfigured(1L);
     verify(programRepository).setRegimenTemplateConfigured(1L);
+    verify(referenceDataCache).invalidate(PROGRAMS, 1L);
 
   }
 
@@ -121,7 +127,7 @@ public class ProgramServiceTest {
     service.notifyProgramChange();
 
     verify(programRepository).getProgramsForNotification();
-    verify(eventService, times(2)).notify(any(ProgramChangeEvent.class));
+    verify(eventOutboxService, times(2)).record(any(ProgramChangeEvent.class));
   }
 
   @Test
@@ -136,6 +142,7 @@ public class ProgramServiceTest {
 
     verify(programRepository).setFeedSendFlag(programList.get(0), false);
     verify(programRepository).setFeedSendFlag(programList.get(1), false);
+    verify(referenceDataCache, times(2)).invalidate(eq(PROGRAMS), anyLong());
   }
 
   @Test
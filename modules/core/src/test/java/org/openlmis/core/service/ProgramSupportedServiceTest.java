@@ -9,7 +9,6 @@
 package org.openlmis.core.service;
 
 import org.ict4h.atomfeed.server.service.Event;
-import org.ict4h.atomfeed.server.service.EventService;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -40,6 +39,7 @@ import static org.mockito.Mockito.*;
 import static org.openlmis.core.builder.FacilityBuilder.defaultFacility;
 import static org.openlmis.core.builder.FacilityBuilder.programSupportedList;
 import static org.openlmis.core.builder.ProgramSupportedBuilder.defaultProgramSupported;
+import static org.openlmis.core.service.ReferenceDataCache.FACILITIES;
 import static org.powermock.api.mockito.PowerMockito.when;
 import static org.powermock.api.mockito.PowerMockito.whenNew;
 
@@ -68,7 +68,10 @@ public class ProgramSupportedServiceTest {
   FacilityProgramProductService facilityProgramProductService;
 
   @Mock
-  private EventService eventService;
+  private EventOutboxService eventOutboxService;
+
+  @Mock
+  private ReferenceDataCache referenceDataCache;
 
 
   @Test
@@ -88,6 +91,7 @@ public class ProgramSupportedServiceTest {
     assertThat(programSupported.getProgram().getId(), is(programId));
     assertThat(programSupported.getActive(), is(false));
     assertThat(programSupported.getStartDate(), is(nullValue()));
+    verify(referenceDataCache).invalidate(FACILITIES, facilityId);
 
   }
 
@@ -259,7 +263,8 @@ public class ProgramSupportedServiceTest {
 
     verify(repository).updateSupportedPrograms(facility);
     verify(repository).updateForVirtualFacilities(facility);
-    verify(eventService).notify(event);
+    verify(referenceDataCache).invalidateAll(FACILITIES);
+    verify(eventOutboxService).recordAll(asList(event));
   }
 
   @Test
@@ -278,7 +283,8 @@ public class ProgramSupportedServiceTest {
 
     verify(repository).updateSupportedPrograms(facility);
     verify(repository, never()).updateForVirtualFacilities(facility);
-    verify(eventService, never()).notify(event);
+    verify(referenceDataCache, never()).invalidateAll(FACILITIES);
+    verify(eventOutboxService, never()).recordAll(anyList());
   }
 
   @Test
@@ -319,8 +325,7 @@ public class ProgramSupportedServiceTest {
 
     service.notifyProgramSupportedUpdated(facility);
 
-    verify(eventService).notify(event);
-    verify(eventService).notify(virtualFacilityEvent);
+    verify(eventOutboxService).recordAll(asList(event, virtualFacilityEvent));
 
   }
 
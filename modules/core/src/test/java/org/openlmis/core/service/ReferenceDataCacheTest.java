@@ -0,0 +1,133 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.core.service;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openlmis.db.categories.UnitTests;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.openlmis.core.service.ReferenceDataCache.FACILITIES;
+import static org.openlmis.core.service.ReferenceDataCache.PROGRAMS;
+
+@Category(UnitTests.class)
+public class ReferenceDataCacheTest {
+
+  @Test
+  public void shouldLoadValueOnceAndServeItFromCache() throws Exception {
+    ReferenceDataCache cache = new ReferenceDataCache(300, 10);
+    CountingLoader loader = new CountingLoader("program");
+
+    cache.get(PROGRAMS, 1L, loader);
+    String value = cache.get(PROGRAMS, 1L, loader);
+
+    assertThat(value, is("program"));
+    assertThat(loader.loads.get(), is(1));
+    assertThat(cache.getStatistics().get(PROGRAMS).getHits(), is(1L));
+    assertThat(cache.getStatistics().get(PROGRAMS).getMisses(), is(1L));
+  }
+
+  @Test
+  public void shouldKeepRegionsApart() throws Exception {
+    ReferenceDataCache cache = new ReferenceDataCache(300, 10);
+
+    cache.get(PROGRAMS, 1L, new CountingLoader("program"));
+    String value = cache.get(FACILITIES, 1L, new CountingLoader("facility"));
+
+    assertThat(value, is("facility"));
+  }
+
+  @Test
+  public void shouldReloadValueAfterInvalidation() throws Exception {
+    ReferenceDataCache cache = new ReferenceDataCache(300, 10);
+    CountingLoader loader = new CountingLoader("program");
+    cache.get(PROGRAMS, 1L, loader);
+
+    cache.invalidate(PROGRAMS, 1L);
+    cache.get(PROGRAMS, 1L, loader);
+
+    assertThat(loader.loads.get(), is(2));
+    assertThat(cache.getStatistics().get(PROGRAMS).getEvictions(), is(1L));
+  }
+
+  @Test
+  public void shouldReloadAllValuesOfRegionAfterInvalidatingIt() throws Exception {
+    ReferenceDataCache cache = new ReferenceDataCache(300, 10);
+    CountingLoader loader = new CountingLoader("facility");
+    cache.get(FACILITIES, 1L, loader);
+    cache.get(FACILITIES, 2L, loader);
+
+    cache.invalidateAll(FACILITIES);
+    cache.get(FACILITIES, 1L, loader);
+    cache.get(FACILITIES, 2L, loader);
+
+    assertThat(loader.loads.get(), is(4));
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedValueWhenRegionIsFull() throws Exception {
+    ReferenceDataCache cache = new ReferenceDataCache(300, 2);
+    CountingLoader loader = new CountingLoader("program");
+    cache.get(PROGRAMS, 1L, loader);
+    cache.get(PROGRAMS, 2L, loader);
+    cache.get(PROGRAMS, 1L, loader);
+
+    cache.get(PROGRAMS, 3L, loader);
+    cache.get(PROGRAMS, 1L, loader);
+    cache.get(PROGRAMS, 2L, loader);
+
+    assertThat(loader.loads.get(), is(4));
+    assertThat(cache.getStatistics().get(PROGRAMS).getSize(), is(2));
+  }
+
+  @Test
+  public void shouldNotCacheMissingValues() throws Exception {
+    ReferenceDataCache cache = new ReferenceDataCache(300, 10);
+    CountingLoader loader = new CountingLoader(null);
+
+    assertThat(cache.get(PROGRAMS, 1L, loader), is(nullValue()));
+    cache.get(PROGRAMS, 1L, loader);
+
+    assertThat(loader.loads.get(), is(2));
+  }
+
+  @Test
+  public void shouldAlwaysLoadWhenTimeToLiveIsNotPositive() throws Exception {
+    ReferenceDataCache cache = new ReferenceDataCache(0, 10);
+    CountingLoader loader = new CountingLoader("program");
+
+    cache.get(PROGRAMS, 1L, loader);
+    cache.get(PROGRAMS, 1L, loader);
+
+    assertThat(loader.loads.get(), is(2));
+  }
+
+  private static class CountingLoader implements ReferenceDataCache.Loader<String> {
+
+    private final String value;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private CountingLoader(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public String load() {
+      loads.incrementAndGet();
+      return value;
+    }
+  }
+}
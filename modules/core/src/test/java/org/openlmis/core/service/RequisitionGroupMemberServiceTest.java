@@ -61,6 +61,8 @@ public class RequisitionGroupMemberServiceTest {
   RequisitionGroupProgramScheduleRepository requisitionGroupProgramScheduleRepository;
   @Mock
   ProgramRepository programRepository;
+  @Mock
+  UserRightsCache userRightsCache;
 
   RequisitionGroup requisitionGroup;
   RequisitionGroupMember requisitionGroupMember;
@@ -84,7 +86,7 @@ public class RequisitionGroupMemberServiceTest {
     programIdList.add(1L);
 
     service = new RequisitionGroupMemberService(requisitionGroupMemberRepository, facilityRepository,
-        requisitionGroupRepository, requisitionGroupProgramScheduleRepository, programRepository);
+        requisitionGroupRepository, requisitionGroupProgramScheduleRepository, programRepository, userRightsCache);
   }
 
   @Test
@@ -95,6 +97,7 @@ public class RequisitionGroupMemberServiceTest {
     service.save(requisitionGroupMember);
 
     verify(requisitionGroupMemberRepository).insert(requisitionGroupMember);
+    verify(userRightsCache).invalidateAll();
   }
 
   @Test
@@ -33,12 +33,15 @@ public class RequisitionGroupProgramScheduleServiceTest {
   @Mock
   RequisitionGroupProgramScheduleRepository requisitionGroupProgramScheduleRepository;
 
+  @Mock
+  UserRightsCache userRightsCache;
+
   private RequisitionGroupProgramScheduleService service;
 
   @Before
   public void setUp() throws Exception {
     initMocks(this);
-    service = new RequisitionGroupProgramScheduleService(requisitionGroupProgramScheduleRepository);
+    service = new RequisitionGroupProgramScheduleService(requisitionGroupProgramScheduleRepository, userRightsCache);
   }
 
   @Test
@@ -46,7 +49,7 @@ public class RequisitionGroupProgramScheduleServiceTest {
 
     RequisitionGroupProgramSchedule requisitionGroupProgramSchedule = new RequisitionGroupProgramSchedule();
     RequisitionGroupProgramScheduleRepository spyRequisitionGroupProgramScheduleRepository = spy(new RequisitionGroupProgramScheduleRepository());
-    service = new RequisitionGroupProgramScheduleService(spyRequisitionGroupProgramScheduleRepository);
+    service = new RequisitionGroupProgramScheduleService(spyRequisitionGroupProgramScheduleRepository, userRightsCache);
 
     Mockito.doNothing().when(spyRequisitionGroupProgramScheduleRepository).insert(requisitionGroupProgramSchedule);
 
@@ -54,6 +57,7 @@ public class RequisitionGroupProgramScheduleServiceTest {
 
     verify(spyRequisitionGroupProgramScheduleRepository).insert(requisitionGroupProgramSchedule);
     verify(spyRequisitionGroupProgramScheduleRepository, never()).update(requisitionGroupProgramSchedule);
+    verify(userRightsCache).invalidateAll();
   }
 
   @Test
@@ -62,7 +66,7 @@ public class RequisitionGroupProgramScheduleServiceTest {
     RequisitionGroupProgramSchedule requisitionGroupProgramSchedule = new RequisitionGroupProgramSchedule();
     requisitionGroupProgramSchedule.setId(1L);
     RequisitionGroupProgramScheduleRepository spyRequisitionGroupProgramScheduleRepository = spy(new RequisitionGroupProgramScheduleRepository());
-    service = new RequisitionGroupProgramScheduleService(spyRequisitionGroupProgramScheduleRepository);
+    service = new RequisitionGroupProgramScheduleService(spyRequisitionGroupProgramScheduleRepository, userRightsCache);
 
     Mockito.doNothing().when(spyRequisitionGroupProgramScheduleRepository).update(requisitionGroupProgramSchedule);
 
@@ -70,6 +74,7 @@ public class RequisitionGroupProgramScheduleServiceTest {
 
     verify(spyRequisitionGroupProgramScheduleRepository).update(requisitionGroupProgramSchedule);
     verify(spyRequisitionGroupProgramScheduleRepository, never()).insert(requisitionGroupProgramSchedule);
+    verify(userRightsCache).invalidateAll();
   }
 
   @Test
@@ -38,10 +38,13 @@ public class RequisitionGroupServiceTest {
   @Mock
   private SupervisoryNodeRepository supervisoryNodeRepository;
 
+  @Mock
+  private UserRightsCache userRightsCache;
+
   @Before
   public void setUp() throws Exception {
     initMocks(this);
-    requisitionGroupService = new RequisitionGroupService(requisitionGroupRepository, supervisoryNodeRepository);
+    requisitionGroupService = new RequisitionGroupService(requisitionGroupRepository, supervisoryNodeRepository, userRightsCache);
   }
 
   @Test
@@ -54,6 +57,7 @@ public class RequisitionGroupServiceTest {
 
     verify(supervisoryNodeRepository).getIdForCode(supervisoryNode.getCode());
     verify(requisitionGroupRepository).insert(requisitionGroup);
+    verify(userRightsCache).invalidateAll();
   }
 
   @Test
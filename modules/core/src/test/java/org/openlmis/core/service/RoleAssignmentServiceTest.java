@@ -42,6 +42,9 @@ public class RoleAssignmentServiceTest {
   @Mock
   FulfillmentRoleService fulfillmentRoleService;
 
+  @Mock
+  UserRightsCache userRightsCache;
+
   @InjectMocks
   RoleAssignmentService service;
 
@@ -154,4 +157,14 @@ public class RoleAssignmentServiceTest {
 
     verify(fulfillmentRoleService).saveFulfillmentRoles(user);
   }
+
+  @Test
+  public void shouldInvalidateCachedRightsOfUserWhenRolesAreSaved() throws Exception {
+    User user = new User();
+    user.setId(5L);
+
+    service.saveRolesForUser(user);
+
+    verify(userRightsCache).invalidate(5L);
+  }
 }
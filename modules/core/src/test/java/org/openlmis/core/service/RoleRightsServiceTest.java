@@ -56,7 +56,7 @@ public class RoleRightsServiceTest {
   @Before
   public void setUp() throws Exception {
     role = new Role("role name", "role description");
-    roleRightsService = new RoleRightsService(roleRightsRepository, supervisoryNodeService, facilityService);
+    roleRightsService = new RoleRightsService(roleRightsRepository, supervisoryNodeService, facilityService, new UserRightsCache(300, 100, 100));
   }
 
 
@@ -165,6 +165,36 @@ public class RoleRightsServiceTest {
     assertThat(result.containsAll(expected), is(true));
   }
 
+  @Test
+  public void shouldQueryRightsForAUserOnFacilityAndProgramOnlyOnce() throws Exception {
+    Long userId = 1L;
+    Facility facility = new Facility(2L);
+    Program program = new Program(3L);
+    when(facilityService.getHomeFacility(userId)).thenReturn(facility);
+    when(roleRightsRepository.getRightsForUserOnHomeFacilityAndProgram(userId, program)).thenReturn(asList(CREATE_REQUISITION));
+
+    roleRightsService.getRightsForUserAndFacilityProgram(userId, facility, program);
+    Set<Right> result = roleRightsService.getRightsForUserAndFacilityProgram(userId, new Facility(2L), new Program(3L));
+
+    assertThat(result.contains(CREATE_REQUISITION), is(true));
+    verify(facilityService, times(1)).getHomeFacility(userId);
+    verify(roleRightsRepository, times(1)).getRightsForUserOnHomeFacilityAndProgram(userId, program);
+  }
+
+  @Test
+  public void shouldQueryRightsForAUserAgainOnlyAfterRolesChange() throws Exception {
+    Long userId = 1L;
+    when(roleRightsRepository.getAllRightsForUser(userId)).thenReturn(new HashSet<>(asList(CREATE_REQUISITION)));
+
+    roleRightsService.getRights(userId);
+    Set<Right> rights = roleRightsService.getRights(userId);
+    roleRightsService.updateRole(role);
+    roleRightsService.getRights(userId);
+
+    assertThat(rights.contains(CREATE_REQUISITION), is(true));
+    verify(roleRightsRepository, times(2)).getAllRightsForUser(userId);
+  }
+
   @Test
   public void shouldGetRightsForAUserOnHomeFacilityAndProgram() throws Exception {
     Long userId = 1L;
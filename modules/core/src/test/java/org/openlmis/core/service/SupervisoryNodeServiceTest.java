@@ -54,6 +54,9 @@ public class SupervisoryNodeServiceTest {
   SupervisoryNodeService supervisoryNodeService;
   @Mock
   private UserRepository userRepository;
+
+  @Mock
+  private UserRightsCache userRightsCache;
   @Rule
   public ExpectedException expectedEx = ExpectedException.none();
   SupervisoryNode supervisoryNodeWithParent;
@@ -70,7 +73,8 @@ public class SupervisoryNodeServiceTest {
     parent.setId(20L);
     supervisoryNodeWithParent.setParent(parent);
 
-    supervisoryNodeService = new SupervisoryNodeService(supervisoryNodeRepository, userRepository, facilityRepository);
+    supervisoryNodeService = new SupervisoryNodeService(supervisoryNodeRepository, userRepository, facilityRepository,
+      userRightsCache);
   }
 
   @Test
@@ -240,6 +244,7 @@ public class SupervisoryNodeServiceTest {
     supervisoryNodeService.save(supervisoryNode);
 
     verify(supervisoryNodeRepository).update(supervisoryNode);
+    verify(userRightsCache).invalidateAll();
   }
 
   @Test
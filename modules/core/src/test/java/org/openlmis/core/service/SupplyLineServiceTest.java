@@ -30,10 +30,16 @@ import org.openlmis.core.repository.SupervisoryNodeRepository;
 import org.openlmis.core.repository.SupplyLineRepository;
 import org.openlmis.db.categories.UnitTests;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static com.natpryce.makeiteasy.MakeItEasy.a;
 import static com.natpryce.makeiteasy.MakeItEasy.make;
+import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.anyCollection;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -67,6 +73,24 @@ public class SupplyLineServiceTest {
     supplyLineService = new SupplyLineService(supplyLineRepository, programRepository, facilityRepository, supervisoryNodeRepository);
   }
 
+  @Test
+  public void shouldReturnSupplyLinesForSupervisoryNodesAndPrograms() {
+    List<Long> supervisoryNodeIds = asList(1L, 2L);
+    List<Long> programIds = asList(3L);
+    List<SupplyLine> supplyLines = asList(new SupplyLine());
+    when(supplyLineRepository.getSupplyLinesBy(supervisoryNodeIds, programIds)).thenReturn(supplyLines);
+
+    assertThat(supplyLineService.getSupplyLinesBy(supervisoryNodeIds, programIds), is(supplyLines));
+  }
+
+  @Test
+  public void shouldNotQuerySupplyLinesWhenNoSupervisoryNodesAreGiven() {
+    List<SupplyLine> supplyLines = supplyLineService.getSupplyLinesBy(new ArrayList<Long>(), asList(3L));
+
+    assertThat(supplyLines.isEmpty(), is(true));
+    verify(supplyLineRepository, never()).getSupplyLinesBy(anyCollection(), anyCollection());
+  }
+
   @Test
   public void shouldReturnSupplyLineBySupervisoryNodeAndProgram() {
     Program program = new Program();
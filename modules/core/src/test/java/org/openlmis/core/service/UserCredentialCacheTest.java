@@ -0,0 +1,65 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.core.service;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openlmis.db.categories.UnitTests;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+@Category(UnitTests.class)
+public class UserCredentialCacheTest {
+
+  private UserCredentialCache cache = new UserCredentialCache(300, 2);
+
+  @Test
+  public void shouldReturnUserIdForVerifiedCredentialsIgnoringUserNameCase() throws Exception {
+    cache.put("User", "secret", 3L);
+
+    assertThat(cache.get("user", "secret"), is(3L));
+    assertThat(cache.get("user", "other secret"), is(nullValue()));
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedCredentialsBeyondMaxSize() throws Exception {
+    cache.put("first", "secret", 1L);
+    cache.put("second", "secret", 2L);
+    cache.get("first", "secret");
+    cache.put("third", "secret", 3L);
+
+    assertThat(cache.get("first", "secret"), is(1L));
+    assertThat(cache.get("second", "secret"), is(nullValue()));
+    assertThat(cache.get("third", "secret"), is(3L));
+  }
+
+  @Test
+  public void shouldNotRememberCredentialsWhenTimeToLiveIsZero() throws Exception {
+    UserCredentialCache disabledCache = new UserCredentialCache(0, 2);
+
+    disabledCache.put("user", "secret", 3L);
+
+    assertThat(disabledCache.get("user", "secret"), is(nullValue()));
+  }
+
+  @Test
+  public void shouldEvictCredentialsOfInvalidatedUser() throws Exception {
+    cache.put("user", "secret", 3L);
+    cache.put("user", "old secret", 3L);
+
+    cache.invalidate(3L);
+
+    assertThat(cache.get("user", "secret"), is(nullValue()));
+    assertThat(cache.get("user", "old secret"), is(nullValue()));
+  }
+}
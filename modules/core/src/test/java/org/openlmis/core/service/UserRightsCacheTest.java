@@ -0,0 +1,123 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.core.service;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openlmis.core.domain.RoleAssignment;
+import org.openlmis.core.domain.SupervisoryNode;
+import org.openlmis.db.categories.UnitTests;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+import static org.openlmis.core.domain.Right.CREATE_REQUISITION;
+
+@Category(UnitTests.class)
+public class UserRightsCacheTest {
+
+  private UserRightsCache userRightsCache = new UserRightsCache(300, 100, 100);
+
+  @After
+  public void tearDown() throws Exception {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  public void shouldKeepRightsOfUserUntilInvalidated() throws Exception {
+    userRightsCache.get(1L).setRights(new HashSet<>(asList(CREATE_REQUISITION)));
+    userRightsCache.get(2L).setRights(new HashSet<>(asList(CREATE_REQUISITION)));
+
+    assertThat(userRightsCache.get(1L).getRights().contains(CREATE_REQUISITION), is(true));
+
+    userRightsCache.invalidate(1L);
+
+    assertThat(userRightsCache.get(1L).getRights(), is(nullValue()));
+    assertThat(userRightsCache.get(2L).getRights(), is(notNullValue()));
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedUserBeyondMaxUsers() throws Exception {
+    UserRightsCache cache = new UserRightsCache(300, 2, 100);
+    cache.get(1L).setRights(new HashSet<>(asList(CREATE_REQUISITION)));
+    cache.get(2L).setRights(new HashSet<>(asList(CREATE_REQUISITION)));
+    cache.get(1L);
+
+    cache.get(3L);
+
+    assertThat(cache.get(1L).getRights(), is(notNullValue()));
+    assertThat(cache.get(2L).getRights(), is(nullValue()));
+  }
+
+  @Test
+  public void shouldBoundFacilityAndProgramRightsOfAUser() throws Exception {
+    UserRightsCache cache = new UserRightsCache(300, 100, 2);
+    UserRightsCache.UserRights userRights = cache.get(1L);
+    userRights.setRights(1L, 1L, new HashSet<>(asList(CREATE_REQUISITION)));
+    userRights.setRights(2L, 1L, new HashSet<>(asList(CREATE_REQUISITION)));
+
+    userRights.setRights(3L, 1L, new HashSet<>(asList(CREATE_REQUISITION)));
+
+    assertThat(userRights.getRights(1L, 1L), is(nullValue()));
+    assertThat(userRights.getRights(3L, 1L), is(notNullValue()));
+  }
+
+  @Test
+  public void shouldNotKeepRightsIfTimeToLiveIsZero() throws Exception {
+    UserRightsCache cache = new UserRightsCache(0, 100, 100);
+
+    cache.get(1L).setRights(new HashSet<>(asList(CREATE_REQUISITION)));
+
+    assertThat(cache.get(1L).getRights(), is(nullValue()));
+  }
+
+  @Test
+  public void shouldIndexRightsByFacilityAndProgram() throws Exception {
+    userRightsCache.get(1L).setRights(2L, 3L, new HashSet<>(asList(CREATE_REQUISITION)));
+
+    assertThat(userRightsCache.get(1L).getRights(2L, 3L).contains(CREATE_REQUISITION), is(true));
+    assertThat(userRightsCache.get(1L).getRights(3L, 2L), is(nullValue()));
+  }
+
+  @Test
+  public void shouldIndexApproveAssignmentsBySupervisoryNodeAndProgram() throws Exception {
+    RoleAssignment roleAssignment = new RoleAssignment();
+    roleAssignment.setSupervisoryNode(new SupervisoryNode(4L));
+    roleAssignment.setProgramId(5L);
+    UserRightsCache.UserRights userRights = userRightsCache.get(1L);
+
+    userRights.setApproveAssignments(asList(roleAssignment));
+
+    assertThat(userRights.isApproveAssignmentsLoaded(), is(true));
+    assertThat(userRights.canApprove(4L, 5L), is(true));
+    assertThat(userRights.canApprove(4L, 6L), is(false));
+  }
+
+  @Test
+  public void shouldEvictRightsLoadedDuringTransactionOnceItCompletes() throws Exception {
+    TransactionSynchronizationManager.initSynchronization();
+    userRightsCache.invalidateAll();
+    userRightsCache.get(1L).setRights(new HashSet<>(asList(CREATE_REQUISITION)));
+
+    for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+      synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    assertThat(userRightsCache.get(1L).getRights(), is(nullValue()));
+  }
+}
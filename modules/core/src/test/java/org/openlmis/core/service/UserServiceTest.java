@@ -76,6 +76,9 @@ public class UserServiceTest {
   @Mock
   private MessageService messageService;
 
+  @Mock
+  private UserCredentialCache userCredentialCache;
+
   @InjectMocks
   private UserService userService;
 
@@ -247,6 +250,7 @@ public class UserServiceTest {
   @Test
   public void shouldUpdateUser() throws Exception {
     User user = new User();
+    user.setId(7L);
     final RoleAssignment roleAssignment = new RoleAssignment(1L, 1L, 1L, new SupervisoryNode(1L));
     List<RoleAssignment> supervisorRoles = asList(roleAssignment);
     user.setSupervisorRoles(supervisorRoles);
@@ -254,6 +258,7 @@ public class UserServiceTest {
     userService.update(user);
 
     verify(userRepository).update(user);
+    verify(userCredentialCache).invalidate(7L);
     verify(roleAssignmentService).saveRolesForUser(user);
   }
 
@@ -318,6 +323,7 @@ public class UserServiceTest {
     userService.updateUserPassword(userId, newPassword);
 
     verify(userRepository).updateUserPassword(userId, hashedPassword);
+    verify(userCredentialCache).invalidate(userId);
   }
 
   @Test
@@ -326,5 +332,6 @@ public class UserServiceTest {
     userService.disable(userId, 1L);
     verify(userRepository).disable(userId, 1L);
     verify(userRepository).deletePasswordResetTokenForUser(userId);
+    verify(userCredentialCache).invalidate(userId);
   }
 }
@@ -21,14 +21,17 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.openlmis.core.domain.BaseModel;
 import org.openlmis.core.exception.DataException;
+import org.openlmis.core.repository.helper.Savepoint;
 import org.openlmis.core.service.MessageService;
 import org.openlmis.db.categories.UnitTests;
 import org.openlmis.upload.Importable;
 import org.openlmis.upload.model.AuditFields;
+import org.openlmis.upload.model.UploadErrors;
 import org.springframework.dao.DataIntegrityViolationException;
 
-import java.util.Date;
+import java.util.*;
 
+import static java.util.Arrays.asList;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThat;
@@ -137,6 +140,98 @@ public class AbstractModelPersistenceHandlerTest {
     handler.execute(new TestImportable(), 2, new AuditFields(null));
   }
 
+  @Test
+  public void shouldCollectDuplicateRecordErrorsForAChunkWithoutStopping() throws Exception {
+    Date currentTimestamp = new Date();
+    BaseModel existing = new BaseModel() {
+    };
+    existing.setId(2L);
+    existing.setModifiedDate(currentTimestamp);
+    handler = instantiateHandler(existing);
+    handler.messageService = messageService;
+    handler.savepoint = new Savepoint();
+    when(messageService.message("duplicate.record.error.code")).thenReturn("Duplicate Record");
+    when(messageService.message("upload.record.error", "Duplicate Record", "1")).thenReturn("error in row 1");
+    when(messageService.message("upload.record.error", "Duplicate Record", "2")).thenReturn("error in row 2");
+    UploadErrors errors = new UploadErrors();
+
+    handler.execute(asList((Importable) new TestImportable(), new TestImportable()), asList(2, 3),
+      new AuditFields(1L, currentTimestamp), errors);
+
+    assertThat(errors.getMessages(), is(asList("error in row 1", "error in row 2")));
+  }
+
+  @Test
+  public void shouldRetryAChunkRowByRowAndReportOnlyTheRowsThatFail() throws Exception {
+    final TestImportable failing = new TestImportable("b");
+    final List<BaseModel> saved = new ArrayList<>();
+    handler = new AbstractModelPersistenceHandler() {
+      @Override
+      protected BaseModel getExisting(BaseModel record) {
+        return null;
+      }
+
+      @Override
+      protected void save(BaseModel record) {
+        if (record == failing) throw new DataException("error.invalid.value");
+        saved.add(record);
+      }
+    };
+    handler.messageService = messageService;
+    handler.savepoint = new Savepoint();
+    when(messageService.message("error.invalid.value")).thenReturn("invalid value");
+    when(messageService.message("upload.record.error", "invalid value", "2")).thenReturn("error in row 2");
+    TestImportable first = new TestImportable("a");
+    TestImportable last = new TestImportable("c");
+    UploadErrors errors = new UploadErrors();
+
+    handler.execute(asList((Importable) first, failing, last), asList(2, 3, 4), new AuditFields(1L, new Date()), errors);
+
+    assertThat(errors.getMessages(), is(asList("error in row 2")));
+    assertThat(saved, is(asList((BaseModel) first, first, last)));
+  }
+
+  @Test
+  public void shouldReportRecordRepeatedWithinAChunkAndSaveTheRestTogether() throws Exception {
+    KeyedTestHandler keyedHandler = new KeyedTestHandler(null);
+    handler = keyedHandler;
+    handler.messageService = messageService;
+    handler.savepoint = new Savepoint();
+    when(messageService.message("duplicate.record.error.code")).thenReturn("Duplicate Record");
+    when(messageService.message("upload.record.error", "Duplicate Record", "2")).thenReturn("error in row 2");
+    TestImportable first = new TestImportable("a");
+    TestImportable repeated = new TestImportable("A");
+    TestImportable other = new TestImportable("b");
+    UploadErrors errors = new UploadErrors();
+
+    handler.execute(asList((Importable) first, repeated, other), asList(2, 3, 4), new AuditFields(1L, new Date()), errors);
+
+    assertThat(errors.getMessages(), is(asList("error in row 2")));
+    assertThat(keyedHandler.savedTogether, is(asList((BaseModel) first, other)));
+    assertThat(keyedHandler.savedRowByRow.isEmpty(), is(true));
+  }
+
+  @Test
+  public void shouldSaveRowByRowWithNewRecordsResetIfSavingAChunkFails() throws Exception {
+    KeyedTestHandler keyedHandler = new KeyedTestHandler("b");
+    handler = keyedHandler;
+    handler.messageService = messageService;
+    handler.savepoint = new Savepoint();
+    when(messageService.message("error.incorrect.length")).thenReturn("invalid data length");
+    when(messageService.message("upload.record.error", "invalid data length", "2")).thenReturn("error in row 2");
+    TestImportable first = new TestImportable("a");
+    TestImportable failing = new TestImportable("b");
+    TestImportable last = new TestImportable("c");
+    UploadErrors errors = new UploadErrors();
+
+    handler.execute(asList((Importable) first, failing, last), asList(2, 3, 4), new AuditFields(1L, new Date()), errors);
+
+    assertThat(errors.getMessages(), is(asList("error in row 2")));
+    assertThat(keyedHandler.savedTogether.isEmpty(), is(true));
+    assertThat(keyedHandler.savedRowByRow, is(asList((BaseModel) first, last)));
+    assertThat(keyedHandler.idsOnRowByRowSave, is(asList(null, null, (Long) null)));
+  }
+
   private AbstractModelPersistenceHandler instantiateHandler(final BaseModel existing) {
     return new AbstractModelPersistenceHandler() {
       @Override
@@ -158,5 +253,66 @@ public class AbstractModelPersistenceHandlerTest {
 
   class TestImportable extends BaseModel implements Importable {
 
+    String code;
+
+    TestImportable() {
+    }
+
+    TestImportable(String code) {
+      this.code = code;
+    }
+  }
+
+  class KeyedTestHandler extends AbstractModelPersistenceHandler {
+
+    private String failingCode;
+
+    List<BaseModel> savedTogether = new ArrayList<>();
+
+    List<BaseModel> savedRowByRow = new ArrayList<>();
+
+    List<Long> idsOnRowByRowSave = new ArrayList<>();
+
+    KeyedTestHandler(String failingCode) {
+      this.failingCode = failingCode;
+    }
+
+    @Override
+    protected BaseModel getExisting(BaseModel record) {
+      throw new AssertionError("records should be looked up a chunk at a time");
+    }
+
+    @Override
+    protected void save(BaseModel record) {
+      idsOnRowByRowSave.add(record.getId());
+      if (((TestImportable) record).code.equals(failingCode)) throw new DataIntegrityViolationException("some error");
+      record.setId(1L);
+      savedRowByRow.add(record);
+    }
+
+    @Override
+    protected String getKey(BaseModel record) {
+      return ((TestImportable) record).code.toLowerCase();
+    }
+
+    @Override
+    protected Map<String, BaseModel> getExisting(List<BaseModel> records) {
+      return new HashMap<>();
+    }
+
+    @Override
+    protected void save(List<BaseModel> records) {
+      long id = 1;
+      for (BaseModel record : records) {
+        record.setId(id++);
+        if (((TestImportable) record).code.equals(failingCode)) throw new DataIntegrityViolationException("some error");
+      }
+      savedTogether.addAll(records);
+    }
+
+    @Override
+    public String getMessageKey() {
+      return "duplicate.record.error.code";
+    }
   }
 }
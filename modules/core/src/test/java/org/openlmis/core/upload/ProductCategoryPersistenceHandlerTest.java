@@ -13,15 +13,22 @@ package org.openlmis.core.upload;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.openlmis.core.domain.ProductCategory;
+import org.openlmis.core.repository.helper.Savepoint;
 import org.openlmis.core.service.ProductCategoryService;
 import org.openlmis.db.categories.UnitTests;
+import org.openlmis.upload.Importable;
 import org.openlmis.upload.model.AuditFields;
+import org.openlmis.upload.model.UploadErrors;
 
+import java.util.Date;
+
+import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 @Category(UnitTests.class)
 public class ProductCategoryPersistenceHandlerTest {
 
@@ -35,5 +42,25 @@ public class ProductCategoryPersistenceHandlerTest {
     new ProductCategoryPersistenceHandler(productCategoryService).execute(productCategory, 0, new AuditFields(1L, null));
     verify(productCategoryService).save(productCategory);
   }
-}
 
+  @Test
+  public void shouldLookUpAndSaveProductCategoriesAChunkAtATime() throws Exception {
+    ProductCategoryService productCategoryService = mock(ProductCategoryService.class);
+    ProductCategory newCategory = new ProductCategory("C1", "category 1", 1);
+    ProductCategory updatedCategory = new ProductCategory("C2", "category 2", 2);
+    ProductCategory existingCategory = new ProductCategory("c2", "old category", 2);
+    existingCategory.setId(7L);
+    existingCategory.setModifiedDate(new Date(0));
+    when(productCategoryService.getByCodes(asList("C1", "C2"))).thenReturn(asList(existingCategory));
+    UploadErrors errors = new UploadErrors();
+
+    ProductCategoryPersistenceHandler handler = new ProductCategoryPersistenceHandler(productCategoryService);
+    handler.savepoint = new Savepoint();
+
+    handler.execute(asList((Importable) newCategory, updatedCategory), asList(2, 3), new AuditFields(1L, new Date()), errors);
+
+    assertThat(errors.isEmpty(), is(true));
+    assertThat(updatedCategory.getId(), is(7L));
+    verify(productCategoryService).saveAll(asList(newCategory, updatedCategory));
+  }
+}
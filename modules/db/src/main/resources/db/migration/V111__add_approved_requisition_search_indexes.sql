@@ -0,0 +1,36 @@
+--
+-- This program is part of the OpenLMIS logistics management information system platform software.
+-- Copyright © 2013 VillageReach
+--
+-- This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+--  
+-- This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+-- You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+--
+
+-- Creating pg_trgm needs a superuser (on PostgreSQL 13+, CREATE on the database). When the migrating user cannot create it,
+-- the trigram indexes are skipped with a warning: searches still work, only without index support. A superuser can
+-- run CREATE EXTENSION pg_trgm beforehand, or later followed by the CREATE INDEX statements below.
+DO
+$body$
+BEGIN
+  IF NOT EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm') THEN
+    BEGIN
+      CREATE EXTENSION pg_trgm;
+    EXCEPTION WHEN insufficient_privilege OR undefined_file THEN
+      RAISE WARNING 'pg_trgm could not be created (%), skipping trigram indexes for approved requisition search', SQLERRM;
+      RETURN;
+    END;
+  END IF;
+
+  CREATE INDEX i_facilities_lower_name_trgm ON facilities USING gin (LOWER(name) gin_trgm_ops);
+  CREATE INDEX i_facilities_lower_code_trgm ON facilities USING gin (LOWER(code) gin_trgm_ops);
+  CREATE INDEX i_programs_lower_name_trgm ON programs USING gin (LOWER(name) gin_trgm_ops);
+END
+$body$;
+
+CREATE INDEX i_requisitions_approved_supervisoryNodeId_programId ON requisitions (supervisoryNodeId, programId)
+  WHERE status = 'APPROVED';
+
+CREATE INDEX i_requisition_status_changes_submitted_createdDate_rnrId ON requisition_status_changes (createdDate, rnrId)
+  WHERE status = 'SUBMITTED';
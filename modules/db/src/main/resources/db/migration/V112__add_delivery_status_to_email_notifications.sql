@@ -0,0 +1,18 @@
+--
+-- This program is part of the OpenLMIS logistics management information system platform software.
+-- Copyright © 2013 VillageReach
+--
+-- This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+--  
+-- This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+-- You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+--
+
+ALTER TABLE email_notifications ADD COLUMN attempts INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE email_notifications ADD COLUMN failed BOOLEAN NOT NULL DEFAULT FALSE;
+ALTER TABLE email_notifications ADD COLUMN nextAttemptDate TIMESTAMP;
+ALTER TABLE email_notifications ADD COLUMN sentDate TIMESTAMP;
+ALTER TABLE email_notifications ADD COLUMN lastError TEXT;
+
+CREATE INDEX i_email_notifications_pending_nextAttemptDate ON email_notifications (nextAttemptDate, id)
+  WHERE sent = FALSE AND failed = FALSE;
@@ -17,3 +17,4 @@ INSERT INTO templates (name, type, data) VALUES ('Requisition Groups Missing Sup
 INSERT INTO templates (name, type, data) VALUES ('Order Routing Inconsistencies', 'Consistency Report', E'\\xACED0005737200286E65742E73662E6A61737065727265706F7274732E656E67696E652E4A61737065725265706F727400000000000027D80200034C000B636F6D70696C65446174617400164C6A6176612F696F2F53657269616C697A61626C653B4C0011636F6D70696C654E616D655375666669787400124C6A6176612F6C616E672F537472696E673B4C000D636F6D70696C6572436C61737371007E00027872002D6E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A52426173655265706F727400000000000027D802002A49001950534555444F5F53455249414C5F56455253494F4E5F55494449000C626F74746F6D4D617267696E49000B636F6C756D6E436F756E7449000D636F6C756D6E53706163696E6749000B636F6C756D6E57696474685A001069676E6F7265506167696E6174696F6E5A00136973466C6F6174436F6C756D6E466F6F7465725A0010697353756D6D6172794E6577506167655A0020697353756D6D6172795769746850616765486561646572416E64466F6F7465725A000E69735469746C654E65775061676549000A6C6566744D617267696E42000B6F7269656E746174696F6E49000A7061676548656967687449000970616765576964746842000A7072696E744F7264657249000B72696768744D617267696E490009746F704D617267696E42000E7768656E4E6F44617461547970654C000A6261636B67726F756E647400244C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5242616E643B4C000F636F6C756D6E446972656374696F6E7400334C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F52756E446972656374696F6E456E756D3B4C000C636F6C756D6E466F6F74657271007E00044C000C636F6C756D6E48656164657271007E00045B000864617461736574737400285B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A52446174617365743B4C000C64656661756C745374796C657400254C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A525374796C653B4C000664657461696C71007E00044C000D64657461696C53656374696F6E7400274C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5253656374696F6E3B4C0012666F726D6174466163746F7279436C61737371007E00024C000A696D706F72747353657474000F4C6A6176612F7574696C2F5365743B4C00086C616E677561676571007E00024C000E6C61737450616765466F6F74657271007E00044C000B6D61696E446174617365747400274C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A52446174617365743B4C00046E616D6571007E00024C00066E6F4461746171007E00044C00106F7269656E746174696F6E56616C75657400324C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F4F7269656E746174696F6E456E756D3B4C000A70616765466F6F74657271007E00044C000A7061676548656164657271007E00044C000F7072696E744F7264657256616C75657400314C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F5072696E744F72646572456E756D3B5B00067374796C65737400265B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A525374796C653B4C000773756D6D61727971007E00045B000974656D706C6174657374002F5B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A525265706F727454656D706C6174653B4C00057469746C6571007E00044C00137768656E4E6F446174615479706556616C75657400354C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F5768656E4E6F4461746154797065456E756D3B78700000C3540000000000000001000000000000030E000100000000000000000000022B0000030E000000000000000000007372002B6E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A524261736542616E6400000000000027D802000749001950534555444F5F53455249414C5F56455253494F4E5F5549444900066865696768745A000E697353706C6974416C6C6F7765644C00137072696E745768656E45787072657373696F6E74002A4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5245787072657373696F6E3B4C000D70726F706572746965734D617074002D4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5250726F706572746965734D61703B4C000973706C6974547970657400104C6A6176612F6C616E672F427974653B4C000E73706C69745479706556616C75657400304C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F53706C697454797065456E756D3B787200336E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A5242617365456C656D656E7447726F757000000000000027D80200024C00086368696C6472656E7400104C6A6176612F7574696C2F4C6973743B4C000C656C656D656E7447726F757074002C4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A52456C656D656E7447726F75703B7870737200136A6176612E7574696C2E41727261794C6973747881D21D99C7619D03000149000473697A6578700000000077040000000A78700000C35400000000017070707E72002E6E65742E73662E6A61737065727265706F7274732E656E67696E652E747970652E53706C697454797065456E756D00000000000000001200007872000E6A6176612E6C616E672E456E756D00000000000000001200007870740007535452455443487E7200316E65742E73662E6A61737065727265706F7274732E656E67696E652E747970652E52756E446972656374696F6E456E756D00000000000000001200007871007E001D7400034C545270707070707372002E6E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A524261736553656374696F6E00000000000027D80200015B000562616E64737400255B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5242616E643B7870757200255B4C6E65742E73662E6A61737065727265706F7274732E656E67696E652E4A5242616E643B95DD7EEC8CCA85350200007870000000017371007E00117371007E001A0000000777040000000A737200306E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A5242617365546578744669656C6400000000000027D802001549001950534555444F5F53455249414C5F56455253494F4E5F55494449000D626F6F6B6D61726B4C6576656C42000E6576616C756174696F6E54696D6542000F68797065726C696E6B54617267657442000D68797065726C696E6B547970655A0015697353747265746368576974684F766572666C6F774C0014616E63686F724E616D6545787072657373696F6E71007E00124C000F6576616C756174696F6E47726F75707400254C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5247726F75703B4C00136576616C756174696F6E54696D6556616C75657400354C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F4576616C756174696F6E54696D65456E756D3B4C000A65787072657373696F6E71007E00124C001968797065726C696E6B416E63686F7245787072657373696F6E71007E00124C001768797065726C696E6B5061676545787072657373696F6E71007E00125B001368797065726C696E6B506172616D65746572737400335B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5248797065726C696E6B506172616D657465723B4C001C68797065726C696E6B5265666572656E636545787072657373696F6E71007E00124C001A68797065726C696E6B546F6F6C74697045787072657373696F6E71007E00124C001768797065726C696E6B5768656E45787072657373696F6E71007E00124C000F6973426C616E6B5768656E4E756C6C7400134C6A6176612F6C616E672F426F6F6C65616E3B4C000A6C696E6B54617267657471007E00024C00086C696E6B5479706571007E00024C00077061747465726E71007E00024C00117061747465726E45787072657373696F6E71007E0012787200326E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A524261736554657874456C656D656E7400000000000027D802002549001950534555444F5F53455249414C5F56455253494F4E5F5549444C0006626F7264657271007E00144C000B626F72646572436F6C6F727400104C6A6176612F6177742F436F6C6F723B4C000C626F74746F6D426F7264657271007E00144C0011626F74746F6D426F72646572436F6C6F7271007E00304C000D626F74746F6D50616464696E677400134C6A6176612F6C616E672F496E74656765723B4C0008666F6E744E616D6571007E00024C0008666F6E7453697A6571007E00314C0013686F72697A6F6E74616C416C69676E6D656E7471007E00144C0018686F72697A6F6E74616C416C69676E6D656E7456616C75657400364C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F486F72697A6F6E74616C416C69676E456E756D3B4C00066973426F6C6471007E002E4C000869734974616C696371007E002E4C000D6973506466456D62656464656471007E002E4C000F6973537472696B655468726F75676871007E002E4C000C69735374796C65645465787471007E002E4C000B6973556E6465726C696E6571007E002E4C000A6C656674426F7264657271007E00144C000F6C656674426F72646572436F6C6F7271007E00304C000B6C65667450616464696E6771007E00314C00076C696E65426F787400274C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A524C696E65426F783B4C000B6C696E6553706163696E6771007E00144C00106C696E6553706163696E6756616C75657400324C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F4C696E6553706163696E67456E756D3B4C00066D61726B757071007E00024C000770616464696E6771007E00314C00097061726167726170687400294C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A525061726167726170683B4C000B706466456E636F64696E6771007E00024C000B706466466F6E744E616D6571007E00024C000B7269676874426F7264657271007E00144C00107269676874426F72646572436F6C6F7271007E00304C000C726967687450616464696E6771007E00314C0008726F746174696F6E71007E00144C000D726F746174696F6E56616C756574002F4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F526F746174696F6E456E756D3B4C0009746F70426F7264657271007E00144C000E746F70426F72646572436F6C6F7271007E00304C000A746F7050616464696E6771007E00314C0011766572746963616C416C69676E6D656E7471007E00144C0016766572746963616C416C69676E6D656E7456616C75657400344C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F566572746963616C416C69676E456E756D3B7872002E6E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A5242617365456C656D656E7400000000000027D802001B49001950534555444F5F53455249414C5F56455253494F4E5F5549444900066865696768745A001769735072696E74496E466972737457686F6C6542616E645A001569735072696E74526570656174656456616C7565735A001A69735072696E745768656E44657461696C4F766572666C6F77735A0015697352656D6F76654C696E655768656E426C616E6B42000C706F736974696F6E5479706542000B7374726574636854797065490005776964746849000178490001794C00096261636B636F6C6F7271007E00304C001464656661756C745374796C6550726F76696465727400344C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5244656661756C745374796C6550726F76696465723B4C000C656C656D656E7447726F757071007E00184C0009666F7265636F6C6F7271007E00304C00036B657971007E00024C00046D6F646571007E00144C00096D6F646556616C756574002B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F4D6F6465456E756D3B4C000B706172656E745374796C6571007E00074C0018706172656E745374796C654E616D655265666572656E636571007E00024C0011706F736974696F6E5479706556616C75657400334C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F506F736974696F6E54797065456E756D3B4C00137072696E745768656E45787072657373696F6E71007E00124C00157072696E745768656E47726F75704368616E67657371007E002B4C000D70726F706572746965734D617071007E00135B001370726F706572747945787072657373696F6E737400335B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5250726F706572747945787072657373696F6E3B4C0010737472657463685479706556616C75657400324C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F5374726574636854797065456E756D3B4C0004757569647400104C6A6176612F7574696C2F555549443B78700000C354000000140001000000000000002600000000000000007071007E001071007E00287070707070707E7200316E65742E73662E6A61737065727265706F7274732E656E67696E652E747970652E506F736974696F6E54797065456E756D00000000000000001200007871007E001D7400134649585F52454C41544956455F544F5F544F50707070707E7200306E65742E73662E6A61737065727265706F7274732E656E67696E652E747970652E5374726574636854797065456E756D00000000000000001200007871007E001D74000A4E4F5F535452455443487372000E6A6176612E7574696C2E55554944BC9903F7986D852F0200024A000C6C65617374536967426974734A000B6D6F7374536967426974737870A3C35F9512886F9F0CB682E445B14BAE0000C354707070707070737200116A6176612E6C616E672E496E746567657212E2A0A4F781873802000149000576616C7565787200106A6176612E6C616E672E4E756D62657286AC951D0B94E08B02000078700000000A707E7200346E65742E73662E6A61737065727265706F7274732E656E67696E652E747970652E486F72697A6F6E74616C416C69676E456E756D00000000000000001200007871007E001D74000643454E5445527070707070707070707372002E6E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A52426173654C696E65426F7800000000000027D802000B4C000D626F74746F6D50616464696E6771007E00314C0009626F74746F6D50656E74002B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F626173652F4A52426F7850656E3B4C000C626F78436F6E7461696E657274002C4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A52426F78436F6E7461696E65723B4C000B6C65667450616464696E6771007E00314C00076C65667450656E71007E004F4C000770616464696E6771007E00314C000370656E71007E004F4C000C726967687450616464696E6771007E00314C0008726967687450656E71007E004F4C000A746F7050616464696E6771007E00314C0006746F7050656E71007E004F787070737200336E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A5242617365426F78426F74746F6D50656E00000000000027D80200007872002D6E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A5242617365426F7850656E00000000000027D80200014C00076C696E65426F7871007E00337872002A6E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A524261736550656E00000000000027D802000649001950534555444F5F53455249414C5F56455253494F4E5F5549444C00096C696E65436F6C6F7271007E00304C00096C696E655374796C6571007E00144C000E6C696E655374796C6556616C75657400304C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F4C696E655374796C65456E756D3B4C00096C696E6557696474687400114C6A6176612F6C616E672F466C6F61743B4C000C70656E436F6E7461696E657274002C4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5250656E436F6E7461696E65723B78700000C3547070707071007E005171007E005171007E003F70737200316E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A5242617365426F784C65667450656E00000000000027D80200007871007E00530000C3547070707071007E005171007E0051707371007E00530000C3547070707071007E005171007E005170737200326E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A5242617365426F78526967687450656E00000000000027D80200007871007E00530000C3547070707071007E005171007E005170737200306E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A5242617365426F78546F7050656E00000000000027D80200007871007E00530000C3547070707071007E005171007E005170707070737200306E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A524261736550617261677261706800000000000027D802000A4C000F66697273744C696E65496E64656E7471007E00314C000A6C656674496E64656E7471007E00314C000B6C696E6553706163696E6771007E00344C000F6C696E6553706163696E6753697A6571007E00564C0012706172616772617068436F6E7461696E65727400324C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A52506172616772617068436F6E7461696E65723B4C000B7269676874496E64656E7471007E00314C000C73706163696E67416674657271007E00314C000D73706163696E674265666F726571007E00314C000C74616253746F70576964746871007E00314C000874616253746F707371007E001778707070707071007E003F70707070707070707070707070707070700000C354000000000000000070707E7200336E65742E73662E6A61737065727265706F7274732E656E67696E652E747970652E4576616C756174696F6E54696D65456E756D00000000000000001200007871007E001D7400034E4F57737200316E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A524261736545787072657373696F6E00000000000027D802000449000269645B00066368756E6B737400305B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5245787072657373696F6E4368756E6B3B4C000E76616C7565436C6173734E616D6571007E00024C001276616C7565436C6173735265616C4E616D6571007E0002787000000009757200305B4C6E65742E73662E6A61737065727265706F7274732E656E67696E652E4A5245787072657373696F6E4368756E6B3B6D59CFDE694BA355020000787000000001737200366E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A524261736545787072657373696F6E4368756E6B00000000000027D8020002420004747970654C00047465787471007E000278700474000C5245504F52545F434F554E54707070707070707070707070707371007E002A0000C35400000014000100000000000000A400000026000000007071007E001071007E002870707070707071007E00417070707071007E00447371007E004698F4376032BDF48F2D97D1A7F057497D0000C3547070707070707070707070707070707070707371007E004E707371007E00520000C3547070707071007E007071007E007071007E006E707371007E00590000C3547070707071007E007071007E0070707371007E00530000C3547070707071007E007071007E0070707371007E005C0000C3547070707071007E007071007E0070707371007E005E0000C3547070707071007E007071007E0070707070707371007E00607070707071007E006E70707070707070707070707070707070700000C3540000000000000000707071007E00647371007E00660000000A7571007E0069000000037371007E006B0374001573757065727669736F72795F6E6F64655F636F64657371007E006B017400052B272D272B7371007E006B0374001573757065727669736F72795F6E6F64655F6E616D65707070707070707070707070707371007E002A0000C35400000014000100000000000000F4000000CA000000007071007E001071007E002870707070707071007E00417070707071007E00447371007E00468B47C18385282767A2F59C46025D43280000C3547070707070707070707070707070707070707371007E004E707371007E00520000C3547070707071007E008171007E008171007E007F707371007E00590000C3547070707071007E008171007E0081707371007E00530000C3547070707071007E008171007E0081707371007E005C0000C3547070707071007E008171007E0081707371007E005E0000C3547070707071007E008171007E0081707070707371007E00607070707071007E007F70707070707070707070707070707070700000C3540000000000000000707071007E00647371007E00660000000B7571007E0069000000037371007E006B0374000E77617265686F7573655F636F64657371007E006B017400052B272D272B7371007E006B0374000E77617265686F7573655F6E616D65707070707070707070707070707371007E002A0000C354000000140001000000000000004F00000225000000007071007E001071007E002870707070707071007E00417070707071007E00447371007E0046BE94070FFEE2354714E89F25808142C80000C3547070707070707070707070707070707070707371007E004E707371007E00520000C3547070707071007E009271007E009271007E0090707371007E00590000C3547070707071007E009271007E0092707371007E00530000C3547070707071007E009271007E0092707371007E005C0000C3547070707071007E009271007E0092707371007E005E0000C3547070707071007E009271007E0092707070707371007E00607070707071007E009070707070707070707070707070707070700000C3540000000000000000707071007E00647371007E00660000000C7571007E0069000000017371007E006B0374000F6674705F63726564656E7469616C73707070707070707070707070707371007E002A0000C354000000140001000000000000002D000001BE000000007071007E001071007E002870707070707071007E00417070707071007E00447371007E0046AD15DB8D78A464ACDC1C17AE7DCC427F0000C3547070707070707070707070707070707070707371007E004E707371007E00520000C3547070707071007E009F71007E009F71007E009D707371007E00590000C3547070707071007E009F71007E009F707371007E00530000C3547070707071007E009F71007E009F707371007E005C0000C3547070707071007E009F71007E009F707371007E005E0000C3547070707071007E009F71007E009F707070707371007E00607070707071007E009D70707070707070707070707070707070700000C3540000000000000000707071007E00647371007E00660000000D7571007E0069000000017371007E006B03740006616374697665707070707070707070707070707371007E002A0000C354000000140001000000000000003A000001EB000000007071007E001071007E002870707070707071007E00417070707071007E00447371007E00469861A07F42FC42A53FD6951D3B9346150000C3547070707070707070707070707070707070707371007E004E707371007E00520000C3547070707071007E00AC71007E00AC71007E00AA707371007E00590000C3547070707071007E00AC71007E00AC707371007E00530000C3547070707071007E00AC71007E00AC707371007E005C0000C3547070707071007E00AC71007E00AC707371007E005E0000C3547070707071007E00AC71007E00AC707070707371007E00607070707071007E00AA70707070707070707070707070707070700000C3540000000000000000707071007E00647371007E00660000000E7571007E0069000000017371007E006B03740007656E61626C6564707070707070707070707070707371007E002A0000C354000000140001000000000000009900000274000000007071007E001071007E002870707070707071007E00417070707071007E00447371007E0046BF4B5560F753E6AE3B6201EF3BB64BB50000C3547070707070707070707070707070707070707371007E004E707371007E00520000C3547070707071007E00B971007E00B971007E00B7707371007E00590000C3547070707071007E00B971007E00B9707371007E00530000C3547070707071007E00B971007E00B9707371007E005C0000C3547070707071007E00B971007E00B9707371007E005E0000C3547070707071007E00B971007E00B9707070707371007E00607070707071007E00B770707070707070707070707070707070700000C3540000000000000000707071007E00647371007E00660000000F7571007E0069000000017371007E006B0374000C70726F6772616D5F6E616D657070707070707070707070707078700000C35400000014017070707070707400046A617661707372002E6E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A52426173654461746173657400000000000027D802001149001950534555444F5F53455249414C5F56455253494F4E5F5549445A000669734D61696E4200177768656E5265736F757263654D697373696E67547970655B00066669656C64737400265B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A524669656C643B4C001066696C74657245787072657373696F6E71007E00125B000667726F7570737400265B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5247726F75703B4C00046E616D6571007E00025B000A706172616D657465727374002A5B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A52506172616D657465723B4C000D70726F706572746965734D617071007E00134C000571756572797400254C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5251756572793B4C000E7265736F7572636542756E646C6571007E00024C000E7363726970746C6574436C61737371007E00025B000A7363726970746C65747374002A5B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A525363726970746C65743B5B000A736F72744669656C647374002A5B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A52536F72744669656C643B4C00047575696471007E003E5B00097661726961626C65737400295B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A525661726961626C653B4C001C7768656E5265736F757263654D697373696E675479706556616C756574003E4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F5768656E5265736F757263654D697373696E6754797065456E756D3B78700000C3540100757200265B4C6E65742E73662E6A61737065727265706F7274732E656E67696E652E4A524669656C643B023CDFC74E2AF27002000078700000000A7372002C6E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A52426173654669656C6400000000000027D80200054C000B6465736372697074696F6E71007E00024C00046E616D6571007E00024C000D70726F706572746965734D617071007E00134C000E76616C7565436C6173734E616D6571007E00024C001276616C7565436C6173735265616C4E616D6571007E0002787070740017737570706C795F6C696E655F6465736372697074696F6E7372002B6E65742E73662E6A61737065727265706F7274732E656E67696E652E4A5250726F706572746965734D617000000000000027D80200034C00046261736571007E00134C000E70726F706572746965734C69737471007E00174C000D70726F706572746965734D617074000F4C6A6176612F7574696C2F4D61703B78707070707400106A6176612E6C616E672E537472696E67707371007E00D17074001573757065727669736F72795F6E6F64655F636F64657371007E00D47070707400106A6176612E6C616E672E537472696E67707371007E00D17074001573757065727669736F72795F6E6F64655F6E616D657371007E00D47070707400106A6176612E6C616E672E537472696E67707371007E00D17074000E77617265686F7573655F636F64657371007E00D47070707400106A6176612E6C616E672E537472696E67707371007E00D17074000E77617265686F7573655F6E616D657371007E00D47070707400106A6176612E6C616E672E537472696E67707371007E00D1707400066163746976657371007E00D47070707400116A6176612E6C616E672E426F6F6C65616E707371007E00D170740007656E61626C65647371007E00D47070707400116A6176612E6C616E672E426F6F6C65616E707371007E00D17074000F6674705F63726564656E7469616C737371007E00D47070707400116A6176612E6C616E672E426F6F6C65616E707371007E00D17074000C70726F6772616D5F636F64657371007E00D47070707400106A6176612E6C616E672E537472696E67707371007E00D17074000C70726F6772616D5F6E616D657371007E00D47070707400106A6176612E6C616E672E537472696E677070707400077265706F7274317572002A5B4C6E65742E73662E6A61737065727265706F7274732E656E67696E652E4A52506172616D657465723B22000C8D2AC36021020000787000000013737200306E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A5242617365506172616D6574657200000000000027D80200095A000E6973466F7250726F6D7074696E675A000F697353797374656D446566696E65644C001664656661756C7456616C756545787072657373696F6E71007E00124C000B6465736372697074696F6E71007E00024C00046E616D6571007E00024C000E6E6573746564547970654E616D6571007E00024C000D70726F706572746965734D617071007E00134C000E76616C7565436C6173734E616D6571007E00024C001276616C7565436C6173735265616C4E616D6571007E000278700101707074000E5245504F52545F434F4E54455854707371007E00D47070707400296E65742E73662E6A61737065727265706F7274732E656E67696E652E5265706F7274436F6E74657874707371007E00FF010170707400155245504F52545F504152414D45544552535F4D4150707371007E00D470707074000D6A6176612E7574696C2E4D6170707371007E00FF0101707074000D4A41535045525F5245504F5254707371007E00D47070707400286E65742E73662E6A61737065727265706F7274732E656E67696E652E4A61737065725265706F7274707371007E00FF010170707400115245504F52545F434F4E4E454354494F4E707371007E00D47070707400136A6176612E73716C2E436F6E6E656374696F6E707371007E00FF010170707400105245504F52545F4D41585F434F554E54707371007E00D47070707400116A6176612E6C616E672E496E7465676572707371007E00FF010170707400125245504F52545F444154415F534F55524345707371007E00D47070707400286E65742E73662E6A61737065727265706F7274732E656E67696E652E4A5244617461536F75726365707371007E00FF010170707400105245504F52545F5343524950544C4554707371007E00D470707074002F6E65742E73662E6A61737065727265706F7274732E656E67696E652E4A5241627374726163745363726970746C6574707371007E00FF0101707074000D5245504F52545F4C4F43414C45707371007E00D47070707400106A6176612E7574696C2E4C6F63616C65707371007E00FF010170707400165245504F52545F5245534F555243455F42554E444C45707371007E00D47070707400186A6176612E7574696C2E5265736F7572636542756E646C65707371007E00FF010170707400105245504F52545F54494D455F5A4F4E45707371007E00D47070707400126A6176612E7574696C2E54696D655A6F6E65707371007E00FF010170707400155245504F52545F464F524D41545F464143544F5259707371007E00D470707074002E6E65742E73662E6A61737065727265706F7274732E656E67696E652E7574696C2E466F726D6174466163746F7279707371007E00FF010170707400135245504F52545F434C4153535F4C4F41444552707371007E00D47070707400156A6176612E6C616E672E436C6173734C6F61646572707371007E00FF0101707074001A5245504F52545F55524C5F48414E444C45525F464143544F5259707371007E00D47070707400206A6176612E6E65742E55524C53747265616D48616E646C6572466163746F7279707371007E00FF010170707400145245504F52545F46494C455F5245534F4C564552707371007E00D470707074002D6E65742E73662E6A61737065727265706F7274732E656E67696E652E7574696C2E46696C655265736F6C766572707371007E00FF010170707400105245504F52545F54454D504C41544553707371007E00D47070707400146A6176612E7574696C2E436F6C6C656374696F6E707371007E00FF0101707074000B534F52545F4649454C4453707371007E00D470707074000E6A6176612E7574696C2E4C697374707371007E00FF0101707074000646494C544552707371007E00D47070707400296E65742E73662E6A61737065727265706F7274732E656E67696E652E4461746173657446696C746572707371007E00FF010170707400125245504F52545F5649525455414C495A4552707371007E00D47070707400296E65742E73662E6A61737065727265706F7274732E656E67696E652E4A525669727475616C697A6572707371007E00FF0101707074001449535F49474E4F52455F504147494E4154494F4E707371007E00D47070707400116A6176612E6C616E672E426F6F6C65616E707371007E00D4707371007E001A0000000377040000000374000C697265706F72742E7A6F6F6D740009697265706F72742E78740009697265706F72742E7978737200116A6176612E7574696C2E486173684D61700507DAC1C31660D103000246000A6C6F6164466163746F724900097468726573686F6C6478703F400000000000037708000000040000000371007E01507400013071007E014E740003312E3071007E014F74000130787372002C6E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A5242617365517565727900000000000027D80200025B00066368756E6B7374002B5B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5251756572794368756E6B3B4C00086C616E677561676571007E000278707572002B5B4C6E65742E73662E6A61737065727265706F7274732E656E67696E652E4A5251756572794368756E6B3B409F00A1E8BA34A4020000787000000001737200316E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A524261736551756572794368756E6B00000000000027D8020003420004747970654C00047465787471007E00025B0006746F6B656E737400135B4C6A6176612F6C616E672F537472696E673B78700174030C53454C4543540A2020736C2E6465736372697074696F6E20415320737570706C795F6C696E655F6465736372697074696F6E2C0A2020736E2E636F6465202020202020202041532073757065727669736F72795F6E6F64655F636F64652C0A2020736E2E6E616D65202020202020202041532073757065727669736F72795F6E6F64655F6E616D652C0A2020662E636F646520202020202020202041532077617265686F7573655F636F64652C0A2020662E6E616D6520202020202020202041532077617265686F7573655F6E616D652C0A2020662E616374697665202020202020204153206163746976652C0A2020662E656E61626C6564202020202020415320656E61626C65642C0A202043415345205748454E206666642E6964204953206E756C6C205448454E2046414C53450A2020454C5345205452554520454E4420204153206674705F63726564656E7469616C732C0A2020702E636F646520202020202020202041532070726F6772616D5F636F64652C0A2020702E6E616D6520202020202020202041532070726F6772616D5F6E616D650A46524F4D20737570706C795F6C696E657320736C20494E4E4552204A4F494E20666163696C697469657320660A202020204F4E20736C2E737570706C79696E67666163696C6974796964203D20662E69640A2020494E4E4552204A4F494E2070726F6772616D7320700A202020204F4E20736C2E70726F6772616D6964203D20702E69640A2020494E4E4552204A4F494E2073757065727669736F72795F6E6F64657320736E0A202020204F4E20736C2E73757065727669736F72796E6F64656964203D20736E2E69640A20204C454654204A4F494E20666163696C6974795F6674705F64657461696C73206666640A202020204F4E20662E6964203D206666642E666163696C69747969640A574845524520286666642E6964204953206E756C6C204F5220662E656E61626C6564203D2046414C53452920414E4420736C2E6578706F72746F7264657273203D20545255450A4F5244455220425920662E636F64652C20662E6E616D652C20702E6E616D657074000373716C707070707371007E0046B3D554B1AEFE96CEA0A4E8610726422F757200295B4C6E65742E73662E6A61737065727265706F7274732E656E67696E652E4A525661726961626C653B62E6837C982CB7440200007870000000057372002F6E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A52426173655661726961626C6500000000000027D802001149001950534555444F5F53455249414C5F56455253494F4E5F55494442000B63616C63756C6174696F6E42000D696E6372656D656E74547970655A000F697353797374656D446566696E65644200097265736574547970654C001063616C63756C6174696F6E56616C75657400324C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F43616C63756C6174696F6E456E756D3B4C000A65787072657373696F6E71007E00124C000E696E6372656D656E7447726F757071007E002B4C0012696E6372656D656E745479706556616C75657400344C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F496E6372656D656E7454797065456E756D3B4C001B696E6372656D656E746572466163746F7279436C6173734E616D6571007E00024C001F696E6372656D656E746572466163746F7279436C6173735265616C4E616D6571007E00024C0016696E697469616C56616C756545787072657373696F6E71007E00124C00046E616D6571007E00024C000A726573657447726F757071007E002B4C000E72657365745479706556616C75657400304C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F526573657454797065456E756D3B4C000E76616C7565436C6173734E616D6571007E00024C001276616C7565436C6173735265616C4E616D6571007E00027870000077EE000001007E7200306E65742E73662E6A61737065727265706F7274732E656E67696E652E747970652E43616C63756C6174696F6E456E756D00000000000000001200007871007E001D74000653595354454D70707E7200326E65742E73662E6A61737065727265706F7274732E656E67696E652E747970652E496E6372656D656E7454797065456E756D00000000000000001200007871007E001D7400044E4F4E4570707371007E0066000000007571007E0069000000017371007E006B017400186E6577206A6176612E6C616E672E496E7465676572283129707074000B504147455F4E554D424552707E72002E6E65742E73662E6A61737065727265706F7274732E656E67696E652E747970652E526573657454797065456E756D00000000000000001200007871007E001D7400065245504F525471007E0113707371007E0163000077EE0000010071007E0169707071007E016C70707371007E0066000000017571007E0069000000017371007E006B017400186E6577206A6176612E6C616E672E496E7465676572283129707074000D434F4C554D4E5F4E554D424552707E71007E01737400045041474571007E0113707371007E0163000077EE000001007E71007E0168740005434F554E547371007E0066000000027571007E0069000000017371007E006B017400186E6577206A6176612E6C616E672E496E746567657228312970707071007E016C70707371007E0066000000037571007E0069000000017371007E006B017400186E6577206A6176612E6C616E672E496E7465676572283029707074000C5245504F52545F434F554E547071007E017471007E0113707371007E0163000077EE0000010071007E017F7371007E0066000000047571007E0069000000017371007E006B017400186E6577206A6176612E6C616E672E496E746567657228312970707071007E016C70707371007E0066000000057571007E0069000000017371007E006B017400186E6577206A6176612E6C616E672E496E7465676572283029707074000A504147455F434F554E547071007E017C71007E0113707371007E0163000077EE0000010071007E017F7371007E0066000000067571007E0069000000017371007E006B017400186E6577206A6176612E6C616E672E496E746567657228312970707071007E016C70707371007E0066000000077571007E0069000000017371007E006B017400186E6577206A6176612E6C616E672E496E7465676572283029707074000C434F4C554D4E5F434F554E54707E71007E0173740006434F4C554D4E71007E0113707E72003C6E65742E73662E6A61737065727265706F7274732E656E67696E652E747970652E5768656E5265736F757263654D697373696E6754797065456E756D00000000000000001200007871007E001D7400044E554C4C71007E00FC7371007E00117371007E001A0000000277040000000A737200316E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A52426173655374617469635465787400000000000027D80200014C00047465787471007E00027871007E002F0000C354000000140001000000000000030E00000000000000207071007E001071007E01A370707070707071007E00417070707071007E00447371007E00468769AF621A8E549B488F93D8D2FE4DF60000C3547070707070707371007E00480000000F7071007E004C7070707070707070707371007E004E707371007E00520000C3547070707071007E01A971007E01A971007E01A6707371007E00590000C3547070707071007E01A971007E01A9707371007E00530000C3547070707071007E01A971007E01A9707371007E005C0000C3547070707071007E01A971007E01A9707371007E005E0000C3547070707071007E01A971007E01A9707070707371007E00607070707071007E01A670707070707070707070707070707070707400124E6F2070726F626C656D7320666F756E642E7371007E01A50000C354000000200001000000000000030E00000000000000007071007E001071007E01A370707070707071007E00417070707071007E00447371007E00469238092A1177A2F66659BA1E006B4F7F0000C354707070707074000953616E7353657269667371007E0048000000187071007E004C7070707070737200116A6176612E6C616E672E426F6F6C65616ECD207280D59CFAEE0200015A000576616C75657870017070707371007E004E707371007E00520000C3547070707071007E01B771007E01B771007E01B1707371007E00590000C3547070707071007E01B771007E01B7707371007E00530000C3547070707071007E01B771007E01B7707371007E005C0000C3547070707071007E01B771007E01B7707371007E005E0000C3547070707071007E01B771007E01B7707070707371007E00607070707071007E01B1707070707070707070707070707070707074001D4F7264657220526F7574696E6720496E636F6E73697374656E6369657378700000C3540000003401707070707E7200306E65742E73662E6A61737065727265706F7274732E656E67696E652E747970652E4F7269656E746174696F6E456E756D00000000000000001200007871007E001D7400094C414E4453434150457371007E00117371007E001A0000000277040000000A7371007E002A0000C3540000001400010000000000000048000002C6000000007071007E001071007E01C270707070707071007E00417070707071007E00447371007E0046A6CD4885E72541551ABCD2C71CE14A4B0000C354707070707074000953616E7353657269667371007E00480000000870707070707070707070707371007E004E707371007E00520000C3547070707071007E01C871007E01C871007E01C4707371007E00590000C3547070707071007E01C871007E01C8707371007E00530000C3547070707071007E01C871007E01C8707371007E005C0000C3547070707071007E01C871007E01C8707371007E005E0000C3547070707071007E01C871007E01C8707070707371007E00607070707071007E01C470707070707070707070707070707070700000C3540000000000000000707071007E00647371007E0066000000107571007E0069000000017371007E006B0474000B504147455F4E554D424552707070707070707070707070707371007E01A50000C35400000014000100000000000002C600000000000000007071007E001071007E01C270707070707071007E00417070707071007E00447371007E0046B62F68C26194B7C32E4A2985B90149630000C3547070707070707070707070707070707070707371007E004E707371007E00520000C3547070707071007E01D571007E01D571007E01D3707371007E00590000C3547070707071007E01D571007E01D5707371007E00530000C3547070707071007E01D571007E01D5707371007E005C0000C3547070707071007E01D571007E01D5707371007E005E0000C3547070707071007E01D571007E01D5707070707371007E00607070707071007E01D370707070707070707070707070707070707400012078700000C3540000001401707070707371007E00117371007E001A0000000777040000000A7371007E01A50000C35400000014000100000000000000F3000000CB000000007071007E001071007E01DD70707070707071007E00417070707071007E00447371007E00469F72D87CD57C5A0D9A07393F55224BCE0000C354707070707074000953616E7353657269667371007E00480000000C707071007E01B67070707071007E01B67070707371007E004E707371007E00520000C3547070707071007E01E371007E01E371007E01DF707371007E00590000C3547070707071007E01E371007E01E3707371007E00530000C3547070707071007E01E371007E01E3707371007E005C0000C3547070707071007E01E371007E01E3707371007E005E0000C3547070707071007E01E371007E01E3707070707371007E00607070707071007E01DF707070707070707070707070707070707074000957617265686F7573657371007E01A50000C35400000014000100000000000000A500000026000000007071007E001071007E01DD70707070707071007E00417070707071007E00447371007E0046835ADF817AA47786A3153510D28746AD0000C354707070707074000953616E73536572696671007E01E2707071007E01B67070707071007E01B67070707371007E004E707371007E00520000C3547070707071007E01EE71007E01EE71007E01EB707371007E00590000C3547070707071007E01EE71007E01EE707371007E00530000C3547070707071007E01EE71007E01EE707371007E005C0000C3547070707071007E01EE71007E01EE707371007E005E0000C3547070707071007E01EE71007E01EE707070707371007E00607070707071007E01EB707070707070707070707070707070707074001053757065727669736F7279204E6F64657371007E01A50000C354000000140001000000000000002600000000000000007071007E001071007E01DD70707070707071007E00417070707071007E00447371007E0046B48A4FEB4161ED645A7F10BA925C4CA70000C354707070707074000953616E73536572696671007E01E27071007E004C71007E01B67070707071007E01B67070707371007E004E707371007E00520000C3547070707071007E01F971007E01F971007E01F6707371007E00590000C3547070707071007E01F971007E01F9707371007E00530000C3547070707071007E01F971007E01F9707371007E005C0000C3547070707071007E01F971007E01F9707371007E005E0000C3547070707071007E01F971007E01F9707070707371007E00607070707071007E01F67070707070707070707070707070707070740004532E4E6F7371007E01A50000C354000000140001000000000000004F00000225000000007071007E001071007E01DD70707070707071007E00417070707071007E00447371007E004695811259740284767A2BCE85864E42E70000C354707070707074000953616E73536572696671007E01E2707071007E01B67070707071007E01B67070707371007E004E707371007E00520000C3547070707071007E020471007E020471007E0201707371007E00590000C3547070707071007E020471007E0204707371007E00530000C3547070707071007E020471007E0204707371007E005C0000C3547070707071007E020471007E0204707371007E005E0000C3547070707071007E020471007E0204707070707371007E00607070707071007E0201707070707070707070707070707070707074000B46545020646566696E65647371007E01A50000C354000000140001000000000000002D000001BE000000007071007E001071007E01DD70707070707071007E00417070707071007E00447371007E0046B7B4B30A376656BA715DCBAEDC744FA20000C354707070707074000953616E73536572696671007E01E2707071007E01B67070707071007E01B67070707371007E004E707371007E00520000C3547070707071007E020F71007E020F71007E020C707371007E00590000C3547070707071007E020F71007E020F707371007E00530000C3547070707071007E020F71007E020F707371007E005C0000C3547070707071007E020F71007E020F707371007E005E0000C3547070707071007E020F71007E020F707070707371007E00607070707071007E020C70707070707070707070707070707070707400064163746976657371007E01A50000C354000000140001000000000000003A000001EB000000007071007E001071007E01DD70707070707071007E00417070707071007E00447371007E0046A1D1003A31F7A8ED10A02754CCE143370000C354707070707074000953616E73536572696671007E01E2707071007E01B67070707071007E01B67070707371007E004E707371007E00520000C3547070707071007E021A71007E021A71007E0217707371007E00590000C3547070707071007E021A71007E021A707371007E00530000C3547070707071007E021A71007E021A707371007E005C0000C3547070707071007E021A71007E021A707371007E005E0000C3547070707071007E021A71007E021A707070707371007E00607070707071007E02177070707070707070707070707070707070740007456E61626C65647371007E01A50000C354000000140001000000000000009900000274000000007071007E001071007E01DD70707070707071007E00417070707071007E00447371007E00469B596670C74BD785EF159A2F33D942BA0000C354707070707074000953616E73536572696671007E01E2707071007E01B67070707071007E01B67070707371007E004E707371007E00520000C3547070707071007E022571007E022571007E0222707371007E00590000C3547070707071007E022571007E0225707371007E00530000C3547070707071007E022571007E0225707371007E005C0000C3547070707071007E022571007E0225707371007E005E0000C3547070707071007E022571007E0225707070707371007E00607070707071007E0222707070707070707070707070707070707074000750726F6772616D78700000C354000000140170707071007E001E7E72002F6E65742E73662E6A61737065727265706F7274732E656E67696E652E747970652E5072696E744F72646572456E756D00000000000000001200007871007E001D740008564552544943414C757200265B4C6E65742E73662E6A61737065727265706F7274732E656E67696E652E4A525374796C653BD49CC311D90572350200007870000000087372002C6E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A52426173655374796C65000000000000271102003A49001950534555444F5F53455249414C5F56455253494F4E5F5549445A0009697344656661756C744C00096261636B636F6C6F7271007E00304C0006626F7264657271007E00144C000B626F72646572436F6C6F7271007E00304C000C626F74746F6D426F7264657271007E00144C0011626F74746F6D426F72646572436F6C6F7271007E00304C000D626F74746F6D50616464696E6771007E00315B0011636F6E646974696F6E616C5374796C65737400315B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A52436F6E646974696F6E616C5374796C653B4C001464656661756C745374796C6550726F766964657271007E00394C000466696C6C71007E00144C000966696C6C56616C756574002B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F46696C6C456E756D3B4C0008666F6E744E616D6571007E00024C0008666F6E7453697A6571007E00314C0009666F7265636F6C6F7271007E00304C0013686F72697A6F6E74616C416C69676E6D656E7471007E00144C0018686F72697A6F6E74616C416C69676E6D656E7456616C756571007E00324C000F6973426C616E6B5768656E4E756C6C71007E002E4C00066973426F6C6471007E002E4C000869734974616C696371007E002E4C000D6973506466456D62656464656471007E002E4C000F6973537472696B655468726F75676871007E002E4C000C69735374796C65645465787471007E002E4C000B6973556E6465726C696E6571007E002E4C000A6C656674426F7264657271007E00144C000F6C656674426F72646572436F6C6F7271007E00304C000B6C65667450616464696E6771007E00314C00076C696E65426F7871007E00334C00076C696E6550656E7400234C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5250656E3B4C000B6C696E6553706163696E6771007E00144C00106C696E6553706163696E6756616C756571007E00344C00066D61726B757071007E00024C00046D6F646571007E00144C00096D6F646556616C756571007E003A4C00046E616D6571007E00024C000770616464696E6771007E00314C000970617261677261706871007E00354C000B706172656E745374796C6571007E00074C0018706172656E745374796C654E616D655265666572656E636571007E00024C00077061747465726E71007E00024C000B706466456E636F64696E6771007E00024C000B706466466F6E744E616D6571007E00024C000370656E71007E00144C000C706F736974696F6E5479706571007E00144C000672616469757371007E00314C000B7269676874426F7264657271007E00144C00107269676874426F72646572436F6C6F7271007E00304C000C726967687450616464696E6771007E00314C0008726F746174696F6E71007E00144C000D726F746174696F6E56616C756571007E00364C000A7363616C65496D61676571007E00144C000F7363616C65496D61676556616C75657400314C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F5363616C65496D616765456E756D3B4C000B737472657463685479706571007E00144C0009746F70426F7264657271007E00144C000E746F70426F72646572436F6C6F7271007E00304C000A746F7050616464696E6771007E00314C0011766572746963616C416C69676E6D656E7471007E00144C0016766572746963616C416C69676E6D656E7456616C756571007E003778700000C35400707070707070707070707070707070707070707070707070707371007E004E707371007E00520000C3547070707071007E023871007E023871007E0237707371007E00590000C3547070707071007E023871007E0238707371007E00530000C3547372000E6A6176612E6177742E436F6C6F7201A51783108F337502000546000666616C70686149000576616C75654C0002637374001B4C6A6176612F6177742F636F6C6F722F436F6C6F7253706163653B5B00096672676276616C75657400025B465B00066676616C756571007E023E787000000000FF00000070707070707372000F6A6176612E6C616E672E466C6F6174DAEDC9A2DB3CF0EC02000146000576616C75657871007E00493F80000071007E023871007E0238707371007E005C0000C3547070707071007E023871007E0238707371007E005E0000C3547070707071007E023871007E02387371007E00540000C3547070707071007E023770707070707400057461626C65707371007E00607070707071007E023770707070707070707070707070707070707070707070707070707371007E02320000C354007371007E023C00000000FFF0F8FF7070707070707070707070707070707070707070707070707070707371007E004E707371007E00520000C3547070707071007E024971007E024971007E0247707371007E00590000C3547070707071007E024971007E0249707371007E00530000C3547371007E023C00000000FF00000070707070707371007E02403F00000071007E024971007E0249707371007E005C0000C3547070707071007E024971007E0249707371007E005E0000C3547070707071007E024971007E02497371007E00540000C3547070707071007E0247707070707E7200296E65742E73662E6A61737065727265706F7274732E656E67696E652E747970652E4D6F6465456E756D00000000000000001200007871007E001D7400064F50415155457400087461626C655F5448707371007E00607070707071007E024770707070707070707070707070707070707070707070707070707371007E02320000C354007371007E023C00000000FFBFE1FF7070707070707070707070707070707070707070707070707070707371007E004E707371007E00520000C3547070707071007E025971007E025971007E0257707371007E00590000C3547070707071007E025971007E0259707371007E00530000C3547371007E023C00000000FF00000070707070707371007E02403F00000071007E025971007E0259707371007E005C0000C3547070707071007E025971007E0259707371007E005E0000C3547070707071007E025971007E02597371007E00540000C3547070707071007E02577070707071007E02537400087461626C655F4348707371007E00607070707071007E025770707070707070707070707070707070707070707070707070707371007E02320000C354007371007E023C00000000FFFFFFFF7070707070707070707070707070707070707070707070707070707371007E004E707371007E00520000C3547070707071007E026671007E026671007E0264707371007E00590000C3547070707071007E026671007E0266707371007E00530000C3547371007E023C00000000FF00000070707070707371007E02403F00000071007E026671007E0266707371007E005C0000C3547070707071007E026671007E0266707371007E005E0000C3547070707071007E026671007E02667371007E00540000C3547070707071007E02647070707071007E02537400087461626C655F5444707371007E00607070707071007E026470707070707070707070707070707070707070707070707070707371007E02320000C35400707070707070707070707070707070707070707070707070707371007E004E707371007E00520000C3547070707071007E027271007E027271007E0271707371007E00590000C3547070707071007E027271007E0272707371007E00530000C3547371007E023C00000000FF00000070707070707371007E02403F80000071007E027271007E0272707371007E005C0000C3547070707071007E027271007E0272707371007E005E0000C3547070707071007E027271007E02727371007E00540000C3547070707071007E027170707070707400077461626C652031707371007E00607070707071007E027170707070707070707070707070707070707070707070707070707371007E02320000C354007371007E023C00000000FFF0F8FF7070707070707070707070707070707070707070707070707070707371007E004E707371007E00520000C3547070707071007E027F71007E027F71007E027D707371007E00590000C3547070707071007E027F71007E027F707371007E00530000C3547371007E023C00000000FF00000070707070707371007E02403F00000071007E027F71007E027F707371007E005C0000C3547070707071007E027F71007E027F707371007E005E0000C3547070707071007E027F71007E027F7371007E00540000C3547070707071007E027D7070707071007E025374000A7461626C6520315F5448707371007E00607070707071007E027D70707070707070707070707070707070707070707070707070707371007E02320000C354007371007E023C00000000FFBFE1FF7070707070707070707070707070707070707070707070707070707371007E004E707371007E00520000C3547070707071007E028C71007E028C71007E028A707371007E00590000C3547070707071007E028C71007E028C707371007E00530000C3547371007E023C00000000FF00000070707070707371007E02403F00000071007E028C71007E028C707371007E005C0000C3547070707071007E028C71007E028C707371007E005E0000C3547070707071007E028C71007E028C7371007E00540000C3547070707071007E028A7070707071007E025374000A7461626C6520315F4348707371007E00607070707071007E028A70707070707070707070707070707070707070707070707070707371007E02320000C354007371007E023C00000000FFFFFFFF7070707070707070707070707070707070707070707070707070707371007E004E707371007E00520000C3547070707071007E029971007E029971007E0297707371007E00590000C3547070707071007E029971007E0299707371007E00530000C3547371007E023C00000000FF00000070707070707371007E02403F00000071007E029971007E0299707371007E005C0000C3547070707071007E029971007E0299707371007E005E0000C3547070707071007E029971007E02997371007E00540000C3547070707071007E02977070707071007E025374000A7461626C6520315F5444707371007E00607070707071007E0297707070707070707070707070707070707070707070707070707070707371007E00117371007E001A0000000277040000000A7371007E01A50000C35400000020000100000000000002C500000000000000007071007E001071007E02A470707070707071007E00417070707071007E00447371007E00468F61A735AB2074B7212194E972CA43210000C354707070707074000953616E73536572696671007E01B47071007E004C707070707071007E01B67070707371007E004E707371007E00520000C3547070707071007E02A971007E02A971007E02A6707371007E00590000C3547070707071007E02A971007E02A9707371007E00530000C3547070707071007E02A971007E02A9707371007E005C0000C3547070707071007E02A971007E02A9707371007E005E0000C3547070707071007E02A971007E02A9707070707371007E00607070707071007E02A6707070707070707070707070707070707074001D4F7264657220526F7574696E6720496E636F6E73697374656E636965737371007E002A0000C3540000002000010000000000000048000002C5000000007071007E001071007E02A470707070707071007E00417070707071007E00447371007E004689AB02F2DDA79BB52DD094DCE4B543C00000C354707070707074000953616E73536572696671007E01C770707070707070707070707371007E004E707371007E00520000C3547070707071007E02B471007E02B471007E02B1707371007E00590000C3547070707071007E02B471007E02B4707371007E00530000C3547070707071007E02B471007E02B4707371007E005C0000C3547070707071007E02B471007E02B4707371007E005E0000C3547070707071007E02B471007E02B4707070707371007E00607070707071007E02B170707070707070707070707070707070700000C3540000000000000000707071007E00647371007E0066000000087571007E0069000000017371007E006B017400146E6577206A6176612E7574696C2E446174652829707070707070707070707074000A64642F4D4D2F797979797078700000C3540000002001707070707E7200336E65742E73662E6A61737065727265706F7274732E656E67696E652E747970652E5768656E4E6F4461746154797065456E756D00000000000000001200007871007E001D74000F4E4F5F444154415F53454354494F4E737200366E65742E73662E6A61737065727265706F7274732E656E67696E652E64657369676E2E4A525265706F7274436F6D70696C654461746100000000000027D80200034C001363726F7373746162436F6D70696C654461746171007E00D54C001264617461736574436F6D70696C654461746171007E00D54C00166D61696E44617461736574436F6D70696C654461746171007E000178707371007E01513F4000000000000C77080000001000000000787371007E01513F4000000000000C7708000000100000000078757200025B42ACF317F8060854E002000078700000197DCAFEBABE0000002E010401001C7265706F7274315F313338303137383732303936345F32323932373407000101002C6E65742F73662F6A61737065727265706F7274732F656E67696E652F66696C6C2F4A524576616C7561746F72070003010017706172616D657465725F5245504F52545F4C4F43414C450100324C6E65742F73662F6A61737065727265706F7274732F656E67696E652F66696C6C2F4A5246696C6C506172616D657465723B010017706172616D657465725F4A41535045525F5245504F525401001C706172616D657465725F5245504F52545F5649525455414C495A455201001A706172616D657465725F5245504F52545F54494D455F5A4F4E45010015706172616D657465725F534F52545F4649454C445301001E706172616D657465725F5245504F52545F46494C455F5245534F4C56455201001A706172616D657465725F5245504F52545F5343524950544C455401001F706172616D657465725F5245504F52545F504152414D45544552535F4D415001001B706172616D657465725F5245504F52545F434F4E4E454354494F4E010018706172616D657465725F5245504F52545F434F4E5445585401001D706172616D657465725F5245504F52545F434C4153535F4C4F41444552010024706172616D657465725F5245504F52545F55524C5F48414E444C45525F464143544F525901001C706172616D657465725F5245504F52545F444154415F534F5552434501001E706172616D657465725F49535F49474E4F52455F504147494E4154494F4E010010706172616D657465725F46494C54455201001F706172616D657465725F5245504F52545F464F524D41545F464143544F525901001A706172616D657465725F5245504F52545F4D41585F434F554E5401001A706172616D657465725F5245504F52545F54454D504C41544553010020706172616D657465725F5245504F52545F5245534F555243455F42554E444C450100146669656C645F77617265686F7573655F6E616D6501002E4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F66696C6C2F4A5246696C6C4669656C643B01000D6669656C645F656E61626C65640100126669656C645F70726F6772616D5F636F64650100126669656C645F70726F6772616D5F6E616D6501001B6669656C645F73757065727669736F72795F6E6F64655F636F646501001B6669656C645F73757065727669736F72795F6E6F64655F6E616D650100156669656C645F6674705F63726564656E7469616C7301000C6669656C645F6163746976650100146669656C645F77617265686F7573655F636F646501001D6669656C645F737570706C795F6C696E655F6465736372697074696F6E0100147661726961626C655F504147455F4E554D4245520100314C6E65742F73662F6A61737065727265706F7274732F656E67696E652F66696C6C2F4A5246696C6C5661726961626C653B0100167661726961626C655F434F4C554D4E5F4E554D4245520100157661726961626C655F5245504F52545F434F554E540100137661726961626C655F504147455F434F554E540100157661726961626C655F434F4C554D4E5F434F554E540100063C696E69743E010003282956010004436F64650C002A002B0A0004002D0C00050006090002002F0C0007000609000200310C0008000609000200330C0009000609000200350C000A000609000200370C000B000609000200390C000C0006090002003B0C000D0006090002003D0C000E0006090002003F0C000F000609000200410C0010000609000200430C0011000609000200450C0012000609000200470C0013000609000200490C00140006090002004B0C00150006090002004D0C00160006090002004F0C0017000609000200510C0018000609000200530C0019001A09000200550C001B001A09000200570C001C001A09000200590C001D001A090002005B0C001E001A090002005D0C001F001A090002005F0C0020001A09000200610C0021001A09000200630C0022001A09000200650C0023001A09000200670C0024002509000200690C00260025090002006B0C00270025090002006D0C00280025090002006F0C00290025090002007101000F4C696E654E756D6265725461626C6501000E637573746F6D697A6564496E6974010030284C6A6176612F7574696C2F4D61703B4C6A6176612F7574696C2F4D61703B4C6A6176612F7574696C2F4D61703B295601000A696E6974506172616D73010012284C6A6176612F7574696C2F4D61703B29560C007600770A0002007801000A696E69744669656C64730C007A00770A0002007B010008696E6974566172730C007D00770A0002007E01000D5245504F52545F4C4F43414C4508008001000D6A6176612F7574696C2F4D6170070082010003676574010026284C6A6176612F6C616E672F4F626A6563743B294C6A6176612F6C616E672F4F626A6563743B0C008400850B008300860100306E65742F73662F6A61737065727265706F7274732F656E67696E652F66696C6C2F4A5246696C6C506172616D6574657207008801000D4A41535045525F5245504F525408008A0100125245504F52545F5649525455414C495A455208008C0100105245504F52545F54494D455F5A4F4E4508008E01000B534F52545F4649454C44530800900100145245504F52545F46494C455F5245534F4C5645520800920100105245504F52545F5343524950544C45540800940100155245504F52545F504152414D45544552535F4D41500800960100115245504F52545F434F4E4E454354494F4E08009801000E5245504F52545F434F4E5445585408009A0100135245504F52545F434C4153535F4C4F4144455208009C01001A5245504F52545F55524C5F48414E444C45525F464143544F525908009E0100125245504F52545F444154415F534F555243450800A001001449535F49474E4F52455F504147494E4154494F4E0800A201000646494C5445520800A40100155245504F52545F464F524D41545F464143544F52590800A60100105245504F52545F4D41585F434F554E540800A80100105245504F52545F54454D504C415445530800AA0100165245504F52545F5245534F555243455F42554E444C450800AC01000E77617265686F7573655F6E616D650800AE01002C6E65742F73662F6A61737065727265706F7274732F656E67696E652F66696C6C2F4A5246696C6C4669656C640700B0010007656E61626C65640800B201000C70726F6772616D5F636F64650800B401000C70726F6772616D5F6E616D650800B601001573757065727669736F72795F6E6F64655F636F64650800B801001573757065727669736F72795F6E6F64655F6E616D650800BA01000F6674705F63726564656E7469616C730800BC0100066163746976650800BE01000E77617265686F7573655F636F64650800C0010017737570706C795F6C696E655F6465736372697074696F6E0800C201000B504147455F4E554D4245520800C401002F6E65742F73662F6A61737065727265706F7274732F656E67696E652F66696C6C2F4A5246696C6C5661726961626C650700C601000D434F4C554D4E5F4E554D4245520800C801000C5245504F52545F434F554E540800CA01000A504147455F434F554E540800CC01000C434F4C554D4E5F434F554E540800CE0100086576616C756174650100152849294C6A6176612F6C616E672F4F626A6563743B01000A457863657074696F6E730100136A6176612F6C616E672F5468726F7761626C650700D30100116A6176612F6C616E672F496E74656765720700D5010004284929560C002A00D70A00D600D801000E6A6176612F7574696C2F446174650700DA0A00DB002D01000867657456616C756501001428294C6A6176612F6C616E672F4F626A6563743B0C00DD00DE0A00C700DF0100166A6176612F6C616E672F537472696E674275666665720700E10A00B100DF0100106A6176612F6C616E672F537472696E670700E401000776616C75654F66010026284C6A6176612F6C616E672F4F626A6563743B294C6A6176612F6C616E672F537472696E673B0C00E600E70A00E500E8010015284C6A6176612F6C616E672F537472696E673B29560C002A00EA0A00E200EB010006617070656E6401001B2843294C6A6176612F6C616E672F537472696E674275666665723B0C00ED00EE0A00E200EF01002C284C6A6176612F6C616E672F537472696E673B294C6A6176612F6C616E672F537472696E674275666665723B0C00ED00F10A00E200F2010008746F537472696E6701001428294C6A6176612F6C616E672F537472696E673B0C00F400F50A00E200F60100116A6176612F6C616E672F426F6F6C65616E0700F801000B6576616C756174654F6C6401000B6765744F6C6456616C75650C00FB00DE0A00C700FC0A00B100FC0100116576616C75617465457374696D61746564010011676574457374696D6174656456616C75650C010000DE0A00C7010101000A536F7572636546696C650021000200040000002200020005000600000002000700060000000200080006000000020009000600000002000A000600000002000B000600000002000C000600000002000D000600000002000E000600000002000F0006000000020010000600000002001100060000000200120006000000020013000600000002001400060000000200150006000000020016000600000002001700060000000200180006000000020019001A00000002001B001A00000002001C001A00000002001D001A00000002001E001A00000002001F001A000000020020001A000000020021001A000000020022001A000000020023001A00000002002400250000000200260025000000020027002500000002002800250000000200290025000000080001002A002B0001002C0000015300020001000000AF2AB7002E2A01B500302A01B500322A01B500342A01B500362A01B500382A01B5003A2A01B5003C2A01B5003E2A01B500402A01B500422A01B500442A01B500462A01B500482A01B5004A2A01B5004C2A01B5004E2A01B500502A01B500522A01B500542A01B500562A01B500582A01B5005A2A01B5005C2A01B5005E2A01B500602A01B500622A01B500642A01B500662A01B500682A01B5006A2A01B5006C2A01B5006E2A01B500702A01B50072B100000001007300000092002400000012000400190009001A000E001B0013001C0018001D001D001E0022001F00270020002C00210031002200360023003B00240040002500450026004A0027004F0028005400290059002A005E002B0063002C0068002D006D002E0072002F00770030007C00310081003200860033008B00340090003500950036009A0037009F003800A4003900A9003A00AE00120001007400750001002C0000003400020004000000102A2BB700792A2CB7007C2A2DB7007FB10000000100730000001200040000004600050047000A0048000F00490002007600770001002C000001BB00030002000001572A2B1281B900870200C00089C00089B500302A2B128BB900870200C00089C00089B500322A2B128DB900870200C00089C00089B500342A2B128FB900870200C00089C00089B500362A2B1291B900870200C00089C00089B500382A2B1293B900870200C00089C00089B5003A2A2B1295B900870200C00089C00089B5003C2A2B1297B900870200C00089C00089B5003E2A2B1299B900870200C00089C00089B500402A2B129BB900870200C00089C00089B500422A2B129DB900870200C00089C00089B500442A2B129FB900870200C00089C00089B500462A2B12A1B900870200C00089C00089B500482A2B12A3B900870200C00089C00089B5004A2A2B12A5B900870200C00089C00089B5004C2A2B12A7B900870200C00089C00089B5004E2A2B12A9B900870200C00089C00089B500502A2B12ABB900870200C00089C00089B500522A2B12ADB900870200C00089C00089B50054B10000000100730000005200140000005100120052002400530036005400480055005A0056006C0057007E00580090005900A2005A00B4005B00C6005C00D8005D00EA005E00FC005F010E0060012000610132006201440063015600640002007A00770001002C000000F500030002000000B52A2B12AFB900870200C000B1C000B1B500562A2B12B3B900870200C000B1C000B1B500582A2B12B5B900870200C000B1C000B1B5005A2A2B12B7B900870200C000B1C000B1B5005C2A2B12B9B900870200C000B1C000B1B5005E2A2B12BBB900870200C000B1C000B1B500602A2B12BDB900870200C000B1C000B1B500622A2B12BFB900870200C000B1C000B1B500642A2B12C1B900870200C000B1C000B1B500662A2B12C3B900870200C000B1C000B1B50068B10000000100730000002E000B0000006C0012006D0024006E0036006F00480070005A0071006C0072007E00730090007400A2007500B400760002007D00770001002C00000087000300020000005B2A2B12C5B900870200C000C7C000C7B5006A2A2B12C9B900870200C000C7C000C7B5006C2A2B12CBB900870200C000C7C000C7B5006E2A2B12CDB900870200C000C7C000C7B500702A2B12CFB900870200C000C7C000C7B50072B10000000100730000001A00060000007E0012007F002400800036008100480082005A0083000100D000D1000200D200000004000100D4002C00000210000300030000016C014D1BAA000001670000000000000010000000510000005D0000006900000075000000810000008D00000099000000A5000000B1000000BC000000CA000000F70000012400000132000001400000014E0000015CBB00D65904B700D94DA7010DBB00D65904B700D94DA70101BB00D65904B700D94DA700F5BB00D65903B700D94DA700E9BB00D65904B700D94DA700DDBB00D65903B700D94DA700D1BB00D65904B700D94DA700C5BB00D65903B700D94DA700B9BB00DB59B700DC4DA700AE2AB4006EB600E0C000D64DA700A0BB00E2592AB4005EB600E3C000E5B800E9B700EC102DB600F02AB40060B600E3C000E5B600F3B600F74DA70073BB00E2592AB40066B600E3C000E5B800E9B700EC102DB600F02AB40056B600E3C000E5B600F3B600F74DA700462AB40062B600E3C000F94DA700382AB40064B600E3C000F94DA7002A2AB40058B600E3C000F94DA7001C2AB4005CB600E3C000E54DA7000E2AB4006AB600E0C000D64D2CB00000000100730000009200240000008B0002008D00540091005D00920060009600690097006C009B0075009C007800A0008100A1008400A5008D00A6009000AA009900AB009C00AF00A500B000A800B400B100B500B400B900BC00BA00BF00BE00CA00BF00CD00C300F700C400FA00C8012400C9012700CD013200CE013500D2014000D3014300D7014E00D8015100DC015C00DD015F00E1016A00E9000100FA00D1000200D200000004000100D4002C00000210000300030000016C014D1BAA000001670000000000000010000000510000005D0000006900000075000000810000008D00000099000000A5000000B1000000BC000000CA000000F70000012400000132000001400000014E0000015CBB00D65904B700D94DA7010DBB00D65904B700D94DA70101BB00D65904B700D94DA700F5BB00D65903B700D94DA700E9BB00D65904B700D94DA700DDBB00D65903B700D94DA700D1BB00D65904B700D94DA700C5BB00D65903B700D94DA700B9BB00DB59B700DC4DA700AE2AB4006EB600FDC000D64DA700A0BB00E2592AB4005EB600FEC000E5B800E9B700EC102DB600F02AB40060B600FEC000E5B600F3B600F74DA70073BB00E2592AB40066B600FEC000E5B800E9B700EC102DB600F02AB40056B600FEC000E5B600F3B600F74DA700462AB40062B600FEC000F94DA700382AB40064B600FEC000F94DA7002A2AB40058B600FEC000F94DA7001C2AB4005CB600FEC000E54DA7000E2AB4006AB600FDC000D64D2CB0000000010073000000920024000000F2000200F4005400F8005D00F9006000FD006900FE006C01020075010300780107008101080084010C008D010D0090011100990112009C011600A5011700A8011B00B1011C00B4012000BC012100BF012500CA012600CD012A00F7012B00FA012F012401300127013401320135013501390140013A0143013E014E013F01510143015C0144015F0148016A0150000100FF00D1000200D200000004000100D4002C00000210000300030000016C014D1BAA000001670000000000000010000000510000005D0000006900000075000000810000008D00000099000000A5000000B1000000BC000000CA000000F70000012400000132000001400000014E0000015CBB00D65904B700D94DA7010DBB00D65904B700D94DA70101BB00D65904B700D94DA700F5BB00D65903B700D94DA700E9BB00D65904B700D94DA700DDBB00D65903B700D94DA700D1BB00D65904B700D94DA700C5BB00D65903B700D94DA700B9BB00DB59B700DC4DA700AE2AB4006EB60102C000D64DA700A0BB00E2592AB4005EB600E3C000E5B800E9B700EC102DB600F02AB40060B600E3C000E5B600F3B600F74DA70073BB00E2592AB40066B600E3C000E5B800E9B700EC102DB600F02AB40056B600E3C000E5B600F3B600F74DA700462AB40062B600E3C000F94DA700382AB40064B600E3C000F94DA7002A2AB40058B600E3C000F94DA7001C2AB4005CB600E3C000E54DA7000E2AB4006AB60102C000D64D2CB0000000010073000000920024000001590002015B0054015F005D01600060016400690165006C01690075016A0078016E0081016F00840173008D01740090017800990179009C017D00A5017E00A8018200B1018300B4018700BC018800BF018C00CA018D00CD019100F7019200FA0196012401970127019B0132019C013501A0014001A1014301A5014E01A6015101AA015C01AB015F01AF016A01B7000101030000000200017400155F313338303137383732303936345F3232393237347400326E65742E73662E6A61737065727265706F7274732E656E67696E652E64657369676E2E4A524A61766163436F6D70696C6572');
 INSERT INTO templates (name, type, data) VALUES ('Delivery Zones Missing Manage Distribution Role', 'Consistency Report', E'\\xACED0005737200286E65742E73662E6A61737065727265706F7274732E656E67696E652E4A61737065725265706F727400000000000027D80200034C000B636F6D70696C65446174617400164C6A6176612F696F2F53657269616C697A61626C653B4C0011636F6D70696C654E616D655375666669787400124C6A6176612F6C616E672F537472696E673B4C000D636F6D70696C6572436C61737371007E00027872002D6E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A52426173655265706F727400000000000027D802002A49001950534555444F5F53455249414C5F56455253494F4E5F55494449000C626F74746F6D4D617267696E49000B636F6C756D6E436F756E7449000D636F6C756D6E53706163696E6749000B636F6C756D6E57696474685A001069676E6F7265506167696E6174696F6E5A00136973466C6F6174436F6C756D6E466F6F7465725A0010697353756D6D6172794E6577506167655A0020697353756D6D6172795769746850616765486561646572416E64466F6F7465725A000E69735469746C654E65775061676549000A6C6566744D617267696E42000B6F7269656E746174696F6E49000A7061676548656967687449000970616765576964746842000A7072696E744F7264657249000B72696768744D617267696E490009746F704D617267696E42000E7768656E4E6F44617461547970654C000A6261636B67726F756E647400244C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5242616E643B4C000F636F6C756D6E446972656374696F6E7400334C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F52756E446972656374696F6E456E756D3B4C000C636F6C756D6E466F6F74657271007E00044C000C636F6C756D6E48656164657271007E00045B000864617461736574737400285B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A52446174617365743B4C000C64656661756C745374796C657400254C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A525374796C653B4C000664657461696C71007E00044C000D64657461696C53656374696F6E7400274C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5253656374696F6E3B4C0012666F726D6174466163746F7279436C61737371007E00024C000A696D706F72747353657474000F4C6A6176612F7574696C2F5365743B4C00086C616E677561676571007E00024C000E6C61737450616765466F6F74657271007E00044C000B6D61696E446174617365747400274C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A52446174617365743B4C00046E616D6571007E00024C00066E6F4461746171007E00044C00106F7269656E746174696F6E56616C75657400324C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F4F7269656E746174696F6E456E756D3B4C000A70616765466F6F74657271007E00044C000A7061676548656164657271007E00044C000F7072696E744F7264657256616C75657400314C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F5072696E744F72646572456E756D3B5B00067374796C65737400265B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A525374796C653B4C000773756D6D61727971007E00045B000974656D706C6174657374002F5B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A525265706F727454656D706C6174653B4C00057469746C6571007E00044C00137768656E4E6F446174615479706556616C75657400354C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F5768656E4E6F4461746154797065456E756D3B78700000C3540000000000000001000000000000030E000100000000000000000000022B0000030E000000000000000000007372002B6E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A524261736542616E6400000000000027D802000749001950534555444F5F53455249414C5F56455253494F4E5F5549444900066865696768745A000E697353706C6974416C6C6F7765644C00137072696E745768656E45787072657373696F6E74002A4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5245787072657373696F6E3B4C000D70726F706572746965734D617074002D4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5250726F706572746965734D61703B4C000973706C6974547970657400104C6A6176612F6C616E672F427974653B4C000E73706C69745479706556616C75657400304C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F53706C697454797065456E756D3B787200336E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A5242617365456C656D656E7447726F757000000000000027D80200024C00086368696C6472656E7400104C6A6176612F7574696C2F4C6973743B4C000C656C656D656E7447726F757074002C4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A52456C656D656E7447726F75703B7870737200136A6176612E7574696C2E41727261794C6973747881D21D99C7619D03000149000473697A6578700000000077040000000A78700000C35400000000017070707E72002E6E65742E73662E6A61737065727265706F7274732E656E67696E652E747970652E53706C697454797065456E756D00000000000000001200007872000E6A6176612E6C616E672E456E756D00000000000000001200007870740007535452455443487E7200316E65742E73662E6A61737065727265706F7274732E656E67696E652E747970652E52756E446972656374696F6E456E756D00000000000000001200007871007E001D7400034C545270707070707372002E6E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A524261736553656374696F6E00000000000027D80200015B000562616E64737400255B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5242616E643B7870757200255B4C6E65742E73662E6A61737065727265706F7274732E656E67696E652E4A5242616E643B95DD7EEC8CCA85350200007870000000017371007E00117371007E001A0000000577040000000A737200306E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A5242617365546578744669656C6400000000000027D802001549001950534555444F5F53455249414C5F56455253494F4E5F55494449000D626F6F6B6D61726B4C6576656C42000E6576616C756174696F6E54696D6542000F68797065726C696E6B54617267657442000D68797065726C696E6B547970655A0015697353747265746368576974684F766572666C6F774C0014616E63686F724E616D6545787072657373696F6E71007E00124C000F6576616C756174696F6E47726F75707400254C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5247726F75703B4C00136576616C756174696F6E54696D6556616C75657400354C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F4576616C756174696F6E54696D65456E756D3B4C000A65787072657373696F6E71007E00124C001968797065726C696E6B416E63686F7245787072657373696F6E71007E00124C001768797065726C696E6B5061676545787072657373696F6E71007E00125B001368797065726C696E6B506172616D65746572737400335B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5248797065726C696E6B506172616D657465723B4C001C68797065726C696E6B5265666572656E636545787072657373696F6E71007E00124C001A68797065726C696E6B546F6F6C74697045787072657373696F6E71007E00124C001768797065726C696E6B5768656E45787072657373696F6E71007E00124C000F6973426C616E6B5768656E4E756C6C7400134C6A6176612F6C616E672F426F6F6C65616E3B4C000A6C696E6B54617267657471007E00024C00086C696E6B5479706571007E00024C00077061747465726E71007E00024C00117061747465726E45787072657373696F6E71007E0012787200326E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A524261736554657874456C656D656E7400000000000027D802002549001950534555444F5F53455249414C5F56455253494F4E5F5549444C0006626F7264657271007E00144C000B626F72646572436F6C6F727400104C6A6176612F6177742F436F6C6F723B4C000C626F74746F6D426F7264657271007E00144C0011626F74746F6D426F72646572436F6C6F7271007E00304C000D626F74746F6D50616464696E677400134C6A6176612F6C616E672F496E74656765723B4C0008666F6E744E616D6571007E00024C0008666F6E7453697A6571007E00314C0013686F72697A6F6E74616C416C69676E6D656E7471007E00144C0018686F72697A6F6E74616C416C69676E6D656E7456616C75657400364C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F486F72697A6F6E74616C416C69676E456E756D3B4C00066973426F6C6471007E002E4C000869734974616C696371007E002E4C000D6973506466456D62656464656471007E002E4C000F6973537472696B655468726F75676871007E002E4C000C69735374796C65645465787471007E002E4C000B6973556E6465726C696E6571007E002E4C000A6C656674426F7264657271007E00144C000F6C656674426F72646572436F6C6F7271007E00304C000B6C65667450616464696E6771007E00314C00076C696E65426F787400274C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A524C696E65426F783B4C000B6C696E6553706163696E6771007E00144C00106C696E6553706163696E6756616C75657400324C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F4C696E6553706163696E67456E756D3B4C00066D61726B757071007E00024C000770616464696E6771007E00314C00097061726167726170687400294C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A525061726167726170683B4C000B706466456E636F64696E6771007E00024C000B706466466F6E744E616D6571007E00024C000B7269676874426F7264657271007E00144C00107269676874426F72646572436F6C6F7271007E00304C000C726967687450616464696E6771007E00314C0008726F746174696F6E71007E00144C000D726F746174696F6E56616C756574002F4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F526F746174696F6E456E756D3B4C0009746F70426F7264657271007E00144C000E746F70426F72646572436F6C6F7271007E00304C000A746F7050616464696E6771007E00314C0011766572746963616C416C69676E6D656E7471007E00144C0016766572746963616C416C69676E6D656E7456616C75657400344C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F566572746963616C416C69676E456E756D3B7872002E6E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A5242617365456C656D656E7400000000000027D802001B49001950534555444F5F53455249414C5F56455253494F4E5F5549444900066865696768745A001769735072696E74496E466972737457686F6C6542616E645A001569735072696E74526570656174656456616C7565735A001A69735072696E745768656E44657461696C4F766572666C6F77735A0015697352656D6F76654C696E655768656E426C616E6B42000C706F736974696F6E5479706542000B7374726574636854797065490005776964746849000178490001794C00096261636B636F6C6F7271007E00304C001464656661756C745374796C6550726F76696465727400344C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5244656661756C745374796C6550726F76696465723B4C000C656C656D656E7447726F757071007E00184C0009666F7265636F6C6F7271007E00304C00036B657971007E00024C00046D6F646571007E00144C00096D6F646556616C756574002B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F4D6F6465456E756D3B4C000B706172656E745374796C6571007E00074C0018706172656E745374796C654E616D655265666572656E636571007E00024C0011706F736974696F6E5479706556616C75657400334C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F506F736974696F6E54797065456E756D3B4C00137072696E745768656E45787072657373696F6E71007E00124C00157072696E745768656E47726F75704368616E67657371007E002B4C000D70726F706572746965734D617071007E00135B001370726F706572747945787072657373696F6E737400335B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5250726F706572747945787072657373696F6E3B4C0010737472657463685479706556616C75657400324C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F5374726574636854797065456E756D3B4C0004757569647400104C6A6176612F7574696C2F555549443B78700000C35400000014000100000000000000970000006F000000007071007E001071007E00287070707070707E7200316E65742E73662E6A61737065727265706F7274732E656E67696E652E747970652E506F736974696F6E54797065456E756D00000000000000001200007871007E001D7400134649585F52454C41544956455F544F5F544F50707070707E7200306E65742E73662E6A61737065727265706F7274732E656E67696E652E747970652E5374726574636854797065456E756D00000000000000001200007871007E001D74000A4E4F5F535452455443487372000E6A6176612E7574696C2E55554944BC9903F7986D852F0200024A000C6C65617374536967426974734A000B6D6F7374536967426974737870A9D9FBFB06612A8F3D8316284452410D0000C354707070707074000953616E735365726966737200116A6176612E6C616E672E496E746567657212E2A0A4F781873802000149000576616C7565787200106A6176612E6C616E672E4E756D62657286AC951D0B94E08B02000078700000000C70707070707070707070707372002E6E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A52426173654C696E65426F7800000000000027D802000B4C000D626F74746F6D50616464696E6771007E00314C0009626F74746F6D50656E74002B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F626173652F4A52426F7850656E3B4C000C626F78436F6E7461696E657274002C4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A52426F78436F6E7461696E65723B4C000B6C65667450616464696E6771007E00314C00076C65667450656E71007E004D4C000770616464696E6771007E00314C000370656E71007E004D4C000C726967687450616464696E6771007E00314C0008726967687450656E71007E004D4C000A746F7050616464696E6771007E00314C0006746F7050656E71007E004D787070737200336E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A5242617365426F78426F74746F6D50656E00000000000027D80200007872002D6E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A5242617365426F7850656E00000000000027D80200014C00076C696E65426F7871007E00337872002A6E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A524261736550656E00000000000027D802000649001950534555444F5F53455249414C5F56455253494F4E5F5549444C00096C696E65436F6C6F7271007E00304C00096C696E655374796C6571007E00144C000E6C696E655374796C6556616C75657400304C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F4C696E655374796C65456E756D3B4C00096C696E6557696474687400114C6A6176612F6C616E672F466C6F61743B4C000C70656E436F6E7461696E657274002C4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5250656E436F6E7461696E65723B78700000C3547070707071007E004F71007E004F71007E003F70737200316E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A5242617365426F784C65667450656E00000000000027D80200007871007E00510000C3547070707071007E004F71007E004F707371007E00510000C3547070707071007E004F71007E004F70737200326E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A5242617365426F78526967687450656E00000000000027D80200007871007E00510000C3547070707071007E004F71007E004F70737200306E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A5242617365426F78546F7050656E00000000000027D80200007871007E00510000C3547070707071007E004F71007E004F70707070737200306E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A524261736550617261677261706800000000000027D802000A4C000F66697273744C696E65496E64656E7471007E00314C000A6C656674496E64656E7471007E00314C000B6C696E6553706163696E6771007E00344C000F6C696E6553706163696E6753697A6571007E00544C0012706172616772617068436F6E7461696E65727400324C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A52506172616772617068436F6E7461696E65723B4C000B7269676874496E64656E7471007E00314C000C73706163696E67416674657271007E00314C000D73706163696E674265666F726571007E00314C000C74616253746F70576964746871007E00314C000874616253746F707371007E001778707070707071007E003F70707070707070707070707070707070700000C354000000000000000070707E7200336E65742E73662E6A61737065727265706F7274732E656E67696E652E747970652E4576616C756174696F6E54696D65456E756D00000000000000001200007871007E001D7400034E4F57737200316E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A524261736545787072657373696F6E00000000000027D802000449000269645B00066368756E6B737400305B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5245787072657373696F6E4368756E6B3B4C000E76616C7565436C6173734E616D6571007E00024C001276616C7565436C6173735265616C4E616D6571007E0002787000000009757200305B4C6E65742E73662E6A61737065727265706F7274732E656E67696E652E4A5245787072657373696F6E4368756E6B3B6D59CFDE694BA355020000787000000001737200366E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A524261736545787072657373696F6E4368756E6B00000000000027D8020002420004747970654C00047465787471007E000278700374001064656C69766572795A6F6E65436F6465707070707070707070707070707371007E002A0000C35400000014000100000000000000B600000106000000007071007E001071007E002870707070707071007E00417070707071007E00447371007E0046980C6E20451ED89F70A35C82B9A34C1E0000C354707070707074000953616E73536572696671007E004B70707070707070707070707371007E004C707371007E00500000C3547070707071007E006F71007E006F71007E006C707371007E00570000C3547070707071007E006F71007E006F707371007E00510000C3547070707071007E006F71007E006F707371007E005A0000C3547070707071007E006F71007E006F707371007E005C0000C3547070707071007E006F71007E006F707070707371007E005E7070707071007E006C70707070707070707070707070707070700000C3540000000000000000707071007E00627371007E00640000000A7571007E0067000000017371007E00690374001064656C69766572795A6F6E654E616D65707070707070707070707070707371007E002A0000C35400000014000100000000000000AC000001BC000000007071007E001071007E002870707070707071007E00417070707071007E00447371007E00468CDC613A1D372DFF871FA864F59149DC0000C354707070707074000953616E73536572696671007E004B707E7200346E65742E73662E6A61737065727265706F7274732E656E67696E652E747970652E486F72697A6F6E74616C416C69676E456E756D00000000000000001200007871007E001D7400044C4546547070707070707070707371007E004C707371007E00500000C3547070707071007E008071007E008071007E007A707371007E00570000C3547070707071007E008071007E0080707371007E00510000C3547070707071007E008071007E0080707371007E005A0000C3547070707071007E008071007E0080707371007E005C0000C3547070707071007E008071007E0080707070707371007E005E7070707071007E007A70707070707070707070707070707070700000C3540000000000000000707071007E00627371007E00640000000B7571007E0067000000017371007E00690374000B70726F6772616D436F6465707070707070707070707070707371007E002A0000C35400000014000100000000000000A600000268000000007071007E001071007E002870707070707071007E00417070707071007E00447371007E004696F153581AE1E4C682939D7EFB594D750000C354707070707074000953616E73536572696671007E004B7071007E007E7070707070707070707371007E004C707371007E00500000C3547070707071007E008E71007E008E71007E008B707371007E00570000C3547070707071007E008E71007E008E707371007E00510000C3547070707071007E008E71007E008E707371007E005A0000C3547070707071007E008E71007E008E707371007E005C0000C3547070707071007E008E71007E008E707070707371007E005E7070707071007E008B70707070707070707070707070707070700000C3540000000000000000707071007E00627371007E00640000000C7571007E0067000000017371007E00690374000B70726F6772616D4E616D65707070707070707070707070707371007E002A0000C354000000140001000000000000006F00000000000000007071007E001071007E002870707070707071007E00417070707071007E00447371007E0046A3C35F9512886F9F0CB682E445B14BAE0000C35470707070707071007E004B707E71007E007D74000643454E5445527070707070707070707371007E004C707371007E00500000C3547070707071007E009D71007E009D71007E0099707371007E00570000C3547070707071007E009D71007E009D707371007E00510000C3547070707071007E009D71007E009D707371007E005A0000C3547070707071007E009D71007E009D707371007E005C0000C3547070707071007E009D71007E009D707070707371007E005E7070707071007E009970707070707070707070707070707070700000C3540000000000000000707071007E00627371007E00640000000D7571007E0067000000017371007E00690474000C5245504F52545F434F554E547070707070707070707070707078700000C35400000014017070707070707400046A617661707372002E6E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A52426173654461746173657400000000000027D802001149001950534555444F5F53455249414C5F56455253494F4E5F5549445A000669734D61696E4200177768656E5265736F757263654D697373696E67547970655B00066669656C64737400265B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A524669656C643B4C001066696C74657245787072657373696F6E71007E00125B000667726F7570737400265B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5247726F75703B4C00046E616D6571007E00025B000A706172616D657465727374002A5B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A52506172616D657465723B4C000D70726F706572746965734D617071007E00134C000571756572797400254C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5251756572793B4C000E7265736F7572636542756E646C6571007E00024C000E7363726970746C6574436C61737371007E00025B000A7363726970746C65747374002A5B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A525363726970746C65743B5B000A736F72744669656C647374002A5B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A52536F72744669656C643B4C00047575696471007E003E5B00097661726961626C65737400295B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A525661726961626C653B4C001C7768656E5265736F757263654D697373696E675479706556616C756574003E4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F5768656E5265736F757263654D697373696E6754797065456E756D3B78700000C3540100757200265B4C6E65742E73662E6A61737065727265706F7274732E656E67696E652E4A524669656C643B023CDFC74E2AF2700200007870000000047372002C6E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A52426173654669656C6400000000000027D80200054C000B6465736372697074696F6E71007E00024C00046E616D6571007E00024C000D70726F706572746965734D617071007E00134C000E76616C7565436C6173734E616D6571007E00024C001276616C7565436C6173735265616C4E616D6571007E000278707074001064656C69766572795A6F6E65436F64657372002B6E65742E73662E6A61737065727265706F7274732E656E67696E652E4A5250726F706572746965734D617000000000000027D80200034C00046261736571007E00134C000E70726F706572746965734C69737471007E00174C000D70726F706572746965734D617074000F4C6A6176612F7574696C2F4D61703B78707070707400106A6176612E6C616E672E537472696E67707371007E00B57074001064656C69766572795A6F6E654E616D657371007E00B87070707400106A6176612E6C616E672E537472696E67707371007E00B57074000B70726F6772616D436F64657371007E00B87070707400106A6176612E6C616E672E537472696E67707371007E00B57074000B70726F6772616D4E616D657371007E00B87070707400106A6176612E6C616E672E537472696E677070707400077265706F7274317572002A5B4C6E65742E73662E6A61737065727265706F7274732E656E67696E652E4A52506172616D657465723B22000C8D2AC36021020000787000000013737200306E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A5242617365506172616D6574657200000000000027D80200095A000E6973466F7250726F6D7074696E675A000F697353797374656D446566696E65644C001664656661756C7456616C756545787072657373696F6E71007E00124C000B6465736372697074696F6E71007E00024C00046E616D6571007E00024C000E6E6573746564547970654E616D6571007E00024C000D70726F706572746965734D617071007E00134C000E76616C7565436C6173734E616D6571007E00024C001276616C7565436C6173735265616C4E616D6571007E000278700101707074000E5245504F52545F434F4E54455854707371007E00B87070707400296E65742E73662E6A61737065727265706F7274732E656E67696E652E5265706F7274436F6E74657874707371007E00CB010170707400155245504F52545F504152414D45544552535F4D4150707371007E00B870707074000D6A6176612E7574696C2E4D6170707371007E00CB0101707074000D4A41535045525F5245504F5254707371007E00B87070707400286E65742E73662E6A61737065727265706F7274732E656E67696E652E4A61737065725265706F7274707371007E00CB010170707400115245504F52545F434F4E4E454354494F4E707371007E00B87070707400136A6176612E73716C2E436F6E6E656374696F6E707371007E00CB010170707400105245504F52545F4D41585F434F554E54707371007E00B87070707400116A6176612E6C616E672E496E7465676572707371007E00CB010170707400125245504F52545F444154415F534F55524345707371007E00B87070707400286E65742E73662E6A61737065727265706F7274732E656E67696E652E4A5244617461536F75726365707371007E00CB010170707400105245504F52545F5343524950544C4554707371007E00B870707074002F6E65742E73662E6A61737065727265706F7274732E656E67696E652E4A5241627374726163745363726970746C6574707371007E00CB0101707074000D5245504F52545F4C4F43414C45707371007E00B87070707400106A6176612E7574696C2E4C6F63616C65707371007E00CB010170707400165245504F52545F5245534F555243455F42554E444C45707371007E00B87070707400186A6176612E7574696C2E5265736F7572636542756E646C65707371007E00CB010170707400105245504F52545F54494D455F5A4F4E45707371007E00B87070707400126A6176612E7574696C2E54696D655A6F6E65707371007E00CB010170707400155245504F52545F464F524D41545F464143544F5259707371007E00B870707074002E6E65742E73662E6A61737065727265706F7274732E656E67696E652E7574696C2E466F726D6174466163746F7279707371007E00CB010170707400135245504F52545F434C4153535F4C4F41444552707371007E00B87070707400156A6176612E6C616E672E436C6173734C6F61646572707371007E00CB0101707074001A5245504F52545F55524C5F48414E444C45525F464143544F5259707371007E00B87070707400206A6176612E6E65742E55524C53747265616D48616E646C6572466163746F7279707371007E00CB010170707400145245504F52545F46494C455F5245534F4C564552707371007E00B870707074002D6E65742E73662E6A61737065727265706F7274732E656E67696E652E7574696C2E46696C655265736F6C766572707371007E00CB010170707400105245504F52545F54454D504C41544553707371007E00B87070707400146A6176612E7574696C2E436F6C6C656374696F6E707371007E00CB0101707074000B534F52545F4649454C4453707371007E00B870707074000E6A6176612E7574696C2E4C697374707371007E00CB0101707074000646494C544552707371007E00B87070707400296E65742E73662E6A61737065727265706F7274732E656E67696E652E4461746173657446696C746572707371007E00CB010170707400125245504F52545F5649525455414C495A4552707371007E00B87070707400296E65742E73662E6A61737065727265706F7274732E656E67696E652E4A525669727475616C697A6572707371007E00CB0101707074001449535F49474E4F52455F504147494E4154494F4E707371007E00B87070707400116A6176612E6C616E672E426F6F6C65616E707371007E00B8707371007E001A0000000377040000000374000C697265706F72742E7A6F6F6D740009697265706F72742E78740009697265706F72742E7978737200116A6176612E7574696C2E486173684D61700507DAC1C31660D103000246000A6C6F6164466163746F724900097468726573686F6C6478703F400000000000037708000000040000000371007E011C7400013071007E011A740003312E3071007E011B74000130787372002C6E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A5242617365517565727900000000000027D80200025B00066368756E6B7374002B5B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5251756572794368756E6B3B4C00086C616E677561676571007E000278707572002B5B4C6E65742E73662E6A61737065727265706F7274732E656E67696E652E4A5251756572794368756E6B3B409F00A1E8BA34A4020000787000000001737200316E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A524261736551756572794368756E6B00000000000027D8020003420004747970654C00047465787471007E00025B0006746F6B656E737400135B4C6A6176612F6C616E672F537472696E673B7870017403A773656C65637420647A2E636F64652061732064656C69766572795A6F6E65436F64652C20647A2E6E616D652061732064656C69766572795A6F6E654E616D652C20702E636F64652061732070726F6772616D436F64652C20702E6E616D652061732070726F6772616D4E616D652066726F6D2064656C69766572795F7A6F6E657320647A2C2064656C69766572795F7A6F6E655F70726F6772616D5F7363686564756C657320647A70732C20726F6C655F61737369676E6D656E74732072612C202070726F6772616D7320702C207573657273207520776865726520647A2E69643D647A70732E64656C69766572797A6F6E65696420616E6420647A70732E64656C69766572797A6F6E6569643D72612E64656C69766572797A6F6E65696420616E6420752E69643D72612E75736572696420616E64202072612E64656C69766572797A6F6E6569643D647A2E696420616E6420702E69643D647A70732E70726F6772616D696420616E6420702E69643D72612E70726F6772616D696420616E6420752E6163746976653D2766616C73652720616E6420702E6163746976653D2774727565270A2020202020202020202020202020202020756E696F6E0A202020202020202020202020202020202073656C65637420647A2E636F64652061732064656C69766572795A6F6E65436F64652C20647A2E6E616D652061732064656C69766572795A6F6E654E616D652C20702E636F64652061732070726F6772616D436F64652C20702E6E616D652061732070726F6772616D4E616D652066726F6D2064656C69766572795F7A6F6E657320647A2C2064656C69766572795F7A6F6E655F70726F6772616D5F7363686564756C657320647A70732C2070726F6772616D7320702C726F6C655F61737369676E6D656E74732072612077686572652020647A2E69643D647A70732E64656C69766572797A6F6E65696420616E6420702E69643D647A70732E70726F6772616D696420616E6420702E69643D72612E70726F6772616D696420616E6420647A70732E64656C69766572797A6F6E656964206E6F7420696E202873656C6563742064697374696E63742864656C69766572797A6F6E656964292066726F6D20726F6C655F61737369676E6D656E74732077686572652064656C69766572797A6F6E656964206973206E6F74206E756C6C292067726F757020627920647A2E6E616D652C20647A2E636F64652C20702E636F64652C702E6E616D65206F726465722062792064656C69766572795A6F6E654E616D65206173637074000373716C707070707371007E0046B3D554B1AEFE96CEA0A4E8610726422F757200295B4C6E65742E73662E6A61737065727265706F7274732E656E67696E652E4A525661726961626C653B62E6837C982CB7440200007870000000057372002F6E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A52426173655661726961626C6500000000000027D802001149001950534555444F5F53455249414C5F56455253494F4E5F55494442000B63616C63756C6174696F6E42000D696E6372656D656E74547970655A000F697353797374656D446566696E65644200097265736574547970654C001063616C63756C6174696F6E56616C75657400324C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F43616C63756C6174696F6E456E756D3B4C000A65787072657373696F6E71007E00124C000E696E6372656D656E7447726F757071007E002B4C0012696E6372656D656E745479706556616C75657400344C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F496E6372656D656E7454797065456E756D3B4C001B696E6372656D656E746572466163746F7279436C6173734E616D6571007E00024C001F696E6372656D656E746572466163746F7279436C6173735265616C4E616D6571007E00024C0016696E697469616C56616C756545787072657373696F6E71007E00124C00046E616D6571007E00024C000A726573657447726F757071007E002B4C000E72657365745479706556616C75657400304C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F526573657454797065456E756D3B4C000E76616C7565436C6173734E616D6571007E00024C001276616C7565436C6173735265616C4E616D6571007E00027870000077EE000001007E7200306E65742E73662E6A61737065727265706F7274732E656E67696E652E747970652E43616C63756C6174696F6E456E756D00000000000000001200007871007E001D74000653595354454D70707E7200326E65742E73662E6A61737065727265706F7274732E656E67696E652E747970652E496E6372656D656E7454797065456E756D00000000000000001200007871007E001D7400044E4F4E4570707371007E0064000000007571007E0067000000017371007E0069017400186E6577206A6176612E6C616E672E496E7465676572283129707074000B504147455F4E554D424552707E72002E6E65742E73662E6A61737065727265706F7274732E656E67696E652E747970652E526573657454797065456E756D00000000000000001200007871007E001D7400065245504F525471007E00DF707371007E012F000077EE0000010071007E0135707071007E013870707371007E0064000000017571007E0067000000017371007E0069017400186E6577206A6176612E6C616E672E496E7465676572283129707074000D434F4C554D4E5F4E554D424552707E71007E013F7400045041474571007E00DF707371007E012F000077EE000001007E71007E0134740005434F554E547371007E0064000000027571007E0067000000017371007E0069017400186E6577206A6176612E6C616E672E496E746567657228312970707071007E013870707371007E0064000000037571007E0067000000017371007E0069017400186E6577206A6176612E6C616E672E496E7465676572283029707074000C5245504F52545F434F554E547071007E014071007E00DF707371007E012F000077EE0000010071007E014B7371007E0064000000047571007E0067000000017371007E0069017400186E6577206A6176612E6C616E672E496E746567657228312970707071007E013870707371007E0064000000057571007E0067000000017371007E0069017400186E6577206A6176612E6C616E672E496E7465676572283029707074000A504147455F434F554E547071007E014871007E00DF707371007E012F000077EE0000010071007E014B7371007E0064000000067571007E0067000000017371007E0069017400186E6577206A6176612E6C616E672E496E746567657228312970707071007E013870707371007E0064000000077571007E0067000000017371007E0069017400186E6577206A6176612E6C616E672E496E7465676572283029707074000C434F4C554D4E5F434F554E54707E71007E013F740006434F4C554D4E71007E00DF707E72003C6E65742E73662E6A61737065727265706F7274732E656E67696E652E747970652E5768656E5265736F757263654D697373696E6754797065456E756D00000000000000001200007871007E001D7400044E554C4C71007E00C87371007E00117371007E001A0000000277040000000A737200316E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A52426173655374617469635465787400000000000027D80200014C00047465787471007E00027871007E002F0000C354000000140001000000000000030E00000000000000207071007E001071007E016F70707070707071007E00417070707071007E00447371007E00468769AF621A8E549B488F93D8D2FE4DF60000C3547070707070707371007E00490000000F7071007E009B7070707070707070707371007E004C707371007E00500000C3547070707071007E017571007E017571007E0172707371007E00570000C3547070707071007E017571007E0175707371007E00510000C3547070707071007E017571007E0175707371007E005A0000C3547070707071007E017571007E0175707371007E005C0000C3547070707071007E017571007E0175707070707371007E005E7070707071007E01727070707070707070707070707070707070740065416C6C2064656C6976657279207A6F6E65732063757272656E746C792068617665206163746976652073746166662061737369676E656420746F206D616E61676520746865206163746976652070726F6772616D7320696E207468657365207A6F6E65732E7371007E01710000C354000000200001000000000000030E00000000000000007071007E001071007E016F70707070707071007E00417070707071007E00447371007E00469238092A1177A2F66659BA1E006B4F7F0000C354707070707074000953616E7353657269667371007E0049000000187071007E009B7070707070737200116A6176612E6C616E672E426F6F6C65616ECD207280D59CFAEE0200015A000576616C75657870017070707371007E004C707371007E00500000C3547070707071007E018371007E018371007E017D707371007E00570000C3547070707071007E018371007E0183707371007E00510000C3547070707071007E018371007E0183707371007E005A0000C3547070707071007E018371007E0183707371007E005C0000C3547070707071007E018371007E0183707070707371007E005E7070707071007E017D707070707070707070707070707070707074002F44656C6976657279205A6F6E6573204D697373696E67204D616E61676520446973747269627574696F6E20526F6C6578700000C3540000003401707070707E7200306E65742E73662E6A61737065727265706F7274732E656E67696E652E747970652E4F7269656E746174696F6E456E756D00000000000000001200007871007E001D7400094C414E4453434150457371007E00117371007E001A0000000277040000000A7371007E002A0000C3540000001400010000000000000048000002C6000000007071007E001071007E018E70707070707071007E00417070707071007E00447371007E0046A6CD4885E72541551ABCD2C71CE14A4B0000C354707070707074000953616E7353657269667371007E00490000000870707070707070707070707371007E004C707371007E00500000C3547070707071007E019471007E019471007E0190707371007E00570000C3547070707071007E019471007E0194707371007E00510000C3547070707071007E019471007E0194707371007E005A0000C3547070707071007E019471007E0194707371007E005C0000C3547070707071007E019471007E0194707070707371007E005E7070707071007E019070707070707070707070707070707070700000C3540000000000000000707071007E00627371007E00640000000E7571007E0067000000017371007E00690474000B504147455F4E554D424552707070707070707070707070707371007E01710000C35400000014000100000000000002C600000000000000007071007E001071007E018E70707070707071007E00417070707071007E00447371007E0046B62F68C26194B7C32E4A2985B90149630000C3547070707070707070707070707070707070707371007E004C707371007E00500000C3547070707071007E01A171007E01A171007E019F707371007E00570000C3547070707071007E01A171007E01A1707371007E00510000C3547070707071007E01A171007E01A1707371007E005A0000C3547070707071007E01A171007E01A1707371007E005C0000C3547070707071007E01A171007E01A1707070707371007E005E7070707071007E019F70707070707070707070707070707070707400012078700000C3540000001401707070707371007E00117371007E001A0000000577040000000A7371007E01710000C35400000014000100000000000000A600000268000000007071007E001071007E01A970707070707071007E00417070707071007E00447371007E00469B596670C74BD785EF159A2F33D942BA0000C354707070707074000953616E73536572696671007E004B707071007E01827070707071007E01827070707371007E004C707371007E00500000C3547070707071007E01AE71007E01AE71007E01AB707371007E00570000C3547070707071007E01AE71007E01AE707371007E00510000C3547070707071007E01AE71007E01AE707371007E005A0000C3547070707071007E01AE71007E01AE707371007E005C0000C3547070707071007E01AE71007E01AE707070707371007E005E7070707071007E01AB707070707070707070707070707070707074000C50726F6772616D204E616D657371007E01710000C35400000014000100000000000000AC000001BC000000007071007E001071007E01A970707070707071007E00417070707071007E00447371007E00469F72D87CD57C5A0D9A07393F55224BCE0000C354707070707074000953616E73536572696671007E004B707071007E01827070707071007E01827070707371007E004C707371007E00500000C3547070707071007E01B971007E01B971007E01B6707371007E00570000C3547070707071007E01B971007E01B9707371007E00510000C3547070707071007E01B971007E01B9707371007E005A0000C3547070707071007E01B971007E01B9707371007E005C0000C3547070707071007E01B971007E01B9707070707371007E005E7070707071007E01B6707070707070707070707070707070707074000C50726F6772616D20436F64657371007E01710000C35400000014000100000000000000970000006F000000007071007E001071007E01A970707070707071007E00417070707071007E00447371007E0046A2A43D5C0BD9170AD949733D046B41AA0000C354707070707074000953616E73536572696671007E004B707071007E01827070707071007E01827070707371007E004C707371007E00500000C3547070707071007E01C471007E01C471007E01C1707371007E00570000C3547070707071007E01C471007E01C4707371007E00510000C3547070707071007E01C471007E01C4707371007E005A0000C3547070707071007E01C471007E01C4707371007E005C0000C3547070707071007E01C471007E01C4707070707371007E005E7070707071007E01C1707070707070707070707070707070707074001244656C6976657279205A6F6E6520436F64657371007E01710000C35400000014000100000000000000B600000106000000007071007E001071007E01A970707070707071007E00417070707071007E00447371007E0046835ADF817AA47786A3153510D28746AD0000C354707070707074000953616E73536572696671007E004B707071007E01827070707071007E01827070707371007E004C707371007E00500000C3547070707071007E01CF71007E01CF71007E01CC707371007E00570000C3547070707071007E01CF71007E01CF707371007E00510000C3547070707071007E01CF71007E01CF707371007E005A0000C3547070707071007E01CF71007E01CF707371007E005C0000C3547070707071007E01CF71007E01CF707070707371007E005E7070707071007E01CC707070707070707070707070707070707074001244656C6976657279205A6F6E65204E616D657371007E01710000C354000000140001000000000000006F00000000000000007071007E001071007E01A970707070707071007E00417070707071007E00447371007E0046B48A4FEB4161ED645A7F10BA925C4CA70000C354707070707074000953616E73536572696671007E004B7071007E009B71007E01827070707071007E01827070707371007E004C707371007E00500000C3547070707071007E01DA71007E01DA71007E01D7707371007E00570000C3547070707071007E01DA71007E01DA707371007E00510000C3547070707071007E01DA71007E01DA707371007E005A0000C3547070707071007E01DA71007E01DA707371007E005C0000C3547070707071007E01DA71007E01DA707070707371007E005E7070707071007E01D77070707070707070707070707070707070740004532E4E6F78700000C354000000140170707071007E001E7E72002F6E65742E73662E6A61737065727265706F7274732E656E67696E652E747970652E5072696E744F72646572456E756D00000000000000001200007871007E001D740008564552544943414C757200265B4C6E65742E73662E6A61737065727265706F7274732E656E67696E652E4A525374796C653BD49CC311D90572350200007870000000087372002C6E65742E73662E6A61737065727265706F7274732E656E67696E652E626173652E4A52426173655374796C65000000000000271102003A49001950534555444F5F53455249414C5F56455253494F4E5F5549445A0009697344656661756C744C00096261636B636F6C6F7271007E00304C0006626F7264657271007E00144C000B626F72646572436F6C6F7271007E00304C000C626F74746F6D426F7264657271007E00144C0011626F74746F6D426F72646572436F6C6F7271007E00304C000D626F74746F6D50616464696E6771007E00315B0011636F6E646974696F6E616C5374796C65737400315B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A52436F6E646974696F6E616C5374796C653B4C001464656661756C745374796C6550726F766964657271007E00394C000466696C6C71007E00144C000966696C6C56616C756574002B4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F46696C6C456E756D3B4C0008666F6E744E616D6571007E00024C0008666F6E7453697A6571007E00314C0009666F7265636F6C6F7271007E00304C0013686F72697A6F6E74616C416C69676E6D656E7471007E00144C0018686F72697A6F6E74616C416C69676E6D656E7456616C756571007E00324C000F6973426C616E6B5768656E4E756C6C71007E002E4C00066973426F6C6471007E002E4C000869734974616C696371007E002E4C000D6973506466456D62656464656471007E002E4C000F6973537472696B655468726F75676871007E002E4C000C69735374796C65645465787471007E002E4C000B6973556E6465726C696E6571007E002E4C000A6C656674426F7264657271007E00144C000F6C656674426F72646572436F6C6F7271007E00304C000B6C65667450616464696E6771007E00314C00076C696E65426F7871007E00334C00076C696E6550656E7400234C6E65742F73662F6A61737065727265706F7274732F656E67696E652F4A5250656E3B4C000B6C696E6553706163696E6771007E00144C00106C696E6553706163696E6756616C756571007E00344C00066D61726B757071007E00024C00046D6F646571007E00144C00096D6F646556616C756571007E003A4C00046E616D6571007E00024C000770616464696E6771007E00314C000970617261677261706871007E00354C000B706172656E745374796C6571007E00074C0018706172656E745374796C654E616D655265666572656E636571007E00024C00077061747465726E71007E00024C000B706466456E636F64696E6771007E00024C000B706466466F6E744E616D6571007E00024C000370656E71007E00144C000C706F736974696F6E5479706571007E00144C000672616469757371007E00314C000B7269676874426F7264657271007E00144C00107269676874426F72646572436F6C6F7271007E00304C000C726967687450616464696E6771007E00314C0008726F746174696F6E71007E00144C000D726F746174696F6E56616C756571007E00364C000A7363616C65496D61676571007E00144C000F7363616C65496D61676556616C75657400314C6E65742F73662F6A61737065727265706F7274732F656E67696E652F747970652F5363616C65496D616765456E756D3B4C000B737472657463685479706571007E00144C0009746F70426F7264657271007E00144C000E746F70426F72646572436F6C6F7271007E00304C000A746F7050616464696E6771007E00314C0011766572746963616C416C69676E6D656E7471007E00144C0016766572746963616C416C69676E6D656E7456616C756571007E003778700000C35400707070707070707070707070707070707070707070707070707371007E004C707371007E00500000C3547070707071007E01ED71007E01ED71007E01EC707371007E00570000C3547070707071007E01ED71007E01ED707371007E00510000C3547372000E6A6176612E6177742E436F6C6F7201A51783108F337502000546000666616C70686149000576616C75654C0002637374001B4C6A6176612F6177742F636F6C6F722F436F6C6F7253706163653B5B00096672676276616C75657400025B465B00066676616C756571007E01F3787000000000FF00000070707070707372000F6A6176612E6C616E672E466C6F6174DAEDC9A2DB3CF0EC02000146000576616C75657871007E004A3F80000071007E01ED71007E01ED707371007E005A0000C3547070707071007E01ED71007E01ED707371007E005C0000C3547070707071007E01ED71007E01ED7371007E00520000C3547070707071007E01EC70707070707400057461626C65707371007E005E7070707071007E01EC70707070707070707070707070707070707070707070707070707371007E01E70000C354007371007E01F100000000FFF0F8FF7070707070707070707070707070707070707070707070707070707371007E004C707371007E00500000C3547070707071007E01FE71007E01FE71007E01FC707371007E00570000C3547070707071007E01FE71007E01FE707371007E00510000C3547371007E01F100000000FF00000070707070707371007E01F53F00000071007E01FE71007E01FE707371007E005A0000C3547070707071007E01FE71007E01FE707371007E005C0000C3547070707071007E01FE71007E01FE7371007E00520000C3547070707071007E01FC707070707E7200296E65742E73662E6A61737065727265706F7274732E656E67696E652E747970652E4D6F6465456E756D00000000000000001200007871007E001D7400064F50415155457400087461626C655F5448707371007E005E7070707071007E01FC70707070707070707070707070707070707070707070707070707371007E01E70000C354007371007E01F100000000FFBFE1FF7070707070707070707070707070707070707070707070707070707371007E004C707371007E00500000C3547070707071007E020E71007E020E71007E020C707371007E00570000C3547070707071007E020E71007E020E707371007E00510000C3547371007E01F100000000FF00000070707070707371007E01F53F00000071007E020E71007E020E707371007E005A0000C3547070707071007E020E71007E020E707371007E005C0000C3547070707071007E020E71007E020E7371007E00520000C3547070707071007E020C7070707071007E02087400087461626C655F4348707371007E005E7070707071007E020C70707070707070707070707070707070707070707070707070707371007E01E70000C354007371007E01F100000000FFFFFFFF7070707070707070707070707070707070707070707070707070707371007E004C707371007E00500000C3547070707071007E021B71007E021B71007E0219707371007E00570000C3547070707071007E021B71007E021B707371007E00510000C3547371007E01F100000000FF00000070707070707371007E01F53F00000071007E021B71007E021B707371007E005A0000C3547070707071007E021B71007E021B707371007E005C0000C3547070707071007E021B71007E021B7371007E00520000C3547070707071007E02197070707071007E02087400087461626C655F5444707371007E005E7070707071007E021970707070707070707070707070707070707070707070707070707371007E01E70000C35400707070707070707070707070707070707070707070707070707371007E004C707371007E00500000C3547070707071007E022771007E022771007E0226707371007E00570000C3547070707071007E022771007E0227707371007E00510000C3547371007E01F100000000FF00000070707070707371007E01F53F80000071007E022771007E0227707371007E005A0000C3547070707071007E022771007E0227707371007E005C0000C3547070707071007E022771007E02277371007E00520000C3547070707071007E022670707070707400077461626C652031707371007E005E7070707071007E022670707070707070707070707070707070707070707070707070707371007E01E70000C354007371007E01F100000000FFF0F8FF7070707070707070707070707070707070707070707070707070707371007E004C707371007E00500000C3547070707071007E023471007E023471007E0232707371007E00570000C3547070707071007E023471007E0234707371007E00510000C3547371007E01F100000000FF00000070707070707371007E01F53F00000071007E023471007E0234707371007E005A0000C3547070707071007E023471007E0234707371007E005C0000C3547070707071007E023471007E02347371007E00520000C3547070707071007E02327070707071007E020874000A7461626C6520315F5448707371007E005E7070707071007E023270707070707070707070707070707070707070707070707070707371007E01E70000C354007371007E01F100000000FFBFE1FF7070707070707070707070707070707070707070707070707070707371007E004C707371007E00500000C3547070707071007E024171007E024171007E023F707371007E00570000C3547070707071007E024171007E0241707371007E00510000C3547371007E01F100000000FF00000070707070707371007E01F53F00000071007E024171007E0241707371007E005A0000C3547070707071007E024171007E0241707371007E005C0000C3547070707071007E024171007E02417371007E00520000C3547070707071007E023F7070707071007E020874000A7461626C6520315F4348707371007E005E7070707071007E023F70707070707070707070707070707070707070707070707070707371007E01E70000C354007371007E01F100000000FFFFFFFF7070707070707070707070707070707070707070707070707070707371007E004C707371007E00500000C3547070707071007E024E71007E024E71007E024C707371007E00570000C3547070707071007E024E71007E024E707371007E00510000C3547371007E01F100000000FF00000070707070707371007E01F53F00000071007E024E71007E024E707371007E005A0000C3547070707071007E024E71007E024E707371007E005C0000C3547070707071007E024E71007E024E7371007E00520000C3547070707071007E024C7070707071007E020874000A7461626C6520315F5444707371007E005E7070707071007E024C707070707070707070707070707070707070707070707070707070707371007E00117371007E001A0000000277040000000A7371007E01710000C35400000020000100000000000002C600000000000000007071007E001071007E025970707070707071007E00417070707071007E00447371007E00468F61A735AB2074B7212194E972CA43210000C354707070707074000953616E73536572696671007E01807071007E009B707070707071007E01827070707371007E004C707371007E00500000C3547070707071007E025E71007E025E71007E025B707371007E00570000C3547070707071007E025E71007E025E707371007E00510000C3547070707071007E025E71007E025E707371007E005A0000C3547070707071007E025E71007E025E707371007E005C0000C3547070707071007E025E71007E025E707070707371007E005E7070707071007E025B707070707070707070707070707070707074002F44656C6976657279205A6F6E6573204D697373696E67204D616E61676520446973747269627574696F6E20526F6C657371007E002A0000C3540000002000010000000000000048000002C6000000007071007E001071007E025970707070707071007E00417070707071007E00447371007E004689AB02F2DDA79BB52DD094DCE4B543C00000C354707070707074000953616E73536572696671007E019370707070707070707070707371007E004C707371007E00500000C3547070707071007E026971007E026971007E0266707371007E00570000C3547070707071007E026971007E0269707371007E00510000C3547070707071007E026971007E0269707371007E005A0000C3547070707071007E026971007E0269707371007E005C0000C3547070707071007E026971007E0269707070707371007E005E7070707071007E026670707070707070707070707070707070700000C3540000000000000000707071007E00627371007E0064000000087571007E0067000000017371007E0069017400146E6577206A6176612E7574696C2E446174652829707070707070707070707074000A64642F4D4D2F797979797078700000C3540000002001707070707E7200336E65742E73662E6A61737065727265706F7274732E656E67696E652E747970652E5768656E4E6F4461746154797065456E756D00000000000000001200007871007E001D74000F4E4F5F444154415F53454354494F4E737200366E65742E73662E6A61737065727265706F7274732E656E67696E652E64657369676E2E4A525265706F7274436F6D70696C654461746100000000000027D80200034C001363726F7373746162436F6D70696C654461746171007E00B94C001264617461736574436F6D70696C654461746171007E00B94C00166D61696E44617461736574436F6D70696C654461746171007E000178707371007E011D3F4000000000000C77080000001000000000787371007E011D3F4000000000000C7708000000100000000078757200025B42ACF317F8060854E00200007870000014C8CAFEBABE0000002E00D001001B7265706F7274315F313338303137383931343230345F383838373607000101002C6E65742F73662F6A61737065727265706F7274732F656E67696E652F66696C6C2F4A524576616C7561746F72070003010017706172616D657465725F5245504F52545F4C4F43414C450100324C6E65742F73662F6A61737065727265706F7274732F656E67696E652F66696C6C2F4A5246696C6C506172616D657465723B010017706172616D657465725F4A41535045525F5245504F525401001C706172616D657465725F5245504F52545F5649525455414C495A455201001A706172616D657465725F5245504F52545F54494D455F5A4F4E45010015706172616D657465725F534F52545F4649454C445301001E706172616D657465725F5245504F52545F46494C455F5245534F4C56455201001A706172616D657465725F5245504F52545F5343524950544C455401001F706172616D657465725F5245504F52545F504152414D45544552535F4D415001001B706172616D657465725F5245504F52545F434F4E4E454354494F4E010018706172616D657465725F5245504F52545F434F4E5445585401001D706172616D657465725F5245504F52545F434C4153535F4C4F41444552010024706172616D657465725F5245504F52545F55524C5F48414E444C45525F464143544F525901001C706172616D657465725F5245504F52545F444154415F534F5552434501001E706172616D657465725F49535F49474E4F52455F504147494E4154494F4E010010706172616D657465725F46494C54455201001F706172616D657465725F5245504F52545F464F524D41545F464143544F525901001A706172616D657465725F5245504F52545F4D41585F434F554E5401001A706172616D657465725F5245504F52545F54454D504C41544553010020706172616D657465725F5245504F52545F5245534F555243455F42554E444C450100116669656C645F70726F6772616D436F646501002E4C6E65742F73662F6A61737065727265706F7274732F656E67696E652F66696C6C2F4A5246696C6C4669656C643B0100166669656C645F64656C69766572795A6F6E654E616D650100166669656C645F64656C69766572795A6F6E65436F64650100116669656C645F70726F6772616D4E616D650100147661726961626C655F504147455F4E554D4245520100314C6E65742F73662F6A61737065727265706F7274732F656E67696E652F66696C6C2F4A5246696C6C5661726961626C653B0100167661726961626C655F434F4C554D4E5F4E554D4245520100157661726961626C655F5245504F52545F434F554E540100137661726961626C655F504147455F434F554E540100157661726961626C655F434F4C554D4E5F434F554E540100063C696E69743E010003282956010004436F64650C002400250A000400270C0005000609000200290C00070006090002002B0C00080006090002002D0C00090006090002002F0C000A000609000200310C000B000609000200330C000C000609000200350C000D000609000200370C000E000609000200390C000F0006090002003B0C00100006090002003D0C00110006090002003F0C0012000609000200410C0013000609000200430C0014000609000200450C0015000609000200470C0016000609000200490C00170006090002004B0C00180006090002004D0C0019001A090002004F0C001B001A09000200510C001C001A09000200530C001D001A09000200550C001E001F09000200570C0020001F09000200590C0021001F090002005B0C0022001F090002005D0C0023001F090002005F01000F4C696E654E756D6265725461626C6501000E637573746F6D697A6564496E6974010030284C6A6176612F7574696C2F4D61703B4C6A6176612F7574696C2F4D61703B4C6A6176612F7574696C2F4D61703B295601000A696E6974506172616D73010012284C6A6176612F7574696C2F4D61703B29560C006400650A0002006601000A696E69744669656C64730C006800650A00020069010008696E6974566172730C006B00650A0002006C01000D5245504F52545F4C4F43414C4508006E01000D6A6176612F7574696C2F4D6170070070010003676574010026284C6A6176612F6C616E672F4F626A6563743B294C6A6176612F6C616E672F4F626A6563743B0C007200730B007100740100306E65742F73662F6A61737065727265706F7274732F656E67696E652F66696C6C2F4A5246696C6C506172616D6574657207007601000D4A41535045525F5245504F52540800780100125245504F52545F5649525455414C495A455208007A0100105245504F52545F54494D455F5A4F4E4508007C01000B534F52545F4649454C445308007E0100145245504F52545F46494C455F5245534F4C5645520800800100105245504F52545F5343524950544C45540800820100155245504F52545F504152414D45544552535F4D41500800840100115245504F52545F434F4E4E454354494F4E08008601000E5245504F52545F434F4E544558540800880100135245504F52545F434C4153535F4C4F4144455208008A01001A5245504F52545F55524C5F48414E444C45525F464143544F525908008C0100125245504F52545F444154415F534F5552434508008E01001449535F49474E4F52455F504147494E4154494F4E08009001000646494C5445520800920100155245504F52545F464F524D41545F464143544F52590800940100105245504F52545F4D41585F434F554E540800960100105245504F52545F54454D504C415445530800980100165245504F52545F5245534F555243455F42554E444C4508009A01000B70726F6772616D436F646508009C01002C6E65742F73662F6A61737065727265706F7274732F656E67696E652F66696C6C2F4A5246696C6C4669656C6407009E01001064656C69766572795A6F6E654E616D650800A001001064656C69766572795A6F6E65436F64650800A201000B70726F6772616D4E616D650800A401000B504147455F4E554D4245520800A601002F6E65742F73662F6A61737065727265706F7274732F656E67696E652F66696C6C2F4A5246696C6C5661726961626C650700A801000D434F4C554D4E5F4E554D4245520800AA01000C5245504F52545F434F554E540800AC01000A504147455F434F554E540800AE01000C434F4C554D4E5F434F554E540800B00100086576616C756174650100152849294C6A6176612F6C616E672F4F626A6563743B01000A457863657074696F6E730100136A6176612F6C616E672F5468726F7761626C650700B50100116A6176612F6C616E672F496E74656765720700B7010004284929560C002400B90A00B800BA01000E6A6176612F7574696C2F446174650700BC0A00BD002701000867657456616C756501001428294C6A6176612F6C616E672F4F626A6563743B0C00BF00C00A009F00C10100106A6176612F6C616E672F537472696E670700C30A00A900C101000B6576616C756174654F6C6401000B6765744F6C6456616C75650C00C700C00A009F00C80A00A900C80100116576616C75617465457374696D61746564010011676574457374696D6174656456616C75650C00CC00C00A00A900CD01000A536F7572636546696C650021000200040000001C00020005000600000002000700060000000200080006000000020009000600000002000A000600000002000B000600000002000C000600000002000D000600000002000E000600000002000F0006000000020010000600000002001100060000000200120006000000020013000600000002001400060000000200150006000000020016000600000002001700060000000200180006000000020019001A00000002001B001A00000002001C001A00000002001D001A00000002001E001F000000020020001F000000020021001F000000020022001F000000020023001F00000008000100240025000100260000011D00020001000000912AB700282A01B5002A2A01B5002C2A01B5002E2A01B500302A01B500322A01B500342A01B500362A01B500382A01B5003A2A01B5003C2A01B5003E2A01B500402A01B500422A01B500442A01B500462A01B500482A01B5004A2A01B5004C2A01B5004E2A01B500502A01B500522A01B500542A01B500562A01B500582A01B5005A2A01B5005C2A01B5005E2A01B50060B10000000100610000007A001E00000012000400190009001A000E001B0013001C0018001D001D001E0022001F00270020002C00210031002200360023003B00240040002500450026004A0027004F0028005400290059002A005E002B0063002C0068002D006D002E0072002F00770030007C00310081003200860033008B003400900012000100620063000100260000003400020004000000102A2BB700672A2CB7006A2A2DB7006DB10000000100610000001200040000004000050041000A0042000F004300020064006500010026000001BB00030002000001572A2B126FB900750200C00077C00077B5002A2A2B1279B900750200C00077C00077B5002C2A2B127BB900750200C00077C00077B5002E2A2B127DB900750200C00077C00077B500302A2B127FB900750200C00077C00077B500322A2B1281B900750200C00077C00077B500342A2B1283B900750200C00077C00077B500362A2B1285B900750200C00077C00077B500382A2B1287B900750200C00077C00077B5003A2A2B1289B900750200C00077C00077B5003C2A2B128BB900750200C00077C00077B5003E2A2B128DB900750200C00077C00077B500402A2B128FB900750200C00077C00077B500422A2B1291B900750200C00077C00077B500442A2B1293B900750200C00077C00077B500462A2B1295B900750200C00077C00077B500482A2B1297B900750200C00077C00077B5004A2A2B1299B900750200C00077C00077B5004C2A2B129BB900750200C00077C00077B5004EB10000000100610000005200140000004B0012004C0024004D0036004E0048004F005A0050006C0051007E00520090005300A2005400B4005500C6005600D8005700EA005800FC0059010E005A0120005B0132005C0144005D0156005E000200680065000100260000007100030002000000492A2B129DB900750200C0009FC0009FB500502A2B12A1B900750200C0009FC0009FB500522A2B12A3B900750200C0009FC0009FB500542A2B12A5B900750200C0009FC0009FB50056B1000000010061000000160005000000660012006700240068003600690048006A0002006B00650001002600000087000300020000005B2A2B12A7B900750200C000A9C000A9B500582A2B12ABB900750200C000A9C000A9B5005A2A2B12ADB900750200C000A9C000A9B5005C2A2B12AFB900750200C000A9C000A9B5005E2A2B12B1B900750200C000A9C000A9B50060B10000000100610000001A00060000007200120073002400740036007500480076005A0077000100B200B3000200B400000004000100B600260000019E000300030000010A014D1BAA00000105000000000000000E0000004900000055000000610000006D0000007900000085000000910000009D000000A9000000B4000000C2000000D0000000DE000000EC000000FABB00B85904B700BB4DA700B3BB00B85904B700BB4DA700A7BB00B85904B700BB4DA7009BBB00B85903B700BB4DA7008FBB00B85904B700BB4DA70083BB00B85903B700BB4DA70077BB00B85904B700BB4DA7006BBB00B85903B700BB4DA7005FBB00BD59B700BE4DA700542AB40054B600C2C000C44DA700462AB40052B600C2C000C44DA700382AB40050B600C2C000C44DA7002A2AB40056B600C2C000C44DA7001C2AB4005CB600C5C000B84DA7000E2AB40058B600C5C000B84D2CB00000000100610000008200200000007F00020081004C0085005500860058008A0061008B0064008F006D00900070009400790095007C00990085009A0088009E0091009F009400A3009D00A400A000A800A900A900AC00AD00B400AE00B700B200C200B300C500B700D000B800D300BC00DE00BD00E100C100EC00C200EF00C600FA00C700FD00CB010800D3000100C600B3000200B400000004000100B600260000019E000300030000010A014D1BAA00000105000000000000000E0000004900000055000000610000006D0000007900000085000000910000009D000000A9000000B4000000C2000000D0000000DE000000EC000000FABB00B85904B700BB4DA700B3BB00B85904B700BB4DA700A7BB00B85904B700BB4DA7009BBB00B85903B700BB4DA7008FBB00B85904B700BB4DA70083BB00B85903B700BB4DA70077BB00B85904B700BB4DA7006BBB00B85903B700BB4DA7005FBB00BD59B700BE4DA700542AB40054B600C9C000C44DA700462AB40052B600C9C000C44DA700382AB40050B600C9C000C44DA7002A2AB40056B600C9C000C44DA7001C2AB4005CB600CAC000B84DA7000E2AB40058B600CAC000B84D2CB0000000010061000000820020000000DC000200DE004C00E2005500E3005800E7006100E8006400EC006D00ED007000F1007900F2007C00F6008500F7008800FB009100FC00940100009D010100A0010500A9010600AC010A00B4010B00B7010F00C2011000C5011400D0011500D3011900DE011A00E1011E00EC011F00EF012300FA012400FD012801080130000100CB00B3000200B400000004000100B600260000019E000300030000010A014D1BAA00000105000000000000000E0000004900000055000000610000006D0000007900000085000000910000009D000000A9000000B4000000C2000000D0000000DE000000EC000000FABB00B85904B700BB4DA700B3BB00B85904B700BB4DA700A7BB00B85904B700BB4DA7009BBB00B85903B700BB4DA7008FBB00B85904B700BB4DA70083BB00B85903B700BB4DA70077BB00B85904B700BB4DA7006BBB00B85903B700BB4DA7005FBB00BD59B700BE4DA700542AB40054B600C2C000C44DA700462AB40052B600C2C000C44DA700382AB40050B600C2C000C44DA7002A2AB40056B600C2C000C44DA7001C2AB4005CB600CEC000B84DA7000E2AB40058B600CEC000B84D2CB0000000010061000000820020000001390002013B004C013F00550140005801440061014500640149006D014A0070014E0079014F007C01530085015400880158009101590094015D009D015E00A0016200A9016300AC016700B4016800B7016C00C2016D00C5017100D0017200D3017600DE017700E1017B00EC017C00EF018000FA018100FD01850108018D000100CF0000000200017400145F313338303137383931343230345F38383837367400326E65742E73662E6A61737065727265706F7274732E656E67696E652E64657369676E2E4A524A61766163436F6D70696C6572');
 
+UPDATE templates SET checksum = MD5(data) WHERE checksum IS NULL;
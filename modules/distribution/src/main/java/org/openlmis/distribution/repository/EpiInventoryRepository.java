@@ -16,6 +16,15 @@ import org.openlmis.distribution.repository.mapper.EpiInventoryLineItemMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.openlmis.core.repository.helper.CommaSeparator.commaSeparateValues;
+import static org.openlmis.core.repository.helper.ListPartitioner.partition;
+import static org.openlmis.distribution.repository.PreallocatedIds.assign;
+
 /**
  * Repository class for epi inventory related database operations.
  */
@@ -23,6 +32,8 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class EpiInventoryRepository {
 
+  static final int BATCH_SIZE = 500;
+
   @Autowired
   private EpiInventoryLineItemMapper mapper;
 
@@ -36,7 +47,63 @@ public class EpiInventoryRepository {
     }
   }
 
+  public void insertAll(List<EpiInventory> epiInventories) {
+    insertLineItems(lineItemsOf(epiInventories));
+  }
+
+  /**
+   * Saves the line items of the given epi inventories with one multi-row statement per batch, inserting the new ones
+   * and updating the rest.
+   */
+  public void saveAll(List<EpiInventory> epiInventories) {
+    List<EpiInventoryLineItem> newLineItems = new ArrayList<>();
+    List<EpiInventoryLineItem> existingLineItems = new ArrayList<>();
+    for (EpiInventoryLineItem lineItem : lineItemsOf(epiInventories)) {
+      if (lineItem.getId() == null) {
+        newLineItems.add(lineItem);
+      } else {
+        existingLineItems.add(lineItem);
+      }
+    }
+    insertLineItems(newLineItems);
+    for (List<EpiInventoryLineItem> batch : partition(existingLineItems, BATCH_SIZE)) {
+      mapper.updateLineItems(batch);
+    }
+  }
+
+  private List<EpiInventoryLineItem> lineItemsOf(List<EpiInventory> epiInventories) {
+    List<EpiInventoryLineItem> lineItems = new ArrayList<>();
+    for (EpiInventory epiInventory : epiInventories) {
+      lineItems.addAll(epiInventory.getLineItems());
+    }
+    return lineItems;
+  }
+
+  private void insertLineItems(List<EpiInventoryLineItem> lineItems) {
+    for (List<EpiInventoryLineItem> batch : partition(lineItems, BATCH_SIZE)) {
+      assign(batch, mapper.getNextIds(batch.size()));
+      mapper.insertLineItems(batch);
+    }
+  }
+
   public EpiInventory getBy(Long facilityVisitId) {
     return new EpiInventory(mapper.getLineItemsBy(facilityVisitId));
   }
+
+  /**
+   * Loads the epi inventory of every given facility visit, keyed by facility visit id, with one query per batch of
+   * visits.
+   */
+  public Map<Long, EpiInventory> getByFacilityVisitIds(List<Long> facilityVisitIds) {
+    Map<Long, EpiInventory> epiInventories = new HashMap<>();
+    for (Long facilityVisitId : facilityVisitIds) {
+      epiInventories.put(facilityVisitId, new EpiInventory());
+    }
+    for (List<Long> batch : partition(facilityVisitIds, BATCH_SIZE)) {
+      for (EpiInventoryLineItem lineItem : mapper.getLineItemsByFacilityVisitIds(commaSeparateValues(batch))) {
+        epiInventories.get(lineItem.getFacilityVisitId()).getLineItems().add(lineItem);
+      }
+    }
+    return epiInventories;
+  }
 }
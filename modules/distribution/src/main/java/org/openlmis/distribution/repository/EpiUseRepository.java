@@ -16,7 +16,14 @@ import org.openlmis.distribution.repository.mapper.EpiUseLineItemMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+
+import static org.openlmis.core.repository.helper.CommaSeparator.commaSeparateValues;
+import static org.openlmis.core.repository.helper.ListPartitioner.partition;
+import static org.openlmis.distribution.repository.PreallocatedIds.assign;
 
 /**
  * Repository class for epi use related database operations.
@@ -25,6 +32,8 @@ import java.util.List;
 @Repository
 public class EpiUseRepository {
 
+  static final int BATCH_SIZE = 500;
+
   @Autowired
   private EpiUseLineItemMapper mapper;
 
@@ -36,8 +45,50 @@ public class EpiUseRepository {
     mapper.updateLineItem(epiUseLineItem);
   }
 
+  public void insertLineItems(List<EpiUseLineItem> lineItems) {
+    for (List<EpiUseLineItem> batch : partition(lineItems, BATCH_SIZE)) {
+      assign(batch, mapper.getNextIds(batch.size()));
+      mapper.insertLineItems(batch);
+    }
+  }
+
+  /**
+   * Saves the given line items with one multi-row statement per batch, inserting the new ones and updating the rest.
+   */
+  public void saveLineItems(List<EpiUseLineItem> lineItems) {
+    List<EpiUseLineItem> newLineItems = new ArrayList<>();
+    List<EpiUseLineItem> existingLineItems = new ArrayList<>();
+    for (EpiUseLineItem lineItem : lineItems) {
+      if (lineItem.getId() == null) {
+        newLineItems.add(lineItem);
+      } else {
+        existingLineItems.add(lineItem);
+      }
+    }
+    insertLineItems(newLineItems);
+    for (List<EpiUseLineItem> batch : partition(existingLineItems, BATCH_SIZE)) {
+      mapper.updateLineItems(batch);
+    }
+  }
+
   public EpiUse getBy(Long facilityVisitId) {
     List<EpiUseLineItem> epiUseLineItems = mapper.getBy(facilityVisitId);
     return new EpiUse(epiUseLineItems);
   }
+
+  /**
+   * Loads the epi use of every given facility visit, keyed by facility visit id, with one query per batch of visits.
+   */
+  public Map<Long, EpiUse> getByFacilityVisitIds(List<Long> facilityVisitIds) {
+    Map<Long, EpiUse> epiUses = new HashMap<>();
+    for (Long facilityVisitId : facilityVisitIds) {
+      epiUses.put(facilityVisitId, new EpiUse());
+    }
+    for (List<Long> batch : partition(facilityVisitIds, BATCH_SIZE)) {
+      for (EpiUseLineItem lineItem : mapper.getByFacilityVisitIds(commaSeparateValues(batch))) {
+        epiUses.get(lineItem.getFacilityVisitId()).getLineItems().add(lineItem);
+      }
+    }
+    return epiUses;
+  }
 }
@@ -17,8 +17,13 @@ import org.openlmis.distribution.repository.mapper.FacilityVisitMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import static org.openlmis.core.repository.helper.CommaSeparator.commaSeparateValues;
+import static org.openlmis.core.repository.helper.ListPartitioner.partition;
+import static org.openlmis.distribution.repository.PreallocatedIds.assign;
+
 /**
  * Repository class for facility visit related database operations.
  */
@@ -26,6 +31,8 @@ import java.util.List;
 @Repository
 public class FacilityVisitRepository {
 
+  static final int BATCH_SIZE = 500;
+
   @Autowired
   FacilityVisitMapper mapper;
 
@@ -41,6 +48,20 @@ public class FacilityVisitRepository {
     return mapper.getById(facilityVisitId);
   }
 
+  public List<FacilityVisit> getByIds(List<Long> facilityVisitIds) {
+    List<FacilityVisit> facilityVisits = new ArrayList<>();
+    for (List<Long> batch : partition(facilityVisitIds, BATCH_SIZE)) {
+      facilityVisits.addAll(mapper.getByIds(commaSeparateValues(batch)));
+    }
+    return facilityVisits;
+  }
+
+  public void updateAll(List<FacilityVisit> facilityVisits) {
+    for (List<FacilityVisit> batch : partition(facilityVisits, BATCH_SIZE)) {
+      mapper.updateAll(batch);
+    }
+  }
+
   public FacilityVisit getBy(Long facilityId, Long distributionId) {
     return mapper.getBy(facilityId, distributionId);
   }
@@ -53,6 +74,13 @@ public class FacilityVisitRepository {
     return mapper.getUnsyncedFacilityCountForDistribution(distributionId);
   }
 
+  public void insertAll(List<FacilityVisit> facilityVisits) {
+    for (List<FacilityVisit> batch : partition(facilityVisits, BATCH_SIZE)) {
+      assign(batch, mapper.getNextIds(batch.size()));
+      mapper.insertAll(batch);
+    }
+  }
+
   public FacilityVisit save(FacilityVisit facilityVisit) {
     if (facilityVisit.getId() == null) {
       mapper.insert(facilityVisit);
@@ -0,0 +1,31 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.distribution.repository;
+
+import org.openlmis.core.domain.BaseModel;
+
+import java.util.List;
+
+/**
+ * Assigns ids drawn ahead of time from a table's sequence to models that are then inserted in a single multi-row
+ * statement, so callers get the same ids back as with row by row inserts.
+ */
+class PreallocatedIds {
+
+  private PreallocatedIds() {
+  }
+
+  static void assign(List<? extends BaseModel> models, List<Long> ids) {
+    for (int index = 0; index < models.size(); index++) {
+      models.get(index).setId(ids.get(index));
+    }
+  }
+}
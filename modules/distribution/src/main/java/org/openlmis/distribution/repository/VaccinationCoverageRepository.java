@@ -15,7 +15,14 @@ import org.openlmis.distribution.repository.mapper.VaccinationCoverageMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+
+import static org.openlmis.core.repository.helper.CommaSeparator.commaSeparateValues;
+import static org.openlmis.core.repository.helper.ListPartitioner.partition;
+import static org.openlmis.distribution.repository.PreallocatedIds.assign;
 
 /**
  * Repository class for vaccination full coverage, child coverage and adult coverage related database operations.
@@ -24,6 +31,8 @@ import java.util.List;
 @Repository
 public class VaccinationCoverageRepository {
 
+  static final int BATCH_SIZE = 500;
+
   @Autowired
   private VaccinationCoverageMapper mapper;
 
@@ -31,10 +40,30 @@ public class VaccinationCoverageRepository {
     mapper.insertFullVaccinationCoverage(vaccinationFullCoverage);
   }
 
+  public void saveFullCoverages(List<VaccinationFullCoverage> fullCoverages) {
+    for (List<VaccinationFullCoverage> batch : partition(fullCoverages, BATCH_SIZE)) {
+      mapper.insertFullVaccinationCoverages(batch);
+    }
+  }
+
   public VaccinationFullCoverage getFullCoverageBy(Long facilityVisitId) {
     return mapper.getFullCoverageBy(facilityVisitId);
   }
 
+  /**
+   * Loads the full coverage of the given facility visits, keyed by facility visit id. Visits without a recorded full
+   * coverage have no entry.
+   */
+  public Map<Long, VaccinationFullCoverage> getFullCoveragesBy(List<Long> facilityVisitIds) {
+    Map<Long, VaccinationFullCoverage> fullCoverages = new HashMap<>();
+    for (List<Long> batch : partition(facilityVisitIds, BATCH_SIZE)) {
+      for (VaccinationFullCoverage fullCoverage : mapper.getFullCoveragesByFacilityVisitIds(commaSeparateValues(batch))) {
+        fullCoverages.put(fullCoverage.getFacilityVisitId(), fullCoverage);
+      }
+    }
+    return fullCoverages;
+  }
+
   public List<TargetGroupProduct> getVaccinationProducts() {
     return mapper.getVaccinationProducts();
   }
@@ -57,12 +86,87 @@ public class VaccinationCoverageRepository {
     }
   }
 
+  public void insertChildCoverages(List<VaccinationChildCoverage> childCoverages) {
+    List<ChildCoverageLineItem> lineItems = new ArrayList<>();
+    List<OpenedVialLineItem> openedVialLineItems = new ArrayList<>();
+    for (VaccinationChildCoverage childCoverage : childCoverages) {
+      lineItems.addAll(childCoverage.getChildCoverageLineItems());
+      openedVialLineItems.addAll(childCoverage.getOpenedVialLineItems());
+    }
+
+    for (List<ChildCoverageLineItem> batch : partition(lineItems, BATCH_SIZE)) {
+      assign(batch, mapper.getNextChildCoverageLineItemIds(batch.size()));
+      mapper.insertChildCoverageLineItems(batch);
+    }
+    for (List<OpenedVialLineItem> batch : partition(openedVialLineItems, BATCH_SIZE)) {
+      assign(batch, mapper.getNextChildCoverageOpenedVialLineItemIds(batch.size()));
+      mapper.insertChildCoverageOpenedVialLineItems(batch);
+    }
+  }
+
+  /**
+   * Saves the line items and opened vial line items of the given child coverages with one multi-row statement per
+   * batch, inserting the new ones and updating the rest.
+   */
+  public void saveChildCoverages(List<VaccinationChildCoverage> childCoverages) {
+    List<VaccinationChildCoverage> newCoverages = new ArrayList<>();
+    List<ChildCoverageLineItem> existingLineItems = new ArrayList<>();
+    List<OpenedVialLineItem> existingOpenedVialLineItems = new ArrayList<>();
+    for (VaccinationChildCoverage childCoverage : childCoverages) {
+      VaccinationChildCoverage newCoverage = new VaccinationChildCoverage();
+      for (ChildCoverageLineItem lineItem : childCoverage.getChildCoverageLineItems()) {
+        if (lineItem.getId() == null) {
+          newCoverage.getChildCoverageLineItems().add(lineItem);
+        } else {
+          existingLineItems.add(lineItem);
+        }
+      }
+      for (OpenedVialLineItem lineItem : childCoverage.getOpenedVialLineItems()) {
+        if (lineItem.getId() == null) {
+          newCoverage.getOpenedVialLineItems().add(lineItem);
+        } else {
+          existingOpenedVialLineItems.add(lineItem);
+        }
+      }
+      newCoverages.add(newCoverage);
+    }
+
+    insertChildCoverages(newCoverages);
+    for (List<ChildCoverageLineItem> batch : partition(existingLineItems, BATCH_SIZE)) {
+      mapper.updateChildCoverageLineItems(batch);
+    }
+    for (List<OpenedVialLineItem> batch : partition(existingOpenedVialLineItems, BATCH_SIZE)) {
+      mapper.updateChildCoverageOpenedVialLineItems(batch);
+    }
+  }
+
   public VaccinationChildCoverage getChildCoverageBy(Long facilityVisitId) {
     VaccinationChildCoverage childCoverage = new VaccinationChildCoverage(mapper.getChildCoverageLineItemsBy(facilityVisitId));
     childCoverage.setOpenedVialLineItems(mapper.getChildCoverageOpenedVialLineItemsBy(facilityVisitId));
     return childCoverage;
   }
 
+  /**
+   * Loads the child coverage of every given facility visit, keyed by facility visit id, with one query per table for
+   * each batch of visits.
+   */
+  public Map<Long, VaccinationChildCoverage> getChildCoveragesBy(List<Long> facilityVisitIds) {
+    Map<Long, VaccinationChildCoverage> childCoverages = new HashMap<>();
+    for (Long facilityVisitId : facilityVisitIds) {
+      childCoverages.put(facilityVisitId, new VaccinationChildCoverage());
+    }
+    for (List<Long> batch : partition(facilityVisitIds, BATCH_SIZE)) {
+      String commaSeparatedFacilityVisitIds = commaSeparateValues(batch);
+      for (ChildCoverageLineItem lineItem : mapper.getChildCoverageLineItemsByFacilityVisitIds(commaSeparatedFacilityVisitIds)) {
+        childCoverages.get(lineItem.getFacilityVisitId()).getChildCoverageLineItems().add(lineItem);
+      }
+      for (OpenedVialLineItem lineItem : mapper.getChildCoverageOpenedVialLineItemsByFacilityVisitIds(commaSeparatedFacilityVisitIds)) {
+        childCoverages.get(lineItem.getFacilityVisitId()).getOpenedVialLineItems().add(lineItem);
+      }
+    }
+    return childCoverages;
+  }
+
   public List<ProductVial> getProductVials() {
     return mapper.getProductVials();
   }
@@ -85,9 +189,84 @@ public class VaccinationCoverageRepository {
     }
   }
 
+  public void insertAdultCoverages(List<VaccinationAdultCoverage> adultCoverages) {
+    List<AdultCoverageLineItem> lineItems = new ArrayList<>();
+    List<OpenedVialLineItem> openedVialLineItems = new ArrayList<>();
+    for (VaccinationAdultCoverage adultCoverage : adultCoverages) {
+      lineItems.addAll(adultCoverage.getAdultCoverageLineItems());
+      openedVialLineItems.addAll(adultCoverage.getOpenedVialLineItems());
+    }
+
+    for (List<AdultCoverageLineItem> batch : partition(lineItems, BATCH_SIZE)) {
+      assign(batch, mapper.getNextAdultCoverageLineItemIds(batch.size()));
+      mapper.insertAdultCoverageLineItems(batch);
+    }
+    for (List<OpenedVialLineItem> batch : partition(openedVialLineItems, BATCH_SIZE)) {
+      assign(batch, mapper.getNextAdultCoverageOpenedVialLineItemIds(batch.size()));
+      mapper.insertAdultCoverageOpenedVialLineItems(batch);
+    }
+  }
+
+  /**
+   * Saves the line items and opened vial line items of the given adult coverages with one multi-row statement per
+   * batch, inserting the new ones and updating the rest.
+   */
+  public void saveAdultCoverages(List<VaccinationAdultCoverage> adultCoverages) {
+    List<VaccinationAdultCoverage> newCoverages = new ArrayList<>();
+    List<AdultCoverageLineItem> existingLineItems = new ArrayList<>();
+    List<OpenedVialLineItem> existingOpenedVialLineItems = new ArrayList<>();
+    for (VaccinationAdultCoverage adultCoverage : adultCoverages) {
+      VaccinationAdultCoverage newCoverage = new VaccinationAdultCoverage();
+      for (AdultCoverageLineItem lineItem : adultCoverage.getAdultCoverageLineItems()) {
+        if (lineItem.getId() == null) {
+          newCoverage.getAdultCoverageLineItems().add(lineItem);
+        } else {
+          existingLineItems.add(lineItem);
+        }
+      }
+      for (OpenedVialLineItem lineItem : adultCoverage.getOpenedVialLineItems()) {
+        if (lineItem.getId() == null) {
+          newCoverage.getOpenedVialLineItems().add(lineItem);
+        } else {
+          existingOpenedVialLineItems.add(lineItem);
+        }
+      }
+      newCoverages.add(newCoverage);
+    }
+
+    insertAdultCoverages(newCoverages);
+    for (List<AdultCoverageLineItem> batch : partition(existingLineItems, BATCH_SIZE)) {
+      mapper.updateAdultCoverageLineItems(batch);
+    }
+    for (List<OpenedVialLineItem> batch : partition(existingOpenedVialLineItems, BATCH_SIZE)) {
+      mapper.updateAdultCoverageOpenedVialLineItems(batch);
+    }
+  }
+
   public VaccinationAdultCoverage getAdultCoverageBy(Long facilityVisitId) {
     VaccinationAdultCoverage adultCoverage = new VaccinationAdultCoverage(mapper.getAdultCoverageLineItemsBy(facilityVisitId));
     adultCoverage.setOpenedVialLineItems(mapper.getAdultCoverageOpenedVialLineItemsBy(facilityVisitId));
     return adultCoverage;
   }
+
+  /**
+   * Loads the adult coverage of every given facility visit, keyed by facility visit id, with one query per table for
+   * each batch of visits.
+   */
+  public Map<Long, VaccinationAdultCoverage> getAdultCoveragesBy(List<Long> facilityVisitIds) {
+    Map<Long, VaccinationAdultCoverage> adultCoverages = new HashMap<>();
+    for (Long facilityVisitId : facilityVisitIds) {
+      adultCoverages.put(facilityVisitId, new VaccinationAdultCoverage());
+    }
+    for (List<Long> batch : partition(facilityVisitIds, BATCH_SIZE)) {
+      String commaSeparatedFacilityVisitIds = commaSeparateValues(batch);
+      for (AdultCoverageLineItem lineItem : mapper.getAdultCoverageLineItemsByFacilityVisitIds(commaSeparatedFacilityVisitIds)) {
+        adultCoverages.get(lineItem.getFacilityVisitId()).getAdultCoverageLineItems().add(lineItem);
+      }
+      for (OpenedVialLineItem lineItem : mapper.getAdultCoverageOpenedVialLineItemsByFacilityVisitIds(commaSeparatedFacilityVisitIds)) {
+        adultCoverages.get(lineItem.getFacilityVisitId()).getOpenedVialLineItems().add(lineItem);
+      }
+    }
+    return adultCoverages;
+  }
 }
@@ -12,6 +12,7 @@ package org.openlmis.distribution.repository.mapper;
 
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
 import org.openlmis.distribution.domain.EpiInventoryLineItem;
@@ -31,10 +32,40 @@ public interface EpiInventoryLineItemMapper {
   @Options(useGeneratedKeys = true)
   void insertLineItem(EpiInventoryLineItem lineItem);
 
+  @Select("SELECT nextval(pg_get_serial_sequence('epi_inventory_line_items', 'id')) FROM generate_series(1, #{count})")
+  List<Long> getNextIds(@Param("count") int count);
+
+  @Insert({"<script>",
+    "INSERT INTO epi_inventory_line_items (id, facilityVisitId, programProductId, productCode, productName, productDisplayOrder,",
+    "idealQuantity, createdBy, modifiedBy) VALUES",
+    "<foreach collection='lineItems' item='lineItem' separator=','>",
+    "(#{lineItem.id}, #{lineItem.facilityVisitId}, #{lineItem.programProductId}, #{lineItem.productCode}, #{lineItem.productName},",
+    "#{lineItem.productDisplayOrder}, #{lineItem.idealQuantity}, #{lineItem.createdBy}, #{lineItem.modifiedBy})",
+    "</foreach>",
+    "</script>"})
+  void insertLineItems(@Param("lineItems") List<EpiInventoryLineItem> lineItems);
+
   @Select({"SELECT * FROM epi_inventory_line_items WHERE facilityVisitId = #{facilityVisitId} ORDER BY productDisplayOrder, LOWER(productCode)"})
   List<EpiInventoryLineItem> getLineItemsBy(Long facilityVisitId);
 
+  @Select({"SELECT * FROM epi_inventory_line_items WHERE facilityVisitId = ANY(#{commaSeparatedFacilityVisitIds}::INTEGER[])",
+    "ORDER BY facilityVisitId, productDisplayOrder, LOWER(productCode)"})
+  List<EpiInventoryLineItem> getLineItemsByFacilityVisitIds(@Param("commaSeparatedFacilityVisitIds") String commaSeparatedFacilityVisitIds);
+
   @Update({"UPDATE epi_inventory_line_items SET spoiledQuantity = #{spoiledQuantity}, deliveredQuantity = #{deliveredQuantity},",
     "existingQuantity = #{existingQuantity}, modifiedBy = #{modifiedBy}, modifiedDate = DEFAULT WHERE id = #{id}"})
   void updateLineItem(EpiInventoryLineItem lineItem);
+
+  @Update({"<script>",
+    "UPDATE epi_inventory_line_items SET spoiledQuantity = V.spoiledQuantity, deliveredQuantity = V.deliveredQuantity,",
+    "existingQuantity = V.existingQuantity, modifiedBy = V.modifiedBy, modifiedDate = DEFAULT",
+    "FROM (VALUES",
+    "<foreach collection='lineItems' item='lineItem' separator=','>",
+    "(#{lineItem.id}::INTEGER, #{lineItem.spoiledQuantity}::NUMERIC, #{lineItem.deliveredQuantity}::NUMERIC,",
+    "#{lineItem.existingQuantity}::NUMERIC, #{lineItem.modifiedBy}::INTEGER)",
+    "</foreach>",
+    ") AS V (id, spoiledQuantity, deliveredQuantity, existingQuantity, modifiedBy)",
+    "WHERE epi_inventory_line_items.id = V.id",
+    "</script>"})
+  void updateLineItems(@Param("lineItems") List<EpiInventoryLineItem> lineItems);
 }
@@ -29,6 +29,20 @@ public interface EpiUseLineItemMapper {
   @Options(useGeneratedKeys = true)
   public void insertLineItem(EpiUseLineItem epiUseLineItem);
 
+  @Select("SELECT nextval(pg_get_serial_sequence('epi_use_line_items', 'id')) FROM generate_series(1, #{count})")
+  List<Long> getNextIds(@Param("count") int count);
+
+  @Insert({"<script>",
+    "INSERT INTO epi_use_line_items (id, facilityVisitId, productGroupId, productGroupName, stockAtFirstOfMonth, received,",
+    "distributed, loss, stockAtEndOfMonth, expirationDate, createdBy, modifiedBy) VALUES",
+    "<foreach collection='lineItems' item='lineItem' separator=','>",
+    "(#{lineItem.id}, #{lineItem.facilityVisitId}, #{lineItem.productGroup.id}, #{lineItem.productGroup.name}, #{lineItem.stockAtFirstOfMonth},",
+    "#{lineItem.received}, #{lineItem.distributed}, #{lineItem.loss}, #{lineItem.stockAtEndOfMonth}, #{lineItem.expirationDate},",
+    "#{lineItem.createdBy}, #{lineItem.modifiedBy})",
+    "</foreach>",
+    "</script>"})
+  void insertLineItems(@Param("lineItems") List<EpiUseLineItem> lineItems);
+
   @Select({"SELECT * FROM epi_use_line_items WHERE id = #{id}"})
   @Results(value = {
     @Result(property = "productGroup.id", column = "productGroupId"),
@@ -41,10 +55,33 @@ public interface EpiUseLineItemMapper {
     "modifiedBy = #{modifiedBy}, modifiedDate = DEFAULT WHERE id = #{id}"})
   public void updateLineItem(EpiUseLineItem epiUseLineItem);
 
+  @Update({"<script>",
+    "UPDATE epi_use_line_items SET received = V.received, distributed = V.distributed, loss = V.loss,",
+    "stockAtFirstOfMonth = V.stockAtFirstOfMonth, stockAtEndOfMonth = V.stockAtEndOfMonth, expirationDate = V.expirationDate,",
+    "modifiedBy = V.modifiedBy, modifiedDate = DEFAULT",
+    "FROM (VALUES",
+    "<foreach collection='lineItems' item='lineItem' separator=','>",
+    "(#{lineItem.id}::INTEGER, #{lineItem.received}::NUMERIC, #{lineItem.distributed}::NUMERIC, #{lineItem.loss}::NUMERIC,",
+    "#{lineItem.stockAtFirstOfMonth}::NUMERIC, #{lineItem.stockAtEndOfMonth}::NUMERIC, #{lineItem.expirationDate}::VARCHAR,",
+    "#{lineItem.modifiedBy}::INTEGER)",
+    "</foreach>",
+    ") AS V (id, received, distributed, loss, stockAtFirstOfMonth, stockAtEndOfMonth, expirationDate, modifiedBy)",
+    "WHERE epi_use_line_items.id = V.id",
+    "</script>"})
+  void updateLineItems(@Param("lineItems") List<EpiUseLineItem> lineItems);
+
   @Select({"SELECT * FROM epi_use_line_items WHERE facilityVisitId = #{facilityVisitId} ORDER BY LOWER(productGroupName)"})
   @Results(value = {
     @Result(property = "productGroup.id", column = "productGroupId"),
     @Result(property = "productGroup.name", column = "productGroupName")
   })
   List<EpiUseLineItem> getBy(Long facilityVisitId);
+
+  @Select({"SELECT * FROM epi_use_line_items WHERE facilityVisitId = ANY(#{commaSeparatedFacilityVisitIds}::INTEGER[])",
+    "ORDER BY facilityVisitId, LOWER(productGroupName)"})
+  @Results(value = {
+    @Result(property = "productGroup.id", column = "productGroupId"),
+    @Result(property = "productGroup.name", column = "productGroupName")
+  })
+  List<EpiUseLineItem> getByFacilityVisitIds(@Param("commaSeparatedFacilityVisitIds") String commaSeparatedFacilityVisitIds);
 }
@@ -30,6 +30,17 @@ public interface FacilityVisitMapper {
   @Options(useGeneratedKeys = true)
   public void insert(FacilityVisit facilityVisit);
 
+  @Select("SELECT nextval(pg_get_serial_sequence('facility_visits', 'id')) FROM generate_series(1, #{count})")
+  List<Long> getNextIds(@Param("count") int count);
+
+  @Insert({"<script>",
+    "INSERT INTO facility_visits (id, distributionId, facilityId, facilityCatchmentPopulation, createdBy, modifiedBy) VALUES",
+    "<foreach collection='facilityVisits' item='visit' separator=','>",
+    "(#{visit.id}, #{visit.distributionId}, #{visit.facilityId}, #{visit.facilityCatchmentPopulation}, #{visit.createdBy}, #{visit.modifiedBy})",
+    "</foreach>",
+    "</script>"})
+  void insertAll(@Param("facilityVisits") List<FacilityVisit> facilityVisits);
+
   @Select("SELECT * FROM facility_visits WHERE distributionId = #{distributionId} AND facilityId = #{facilityId}")
   @Results({
     @Result(property = "verifiedBy.name", column = "verifiedByName"),
@@ -46,10 +57,32 @@ public interface FacilityVisitMapper {
       "reasonForNotVisiting = #{reasonForNotVisiting}, otherReasonDescription = #{otherReasonDescription} WHERE id = #{id}"})
   public void update(FacilityVisit facilityVisit);
 
+  @Update({"<script>",
+    "UPDATE facility_visits SET visited = V.visited, visitDate = V.visitDate, vehicleId = V.vehicleId,",
+    "confirmedByName = V.confirmedByName, confirmedByTitle = V.confirmedByTitle,",
+    "verifiedByName = V.verifiedByName, verifiedByTitle = V.verifiedByTitle,",
+    "observations = V.observations, synced = V.synced, modifiedBy = V.modifiedBy, modifiedDate = DEFAULT,",
+    "reasonForNotVisiting = V.reasonForNotVisiting, otherReasonDescription = V.otherReasonDescription",
+    "FROM (VALUES",
+    "<foreach collection='facilityVisits' item='visit' separator=','>",
+    "(#{visit.id}::INTEGER, #{visit.visited}::BOOLEAN, #{visit.visitDate}::TIMESTAMP, #{visit.vehicleId}::VARCHAR,",
+    "#{visit.confirmedBy.name}::VARCHAR, #{visit.confirmedBy.title}::VARCHAR, #{visit.verifiedBy.name}::VARCHAR,",
+    "#{visit.verifiedBy.title}::VARCHAR, #{visit.observations}::TEXT, #{visit.synced}::BOOLEAN, #{visit.modifiedBy}::INTEGER,",
+    "#{visit.reasonForNotVisiting}::VARCHAR, #{visit.otherReasonDescription}::VARCHAR)",
+    "</foreach>",
+    ") AS V (id, visited, visitDate, vehicleId, confirmedByName, confirmedByTitle, verifiedByName, verifiedByTitle,",
+    "observations, synced, modifiedBy, reasonForNotVisiting, otherReasonDescription)",
+    "WHERE facility_visits.id = V.id",
+    "</script>"})
+  void updateAll(@Param("facilityVisits") List<FacilityVisit> facilityVisits);
+
 
   @Select({"SELECT * FROM facility_visits WHERE id = #{id}"})
   public FacilityVisit getById(Long id);
 
+  @Select({"SELECT * FROM facility_visits WHERE id = ANY(#{commaSeparatedIds}::INTEGER[])"})
+  List<FacilityVisit> getByIds(@Param("commaSeparatedIds") String commaSeparatedIds);
+
 
   @Select({"SELECT * FROM facility_visits WHERE distributionId = #{distributionId} AND synced = false"})
   List<FacilityVisit> getUnSyncedFacilities(Long distributionId);
@@ -12,6 +12,7 @@ package org.openlmis.distribution.repository.mapper;
 
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
 import org.openlmis.distribution.domain.*;
@@ -34,6 +35,16 @@ public interface VaccinationCoverageMapper {
   @Options(useGeneratedKeys = true)
   void insertFullVaccinationCoverage(VaccinationFullCoverage vaccinationFullCoverage);
 
+  @Insert({"<script>",
+    "INSERT INTO full_coverages (facilityVisitId, femaleHealthCenter, femaleOutreach, maleHealthCenter, maleOutreach,",
+    "createdBy, modifiedBy) VALUES",
+    "<foreach collection='fullCoverages' item='coverage' separator=','>",
+    "(#{coverage.facilityVisitId}, #{coverage.femaleHealthCenter}, #{coverage.femaleOutreach}, #{coverage.maleHealthCenter},",
+    "#{coverage.maleOutreach}, #{coverage.createdBy}, #{coverage.modifiedBy})",
+    "</foreach>",
+    "</script>"})
+  void insertFullVaccinationCoverages(@Param("fullCoverages") List<VaccinationFullCoverage> fullCoverages);
+
   @Insert({"INSERT INTO vaccination_child_coverage_line_items (facilityVisitId, vaccination, targetGroup, createdBy, modifiedBy)",
     "VALUES (#{facilityVisitId}, #{vaccination}, #{targetGroup}, #{createdBy}, #{modifiedBy})"})
   @Options(useGeneratedKeys = true)
@@ -49,15 +60,66 @@ public interface VaccinationCoverageMapper {
   @Options(useGeneratedKeys = true)
   void insertAdultCoverageOpenedVialLineItem(OpenedVialLineItem openedVialLineItem);
 
+  @Select("SELECT nextval(pg_get_serial_sequence('vaccination_child_coverage_line_items', 'id')) FROM generate_series(1, #{count})")
+  List<Long> getNextChildCoverageLineItemIds(@Param("count") int count);
+
+  @Insert({"<script>",
+    "INSERT INTO vaccination_child_coverage_line_items (id, facilityVisitId, vaccination, targetGroup, createdBy, modifiedBy) VALUES",
+    "<foreach collection='lineItems' item='lineItem' separator=','>",
+    "(#{lineItem.id}, #{lineItem.facilityVisitId}, #{lineItem.vaccination}, #{lineItem.targetGroup}, #{lineItem.createdBy}, #{lineItem.modifiedBy})",
+    "</foreach>",
+    "</script>"})
+  void insertChildCoverageLineItems(@Param("lineItems") List<ChildCoverageLineItem> lineItems);
+
+  @Select("SELECT nextval(pg_get_serial_sequence('child_coverage_opened_vial_line_items', 'id')) FROM generate_series(1, #{count})")
+  List<Long> getNextChildCoverageOpenedVialLineItemIds(@Param("count") int count);
+
+  @Insert({"<script>",
+    "INSERT INTO child_coverage_opened_vial_line_items (id, facilityVisitId, productVialName, packSize, createdBy, modifiedBy) VALUES",
+    "<foreach collection='lineItems' item='lineItem' separator=','>",
+    "(#{lineItem.id}, #{lineItem.facilityVisitId}, #{lineItem.productVialName}, #{lineItem.packSize}, #{lineItem.createdBy}, #{lineItem.modifiedBy})",
+    "</foreach>",
+    "</script>"})
+  void insertChildCoverageOpenedVialLineItems(@Param("lineItems") List<OpenedVialLineItem> lineItems);
+
+  @Select("SELECT nextval(pg_get_serial_sequence('vaccination_adult_coverage_line_items', 'id')) FROM generate_series(1, #{count})")
+  List<Long> getNextAdultCoverageLineItemIds(@Param("count") int count);
+
+  @Insert({"<script>",
+    "INSERT INTO vaccination_adult_coverage_line_items (id, facilityVisitId, targetGroup, demographicGroup, createdBy, modifiedBy) VALUES",
+    "<foreach collection='lineItems' item='lineItem' separator=','>",
+    "(#{lineItem.id}, #{lineItem.facilityVisitId}, #{lineItem.targetGroup}, #{lineItem.demographicGroup}, #{lineItem.createdBy}, #{lineItem.modifiedBy})",
+    "</foreach>",
+    "</script>"})
+  void insertAdultCoverageLineItems(@Param("lineItems") List<AdultCoverageLineItem> lineItems);
+
+  @Select("SELECT nextval(pg_get_serial_sequence('adult_coverage_opened_vial_line_items', 'id')) FROM generate_series(1, #{count})")
+  List<Long> getNextAdultCoverageOpenedVialLineItemIds(@Param("count") int count);
+
+  @Insert({"<script>",
+    "INSERT INTO adult_coverage_opened_vial_line_items (id, facilityVisitId, productVialName, packSize, createdBy, modifiedBy) VALUES",
+    "<foreach collection='lineItems' item='lineItem' separator=','>",
+    "(#{lineItem.id}, #{lineItem.facilityVisitId}, #{lineItem.productVialName}, #{lineItem.packSize}, #{lineItem.createdBy}, #{lineItem.modifiedBy})",
+    "</foreach>",
+    "</script>"})
+  void insertAdultCoverageOpenedVialLineItems(@Param("lineItems") List<OpenedVialLineItem> lineItems);
+
   @Select({"SELECT * FROM full_coverages WHERE facilityVisitId = #{facilityVisitId}"})
   VaccinationFullCoverage getFullCoverageBy(Long facilityVisitId);
 
+  @Select({"SELECT * FROM full_coverages WHERE facilityVisitId = ANY(#{commaSeparatedFacilityVisitIds}::INTEGER[])"})
+  List<VaccinationFullCoverage> getFullCoveragesByFacilityVisitIds(@Param("commaSeparatedFacilityVisitIds") String commaSeparatedFacilityVisitIds);
+
   @Select({"SELECT * FROM coverage_target_group_products"})
   List<TargetGroupProduct> getVaccinationProducts();
 
   @Select({"SELECT * FROM vaccination_child_coverage_line_items WHERE facilityVisitId = #{facilityVisitId}"})
   List<ChildCoverageLineItem> getChildCoverageLineItemsBy(Long facilityVisitId);
 
+  @Select({"SELECT * FROM vaccination_child_coverage_line_items",
+    "WHERE facilityVisitId = ANY(#{commaSeparatedFacilityVisitIds}::INTEGER[]) ORDER BY facilityVisitId, id"})
+  List<ChildCoverageLineItem> getChildCoverageLineItemsByFacilityVisitIds(@Param("commaSeparatedFacilityVisitIds") String commaSeparatedFacilityVisitIds);
+
   @Select({"SELECT * FROM coverage_product_vials"})
   List<ProductVial> getProductVials();
 
@@ -65,18 +127,62 @@ public interface VaccinationCoverageMapper {
     "healthCenter23Months = #{healthCenter23Months}, outreach23Months = #{outreach23Months}, modifiedBy = #{modifiedBy}, modifiedDate = DEFAULT WHERE id = #{id}"})
   void updateChildCoverageLineItem(ChildCoverageLineItem childCoverageLineItem);
 
+  @Update({"<script>",
+    "UPDATE vaccination_child_coverage_line_items SET healthCenter11Months = V.healthCenter11Months,",
+    "outreach11Months = V.outreach11Months, healthCenter23Months = V.healthCenter23Months,",
+    "outreach23Months = V.outreach23Months, modifiedBy = V.modifiedBy, modifiedDate = DEFAULT",
+    "FROM (VALUES",
+    "<foreach collection='lineItems' item='lineItem' separator=','>",
+    "(#{lineItem.id}::INTEGER, #{lineItem.healthCenter11Months}::INTEGER, #{lineItem.outreach11Months}::INTEGER,",
+    "#{lineItem.healthCenter23Months}::INTEGER, #{lineItem.outreach23Months}::INTEGER, #{lineItem.modifiedBy}::INTEGER)",
+    "</foreach>",
+    ") AS V (id, healthCenter11Months, outreach11Months, healthCenter23Months, outreach23Months, modifiedBy)",
+    "WHERE vaccination_child_coverage_line_items.id = V.id",
+    "</script>"})
+  void updateChildCoverageLineItems(@Param("lineItems") List<ChildCoverageLineItem> lineItems);
+
   @Update({"UPDATE child_coverage_opened_vial_line_items SET openedVials = #{openedVials}, modifiedBy = #{modifiedBy}, modifiedDate = DEFAULT WHERE id = #{id}"})
   void updateChildCoverageOpenedVialLineItem(OpenedVialLineItem openedVialLineItem);
 
+  @Update({"<script>",
+    "UPDATE child_coverage_opened_vial_line_items SET openedVials = V.openedVials, modifiedBy = V.modifiedBy, modifiedDate = DEFAULT",
+    "FROM (VALUES",
+    "<foreach collection='lineItems' item='lineItem' separator=','>",
+    "(#{lineItem.id}::INTEGER, #{lineItem.openedVials}::INTEGER, #{lineItem.modifiedBy}::INTEGER)",
+    "</foreach>",
+    ") AS V (id, openedVials, modifiedBy)",
+    "WHERE child_coverage_opened_vial_line_items.id = V.id",
+    "</script>"})
+  void updateChildCoverageOpenedVialLineItems(@Param("lineItems") List<OpenedVialLineItem> lineItems);
+
   @Update({"UPDATE adult_coverage_opened_vial_line_items SET openedVials = #{openedVials}, modifiedBy = #{modifiedBy}, modifiedDate = DEFAULT WHERE id = #{id}"})
   void updateAdultCoverageOpenedVialLineItem(OpenedVialLineItem openedVialLineItem);
 
+  @Update({"<script>",
+    "UPDATE adult_coverage_opened_vial_line_items SET openedVials = V.openedVials, modifiedBy = V.modifiedBy, modifiedDate = DEFAULT",
+    "FROM (VALUES",
+    "<foreach collection='lineItems' item='lineItem' separator=','>",
+    "(#{lineItem.id}::INTEGER, #{lineItem.openedVials}::INTEGER, #{lineItem.modifiedBy}::INTEGER)",
+    "</foreach>",
+    ") AS V (id, openedVials, modifiedBy)",
+    "WHERE adult_coverage_opened_vial_line_items.id = V.id",
+    "</script>"})
+  void updateAdultCoverageOpenedVialLineItems(@Param("lineItems") List<OpenedVialLineItem> lineItems);
+
   @Select({"SELECT * FROM child_coverage_opened_vial_line_items WHERE facilityVisitId = #{facilityVisitId}"})
   List<OpenedVialLineItem> getChildCoverageOpenedVialLineItemsBy(Long facilityVisitId);
 
+  @Select({"SELECT * FROM child_coverage_opened_vial_line_items",
+    "WHERE facilityVisitId = ANY(#{commaSeparatedFacilityVisitIds}::INTEGER[]) ORDER BY facilityVisitId, id"})
+  List<OpenedVialLineItem> getChildCoverageOpenedVialLineItemsByFacilityVisitIds(@Param("commaSeparatedFacilityVisitIds") String commaSeparatedFacilityVisitIds);
+
   @Select({"SELECT * FROM adult_coverage_opened_vial_line_items WHERE facilityVisitId = #{facilityVisitId}"})
   List<OpenedVialLineItem> getAdultCoverageOpenedVialLineItemsBy(Long facilityVisitId);
 
+  @Select({"SELECT * FROM adult_coverage_opened_vial_line_items",
+    "WHERE facilityVisitId = ANY(#{commaSeparatedFacilityVisitIds}::INTEGER[]) ORDER BY facilityVisitId, id"})
+  List<OpenedVialLineItem> getAdultCoverageOpenedVialLineItemsByFacilityVisitIds(@Param("commaSeparatedFacilityVisitIds") String commaSeparatedFacilityVisitIds);
+
   @Insert({"INSERT INTO vaccination_adult_coverage_line_items (facilityVisitId, targetGroup, demographicGroup, createdBy, modifiedBy) " +
     "VALUES (#{facilityVisitId}, #{targetGroup}, #{demographicGroup}, #{createdBy}, #{modifiedBy})"})
   @Options(useGeneratedKeys = true)
@@ -85,9 +191,27 @@ public interface VaccinationCoverageMapper {
   @Select({"SELECT * FROM vaccination_adult_coverage_line_items WHERE facilityVisitId = #{facilityVisitId}"})
   List<AdultCoverageLineItem> getAdultCoverageLineItemsBy(Long facilityVisitId);
 
+  @Select({"SELECT * FROM vaccination_adult_coverage_line_items",
+    "WHERE facilityVisitId = ANY(#{commaSeparatedFacilityVisitIds}::INTEGER[]) ORDER BY facilityVisitId, id"})
+  List<AdultCoverageLineItem> getAdultCoverageLineItemsByFacilityVisitIds(@Param("commaSeparatedFacilityVisitIds") String commaSeparatedFacilityVisitIds);
+
   @Update({"UPDATE vaccination_adult_coverage_line_items SET healthCenterTetanus1=#{healthCenterTetanus1},",
     "outreachTetanus1=#{outreachTetanus1}, healthCenterTetanus2To5=#{healthCenterTetanus2To5},",
     "outreachTetanus2To5=#{outreachTetanus2To5}, modifiedDate=DEFAULT, modifiedBy=#{modifiedBy}",
     "WHERE id=#{id}"})
   void updateAdultCoverageLineItem(AdultCoverageLineItem adultCoverageLineItem);
+
+  @Update({"<script>",
+    "UPDATE vaccination_adult_coverage_line_items SET healthCenterTetanus1 = V.healthCenterTetanus1,",
+    "outreachTetanus1 = V.outreachTetanus1, healthCenterTetanus2To5 = V.healthCenterTetanus2To5,",
+    "outreachTetanus2To5 = V.outreachTetanus2To5, modifiedBy = V.modifiedBy, modifiedDate = DEFAULT",
+    "FROM (VALUES",
+    "<foreach collection='lineItems' item='lineItem' separator=','>",
+    "(#{lineItem.id}::INTEGER, #{lineItem.healthCenterTetanus1}::INTEGER, #{lineItem.outreachTetanus1}::INTEGER,",
+    "#{lineItem.healthCenterTetanus2To5}::INTEGER, #{lineItem.outreachTetanus2To5}::INTEGER, #{lineItem.modifiedBy}::INTEGER)",
+    "</foreach>",
+    ") AS V (id, healthCenterTetanus1, outreachTetanus1, healthCenterTetanus2To5, outreachTetanus2To5, modifiedBy)",
+    "WHERE vaccination_adult_coverage_line_items.id = V.id",
+    "</script>"})
+  void updateAdultCoverageLineItems(@Param("lineItems") List<AdultCoverageLineItem> lineItems);
 }
@@ -56,6 +56,11 @@ public class DistributionService {
     return facilityDistributionService.save(syncedDistribution);
   }
 
+  @Transactional
+  public Map<Long, Boolean> syncAll(Long distributionId, List<FacilityDistribution> facilityDistributions) {
+    return facilityDistributionService.syncAll(distributionId, facilityDistributions);
+  }
+
   public Distribution get(Distribution distribution) {
     return repository.get(distribution);
   }
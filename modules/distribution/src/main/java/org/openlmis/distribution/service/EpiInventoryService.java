@@ -15,6 +15,9 @@ import org.openlmis.distribution.repository.EpiInventoryRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * Exposes the services for handling EpiInventory entity.
  */
@@ -29,7 +32,19 @@ public class EpiInventoryService {
     repository.save(epiInventory);
   }
 
+  public void saveAll(List<EpiInventory> epiInventories) {
+    repository.saveAll(epiInventories);
+  }
+
+  public void insertAll(List<EpiInventory> epiInventories) {
+    repository.insertAll(epiInventories);
+  }
+
   public EpiInventory getBy(Long facilityVisitId) {
     return repository.getBy(facilityVisitId);
   }
+
+  public Map<Long, EpiInventory> getByFacilityVisitIds(List<Long> facilityVisitIds) {
+    return repository.getByFacilityVisitIds(facilityVisitIds);
+  }
 }
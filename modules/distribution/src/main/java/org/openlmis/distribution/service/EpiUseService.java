@@ -17,6 +17,10 @@ import org.openlmis.distribution.repository.EpiUseRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Exposes the services for handling EpiUse entity.
  */
@@ -34,7 +38,27 @@ public class EpiUseService {
     }
   }
 
+  public void saveAll(List<EpiUse> epiUses) {
+    repository.saveLineItems(lineItemsOf(epiUses));
+  }
+
+  public void insertAll(List<EpiUse> epiUses) {
+    repository.insertLineItems(lineItemsOf(epiUses));
+  }
+
   public EpiUse getBy(Long facilityVisitId) {
     return repository.getBy(facilityVisitId);
   }
+
+  public Map<Long, EpiUse> getByFacilityVisitIds(List<Long> facilityVisitIds) {
+    return repository.getByFacilityVisitIds(facilityVisitIds);
+  }
+
+  private List<EpiUseLineItem> lineItemsOf(List<EpiUse> epiUses) {
+    List<EpiUseLineItem> lineItems = new ArrayList<>();
+    for (EpiUse epiUse : epiUses) {
+      lineItems.addAll(epiUse.getLineItems());
+    }
+    return lineItems;
+  }
 }
@@ -14,19 +14,26 @@ import lombok.NoArgsConstructor;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.Predicate;
 import org.apache.commons.collections.Transformer;
+import org.openlmis.core.domain.BaseModel;
 import org.openlmis.core.domain.Facility;
 import org.openlmis.core.domain.Refrigerator;
+import org.openlmis.core.exception.DataException;
+import org.openlmis.core.repository.helper.Savepoint;
 import org.openlmis.core.service.FacilityService;
 import org.openlmis.core.service.RefrigeratorService;
 import org.openlmis.distribution.domain.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import static java.lang.Boolean.TRUE;
+import static java.util.Arrays.asList;
 import static org.apache.commons.collections.CollectionUtils.collect;
 import static org.apache.commons.collections.CollectionUtils.select;
 
@@ -59,6 +66,9 @@ public class FacilityDistributionService {
   @Autowired
   private VaccinationCoverageService vaccinationCoverageService;
 
+  @Autowired
+  private Savepoint savepoint;
+
   public Map<Long, FacilityDistribution> createFor(Distribution distribution) {
     Long deliveryZoneId = distribution.getDeliveryZone().getId();
     Long programId = distribution.getProgram().getId();
@@ -76,14 +86,42 @@ public class FacilityDistributionService {
     List<ProductVial> adultProductVials = new ArrayList<>();
     filterProductVials(productVials, childProductVials, adultProductVials);
 
+    List<FacilityVisit> facilityVisits = new ArrayList<>();
     for (Facility facility : facilities) {
-      facilityDistributions.put(facility.getId(), createDistributionData(facility, distribution, distributionRefrigerators, childrenTargetGroupProducts,
-        adultTargetGroupProducts, childProductVials, adultProductVials));
+      facilityVisits.add(new FacilityVisit(facility, distribution));
+    }
+    facilityVisitService.insertAll(facilityVisits);
+
+    List<FacilityDistribution> createdDistributions = new ArrayList<>();
+    for (int index = 0; index < facilities.size(); index++) {
+      Facility facility = facilities.get(index);
+      FacilityDistribution facilityDistribution = createDistributionData(facilityVisits.get(index), facility, distribution,
+        distributionRefrigerators, childrenTargetGroupProducts, adultTargetGroupProducts, childProductVials, adultProductVials);
+      facilityDistributions.put(facility.getId(), facilityDistribution);
+      createdDistributions.add(facilityDistribution);
     }
+    insertDistributionData(createdDistributions);
 
     return facilityDistributions;
   }
 
+  private void insertDistributionData(List<FacilityDistribution> facilityDistributions) {
+    List<EpiUse> epiUses = new ArrayList<>();
+    List<EpiInventory> epiInventories = new ArrayList<>();
+    List<VaccinationChildCoverage> childCoverages = new ArrayList<>();
+    List<VaccinationAdultCoverage> adultCoverages = new ArrayList<>();
+    for (FacilityDistribution facilityDistribution : facilityDistributions) {
+      epiUses.add(facilityDistribution.getEpiUse());
+      epiInventories.add(facilityDistribution.getEpiInventory());
+      childCoverages.add(facilityDistribution.getChildCoverage());
+      adultCoverages.add(facilityDistribution.getAdultCoverage());
+    }
+    epiUseService.insertAll(epiUses);
+    epiInventoryService.insertAll(epiInventories);
+    vaccinationCoverageService.insertChildCoverages(childCoverages);
+    vaccinationCoverageService.insertAdultCoverages(adultCoverages);
+  }
+
   private void filterProductVials(List<ProductVial> productVials, List<ProductVial> childProductVials, List<ProductVial> adultProductVials) {
     CollectionUtils.select(productVials, new Predicate() {
       @Override
@@ -114,7 +152,12 @@ public class FacilityDistributionService {
     }, adultTargetGroupProducts);
   }
 
-  FacilityDistribution createDistributionData(final Facility facility,
+  /**
+   * Builds the distribution forms of a facility around its already inserted visit; createFor inserts the forms of all
+   * facilities together.
+   */
+  FacilityDistribution createDistributionData(FacilityVisit facilityVisit,
+                                              final Facility facility,
                                               Distribution distribution,
                                               List<Refrigerator> refrigerators,
                                               List<TargetGroupProduct> childrenTargetGroupProducts,
@@ -122,15 +165,8 @@ public class FacilityDistributionService {
                                               List<ProductVial> childProductVials, List<ProductVial> adultProductVials) {
     List<RefrigeratorReading> refrigeratorReadings = getRefrigeratorReadings(facility.getId(), refrigerators);
 
-    FacilityVisit facilityVisit = new FacilityVisit(facility, distribution);
-    facilityVisitService.save(facilityVisit);
-    FacilityDistribution facilityDistribution = new FacilityDistribution(facilityVisit, facility, distribution, refrigeratorReadings,
+    return new FacilityDistribution(facilityVisit, facility, distribution, refrigeratorReadings,
       childrenTargetGroupProducts, adultTargetGroupProducts, childProductVials, adultProductVials);
-    epiUseService.save(facilityDistribution.getEpiUse());
-    epiInventoryService.save(facilityDistribution.getEpiInventory());
-    vaccinationCoverageService.saveChildCoverage(facilityDistribution.getChildCoverage());
-    vaccinationCoverageService.saveAdultCoverage(facilityDistribution.getAdultCoverage());
-    return facilityDistribution;
   }
 
   public FacilityDistribution save(FacilityDistribution facilityDistribution) {
@@ -149,6 +185,123 @@ public class FacilityDistributionService {
     return facilityDistribution;
   }
 
+  /**
+   * Marks the given facility distributions of a distribution synced and saves their forms with batched writes. A
+   * facility distribution is not synced if its visit does not belong to the distribution and facility or is already
+   * synced. When a write fails, the batch is rolled back to its savepoint and saved again a facility at a time, each
+   * under its own savepoint, so that only the failing facilities are reported unsynced. Ids handed out by the failed
+   * batch are cleared first, so that its new forms are inserted again rather than updated. Returns the sync status of
+   * every facility, keyed by facility id in the order received.
+   */
+  public Map<Long, Boolean> syncAll(Long distributionId, List<FacilityDistribution> facilityDistributions) {
+    List<Long> facilityVisitIds = new ArrayList<>();
+    for (FacilityDistribution facilityDistribution : facilityDistributions) {
+      facilityVisitIds.add(facilityDistribution.getFacilityVisit().getId());
+    }
+    Map<Long, FacilityVisit> existingVisits = new HashMap<>();
+    for (FacilityVisit existingVisit : facilityVisitService.getByIds(facilityVisitIds)) {
+      existingVisits.put(existingVisit.getId(), existingVisit);
+    }
+
+    Map<Long, Boolean> syncStatuses = new LinkedHashMap<>();
+    List<FacilityDistribution> distributionsToSync = new ArrayList<>();
+    for (FacilityDistribution facilityDistribution : facilityDistributions) {
+      FacilityVisit facilityVisit = facilityDistribution.getFacilityVisit();
+      if (syncStatuses.containsKey(facilityVisit.getFacilityId())) continue;
+
+      FacilityVisit existingVisit = existingVisits.get(facilityVisit.getId());
+      boolean syncable = existingVisit != null && !TRUE.equals(existingVisit.getSynced())
+        && distributionId.equals(existingVisit.getDistributionId())
+        && existingVisit.getFacilityId().equals(facilityVisit.getFacilityId());
+      syncStatuses.put(facilityVisit.getFacilityId(), syncable);
+      if (syncable) {
+        facilityVisit.setSynced(true);
+        distributionsToSync.add(facilityDistribution);
+      }
+    }
+    saveAllOrEach(distributionsToSync, syncStatuses);
+    return syncStatuses;
+  }
+
+  private void saveAllOrEach(final List<FacilityDistribution> facilityDistributions, Map<Long, Boolean> syncStatuses) {
+    List<BaseModel> newModels = getNewModels(facilityDistributions);
+    try {
+      savepoint.run(new Runnable() {
+        @Override
+        public void run() {
+          saveAll(facilityDistributions);
+        }
+      });
+    } catch (DataIntegrityViolationException | DataException e) {
+      for (BaseModel newModel : newModels) {
+        newModel.setId(null);
+      }
+      for (FacilityDistribution facilityDistribution : facilityDistributions) {
+        syncStatuses.put(facilityDistribution.getFacilityVisit().getFacilityId(), saveAlone(facilityDistribution));
+      }
+    }
+  }
+
+  private boolean saveAlone(final FacilityDistribution facilityDistribution) {
+    try {
+      savepoint.run(new Runnable() {
+        @Override
+        public void run() {
+          saveAll(asList(facilityDistribution));
+        }
+      });
+      return true;
+    } catch (DataIntegrityViolationException | DataException e) {
+      facilityDistribution.getFacilityVisit().setSynced(false);
+      return false;
+    }
+  }
+
+  private List<BaseModel> getNewModels(List<FacilityDistribution> facilityDistributions) {
+    List<BaseModel> models = new ArrayList<>();
+    for (FacilityDistribution facilityDistribution : facilityDistributions) {
+      if (TRUE.equals(facilityDistribution.getFacilityVisit().getVisited())) {
+        models.addAll(facilityDistribution.getEpiInventory().getLineItems());
+        models.addAll(facilityDistribution.getEpiUse().getLineItems());
+        for (RefrigeratorReading reading : facilityDistribution.getRefrigerators().getReadings()) {
+          models.add(reading.getRefrigerator());
+        }
+      }
+      models.addAll(facilityDistribution.getChildCoverage().getChildCoverageLineItems());
+      models.addAll(facilityDistribution.getChildCoverage().getOpenedVialLineItems());
+      models.addAll(facilityDistribution.getAdultCoverage().getAdultCoverageLineItems());
+      models.addAll(facilityDistribution.getAdultCoverage().getOpenedVialLineItems());
+    }
+
+    List<BaseModel> newModels = new ArrayList<>();
+    for (BaseModel model : models) {
+      if (model.getId() == null) newModels.add(model);
+    }
+    return newModels;
+  }
+
+  private void saveAll(List<FacilityDistribution> facilityDistributions) {
+    List<FacilityVisit> facilityVisits = new ArrayList<>();
+    for (FacilityDistribution facilityDistribution : facilityDistributions) {
+      facilityVisits.add(facilityDistribution.getFacilityVisit());
+    }
+    facilityVisitService.updateAll(facilityVisits);
+
+    List<EpiInventory> epiInventories = new ArrayList<>();
+    List<EpiUse> epiUses = new ArrayList<>();
+    for (FacilityDistribution facilityDistribution : facilityDistributions) {
+      FacilityVisit facilityVisit = facilityDistribution.getFacilityVisit();
+      if (!TRUE.equals(facilityVisit.getVisited())) continue;
+
+      epiInventories.add(facilityDistribution.getEpiInventory());
+      distributionRefrigeratorsService.save(facilityVisit.getFacilityId(), facilityDistribution.getRefrigerators());
+      epiUses.add(facilityDistribution.getEpiUse());
+    }
+    epiInventoryService.saveAll(epiInventories);
+    epiUseService.saveAll(epiUses);
+    vaccinationCoverageService.saveAll(facilityDistributions);
+  }
+
   private List<RefrigeratorReading> getRefrigeratorReadings(final Long facilityId, List<Refrigerator> refrigerators) {
     return (List<RefrigeratorReading>) collect(select(refrigerators, new Predicate() {
       @Override
@@ -163,32 +316,44 @@ public class FacilityDistributionService {
     });
   }
 
+  /**
+   * Loads the distribution forms of the unsynced facility visits of a distribution. Refrigerators, facilities and each
+   * form are read for all visits at once and grouped by facility visit, rather than queried visit by visit.
+   */
   public Map<Long, FacilityDistribution> get(Distribution distribution) {
     Map<Long, FacilityDistribution> facilityDistributions = new HashMap<>();
 
     List<FacilityVisit> unSyncedFacilities = facilityVisitService.getUnSyncedFacilities(distribution.getId());
+    if (unSyncedFacilities.isEmpty()) return facilityDistributions;
+
+    List<Long> facilityVisitIds = new ArrayList<>();
+    List<Long> facilityIds = new ArrayList<>();
     for (FacilityVisit facilityVisit : unSyncedFacilities) {
-      facilityDistributions.put(facilityVisit.getFacilityId(), getDistributionData(facilityVisit, distribution));
+      facilityVisitIds.add(facilityVisit.getId());
+      facilityIds.add(facilityVisit.getFacilityId());
     }
-    return facilityDistributions;
-  }
-
-  private FacilityDistribution getDistributionData(FacilityVisit facilityVisit, Distribution distribution) {
-    EpiUse epiUse = epiUseService.getBy(facilityVisit.getId());
 
     List<Refrigerator> refrigerators = refrigeratorService.getRefrigeratorsForADeliveryZoneAndProgram(distribution.getDeliveryZone().getId(), distribution.getProgram().getId());
-    DistributionRefrigerators distributionRefrigerators = new DistributionRefrigerators(getRefrigeratorReadings(facilityVisit.getFacilityId(), refrigerators));
-
-    Facility facility = facilityService.getById(facilityVisit.getFacilityId());
-
-    EpiInventory epiInventory = epiInventoryService.getBy(facilityVisit.getId());
-    VaccinationFullCoverage coverage = vaccinationCoverageService.getFullCoverageBy(facilityVisit.getId());
-    VaccinationChildCoverage childCoverage = vaccinationCoverageService.getChildCoverageBy(facilityVisit.getId());
-    VaccinationAdultCoverage adultCoverage = vaccinationCoverageService.getAdultCoverageBy(facilityVisit.getId());
+    Map<Long, Facility> facilities = new HashMap<>();
+    for (Facility facility : facilityService.getAllByIds(facilityIds)) {
+      facilities.put(facility.getId(), facility);
+    }
+    Map<Long, EpiUse> epiUses = epiUseService.getByFacilityVisitIds(facilityVisitIds);
+    Map<Long, EpiInventory> epiInventories = epiInventoryService.getByFacilityVisitIds(facilityVisitIds);
+    Map<Long, VaccinationFullCoverage> fullCoverages = vaccinationCoverageService.getFullCoveragesBy(facilityVisitIds);
+    Map<Long, VaccinationChildCoverage> childCoverages = vaccinationCoverageService.getChildCoveragesBy(facilityVisitIds);
+    Map<Long, VaccinationAdultCoverage> adultCoverages = vaccinationCoverageService.getAdultCoveragesBy(facilityVisitIds);
 
-    FacilityDistribution facilityDistribution = new FacilityDistribution(facilityVisit, epiUse, distributionRefrigerators, epiInventory, coverage,
-      childCoverage, adultCoverage);
-    facilityDistribution.setFacility(facility);
-    return facilityDistribution;
+    for (FacilityVisit facilityVisit : unSyncedFacilities) {
+      Long facilityVisitId = facilityVisit.getId();
+      DistributionRefrigerators distributionRefrigerators = new DistributionRefrigerators(getRefrigeratorReadings(facilityVisit.getFacilityId(), refrigerators));
+
+      FacilityDistribution facilityDistribution = new FacilityDistribution(facilityVisit, epiUses.get(facilityVisitId),
+        distributionRefrigerators, epiInventories.get(facilityVisitId), fullCoverages.get(facilityVisitId),
+        childCoverages.get(facilityVisitId), adultCoverages.get(facilityVisitId));
+      facilityDistribution.setFacility(facilities.get(facilityVisit.getFacilityId()));
+      facilityDistributions.put(facilityVisit.getFacilityId(), facilityDistribution);
+    }
+    return facilityDistributions;
   }
 }
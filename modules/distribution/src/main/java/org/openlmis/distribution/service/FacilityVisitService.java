@@ -23,6 +23,20 @@ public class FacilityVisitService {
     return repository.save(facilityVisit);
   }
 
+  public void insertAll(List<FacilityVisit> facilityVisits) {
+    for (FacilityVisit facilityVisit : facilityVisits) {
+      facilityVisit.setApplicableVisitInfo();
+    }
+    repository.insertAll(facilityVisits);
+  }
+
+  public void updateAll(List<FacilityVisit> facilityVisits) {
+    for (FacilityVisit facilityVisit : facilityVisits) {
+      facilityVisit.setApplicableVisitInfo();
+    }
+    repository.updateAll(facilityVisits);
+  }
+
   public FacilityVisit setSynced(FacilityVisit facilityVisit) {
     FacilityVisit existingVisit = repository.getById(facilityVisit.getId());
     if (existingVisit.getSynced()) {
@@ -37,6 +51,10 @@ public class FacilityVisitService {
     return repository.getById(facilityVisitId);
   }
 
+  public List<FacilityVisit> getByIds(List<Long> facilityVisitIds) {
+    return repository.getByIds(facilityVisitIds);
+  }
+
   public FacilityVisit getBy(Long facilityId, Long distributionId) {
     return repository.getBy(facilityId, distributionId);
   }
@@ -15,7 +15,9 @@ import org.openlmis.distribution.repository.VaccinationCoverageRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Exposes the services for handling VaccinationFullCoverage, VaccinationChildCoverage and VaccinationAdultCoverage
@@ -34,10 +36,28 @@ public class VaccinationCoverageService {
     repository.saveAdultCoverage(facilityDistribution.getAdultCoverage());
   }
 
+  public void saveAll(List<FacilityDistribution> facilityDistributions) {
+    List<VaccinationFullCoverage> fullCoverages = new ArrayList<>();
+    List<VaccinationChildCoverage> childCoverages = new ArrayList<>();
+    List<VaccinationAdultCoverage> adultCoverages = new ArrayList<>();
+    for (FacilityDistribution facilityDistribution : facilityDistributions) {
+      fullCoverages.add(facilityDistribution.getFullCoverage());
+      childCoverages.add(facilityDistribution.getChildCoverage());
+      adultCoverages.add(facilityDistribution.getAdultCoverage());
+    }
+    repository.saveFullCoverages(fullCoverages);
+    repository.saveChildCoverages(childCoverages);
+    repository.saveAdultCoverages(adultCoverages);
+  }
+
   public VaccinationFullCoverage getFullCoverageBy(Long facilityVisitId) {
     return repository.getFullCoverageBy(facilityVisitId);
   }
 
+  public Map<Long, VaccinationFullCoverage> getFullCoveragesBy(List<Long> facilityVisitIds) {
+    return repository.getFullCoveragesBy(facilityVisitIds);
+  }
+
   public List<TargetGroupProduct> getVaccinationProducts() {
     return repository.getVaccinationProducts();
   }
@@ -46,10 +66,18 @@ public class VaccinationCoverageService {
     repository.saveChildCoverage(childCoverage);
   }
 
+  public void insertChildCoverages(List<VaccinationChildCoverage> childCoverages) {
+    repository.insertChildCoverages(childCoverages);
+  }
+
   public VaccinationChildCoverage getChildCoverageBy(Long facilityVisitId) {
     return repository.getChildCoverageBy(facilityVisitId);
   }
 
+  public Map<Long, VaccinationChildCoverage> getChildCoveragesBy(List<Long> facilityVisitIds) {
+    return repository.getChildCoveragesBy(facilityVisitIds);
+  }
+
   public List<ProductVial> getProductVials() {
     return repository.getProductVials();
   }
@@ -58,7 +86,15 @@ public class VaccinationCoverageService {
     repository.saveAdultCoverage(adultCoverage);
   }
 
+  public void insertAdultCoverages(List<VaccinationAdultCoverage> adultCoverages) {
+    repository.insertAdultCoverages(adultCoverages);
+  }
+
   public VaccinationAdultCoverage getAdultCoverageBy(Long facilityVisitId) {
     return repository.getAdultCoverageBy(facilityVisitId);
   }
+
+  public Map<Long, VaccinationAdultCoverage> getAdultCoveragesBy(List<Long> facilityVisitIds) {
+    return repository.getAdultCoveragesBy(facilityVisitIds);
+  }
 }
@@ -22,6 +22,9 @@ import org.openlmis.distribution.domain.EpiInventoryLineItem;
 import org.openlmis.distribution.repository.mapper.EpiInventoryLineItemMapper;
 
 import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.*;
 
 @Category(UnitTests.class)
@@ -34,6 +37,22 @@ public class EpiInventoryRepositoryTest {
   @InjectMocks
   EpiInventoryRepository repository;
 
+  @Test
+  public void shouldInsertLineItemsOfAllEpiInventoriesWithPreallocatedIds() throws Exception {
+    EpiInventoryLineItem lineItem1 = new EpiInventoryLineItem();
+    EpiInventoryLineItem lineItem2 = new EpiInventoryLineItem();
+    EpiInventory epiInventory1 = new EpiInventory(asList(lineItem1));
+    EpiInventory epiInventory2 = new EpiInventory(asList(lineItem2));
+    when(mapper.getNextIds(2)).thenReturn(asList(7L, 8L));
+
+    repository.insertAll(asList(epiInventory1, epiInventory2));
+
+    verify(mapper).insertLineItems(asList(lineItem1, lineItem2));
+    verify(mapper, never()).insertLineItem(any(EpiInventoryLineItem.class));
+    assertThat(lineItem1.getId(), is(7L));
+    assertThat(lineItem2.getId(), is(8L));
+  }
+
   @Test
   public void shouldInsertEpiInventoryWithLineItems() throws Exception {
     EpiInventory epiInventory = new EpiInventory();
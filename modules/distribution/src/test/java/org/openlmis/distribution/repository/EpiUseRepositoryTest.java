@@ -17,10 +17,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.openlmis.db.categories.UnitTests;
+import org.openlmis.distribution.domain.EpiUse;
 import org.openlmis.distribution.domain.EpiUseLineItem;
 import org.openlmis.distribution.repository.mapper.EpiUseLineItemMapper;
 
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @Category(UnitTests.class)
 @RunWith(MockitoJUnitRunner.class)
@@ -32,6 +39,48 @@ public class EpiUseRepositoryTest {
   @InjectMocks
   EpiUseRepository repository;
 
+  @Test
+  public void shouldInsertEpiUseLineItemsWithPreallocatedIds() throws Exception {
+    EpiUseLineItem lineItem1 = new EpiUseLineItem();
+    EpiUseLineItem lineItem2 = new EpiUseLineItem();
+    when(mapper.getNextIds(2)).thenReturn(asList(5L, 6L));
+
+    repository.insertLineItems(asList(lineItem1, lineItem2));
+
+    verify(mapper).insertLineItems(asList(lineItem1, lineItem2));
+    assertThat(lineItem1.getId(), is(5L));
+    assertThat(lineItem2.getId(), is(6L));
+  }
+
+  @Test
+  public void shouldGetEpiUsesOfAllFacilityVisitsGroupedByFacilityVisit() throws Exception {
+    EpiUseLineItem lineItem1 = new EpiUseLineItem();
+    lineItem1.setFacilityVisitId(1L);
+    EpiUseLineItem lineItem2 = new EpiUseLineItem();
+    lineItem2.setFacilityVisitId(1L);
+    when(mapper.getByFacilityVisitIds("{1, 2}")).thenReturn(asList(lineItem1, lineItem2));
+
+    Map<Long, EpiUse> epiUses = repository.getByFacilityVisitIds(asList(1L, 2L));
+
+    assertThat(epiUses.size(), is(2));
+    assertThat(epiUses.get(1L).getLineItems(), is(asList(lineItem1, lineItem2)));
+    assertThat(epiUses.get(2L).getLineItems().size(), is(0));
+  }
+
+  @Test
+  public void shouldInsertNewAndUpdateExistingEpiUseLineItemsInBatches() throws Exception {
+    EpiUseLineItem newLineItem = new EpiUseLineItem();
+    EpiUseLineItem existingLineItem = new EpiUseLineItem();
+    existingLineItem.setId(3L);
+    when(mapper.getNextIds(1)).thenReturn(asList(7L));
+
+    repository.saveLineItems(asList(newLineItem, existingLineItem));
+
+    verify(mapper).insertLineItems(asList(newLineItem));
+    verify(mapper).updateLineItems(asList(existingLineItem));
+    assertThat(newLineItem.getId(), is(7L));
+  }
+
   @Test
   public void shouldInsertEpiUseLineItem() throws Exception {
     EpiUseLineItem epiUseLineItem = new EpiUseLineItem();
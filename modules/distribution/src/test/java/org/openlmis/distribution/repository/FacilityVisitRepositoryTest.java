@@ -26,11 +26,16 @@ import org.openlmis.distribution.domain.Distribution;
 import org.openlmis.distribution.domain.FacilityVisit;
 import org.openlmis.distribution.repository.mapper.FacilityVisitMapper;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.rules.ExpectedException.none;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.openlmis.distribution.repository.FacilityVisitRepository.BATCH_SIZE;
 
 @Category(UnitTests.class)
 @RunWith(MockitoJUnitRunner.class)
@@ -45,6 +50,28 @@ public class FacilityVisitRepositoryTest {
   @InjectMocks
   FacilityVisitRepository facilityVisitRepository;
 
+  @Test
+  public void shouldInsertFacilityVisitsWithPreallocatedIdsInBatches() {
+    List<FacilityVisit> facilityVisits = new ArrayList<>();
+    for (int i = 0; i < BATCH_SIZE + 1; i++) {
+      facilityVisits.add(new FacilityVisit());
+    }
+    List<Long> ids = new ArrayList<>();
+    for (long id = 1; id <= BATCH_SIZE; id++) {
+      ids.add(id);
+    }
+    when(facilityVisitMapper.getNextIds(BATCH_SIZE)).thenReturn(ids);
+    when(facilityVisitMapper.getNextIds(1)).thenReturn(asList(1000L));
+
+    facilityVisitRepository.insertAll(facilityVisits);
+
+    verify(facilityVisitMapper).insertAll(facilityVisits.subList(0, BATCH_SIZE));
+    verify(facilityVisitMapper).insertAll(facilityVisits.subList(BATCH_SIZE, BATCH_SIZE + 1));
+    assertThat(facilityVisits.get(0).getId(), is(1L));
+    assertThat(facilityVisits.get(BATCH_SIZE - 1).getId(), is((long) BATCH_SIZE));
+    assertThat(facilityVisits.get(BATCH_SIZE).getId(), is(1000L));
+  }
+
   @Test
   public void shouldReturnFacilityVisit() {
     Distribution distribution = new Distribution();
@@ -20,10 +20,17 @@ import org.openlmis.db.categories.UnitTests;
 import org.openlmis.distribution.domain.*;
 import org.openlmis.distribution.repository.mapper.VaccinationCoverageMapper;
 
+import java.util.List;
+import java.util.Map;
+
 import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 @Category(UnitTests.class)
@@ -35,6 +42,104 @@ public class VaccinationCoverageRepositoryTest {
   @InjectMocks
   private VaccinationCoverageRepository repository;
 
+  @Test
+  public void shouldInsertChildCoveragesOfAllFacilitiesWithPreallocatedIds() throws Exception {
+    ChildCoverageLineItem lineItem1 = new ChildCoverageLineItem();
+    ChildCoverageLineItem lineItem2 = new ChildCoverageLineItem();
+    OpenedVialLineItem openedVialLineItem1 = new OpenedVialLineItem();
+    OpenedVialLineItem openedVialLineItem2 = new OpenedVialLineItem();
+    VaccinationChildCoverage childCoverage1 = new VaccinationChildCoverage();
+    childCoverage1.setChildCoverageLineItems(asList(lineItem1));
+    childCoverage1.setOpenedVialLineItems(asList(openedVialLineItem1));
+    VaccinationChildCoverage childCoverage2 = new VaccinationChildCoverage();
+    childCoverage2.setChildCoverageLineItems(asList(lineItem2));
+    childCoverage2.setOpenedVialLineItems(asList(openedVialLineItem2));
+    when(mapper.getNextChildCoverageLineItemIds(2)).thenReturn(asList(11L, 12L));
+    when(mapper.getNextChildCoverageOpenedVialLineItemIds(2)).thenReturn(asList(21L, 22L));
+
+    repository.insertChildCoverages(asList(childCoverage1, childCoverage2));
+
+    verify(mapper).insertChildCoverageLineItems(asList(lineItem1, lineItem2));
+    verify(mapper).insertChildCoverageOpenedVialLineItems(asList(openedVialLineItem1, openedVialLineItem2));
+    verify(mapper, never()).insertChildCoverageLineItem(any(ChildCoverageLineItem.class));
+    assertThat(lineItem2.getId(), is(12L));
+    assertThat(openedVialLineItem1.getId(), is(21L));
+  }
+
+  @Test
+  public void shouldInsertAdultCoveragesOfAllFacilitiesWithPreallocatedIds() throws Exception {
+    AdultCoverageLineItem lineItem1 = new AdultCoverageLineItem();
+    AdultCoverageLineItem lineItem2 = new AdultCoverageLineItem();
+    OpenedVialLineItem openedVialLineItem = new OpenedVialLineItem();
+    VaccinationAdultCoverage adultCoverage1 = new VaccinationAdultCoverage(asList(lineItem1));
+    adultCoverage1.setOpenedVialLineItems(asList(openedVialLineItem));
+    VaccinationAdultCoverage adultCoverage2 = new VaccinationAdultCoverage(asList(lineItem2));
+    when(mapper.getNextAdultCoverageLineItemIds(2)).thenReturn(asList(31L, 32L));
+    when(mapper.getNextAdultCoverageOpenedVialLineItemIds(1)).thenReturn(asList(41L));
+
+    repository.insertAdultCoverages(asList(adultCoverage1, adultCoverage2));
+
+    verify(mapper).insertAdultCoverageLineItems(asList(lineItem1, lineItem2));
+    verify(mapper).insertAdultCoverageOpenedVialLineItems(asList(openedVialLineItem));
+    assertThat(lineItem1.getId(), is(31L));
+    assertThat(openedVialLineItem.getId(), is(41L));
+  }
+
+  @Test
+  public void shouldGetChildCoveragesOfAllFacilityVisitsGroupedByFacilityVisit() throws Exception {
+    ChildCoverageLineItem lineItem1 = new ChildCoverageLineItem();
+    lineItem1.setFacilityVisitId(1L);
+    ChildCoverageLineItem lineItem2 = new ChildCoverageLineItem();
+    lineItem2.setFacilityVisitId(2L);
+    OpenedVialLineItem openedVialLineItem = new OpenedVialLineItem();
+    openedVialLineItem.setFacilityVisitId(2L);
+    when(mapper.getChildCoverageLineItemsByFacilityVisitIds("{1, 2}")).thenReturn(asList(lineItem1, lineItem2));
+    when(mapper.getChildCoverageOpenedVialLineItemsByFacilityVisitIds("{1, 2}")).thenReturn(asList(openedVialLineItem));
+
+    Map<Long, VaccinationChildCoverage> childCoverages = repository.getChildCoveragesBy(asList(1L, 2L));
+
+    assertThat(childCoverages.get(1L).getChildCoverageLineItems(), is(asList(lineItem1)));
+    assertThat(childCoverages.get(1L).getOpenedVialLineItems().size(), is(0));
+    assertThat(childCoverages.get(2L).getChildCoverageLineItems(), is(asList(lineItem2)));
+    assertThat(childCoverages.get(2L).getOpenedVialLineItems(), is(asList(openedVialLineItem)));
+  }
+
+  @Test
+  public void shouldGetFullCoveragesKeyedByFacilityVisit() throws Exception {
+    VaccinationFullCoverage fullCoverage = new VaccinationFullCoverage();
+    fullCoverage.setFacilityVisitId(2L);
+    when(mapper.getFullCoveragesByFacilityVisitIds("{1, 2}")).thenReturn(asList(fullCoverage));
+
+    Map<Long, VaccinationFullCoverage> fullCoverages = repository.getFullCoveragesBy(asList(1L, 2L));
+
+    assertThat(fullCoverages.size(), is(1));
+    assertThat(fullCoverages.get(2L), is(fullCoverage));
+  }
+
+  @Test
+  public void shouldInsertNewAndUpdateExistingChildCoverageLineItemsOfAllFacilitiesInBatches() throws Exception {
+    ChildCoverageLineItem newLineItem = new ChildCoverageLineItem();
+    ChildCoverageLineItem existingLineItem = new ChildCoverageLineItem();
+    existingLineItem.setId(3L);
+    OpenedVialLineItem existingOpenedVialLineItem = new OpenedVialLineItem();
+    existingOpenedVialLineItem.setId(4L);
+    VaccinationChildCoverage childCoverage1 = new VaccinationChildCoverage();
+    childCoverage1.setChildCoverageLineItems(asList(newLineItem));
+    VaccinationChildCoverage childCoverage2 = new VaccinationChildCoverage();
+    childCoverage2.setChildCoverageLineItems(asList(existingLineItem));
+    childCoverage2.setOpenedVialLineItems(asList(existingOpenedVialLineItem));
+    when(mapper.getNextChildCoverageLineItemIds(1)).thenReturn(asList(11L));
+
+    repository.saveChildCoverages(asList(childCoverage1, childCoverage2));
+
+    verify(mapper).insertChildCoverageLineItems(asList(newLineItem));
+    verify(mapper).updateChildCoverageLineItems(asList(existingLineItem));
+    verify(mapper).updateChildCoverageOpenedVialLineItems(asList(existingOpenedVialLineItem));
+    verify(mapper, never()).insertChildCoverageOpenedVialLineItems(any(List.class));
+    verify(mapper, never()).insertChildCoverageLineItem(any(ChildCoverageLineItem.class));
+    assertThat(newLineItem.getId(), is(11L));
+  }
+
   @Test
   public void shouldSaveChildCoverage() throws Exception {
     ChildCoverageLineItem childCoverageLineItem = new ChildCoverageLineItem();
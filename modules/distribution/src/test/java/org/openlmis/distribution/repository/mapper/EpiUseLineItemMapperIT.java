@@ -31,7 +31,9 @@ import java.sql.ResultSet;
 import java.util.List;
 
 import static com.natpryce.makeiteasy.MakeItEasy.*;
+import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
 import static org.openlmis.core.builder.DeliveryZoneBuilder.defaultDeliveryZone;
 import static org.openlmis.core.builder.FacilityBuilder.defaultFacility;
@@ -162,6 +164,31 @@ public class EpiUseLineItemMapperIT {
     assertThat(epiUseLineItem.getExpirationDate(), is(epiUseLineItemFromDB.getExpirationDate()));
   }
 
+  @Test
+  public void shouldUpdateEpiUseLineItemsInOneStatement() throws Exception {
+    ProductGroup productGroup2 = new ProductGroup("PG0", "Product Group 0");
+    productGroupMapper.insert(productGroup2);
+    EpiUseLineItem epiUseLineItem1 = new EpiUseLineItem(facilityVisit, productGroup);
+    EpiUseLineItem epiUseLineItem2 = new EpiUseLineItem(facilityVisit, productGroup2);
+    mapper.insertLineItem(epiUseLineItem1);
+    mapper.insertLineItem(epiUseLineItem2);
+
+    epiUseLineItem1.setReceived(10);
+    epiUseLineItem1.setStockAtEndOfMonth(14);
+    epiUseLineItem1.setExpirationDate("12/2010");
+    epiUseLineItem2.setLoss(3);
+    mapper.updateLineItems(asList(epiUseLineItem1, epiUseLineItem2));
+
+    EpiUseLineItem lineItem1FromDB = mapper.getLineItemById(epiUseLineItem1);
+    EpiUseLineItem lineItem2FromDB = mapper.getLineItemById(epiUseLineItem2);
+    assertThat(lineItem1FromDB.getReceived(), is(10));
+    assertThat(lineItem1FromDB.getStockAtEndOfMonth(), is(14));
+    assertThat(lineItem1FromDB.getExpirationDate(), is("12/2010"));
+    assertThat(lineItem1FromDB.getLoss(), is(nullValue()));
+    assertThat(lineItem2FromDB.getLoss(), is(3));
+    assertThat(lineItem2FromDB.getReceived(), is(nullValue()));
+  }
+
   @Test
   public void shouldGetEpiUseLineItemsByFacilityVisitId() {
     EpiUseLineItem epiUseLineItem1 = new EpiUseLineItem(facilityVisit, productGroup);
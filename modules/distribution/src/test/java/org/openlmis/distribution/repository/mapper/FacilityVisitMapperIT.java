@@ -104,6 +104,24 @@ public class FacilityVisitMapperIT {
     assertThat(actualFacilityVisit.getCreatedBy(), is(1l));
   }
 
+  @Test
+  public void shouldInsertFacilityVisitsWithPreallocatedIds() {
+    Facility otherFacility = make(a(defaultFacility, with(code, "F10A")));
+    facilityMapper.insert(otherFacility);
+    FacilityVisit facilityVisit = new FacilityVisit(facility, distribution);
+    FacilityVisit otherFacilityVisit = new FacilityVisit(otherFacility, distribution);
+
+    List<Long> ids = mapper.getNextIds(2);
+    facilityVisit.setId(ids.get(0));
+    otherFacilityVisit.setId(ids.get(1));
+    mapper.insertAll(asList(facilityVisit, otherFacilityVisit));
+
+    assertThat(mapper.getBy(facility.getId(), distribution.getId()).getId(), is(ids.get(0)));
+    assertThat(mapper.getBy(otherFacility.getId(), distribution.getId()).getId(), is(ids.get(1)));
+    assertThat(mapper.getBy(otherFacility.getId(), distribution.getId()).getFacilityCatchmentPopulation(),
+      is(otherFacility.getCatchmentPopulation()));
+  }
+
   @Test
   public void shouldUpdateFacilityVisit() {
     FacilityVisit facilityVisit = new FacilityVisit(facility, distribution);
@@ -123,6 +141,50 @@ public class FacilityVisitMapperIT {
     assertThat(actualFacilityVisit, is(facilityVisit));
   }
 
+  @Test
+  public void shouldUpdateAllFacilityVisitsInOneStatement() {
+    Facility otherFacility = make(a(defaultFacility, with(code, "F10A")));
+    facilityMapper.insert(otherFacility);
+    FacilityVisit visitedFacility = new FacilityVisit(facility, distribution);
+    FacilityVisit unvisitedFacility = new FacilityVisit(otherFacility, distribution);
+    mapper.insert(visitedFacility);
+    mapper.insert(unvisitedFacility);
+
+    visitedFacility.setVisited(true);
+    visitedFacility.setConfirmedBy(new Facilitator("Barack", "President"));
+    visitedFacility.setObservations("I observed something");
+    visitedFacility.setSynced(true);
+    unvisitedFacility.setVisited(false);
+    unvisitedFacility.setReasonForNotVisiting(ReasonForNotVisiting.OTHER);
+    unvisitedFacility.setOtherReasonDescription("Road closed");
+    unvisitedFacility.setSynced(true);
+
+    mapper.updateAll(asList(visitedFacility, unvisitedFacility));
+
+    FacilityVisit actualVisitedFacility = mapper.getBy(facility.getId(), distribution.getId());
+    assertThat(actualVisitedFacility.getVisited(), is(true));
+    assertThat(actualVisitedFacility.getConfirmedBy(), is(new Facilitator("Barack", "President")));
+    assertThat(actualVisitedFacility.getObservations(), is("I observed something"));
+    assertThat(actualVisitedFacility.getSynced(), is(true));
+    FacilityVisit actualUnvisitedFacility = mapper.getBy(otherFacility.getId(), distribution.getId());
+    assertThat(actualUnvisitedFacility.getVisited(), is(false));
+    assertThat(actualUnvisitedFacility.getReasonForNotVisiting(), is(ReasonForNotVisiting.OTHER));
+    assertThat(actualUnvisitedFacility.getOtherReasonDescription(), is("Road closed"));
+    assertThat(actualUnvisitedFacility.getSynced(), is(true));
+  }
+
+  @Test
+  public void shouldGetFacilityVisitsByIds() {
+    FacilityVisit facilityVisit = new FacilityVisit(facility, distribution);
+    mapper.insert(facilityVisit);
+
+    List<FacilityVisit> facilityVisits = mapper.getByIds("{" + facilityVisit.getId() + ", " + (facilityVisit.getId() + 1) + "}");
+
+    assertThat(facilityVisits.size(), is(1));
+    assertThat(facilityVisits.get(0).getFacilityId(), is(facility.getId()));
+    assertThat(facilityVisits.get(0).getSynced(), is(false));
+  }
+
   @Test
   public void shouldGetFacilityVisitById() {
     FacilityVisit facilityVisit = new FacilityVisit(facility, distribution);
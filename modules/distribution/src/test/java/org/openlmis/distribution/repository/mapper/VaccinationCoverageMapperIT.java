@@ -31,6 +31,7 @@ import java.sql.SQLException;
 import java.util.List;
 
 import static com.natpryce.makeiteasy.MakeItEasy.*;
+import static java.util.Arrays.asList;
 import static junit.framework.Assert.assertTrue;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -143,6 +144,18 @@ public class VaccinationCoverageMapperIT {
     assertThat(savedVaccinationFullCoverage, is(vaccinationFullCoverage));
   }
 
+  @Test
+  public void shouldGetFullCoveragesOfGivenFacilityVisits() {
+    VaccinationFullCoverage vaccinationFullCoverage = new VaccinationFullCoverage(34, 78, 11, 666);
+    vaccinationFullCoverage.setFacilityVisitId(facilityVisit.getId());
+    mapper.insertFullVaccinationCoverage(vaccinationFullCoverage);
+
+    List<VaccinationFullCoverage> fullCoverages = mapper.getFullCoveragesByFacilityVisitIds("{" + facilityVisit.getId() + "}");
+
+    assertThat(fullCoverages, is(asList(vaccinationFullCoverage)));
+    assertThat(mapper.getFullCoveragesByFacilityVisitIds("{" + (facilityVisit.getId() + 1) + "}").size(), is(0));
+  }
+
   @Test
   public void shouldReturnVaccinationCoverageProductMappings() throws Exception {
     Product product = make(a(ProductBuilder.defaultProduct));
@@ -163,6 +176,34 @@ public class VaccinationCoverageMapperIT {
     assertTrue(targetGroupProducts.contains(adultTargetGroupProduct));
   }
 
+  @Test
+  public void shouldInsertChildCoverageLineItemsWithPreallocatedIds() throws Exception {
+    Integer nullInteger = null;
+    ChildCoverageLineItem bcgLineItem = new ChildCoverageLineItem("BCG", nullInteger, nullInteger, nullInteger, nullInteger);
+    ChildCoverageLineItem measlesLineItem = new ChildCoverageLineItem("Measles", nullInteger, nullInteger, nullInteger, nullInteger);
+    for (ChildCoverageLineItem lineItem : asList(bcgLineItem, measlesLineItem)) {
+      lineItem.setFacilityVisitId(facilityVisit.getId());
+      lineItem.setTargetGroup(56);
+      lineItem.setCreatedBy(123L);
+    }
+    List<Long> ids = mapper.getNextChildCoverageLineItemIds(2);
+    bcgLineItem.setId(ids.get(0));
+    measlesLineItem.setId(ids.get(1));
+
+    mapper.insertChildCoverageLineItems(asList(bcgLineItem, measlesLineItem));
+
+    ResultSet resultSet = queryExecutor.execute("SELECT * FROM vaccination_child_coverage_line_items WHERE facilityVisitId = "
+      + facilityVisit.getId() + " ORDER BY id");
+    assertTrue(resultSet.next());
+    assertThat(resultSet.getLong("id"), is(ids.get(0)));
+    assertThat(resultSet.getString("vaccination"), is("BCG"));
+    assertThat(resultSet.getInt("targetGroup"), is(56));
+    assertTrue(resultSet.next());
+    assertThat(resultSet.getLong("id"), is(ids.get(1)));
+    assertThat(resultSet.getString("vaccination"), is("Measles"));
+    assertThat(resultSet.getLong("createdBy"), is(123L));
+  }
+
   @Test
   public void shouldInsertChildCoverageLineItem() throws Exception {
     Product product = make(a(ProductBuilder.defaultProduct));
@@ -188,6 +229,32 @@ public class VaccinationCoverageMapperIT {
     assertThat(resultSet.getLong("createdBy"), is(123L));
   }
 
+  @Test
+  public void shouldGetChildCoverageLineItemsAndOpenedVialsOfGivenFacilityVisitsInInsertionOrder() throws Exception {
+    Integer nullInteger = null;
+    ChildCoverageLineItem bcgLineItem = new ChildCoverageLineItem("BCG", nullInteger, nullInteger, nullInteger, nullInteger);
+    ChildCoverageLineItem measlesLineItem = new ChildCoverageLineItem("Measles", nullInteger, nullInteger, nullInteger, nullInteger);
+    for (ChildCoverageLineItem lineItem : asList(bcgLineItem, measlesLineItem)) {
+      lineItem.setFacilityVisitId(facilityVisit.getId());
+      mapper.insertChildCoverageLineItem(lineItem);
+    }
+    OpenedVialLineItem openedVialLineItem = new OpenedVialLineItem();
+    openedVialLineItem.setFacilityVisitId(facilityVisit.getId());
+    openedVialLineItem.setProductVialName("BCG");
+    openedVialLineItem.setPackSize(10);
+    mapper.insertChildCoverageOpenedVialLineItem(openedVialLineItem);
+
+    String commaSeparatedFacilityVisitIds = "{" + facilityVisit.getId() + "}";
+    List<ChildCoverageLineItem> lineItems = mapper.getChildCoverageLineItemsByFacilityVisitIds(commaSeparatedFacilityVisitIds);
+    List<OpenedVialLineItem> openedVialLineItems = mapper.getChildCoverageOpenedVialLineItemsByFacilityVisitIds(commaSeparatedFacilityVisitIds);
+
+    assertThat(lineItems.size(), is(2));
+    assertThat(lineItems.get(0).getVaccination(), is("BCG"));
+    assertThat(lineItems.get(1).getVaccination(), is("Measles"));
+    assertThat(openedVialLineItems.size(), is(1));
+    assertThat(openedVialLineItems.get(0).getFacilityVisitId(), is(facilityVisit.getId()));
+  }
+
   @Test
   public void shouldGetChildCoverageLineItemByFacilityVisitId() throws Exception {
     Product product = make(a(ProductBuilder.defaultProduct));
@@ -50,4 +50,16 @@ public class EpiUseServiceTest {
 
     verify(epiUseRepository).saveLineItem(epiUseLineItem);
   }
+
+  @Test
+  public void shouldInsertLineItemsOfAllEpiUsesTogether() throws Exception {
+    EpiUseLineItem lineItem1 = new EpiUseLineItem();
+    EpiUseLineItem lineItem2 = new EpiUseLineItem();
+    EpiUse epiUse1 = new EpiUse(asList(lineItem1));
+    EpiUse epiUse2 = new EpiUse(asList(lineItem2));
+
+    service.insertAll(asList(epiUse1, epiUse2));
+
+    verify(epiUseRepository).insertLineItems(asList(lineItem1, lineItem2));
+  }
 }
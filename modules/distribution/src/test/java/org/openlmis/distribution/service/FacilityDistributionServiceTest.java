@@ -15,8 +15,13 @@ import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.openlmis.core.builder.FacilityBuilder;
 import org.openlmis.core.domain.*;
+import org.openlmis.core.exception.DataException;
+import org.openlmis.core.repository.helper.Savepoint;
 import org.openlmis.core.service.FacilityService;
 import org.openlmis.core.service.RefrigeratorService;
 import org.openlmis.db.categories.UnitTests;
@@ -25,18 +30,25 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static com.natpryce.makeiteasy.MakeItEasy.a;
 import static com.natpryce.makeiteasy.MakeItEasy.make;
+import static com.natpryce.makeiteasy.MakeItEasy.with;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.openlmis.core.builder.FacilityBuilder.facilityId;
 import static org.powermock.api.mockito.PowerMockito.*;
 
 @Category(UnitTests.class)
@@ -65,6 +77,9 @@ public class FacilityDistributionServiceTest {
   @Mock
   private VaccinationCoverageService vaccinationCoverageService;
 
+  @Spy
+  private Savepoint savepoint = new Savepoint();
+
   @InjectMocks
   FacilityDistributionService facilityDistributionService;
 
@@ -90,8 +105,8 @@ public class FacilityDistributionServiceTest {
     List<ProductVial> productVials = Collections.<ProductVial>emptyList();
     when(vaccinationCoverageService.getProductVials()).thenReturn(productVials);
 
-    doReturn(facilityDistribution).when(spyFacilityDistributionService).createDistributionData(facility, distribution,
-      refrigerators, emptyTargetGroupProductList, emptyTargetGroupProductList, productVials, productVials);
+    doReturn(facilityDistribution).when(spyFacilityDistributionService).createDistributionData(new FacilityVisit(facility, distribution),
+      facility, distribution, refrigerators, emptyTargetGroupProductList, emptyTargetGroupProductList, productVials, productVials);
 
     Map<Long, FacilityDistribution> facilityDistributionDataMap = spyFacilityDistributionService.createFor(distribution);
 
@@ -121,42 +136,55 @@ public class FacilityDistributionServiceTest {
     distribution.setPeriod(new ProcessingPeriod());
 
     FacilityVisit facilityVisit = new FacilityVisit();
-    whenNew(FacilityVisit.class).withArguments(facility, distribution).thenReturn(facilityVisit);
     whenNew(FacilityDistribution.class).withArguments(facilityVisit, facility, distribution, asList(refrigeratorReading),
       childTargetGroupProducts, adultTargetGroupProducts, asList(childProductVial), asList(adultProductVial)).thenReturn(mock(FacilityDistribution.class));
 
-    FacilityDistribution distributionData = facilityDistributionService.createDistributionData(facility, distribution, refrigerators,
+    facilityDistributionService.createDistributionData(facilityVisit, facility, distribution, refrigerators,
       childTargetGroupProducts, adultTargetGroupProducts, asList(childProductVial), asList(adultProductVial));
 
-    verify(epiUseService).save(distributionData.getEpiUse());
-    verify(facilityVisitService).save(facilityVisit);
-    verify(epiInventoryService).save(distributionData.getEpiInventory());
-    verify(vaccinationCoverageService).saveChildCoverage(distributionData.getChildCoverage());
-    verifyNew(FacilityVisit.class).withArguments(facility, distribution);
+    verify(facilityVisitService, never()).save(any(FacilityVisit.class));
+    verify(epiUseService, never()).save(any(EpiUse.class));
+    verify(epiInventoryService, never()).save(any(EpiInventory.class));
     verifyNew(FacilityDistribution.class).withArguments(facilityVisit, facility, distribution, asList(refrigeratorReading),
       childTargetGroupProducts, adultTargetGroupProducts, asList(childProductVial), asList(adultProductVial));
   }
 
   @Test
-  public void shouldSaveInventoryDataForAFDD() throws Exception {
-    Facility facility = new Facility();
+  public void shouldInsertVisitsAndFormsOfAllFacilitiesInBulk() throws Exception {
     Distribution distribution = new Distribution();
-    EpiInventory epiInventory = new EpiInventory();
+    distribution.setDeliveryZone(new DeliveryZone(4L));
+    distribution.setProgram(new Program(16L));
+    Facility facility1 = new Facility(9L);
+    Facility facility2 = new Facility(12L);
     List<Refrigerator> refrigerators = emptyList();
-    List<TargetGroupProduct> childTargetGroupProducts = emptyList();
-    List<TargetGroupProduct> adultTargetGroupProducts = emptyList();
+    List<TargetGroupProduct> targetGroupProducts = emptyList();
     List<ProductVial> productVials = emptyList();
-    FacilityDistribution distributionData = mock(FacilityDistribution.class);
-
-    FacilityVisit facilityVisit = new FacilityVisit();
-    whenNew(FacilityDistribution.class).withArguments(facilityVisit, facility, distribution, refrigerators,
-      childTargetGroupProducts, adultTargetGroupProducts, productVials, productVials).thenReturn(distributionData);
-    when(distributionData.getEpiInventory()).thenReturn(epiInventory);
-
-    facilityDistributionService.createDistributionData(facility, distribution, refrigerators, childTargetGroupProducts,
-      adultTargetGroupProducts, productVials, productVials);
+    FacilityDistribution facilityDistribution1 = new FacilityDistribution(new FacilityVisit(), new EpiUse(), null, new EpiInventory(),
+      null, new VaccinationChildCoverage(), new VaccinationAdultCoverage());
+    FacilityDistribution facilityDistribution2 = new FacilityDistribution(new FacilityVisit(), new EpiUse(), null, new EpiInventory(),
+      null, new VaccinationChildCoverage(), new VaccinationAdultCoverage());
+    FacilityDistributionService service = spy(facilityDistributionService);
 
-    verify(epiInventoryService).save(epiInventory);
+    when(facilityService.getAllForDeliveryZoneAndProgram(4L, 16L)).thenReturn(asList(facility1, facility2));
+    when(refrigeratorService.getRefrigeratorsForADeliveryZoneAndProgram(4L, 16L)).thenReturn(refrigerators);
+    when(vaccinationCoverageService.getVaccinationProducts()).thenReturn(targetGroupProducts);
+    when(vaccinationCoverageService.getProductVials()).thenReturn(productVials);
+    FacilityVisit facilityVisit1 = new FacilityVisit(facility1, distribution);
+    FacilityVisit facilityVisit2 = new FacilityVisit(facility2, distribution);
+    doReturn(facilityDistribution1).when(service).createDistributionData(facilityVisit1, facility1, distribution, refrigerators,
+      targetGroupProducts, targetGroupProducts, productVials, productVials);
+    doReturn(facilityDistribution2).when(service).createDistributionData(facilityVisit2, facility2, distribution, refrigerators,
+      targetGroupProducts, targetGroupProducts, productVials, productVials);
+
+    service.createFor(distribution);
+
+    verify(facilityVisitService).insertAll(asList(facilityVisit1, facilityVisit2));
+    verify(epiUseService).insertAll(asList(facilityDistribution1.getEpiUse(), facilityDistribution2.getEpiUse()));
+    verify(epiInventoryService).insertAll(asList(facilityDistribution1.getEpiInventory(), facilityDistribution2.getEpiInventory()));
+    verify(vaccinationCoverageService).insertChildCoverages(asList(facilityDistribution1.getChildCoverage(), facilityDistribution2.getChildCoverage()));
+    verify(vaccinationCoverageService).insertAdultCoverages(asList(facilityDistribution1.getAdultCoverage(), facilityDistribution2.getAdultCoverage()));
+    verify(facilityVisitService, never()).save(any(FacilityVisit.class));
+    verify(epiInventoryService, never()).save(any(EpiInventory.class));
   }
 
   @Test
@@ -179,9 +207,9 @@ public class FacilityDistributionServiceTest {
     List<ProductVial> productVials = Collections.<ProductVial>emptyList();
     when(vaccinationCoverageService.getProductVials()).thenReturn(productVials);
 
-    doReturn(facilityDistribution1).when(service).createDistributionData(facility1, distribution, refrigerators,
+    doReturn(facilityDistribution1).when(service).createDistributionData(new FacilityVisit(facility1, distribution), facility1, distribution, refrigerators,
       emptyTargetGroupProductList, emptyTargetGroupProductList, productVials, productVials);
-    doReturn(facilityDistribution2).when(service).createDistributionData(facility2, distribution, refrigerators,
+    doReturn(facilityDistribution2).when(service).createDistributionData(new FacilityVisit(facility2, distribution), facility2, distribution, refrigerators,
       emptyTargetGroupProductList, emptyTargetGroupProductList, productVials, productVials);
 
     Map<Long, FacilityDistribution> facilityDistributions = service.createFor(distribution);
@@ -203,12 +231,11 @@ public class FacilityDistributionServiceTest {
     FacilityDistribution expectedFacilityDistribution = new FacilityDistribution();
     expectedFacilityDistribution.setEpiUse(new EpiUse());
     FacilityVisit facilityVisit = new FacilityVisit();
-    whenNew(FacilityVisit.class).withArguments(facility, distribution).thenReturn(facilityVisit);
     List<TargetGroupProduct> emptyTargetGroupProductList = new ArrayList<>();
     whenNew(FacilityDistribution.class).withArguments(facilityVisit, facility, distribution, asList(facilityRefReading),
       emptyTargetGroupProductList, emptyTargetGroupProductList, null, null).thenReturn(expectedFacilityDistribution);
 
-    FacilityDistribution facilityDistribution = facilityDistributionService.createDistributionData(facility, distribution,
+    FacilityDistribution facilityDistribution = facilityDistributionService.createDistributionData(facilityVisit, facility, distribution,
       refrigerators, emptyTargetGroupProductList, emptyTargetGroupProductList, null, null);
 
     verifyNew(FacilityDistribution.class).withArguments(facilityVisit, facility, distribution, asList(facilityRefReading),
@@ -268,6 +295,134 @@ public class FacilityDistributionServiceTest {
     verify(facilityVisitService).setSynced(facilityVisit);
   }
 
+  @Test
+  public void shouldSyncOnlyUnSyncedVisitsOfTheDistributionAndSaveTheirFormsTogether() throws Exception {
+    FacilityVisit visitedFacility = facilityVisit(1L, 11L, 5L, false);
+    visitedFacility.setVisited(true);
+    FacilityVisit unvisitedFacility = facilityVisit(2L, 12L, 5L, false);
+    unvisitedFacility.setVisited(false);
+    FacilityVisit alreadySyncedFacility = facilityVisit(3L, 13L, 5L, false);
+    FacilityVisit otherDistributionFacility = facilityVisit(4L, 14L, 5L, false);
+    when(facilityVisitService.getByIds(asList(1L, 2L, 3L, 4L))).thenReturn(asList(facilityVisit(1L, 11L, 5L, false),
+      facilityVisit(2L, 12L, 5L, false), facilityVisit(3L, 13L, 5L, true), facilityVisit(4L, 14L, 6L, false)));
+
+    EpiUse epiUse = new EpiUse();
+    EpiInventory epiInventory = new EpiInventory();
+    DistributionRefrigerators distributionRefrigerators = new DistributionRefrigerators();
+    FacilityDistribution visitedDistribution = new FacilityDistribution(visitedFacility, epiUse, distributionRefrigerators,
+      epiInventory, new VaccinationFullCoverage(), new VaccinationChildCoverage(), new VaccinationAdultCoverage());
+    FacilityDistribution unvisitedDistribution = new FacilityDistribution(unvisitedFacility, new EpiUse(),
+      new DistributionRefrigerators(), new EpiInventory(), new VaccinationFullCoverage(), new VaccinationChildCoverage(), new VaccinationAdultCoverage());
+    FacilityDistribution alreadySyncedDistribution = new FacilityDistribution();
+    alreadySyncedDistribution.setFacilityVisit(alreadySyncedFacility);
+    FacilityDistribution otherDistribution = new FacilityDistribution();
+    otherDistribution.setFacilityVisit(otherDistributionFacility);
+
+    Map<Long, Boolean> syncStatuses = facilityDistributionService.syncAll(5L,
+      asList(visitedDistribution, unvisitedDistribution, alreadySyncedDistribution, otherDistribution));
+
+    assertThat(new ArrayList<>(syncStatuses.keySet()), is(asList(11L, 12L, 13L, 14L)));
+    assertThat(new ArrayList<>(syncStatuses.values()), is(asList(true, true, false, false)));
+    assertThat(visitedFacility.getSynced(), is(true));
+    assertThat(alreadySyncedFacility.getSynced(), is(false));
+    verify(facilityVisitService).updateAll(asList(visitedFacility, unvisitedFacility));
+    verify(epiInventoryService).saveAll(asList(epiInventory));
+    verify(epiUseService).saveAll(asList(epiUse));
+    verify(distributionRefrigeratorsService).save(11L, distributionRefrigerators);
+    verify(distributionRefrigeratorsService, never()).save(12L, unvisitedDistribution.getRefrigerators());
+    verify(vaccinationCoverageService).saveAll(asList(visitedDistribution, unvisitedDistribution));
+    verify(facilityVisitService, never()).setSynced(any(FacilityVisit.class));
+  }
+
+  @Test
+  public void shouldSyncFacilitiesOneByOneAndReportOnlyFailingOnesWhenSavingTogetherFails() throws Exception {
+    FacilityVisit goodFacility = facilityVisit(1L, 11L, 5L, false);
+    goodFacility.setVisited(true);
+    FacilityVisit badFacility = facilityVisit(2L, 12L, 5L, false);
+    badFacility.setVisited(true);
+    when(facilityVisitService.getByIds(asList(1L, 2L))).thenReturn(asList(facilityVisit(1L, 11L, 5L, false),
+      facilityVisit(2L, 12L, 5L, false)));
+    doThrow(new DataException("error.reading.invalid")).when(distributionRefrigeratorsService)
+      .save(eq(12L), any(DistributionRefrigerators.class));
+
+    EpiUse goodEpiUse = new EpiUse();
+    FacilityDistribution goodDistribution = new FacilityDistribution(goodFacility, goodEpiUse,
+      new DistributionRefrigerators(), new EpiInventory(), new VaccinationFullCoverage(), new VaccinationChildCoverage(), new VaccinationAdultCoverage());
+    FacilityDistribution badDistribution = new FacilityDistribution(badFacility, new EpiUse(),
+      new DistributionRefrigerators(), new EpiInventory(), new VaccinationFullCoverage(), new VaccinationChildCoverage(), new VaccinationAdultCoverage());
+
+    Map<Long, Boolean> syncStatuses = facilityDistributionService.syncAll(5L, asList(goodDistribution, badDistribution));
+
+    assertThat(new ArrayList<>(syncStatuses.keySet()), is(asList(11L, 12L)));
+    assertThat(new ArrayList<>(syncStatuses.values()), is(asList(true, false)));
+    assertThat(goodFacility.getSynced(), is(true));
+    assertThat(badFacility.getSynced(), is(false));
+    verify(savepoint, times(3)).run(any(Runnable.class));
+    verify(facilityVisitService).updateAll(asList(goodFacility));
+    verify(epiUseService).saveAll(asList(goodEpiUse));
+    verify(vaccinationCoverageService).saveAll(asList(goodDistribution));
+    verify(vaccinationCoverageService, never()).saveAll(asList(badDistribution));
+  }
+
+  @Test
+  public void shouldInsertNewFormsAgainWhenSavingFacilitiesOneByOneAfterSavingTogetherFails() throws Exception {
+    FacilityVisit goodFacility = facilityVisit(1L, 11L, 5L, false);
+    goodFacility.setVisited(true);
+    FacilityVisit badFacility = facilityVisit(2L, 12L, 5L, false);
+    badFacility.setVisited(true);
+    when(facilityVisitService.getByIds(asList(1L, 2L))).thenReturn(asList(facilityVisit(1L, 11L, 5L, false),
+      facilityVisit(2L, 12L, 5L, false)));
+
+    EpiUse goodEpiUse = new EpiUse();
+    goodEpiUse.getLineItems().add(new EpiUseLineItem());
+    RefrigeratorReading goodReading = new RefrigeratorReading();
+    goodReading.setRefrigerator(new Refrigerator());
+    DistributionRefrigerators goodRefrigerators = new DistributionRefrigerators();
+    goodRefrigerators.getReadings().add(goodReading);
+    FacilityDistribution goodDistribution = new FacilityDistribution(goodFacility, goodEpiUse, goodRefrigerators,
+      new EpiInventory(), new VaccinationFullCoverage(), new VaccinationChildCoverage(), new VaccinationAdultCoverage());
+    EpiUse badEpiUse = new EpiUse();
+    badEpiUse.getLineItems().add(new EpiUseLineItem());
+    FacilityDistribution badDistribution = new FacilityDistribution(badFacility, badEpiUse,
+      new DistributionRefrigerators(), new EpiInventory(), new VaccinationFullCoverage(), new VaccinationChildCoverage(), new VaccinationAdultCoverage());
+
+    final List<Long> savedEpiUseLineItemIds = new ArrayList<>();
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) {
+        for (EpiUse epiUse : (List<EpiUse>) invocation.getArguments()[0]) {
+          for (EpiUseLineItem lineItem : epiUse.getLineItems()) {
+            savedEpiUseLineItemIds.add(lineItem.getId());
+            lineItem.setId(100L + savedEpiUseLineItemIds.size());
+          }
+        }
+        return null;
+      }
+    }).when(epiUseService).saveAll(any(List.class));
+    final List<Long> savedRefrigeratorIds = new ArrayList<>();
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) {
+        for (RefrigeratorReading reading : ((DistributionRefrigerators) invocation.getArguments()[1]).getReadings()) {
+          savedRefrigeratorIds.add(reading.getRefrigerator().getId());
+          reading.getRefrigerator().setId(200L + savedRefrigeratorIds.size());
+        }
+        return null;
+      }
+    }).when(distributionRefrigeratorsService).save(eq(11L), any(DistributionRefrigerators.class));
+    doThrow(new DataException("error.coverage.invalid")).when(vaccinationCoverageService)
+      .saveAll(asList(goodDistribution, badDistribution));
+    doThrow(new DataException("error.coverage.invalid")).when(vaccinationCoverageService)
+      .saveAll(asList(badDistribution));
+
+    Map<Long, Boolean> syncStatuses = facilityDistributionService.syncAll(5L, asList(goodDistribution, badDistribution));
+
+    assertThat(new ArrayList<>(syncStatuses.values()), is(asList(true, false)));
+    assertThat(savedEpiUseLineItemIds, is(Arrays.<Long>asList(null, null, null, null)));
+    assertThat(savedRefrigeratorIds, is(Arrays.<Long>asList(null, null)));
+    verify(vaccinationCoverageService).saveAll(asList(goodDistribution));
+  }
+
   @Test
   public void shouldGetDataForADistribution() throws Exception {
     Distribution distribution = new Distribution();
@@ -276,7 +431,8 @@ public class FacilityDistributionServiceTest {
     distribution.setDeliveryZone(zone);
     distribution.setProgram(program);
 
-    when(facilityService.getById(2L)).thenReturn(make(a(FacilityBuilder.defaultFacility)));
+    Facility facility = make(a(FacilityBuilder.defaultFacility, with(facilityId, 2L)));
+    when(facilityService.getAllByIds(asList(2L))).thenReturn(asList(facility));
 
     FacilityVisit facilityVisit = new FacilityVisit();
     facilityVisit.setId(1L);
@@ -285,20 +441,21 @@ public class FacilityDistributionServiceTest {
     List<FacilityVisit> facilityVisits = asList(facilityVisit);
     when(facilityVisitService.getUnSyncedFacilities(distribution.getId())).thenReturn(facilityVisits);
 
+    List<Long> facilityVisitIds = asList(1L);
     EpiUse epiUse = new EpiUse();
-    when(epiUseService.getBy(facilityVisit.getId())).thenReturn(epiUse);
+    when(epiUseService.getByFacilityVisitIds(facilityVisitIds)).thenReturn(mapOf(1L, epiUse));
 
     EpiInventory epiInventory = new EpiInventory();
-    when(epiInventoryService.getBy(facilityVisit.getId())).thenReturn(epiInventory);
+    when(epiInventoryService.getByFacilityVisitIds(facilityVisitIds)).thenReturn(mapOf(1L, epiInventory));
 
     VaccinationFullCoverage vaccinationFullCoverage = new VaccinationFullCoverage();
-    when(vaccinationCoverageService.getFullCoverageBy(facilityVisit.getId())).thenReturn(vaccinationFullCoverage);
+    when(vaccinationCoverageService.getFullCoveragesBy(facilityVisitIds)).thenReturn(mapOf(1L, vaccinationFullCoverage));
 
     VaccinationChildCoverage vaccinationChildCoverage = new VaccinationChildCoverage();
-    when(vaccinationCoverageService.getChildCoverageBy(facilityVisit.getId())).thenReturn(vaccinationChildCoverage);
+    when(vaccinationCoverageService.getChildCoveragesBy(facilityVisitIds)).thenReturn(mapOf(1L, vaccinationChildCoverage));
 
     VaccinationAdultCoverage vaccinationAdultCoverage = new VaccinationAdultCoverage();
-    when(vaccinationCoverageService.getAdultCoverageBy(facilityVisit.getId())).thenReturn(vaccinationAdultCoverage);
+    when(vaccinationCoverageService.getAdultCoveragesBy(facilityVisitIds)).thenReturn(mapOf(1L, vaccinationAdultCoverage));
 
     Refrigerator refrigerator = new Refrigerator();
     refrigerator.setFacilityId(2L);
@@ -315,5 +472,81 @@ public class FacilityDistributionServiceTest {
 
     assertThat(facilityDistributionMap.size(), is(1));
     assertThat(facilityDistributionMap.get(facilityVisit.getFacilityId()), is(facilityDistribution));
+    assertThat(facilityDistribution.getFacilityId(), is(2L));
+  }
+
+  @Test
+  public void shouldLoadFormsOfAllUnSyncedVisitsOfADistributionTogether() throws Exception {
+    Distribution distribution = new Distribution();
+    distribution.setDeliveryZone(new DeliveryZone(5L));
+    distribution.setProgram(new Program(3L));
+
+    FacilityVisit facilityVisit1 = new FacilityVisit();
+    facilityVisit1.setId(1L);
+    facilityVisit1.setFacilityId(11L);
+    FacilityVisit facilityVisit2 = new FacilityVisit();
+    facilityVisit2.setId(2L);
+    facilityVisit2.setFacilityId(12L);
+    when(facilityVisitService.getUnSyncedFacilities(distribution.getId())).thenReturn(asList(facilityVisit1, facilityVisit2));
+
+    Facility facility1 = make(a(FacilityBuilder.defaultFacility, with(facilityId, 11L)));
+    Facility facility2 = make(a(FacilityBuilder.defaultFacility, with(facilityId, 12L)));
+    when(facilityService.getAllByIds(asList(11L, 12L))).thenReturn(asList(facility2, facility1));
+
+    List<Long> facilityVisitIds = asList(1L, 2L);
+    EpiUse epiUse1 = new EpiUse(asList(new EpiUseLineItem()));
+    EpiUse epiUse2 = new EpiUse();
+    Map<Long, EpiUse> epiUses = mapOf(1L, epiUse1);
+    epiUses.put(2L, epiUse2);
+    when(epiUseService.getByFacilityVisitIds(facilityVisitIds)).thenReturn(epiUses);
+    when(epiInventoryService.getByFacilityVisitIds(facilityVisitIds)).thenReturn(new HashMap<Long, EpiInventory>());
+    when(vaccinationCoverageService.getFullCoveragesBy(facilityVisitIds)).thenReturn(new HashMap<Long, VaccinationFullCoverage>());
+    when(vaccinationCoverageService.getChildCoveragesBy(facilityVisitIds)).thenReturn(new HashMap<Long, VaccinationChildCoverage>());
+    when(vaccinationCoverageService.getAdultCoveragesBy(facilityVisitIds)).thenReturn(new HashMap<Long, VaccinationAdultCoverage>());
+
+    Refrigerator refrigerator = new Refrigerator();
+    refrigerator.setFacilityId(12L);
+    when(refrigeratorService.getRefrigeratorsForADeliveryZoneAndProgram(5L, 3L)).thenReturn(asList(refrigerator));
+
+    Map<Long, FacilityDistribution> facilityDistributions = facilityDistributionService.get(distribution);
+
+    assertThat(facilityDistributions.size(), is(2));
+    assertThat(facilityDistributions.get(11L).getFacilityVisit(), is(facilityVisit1));
+    assertThat(facilityDistributions.get(11L).getFacilityId(), is(11L));
+    assertThat(facilityDistributions.get(11L).getEpiUse(), is(epiUse1));
+    assertThat(facilityDistributions.get(11L).getRefrigerators().getReadings().size(), is(0));
+    assertThat(facilityDistributions.get(12L).getFacilityId(), is(12L));
+    assertThat(facilityDistributions.get(12L).getEpiUse(), is(epiUse2));
+    assertThat(facilityDistributions.get(12L).getRefrigerators().getReadings().size(), is(1));
+    verify(refrigeratorService).getRefrigeratorsForADeliveryZoneAndProgram(5L, 3L);
+    verify(facilityService, never()).getById(any(Long.class));
+    verify(epiUseService, never()).getBy(any(Long.class));
+  }
+
+  @Test
+  public void shouldNotLoadFormsIfDistributionHasNoUnSyncedVisits() throws Exception {
+    Distribution distribution = new Distribution();
+    when(facilityVisitService.getUnSyncedFacilities(distribution.getId())).thenReturn(new ArrayList<FacilityVisit>());
+
+    Map<Long, FacilityDistribution> facilityDistributions = facilityDistributionService.get(distribution);
+
+    assertThat(facilityDistributions.size(), is(0));
+    verify(refrigeratorService, never()).getRefrigeratorsForADeliveryZoneAndProgram(any(Long.class), any(Long.class));
+    verify(epiUseService, never()).getByFacilityVisitIds(any(List.class));
+  }
+
+  private FacilityVisit facilityVisit(Long id, Long facilityId, Long distributionId, Boolean synced) {
+    FacilityVisit facilityVisit = new FacilityVisit();
+    facilityVisit.setId(id);
+    facilityVisit.setFacilityId(facilityId);
+    facilityVisit.setDistributionId(distributionId);
+    facilityVisit.setSynced(synced);
+    return facilityVisit;
+  }
+
+  private <T> Map<Long, T> mapOf(Long key, T value) {
+    Map<Long, T> map = new HashMap<>();
+    map.put(key, value);
+    return map;
   }
-}
\ No newline at end of file
+}
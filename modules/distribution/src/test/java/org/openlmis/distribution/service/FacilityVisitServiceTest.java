@@ -13,6 +13,9 @@ import org.openlmis.db.categories.UnitTests;
 import org.openlmis.distribution.domain.FacilityVisit;
 import org.openlmis.distribution.repository.FacilityVisitRepository;
 
+import java.util.List;
+
+import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -45,6 +48,20 @@ public class FacilityVisitServiceTest {
     verify(facilityVisit).setApplicableVisitInfo();
   }
 
+  @Test
+  public void shouldInsertAllFacilityVisitsTogether() {
+    FacilityVisit facilityVisit1 = spy(new FacilityVisit());
+    FacilityVisit facilityVisit2 = spy(new FacilityVisit());
+    List<FacilityVisit> facilityVisits = asList(facilityVisit1, facilityVisit2);
+
+    facilityVisitService.insertAll(facilityVisits);
+
+    verify(facilityVisit1).setApplicableVisitInfo();
+    verify(facilityVisit2).setApplicableVisitInfo();
+    verify(facilityVisitRepository).insertAll(facilityVisits);
+    verify(facilityVisitRepository, never()).save(any(FacilityVisit.class));
+  }
+
   @Test
   public void shouldSyncFacilityVisitIfNotAlreadySynced() throws Exception {
     FacilityVisit facilityVisit = new FacilityVisit();
@@ -14,8 +14,8 @@ import lombok.Data;
 import org.springframework.mail.SimpleMailMessage;
 
 /**
- * OpenlmisEmailMessage is an entity that contains additional id attribute apart from basic attributes provided by
- * SimpleMailMessage.
+ * OpenlmisEmailMessage is an entity that contains additional id and delivery attempts attributes apart from basic
+ * attributes provided by SimpleMailMessage.
  */
 
 @Data
@@ -23,6 +23,8 @@ public class OpenlmisEmailMessage extends SimpleMailMessage {
 
   private Long id;
 
+  private Integer attempts;
+
   public OpenlmisEmailMessage() {
     super();
   }
@@ -31,6 +31,7 @@ public class EmailMessageRowMapper implements RowMapper<OpenlmisEmailMessage> {
     emailMessage.setSubject(rs.getString("subject"));
     emailMessage.setText(rs.getString("content"));
     emailMessage.setId(rs.getLong("id"));
+    emailMessage.setAttempts(rs.getInt("attempts"));
     return emailMessage;
   }
 }
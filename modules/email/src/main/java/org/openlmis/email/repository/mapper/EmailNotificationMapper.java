@@ -0,0 +1,40 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.email.repository.mapper;
+
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Update;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * It maps the delivery status of email notifications to the email_notifications table.
+ */
+
+@Repository
+public interface EmailNotificationMapper {
+
+  @Update({"<script>",
+    "UPDATE email_notifications SET sent = TRUE, sentDate = NOW(), lastError = NULL WHERE id IN",
+    "<foreach collection='ids' item='id' open='(' separator=',' close=')'>#{id}</foreach>",
+    "</script>"})
+  void markSent(@Param("ids") List<Long> ids);
+
+  @Update({"UPDATE email_notifications SET attempts = #{attempts}, nextAttemptDate = #{nextAttemptDate},",
+    "lastError = #{lastError} WHERE id = #{id}"})
+  void scheduleRetry(@Param("id") Long id, @Param("attempts") Integer attempts,
+                     @Param("nextAttemptDate") Date nextAttemptDate, @Param("lastError") String lastError);
+
+  @Update("UPDATE email_notifications SET attempts = #{attempts}, failed = TRUE, lastError = #{lastError} WHERE id = #{id}")
+  void markFailed(@Param("id") Long id, @Param("attempts") Integer attempts, @Param("lastError") String lastError);
+}
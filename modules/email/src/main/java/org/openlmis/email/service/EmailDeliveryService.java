@@ -0,0 +1,172 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.email.service;
+
+import org.apache.log4j.Logger;
+import org.openlmis.email.domain.OpenlmisEmailMessage;
+import org.openlmis.email.repository.EmailNotificationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.integration.annotation.Payload;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.MailSender;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Delivers polled email notifications to the mail relay. Each poll is split into chunks that are sent in parallel on
+ * the email delivery executor, every chunk over a single smtp connection. Delivery is recorded per message: sent
+ * messages are marked sent, failed ones are retried with exponential backoff until max attempts is reached.
+ */
+
+@Service
+public class EmailDeliveryService {
+
+  @Autowired
+  private MailSender mailSender;
+
+  @Autowired
+  private EmailNotificationRepository repository;
+
+  @Autowired
+  private EmailRateLimiter rateLimiter;
+
+  @Autowired
+  @Qualifier("emailDeliveryExecutor")
+  AsyncTaskExecutor emailDeliveryExecutor;
+
+  @Value("${mail.sending.flag}")
+  Boolean mailSendingFlag;
+
+  @Value("${email.delivery.messages.per.connection}")
+  Integer messagesPerConnection;
+
+  @Value("${email.delivery.max.attempts}")
+  Integer maxAttempts;
+
+  @Value("${email.delivery.retry.backoff.seconds}")
+  Integer retryBackoffSeconds;
+
+  private static final int MAX_BACKOFF_DOUBLINGS = 10;
+
+  private static Logger logger = Logger.getLogger(EmailDeliveryService.class);
+
+  public void deliver(@Payload List<OpenlmisEmailMessage> messages) {
+    if (!mailSendingFlag) {
+      repository.markSent(idsOf(messages));
+      return;
+    }
+
+    List<Future<?>> deliveries = new ArrayList<>();
+    for (int i = 0; i < messages.size(); i += messagesPerConnection) {
+      List<OpenlmisEmailMessage> chunk = messages.subList(i, Math.min(i + messagesPerConnection, messages.size()));
+      deliveries.add(emailDeliveryExecutor.submit(new EmailDelivery(new ArrayList<>(chunk))));
+    }
+
+    waitForDeliveries(deliveries);
+  }
+
+  private void waitForDeliveries(List<Future<?>> deliveries) {
+    for (Future<?> delivery : deliveries) {
+      try {
+        delivery.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        logger.error("Interrupted while waiting for emails to be delivered", e);
+        return;
+      } catch (ExecutionException e) {
+        logger.error("Error in delivery of emails", e.getCause());
+      }
+    }
+  }
+
+  private void send(List<OpenlmisEmailMessage> messages) {
+    try {
+      rateLimiter.acquire(messages.size());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      logger.warn("Interrupted before delivering emails, they will be picked up again once their claim expires");
+      return;
+    }
+
+    Map<Object, Exception> failures = Collections.emptyMap();
+    try {
+      mailSender.send(messages.toArray(new SimpleMailMessage[messages.size()]));
+    } catch (MailSendException e) {
+      failures = e.getFailedMessages().isEmpty() ? allFailed(messages, e) : e.getFailedMessages();
+    } catch (MailException e) {
+      failures = allFailed(messages, e);
+    }
+
+    List<Long> sentIds = new ArrayList<>();
+    for (OpenlmisEmailMessage message : messages) {
+      if (failures.containsKey(message)) {
+        recordFailure(message, failures.get(message));
+      } else {
+        sentIds.add(message.getId());
+      }
+    }
+    repository.markSent(sentIds);
+  }
+
+  private void recordFailure(OpenlmisEmailMessage message, Exception exception) {
+    int attempts = (message.getAttempts() == null ? 0 : message.getAttempts()) + 1;
+    String error = exception.getMessage();
+    if (attempts >= maxAttempts) {
+      logger.error("Giving up on email " + message.getId() + " after " + attempts + " attempts", exception);
+      repository.markFailed(message.getId(), attempts, error);
+      return;
+    }
+    repository.scheduleRetry(message.getId(), attempts, nextAttemptDate(attempts), error);
+  }
+
+  private Date nextAttemptDate(int attempts) {
+    long backoffSeconds = (long) retryBackoffSeconds << Math.min(attempts - 1, MAX_BACKOFF_DOUBLINGS);
+    return new Date(System.currentTimeMillis() + backoffSeconds * 1000);
+  }
+
+  private Map<Object, Exception> allFailed(List<OpenlmisEmailMessage> messages, Exception exception) {
+    Map<Object, Exception> failures = new HashMap<>();
+    for (OpenlmisEmailMessage message : messages) {
+      failures.put(message, exception);
+    }
+    return failures;
+  }
+
+  private List<Long> idsOf(List<OpenlmisEmailMessage> messages) {
+    List<Long> ids = new ArrayList<>();
+    for (OpenlmisEmailMessage message : messages) {
+      ids.add(message.getId());
+    }
+    return ids;
+  }
+
+  private class EmailDelivery implements Runnable {
+
+    private List<OpenlmisEmailMessage> messages;
+
+    private EmailDelivery(List<OpenlmisEmailMessage> messages) {
+      this.messages = messages;
+    }
+
+    @Override
+    public void run() {
+      send(messages);
+    }
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.email.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sizes the polling of pending email notifications to the delivery settings. Each poll claims one connection's worth
+ * of messages for every delivery worker, and polls are spaced by the time the rate limiter needs to let that many
+ * messages through, so that the table is drained at the configured maximum rate. Without a rate limit, polls are
+ * spaced by the minimum polling rate.
+ */
+
+@Component
+public class EmailPollingSchedule {
+
+  static final long MIN_POLLING_RATE_MILLIS = 1000;
+
+  private final int rowsPerPoll;
+
+  private final long pollingRateMillis;
+
+  @Autowired
+  public EmailPollingSchedule(@Value("${email.delivery.workers}") int workers,
+                              @Value("${email.delivery.messages.per.connection}") int messagesPerConnection,
+                              @Value("${email.delivery.max.per.second}") double maxMessagesPerSecond) {
+    this.rowsPerPoll = workers * messagesPerConnection;
+    this.pollingRateMillis = maxMessagesPerSecond <= 0 ? MIN_POLLING_RATE_MILLIS :
+      Math.max(MIN_POLLING_RATE_MILLIS, (long) (rowsPerPoll * 1000 / maxMessagesPerSecond));
+  }
+
+  public int getRowsPerPoll() {
+    return rowsPerPoll;
+  }
+
+  public long getPollingRateMillis() {
+    return pollingRateMillis;
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.email.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces out messages handed to the mail relay so that all delivery workers together stay within the configured
+ * number of messages per second. A limit of zero or less disables throttling.
+ */
+
+@Component
+public class EmailRateLimiter {
+
+  private final long nanosPerMessage;
+
+  private long nextFreeSlot = System.nanoTime();
+
+  @Autowired
+  public EmailRateLimiter(@Value("${email.delivery.max.per.second}") double maxMessagesPerSecond) {
+    this.nanosPerMessage = maxMessagesPerSecond <= 0 ? 0 : (long) (TimeUnit.SECONDS.toNanos(1) / maxMessagesPerSecond);
+  }
+
+  public void acquire(int messages) throws InterruptedException {
+    if (nanosPerMessage == 0) return;
+
+    long waitNanos;
+    synchronized (this) {
+      long now = System.nanoTime();
+      long start = Math.max(now, nextFreeSlot);
+      nextFreeSlot = start + nanosPerMessage * messages;
+      waitNanos = start - now;
+    }
+    if (waitNanos > 0) TimeUnit.NANOSECONDS.sleep(waitNanos);
+  }
+}
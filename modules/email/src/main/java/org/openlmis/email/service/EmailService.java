@@ -13,18 +13,16 @@ package org.openlmis.email.service;
 import lombok.NoArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.integration.annotation.Payload;
 import org.springframework.mail.MailSender;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.AsyncResult;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
 import java.util.concurrent.Future;
 
 /**
- * Exposes the services for processing emails and sending them using MailSender.
+ * Exposes the services for sending emails using MailSender.
  */
 
 @Service
@@ -49,12 +47,4 @@ public class EmailService {
     mailSender.send(emailMessage);
     return new AsyncResult<>(true);
   }
-
-  public void processEmails(@Payload List<SimpleMailMessage> simpleMailMessage) {
-    if (!mailSendingFlag) {
-      return;
-    }
-
-    mailSender.send(simpleMailMessage.toArray(new SimpleMailMessage[simpleMailMessage.size()]));
-  }
 }
@@ -31,6 +31,7 @@ public class EmailMessageRowMapperTest {
     when(resultSet.getString("subject")).thenReturn("subject");
     when(resultSet.getString("content")).thenReturn("content");
     when(resultSet.getLong("id")).thenReturn(1L);
+    when(resultSet.getInt("attempts")).thenReturn(2);
 
     OpenlmisEmailMessage emailMessage = emailMessageRowMapper.mapRow(resultSet, 1);
 
@@ -38,5 +39,6 @@ public class EmailMessageRowMapperTest {
     assertThat(emailMessage.getSubject(), is("subject"));
     assertThat(emailMessage.getText(), is("content"));
     assertThat(emailMessage.getId(), is(1L));
+    assertThat(emailMessage.getAttempts(), is(2));
   }
 }
@@ -0,0 +1,146 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.email.service;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.openlmis.db.categories.UnitTests;
+import org.openlmis.email.domain.OpenlmisEmailMessage;
+import org.openlmis.email.repository.EmailNotificationRepository;
+import org.openlmis.email.smtp.LocalSmtpServer;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@Category(UnitTests.class)
+@RunWith(MockitoJUnitRunner.class)
+public class EmailDeliveryServiceSmtpTest {
+
+  @Spy
+  private JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+
+  @Mock
+  private EmailNotificationRepository repository;
+
+  @Mock
+  private EmailRateLimiter rateLimiter;
+
+  @InjectMocks
+  private EmailDeliveryService service;
+
+  private LocalSmtpServer smtpServer;
+
+  @Before
+  public void setUp() throws Exception {
+    smtpServer = new LocalSmtpServer("unknown@openlmis.org");
+    mailSender.setHost("localhost");
+    mailSender.setPort(smtpServer.getPort());
+
+    service.emailDeliveryExecutor = new TaskExecutorAdapter(new Executor() {
+      @Override
+      public void execute(Runnable command) {
+        command.run();
+      }
+    });
+    service.mailSendingFlag = true;
+    service.messagesPerConnection = 2;
+    service.maxAttempts = 5;
+    service.retryBackoffSeconds = 60;
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    smtpServer.stop();
+  }
+
+  @Test
+  public void shouldDeliverEachChunkOverOneConnectionAndRetryRejectedRecipients() throws Exception {
+    OpenlmisEmailMessage message1 = message(1L, "first@openlmis.org");
+    OpenlmisEmailMessage message2 = message(2L, "unknown@openlmis.org");
+    OpenlmisEmailMessage message3 = message(3L, "third@openlmis.org");
+
+    service.deliver(asList(message1, message2, message3));
+
+    assertThat(smtpServer.getConnections(), is(2));
+    assertThat(smtpServer.getDeliveredRecipients(), is(asList("first@openlmis.org", "third@openlmis.org")));
+    verify(repository).markSent(asList(1L));
+    verify(repository).markSent(asList(3L));
+    verify(repository).scheduleRetry(eq(2L), eq(1), any(Date.class), anyString());
+  }
+
+  @Test
+  public void shouldDeliverBurstInParallelChunksOverOneConnectionEach() throws Exception {
+    ThreadPoolTaskExecutor workers = new ThreadPoolTaskExecutor();
+    workers.setCorePoolSize(4);
+    workers.setMaxPoolSize(4);
+    workers.initialize();
+    service.emailDeliveryExecutor = workers;
+    service.messagesPerConnection = 25;
+
+    List<OpenlmisEmailMessage> burst = new ArrayList<>();
+    List<Long> ids = new ArrayList<>();
+    for (long id = 1; id <= 200; id++) {
+      burst.add(message(id, "user" + id + "@openlmis.org"));
+      ids.add(id);
+    }
+
+    try {
+      service.deliver(burst);
+    } finally {
+      workers.shutdown();
+    }
+
+    assertThat(smtpServer.getConnections(), is(8));
+    assertThat(smtpServer.getDeliveredRecipients().size(), is(200));
+    ArgumentCaptor<List> sentIds = ArgumentCaptor.forClass(List.class);
+    verify(repository, times(8)).markSent(sentIds.capture());
+    List<Long> allSentIds = new ArrayList<>();
+    for (List chunk : sentIds.getAllValues()) {
+      allSentIds.addAll(chunk);
+    }
+    Collections.sort(allSentIds);
+    assertThat(allSentIds, is(ids));
+  }
+
+  private OpenlmisEmailMessage message(Long id, String receiver) {
+    OpenlmisEmailMessage message = new OpenlmisEmailMessage();
+    message.setId(id);
+    message.setAttempts(0);
+    message.setFrom("alert.open.lmis@gmail.com");
+    message.setTo(receiver);
+    message.setSubject("Test Email");
+    message.setText("Test Email Text");
+    return message;
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.email.service;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.openlmis.db.categories.UnitTests;
+import org.openlmis.email.domain.OpenlmisEmailMessage;
+import org.openlmis.email.repository.EmailNotificationRepository;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.MailSender;
+import org.springframework.mail.SimpleMailMessage;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+@Category(UnitTests.class)
+@RunWith(MockitoJUnitRunner.class)
+public class EmailDeliveryServiceTest {
+
+  @Mock
+  private MailSender mailSender;
+
+  @Mock
+  private EmailNotificationRepository repository;
+
+  @Mock
+  private EmailRateLimiter rateLimiter;
+
+  @InjectMocks
+  private EmailDeliveryService service;
+
+  private OpenlmisEmailMessage message1;
+  private OpenlmisEmailMessage message2;
+  private OpenlmisEmailMessage message3;
+
+  @Before
+  public void setUp() throws Exception {
+    service.emailDeliveryExecutor = new TaskExecutorAdapter(new Executor() {
+      @Override
+      public void execute(Runnable command) {
+        command.run();
+      }
+    });
+    service.mailSendingFlag = true;
+    service.messagesPerConnection = 2;
+    service.maxAttempts = 3;
+    service.retryBackoffSeconds = 60;
+
+    message1 = message(1L, 0);
+    message2 = message(2L, 1);
+    message3 = message(3L, 2);
+  }
+
+  @Test
+  public void shouldMarkMessagesSentWithoutSendingIfMailSendingFlagIsFalse() throws Exception {
+    service.mailSendingFlag = false;
+
+    service.deliver(asList(message1, message2));
+
+    verify(repository).markSent(asList(1L, 2L));
+    verifyZeroInteractions(mailSender);
+  }
+
+  @Test
+  public void shouldSendEachChunkOfMessagesInOneCallAndMarkThemSent() throws Exception {
+    service.deliver(asList(message1, message2, message3));
+
+    verify(mailSender).send(new SimpleMailMessage[]{message1, message2});
+    verify(mailSender).send(new SimpleMailMessage[]{message3});
+    verify(rateLimiter).acquire(2);
+    verify(rateLimiter).acquire(1);
+    verify(repository).markSent(asList(1L, 2L));
+    verify(repository).markSent(asList(3L));
+  }
+
+  @Test
+  public void shouldScheduleRetryWithBackoffOnlyForMessagesThatFailed() throws Exception {
+    Map<Object, Exception> failedMessages = new HashMap<>();
+    failedMessages.put(message2, new Exception("mailbox unavailable"));
+    doThrow(new MailSendException(failedMessages)).when(mailSender).send(new SimpleMailMessage[]{message1, message2});
+    long before = System.currentTimeMillis();
+
+    service.deliver(asList(message1, message2));
+
+    verify(repository).markSent(asList(1L));
+    ArgumentCaptor<Date> nextAttempt = ArgumentCaptor.forClass(Date.class);
+    verify(repository).scheduleRetry(eq(2L), eq(2), nextAttempt.capture(), eq("mailbox unavailable"));
+    assertTrue(nextAttempt.getValue().getTime() >= before + 120000);
+    assertTrue(nextAttempt.getValue().getTime() <= System.currentTimeMillis() + 120000);
+  }
+
+  @Test
+  public void shouldRetryAllMessagesOfAChunkIfRelayCouldNotBeReached() throws Exception {
+    doThrow(new MailSendException("Mail server connection failed")).when(mailSender).send(any(SimpleMailMessage[].class));
+
+    service.deliver(asList(message1, message2));
+
+    verify(repository).scheduleRetry(eq(1L), eq(1), any(Date.class), eq("Mail server connection failed"));
+    verify(repository).scheduleRetry(eq(2L), eq(2), any(Date.class), eq("Mail server connection failed"));
+    verify(repository).markSent(Collections.<Long>emptyList());
+  }
+
+  @Test
+  public void shouldMarkMessageFailedOnceMaxAttemptsAreReached() throws Exception {
+    doThrow(new MailSendException("Mail server connection failed")).when(mailSender).send(any(SimpleMailMessage[].class));
+
+    service.deliver(asList(message3));
+
+    verify(repository).markFailed(3L, 3, "Mail server connection failed");
+    verify(repository, never()).scheduleRetry(anyLong(), anyInt(), any(Date.class), anyString());
+  }
+
+  @Test
+  public void shouldLeaveMessagesClaimedIfInterruptedBeforeSending() throws Exception {
+    doThrow(new InterruptedException()).when(rateLimiter).acquire(2);
+
+    service.deliver(asList(message1, message2));
+
+    assertThat(Thread.interrupted(), is(true));
+    verifyZeroInteractions(mailSender, repository);
+  }
+
+  private OpenlmisEmailMessage message(Long id, Integer attempts) {
+    OpenlmisEmailMessage message = new OpenlmisEmailMessage();
+    message.setId(id);
+    message.setAttempts(attempts);
+    message.setTo("to" + id + "@openlmis.org");
+    return message;
+  }
+}
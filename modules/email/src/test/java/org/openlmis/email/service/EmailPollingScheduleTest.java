@@ -0,0 +1,45 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.email.service;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openlmis.db.categories.UnitTests;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.openlmis.email.service.EmailPollingSchedule.MIN_POLLING_RATE_MILLIS;
+
+@Category(UnitTests.class)
+public class EmailPollingScheduleTest {
+
+  @Test
+  public void shouldClaimOneConnectionPerWorkerAndPollAsOftenAsTheRateLimitAllows() throws Exception {
+    EmailPollingSchedule schedule = new EmailPollingSchedule(4, 25, 10);
+
+    assertThat(schedule.getRowsPerPoll(), is(100));
+    assertThat(schedule.getPollingRateMillis(), is(10000L));
+  }
+
+  @Test
+  public void shouldPollAtMinimumRateWhenDeliveryIsNotThrottled() throws Exception {
+    EmailPollingSchedule schedule = new EmailPollingSchedule(4, 25, 0);
+
+    assertThat(schedule.getPollingRateMillis(), is(MIN_POLLING_RATE_MILLIS));
+  }
+
+  @Test
+  public void shouldNotPollMoreOftenThanMinimumRateForHighRateLimits() throws Exception {
+    EmailPollingSchedule schedule = new EmailPollingSchedule(2, 10, 1000);
+
+    assertThat(schedule.getPollingRateMillis(), is(MIN_POLLING_RATE_MILLIS));
+  }
+}
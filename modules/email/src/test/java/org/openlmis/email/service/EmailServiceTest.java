@@ -20,8 +20,6 @@ import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.concurrent.ExecutionException;
 
 import static com.natpryce.makeiteasy.MakeItEasy.*;
@@ -65,16 +63,4 @@ public class EmailServiceTest {
     boolean status = service.send(message).get();
     assertTrue(status);
   }
-
-  @Test
-  public void shouldSendMailsFromAListOfMailMessages() throws Exception {
-    EmailService emailService = new EmailService(mailSender, true);
-
-    SimpleMailMessage mockEmailMessage = mock(SimpleMailMessage.class);
-    List<SimpleMailMessage> emailMessages = Arrays.asList(mockEmailMessage);
-
-    emailService.processEmails(emailMessages);
-
-    verify(mailSender).send(new SimpleMailMessage[]{mockEmailMessage});
-  }
 }
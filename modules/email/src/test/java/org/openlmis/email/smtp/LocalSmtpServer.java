@@ -0,0 +1,116 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.email.smtp;
+
+import java.io.*;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal in-process smtp server used as a stand-in for the mail relay in tests. It accepts every message except
+ * those addressed to one of the rejected recipients, and records the connections opened and the recipients
+ * delivered to.
+ */
+public class LocalSmtpServer {
+
+  private final ServerSocket serverSocket;
+  private final List<String> rejectedRecipients;
+  private final AtomicInteger connections = new AtomicInteger();
+  private final List<String> deliveredRecipients = Collections.synchronizedList(new ArrayList<String>());
+
+  public LocalSmtpServer(String... rejectedRecipients) throws IOException {
+    this.serverSocket = new ServerSocket(0);
+    this.rejectedRecipients = Arrays.asList(rejectedRecipients);
+    Thread acceptor = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        acceptConnections();
+      }
+    }, "local-smtp-server");
+    acceptor.setDaemon(true);
+    acceptor.start();
+  }
+
+  public int getPort() {
+    return serverSocket.getLocalPort();
+  }
+
+  public int getConnections() {
+    return connections.get();
+  }
+
+  public List<String> getDeliveredRecipients() {
+    return deliveredRecipients;
+  }
+
+  public void stop() throws IOException {
+    serverSocket.close();
+  }
+
+  private void acceptConnections() {
+    while (!serverSocket.isClosed()) {
+      try (Socket socket = serverSocket.accept()) {
+        connections.incrementAndGet();
+        converse(socket);
+      } catch (IOException e) {
+        if (serverSocket.isClosed()) return;
+      }
+    }
+  }
+
+  private void converse(Socket socket) throws IOException {
+    BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), "US-ASCII"));
+    Writer out = new OutputStreamWriter(socket.getOutputStream(), "US-ASCII");
+    reply(out, "220 localhost stand-in");
+
+    List<String> recipients = new ArrayList<>();
+    String line;
+    while ((line = in.readLine()) != null) {
+      String command = line.toUpperCase();
+      if (command.startsWith("EHLO") || command.startsWith("HELO")) {
+        reply(out, "250 localhost");
+      } else if (command.startsWith("MAIL FROM")) {
+        recipients.clear();
+        reply(out, "250 OK");
+      } else if (command.startsWith("RCPT TO")) {
+        String recipient = line.substring(line.indexOf('<') + 1, line.indexOf('>'));
+        if (rejectedRecipients.contains(recipient)) {
+          reply(out, "550 No such user " + recipient);
+        } else {
+          recipients.add(recipient);
+          reply(out, "250 OK");
+        }
+      } else if (command.equals("DATA")) {
+        reply(out, "354 End data with <CR><LF>.<CR><LF>");
+        while ((line = in.readLine()) != null && !line.equals(".")) {
+          // message body is not inspected
+        }
+        deliveredRecipients.addAll(recipients);
+        reply(out, "250 OK");
+      } else if (command.startsWith("QUIT")) {
+        reply(out, "221 Bye");
+        return;
+      } else {
+        reply(out, "250 OK");
+      }
+    }
+  }
+
+  private void reply(Writer out, String response) throws IOException {
+    out.write(response + "\r\n");
+    out.flush();
+  }
+}
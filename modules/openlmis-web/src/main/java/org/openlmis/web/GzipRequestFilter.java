@@ -0,0 +1,86 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.web;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * This filter decompresses the body of requests sent with a gzip content encoding, so that clients on slow links can
+ * upload large payloads, like a batch of facility distributions to sync, in compressed form.
+ */
+public class GzipRequestFilter extends OncePerRequestFilter {
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+    throws ServletException, IOException {
+    String contentEncoding = request.getHeader("Content-Encoding");
+    if (contentEncoding == null || !contentEncoding.toLowerCase().contains("gzip")) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+    filterChain.doFilter(new GzipRequest(request), response);
+  }
+
+  private static class GzipRequest extends HttpServletRequestWrapper {
+
+    private ServletInputStream inputStream;
+
+    public GzipRequest(HttpServletRequest request) {
+      super(request);
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+      if (inputStream == null) {
+        final GZIPInputStream gzipInputStream = new GZIPInputStream(super.getInputStream());
+        inputStream = new ServletInputStream() {
+          @Override
+          public int read() throws IOException {
+            return gzipInputStream.read();
+          }
+
+          @Override
+          public int read(byte[] bytes, int offset, int length) throws IOException {
+            return gzipInputStream.read(bytes, offset, length);
+          }
+
+          @Override
+          public void close() throws IOException {
+            gzipInputStream.close();
+          }
+        };
+      }
+      return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+      String encoding = getCharacterEncoding() == null ? "UTF-8" : getCharacterEncoding();
+      return new BufferedReader(new InputStreamReader(getInputStream(), encoding));
+    }
+
+    @Override
+    public int getContentLength() {
+      return -1;
+    }
+  }
+}
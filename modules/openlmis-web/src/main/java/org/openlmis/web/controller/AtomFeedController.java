@@ -10,6 +10,7 @@
 
 package org.openlmis.web.controller;
 
+import org.openlmis.web.model.AtomFeedPage;
 import org.openlmis.web.service.VendorEventFeedService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,11 +21,14 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
+import static javax.servlet.http.HttpServletResponse.SC_NOT_MODIFIED;
 import static org.springframework.web.bind.annotation.RequestMethod.GET;
 
 /**
  * This controller handles endpoint related to get atom feeds which are recent or by a particular feed number.
+ * Feed pages carry ETag and Last-Modified headers, and conditional requests for an unchanged page get a 304.
  */
 
 @Controller
@@ -38,9 +42,11 @@ public class AtomFeedController extends BaseController {
   public String getRecentFeeds(@PathVariable(value = "category") String category,
                                @RequestParam(value = "vendor", required = false) String vendor,
                                @Value("${app.url}") String baseUrl,
-                               HttpServletRequest request) {
+                               HttpServletRequest request,
+                               HttpServletResponse response) {
 
-    return vendorEventFeedService.getRecentFeed(baseUrl + request.getServletPath(), vendor, category);
+    AtomFeedPage page = vendorEventFeedService.getRecentFeed(baseUrl + request.getServletPath(), vendor, category);
+    return respond(page, request, response);
   }
 
   @RequestMapping(method = GET, value = "feeds/{category}/{feedNumber}", produces = "application/atom+xml")
@@ -49,8 +55,29 @@ public class AtomFeedController extends BaseController {
                         @RequestParam(value = "vendor", required = false) String vendor,
                         @PathVariable Integer feedNumber,
                         @Value("${app.url}") String baseUrl,
-                        HttpServletRequest request) {
+                        HttpServletRequest request,
+                        HttpServletResponse response) {
 
-    return vendorEventFeedService.getEventFeed(baseUrl + request.getServletPath(), vendor, category, feedNumber);
+    AtomFeedPage page = vendorEventFeedService.getEventFeed(baseUrl + request.getServletPath(), vendor, category,
+      feedNumber);
+    return respond(page, request, response);
+  }
+
+  private String respond(AtomFeedPage page, HttpServletRequest request, HttpServletResponse response) {
+    response.setHeader("ETag", page.getETag());
+    response.setDateHeader("Last-Modified", page.getLastModified());
+    if (page.isNotModified(request.getHeader("If-None-Match"), ifModifiedSince(request))) {
+      response.setStatus(SC_NOT_MODIFIED);
+      return null;
+    }
+    return page.getContent();
+  }
+
+  private long ifModifiedSince(HttpServletRequest request) {
+    try {
+      return request.getDateHeader("If-Modified-Since");
+    } catch (IllegalArgumentException e) {
+      return -1;
+    }
   }
 }
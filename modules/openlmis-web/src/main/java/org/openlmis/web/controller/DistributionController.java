@@ -19,6 +19,7 @@ import org.openlmis.distribution.domain.FacilityDistribution;
 import org.openlmis.distribution.dto.FacilityDistributionDTO;
 import org.openlmis.distribution.service.DistributionService;
 import org.openlmis.distribution.service.FacilityDistributionService;
+import org.openlmis.web.form.FacilityDistributionDTOList;
 import org.openlmis.web.response.OpenLmisResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -30,6 +31,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 
 import javax.servlet.http.HttpServletRequest;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import static org.openlmis.web.response.OpenLmisResponse.SUCCESS;
@@ -96,6 +99,24 @@ public class DistributionController extends BaseController {
     return response;
   }
 
+  @RequestMapping(value = "/distributions/{id}/facilities", method = PUT, headers = ACCEPT_JSON)
+  @PreAuthorize("@distributionPermissionService.hasPermission(principal, 'MANAGE_DISTRIBUTION', #id)")
+  public ResponseEntity<OpenLmisResponse> syncAll(@RequestBody FacilityDistributionDTOList facilityDistributionDTOs, @PathVariable Long id,
+                                                  HttpServletRequest httpServletRequest) {
+    Long userId = loggedInUserId(httpServletRequest);
+    List<FacilityDistribution> facilityDistributions = new ArrayList<>();
+    for (FacilityDistributionDTO facilityDistributionDTO : facilityDistributionDTOs) {
+      facilityDistributionDTO.setDistributionId(id);
+      facilityDistributionDTO.setModifiedBy(userId);
+      facilityDistributions.add(facilityDistributionDTO.transform());
+    }
+
+    Map<Long, Boolean> syncStatuses = distributionService.syncAll(id, facilityDistributions);
+    ResponseEntity<OpenLmisResponse> response = response("syncStatus", syncStatuses);
+    response.getBody().addData("distributionStatus", distributionService.updateDistributionStatus(id, userId));
+    return response;
+  }
+
   private ResponseEntity<OpenLmisResponse> returnInitiatedDistribution(Distribution distribution, Distribution existingDistribution) {
 
     existingDistribution.setDeliveryZone(distribution.getDeliveryZone());
@@ -126,7 +126,7 @@ public class PODController extends BaseController {
 
   @RequestMapping(value = "/pods/{id}/print", method = GET, headers = ACCEPT_JSON)
   public ModelAndView print(@PathVariable Long id) throws JRException, IOException, ClassNotFoundException {
-    Template podPrintTemplate = templateService.getByName(PRINT_POD);
+    Template podPrintTemplate = templateService.getMetadataByName(PRINT_POD);
     JasperReportsMultiFormatView jasperView = jasperReportsViewFactory.getJasperReportsView(podPrintTemplate);
     Map<String, Object> map = new HashMap<>();
     map.put("format", "pdf");
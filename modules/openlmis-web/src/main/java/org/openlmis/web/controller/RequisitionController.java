@@ -181,6 +181,7 @@ public class RequisitionController extends BaseController {
   public ResponseEntity<OpenLmisResponse> listForConvertToOrder(@RequestParam(value = "searchType", required = false, defaultValue = SEARCH_ALL) String searchType,
                                                                 @RequestParam(value = "searchVal", required = false, defaultValue = "") String searchVal,
                                                                 @RequestParam(value = "page", required = true, defaultValue = "1") Integer page,
+                                                                @RequestParam(value = "after", required = false) Long afterRnrId,
                                                                 @RequestParam(value = "sortBy", required = false, defaultValue = "submittedDate") String sortBy,
                                                                 @RequestParam(value = "sortDirection", required = false, defaultValue = "asc") String sortDirection,
                                                                 HttpServletRequest request)
@@ -188,8 +189,11 @@ public class RequisitionController extends BaseController {
   {
     try {
       Integer numberOfPages = requisitionService.getNumberOfPagesOfApprovedRequisitionsForCriteria(searchType, searchVal, loggedInUserId(request), Right.CONVERT_TO_ORDER);
-      List<Rnr> approvedRequisitions = requisitionService.getApprovedRequisitionsForCriteriaAndPageNumber(
-        searchType, searchVal, page, numberOfPages, loggedInUserId(request), Right.CONVERT_TO_ORDER, sortBy, sortDirection);
+      List<Rnr> approvedRequisitions = afterRnrId == null ?
+        requisitionService.getApprovedRequisitionsForCriteriaAndPageNumber(searchType, searchVal, page, numberOfPages,
+          loggedInUserId(request), Right.CONVERT_TO_ORDER, sortBy, sortDirection) :
+        requisitionService.getApprovedRequisitionsForCriteriaAfter(searchType, searchVal, afterRnrId,
+          loggedInUserId(request), Right.CONVERT_TO_ORDER, sortBy, sortDirection);
       List<RnrDTO> rnrDTOs = prepareForListApproval(approvedRequisitions);
       OpenLmisResponse response = new OpenLmisResponse(RNR_LIST, rnrDTOs);
       response.addData(NUMBER_OF_PAGES, numberOfPages);
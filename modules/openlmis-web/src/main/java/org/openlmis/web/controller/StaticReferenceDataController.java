@@ -11,10 +11,12 @@
 package org.openlmis.web.controller;
 
 import lombok.NoArgsConstructor;
+import org.openlmis.core.service.ReferenceDataCache;
 import org.openlmis.core.service.StaticReferenceDataService;
 import org.openlmis.web.response.OpenLmisResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
@@ -22,7 +24,7 @@ import org.springframework.web.bind.annotation.RequestMethod;
 import static org.springframework.http.HttpStatus.OK;
 
 /**
- * This controller handles endpoint to return page size used in pagination.
+ * This controller handles endpoints to return page size used in pagination and statistics of the reference data cache.
  */
 
 @Controller
@@ -31,13 +33,23 @@ public class StaticReferenceDataController extends BaseController {
 
   public static final String PAGE_SIZE = "pageSize";
   public static final String LINE_ITEMS_PER_PAGE = "line.items.per.page";
+  public static final String CACHE_STATISTICS = "cacheStatistics";
 
   @Autowired
   private StaticReferenceDataService service;
 
+  @Autowired
+  private ReferenceDataCache referenceDataCache;
+
   @RequestMapping(value = "/reference-data/pageSize", method = RequestMethod.GET)
   public ResponseEntity<OpenLmisResponse> getPageSize() {
     OpenLmisResponse response = new OpenLmisResponse(PAGE_SIZE, service.getPropertyValue(LINE_ITEMS_PER_PAGE));
     return new ResponseEntity(response, OK);
   }
+
+  @RequestMapping(value = "/reference-data/cache-statistics", method = RequestMethod.GET)
+  @PreAuthorize("@permissionEvaluator.hasPermission(principal,'MANAGE_USER')")
+  public ResponseEntity<OpenLmisResponse> getCacheStatistics() {
+    return OpenLmisResponse.response(CACHE_STATISTICS, referenceDataCache.getStatistics());
+  }
 }
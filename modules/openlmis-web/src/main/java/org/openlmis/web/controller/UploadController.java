@@ -17,6 +17,7 @@ import org.openlmis.upload.RecordHandler;
 import org.openlmis.upload.exception.UploadException;
 import org.openlmis.upload.model.AuditFields;
 import org.openlmis.upload.model.ModelClass;
+import org.openlmis.upload.model.UploadResult;
 import org.openlmis.upload.parser.CSVParser;
 import org.openlmis.web.model.UploadBean;
 import org.openlmis.web.response.OpenLmisResponse;
@@ -33,6 +34,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.apache.commons.lang3.StringUtils.join;
 import static org.openlmis.web.response.OpenLmisResponse.response;
 import static org.springframework.http.HttpStatus.OK;
 import static org.springframework.http.MediaType.TEXT_HTML_VALUE;
@@ -51,6 +53,7 @@ public class UploadController extends BaseController {
   public static final String FILE_IS_EMPTY = "upload.file.empty";
   public static final String INCORRECT_FILE_FORMAT = "upload.incorrect.file.format";
   public static final String UPLOAD_FILE_SUCCESS = "upload.file.successful";
+  public static final String UPLOAD_FILE_PARTIAL_SUCCESS = "upload.file.partially.successful";
   public static final String SUCCESS = "success";
   public static final String ERROR = "error";
   public static final String SUPPORTED_UPLOADS = "supportedUploads";
@@ -79,9 +82,13 @@ public class UploadController extends BaseController {
       ModelClass modelClass = new ModelClass(uploadBeansMap.get(model).getImportableClass());
       AuditFields auditFields = new AuditFields(loggedInUserId(request), currentTimestamp);
 
-      int recordsToBeUploaded = csvParser.process(csvFile.getInputStream(), modelClass, recordHandler, auditFields);
+      UploadResult result = csvParser.process(csvFile.getInputStream(), modelClass, recordHandler, auditFields);
+      if (result.hasErrors()) {
+        return errorResponse(new OpenLmisMessage(UPLOAD_FILE_PARTIAL_SUCCESS,
+          Integer.toString(result.getRecordsProcessed()), join(result.getErrors(), "; ")));
+      }
 
-      return successPage(recordsToBeUploaded);
+      return successPage(result.getRecordsProcessed());
     } catch (DataException dataException) {
       return errorResponse(dataException.getOpenLmisMessage());
     } catch (UploadException e) {
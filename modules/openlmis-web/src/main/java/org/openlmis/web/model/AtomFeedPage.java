@@ -0,0 +1,57 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.web.model;
+
+import lombok.Getter;
+import org.apache.commons.lang3.ObjectUtils;
+
+import static org.apache.commons.codec.digest.DigestUtils.md5Hex;
+
+/**
+ * This class represents a rendered atom feed page along with the validators (strong ETag and Last-Modified) used to
+ * answer conditional requests. Archived pages never change, the recent page is stale once newer events exist.
+ */
+
+@Getter
+public class AtomFeedPage {
+
+  private String content;
+
+  private String eTag;
+
+  private long lastModified;
+
+  private boolean archived;
+
+  private Long latestEventId;
+
+  public AtomFeedPage(String content, long lastModified, boolean archived, Long latestEventId) {
+    this.content = content;
+    this.eTag = "\"" + md5Hex(content) + "\"";
+    this.lastModified = lastModified;
+    this.archived = archived;
+    this.latestEventId = latestEventId;
+  }
+
+  public boolean isStale(Long currentLatestEventId) {
+    return !archived && !ObjectUtils.equals(latestEventId, currentLatestEventId);
+  }
+
+  public boolean isNotModified(String ifNoneMatch, long ifModifiedSince) {
+    if (ifNoneMatch != null) {
+      for (String tag : ifNoneMatch.split(",")) {
+        if (tag.trim().equals(eTag) || tag.trim().equals("*")) return true;
+      }
+      return false;
+    }
+    return ifModifiedSince >= 0 && ifModifiedSince >= lastModified / 1000 * 1000;
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.web.service;
+
+import org.openlmis.core.service.ReferenceDataCache;
+import org.openlmis.core.service.ReferenceDataCache.Loader;
+import org.openlmis.web.model.AtomFeedPage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps rendered atom feed pages in memory, apart from the reference data cache and with its own size and time to
+ * live, as pages are far larger than reference data and archived ones stay valid for good.
+ */
+
+@Component
+public class AtomFeedPageCache {
+
+  private static final String PAGES = "atomFeedPages";
+
+  private final ReferenceDataCache cache;
+
+  @Autowired
+  public AtomFeedPageCache(@Value("${atom.feed.page.cache.ttl.seconds}") long timeToLiveSeconds,
+                           @Value("${atom.feed.page.cache.max.size}") int maxSize) {
+    this.cache = new ReferenceDataCache(timeToLiveSeconds, maxSize);
+  }
+
+  public AtomFeedPage get(Object key, Loader<AtomFeedPage> loader) {
+    return cache.get(PAGES, key, loader);
+  }
+
+  public void invalidate(Object key) {
+    cache.invalidate(PAGES, key);
+  }
+}
@@ -13,6 +13,7 @@ package org.openlmis.web.service;
 import com.sun.syndication.feed.atom.Content;
 import com.sun.syndication.feed.atom.Entry;
 import com.sun.syndication.feed.atom.Feed;
+import com.sun.syndication.feed.atom.Link;
 import com.sun.syndication.io.FeedException;
 import com.sun.syndication.io.WireFeedOutput;
 import org.apache.log4j.Logger;
@@ -26,6 +27,9 @@ import org.jdom.Element;
 import org.jdom.JDOMException;
 import org.jdom.input.SAXBuilder;
 import org.openlmis.core.exception.DataException;
+import org.openlmis.core.repository.EventRecordRepository;
+import org.openlmis.core.service.ReferenceDataCache.Loader;
+import org.openlmis.web.model.AtomFeedPage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
@@ -38,16 +42,22 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static java.lang.String.format;
+import static java.lang.System.currentTimeMillis;
+import static java.util.Arrays.asList;
 import static java.util.regex.Pattern.compile;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 /**
- * This service handles Atom feeds generation.
+ * This service handles Atom feeds generation. Rendered feed pages are cached by category, vendor and feed number:
+ * archived pages never change and are served without touching the database, other pages are rendered again only
+ * once new events are recorded for their category.
  */
 
 @Service
@@ -56,37 +66,85 @@ public class VendorEventFeedService {
   @Autowired
   EventFeedService eventFeedService;
 
+  @Autowired
+  private EventRecordRepository eventRecordRepository;
+
+  @Autowired
+  private AtomFeedPageCache atomFeedPageCache;
+
   private static final Pattern XML_CDATA_PATTERN = compile("(?:<!\\[CDATA\\[)(.+)(?:\\]\\]>)");
   private static final String VENDOR_MAPPING_TEMPLATE = "vendorMapping_%s_%s.xml";
+  private static final String RECENT_FEED = "recent";
+  private static final String NEXT_ARCHIVE = "next-archive";
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private final ConcurrentMap<String, Map<String, String>> vendorMappings = new ConcurrentHashMap<>();
 
   private static final Logger logger = Logger.getLogger(VendorEventFeedService.class);
 
-  public String getRecentFeed(String requestURL, String vendor, String category) {
-    try {
-      Feed feed = eventFeedService.getRecentFeed(new URI(requestURL), category);
-      mapFeedBasedOnVendorAndCategory(feed, vendor, category);
-      return new WireFeedOutput().outputString(feed);
-    } catch (Exception e) {
-      logger.error("error occurred while getting recent feeds", e);
-      throw new RuntimeException("Unexpected error", e); //TODO
-    }
+  public AtomFeedPage getRecentFeed(final String requestURL, final String vendor, final String category) {
+    return getPage(asList(category, vendor, RECENT_FEED, requestURL), category, new PageLoader() {
+      @Override
+      AtomFeedPage loadPage() {
+        try {
+          Long latestEventId = eventRecordRepository.getLatestEventId(category);
+          Feed feed = eventFeedService.getRecentFeed(new URI(requestURL), category);
+          mapFeedBasedOnVendorAndCategory(feed, vendor, category);
+          return render(feed, latestEventId);
+        } catch (Exception e) {
+          logger.error("error occurred while getting recent feeds", e);
+          throw new RuntimeException("Unexpected error", e); //TODO
+        }
+      }
+    });
   }
 
-  public String getEventFeed(String requestURL, String vendor, String category, int feedNumber) {
-    try {
-      Feed feed = eventFeedService.getEventFeed(new URI(requestURL), category, feedNumber);
-      try {
-        mapFeedBasedOnVendorAndCategory(feed, vendor, category);
-      } catch (IOException e) {
-        logger.error(e);
+  public AtomFeedPage getEventFeed(final String requestURL, final String vendor, final String category,
+                                   final int feedNumber) {
+    return getPage(asList(category, vendor, feedNumber, requestURL), category, new PageLoader() {
+      @Override
+      AtomFeedPage loadPage() {
+        try {
+          Long latestEventId = eventRecordRepository.getLatestEventId(category);
+          Feed feed = eventFeedService.getEventFeed(new URI(requestURL), category, feedNumber);
+          try {
+            mapFeedBasedOnVendorAndCategory(feed, vendor, category);
+          } catch (IOException e) {
+            logger.error(e);
+          }
+
+          return render(feed, latestEventId);
+
+        } catch (URISyntaxException | FeedException e) {
+          logger.error("error occurred while getting feed for feedNumber: " + feedNumber, e);
+          throw new RuntimeException("Error serializing feed.", e);
+        }
       }
+    });
+  }
+
+  private AtomFeedPage getPage(Object key, String category, PageLoader loader) {
+    AtomFeedPage page = atomFeedPageCache.get(key, loader);
+    if (loader.loaded || page.isArchived() || !page.isStale(eventRecordRepository.getLatestEventId(category))) {
+      return page;
+    }
+
+    atomFeedPageCache.invalidate(key);
+    return atomFeedPageCache.get(key, loader);
+  }
 
-      return new WireFeedOutput().outputString(feed);
+  private AtomFeedPage render(Feed feed, Long latestEventId) throws FeedException {
+    String content = new WireFeedOutput().outputString(feed);
+    long lastModified = feed.getUpdated() != null ? feed.getUpdated().getTime() : currentTimeMillis();
+    return new AtomFeedPage(content, lastModified, isArchived(feed), latestEventId);
+  }
 
-    } catch (URISyntaxException | FeedException e) {
-      logger.error("error occurred while getting feed for feedNumber: " + feedNumber, e);
-      throw new RuntimeException("Error serializing feed.", e);
+  private boolean isArchived(Feed feed) {
+    for (Object link : feed.getOtherLinks()) {
+      if (NEXT_ARCHIVE.equals(((Link) link).getRel())) return true;
     }
+    return false;
   }
 
   File vendorMappingTemplate(String templateName) {
@@ -103,14 +161,12 @@ public class VendorEventFeedService {
   private void mapFeedBasedOnVendorAndCategory(Feed feed, String vendor, String category) throws IOException {
     String templateName = format(VENDOR_MAPPING_TEMPLATE, vendor, category);
 
-    File templateFile;
-    if (isEmpty(vendor) || (templateFile = vendorMappingTemplate(templateName)) == null) {
+    Map<String, String> map;
+    if (isEmpty(vendor) || (map = vendorMapping(templateName)) == null) {
       logger.warn(format("using default template for vendor: %s and category: %s", feed.getTitle(), vendor, category));
       return;
     }
 
-    Map<String, String> map = createTemplateMap(templateFile);
-
     List<Entry> feedEntries = feed.getEntries();
     for (Entry entry : feedEntries) {
       List<Content> contentList = entry.getContents();
@@ -121,6 +177,18 @@ public class VendorEventFeedService {
     }
   }
 
+  private Map<String, String> vendorMapping(String templateName) {
+    Map<String, String> map = vendorMappings.get(templateName);
+    if (map == null) {
+      File templateFile = vendorMappingTemplate(templateName);
+      if (templateFile == null) return null;
+
+      map = createTemplateMap(templateFile);
+      vendorMappings.putIfAbsent(templateName, map);
+    }
+    return map;
+  }
+
   String parseAtomFeedContent(String atomFeedContentValue) {
     Matcher matcher = XML_CDATA_PATTERN.matcher(atomFeedContentValue);
     String atomFeedContent = EMPTY;
@@ -131,8 +199,7 @@ public class VendorEventFeedService {
   }
 
   private JsonNode convertToTemplate(Map<String, String> map, String value) throws IOException {
-    ObjectMapper objectMapper = new ObjectMapper();
-    JsonNode rootNode = objectMapper.readTree(value);
+    JsonNode rootNode = OBJECT_MAPPER.readTree(value);
     ObjectNode returnedNode = new ObjectNode(JsonNodeFactory.instance);
     Iterator<Map.Entry<String, JsonNode>> iterator = rootNode.getFields();
     while (iterator.hasNext()) {
@@ -166,4 +233,21 @@ public class VendorEventFeedService {
     }
     return map;
   }
-}
\ No newline at end of file
+
+  /**
+   * Remembers whether the page was rendered by this request, in which case it is as recent as the event id read while
+   * rendering it and need not be checked for staleness again.
+   */
+  private abstract static class PageLoader implements Loader<AtomFeedPage> {
+
+    private boolean loaded;
+
+    @Override
+    public AtomFeedPage load() {
+      loaded = true;
+      return loadPage();
+    }
+
+    abstract AtomFeedPage loadPage();
+  }
+}
@@ -24,6 +24,12 @@ function ConvertToOrderListController($scope, Orders, RequisitionForConvertToOrd
   $scope.selectedSearchOption = $scope.searchOptions[0];
   $scope.sortOptions = { fields: ['submittedDate'], directions: ['asc'] };
 
+  var lastLoadedPage = {};
+
+  var criteriaOf = function (params) {
+    return [params.searchType, params.searchVal, params.sortBy, params.sortDirection].join('|');
+  };
+
   var refreshGrid = function () {
 
     $scope.noRequisitionSelectedMessage = "";
@@ -33,9 +39,17 @@ function ConvertToOrderListController($scope, Orders, RequisitionForConvertToOrd
       {value: $routeParams.searchType}) || $scope.searchOptions[0];
     $scope.query = $routeParams.searchVal;
 
-    RequisitionForConvertToOrder.get({page: $scope.currentPage, searchType: $scope.selectedSearchOption.value,
-        searchVal: $scope.query, sortBy: $scope.sortOptions.fields[0], sortDirection: $scope.sortOptions.directions[0]},
+    var params = {page: $scope.currentPage, searchType: $scope.selectedSearchOption.value,
+      searchVal: $scope.query, sortBy: $scope.sortOptions.fields[0], sortDirection: $scope.sortOptions.directions[0]};
+
+    var lastRequisition = _.last(lastLoadedPage.requisitions || []);
+    if (lastRequisition && lastLoadedPage.page === params.page - 1 && lastLoadedPage.criteria === criteriaOf(params)) {
+      params.after = lastRequisition.id;
+    }
+
+    RequisitionForConvertToOrder.get(params,
       function (data) {
+        lastLoadedPage = {page: params.page, criteria: criteriaOf(params), requisitions: data.rnr_list};
         $scope.filteredRequisitions = data.rnr_list;
 
         $scope.numberOfPages = data.number_of_pages || 1;
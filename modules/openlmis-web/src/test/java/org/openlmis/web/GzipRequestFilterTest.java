@@ -0,0 +1,67 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.web;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.openlmis.db.categories.UnitTests;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.FileCopyUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletRequest;
+import java.io.ByteArrayOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@Category(UnitTests.class)
+public class GzipRequestFilterTest {
+
+  private GzipRequestFilter filter = new GzipRequestFilter();
+
+  @Test
+  public void shouldDecompressGzipEncodedRequestBody() throws Exception {
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressed);
+    gzipOutputStream.write("[{\"facilityVisit\":{}}]".getBytes("UTF-8"));
+    gzipOutputStream.close();
+    MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/distributions/1/facilities");
+    request.addHeader("Content-Encoding", "gzip");
+    request.setContent(compressed.toByteArray());
+    FilterChain filterChain = mock(FilterChain.class);
+
+    filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+    ArgumentCaptor<HttpServletRequest> filteredRequest = ArgumentCaptor.forClass(HttpServletRequest.class);
+    verify(filterChain).doFilter(filteredRequest.capture(), any(MockHttpServletResponse.class));
+    byte[] body = FileCopyUtils.copyToByteArray(filteredRequest.getValue().getInputStream());
+    assertThat(new String(body, "UTF-8"), is("[{\"facilityVisit\":{}}]"));
+  }
+
+  @Test
+  public void shouldPassThroughRequestWithoutContentEncoding() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/distributions/1/facilities");
+    request.setContent("[]".getBytes("UTF-8"));
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    FilterChain filterChain = mock(FilterChain.class);
+
+    filter.doFilter(request, response, filterChain);
+
+    verify(filterChain).doFilter(request, response);
+  }
+}
@@ -18,13 +18,19 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.openlmis.db.categories.UnitTests;
+import org.openlmis.web.model.AtomFeedPage;
 import org.openlmis.web.service.VendorEventFeedService;
 import org.powermock.modules.junit4.PowerMockRunner;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
+import static javax.servlet.http.HttpServletResponse.SC_NOT_MODIFIED;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.powermock.api.mockito.PowerMockito.when;
 
 @Category(UnitTests.class)
@@ -43,9 +49,15 @@ public class AtomFeedControllerTest {
   @Mock
   HttpServletRequest request;
 
+  @Mock
+  HttpServletResponse response;
+
+  private AtomFeedPage page = new AtomFeedPage("xml atom feed content", 1400000000000L, false, 10L);
+
   @Before
   public void setUp() throws Exception {
     when(request.getServletPath()).thenReturn("/path");
+    when(request.getDateHeader("If-Modified-Since")).thenReturn(-1L);
   }
 
   @Test
@@ -54,10 +66,12 @@ public class AtomFeedControllerTest {
     String vendor = "vendor1";
     String baseUrl = "baseUrl";
 
-    when(vendorEventFeedService.getRecentFeed("baseUrl/path", vendor, category)).thenReturn("xml atom feed content");
-    String recentFeeds = controller.getRecentFeeds(category, vendor, baseUrl, request);
+    when(vendorEventFeedService.getRecentFeed("baseUrl/path", vendor, category)).thenReturn(page);
+    String recentFeeds = controller.getRecentFeeds(category, vendor, baseUrl, request, response);
 
     assertThat(recentFeeds, is("xml atom feed content"));
+    verify(response).setHeader("ETag", page.getETag());
+    verify(response).setDateHeader("Last-Modified", 1400000000000L);
   }
 
   @Test
@@ -67,10 +81,44 @@ public class AtomFeedControllerTest {
     String baseUrl = "baseUrl";
     int feedNumber = 1;
 
-    when(vendorEventFeedService.getEventFeed("baseUrl/path", vendor, category, feedNumber)).thenReturn("xml atom feed content");
+    when(vendorEventFeedService.getEventFeed("baseUrl/path", vendor, category, feedNumber)).thenReturn(page);
 
-    String feed = controller.getFeed(category, vendor, feedNumber, baseUrl, request);
+    String feed = controller.getFeed(category, vendor, feedNumber, baseUrl, request, response);
 
     assertThat(feed, is("xml atom feed content"));
   }
+
+  @Test
+  public void shouldRespondNotModifiedIfETagMatches() throws Exception {
+    when(vendorEventFeedService.getRecentFeed("baseUrl/path", "vendor1", "category1")).thenReturn(page);
+    when(request.getHeader("If-None-Match")).thenReturn("\"other\", " + page.getETag());
+
+    String recentFeeds = controller.getRecentFeeds("category1", "vendor1", "baseUrl", request, response);
+
+    assertThat(recentFeeds, is(nullValue()));
+    verify(response).setStatus(SC_NOT_MODIFIED);
+  }
+
+  @Test
+  public void shouldRespondWithFeedIfETagDoesNotMatchEvenIfNotModifiedSince() throws Exception {
+    when(vendorEventFeedService.getRecentFeed("baseUrl/path", "vendor1", "category1")).thenReturn(page);
+    when(request.getHeader("If-None-Match")).thenReturn("\"other\"");
+    when(request.getDateHeader("If-Modified-Since")).thenReturn(1400000000000L);
+
+    String recentFeeds = controller.getRecentFeeds("category1", "vendor1", "baseUrl", request, response);
+
+    assertThat(recentFeeds, is("xml atom feed content"));
+    verify(response, never()).setStatus(SC_NOT_MODIFIED);
+  }
+
+  @Test
+  public void shouldRespondNotModifiedIfNotModifiedSince() throws Exception {
+    when(vendorEventFeedService.getEventFeed("baseUrl/path", "vendor1", "category1", 1)).thenReturn(page);
+    when(request.getDateHeader("If-Modified-Since")).thenReturn(1400000000000L);
+
+    String feed = controller.getFeed("category1", "vendor1", 1, "baseUrl", request, response);
+
+    assertThat(feed, is(nullValue()));
+    verify(response).setStatus(SC_NOT_MODIFIED);
+  }
 }
@@ -28,6 +28,7 @@ import org.openlmis.distribution.domain.*;
 import org.openlmis.distribution.dto.FacilityDistributionDTO;
 import org.openlmis.distribution.service.DistributionService;
 import org.openlmis.distribution.service.FacilityDistributionService;
+import org.openlmis.web.form.FacilityDistributionDTOList;
 import org.openlmis.web.response.OpenLmisResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -36,9 +37,11 @@ import org.springframework.mock.web.MockHttpSession;
 
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static com.natpryce.makeiteasy.MakeItEasy.*;
+import static java.util.Arrays.asList;
 import static java.util.Collections.EMPTY_LIST;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.*;
@@ -180,4 +183,61 @@ public class DistributionControllerTest {
 
     assertFalse((Boolean) response.getBody().getData().get("syncStatus"));
   }
+
+  @Test
+  public void shouldSyncAllFacilityDistributionsAndUpdateDistributionStatusOnce() throws Exception {
+    FacilityDistributionDTO facilityDistributionDTO1 = spy(new FacilityDistributionDTO());
+    FacilityDistributionDTO facilityDistributionDTO2 = spy(new FacilityDistributionDTO());
+    FacilityDistribution facilityDistribution1 = new FacilityDistribution();
+    FacilityDistribution facilityDistribution2 = new FacilityDistribution();
+    for (FacilityDistributionDTO dto : asList(facilityDistributionDTO1, facilityDistributionDTO2)) {
+      doNothing().when(dto).setModifiedBy(USER_ID);
+      doNothing().when(dto).setDistributionId(1L);
+    }
+    doReturn(facilityDistribution1).when(facilityDistributionDTO1).transform();
+    doReturn(facilityDistribution2).when(facilityDistributionDTO2).transform();
+    FacilityDistributionDTOList facilityDistributionDTOs = new FacilityDistributionDTOList();
+    facilityDistributionDTOs.addAll(asList(facilityDistributionDTO1, facilityDistributionDTO2));
+
+    Map<Long, Boolean> syncStatuses = new LinkedHashMap<>();
+    syncStatuses.put(3L, true);
+    syncStatuses.put(4L, false);
+    when(service.syncAll(1L, asList(facilityDistribution1, facilityDistribution2))).thenReturn(syncStatuses);
+    when(service.updateDistributionStatus(1L, USER_ID)).thenReturn(SYNCED);
+
+    ResponseEntity<OpenLmisResponse> response = controller.syncAll(facilityDistributionDTOs, 1L, httpServletRequest);
+
+    assertThat(response.getStatusCode(), is(HttpStatus.OK));
+    assertThat((Map<Long, Boolean>) response.getBody().getData().get("syncStatus"), is(syncStatuses));
+    assertThat((DistributionStatus) response.getBody().getData().get("distributionStatus"), is(SYNCED));
+    verify(facilityDistributionDTO1).setModifiedBy(USER_ID);
+    verify(facilityDistributionDTO2).setDistributionId(1L);
+    verify(service, times(1)).updateDistributionStatus(1L, USER_ID);
+    verify(service, never()).sync(any(FacilityDistribution.class));
+  }
+
+  @Test
+  public void shouldNotUpdateDistributionStatusIfWholeBatchSyncFails() throws Exception {
+    FacilityDistributionDTO facilityDistributionDTO = spy(new FacilityDistributionDTO());
+    FacilityVisit facilityVisit = new FacilityVisit();
+    facilityVisit.setFacilityId(3L);
+    FacilityDistribution facilityDistribution = new FacilityDistribution();
+    facilityDistribution.setFacilityVisit(facilityVisit);
+    doNothing().when(facilityDistributionDTO).setModifiedBy(USER_ID);
+    doNothing().when(facilityDistributionDTO).setDistributionId(1L);
+    doReturn(facilityDistribution).when(facilityDistributionDTO).transform();
+    FacilityDistributionDTOList facilityDistributionDTOs = new FacilityDistributionDTOList();
+    facilityDistributionDTOs.add(facilityDistributionDTO);
+
+    doThrow(new DataException("error.invalid.reading.value")).when(service).syncAll(1L, asList(facilityDistribution));
+
+    try {
+      controller.syncAll(facilityDistributionDTOs, 1L, httpServletRequest);
+      fail("DataException expected");
+    } catch (DataException e) {
+      assertThat(e.getOpenLmisMessage().getCode(), is("error.invalid.reading.value"));
+    }
+
+    verify(service, never()).updateDistributionStatus(1L, USER_ID);
+  }
 }
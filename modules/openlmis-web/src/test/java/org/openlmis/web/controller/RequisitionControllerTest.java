@@ -61,6 +61,7 @@ import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 import static org.openlmis.rnr.builder.RequisitionBuilder.defaultRequisition;
 import static org.openlmis.rnr.builder.RequisitionSearchCriteriaBuilder.*;
+import static org.openlmis.rnr.service.RequisitionService.NUMBER_OF_PAGES;
 import static org.openlmis.rnr.service.RequisitionService.RNR_SUBMITTED_SUCCESSFULLY;
 import static org.openlmis.web.controller.RequisitionController.*;
 import static org.powermock.api.mockito.PowerMockito.*;
@@ -330,7 +331,7 @@ public class RequisitionControllerTest {
     List<RnrDTO> expectedRnrList = new ArrayList<>();
     when(RnrDTO.prepareForListApproval(expectedRequisitions)).thenReturn(expectedRnrList);
 
-    ResponseEntity<OpenLmisResponse> responseEntity = controller.listForConvertToOrder(searchType, searchVal, pageNumber, sortBy, sortDirection, request);
+    ResponseEntity<OpenLmisResponse> responseEntity = controller.listForConvertToOrder(searchType, searchVal, pageNumber, null, sortBy, sortDirection, request);
 
     verify(requisitionService).getApprovedRequisitionsForCriteriaAndPageNumber(searchType, searchVal, pageNumber,
         1, USER_ID, Right.CONVERT_TO_ORDER, sortBy, sortDirection);
@@ -338,6 +339,31 @@ public class RequisitionControllerTest {
     assertThat((List<RnrDTO>) responseEntity.getBody().getData().get(RNR_LIST), is(expectedRnrList));
   }
 
+  @Test
+  public void shouldReturnApprovedRequisitionsAfterGivenRequisitionForConvertingToOrder() {
+    ArrayList<Rnr> expectedRequisitions = new ArrayList<>();
+    mockStatic(RnrDTO.class);
+
+    String searchType = "all";
+    String searchVal = "test";
+    String sortBy = "submittedDate";
+    String sortDirection = "asc";
+
+    when(requisitionService.getNumberOfPagesOfApprovedRequisitionsForCriteria(searchType, searchVal, USER_ID,
+        Right.CONVERT_TO_ORDER)).thenReturn(3);
+    when(requisitionService.getApprovedRequisitionsForCriteriaAfter(searchType, searchVal, 42L, USER_ID,
+        Right.CONVERT_TO_ORDER, sortBy, sortDirection)).thenReturn(expectedRequisitions);
+    List<RnrDTO> expectedRnrList = new ArrayList<>();
+    when(RnrDTO.prepareForListApproval(expectedRequisitions)).thenReturn(expectedRnrList);
+
+    ResponseEntity<OpenLmisResponse> responseEntity = controller.listForConvertToOrder(searchType, searchVal, 2, 42L, sortBy, sortDirection, request);
+
+    verify(requisitionService, never()).getApprovedRequisitionsForCriteriaAndPageNumber(anyString(), anyString(), anyInt(),
+        anyInt(), anyLong(), any(Right.class), anyString(), anyString());
+    assertThat((List<RnrDTO>) responseEntity.getBody().getData().get(RNR_LIST), is(expectedRnrList));
+    assertThat((Integer) responseEntity.getBody().getData().get(NUMBER_OF_PAGES), is(3));
+  }
+
   @Test
   public void shouldGetRequisitionsForViewWithGivenFacilityIdProgramIdAndPeriodRangeAndSetUserIdInSearchCriteria() throws Exception {
     SimpleDateFormat dateFormat = new SimpleDateFormat("dd-MM-yyyy");
@@ -15,6 +15,7 @@ import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.openlmis.core.service.ReferenceDataCache;
 import org.openlmis.core.service.StaticReferenceDataService;
 import org.openlmis.db.categories.UnitTests;
 import org.openlmis.web.response.OpenLmisResponse;
@@ -22,7 +23,10 @@ import org.powermock.modules.junit4.PowerMockRunner;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.Map;
+
 import static org.hamcrest.CoreMatchers.is;
+import static java.util.Collections.singletonMap;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.when;
 
@@ -33,6 +37,9 @@ public class StaticReferenceDataControllerTest {
   @Mock
   StaticReferenceDataService service;
 
+  @Mock
+  ReferenceDataCache referenceDataCache;
+
   @InjectMocks
   StaticReferenceDataController staticReferenceDataController;
 
@@ -47,4 +54,16 @@ public class StaticReferenceDataControllerTest {
     assertThat(response.getStatusCode(), is(HttpStatus.OK));
     assertThat((String) openLmisResponse.getData().get("pageSize"), is("2"));
   }
+
+  @Test
+  public void shouldGetReferenceDataCacheStatistics() throws Exception {
+    Map<String, ReferenceDataCache.Statistics> statistics =
+      singletonMap(ReferenceDataCache.PROGRAMS, new ReferenceDataCache.Statistics(3L, 1L, 0L, 1));
+    when(referenceDataCache.getStatistics()).thenReturn(statistics);
+
+    ResponseEntity<OpenLmisResponse> response = staticReferenceDataController.getCacheStatistics();
+
+    assertThat(response.getStatusCode(), is(HttpStatus.OK));
+    assertThat((Map<String, ReferenceDataCache.Statistics>) response.getBody().getData().get("cacheStatistics"), is(statistics));
+  }
 }
@@ -23,6 +23,7 @@ import org.openlmis.db.service.DbService;
 import org.openlmis.upload.RecordHandler;
 import org.openlmis.upload.model.AuditFields;
 import org.openlmis.upload.model.ModelClass;
+import org.openlmis.upload.model.UploadResult;
 import org.openlmis.upload.parser.CSVParser;
 import org.openlmis.web.controller.upload.MandatoryFields;
 import org.openlmis.web.controller.upload.NonMandatoryFields;
@@ -97,7 +98,7 @@ public class UploadControllerIT {
       "'Number of records processed: 2'");
 
     when(csvParser.process(any(InputStream.class), any(ModelClass.class),
-      any(RecordHandler.class), any(AuditFields.class))).thenReturn(2);
+      any(RecordHandler.class), any(AuditFields.class))).thenReturn(new UploadResult(2));
 
 
     ResponseEntity<OpenLmisResponse> uploadResponse = controller.upload(multiPartFile, "mandatoryFields", request);
@@ -116,7 +117,7 @@ public class UploadControllerIT {
       "'Number of records processed: 3'");
 
     when(csvParser.process(any(InputStream.class), any(ModelClass.class),
-      any(RecordHandler.class), any(AuditFields.class))).thenReturn(3);
+      any(RecordHandler.class), any(AuditFields.class))).thenReturn(new UploadResult(3));
 
     ResponseEntity<OpenLmisResponse> uploadResponse = controller.upload(multiPart, "nonMandatoryFields", request);
 
@@ -30,6 +30,7 @@ import org.openlmis.db.service.DbService;
 import org.openlmis.upload.RecordHandler;
 import org.openlmis.upload.model.AuditFields;
 import org.openlmis.upload.model.ModelClass;
+import org.openlmis.upload.model.UploadResult;
 import org.openlmis.upload.parser.CSVParser;
 import org.openlmis.web.model.UploadBean;
 import org.openlmis.web.response.OpenLmisResponse;
@@ -44,12 +45,14 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
+import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.initMocks;
 import static org.openlmis.web.controller.UploadController.INCORRECT_FILE_FORMAT;
+import static org.openlmis.web.controller.UploadController.UPLOAD_FILE_PARTIAL_SUCCESS;
 import static org.openlmis.web.controller.UploadController.UPLOAD_FILE_SUCCESS;
 
 @Category(UnitTests.class)
@@ -123,6 +126,8 @@ public class UploadControllerTest {
     String uploadSuccessMessage = "File uploaded successfully.  " +
       "'Number of records processed: 0'";
 
+    when(csvParser.process(any(InputStream.class), any(ModelClass.class), eq(handler), eq(auditFields)))
+      .thenReturn(new UploadResult(0));
     when(messageService.message(UPLOAD_FILE_SUCCESS, 0)).thenReturn(uploadSuccessMessage);
 
     ResponseEntity<OpenLmisResponse> uploadResponse = controller.upload(multiPartMock, "product", request);
@@ -130,6 +135,22 @@ public class UploadControllerTest {
     assertThat(uploadResponse.getBody().getSuccessMsg(), is(uploadSuccessMessage));
   }
 
+  @Test
+  public void shouldReportRowsThatCouldNotBeSavedWithResolvedMessages() throws Exception {
+    MockMultipartFile multiPartMock = new MockMultipartFile("csvFile", "mock.csv", null, new byte[1]);
+    UploadResult result = new UploadResult(3, asList("Duplicate Product Code in Record No. \"1\"",
+      "Incorrect data length in Record No. \"3\""));
+    when(csvParser.process(any(InputStream.class), any(ModelClass.class), eq(handler), eq(auditFields)))
+      .thenReturn(result);
+    OpenLmisMessage message = new OpenLmisMessage(UPLOAD_FILE_PARTIAL_SUCCESS, "3",
+      "Duplicate Product Code in Record No. \"1\"; Incorrect data length in Record No. \"3\"");
+    when(messageService.message(message)).thenReturn("File uploaded with errors");
+
+    ResponseEntity<OpenLmisResponse> uploadResponse = controller.upload(multiPartMock, "product", request);
+
+    assertThat(uploadResponse.getBody().getErrorMsg(), is("File uploaded with errors"));
+  }
+
   @Test
   public void shouldUseCsvParserService() throws Exception {
     byte[] content = new byte[1];
@@ -137,6 +158,8 @@ public class UploadControllerTest {
 
     InputStream mockInputStream = mock(InputStream.class);
     when(mockMultiPart.getInputStream()).thenReturn(mockInputStream);
+    when(csvParser.process(eq(mockInputStream), argThat(modelMatcher(Product.class)), eq(handler), eq(auditFields)))
+      .thenReturn(new UploadResult(0));
 
     String uploadSuccessMessage = "File uploaded successfully. " +
       "'Number of records processed: 0'";
@@ -189,7 +212,7 @@ public class UploadControllerTest {
     InputStream mockInputStream = mock(InputStream.class);
     when(mockMultiPartFile.getInputStream()).thenReturn(mockInputStream);
 
-    when(csvParser.process(eq(mockMultiPartFile.getInputStream()), argThat(modelMatcher(Product.class)), eq(handler), eq(auditFields))).thenReturn(20);
+    when(csvParser.process(eq(mockMultiPartFile.getInputStream()), argThat(modelMatcher(Product.class)), eq(handler), eq(auditFields))).thenReturn(new UploadResult(20));
 
     String uploadSuccessMessage = "File uploaded successfully. " +
       "'Number of records processed: 20'";
@@ -209,7 +232,7 @@ public class UploadControllerTest {
     when(mockMultiPartFile.getInputStream()).thenReturn(mockInputStream);
 
     when(csvParser.process(eq(mockMultiPartFile.getInputStream()), argThat(modelMatcher(Product.class)),
-      eq(handler), eq(auditFields))).thenReturn(20);
+      eq(handler), eq(auditFields))).thenReturn(new UploadResult(20));
 
     controller.upload(mockMultiPartFile, "product", request);
 
@@ -10,18 +10,49 @@
 
 package org.openlmis.web.service;
 
+import com.sun.syndication.feed.atom.Feed;
+import com.sun.syndication.feed.atom.Link;
+import org.ict4h.atomfeed.server.service.EventFeedService;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.openlmis.core.repository.EventRecordRepository;
 import org.openlmis.db.categories.UnitTests;
+import org.openlmis.web.model.AtomFeedPage;
 
+import java.net.URI;
+import java.util.Date;
+
+import static java.util.Arrays.asList;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @Category(UnitTests.class)
+@RunWith(MockitoJUnitRunner.class)
 public class VendorEventFeedServiceTest {
 
-  VendorEventFeedService vendorEventFeedService = new VendorEventFeedService();
+  private static final String FEED_URL = "http://localhost/feeds/facilities/recent";
+
+  @Mock
+  EventFeedService eventFeedService;
+
+  @Mock
+  EventRecordRepository eventRecordRepository;
+
+  @Spy
+  AtomFeedPageCache atomFeedPageCache = new AtomFeedPageCache(600, 100);
+
+  @InjectMocks
+  VendorEventFeedService vendorEventFeedService;
 
   @Test
   public void shouldReturnAtomFeedActualContent() {
@@ -53,4 +84,70 @@ public class VendorEventFeedServiceTest {
   public void shouldReturnFileIfVendorMappingTemplateExists() {
     assertNotNull(vendorEventFeedService.vendorMappingTemplate("vendorMapping_commtrack_facilities.xml"));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void shouldRenderRecentFeedAgainOnlyWhenNewEventsAreRecorded() throws Exception {
+    when(eventFeedService.getRecentFeed(new URI(FEED_URL), "facilities")).thenReturn(feed("recent"));
+    when(eventRecordRepository.getLatestEventId("facilities")).thenReturn(10L, 10L, 11L);
+
+    AtomFeedPage firstPage = vendorEventFeedService.getRecentFeed(FEED_URL, null, "facilities");
+    AtomFeedPage secondPage = vendorEventFeedService.getRecentFeed(FEED_URL, null, "facilities");
+    AtomFeedPage thirdPage = vendorEventFeedService.getRecentFeed(FEED_URL, null, "facilities");
+
+    assertThat(secondPage, is(sameInstance(firstPage)));
+    assertThat(thirdPage.getLatestEventId(), is(11L));
+    verify(eventFeedService, times(2)).getRecentFeed(new URI(FEED_URL), "facilities");
+    verify(eventRecordRepository, times(4)).getLatestEventId("facilities");
+  }
+
+  @Test
+  public void shouldReadLatestEventIdOnceWhenRenderingRecentFeedOnCacheMiss() throws Exception {
+    when(eventFeedService.getRecentFeed(new URI(FEED_URL), "facilities")).thenReturn(feed("recent"));
+    when(eventRecordRepository.getLatestEventId("facilities")).thenReturn(10L);
+
+    AtomFeedPage page = vendorEventFeedService.getRecentFeed(FEED_URL, null, "facilities");
+
+    assertThat(page.getLatestEventId(), is(10L));
+    verify(eventRecordRepository, times(1)).getLatestEventId("facilities");
+  }
+
+  @Test
+  public void shouldNotRenderArchivedFeedPageAgainWhenNewEventsAreRecorded() throws Exception {
+    String url = "http://localhost/feeds/facilities/1";
+    when(eventFeedService.getEventFeed(new URI(url), "facilities", 1)).thenReturn(feed("next-archive"));
+    when(eventRecordRepository.getLatestEventId("facilities")).thenReturn(10L, 11L);
+
+    AtomFeedPage firstPage = vendorEventFeedService.getEventFeed(url, null, "facilities", 1);
+    AtomFeedPage secondPage = vendorEventFeedService.getEventFeed(url, null, "facilities", 1);
+
+    assertTrue(firstPage.isArchived());
+    assertThat(secondPage, is(sameInstance(firstPage)));
+    verify(eventFeedService, times(1)).getEventFeed(new URI(url), "facilities", 1);
+    verify(eventRecordRepository, times(1)).getLatestEventId("facilities");
+  }
+
+  @Test
+  public void shouldRenderFeedPageWithStrongETagAndLastModifiedOfFeed() throws Exception {
+    Feed feed = feed("recent");
+    when(eventFeedService.getRecentFeed(new URI(FEED_URL), "facilities")).thenReturn(feed);
+
+    AtomFeedPage page = vendorEventFeedService.getRecentFeed(FEED_URL, null, "facilities");
+
+    assertTrue(page.getContent().contains("<feed"));
+    assertTrue(page.getETag().matches("\"[0-9a-f]{32}\""));
+    assertThat(page.getLastModified(), is(feed.getUpdated().getTime()));
+    assertFalse(page.isArchived());
+  }
+
+  private Feed feed(String linkRel) {
+    Feed feed = new Feed("atom_1.0");
+    feed.setId("urn:uuid:feed");
+    feed.setTitle("facilities");
+    feed.setUpdated(new Date(1400000000000L));
+    Link link = new Link();
+    link.setRel(linkRel);
+    link.setHref("http://localhost/feeds/facilities/2");
+    feed.setOtherLinks(asList(link));
+    return feed;
+  }
+}
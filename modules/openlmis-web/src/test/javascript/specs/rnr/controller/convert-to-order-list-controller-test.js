@@ -54,6 +54,24 @@ describe('ConvertToOrderListController', function () {
     expect(scope.filteredRequisitions).toEqual([requisitions[2]]);
   });
 
+  it('should fetch next page after last requisition of the previous page', function () {
+    httpBackend.flush();
+    routeParams.page = 2;
+    httpBackend.expect('GET', '/requisitions-for-convert-to-order.json?page=2&searchType=all&sortBy=submittedDate&sortDirection=asc')
+      .respond(200, {"rnr_list": [{"id": 7}, {"id": 9}], "number_of_pages": 3});
+    scope.$broadcast('$routeUpdate');
+    httpBackend.flush();
+
+    routeParams.page = 3;
+    httpBackend.expect('GET',
+            '/requisitions-for-convert-to-order.json?after=9&page=3&searchType=all&sortBy=submittedDate&sortDirection=asc')
+        .respond(200, {"rnr_list": [requisitions[2]], "number_of_pages": 3});
+    scope.$broadcast('$routeUpdate');
+    httpBackend.flush();
+
+    expect(scope.filteredRequisitions).toEqual([requisitions[2]]);
+  });
+
   it('should set page line items based on pageSize on route update', function () {
     routeParams.page = 2;
     routeParams.searchType = 'facilityCode';
@@ -52,7 +52,7 @@ public class ReportController {
 
     String viewFormat = format == null ? PDF_VIEW : format;
 
-    Template template = templateMapper.getById(id);
+    Template template = templateMapper.getMetadataById(id);
 
     JasperReportsMultiFormatView jasperView = jasperReportsViewFactory.getJasperReportsView(template);
 
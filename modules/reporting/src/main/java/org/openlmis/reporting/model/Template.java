@@ -28,6 +28,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.springframework.util.DigestUtils.md5DigestAsHex;
+
 /**
  * Template represents an entity that records a byte array of data, type of template, list of parameters and comma
  * separated parameters that are used to configure jasper report views.
@@ -48,6 +50,8 @@ public class Template extends BaseModel {
 
   private String type;
 
+  private String checksum;
+
   public void setParameters(List<String> parameters) {
     this.parameters = parameters;
     this.commaSeparatedParameters = commaSeparatedParameters();
@@ -98,6 +102,7 @@ public class Template extends BaseModel {
       ObjectOutputStream out = new ObjectOutputStream(bos);
       out.writeObject(report);
       this.data = bos.toByteArray();
+      this.checksum = md5DigestAsHex(this.data);
     } catch (JRException e) {
       throw new DataException("report.template.error.file.invalid");
     } catch (IOException e) {
@@ -44,4 +44,12 @@ public class TemplateRepository {
   public Template getByName(String name) {
     return mapper.getByName(name);
   }
+
+  public Template getMetadataByName(String name) {
+    return mapper.getMetadataByName(name);
+  }
+
+  public byte[] getDataById(Long id) {
+    return mapper.getDataById(id);
+  }
 }
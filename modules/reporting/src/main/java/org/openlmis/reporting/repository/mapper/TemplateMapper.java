@@ -28,8 +28,8 @@ public interface TemplateMapper {
   @Select("SELECT * FROM templates WHERE id = #{id}")
   Template getById(Long id);
 
-  @Insert("INSERT INTO templates (name, data, type, commaSeparatedParameters, createdBy) " +
-    "VALUES (#{name}, #{data}, #{type}, #{commaSeparatedParameters}, #{createdBy})")
+  @Insert("INSERT INTO templates (name, data, checksum, type, commaSeparatedParameters, createdBy) " +
+    "VALUES (#{name}, #{data}, #{checksum}, #{type}, #{commaSeparatedParameters}, #{createdBy})")
   @Options(useGeneratedKeys = true)
   void insert(Template template);
 
@@ -38,4 +38,15 @@ public interface TemplateMapper {
 
   @Select("SELECT * FROM templates WHERE LOWER(name) = LOWER(#{name})")
   Template getByName(String name);
+
+  @Select({"SELECT id, name, type, commaSeparatedParameters, createdBy, createdDate, checksum",
+    "FROM templates WHERE id = #{id}"})
+  Template getMetadataById(Long id);
+
+  @Select({"SELECT id, name, type, commaSeparatedParameters, createdBy, createdDate, checksum",
+    "FROM templates WHERE LOWER(name) = LOWER(#{name})"})
+  Template getMetadataByName(String name);
+
+  @Select("SELECT data FROM templates WHERE id = #{id}")
+  byte[] getDataById(Long id);
 }
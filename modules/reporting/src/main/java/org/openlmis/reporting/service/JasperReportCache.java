@@ -0,0 +1,86 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.reporting.service;
+
+import net.sf.jasperreports.engine.JasperReport;
+import org.openlmis.reporting.model.Template;
+import org.openlmis.reporting.repository.TemplateRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.springframework.util.DigestUtils.md5DigestAsHex;
+
+/**
+ * Keeps the most recently used jasper reports in memory, keyed by template id and a checksum of the template data.
+ * A template whose data has changed is loaded again and replaces the stale report.
+ */
+
+@Component
+public class JasperReportCache {
+
+  static final int MAX_SIZE = 50;
+
+  @Autowired
+  TemplateRepository templateRepository;
+
+  private final Map<Long, CachedReport> reports = new LinkedHashMap<Long, CachedReport>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Long, CachedReport> eldest) {
+      return size() > MAX_SIZE;
+    }
+  };
+
+  public JasperReport get(Template template) throws IOException, ClassNotFoundException {
+    byte[] data = template.getData();
+    String checksum = template.getChecksum();
+    if (checksum == null) {
+      if (data == null) data = templateRepository.getDataById(template.getId());
+      checksum = md5DigestAsHex(data);
+    }
+
+    synchronized (reports) {
+      CachedReport cachedReport = reports.get(template.getId());
+      if (cachedReport != null && cachedReport.checksum.equals(checksum)) {
+        return cachedReport.report;
+      }
+    }
+
+    JasperReport report = load(data != null ? data : templateRepository.getDataById(template.getId()));
+    synchronized (reports) {
+      reports.put(template.getId(), new CachedReport(checksum, report));
+    }
+    return report;
+  }
+
+  private JasperReport load(byte[] data) throws IOException, ClassNotFoundException {
+    try (ObjectInputStream inputStream = new ObjectInputStream(new ByteArrayInputStream(data))) {
+      return (JasperReport) inputStream.readObject();
+    }
+  }
+
+  private static class CachedReport {
+
+    private final String checksum;
+
+    private final JasperReport report;
+
+    private CachedReport(String checksum, JasperReport report) {
+      this.checksum = checksum;
+      this.report = report;
+    }
+  }
+}
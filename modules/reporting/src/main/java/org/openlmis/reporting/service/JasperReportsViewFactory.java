@@ -10,7 +10,6 @@
 
 package org.openlmis.reporting.service;
 
-import net.sf.jasperreports.engine.JRException;
 import net.sf.jasperreports.engine.JRExporterParameter;
 import net.sf.jasperreports.engine.JasperReport;
 import org.openlmis.reporting.model.Template;
@@ -20,17 +19,16 @@ import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.servlet.view.jasperreports.JasperReportsMultiFormatView;
 
 import javax.sql.DataSource;
-import java.io.*;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
-import static java.io.File.createTempFile;
 import static net.sf.jasperreports.engine.export.JRHtmlExporterParameter.IS_USING_IMAGES_TO_ALIGN;
-import static org.apache.commons.io.FileUtils.writeByteArrayToFile;
 import static org.springframework.web.context.ContextLoader.getCurrentWebApplicationContext;
 
 /**
  * Exposes the services for generating jasper report multi format view using a data source to fetch data.
+ * The views render the report held in JasperReportCache rather than loading it from a url.
  */
 
 @Service
@@ -39,13 +37,16 @@ public class JasperReportsViewFactory {
   @Autowired
   DataSource replicationDataSource;
 
+  @Autowired
+  JasperReportCache jasperReportCache;
+
   public JasperReportsMultiFormatView getJasperReportsView(Template template)
-    throws IOException, ClassNotFoundException, JRException {
-    JasperReportsMultiFormatView jasperView = new JasperReportsMultiFormatView();
+    throws IOException, ClassNotFoundException {
+    JasperReportsMultiFormatView jasperView = new CachedReportView(jasperReportCache.get(template));
 
     setExportParams(jasperView);
 
-    setDataSourceAndURLAndApplicationContext(template, jasperView);
+    setDataSourceAndApplicationContext(jasperView);
 
     return jasperView;
   }
@@ -56,28 +57,26 @@ public class JasperReportsViewFactory {
     jasperView.setExporterParameters(reportFormatMap);
   }
 
-  private void setDataSourceAndURLAndApplicationContext(Template template,
-                                                        JasperReportsMultiFormatView jasperView)
-    throws IOException, ClassNotFoundException, JRException {
+  private void setDataSourceAndApplicationContext(JasperReportsMultiFormatView jasperView) {
     WebApplicationContext ctx = getCurrentWebApplicationContext();
 
     jasperView.setJdbcDataSource(replicationDataSource);
-    jasperView.setUrl(getReportURLForReportData(template));
 
     if (ctx != null)
       jasperView.setApplicationContext(ctx);
   }
 
-  public String getReportURLForReportData(Template template)
-    throws IOException, ClassNotFoundException, JRException {
-
-    File tmpFile = createTempFile(template.getName() + "_temp", ".jasper");
-    ObjectInputStream inputStream = new ObjectInputStream(new ByteArrayInputStream(template.getData()));
-    JasperReport jasperReport = (JasperReport) inputStream.readObject();
-    ByteArrayOutputStream bos = new ByteArrayOutputStream();
-    ObjectOutputStream out = new ObjectOutputStream(bos);
-    out.writeObject(jasperReport);
-    writeByteArrayToFile(tmpFile, bos.toByteArray());
-    return tmpFile.toURI().toURL().toString();
+  static class CachedReportView extends JasperReportsMultiFormatView {
+
+    private final JasperReport report;
+
+    CachedReportView(JasperReport report) {
+      this.report = report;
+    }
+
+    @Override
+    protected JasperReport getReport() {
+      return report;
+    }
   }
-}
\ No newline at end of file
+}
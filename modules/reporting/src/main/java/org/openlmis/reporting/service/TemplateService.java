@@ -38,4 +38,8 @@ public class TemplateService {
   public Template getByName(String name) {
     return repository.getByName(name);
   }
+
+  public Template getMetadataByName(String name) {
+    return repository.getMetadataByName(name);
+  }
 }
@@ -70,7 +70,7 @@ public class ReportControllerTest {
   @Test
   public void shouldGenerateReportInRequestedFormat() throws Exception {
     Template template = new Template();
-    when(templateMapper.getById(1L)).thenReturn(template);
+    when(templateMapper.getMetadataById(1L)).thenReturn(template);
     JasperReportsMultiFormatView mockView = mock(JasperReportsMultiFormatView.class);
     HashMap<String, Object> parameterMap = new HashMap<>();
     parameterMap.put("createdBy", userId);
@@ -81,7 +81,7 @@ public class ReportControllerTest {
 
     assertThat((JasperReportsMultiFormatView) modelAndView.getView(), is(mockView));
     verify(viewFactory).getJasperReportsView(template);
-    verify(templateMapper).getById(1L);
+    verify(templateMapper).getMetadataById(1L);
   }
 
 
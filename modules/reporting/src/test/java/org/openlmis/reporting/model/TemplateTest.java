@@ -34,6 +34,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.springframework.util.DigestUtils.md5DigestAsHex;
 import static org.powermock.api.mockito.PowerMockito.*;
 import static org.powermock.api.mockito.PowerMockito.spy;
 
@@ -100,6 +101,7 @@ public class TemplateTest {
     Template template = new Template("report", file, 1L, "Consistency Report");
 
     assertThat(template.getData(), is(byteData));
+    assertThat(template.getChecksum(), is(md5DigestAsHex(byteData)));
     assertThat(template.getParameters().size(), is(2));
   }
 }
@@ -28,7 +28,9 @@ import java.util.Date;
 import java.util.List;
 
 import static org.apache.commons.io.FileUtils.readFileToByteArray;
+import static org.springframework.util.DigestUtils.md5DigestAsHex;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
 
 @Category(IntegrationTests.class)
@@ -101,11 +103,31 @@ public class TemplateMapperIT {
     assertThat(returnedTemplate.getData(), is(template.getData()));
   }
 
+  @Test
+  public void shouldGetMetadataWithStoredChecksumInsteadOfData() throws Exception {
+    Template template = createReportTemplate("Sample Report", "Consistency Report");
+
+    Template returnedTemplate = templateMapper.getMetadataById(template.getId());
+
+    assertThat(returnedTemplate.getName(), is(template.getName()));
+    assertThat(returnedTemplate.getData(), is(nullValue()));
+    assertThat(returnedTemplate.getChecksum(), is(md5DigestAsHex(template.getData())));
+    assertThat(templateMapper.getMetadataByName("sample report").getId(), is(template.getId()));
+  }
+
+  @Test
+  public void shouldGetDataById() throws Exception {
+    Template template = createReportTemplate("Sample Report", "Consistency Report");
+
+    assertThat(templateMapper.getDataById(template.getId()), is(template.getData()));
+  }
+
   private Template createReportTemplate(String name, String type) {
     Template template = new Template();
     template.setName(name);
     template.setType(type);
     template.setData(new byte[1]);
+    template.setChecksum(md5DigestAsHex(template.getData()));
     template.setCreatedBy(1L);
     templateMapper.insert(template);
     return template;
@@ -0,0 +1,125 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.reporting.service;
+
+import net.sf.jasperreports.engine.JasperReport;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.openlmis.db.categories.UnitTests;
+import org.openlmis.reporting.model.Template;
+import org.openlmis.reporting.repository.TemplateRepository;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ObjectInputStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+import static org.powermock.api.mockito.PowerMockito.whenNew;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({JasperReportCache.class})
+@Category(UnitTests.class)
+public class JasperReportCacheTest {
+
+  @Mock
+  private TemplateRepository templateRepository;
+
+  @InjectMocks
+  private JasperReportCache jasperReportCache;
+
+  private ObjectInputStream objectInputStream;
+
+  private JasperReport jasperReport;
+
+  private byte[] data = new byte[1];
+
+  @Before
+  public void setUp() throws Exception {
+    initMocks(this);
+    jasperReport = mock(JasperReport.class);
+    objectInputStream = mock(ObjectInputStream.class);
+    when(objectInputStream.readObject()).thenReturn(jasperReport);
+    whenNew(ObjectInputStream.class).withArguments(any(ByteArrayInputStream.class)).thenReturn(objectInputStream);
+    when(templateRepository.getDataById(1L)).thenReturn(data);
+  }
+
+  @Test
+  public void shouldLoadReportDataOnlyOnceForUnchangedTemplate() throws Exception {
+    Template template = template(1L, "checksum");
+
+    JasperReport first = jasperReportCache.get(template);
+    JasperReport second = jasperReportCache.get(template(1L, "checksum"));
+
+    assertThat(first, is(jasperReport));
+    assertThat(second, is(jasperReport));
+    verify(templateRepository, times(1)).getDataById(1L);
+    verify(objectInputStream, times(1)).readObject();
+  }
+
+  @Test
+  public void shouldReloadReportWhenTemplateDataChanges() throws Exception {
+    jasperReportCache.get(template(1L, "checksum"));
+
+    jasperReportCache.get(template(1L, "new checksum"));
+
+    verify(templateRepository, times(2)).getDataById(1L);
+  }
+
+  @Test
+  public void shouldUseDataOfTemplateWhenAlreadyFetched() throws Exception {
+    Template template = template(2L, null);
+    template.setData(data);
+
+    JasperReport report = jasperReportCache.get(template);
+
+    assertThat(report, is(jasperReport));
+    verify(templateRepository, never()).getDataById(2L);
+  }
+
+  @Test
+  public void shouldHashDataFetchedByIdForMetadataOnlyTemplateWithoutChecksum() throws Exception {
+    JasperReport first = jasperReportCache.get(template(1L, null));
+    JasperReport second = jasperReportCache.get(template(1L, null));
+
+    assertThat(first, is(jasperReport));
+    assertThat(second, is(jasperReport));
+    verify(templateRepository, times(2)).getDataById(1L);
+    verify(objectInputStream, times(1)).readObject();
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedReportWhenFull() throws Exception {
+    for (long id = 1; id <= JasperReportCache.MAX_SIZE + 1; id++) {
+      when(templateRepository.getDataById(id)).thenReturn(data);
+      jasperReportCache.get(template(id, "checksum"));
+    }
+
+    jasperReportCache.get(template(1L, "checksum"));
+
+    verify(templateRepository, times(2)).getDataById(1L);
+  }
+
+  private Template template(Long id, String checksum) {
+    Template template = new Template();
+    template.setId(id);
+    template.setChecksum(checksum);
+    return template;
+  }
+}
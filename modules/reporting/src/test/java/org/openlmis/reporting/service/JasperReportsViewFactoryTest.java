@@ -18,99 +18,62 @@ import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
 import org.openlmis.db.categories.UnitTests;
 import org.openlmis.reporting.model.Template;
-import org.powermock.core.classloader.annotations.PrepareForTest;
-import org.powermock.modules.junit4.PowerMockRunner;
 import org.springframework.web.servlet.view.jasperreports.JasperReportsMultiFormatView;
 
 import javax.sql.DataSource;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.util.HashMap;
 import java.util.Map;
 
 import static net.sf.jasperreports.engine.export.JRHtmlExporterParameter.IS_USING_IMAGES_TO_ALIGN;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
-import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
-import static org.mockito.MockitoAnnotations.initMocks;
-import static org.powermock.api.mockito.PowerMockito.*;
 
-@RunWith(PowerMockRunner.class)
-@PrepareForTest({JasperReportsViewFactory.class})
+@RunWith(MockitoJUnitRunner.class)
 @Category(UnitTests.class)
 public class JasperReportsViewFactoryTest {
 
   @Mock
   private DataSource dataSource;
 
+  @Mock
+  private JasperReportCache jasperReportCache;
+
   @InjectMocks
   private JasperReportsViewFactory viewFactory;
 
   private Template template;
 
-  private JasperReportsMultiFormatView jasperReportsView;
-
-  JasperReport jasperReport;
-
-  ObjectInputStream objectInputStream;
-  ObjectOutputStream objectOutputStream;
-  ByteArrayOutputStream byteArrayOutputStream;
-  byte[] reportByteData;
+  private JasperReport jasperReport;
 
   @Before
   public void setUp() throws Exception {
-    initMocks(this);
-    template = mock(Template.class);
-    when(template.getName()).thenReturn("report1.jrxml");
-    reportByteData = new byte[1];
-    when(template.getData()).thenReturn(reportByteData);
+    template = new Template();
+    template.setId(1L);
+    template.setName("report1.jrxml");
     jasperReport = mock(JasperReport.class);
-
-    objectInputStream = mock(ObjectInputStream.class);
-    objectOutputStream = mock(ObjectOutputStream.class);
-    byteArrayOutputStream = mock(ByteArrayOutputStream.class);
-
-    ByteArrayInputStream byteArrayInputStream = mock(ByteArrayInputStream.class);
-    whenNew(ByteArrayInputStream.class).withArguments(reportByteData).thenReturn(byteArrayInputStream);
-    whenNew(ObjectInputStream.class).withArguments(byteArrayInputStream).thenReturn(objectInputStream);
-    whenNew(ByteArrayOutputStream.class).withNoArguments().thenReturn(byteArrayOutputStream);
-    whenNew(ObjectOutputStream.class).withArguments(byteArrayOutputStream).thenReturn(objectOutputStream);
-    jasperReportsView = spy(new JasperReportsMultiFormatView());
+    when(jasperReportCache.get(template)).thenReturn(jasperReport);
   }
 
   @Test
-  public void shouldGetRequestedViewAndSetDataSourceAndWebContextInJasperView() throws Exception {
-    whenNew(JasperReportsMultiFormatView.class).withNoArguments().thenReturn(jasperReportsView);
-    when(objectInputStream.readObject()).thenReturn(jasperReport);
-    when(byteArrayOutputStream.toByteArray()).thenReturn(reportByteData);
-    Map<String, Object> parameterMap = new HashMap();
-    parameterMap.put("createdBy", 1l);
+  public void shouldGetViewRenderingCachedReport() throws Exception {
     JasperReportsMultiFormatView reportView = viewFactory.getJasperReportsView(template);
 
-    assertThat(reportView, is(jasperReportsView));
-    verify(jasperReportsView).setJdbcDataSource(dataSource);
-    verify(objectOutputStream).writeObject(jasperReport);
-
+    assertThat(((JasperReportsViewFactory.CachedReportView) reportView).getReport(), is(jasperReport));
+    assertThat(reportView.getUrl(), is((String) null));
   }
 
   @Test
   public void shouldAddExportParamToGetRidOfImageInHtmlReport() throws Exception {
-
-    whenNew(JasperReportsMultiFormatView.class).withNoArguments().thenReturn(jasperReportsView);
-    when(objectInputStream.readObject()).thenReturn(jasperReport);
-    when(byteArrayOutputStream.toByteArray()).thenReturn(reportByteData);
-
     Map<JRExporterParameter, Object> exportParams = new HashMap<>();
     exportParams.put(IS_USING_IMAGES_TO_ALIGN, false);
 
-    viewFactory.getJasperReportsView(template);
-
+    JasperReportsMultiFormatView reportView = viewFactory.getJasperReportsView(template);
 
-    verify(jasperReportsView).setExporterParameters(exportParams);
+    assertThat(reportView.getExporterParameters(), is((Map) exportParams));
   }
 }
@@ -0,0 +1,85 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.rnr.domain;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Reads and writes the fields of a line item by the name of the template column they back. The fields declared by a
+ * class are looked up and made accessible once, the first time the class is asked for, and shared afterwards.
+ */
+
+public class FieldAccessors {
+
+  private static final ConcurrentMap<Class<?>, FieldAccessors> REGISTRY = new ConcurrentHashMap<>();
+
+  private final Class<?> type;
+
+  private final Map<String, Field> fields;
+
+  private FieldAccessors(Class<?> type) {
+    Map<String, Field> fields = new HashMap<>();
+    for (Field field : type.getDeclaredFields()) {
+      if (Modifier.isStatic(field.getModifiers())) continue;
+      field.setAccessible(true);
+      fields.put(field.getName(), field);
+    }
+    this.type = type;
+    this.fields = Collections.unmodifiableMap(fields);
+  }
+
+  public static FieldAccessors of(Class<?> type) {
+    FieldAccessors accessors = REGISTRY.get(type);
+    if (accessors == null) {
+      REGISTRY.putIfAbsent(type, new FieldAccessors(type));
+      accessors = REGISTRY.get(type);
+    }
+    return accessors;
+  }
+
+  public boolean has(String fieldName) {
+    return fields.containsKey(fieldName);
+  }
+
+  public Object get(Object target, String fieldName) throws NoSuchFieldException {
+    try {
+      return field(fieldName).get(target);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  public void set(Object target, String fieldName, Object value) throws NoSuchFieldException {
+    try {
+      field(fieldName).set(target, value);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  public void copy(String fieldName, Object source, Object destination) throws NoSuchFieldException {
+    set(destination, fieldName, get(source, fieldName));
+  }
+
+  private Field field(String fieldName) throws NoSuchFieldException {
+    Field field = fields.get(fieldName);
+    if (field == null) {
+      throw new NoSuchFieldException(type.getName() + "." + fieldName);
+    }
+    return field;
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.rnr.domain;
+
+import java.math.BigDecimal;
+
+import static java.math.RoundingMode.HALF_UP;
+import static org.openlmis.rnr.domain.RnrLineItem.MATH_CONTEXT;
+import static org.openlmis.rnr.domain.RnrLineItem.NUMBER_OF_DAYS;
+
+/**
+ * Integer arithmetic behind the RnrLineItem calculations. Results are identical to dividing BigDecimals with
+ * MATH_CONTEXT and rounding the quotient HALF_UP to a whole number: a quotient is first rounded to MATH_CONTEXT's
+ * precision, which only changes the whole number it rounds to when the divisor has at least as many digits as the
+ * fraction digits kept, and those cases as well as operands too large for long arithmetic are handed to BigDecimal.
+ */
+
+class LineItemArithmetic {
+
+  private static final int PRECISION = MATH_CONTEXT.getPrecision();
+
+  private static final long DAYS_IN_MONTH = NUMBER_OF_DAYS.longValueExact();
+
+  private static final long MAX_QUANTITY = 9000000L;
+
+  private static final long[] POWERS_OF_TEN = new long[19];
+
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+  }
+
+  private LineItemArithmetic() {
+  }
+
+  static long divideAndRound(long dividend, long divisor) {
+    if (divisor <= 0 || Math.abs(dividend) > Integer.MAX_VALUE || divisor >= POWERS_OF_TEN[fractionDigitsKept(Math.abs(dividend) / divisor)]) {
+      return new BigDecimal(dividend).divide(new BigDecimal(divisor), MATH_CONTEXT).setScale(0, HALF_UP).longValue();
+    }
+    long rounded = (2 * Math.abs(dividend) + divisor) / (2 * divisor);
+    return dividend < 0 ? -rounded : rounded;
+  }
+
+  static int normalizedConsumption(int stockOutDays, int quantityDispensed, int newPatientCount, int dosesPerMonth,
+                                   int dosesPerDispensingUnit, Integer reportingDays) {
+    long newPatientFactor = newPatientCount * divideAndRound(dosesPerMonth, dosesPerDispensingUnit);
+
+    if (reportingDays == null || stockOutDays >= reportingDays) {
+      return (int) (quantityDispensed + newPatientFactor);
+    }
+
+    long daysInStock = (long) reportingDays - stockOutDays;
+    int scale = daysInStock <= DAYS_IN_MONTH ?
+      fractionDigitsKept(DAYS_IN_MONTH / daysInStock) : PRECISION - 1 + leadingFractionDigits(daysInStock);
+    if (Math.abs(quantityDispensed) > MAX_QUANTITY || scale > 16) {
+      return stockOutAdjustedConsumption(stockOutDays, quantityDispensed, newPatientFactor, reportingDays);
+    }
+
+    long unit = POWERS_OF_TEN[scale];
+    long daysFactor = (2 * DAYS_IN_MONTH * unit + daysInStock) / (2 * daysInStock);
+    long scaledStockOutFactor = quantityDispensed * daysFactor;
+
+    long whole = floorDivide(scaledStockOutFactor, unit);
+    long remainder = scaledStockOutFactor - whole * unit;
+    long total = whole + newPatientFactor;
+    boolean roundsUp = 2 * remainder > unit || (2 * remainder == unit && total >= 0);
+    return (int) (roundsUp ? total + 1 : total);
+  }
+
+  private static int stockOutAdjustedConsumption(int stockOutDays, int quantityDispensed, long newPatientFactor,
+                                                 int reportingDays) {
+    BigDecimal stockOutFactor = new BigDecimal(quantityDispensed).multiply(NUMBER_OF_DAYS
+      .divide(new BigDecimal(reportingDays).subtract(new BigDecimal(stockOutDays)), MATH_CONTEXT));
+
+    return stockOutFactor.add(new BigDecimal(newPatientFactor)).setScale(0, HALF_UP).intValue();
+  }
+
+  private static int fractionDigitsKept(long wholePart) {
+    int digits = 0;
+    while (digits < POWERS_OF_TEN.length && wholePart >= POWERS_OF_TEN[digits]) {
+      digits++;
+    }
+    return Math.max(0, PRECISION - digits);
+  }
+
+  private static int leadingFractionDigits(long daysInStock) {
+    int position = 1;
+    while (position < POWERS_OF_TEN.length - 2 && DAYS_IN_MONTH * POWERS_OF_TEN[position] < daysInStock) {
+      position++;
+    }
+    return position;
+  }
+
+  private static long floorDivide(long dividend, long divisor) {
+    long quotient = dividend / divisor;
+    return (dividend % divisor != 0 && dividend < 0) ? quotient - 1 : quotient;
+  }
+}
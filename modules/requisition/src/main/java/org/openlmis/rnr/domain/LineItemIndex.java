@@ -0,0 +1,97 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.rnr.domain;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Looks up line items by code, ignoring case, in constant time. The index is built on first use and rebuilt when one
+ * of the indexed lists is replaced, grows or shrinks, or when an indexed line item no longer carries the code it was
+ * indexed under. When several line items share a code, the first one in list order is returned. The indexed lists are
+ * passed in on every lookup rather than held, so the index follows the lists its owner currently has.
+ */
+
+abstract class LineItemIndex<T extends LineItem> {
+
+  private List<List<T>> indexedLists;
+
+  private int[] indexedSizes;
+
+  private Map<String, T> lineItemsByCode;
+
+  static LineItemIndex<RnrLineItem> byProductCode() {
+    return new LineItemIndex<RnrLineItem>() {
+      @Override
+      protected String codeOf(RnrLineItem lineItem) {
+        return lineItem.getProductCode();
+      }
+    };
+  }
+
+  static LineItemIndex<RegimenLineItem> byRegimenCode() {
+    return new LineItemIndex<RegimenLineItem>() {
+      @Override
+      protected String codeOf(RegimenLineItem regimenLineItem) {
+        return regimenLineItem.getCode();
+      }
+    };
+  }
+
+  protected abstract String codeOf(T lineItem);
+
+  synchronized T get(String code, List<List<T>> lists) {
+    if (code == null) return null;
+
+    String key = code.toLowerCase();
+    if (isStale(lists)) rebuild(lists);
+
+    T lineItem = lineItemsByCode.get(key);
+    if (lineItem != null && !key.equalsIgnoreCase(codeOf(lineItem))) {
+      rebuild(lists);
+      lineItem = lineItemsByCode.get(key);
+    }
+    return lineItem;
+  }
+
+  private boolean isStale(List<List<T>> lists) {
+    if (lineItemsByCode == null) return true;
+
+    if (lists.size() != indexedLists.size()) return true;
+    for (int i = 0; i < lists.size(); i++) {
+      if (lists.get(i) != indexedLists.get(i) || sizeOf(lists.get(i)) != indexedSizes[i]) return true;
+    }
+    return false;
+  }
+
+  private void rebuild(List<List<T>> lists) {
+    Map<String, T> index = new HashMap<>();
+    int[] sizes = new int[lists.size()];
+    for (int i = 0; i < lists.size(); i++) {
+      if (lists.get(i) == null) continue;
+      for (T lineItem : lists.get(i)) {
+        String code = codeOf(lineItem);
+        if (code != null && !index.containsKey(code.toLowerCase())) {
+          index.put(code.toLowerCase(), lineItem);
+        }
+      }
+      sizes[i] = lists.get(i).size();
+    }
+    indexedLists = lists;
+    indexedSizes = sizes;
+    lineItemsByCode = index;
+  }
+
+  private int sizeOf(List<T> list) {
+    return list == null ? 0 : list.size();
+  }
+}
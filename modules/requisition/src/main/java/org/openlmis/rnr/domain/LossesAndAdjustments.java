@@ -10,10 +10,10 @@
 
 package org.openlmis.rnr.domain;
 
-import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.codehaus.jackson.annotate.JsonIgnore;
 import org.codehaus.jackson.map.annotate.JsonSerialize;
 import org.openlmis.core.domain.BaseModel;
 
@@ -26,12 +26,19 @@ import static org.codehaus.jackson.map.annotate.JsonSerialize.Inclusion.NON_EMPT
 
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 @JsonSerialize(include = NON_EMPTY)
-@EqualsAndHashCode(callSuper = false)
+@EqualsAndHashCode(callSuper = false, exclude = "rnrLineItemId")
 public class LossesAndAdjustments extends BaseModel {
 
   private LossesAndAdjustmentsType type;
   private Integer quantity;
 
+  @JsonIgnore
+  private Long rnrLineItemId;
+
+  public LossesAndAdjustments(LossesAndAdjustmentsType type, Integer quantity) {
+    this.type = type;
+    this.quantity = quantity;
+  }
+
 }
@@ -19,8 +19,6 @@ import org.openlmis.core.exception.DataException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
-
 import static org.codehaus.jackson.map.annotate.JsonSerialize.Inclusion.NON_EMPTY;
 import static org.openlmis.rnr.domain.Rnr.RNR_VALIDATION_ERROR;
 
@@ -51,6 +49,8 @@ public class RegimenLineItem extends LineItem {
 
   private static Logger logger = LoggerFactory.getLogger(RegimenLineItem.class);
 
+  private static final FieldAccessors FIELD_ACCESSORS = FieldAccessors.of(RegimenLineItem.class);
+
   public RegimenLineItem(Long rnrId, RegimenCategory category, Long createdBy, Long modifiedBy) {
     this.rnrId = rnrId;
     this.category = category;
@@ -83,8 +83,7 @@ public class RegimenLineItem extends LineItem {
 
   private void copyColumnData(String fieldName, RegimenLineItem regimenLineItem) {
     try {
-      Field field = this.getClass().getDeclaredField(fieldName);
-      field.set(this, field.get(regimenLineItem));
+      FIELD_ACCESSORS.copy(fieldName, regimenLineItem, this);
     } catch (Exception e) {
       logger.error("Error in reading RnrLineItem's field", e);
     }
@@ -103,9 +102,7 @@ public class RegimenLineItem extends LineItem {
 
   @Override
   public String getValue(String columnName) throws NoSuchFieldException, IllegalAccessException {
-    Field field = RegimenLineItem.class.getDeclaredField(columnName);
-    field.setAccessible(true);
-    Object fieldValue = field.get(this);
+    Object fieldValue = FIELD_ACCESSORS.get(this, columnName);
     String value = (fieldValue == null) ? "" : fieldValue.toString();
     return value;
   }
@@ -119,9 +116,7 @@ public class RegimenLineItem extends LineItem {
     String[] mandatoryVisibleColumns = new String[]{ON_TREATMENT, INITIATED_TREATMENT, STOPPED_TREATMENT};
     for (String mandatoryColumn : mandatoryVisibleColumns) {
       if (regimenTemplate.isRegimenColumnVisible(mandatoryColumn)) {
-        Field field = RegimenLineItem.class.getDeclaredField(mandatoryColumn);
-        field.setAccessible(true);
-        Object fieldValue = field.get(this);
+        Object fieldValue = FIELD_ACCESSORS.get(this, mandatoryColumn);
         if (fieldValue == null)
           throw new DataException(RNR_VALIDATION_ERROR);
       }
@@ -12,7 +12,9 @@ package org.openlmis.rnr.domain;
 
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import org.apache.commons.collections.Predicate;
 import org.codehaus.jackson.annotate.JsonIgnore;
 import org.codehaus.jackson.annotate.JsonIgnoreProperties;
@@ -22,12 +24,12 @@ import org.openlmis.core.exception.DataException;
 
 import javax.persistence.Transient;
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.List;
+import java.util.*;
 
-import static org.apache.commons.collections.CollectionUtils.find;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.apache.commons.collections.CollectionUtils.selectRejected;
+import static lombok.AccessLevel.NONE;
 import static org.codehaus.jackson.map.annotate.JsonSerialize.Inclusion.NON_NULL;
 import static org.openlmis.rnr.domain.ProgramRnrTemplate.BEGINNING_BALANCE;
 import static org.openlmis.rnr.domain.RnrStatus.*;
@@ -69,6 +71,14 @@ public class Rnr extends BaseModel {
   private Date submittedDate;
   private List<Comment> comments = new ArrayList<>();
 
+  @Getter(NONE)
+  @Setter(NONE)
+  private final transient LineItemIndex<RnrLineItem> lineItemsByProductCode = LineItemIndex.byProductCode();
+
+  @Getter(NONE)
+  @Setter(NONE)
+  private final transient LineItemIndex<RegimenLineItem> regimenLineItemsByCode = LineItemIndex.byRegimenCode();
+
   public Rnr(Facility facility, Program program, ProcessingPeriod period, Boolean emergency, Long modifiedBy, Long createdBy) {
     this.facility = facility;
     this.program = program;
@@ -187,23 +197,11 @@ public class Rnr extends BaseModel {
   }
 
   public RnrLineItem findCorrespondingLineItem(final RnrLineItem item) {
-    return (RnrLineItem) find(this.getAllLineItems(), new Predicate() {
-      @Override
-      public boolean evaluate(Object o) {
-        RnrLineItem lineItem = (RnrLineItem) o;
-        return lineItem.getProductCode().equalsIgnoreCase(item.getProductCode());
-      }
-    });
+    return lineItemsByProductCode.get(item.getProductCode(), asList(fullSupplyLineItems, nonFullSupplyLineItems));
   }
 
   public RegimenLineItem findCorrespondingRegimenLineItem(final RegimenLineItem regimenLineItem) {
-    return (RegimenLineItem) find(this.regimenLineItems, new Predicate() {
-      @Override
-      public boolean evaluate(Object o) {
-        RegimenLineItem regimenLineItem1 = (RegimenLineItem) o;
-        return regimenLineItem1.getCode().equalsIgnoreCase(regimenLineItem.getCode());
-      }
-    });
+    return regimenLineItemsByCode.get(regimenLineItem.getCode(), singletonList(regimenLineItems));
   }
 
   public void setFieldsAccordingToTemplateFrom(Rnr previousRequisition, ProgramRnrTemplate template, RegimenTemplate regimenTemplate) {
@@ -260,17 +258,14 @@ public class Rnr extends BaseModel {
   }
 
   private void copyCreatorEditableFieldsForNonFullSupply(Rnr rnr, ProgramRnrTemplate template, List<ProgramProduct> programProducts) {
+    Set<String> programProductCodes = null;
     for (final RnrLineItem lineItem : rnr.nonFullSupplyLineItems) {
       RnrLineItem savedLineItem = this.findCorrespondingLineItem(lineItem);
       if (savedLineItem == null) {
-        ProgramProduct programProduct = (ProgramProduct) find(programProducts, new Predicate() {
-          @Override
-          public boolean evaluate(Object o) {
-            ProgramProduct programProduct = (ProgramProduct) o;
-            return programProduct.getProduct().getCode().equalsIgnoreCase(lineItem.getProductCode());
-          }
-        });
-        if (programProduct != null) {
+        if (programProductCodes == null) {
+          programProductCodes = productCodesOf(programProducts);
+        }
+        if (lineItem.getProductCode() != null && programProductCodes.contains(lineItem.getProductCode().toLowerCase())) {
           lineItem.setModifiedBy(rnr.getModifiedBy());
           this.nonFullSupplyLineItems.add(lineItem);
         }
@@ -281,6 +276,14 @@ public class Rnr extends BaseModel {
     }
   }
 
+  private Set<String> productCodesOf(List<ProgramProduct> programProducts) {
+    Set<String> productCodes = new HashSet<>();
+    for (ProgramProduct programProduct : programProducts) {
+      productCodes.add(programProduct.getProduct().getCode().toLowerCase());
+    }
+    return productCodes;
+  }
+
   private void copyCreatorEditableFieldsForFullSupply(Rnr rnr, ProgramRnrTemplate template) {
     for (RnrLineItem lineItem : rnr.fullSupplyLineItems) {
       RnrLineItem savedLineItem = this.findCorrespondingLineItem(lineItem);
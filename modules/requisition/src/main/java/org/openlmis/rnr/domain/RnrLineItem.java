@@ -11,7 +11,6 @@ package org.openlmis.rnr.domain;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
-import org.apache.commons.collections.Predicate;
 import org.apache.commons.lang3.StringUtils;
 import org.codehaus.jackson.map.annotate.JsonSerialize;
 import org.openlmis.core.domain.*;
@@ -19,17 +18,18 @@ import org.openlmis.core.exception.DataException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static java.lang.Math.floor;
 import static java.math.BigDecimal.valueOf;
 import static java.math.RoundingMode.HALF_UP;
-import static org.apache.commons.collections.CollectionUtils.find;
 import static org.codehaus.jackson.map.annotate.JsonSerialize.Inclusion.NON_EMPTY;
+import static org.openlmis.rnr.domain.LineItemArithmetic.divideAndRound;
 import static org.openlmis.rnr.domain.ProgramRnrTemplate.*;
 import static org.openlmis.rnr.domain.Rnr.RNR_VALIDATION_ERROR;
 import static org.openlmis.rnr.domain.RnrStatus.AUTHORIZED;
@@ -50,6 +50,8 @@ public class RnrLineItem extends LineItem {
 
   public static final MathContext MATH_CONTEXT = new MathContext(12, HALF_UP);
 
+  private static final FieldAccessors FIELD_ACCESSORS = FieldAccessors.of(RnrLineItem.class);
+
   //TODO : hack to display it on UI. This is concatenated string of Product properties like name, strength, form and dosage unit
   private String product;
   private Integer productDisplayOrder;
@@ -188,7 +190,13 @@ public class RnrLineItem extends LineItem {
   public void calculateForFullSupply(ProgramRnrTemplate template,
                                      RnrStatus rnrStatus,
                                      List<LossesAndAdjustmentsType> lossesAndAdjustmentsTypes) {
-    calculateTotalLossesAndAdjustments(lossesAndAdjustmentsTypes);
+    calculateForFullSupply(template, rnrStatus, additivityByTypeName(lossesAndAdjustmentsTypes));
+  }
+
+  public void calculateForFullSupply(ProgramRnrTemplate template,
+                                     RnrStatus rnrStatus,
+                                     Map<String, Boolean> additivityByTypeName) {
+    calculateTotalLossesAndAdjustments(additivityByTypeName);
 
     if (template.columnsCalculated(STOCK_IN_HAND)) {
       calculateStockInHand();
@@ -214,9 +222,7 @@ public class RnrLineItem extends LineItem {
     for (Integer previousNC : previousNormalizedConsumptions) {
       sumOfNCs += previousNC;
     }
-    BigDecimal countOfNCs = new BigDecimal(previousNormalizedConsumptions.size() + 1);
-
-    amc = new BigDecimal(sumOfNCs).divide(countOfNCs, MATH_CONTEXT).setScale(0, HALF_UP).intValue();
+    amc = (int) divideAndRound(sumOfNCs, previousNormalizedConsumptions.size() + 1);
   }
 
   public void calculatePacksToShip() {
@@ -237,19 +243,28 @@ public class RnrLineItem extends LineItem {
   }
 
   public void calculateNormalizedConsumption() {
-    BigDecimal dosesPerDispensingUnit = new BigDecimal(Math.max(1, this.dosesPerDispensingUnit));
+    normalizedConsumption = LineItemArithmetic.normalizedConsumption(stockOutDays, quantityDispensed, newPatientCount,
+      dosesPerMonth, Math.max(1, dosesPerDispensingUnit), reportingDays);
+  }
 
-    normalizedConsumption = calculateNormalizedConsumption(
-      new BigDecimal(stockOutDays),
-      new BigDecimal(quantityDispensed),
-      new BigDecimal(newPatientCount),
-      new BigDecimal(dosesPerMonth), dosesPerDispensingUnit, reportingDays);
+  public static Map<String, Boolean> additivityByTypeName(List<LossesAndAdjustmentsType> lossesAndAdjustmentsTypes) {
+    Map<String, Boolean> additivityByTypeName = new HashMap<>();
+    for (LossesAndAdjustmentsType lossesAndAdjustmentsType : lossesAndAdjustmentsTypes) {
+      if (!additivityByTypeName.containsKey(lossesAndAdjustmentsType.getName())) {
+        additivityByTypeName.put(lossesAndAdjustmentsType.getName(), lossesAndAdjustmentsType.getAdditive());
+      }
+    }
+    return additivityByTypeName;
   }
 
   public void calculateTotalLossesAndAdjustments(List<LossesAndAdjustmentsType> lossesAndAdjustmentsTypes) {
-    Integer total = 0;
+    calculateTotalLossesAndAdjustments(additivityByTypeName(lossesAndAdjustmentsTypes));
+  }
+
+  public void calculateTotalLossesAndAdjustments(Map<String, Boolean> additivityByTypeName) {
+    int total = 0;
     for (LossesAndAdjustments lossAndAdjustment : lossesAndAdjustments) {
-      if (getAdditive(lossAndAdjustment, lossesAndAdjustmentsTypes)) {
+      if (additivityByTypeName.get(lossAndAdjustment.getType().getName())) {
         total += lossAndAdjustment.getQuantity();
       } else {
         total -= lossAndAdjustment.getQuantity();
@@ -305,34 +320,13 @@ public class RnrLineItem extends LineItem {
     this.lossesAndAdjustments.add(lossesAndAdjustments);
   }
 
-  private Integer calculateNormalizedConsumption(BigDecimal stockOutDays,
-                                                 BigDecimal quantityDispensed,
-                                                 BigDecimal newPatientCount,
-                                                 BigDecimal dosesPerMonth,
-                                                 BigDecimal dosesPerDispensingUnit,
-                                                 Integer reportingDays) {
-
-    BigDecimal newPatientFactor = newPatientCount.multiply(dosesPerMonth.divide(dosesPerDispensingUnit, MATH_CONTEXT)
-      .setScale(0, HALF_UP));
-
-    if (reportingDays == null || stockOutDays.compareTo(new BigDecimal(reportingDays)) >= 0) {
-      return quantityDispensed.add(newPatientFactor).setScale(0, HALF_UP).intValue();
-    }
-
-    BigDecimal stockOutFactor = quantityDispensed.multiply(NUMBER_OF_DAYS
-      .divide((new BigDecimal(reportingDays).subtract(stockOutDays)), MATH_CONTEXT));
-
-    return stockOutFactor.add(newPatientFactor).setScale(0, HALF_UP).intValue();
-  }
-
   private void copyField(String fieldName, RnrLineItem lineItem, ProgramRnrTemplate template) {
     if (!template.columnsVisible(fieldName) || !template.columnsUserInput(fieldName)) {
       return;
     }
 
     try {
-      Field field = this.getClass().getDeclaredField(fieldName);
-      field.set(this, field.get(lineItem));
+      FIELD_ACCESSORS.copy(fieldName, lineItem, this);
     } catch (Exception e) {
       logger.error("Error in copying RnrLineItem's field", e);
     }
@@ -366,8 +360,7 @@ public class RnrLineItem extends LineItem {
   private Object getValueFor(String fieldName) {
     Object value = null;
     try {
-      Field field = this.getClass().getDeclaredField(fieldName);
-      value = field.get(this);
+      value = FIELD_ACCESSORS.get(this, fieldName);
     } catch (Exception e) {
       logger.error("Error in reading RnrLineItem's field", e);
     }
@@ -400,9 +393,7 @@ public class RnrLineItem extends LineItem {
       return String.valueOf((this.getBeginningBalance() + this.getQuantityReceived()));
     }
 
-    Field field = RnrLineItem.class.getDeclaredField(columnName);
-    field.setAccessible(true);
-    Object fieldValue = field.get(this);
+    Object fieldValue = FIELD_ACCESSORS.get(this, columnName);
 
     return (fieldValue == null) ? "" : fieldValue.toString();
   }
@@ -438,17 +429,4 @@ public class RnrLineItem extends LineItem {
     return true;
   }
 
-  private Boolean getAdditive(final LossesAndAdjustments lossAndAdjustment, List<LossesAndAdjustmentsType> lossesAndAdjustmentsTypes) {
-    Predicate predicate = new Predicate() {
-      @Override
-      public boolean evaluate(Object o) {
-        return lossAndAdjustment.getType().getName().equals(((LossesAndAdjustmentsType) o).getName());
-      }
-    };
-
-    LossesAndAdjustmentsType lossAndAdjustmentTypeFromList = (LossesAndAdjustmentsType) find(lossesAndAdjustmentsTypes, predicate);
-
-    return lossAndAdjustmentTypeFromList.getAdditive();
-  }
-
 }
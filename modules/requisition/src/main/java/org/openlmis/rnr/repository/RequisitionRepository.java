@@ -13,14 +13,26 @@ package org.openlmis.rnr.repository;
 import org.openlmis.core.domain.*;
 import org.openlmis.core.exception.DataException;
 import org.openlmis.core.repository.helper.CommaSeparator;
+import org.openlmis.core.service.ReferenceDataCache;
 import org.openlmis.rnr.domain.*;
+import org.openlmis.rnr.dto.ProductAuthorizedDateDTO;
 import org.openlmis.rnr.repository.mapper.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
-
+import java.util.Map;
+
+import static org.openlmis.core.repository.helper.CommaSeparator.commaSeparateValues;
+import static java.lang.Boolean.FALSE;
+import static java.lang.Boolean.TRUE;
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+import static org.openlmis.core.repository.helper.ListPartitioner.partition;
+import static org.openlmis.core.service.ReferenceDataCache.ADJUSTMENT_TYPES;
 import static org.openlmis.rnr.domain.RnrStatus.*;
 
 /**
@@ -30,6 +42,12 @@ import static org.openlmis.rnr.domain.RnrStatus.*;
 @Repository
 public class RequisitionRepository {
 
+  /**
+   * Maximum number of line items written per multi-row statement, keeping each statement well within the number of
+   * bind parameters the JDBC driver accepts.
+   */
+  static final int BATCH_SIZE = 500;
+
   @Autowired
   private RequisitionMapper requisitionMapper;
 
@@ -51,6 +69,9 @@ public class RequisitionRepository {
   @Autowired
   private RegimenLineItemMapper regimenLineItemMapper;
 
+  @Autowired
+  private ReferenceDataCache referenceDataCache;
+
   public void insert(Rnr requisition) {
     requisition.setStatus(INITIATED);
     requisitionMapper.insert(requisition);
@@ -63,7 +84,9 @@ public class RequisitionRepository {
     for (RegimenLineItem regimenLineItem : regimenLineItems) {
       regimenLineItem.setRnrId(requisition.getId());
       regimenLineItem.setModifiedBy(requisition.getModifiedBy());
-      regimenLineItemMapper.insert(regimenLineItem);
+    }
+    for (List<RegimenLineItem> batch : partition(regimenLineItems, BATCH_SIZE)) {
+      regimenLineItemMapper.insertAll(batch);
     }
   }
 
@@ -71,7 +94,9 @@ public class RequisitionRepository {
     for (RnrLineItem lineItem : lineItems) {
       lineItem.setRnrId(requisition.getId());
       lineItem.setModifiedBy(requisition.getModifiedBy());
-      rnrLineItemMapper.insert(lineItem, lineItem.getPreviousNormalizedConsumptions().toString());
+    }
+    for (List<RnrLineItem> batch : partition(lineItems, BATCH_SIZE)) {
+      rnrLineItemMapper.insertAll(batch);
     }
   }
 
@@ -85,53 +110,72 @@ public class RequisitionRepository {
   }
 
   private void updateRegimenLineItems(Rnr rnr) {
-    for (RegimenLineItem regimenLineItem : rnr.getRegimenLineItems()) {
-      regimenLineItemMapper.update(regimenLineItem);
+    for (List<RegimenLineItem> batch : partition(rnr.getRegimenLineItems(), BATCH_SIZE)) {
+      regimenLineItemMapper.updateAll(batch);
     }
   }
 
   public void approve(Rnr rnr) {
     requisitionMapper.update(rnr);
-    for (RnrLineItem lineItem : rnr.getFullSupplyLineItems()) {
-      updateLineItem(rnr, lineItem);
-    }
-    for (RnrLineItem lineItem : rnr.getNonFullSupplyLineItems()) {
-      updateLineItem(rnr, lineItem);
-    }
+    updateLineItems(rnr, rnr.getFullSupplyLineItems());
+    updateLineItems(rnr, rnr.getNonFullSupplyLineItems());
   }
 
   private void updateNonFullSupplyLineItems(Rnr rnr) {
+    Map<String, RnrLineItem> savedLineItems = new HashMap<>();
+    for (RnrLineItem savedLineItem : rnrLineItemMapper.getNonFullSupplyRnrLineItemsByRnrId(rnr.getId())) {
+      savedLineItems.put(savedLineItem.getProductCode(), savedLineItem);
+    }
+
+    List<RnrLineItem> lineItemsToUpdate = new ArrayList<>();
+    List<RnrLineItem> lineItemsToInsert = new ArrayList<>();
     for (RnrLineItem lineItem : rnr.getNonFullSupplyLineItems()) {
-      RnrLineItem savedLineItem = rnrLineItemMapper.getExistingNonFullSupplyItemByRnrIdAndProductCode(rnr.getId(), lineItem.getProductCode());
+      RnrLineItem savedLineItem = savedLineItems.get(lineItem.getProductCode());
       if (savedLineItem != null) {
         lineItem.setId(savedLineItem.getId());
-        updateLineItem(rnr, lineItem);
+        lineItemsToUpdate.add(lineItem);
         continue;
       }
-      rnrLineItemMapper.insertNonFullSupply(lineItem);
+      lineItemsToInsert.add(lineItem);
+    }
+
+    updateLineItems(rnr, lineItemsToUpdate);
+    for (List<RnrLineItem> batch : partition(lineItemsToInsert, BATCH_SIZE)) {
+      rnrLineItemMapper.insertAllNonFullSupply(batch);
     }
   }
 
   private void updateFullSupplyLineItems(Rnr requisition) {
-    for (RnrLineItem lineItem : requisition.getFullSupplyLineItems()) {
-      updateLineItem(requisition, lineItem);
-      lossesAndAdjustmentsMapper.deleteByLineItemId(lineItem.getId());
-      insertLossesAndAdjustmentsForLineItem(lineItem);
+    List<RnrLineItem> lineItems = requisition.getFullSupplyLineItems();
+    updateLineItems(requisition, lineItems);
+    if (!lineItems.isEmpty()) {
+      lossesAndAdjustmentsMapper.deleteByLineItemIds(commaSeparator.commaSeparateIds(lineItems));
     }
+    insertLossesAndAdjustmentsForLineItems(lineItems);
   }
 
-  private void updateLineItem(Rnr requisition, RnrLineItem lineItem) {
-    lineItem.setModifiedBy(requisition.getModifiedBy());
-    if (requisition.getStatus() == RnrStatus.IN_APPROVAL) {
-      rnrLineItemMapper.updateOnApproval(lineItem);
-      return;
+  private void updateLineItems(Rnr requisition, List<RnrLineItem> lineItems) {
+    for (RnrLineItem lineItem : lineItems) {
+      lineItem.setModifiedBy(requisition.getModifiedBy());
+    }
+    for (List<RnrLineItem> batch : partition(lineItems, BATCH_SIZE)) {
+      if (requisition.getStatus() == RnrStatus.IN_APPROVAL) {
+        rnrLineItemMapper.updateAllOnApproval(batch);
+        continue;
+      }
+      rnrLineItemMapper.updateAll(batch);
     }
-    rnrLineItemMapper.update(lineItem);
   }
 
-  private void insertLossesAndAdjustmentsForLineItem(RnrLineItem lineItem) {
-    for (LossesAndAdjustments lossAndAdjustment : lineItem.getLossesAndAdjustments()) {
-      lossesAndAdjustmentsMapper.insert(lineItem, lossAndAdjustment);
+  private void insertLossesAndAdjustmentsForLineItems(List<RnrLineItem> lineItems) {
+    List<RnrLineItem> lineItemsWithLossesAndAdjustments = new ArrayList<>();
+    for (RnrLineItem lineItem : lineItems) {
+      if (!lineItem.getLossesAndAdjustments().isEmpty()) {
+        lineItemsWithLossesAndAdjustments.add(lineItem);
+      }
+    }
+    for (List<RnrLineItem> batch : partition(lineItemsWithLossesAndAdjustments, BATCH_SIZE)) {
+      lossesAndAdjustmentsMapper.insertAll(batch);
     }
   }
 
@@ -152,13 +196,55 @@ public class RequisitionRepository {
   }
 
   public List<LossesAndAdjustmentsType> getLossesAndAdjustmentsTypes() {
-    return lossesAndAdjustmentsMapper.getLossesAndAdjustmentsTypes();
+    return referenceDataCache.get(ADJUSTMENT_TYPES, ADJUSTMENT_TYPES, new ReferenceDataCache.Loader<List<LossesAndAdjustmentsType>>() {
+      @Override
+      public List<LossesAndAdjustmentsType> load() {
+        return unmodifiableList(lossesAndAdjustmentsMapper.getLossesAndAdjustmentsTypes());
+      }
+    });
   }
 
   public Rnr getById(Long rnrId) {
-    Rnr requisition = requisitionMapper.getById(rnrId);
-    if (requisition == null) throw new DataException("error.rnr.not.found");
-    return requisition;
+    List<Rnr> requisitions = getByIds(asList(rnrId));
+    if (requisitions.isEmpty()) throw new DataException("error.rnr.not.found");
+    return requisitions.get(0);
+  }
+
+  /**
+   * Loads the given requisitions, ordered by id, with their full supply, non full supply and regimen line items and the
+   * losses and adjustments of each line item. Every batch of requisitions takes four queries, however many line items
+   * they have.
+   */
+  public List<Rnr> getByIds(List<Long> rnrIds) {
+    List<Rnr> requisitions = new ArrayList<>();
+    for (List<Long> batch : partition(rnrIds, BATCH_SIZE)) {
+      String commaSeparatedRnrIds = commaSeparateValues(batch);
+      List<Rnr> batchRequisitions = requisitionMapper.getByIds(commaSeparatedRnrIds);
+      if (batchRequisitions.isEmpty()) continue;
+
+      Map<Long, Rnr> requisitionsById = new HashMap<>();
+      for (Rnr requisition : batchRequisitions) {
+        requisitionsById.put(requisition.getId(), requisition);
+      }
+      Map<Long, RnrLineItem> lineItemsById = new HashMap<>();
+      for (RnrLineItem lineItem : rnrLineItemMapper.getByRnrIds(commaSeparatedRnrIds)) {
+        lineItemsById.put(lineItem.getId(), lineItem);
+        Rnr requisition = requisitionsById.get(lineItem.getRnrId());
+        if (TRUE.equals(lineItem.getFullSupply())) {
+          requisition.getFullSupplyLineItems().add(lineItem);
+        } else if (FALSE.equals(lineItem.getFullSupply())) {
+          requisition.getNonFullSupplyLineItems().add(lineItem);
+        }
+      }
+      for (LossesAndAdjustments lossesAndAdjustments : lossesAndAdjustmentsMapper.getByRnrIds(commaSeparatedRnrIds)) {
+        lineItemsById.get(lossesAndAdjustments.getRnrLineItemId()).getLossesAndAdjustments().add(lossesAndAdjustments);
+      }
+      for (RegimenLineItem regimenLineItem : regimenLineItemMapper.getByRnrIds(commaSeparatedRnrIds)) {
+        requisitionsById.get(regimenLineItem.getRnrId()).getRegimenLineItems().add(regimenLineItem);
+      }
+      requisitions.addAll(batchRequisitions);
+    }
+    return requisitions;
   }
 
   public List<Rnr> getAuthorizedRequisitions(RoleAssignment roleAssignment) {
@@ -194,10 +280,45 @@ public class RequisitionRepository {
     return requisitionStatusChangeMapper.getOperationDateFor(rnrId, status);
   }
 
+  public Map<Long, Date> getOperationDatesFor(List<Long> rnrIds, String status) {
+    Map<Long, Date> operationDates = new HashMap<>();
+    for (RequisitionStatusChange statusChange : requisitionStatusChangeMapper.getOperationDatesFor(commaSeparateValues(rnrIds), status)) {
+      operationDates.put(statusChange.getRnrId(), statusChange.getCreatedDate());
+    }
+    return operationDates;
+  }
+
   public Rnr getLWById(Long rnrId) {
     return requisitionMapper.getLWById(rnrId);
   }
 
+  /**
+   * Marks the given requisitions as released and logs the status change for each, a batch of requisitions per statement.
+   */
+  public void releaseAsOrder(List<Long> rnrIds, Long userId) {
+    for (List<Long> batch : partition(rnrIds, BATCH_SIZE)) {
+      requisitionMapper.releaseAsOrder(commaSeparateValues(batch), userId);
+
+      List<RequisitionStatusChange> statusChanges = new ArrayList<>();
+      for (Long rnrId : batch) {
+        statusChanges.add(new RequisitionStatusChange(rnrId, RELEASED, new User(userId, null), null));
+      }
+      requisitionStatusChangeMapper.insertAll(statusChanges);
+    }
+  }
+
+  /**
+   * Fetches id, status, emergency flag, supervisory node, program, facility and period dates of the given requisitions;
+   * enough to publish status change events without loading line items.
+   */
+  public List<Rnr> getStatusSummaries(List<Long> rnrIds) {
+    List<Rnr> requisitions = new ArrayList<>();
+    for (List<Long> batch : partition(rnrIds, BATCH_SIZE)) {
+      requisitions.addAll(requisitionMapper.getStatusSummaries(commaSeparateValues(batch)));
+    }
+    return requisitions;
+  }
+
   public List<Rnr> getApprovedRequisitionsForCriteriaAndPageNumber(String searchType, String searchVal, Integer pageNumber,
                                                                    Integer pageSize, Long userId, Right right, String sortBy,
                                                                    String sortDirection) {
@@ -205,6 +326,13 @@ public class RequisitionRepository {
       userId, right, sortBy, sortDirection);
   }
 
+  public List<Rnr> getApprovedRequisitionsForCriteriaAfter(String searchType, String searchVal, Long afterRnrId,
+                                                          Integer pageSize, Long userId, Right right, String sortBy,
+                                                          String sortDirection) {
+    return requisitionMapper.getApprovedRequisitionsForCriteriaAfter(searchType, searchVal, afterRnrId, pageSize,
+      userId, right, sortBy, sortDirection);
+  }
+
   public Integer getCountOfApprovedRequisitionsForCriteria(String searchType, String searchVal, Long userId, Right right) {
     return requisitionMapper.getCountOfApprovedRequisitionsForCriteria(searchType, searchVal, userId, right);
   }
@@ -217,8 +345,25 @@ public class RequisitionRepository {
     return requisitionMapper.getLastRegularRequisition(facility, program);
   }
 
-  public Date getAuthorizedDateForPreviousLineItem(Rnr rnr, String productCode, Date periodStartDate) {
-    return rnrLineItemMapper.getAuthorizedDateForPreviousLineItem(rnr, productCode, periodStartDate);
+  public Map<String, Date> getAuthorizedDatesForPreviousLineItems(Rnr rnr, Date periodStartDate) {
+    Map<String, Date> authorizedDates = new HashMap<>();
+    for (ProductAuthorizedDateDTO authorizedDate : rnrLineItemMapper.getAuthorizedDatesForPreviousLineItems(rnr, periodStartDate)) {
+      authorizedDates.put(authorizedDate.getProductCode(), authorizedDate.getAuthorizedDate());
+    }
+    return authorizedDates;
+  }
+
+  public Map<String, List<Integer>> getPreviousNormalizedConsumptions(Rnr rnr, Integer n, Date startDate) {
+    Map<String, List<Integer>> normalizedConsumptions = new HashMap<>();
+    for (RnrLineItem lineItem : rnrLineItemMapper.getAuthorizedRegularUnSkippedLineItemsForAllProducts(rnr, n, startDate)) {
+      List<Integer> productNormalizedConsumptions = normalizedConsumptions.get(lineItem.getProductCode());
+      if (productNormalizedConsumptions == null) {
+        productNormalizedConsumptions = new ArrayList<>();
+        normalizedConsumptions.put(lineItem.getProductCode(), productNormalizedConsumptions);
+      }
+      productNormalizedConsumptions.add(lineItem.getNormalizedConsumption());
+    }
+    return normalizedConsumptions;
   }
 
   public List<RnrLineItem> getAuthorizedRegularUnSkippedLineItems(String productCode, Rnr rnr, Integer n, Date startDate) {
@@ -228,4 +373,15 @@ public class RequisitionRepository {
   public RnrLineItem getNonSkippedLineItem(Long rnrId, String productCode) {
     return rnrLineItemMapper.getNonSkippedLineItem(rnrId, productCode);
   }
+
+  /**
+   * Loads the non skipped line items of the given requisitions, without their losses and adjustments.
+   */
+  public List<RnrLineItem> getNonSkippedLineItems(List<Long> rnrIds) {
+    List<RnrLineItem> lineItems = new ArrayList<>();
+    for (List<Long> batch : partition(rnrIds, BATCH_SIZE)) {
+      lineItems.addAll(rnrLineItemMapper.getNonSkippedLineItemsByRnrIds(commaSeparateValues(batch)));
+    }
+    return lineItems;
+  }
 }
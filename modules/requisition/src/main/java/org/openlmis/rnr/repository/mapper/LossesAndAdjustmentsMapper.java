@@ -36,6 +36,24 @@ public interface LossesAndAdjustmentsMapper {
   })
   List<LossesAndAdjustments> getByRnrLineItem(Long rnrLineItemId);
 
+  @Select({"SELECT LA.requisitionLineItemId, LA.quantity, LA.createdBy, LA.createdDate, LA.modifiedBy, LA.modifiedDate,",
+      "LAT.name AS typeName, LAT.description AS typeDescription, LAT.additive AS typeAdditive,",
+      "LAT.displayOrder AS typeDisplayOrder, LAT.createdDate AS typeCreatedDate",
+      "FROM requisition_line_item_losses_adjustments LA",
+      "INNER JOIN requisition_line_items RLI ON RLI.id = LA.requisitionLineItemId",
+      "INNER JOIN losses_adjustments_types LAT ON LAT.name = LA.type",
+      "WHERE RLI.rnrId = ANY(#{commaSeparatedRnrIds}::INTEGER[])",
+      "ORDER BY LA.requisitionLineItemId, LAT.displayOrder"})
+  @Results(value = {
+      @Result(property = "rnrLineItemId", column = "requisitionLineItemId"),
+      @Result(property = "type.name", column = "typeName"),
+      @Result(property = "type.description", column = "typeDescription"),
+      @Result(property = "type.additive", column = "typeAdditive"),
+      @Result(property = "type.displayOrder", column = "typeDisplayOrder"),
+      @Result(property = "type.createdDate", column = "typeCreatedDate")
+  })
+  List<LossesAndAdjustments> getByRnrIds(@Param("commaSeparatedRnrIds") String commaSeparatedRnrIds);
+
   @Select("SELECT * FROM losses_adjustments_types WHERE name = #{lossesAndAdjustmentsTypeName}")
   LossesAndAdjustmentsType getLossesAndAdjustmentTypeByName(String lossesAndAdjustmentsTypeName);
 
@@ -47,4 +65,17 @@ public interface LossesAndAdjustmentsMapper {
 
   @Delete("DELETE FROM requisition_line_item_losses_adjustments WHERE requisitionLineItemId = #{rnrLineItemId}")
   void deleteByLineItemId(Long rnrLineItemId);
+
+  @Delete("DELETE FROM requisition_line_item_losses_adjustments WHERE requisitionLineItemId = ANY(#{rnrLineItemIds}::INTEGER[])")
+  void deleteByLineItemIds(String rnrLineItemIds);
+
+  @Insert({"<script>",
+    "INSERT INTO requisition_line_item_losses_adjustments(requisitionLineItemId, type, quantity, modifiedBy) VALUES",
+    "<foreach collection='rnrLineItems' item='rnrLineItem' separator=','>",
+    "<foreach collection='rnrLineItem.lossesAndAdjustments' item='lossesAndAdjustments' separator=','>",
+    "(#{rnrLineItem.id}, #{lossesAndAdjustments.type.name}, #{lossesAndAdjustments.quantity}, #{rnrLineItem.modifiedBy})",
+    "</foreach>",
+    "</foreach>",
+    "</script>"})
+  void insertAll(@Param("rnrLineItems") List<RnrLineItem> rnrLineItemsWithLossesAndAdjustments);
 }
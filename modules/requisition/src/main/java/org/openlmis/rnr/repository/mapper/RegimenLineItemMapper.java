@@ -23,10 +23,14 @@ import java.util.List;
 @Repository
 public interface RegimenLineItemMapper {
 
-  @Insert({"INSERT INTO regimen_line_items(code, name, regimenDisplayOrder, regimenCategory, regimenCategoryDisplayOrder, rnrId, modifiedBy, createdBy) values " +
-    "(#{code}, #{name}, #{regimenDisplayOrder}, #{category.name}, #{category.displayOrder}, #{rnrId}, #{modifiedBy}, #{createdBy})"})
-  @Options(useGeneratedKeys = true)
-  public void insert(RegimenLineItem regimenLineItem);
+  @Insert({"<script>",
+    "INSERT INTO regimen_line_items(code, name, regimenDisplayOrder, regimenCategory, regimenCategoryDisplayOrder, rnrId, modifiedBy, createdBy) values",
+    "<foreach collection='regimenLineItems' item='regimenLineItem' separator=','>",
+    "(#{regimenLineItem.code}, #{regimenLineItem.name}, #{regimenLineItem.regimenDisplayOrder}, #{regimenLineItem.category.name},",
+    "#{regimenLineItem.category.displayOrder}, #{regimenLineItem.rnrId}, #{regimenLineItem.modifiedBy}, #{regimenLineItem.createdBy})",
+    "</foreach>",
+    "</script>"})
+  public void insertAll(@Param("regimenLineItems") List<RegimenLineItem> regimenLineItems);
 
   @Select("SELECT * FROM regimen_line_items WHERE rnrId = #{rnrId} ORDER BY regimenCategoryDisplayOrder, regimenDisplayOrder")
   @Results(value = {
@@ -43,7 +47,32 @@ public interface RegimenLineItemMapper {
   })
   public List<RegimenLineItem> getRegimenLineItemsByRnrId(Long rnrId);
 
-  @Update("UPDATE regimen_line_items set patientsOnTreatment = #{patientsOnTreatment},patientsToInitiateTreatment = #{patientsToInitiateTreatment}," +
-    "patientsStoppedTreatment = #{patientsStoppedTreatment},remarks = #{remarks},modifiedBy = #{modifiedBy}, modifiedDate =CURRENT_TIMESTAMP where id=#{id}")
-  void update(RegimenLineItem regimenLineItem);
+  @Select({"SELECT * FROM regimen_line_items WHERE rnrId = ANY(#{commaSeparatedRnrIds}::INTEGER[])",
+    "ORDER BY rnrId, regimenCategoryDisplayOrder, regimenDisplayOrder"})
+  @Results(value = {
+    @Result(property = "id", column = "id"),
+    @Result(property = "code", column = "code"),
+    @Result(property = "name", column = "name"),
+    @Result(property = "patientsOnTreatment", column = "patientsOnTreatment"),
+    @Result(property = "patientsToInitiateTreatment", column = "patientsToInitiateTreatment"),
+    @Result(property = "remarks", column = "remarks"),
+    @Result(property = "patientsStoppedTreatment", column = "patientsStoppedTreatment"),
+    @Result(property = "regimenDisplayOrder", column = "regimenDisplayOrder"),
+    @Result(property = "category.name", column = "regimenCategory"),
+    @Result(property = "category.displayOrder", column = "regimenCategoryDisplayOrder"),
+  })
+  public List<RegimenLineItem> getByRnrIds(@Param("commaSeparatedRnrIds") String commaSeparatedRnrIds);
+
+  @Update({"<script>",
+    "UPDATE regimen_line_items SET patientsOnTreatment = V.patientsOnTreatment, patientsToInitiateTreatment = V.patientsToInitiateTreatment,",
+    "patientsStoppedTreatment = V.patientsStoppedTreatment, remarks = V.remarks, modifiedBy = V.modifiedBy, modifiedDate = CURRENT_TIMESTAMP",
+    "FROM (VALUES",
+    "<foreach collection='regimenLineItems' item='regimenLineItem' separator=','>",
+    "(#{regimenLineItem.id}::INTEGER, #{regimenLineItem.patientsOnTreatment}::INTEGER, #{regimenLineItem.patientsToInitiateTreatment}::INTEGER,",
+    "#{regimenLineItem.patientsStoppedTreatment}::INTEGER, #{regimenLineItem.remarks}::VARCHAR, #{regimenLineItem.modifiedBy}::INTEGER)",
+    "</foreach>",
+    ") AS V (id, patientsOnTreatment, patientsToInitiateTreatment, patientsStoppedTreatment, remarks, modifiedBy)",
+    "WHERE regimen_line_items.id = V.id",
+    "</script>"})
+  void updateAll(@Param("regimenLineItems") List<RegimenLineItem> regimenLineItems);
 }
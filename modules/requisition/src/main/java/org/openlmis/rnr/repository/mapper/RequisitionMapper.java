@@ -16,6 +16,7 @@ import org.openlmis.rnr.domain.Rnr;
 import org.openlmis.rnr.service.RequisitionService;
 import org.springframework.stereotype.Repository;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -39,20 +40,14 @@ public interface RequisitionMapper {
       "WHERE id = #{id}"})
   void update(Rnr requisition);
 
-  @Select("SELECT * FROM requisitions WHERE id = #{rnrId}")
+  @Select("SELECT * FROM requisitions WHERE id = ANY(#{commaSeparatedRnrIds}::INTEGER[]) ORDER BY id")
   @Results(value = {
       @Result(property = "id", column = "id"),
       @Result(property = "program.id", column = "programId"),
       @Result(property = "facility.id", column = "facilityId"),
-      @Result(property = "period.id", column = "periodId"),
-      @Result(property = "fullSupplyLineItems", javaType = List.class, column = "id",
-          many = @Many(select = "org.openlmis.rnr.repository.mapper.RnrLineItemMapper.getRnrLineItemsByRnrId")),
-      @Result(property = "nonFullSupplyLineItems", javaType = List.class, column = "id",
-          many = @Many(select = "org.openlmis.rnr.repository.mapper.RnrLineItemMapper.getNonFullSupplyRnrLineItemsByRnrId")),
-      @Result(property = "regimenLineItems", javaType = List.class, column = "id",
-          many = @Many(select = "org.openlmis.rnr.repository.mapper.RegimenLineItemMapper.getRegimenLineItemsByRnrId"))
+      @Result(property = "period.id", column = "periodId")
   })
-  Rnr getById(Long rnrId);
+  List<Rnr> getByIds(@Param("commaSeparatedRnrIds") String commaSeparatedRnrIds);
 
   @Select({"SELECT id, emergency, programId, facilityId, periodId, modifiedDate",
       "FROM requisitions ",
@@ -126,6 +121,24 @@ public interface RequisitionMapper {
   })
   Rnr getLWById(Long rnrId);
 
+  @Update({"UPDATE requisitions SET status = 'RELEASED', modifiedBy = #{userId}, modifiedDate = CURRENT_TIMESTAMP",
+      "WHERE id = ANY(#{commaSeparatedRnrIds}::INTEGER[])"})
+  void releaseAsOrder(@Param("commaSeparatedRnrIds") String commaSeparatedRnrIds, @Param("userId") Long userId);
+
+  @Select({"SELECT R.id, R.status, R.emergency, R.supervisoryNodeId, R.programId, R.facilityId, R.periodId, R.modifiedBy,",
+      "PP.startDate, PP.endDate",
+      "FROM requisitions R INNER JOIN processing_periods PP ON R.periodId = PP.id",
+      "WHERE R.id = ANY(#{commaSeparatedRnrIds}::INTEGER[])"})
+  @Results(value = {
+      @Result(property = "id", column = "id"),
+      @Result(property = "program.id", column = "programId"),
+      @Result(property = "facility.id", column = "facilityId"),
+      @Result(property = "period.id", column = "periodId"),
+      @Result(property = "period.startDate", column = "startDate"),
+      @Result(property = "period.endDate", column = "endDate")
+  })
+  List<Rnr> getStatusSummaries(@Param("commaSeparatedRnrIds") String commaSeparatedRnrIds);
+
   @Select("SELECT * FROM requisitions WHERE facilityId = #{facility.id} AND programId= #{program.id} AND periodId = #{period.id} AND emergency = FALSE")
   @Results(value = {
       @Result(property = "id", column = "id"),
@@ -164,6 +177,18 @@ public interface RequisitionMapper {
                                                             @Param("userId") Long userId, @Param("right") Right right,
                                                             @Param("sortBy") String sortBy, @Param("sortDirection") String sortDirection);
 
+  @SelectProvider(type = ApprovedRequisitionSearch.class, method = "getApprovedRequisitionsByCriteriaAfter")
+  @Results(value = {
+      @Result(property = "program.id", column = "programId"),
+      @Result(property = "facility.id", column = "facilityId"),
+      @Result(property = "period.id", column = "periodId"),
+      @Result(property = "supplyingFacility.id", column = "supplyingFacilityId")
+  })
+  List<Rnr> getApprovedRequisitionsForCriteriaAfter(@Param("searchType") String searchType, @Param("searchVal") String searchVal,
+                                                    @Param("afterRnrId") Long afterRnrId, @Param("pageSize") Integer pageSize,
+                                                    @Param("userId") Long userId, @Param("right") Right right,
+                                                    @Param("sortBy") String sortBy, @Param("sortDirection") String sortDirection);
+
   @SelectProvider(type = ApprovedRequisitionSearch.class, method = "getCountOfApprovedRequisitionsForCriteria")
   Integer getCountOfApprovedRequisitionsForCriteria(@Param("searchType") String searchType, @Param("searchVal") String searchVal,
                                                     @Param("userId") Long userId, @Param("right") Right right);
@@ -180,68 +205,122 @@ public interface RequisitionMapper {
   })
   Rnr getLastRegularRequisition(@Param("facility") Facility facility, @Param("program") Program program);
 
+  /**
+   * Builds the approved requisition search used by the convert to order screen. Search values are bound as
+   * parameters and matched with LOWER(column) LIKE, which the trigram indexes on facility and program names serve.
+   * Sort keys are restricted to a known set of columns, with the requisition id as tie breaker so that a page can
+   * also be fetched after a given requisition (keyset pagination) instead of by offset.
+   */
   public class ApprovedRequisitionSearch {
 
+    private static final String DEFAULT_SORT_KEY = "submittedDate";
+
+    private static final Map<String, String> SORT_EXPRESSIONS = new HashMap<>();
+
+    static {
+      SORT_EXPRESSIONS.put("submittedDate", "RSC.createdDate");
+      SORT_EXPRESSIONS.put("modifiedDate", "R.modifiedDate");
+      SORT_EXPRESSIONS.put("programName", "P.name");
+      SORT_EXPRESSIONS.put("facilityName", "F.name");
+      SORT_EXPRESSIONS.put("facilityCode", "F.code");
+      SORT_EXPRESSIONS.put("supplyingDepotName", "COALESCE(SF.name, '')");
+      SORT_EXPRESSIONS.put("periodStartDate", "PP.startDate");
+      SORT_EXPRESSIONS.put("periodEndDate", "PP.endDate");
+      SORT_EXPRESSIONS.put("emergency", "R.emergency");
+    }
+
+    private static final String FROM_APPROVED_REQUISITIONS = "FROM requisitions R " +
+      "INNER JOIN requisition_status_changes RSC ON R.id = RSC.rnrId AND RSC.status = 'SUBMITTED' " +
+      "INNER JOIN processing_periods PP ON PP.id = R.periodId " +
+      "INNER JOIN programs P ON P.id = R.programId " +
+      "INNER JOIN facilities F ON F.id = R.facilityId " +
+      "LEFT JOIN supply_lines SL ON (SL.supervisoryNodeId = R.supervisoryNodeId AND SL.programId = R.programId) " +
+      "LEFT JOIN facilities SF ON SL.supplyingFacilityId = SF.id ";
+
     @SuppressWarnings("UnusedDeclaration")
     public static String getApprovedRequisitionsByCriteria(Map<String, Object> params) {
-      StringBuilder sql = new StringBuilder();
-      sql.append("SELECT DISTINCT R.id, R.emergency, R.programId, R.facilityId, R.periodId, R.status, R.supervisoryNodeId," +
-          " R.modifiedDate as modifiedDate, RSC.createdDate as submittedDate, P.name AS programName, F.name AS facilityName," +
-          " F.code AS facilityCode, SF.name AS supplyingDepotName, PP.startDate as periodStartDate, PP.endDate as periodEndDate" +
-          " FROM Requisitions R INNER JOIN requisition_status_changes RSC ON R.id = RSC.rnrId AND RSC.status = 'SUBMITTED' " +
-          " INNER JOIN processing_periods PP ON PP.id = R.periodId ");
-
-      appendQueryClausesBySearchType(sql, params);
+      StringBuilder sql = selectApprovedRequisitions(params);
 
       Integer pageNumber = (Integer) params.get("pageNumber");
       Integer pageSize = (Integer) params.get("pageSize");
-      String sortBy = (String) params.get("sortBy");
-      String sortDirection = (String) params.get("sortDirection");
+      appendOrderBy(sql, params);
+      return sql.append(" LIMIT ").append(pageSize).append(" OFFSET ").append((pageNumber - 1) * pageSize).toString();
+    }
 
-      return sql.append("ORDER BY " + sortBy + " " + sortDirection).append(" LIMIT ").append(pageSize)
-          .append(" OFFSET ").append((pageNumber - 1) * pageSize).toString();
+    @SuppressWarnings("UnusedDeclaration")
+    public static String getApprovedRequisitionsByCriteriaAfter(Map<String, Object> params) {
+      StringBuilder sql = selectApprovedRequisitions(params);
+
+      if (params.get("afterRnrId") != null) {
+        String sortExpression = sortExpression(params);
+        sql.append(" AND (").append(sortExpression).append(", R.id) ").append(isDescending(params) ? "<" : ">")
+          .append(" (SELECT ").append(sortExpression).append(", R.id ").append(FROM_APPROVED_REQUISITIONS)
+          .append("WHERE R.id = #{afterRnrId})");
+      }
+
+      Integer pageSize = (Integer) params.get("pageSize");
+      appendOrderBy(sql, params);
+      return sql.append(" LIMIT ").append(pageSize).toString();
     }
 
     @SuppressWarnings("UnusedDeclaration")
     public static String getCountOfApprovedRequisitionsForCriteria(Map params) {
-      StringBuilder sql = new StringBuilder();
-      sql.append("SELECT COUNT(DISTINCT R.id) FROM Requisitions R ");
+      StringBuilder sql = new StringBuilder("SELECT COUNT(*) ").append(FROM_APPROVED_REQUISITIONS);
 
       appendQueryClausesBySearchType(sql, params);
       return sql.toString();
     }
 
+    private static StringBuilder selectApprovedRequisitions(Map<String, Object> params) {
+      StringBuilder sql = new StringBuilder();
+      sql.append("SELECT R.id, R.emergency, R.programId, R.facilityId, R.periodId, R.status, R.supervisoryNodeId," +
+        " R.modifiedDate as modifiedDate, RSC.createdDate as submittedDate, P.name AS programName, F.name AS facilityName," +
+        " F.code AS facilityCode, SF.name AS supplyingDepotName, PP.startDate as periodStartDate, PP.endDate as periodEndDate ")
+        .append(FROM_APPROVED_REQUISITIONS);
+
+      appendQueryClausesBySearchType(sql, params);
+      return sql;
+    }
+
+    private static void appendOrderBy(StringBuilder sql, Map<String, Object> params) {
+      String direction = isDescending(params) ? " DESC" : " ASC";
+      sql.append(" ORDER BY ").append(sortExpression(params)).append(direction).append(", R.id").append(direction);
+    }
+
+    private static String sortExpression(Map<String, Object> params) {
+      String sortExpression = SORT_EXPRESSIONS.get(params.get("sortBy"));
+      return sortExpression == null ? SORT_EXPRESSIONS.get(DEFAULT_SORT_KEY) : sortExpression;
+    }
+
+    private static boolean isDescending(Map<String, Object> params) {
+      return "desc".equalsIgnoreCase((String) params.get("sortDirection"));
+    }
+
     private static void appendQueryClausesBySearchType(StringBuilder sql, Map<String, Object> params) {
       String searchType = (String) params.get("searchType");
-      String searchVal = ((String) params.get("searchVal")).toLowerCase();
-      Long userId = (Long) params.get("userId");
-      Right right = (Right) params.get("right");
-
-      if (userId != null && right != null) {
-        sql.append("INNER JOIN supply_lines S ON R.supervisoryNodeId = S.supervisoryNodeId " +
-            "INNER JOIN fulfillment_role_assignments FRA ON S.supplyingFacilityId = FRA.facilityId " +
-            "INNER JOIN role_rights RR ON FRA.roleId = RR.roleId " +
-            "INNER JOIN Programs P ON P.id = R.programId " +
-            "INNER JOIN Facilities F ON F.id = R.facilityId " +
-            "LEFT JOIN Supply_lines SL ON (SL.supervisoryNodeId = R.supervisoryNodeId AND SL.programId = R.programId) " +
-            "LEFT JOIN Facilities SF ON SL.supplyingFacilityId = SF.id ");
-      }
+      String searchVal = (String) params.get("searchVal");
+      String pattern = "'%' || LOWER(#{searchVal}) || '%'";
 
       if (searchVal.isEmpty()) {
         sql.append("WHERE ");
       } else if (searchType.isEmpty() || searchType.equalsIgnoreCase(RequisitionService.SEARCH_ALL)) {
-        sql.append("WHERE (LOWER(P.name) LIKE '%" + searchVal + "%' OR LOWER(F.name) LIKE '%" +
-            searchVal + "%' OR LOWER(F.code) LIKE '%" + searchVal + "%' OR LOWER(SF.name) LIKE '%" + searchVal + "%') AND ");
+        sql.append("WHERE (LOWER(P.name) LIKE " + pattern + " OR LOWER(F.name) LIKE " + pattern +
+          " OR LOWER(F.code) LIKE " + pattern + " OR LOWER(SF.name) LIKE " + pattern + ") AND ");
       } else if (searchType.equalsIgnoreCase(RequisitionService.SEARCH_FACILITY_CODE)) {
-        sql.append("WHERE LOWER(F.code) LIKE '%" + searchVal + "%' AND ");
+        sql.append("WHERE LOWER(F.code) LIKE " + pattern + " AND ");
       } else if (searchType.equalsIgnoreCase(RequisitionService.SEARCH_FACILITY_NAME)) {
-        sql.append("WHERE LOWER(F.name) LIKE '%" + searchVal + "%' AND ");
+        sql.append("WHERE LOWER(F.name) LIKE " + pattern + " AND ");
       } else if (searchType.equalsIgnoreCase(RequisitionService.SEARCH_PROGRAM_NAME)) {
-        sql.append("WHERE LOWER(P.name) LIKE '%" + searchVal + "%' AND ");
+        sql.append("WHERE LOWER(P.name) LIKE " + pattern + " AND ");
       } else if (searchType.equalsIgnoreCase(RequisitionService.SEARCH_SUPPLYING_DEPOT_NAME)) {
-        sql.append("WHERE LOWER(SF.name) LIKE '%" + searchVal + "%' AND ");
+        sql.append("WHERE LOWER(SF.name) LIKE " + pattern + " AND ");
+      } else {
+        sql.append("WHERE ");
       }
-      sql.append("FRA.userId = " + userId + " AND RR.rightName = '" + right + "' AND ");
+      sql.append("EXISTS (SELECT 1 FROM supply_lines S " +
+        "INNER JOIN fulfillment_role_assignments FRA ON S.supplyingFacilityId = FRA.facilityId " +
+        "INNER JOIN role_rights RR ON FRA.roleId = RR.roleId " +
+        "WHERE S.supervisoryNodeId = R.supervisoryNodeId AND FRA.userId = #{userId} AND RR.rightName = #{right}) AND ");
       sql.append("R.status = 'APPROVED'");
     }
   }
@@ -30,9 +30,22 @@ public interface RequisitionStatusChangeMapper {
   @Options(useGeneratedKeys = true)
   void insert(RequisitionStatusChange statusChange);
 
+  @Insert({"<script>",
+    "INSERT INTO requisition_status_changes (rnrId, status, userName, createdBy, modifiedBy) VALUES",
+    "<foreach collection='statusChanges' item='statusChange' separator=','>",
+    "(#{statusChange.rnrId}, #{statusChange.status}, #{statusChange.userName}, #{statusChange.createdBy.id}, #{statusChange.createdBy.id})",
+    "</foreach>",
+    "</script>"})
+  void insertAll(@Param("statusChanges") List<RequisitionStatusChange> statusChanges);
+
   @Select("SELECT createdDate FROM requisition_status_changes WHERE rnrId = #{rnrId} AND status = #{status}")
   Date getOperationDateFor(@Param("rnrId") Long rnrId, @Param("status") String status);
 
+  @Select({"SELECT rnrId, createdDate FROM requisition_status_changes",
+    "WHERE rnrId = ANY(#{commaSeparatedRnrIds}::INTEGER[]) AND status = #{status}"})
+  List<RequisitionStatusChange> getOperationDatesFor(@Param("commaSeparatedRnrIds") String commaSeparatedRnrIds,
+                                                    @Param("status") String status);
+
   @Select({"SELECT rsc.*, u.firstName, u.lastName, u.id as userId from requisition_status_changes rsc",
     "INNER JOIN users u ON rsc.createdBy = u.id WHERE rnrId = #{rnrId}"})
   @Results({
@@ -13,6 +13,7 @@ package org.openlmis.rnr.repository.mapper;
 import org.apache.ibatis.annotations.*;
 import org.openlmis.rnr.domain.Rnr;
 import org.openlmis.rnr.domain.RnrLineItem;
+import org.openlmis.rnr.dto.ProductAuthorizedDateDTO;
 import org.springframework.stereotype.Repository;
 
 import java.util.Date;
@@ -25,21 +26,25 @@ import java.util.List;
 @Repository
 public interface RnrLineItemMapper {
 
-  @Insert({"INSERT INTO requisition_line_items",
+  @Insert({"<script>",
+    "INSERT INTO requisition_line_items",
     "(rnrId, productCode, product, productDisplayOrder, productCategory, productCategoryDisplayOrder, previousStockInHand, beginningBalance,",
     "quantityReceived, quantityDispensed, dispensingUnit,dosesPerMonth, dosesPerDispensingUnit, maxMonthsOfStock,",
     "totalLossesAndAdjustments, packsToShip, packSize, price, roundToZero, packRoundingThreshold, fullSupply,",
     "newPatientCount, stockOutDays, previousNormalizedConsumptions, reportingDays, ",
     "modifiedBy,createdBy)",
-    "VALUES (",
-    "#{lineItem.rnrId}, #{lineItem.productCode}, #{lineItem.product}, #{lineItem.productDisplayOrder}, #{lineItem.productCategory},",
+    "VALUES",
+    "<foreach collection='lineItems' item='lineItem' separator=','>",
+    "(#{lineItem.rnrId}, #{lineItem.productCode}, #{lineItem.product}, #{lineItem.productDisplayOrder}, #{lineItem.productCategory},",
     "#{lineItem.productCategoryDisplayOrder}, #{lineItem.previousStockInHand}, #{lineItem.beginningBalance}, #{lineItem.quantityReceived}, #{lineItem.quantityDispensed},",
     "#{lineItem.dispensingUnit},#{lineItem.dosesPerMonth}, #{lineItem.dosesPerDispensingUnit}, #{lineItem.maxMonthsOfStock},",
     "#{lineItem.totalLossesAndAdjustments}, #{lineItem.packsToShip}, #{lineItem.packSize}, #{lineItem.price},#{lineItem.roundToZero},",
     "#{lineItem.packRoundingThreshold}, #{lineItem.fullSupply}, #{lineItem.newPatientCount}, #{lineItem.stockOutDays},",
-    "#{previousNormalizedConsumptions}, #{lineItem.reportingDays}, #{lineItem.modifiedBy}, #{lineItem.createdBy})"})
-  @Options(useGeneratedKeys = true, keyProperty = "lineItem.id")
-  public Integer insert(@Param("lineItem") RnrLineItem rnrLineItem, @Param("previousNormalizedConsumptions") String previousNormalizedConsumptions);
+    "#{lineItem.previousNormalizedConsumptions, typeHandler=org.openlmis.rnr.repository.mapper.StringToList},",
+    "#{lineItem.reportingDays}, #{lineItem.modifiedBy}, #{lineItem.createdBy})",
+    "</foreach>",
+    "</script>"})
+  public Integer insertAll(@Param("lineItems") List<RnrLineItem> lineItems);
 
   @Select("SELECT * FROM requisition_line_items WHERE rnrId = #{rnrId} and fullSupply = true order by id")
   @Results(value = {
@@ -50,49 +55,76 @@ public interface RnrLineItemMapper {
   })
   public List<RnrLineItem> getRnrLineItemsByRnrId(Long rnrId);
 
-  @Update({"UPDATE requisition_line_items",
-    "SET quantityReceived = #{quantityReceived},",
-    "quantityDispensed = #{quantityDispensed},",
-    "previousStockInHand = #{previousStockInHand},",
-    "beginningBalance = #{beginningBalance},",
-    "stockInHand = #{stockInHand},",
-    "quantityRequested = #{quantityRequested},",
-    "reasonForRequestedQuantity = #{reasonForRequestedQuantity},",
-    "totalLossesAndAdjustments = #{totalLossesAndAdjustments},",
-    "calculatedOrderQuantity = #{calculatedOrderQuantity},",
-    "quantityApproved = #{quantityApproved},",
-    "newPatientCount = #{newPatientCount},",
-    "stockOutDays = #{stockOutDays},",
-    "normalizedConsumption = #{normalizedConsumption},",
-    "amc = #{amc},",
-    "maxStockQuantity = #{maxStockQuantity},",
-    "packsToShip = #{packsToShip},",
-    "remarks = #{remarks},",
-    "reportingDays = #{reportingDays},",
-    "expirationDate = #{expirationDate},",
-    "skipped = #{skipped},",
-    "modifiedBy = #{modifiedBy},",
-    "modifiedDate = CURRENT_TIMESTAMP",
-    "WHERE id = #{id}"
+  @Select({"SELECT * FROM requisition_line_items WHERE rnrId = ANY(#{commaSeparatedRnrIds}::INTEGER[])",
+    "ORDER BY rnrId, id"})
+  @Results(value = {
+    @Result(property = "id", column = "id"),
+    @Result(property = "previousNormalizedConsumptions", column = "previousNormalizedConsumptions", typeHandler = StringToList.class)
   })
-  int update(RnrLineItem rnrLineItem);
-
-  @Insert({"INSERT INTO requisition_line_items",
+  public List<RnrLineItem> getByRnrIds(@Param("commaSeparatedRnrIds") String commaSeparatedRnrIds);
+
+  @Update({"<script>",
+    "UPDATE requisition_line_items",
+    "SET quantityReceived = V.quantityReceived,",
+    "quantityDispensed = V.quantityDispensed,",
+    "previousStockInHand = V.previousStockInHand,",
+    "beginningBalance = V.beginningBalance,",
+    "stockInHand = V.stockInHand,",
+    "quantityRequested = V.quantityRequested,",
+    "reasonForRequestedQuantity = V.reasonForRequestedQuantity,",
+    "totalLossesAndAdjustments = V.totalLossesAndAdjustments,",
+    "calculatedOrderQuantity = V.calculatedOrderQuantity,",
+    "quantityApproved = V.quantityApproved,",
+    "newPatientCount = V.newPatientCount,",
+    "stockOutDays = V.stockOutDays,",
+    "normalizedConsumption = V.normalizedConsumption,",
+    "amc = V.amc,",
+    "maxStockQuantity = V.maxStockQuantity,",
+    "packsToShip = V.packsToShip,",
+    "remarks = V.remarks,",
+    "reportingDays = V.reportingDays,",
+    "expirationDate = V.expirationDate,",
+    "skipped = V.skipped,",
+    "modifiedBy = V.modifiedBy,",
+    "modifiedDate = CURRENT_TIMESTAMP",
+    "FROM (VALUES",
+    "<foreach collection='lineItems' item='lineItem' separator=','>",
+    "(#{lineItem.id}::INTEGER, #{lineItem.quantityReceived}::INTEGER, #{lineItem.quantityDispensed}::INTEGER,",
+    "#{lineItem.previousStockInHand}::INTEGER, #{lineItem.beginningBalance}::INTEGER, #{lineItem.stockInHand}::INTEGER,",
+    "#{lineItem.quantityRequested}::INTEGER, #{lineItem.reasonForRequestedQuantity}::TEXT, #{lineItem.totalLossesAndAdjustments}::INTEGER,",
+    "#{lineItem.calculatedOrderQuantity}::INTEGER, #{lineItem.quantityApproved}::INTEGER, #{lineItem.newPatientCount}::INTEGER,",
+    "#{lineItem.stockOutDays}::INTEGER, #{lineItem.normalizedConsumption}::INTEGER, #{lineItem.amc}::INTEGER,",
+    "#{lineItem.maxStockQuantity}::INTEGER, #{lineItem.packsToShip}::INTEGER, #{lineItem.remarks}::TEXT,",
+    "#{lineItem.reportingDays}::INTEGER, #{lineItem.expirationDate}::VARCHAR, #{lineItem.skipped}::BOOLEAN, #{lineItem.modifiedBy}::INTEGER)",
+    "</foreach>",
+    ") AS V (id, quantityReceived, quantityDispensed, previousStockInHand, beginningBalance, stockInHand, quantityRequested,",
+    "reasonForRequestedQuantity, totalLossesAndAdjustments, calculatedOrderQuantity, quantityApproved, newPatientCount,",
+    "stockOutDays, normalizedConsumption, amc, maxStockQuantity, packsToShip, remarks, reportingDays, expirationDate,",
+    "skipped, modifiedBy)",
+    "WHERE requisition_line_items.id = V.id",
+    "</script>"})
+  int updateAll(@Param("lineItems") List<RnrLineItem> lineItems);
+
+  @Insert({"<script>",
+    "INSERT INTO requisition_line_items",
     "(rnrId, productCode, product, productDisplayOrder, productCategory, productCategoryDisplayOrder, dispensingUnit,",
     "dosesPerMonth, dosesPerDispensingUnit, maxMonthsOfStock, packSize, price, roundToZero,",
     "packRoundingThreshold, fullSupply, modifiedBy, quantityReceived, quantityDispensed, beginningBalance,",
     "stockInHand, totalLossesAndAdjustments, calculatedOrderQuantity, quantityApproved,",
     "newPatientCount, stockOutDays, normalizedConsumption, amc, maxStockQuantity,",
     "remarks, quantityRequested, reasonForRequestedQuantity)",
-    "VALUES ( ",
-    "#{rnrId}, #{productCode}, #{product}, #{productDisplayOrder}, #{productCategory}, #{productCategoryDisplayOrder}, #{dispensingUnit},",
-    "#{dosesPerMonth}, #{dosesPerDispensingUnit}, #{maxMonthsOfStock},#{packSize}, #{price}, #{roundToZero},",
-    "#{packRoundingThreshold}, #{fullSupply}, #{modifiedBy}, 0, 0, 0,",
-    "0, 0, 0, #{quantityApproved},",
+    "VALUES",
+    "<foreach collection='lineItems' item='lineItem' separator=','>",
+    "(#{lineItem.rnrId}, #{lineItem.productCode}, #{lineItem.product}, #{lineItem.productDisplayOrder}, #{lineItem.productCategory},",
+    "#{lineItem.productCategoryDisplayOrder}, #{lineItem.dispensingUnit},",
+    "#{lineItem.dosesPerMonth}, #{lineItem.dosesPerDispensingUnit}, #{lineItem.maxMonthsOfStock},#{lineItem.packSize}, #{lineItem.price},",
+    "#{lineItem.roundToZero}, #{lineItem.packRoundingThreshold}, #{lineItem.fullSupply}, #{lineItem.modifiedBy}, 0, 0, 0,",
+    "0, 0, 0, #{lineItem.quantityApproved},",
     "0, 0, 0, 0, 0,",
-    " #{remarks}, #{quantityRequested}, #{reasonForRequestedQuantity})"})
-  @Options(useGeneratedKeys = true)
-  void insertNonFullSupply(RnrLineItem requisitionLineItem);
+    " #{lineItem.remarks}, #{lineItem.quantityRequested}, #{lineItem.reasonForRequestedQuantity})",
+    "</foreach>",
+    "</script>"})
+  void insertAllNonFullSupply(@Param("lineItems") List<RnrLineItem> lineItems);
 
   @Select("SELECT * FROM requisition_line_items WHERE rnrId = #{rnrId} AND fullSupply = false")
   public List<RnrLineItem> getNonFullSupplyRnrLineItemsByRnrId(Long rnrId);
@@ -104,32 +136,22 @@ public interface RnrLineItemMapper {
   @Select("SELECT COUNT(DISTINCT productCategory) FROM requisition_line_items WHERE rnrId=#{rnr.id} AND fullSupply = #{isFullSupply}")
   public Integer getCategoryCount(@Param(value = "rnr") Rnr rnr, @Param(value = "isFullSupply") Boolean isFullSupply);
 
-  @Update("UPDATE requisition_line_items " +
-    "SET quantityApproved = #{quantityApproved}, " +
-    " packsToShip = #{packsToShip}, " +
-    " remarks = #{remarks}, " +
-    " modifiedBy = #{modifiedBy}, " +
-    " modifiedDate = CURRENT_TIMESTAMP " +
-    " WHERE id = #{id}"
-  )
-  void updateOnApproval(RnrLineItem lineItem);
-
-  @Select("SELECT * FROM requisition_line_items WHERE rnrId = #{rnrId} AND productCode = #{productCode} AND fullSupply = false")
-  RnrLineItem getExistingNonFullSupplyItemByRnrIdAndProductCode(@Param(value = "rnrId") Long rnrId,
-                                                                @Param(value = "productCode") String productCode);
-
-  @Select({"SELECT RSC.createdDate FROM requisition_status_changes RSC INNER JOIN requisitions",
-    "R ON RSC.rnrId = R.id AND RSC.status = 'AUTHORIZED'",
-    "AND R.facilityId = #{rnr.facility.id}",
-    "AND R.programId = #{rnr.program.id}",
-    "AND RSC.createdDate >= #{periodStartDate}",
-    "INNER JOIN requisition_line_items RLI ON R.id = RLI.rnrId",
-    "AND RLI.skipped = false",
-    "AND RLI.productCode = #{productCode}",
-    "ORDER BY RSC.createdDate DESC LIMIT 1"})
-  Date getAuthorizedDateForPreviousLineItem(@Param("rnr") Rnr rnr,
-                                            @Param("productCode") String productCode,
-                                            @Param("periodStartDate") Date periodStartDate);
+  @Update({"<script>",
+    "UPDATE requisition_line_items",
+    "SET quantityApproved = V.quantityApproved,",
+    "packsToShip = V.packsToShip,",
+    "remarks = V.remarks,",
+    "modifiedBy = V.modifiedBy,",
+    "modifiedDate = CURRENT_TIMESTAMP",
+    "FROM (VALUES",
+    "<foreach collection='lineItems' item='lineItem' separator=','>",
+    "(#{lineItem.id}::INTEGER, #{lineItem.quantityApproved}::INTEGER, #{lineItem.packsToShip}::INTEGER,",
+    "#{lineItem.remarks}::TEXT, #{lineItem.modifiedBy}::INTEGER)",
+    "</foreach>",
+    ") AS V (id, quantityApproved, packsToShip, remarks, modifiedBy)",
+    "WHERE requisition_line_items.id = V.id",
+    "</script>"})
+  void updateAllOnApproval(@Param("lineItems") List<RnrLineItem> lineItems);
 
   @Select({"SELECT RLI.normalizedConsumption, RLI.stockInHand FROM requisition_line_items RLI",
     "INNER JOIN requisitions R ON R.id = RLI.rnrId",
@@ -147,6 +169,36 @@ public interface RnrLineItemMapper {
                                                            @Param("rnr") Rnr rnr, @Param("count") Integer count,
                                                            @Param("startDate") Date startDate);
 
+  @Select({"SELECT RLI.productCode, MAX(RSC.createdDate) AS authorizedDate FROM requisition_status_changes RSC",
+    "INNER JOIN requisitions R ON RSC.rnrId = R.id AND RSC.status = 'AUTHORIZED'",
+    "AND R.facilityId = #{rnr.facility.id}",
+    "AND R.programId = #{rnr.program.id}",
+    "AND RSC.createdDate >= #{periodStartDate}",
+    "INNER JOIN requisition_line_items RLI ON R.id = RLI.rnrId",
+    "AND RLI.skipped = false",
+    "GROUP BY RLI.productCode"})
+  List<ProductAuthorizedDateDTO> getAuthorizedDatesForPreviousLineItems(@Param("rnr") Rnr rnr,
+                                                                        @Param("periodStartDate") Date periodStartDate);
+
+  @Select({"SELECT productCode, normalizedConsumption, stockInHand FROM",
+    "(SELECT RLI.productCode, RLI.normalizedConsumption, RLI.stockInHand,",
+    "ROW_NUMBER() OVER (PARTITION BY RLI.productCode ORDER BY RSC.createdDate DESC) AS rowNumber",
+    "FROM requisition_line_items RLI",
+    "INNER JOIN requisitions R ON R.id = RLI.rnrId",
+    "AND R.facilityId = #{rnr.facility.id}",
+    "AND R.programId = #{rnr.program.id}",
+    "INNER JOIN requisition_status_changes",
+    "RSC ON RSC.rnrId = R.id",
+    "AND RLI.skipped = false",
+    "AND RSC.status = 'AUTHORIZED'",
+    "AND R.emergency = false",
+    "AND RSC.createdDate >= #{startDate}) AS previousLineItems",
+    "WHERE rowNumber <= #{count}",
+    "ORDER BY productCode, rowNumber"})
+  List<RnrLineItem> getAuthorizedRegularUnSkippedLineItemsForAllProducts(@Param("rnr") Rnr rnr,
+                                                                        @Param("count") Integer count,
+                                                                        @Param("startDate") Date startDate);
+
   @Select("SELECT * FROM requisition_line_items WHERE rnrId = #{rnrId} AND productCode = #{productCode} AND skipped = FALSE")
   @Results(value = {
     @Result(property = "id", column = "id"),
@@ -155,4 +207,12 @@ public interface RnrLineItemMapper {
       many = @Many(select = "org.openlmis.rnr.repository.mapper.LossesAndAdjustmentsMapper.getByRnrLineItem"))
   })
   RnrLineItem getNonSkippedLineItem(@Param("rnrId") Long rnrId, @Param("productCode") String productCode);
+
+  @Select({"SELECT * FROM requisition_line_items WHERE rnrId = ANY(#{commaSeparatedRnrIds}::INTEGER[]) AND skipped = FALSE",
+    "ORDER BY rnrId, id"})
+  @Results(value = {
+    @Result(property = "id", column = "id"),
+    @Result(property = "previousNormalizedConsumptions", column = "previousNormalizedConsumptions", typeHandler = StringToList.class)
+  })
+  List<RnrLineItem> getNonSkippedLineItemsByRnrIds(@Param("commaSeparatedRnrIds") String commaSeparatedRnrIds);
 }
@@ -17,6 +17,7 @@ import java.util.List;
 public class StringToList implements TypeHandler<List> {
   @Override
   public void setParameter(PreparedStatement ps, int i, List parameter, JdbcType jdbcType) throws SQLException {
+    ps.setString(i, parameter == null ? null : parameter.toString());
   }
 
   @Override
@@ -0,0 +1,46 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.rnr.service;
+
+import org.openlmis.core.service.ReferenceDataCache;
+import org.openlmis.core.service.ReferenceDataCache.Loader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps counts of approved requisitions per search and user for a short time, apart from the reference data cache,
+ * so that paging through the convert to order search does not count again for every page. All counts are evicted
+ * when a requisition is approved or released as an order; the short time to live bounds how long other changes,
+ * such as new role assignments, take to show.
+ */
+
+@Component
+public class ApprovedRequisitionCountCache {
+
+  private static final String COUNTS = "approvedRequisitionCounts";
+
+  private final ReferenceDataCache cache;
+
+  @Autowired
+  public ApprovedRequisitionCountCache(@Value("${approved.requisition.count.cache.ttl.seconds}") long timeToLiveSeconds,
+                                       @Value("${approved.requisition.count.cache.max.size}") int maxSize) {
+    this.cache = new ReferenceDataCache(timeToLiveSeconds, maxSize);
+  }
+
+  public Integer get(Object key, Loader<Integer> loader) {
+    return cache.get(COUNTS, key, loader);
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll(COUNTS);
+  }
+}
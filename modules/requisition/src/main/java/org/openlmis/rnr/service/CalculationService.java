@@ -10,7 +10,6 @@
 
 package org.openlmis.rnr.service;
 
-import org.apache.commons.collections.Transformer;
 import org.openlmis.core.domain.Money;
 import org.openlmis.core.domain.ProcessingPeriod;
 import org.openlmis.core.service.ProcessingScheduleService;
@@ -19,10 +18,10 @@ import org.openlmis.rnr.repository.RequisitionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
-
-import static org.apache.commons.collections.CollectionUtils.collect;
+import java.util.Map;
 
 /**
  * Exposes the services for calculating reference data for rnr and rnrLineItem.
@@ -60,8 +59,11 @@ public class CalculationService {
         twoPreviousPeriods.get(0).getStartDate();
     }
 
+    Map<String, Date> authorizedDates = requisition.isForVirtualFacility() ?
+      requisitionRepository.getAuthorizedDatesForPreviousLineItems(requisition, startDate) : null;
+
     for (RnrLineItem lineItem : requisition.getNonSkippedLineItems()) {
-      Integer reportingDays = getReportingDaysBasedOnRequisition(requisition, lineItem.getProductCode(), startDate, numberOfMonths);
+      Integer reportingDays = getReportingDaysBasedOnRequisition(requisition, lineItem.getProductCode(), numberOfMonths, authorizedDates);
       lineItem.setReportingDays(reportingDays);
     }
   }
@@ -94,11 +96,12 @@ public class CalculationService {
     fillPreviousNCsInLineItems(requisition, numberOfMonths, trackingDate);
   }
 
-  private Integer getReportingDaysBasedOnRequisition(Rnr requisition, String lineItemProductCode, Date startDate, Integer numberOfMonths) {
+  private Integer getReportingDaysBasedOnRequisition(Rnr requisition, String lineItemProductCode, Integer numberOfMonths,
+                                                     Map<String, Date> authorizedDates) {
     Integer reportingDays = numberOfMonths * 30;
 
     if (requisition.isForVirtualFacility()) {
-      Date calculationDate = requisitionRepository.getAuthorizedDateForPreviousLineItem(requisition, lineItemProductCode, startDate);
+      Date calculationDate = authorizedDates.get(lineItemProductCode);
       reportingDays = getDaysForNC(requisition.getCreatedDate(), calculationDate);
     } else if (requisition.isEmergency()) {
       reportingDays = getDaysForNC(requisition.getCreatedDate(), requisition.getPeriod().getStartDate());
@@ -118,16 +121,12 @@ public class CalculationService {
       return;
     }
 
+    Map<String, List<Integer>> previousNormalizedConsumptions = requisitionRepository.getPreviousNormalizedConsumptions(requisition,
+      getNumberOfPreviousNCToTrack(numberOfMonths), trackingDate);
+
     for (RnrLineItem lineItem : requisition.getFullSupplyLineItems()) {
-      List<RnrLineItem> previousLineItems = requisitionRepository.getAuthorizedRegularUnSkippedLineItems(lineItem.getProductCode(),
-        requisition, getNumberOfPreviousNCToTrack(numberOfMonths), trackingDate);
-      List<Integer> nNormalizedConsumptions = (List<Integer>) collect(previousLineItems, new Transformer() {
-        @Override
-        public Object transform(Object o) {
-          return ((RnrLineItem) o).getNormalizedConsumption();
-        }
-      });
-      lineItem.setPreviousNormalizedConsumptions(nNormalizedConsumptions);
+      List<Integer> nNormalizedConsumptions = previousNormalizedConsumptions.get(lineItem.getProductCode());
+      lineItem.setPreviousNormalizedConsumptions(nNormalizedConsumptions == null ? new ArrayList<Integer>() : nNormalizedConsumptions);
     }
   }
 
@@ -151,12 +150,13 @@ public class CalculationService {
   }
 
   private void calculateForFullSupply(Rnr requisition, ProgramRnrTemplate template) {
-    List<LossesAndAdjustmentsType> lossesAndAdjustmentsTypes = requisitionRepository.getLossesAndAdjustmentsTypes();
+    Map<String, Boolean> additivityByTypeName =
+      RnrLineItem.additivityByTypeName(requisitionRepository.getLossesAndAdjustmentsTypes());
 
     for (RnrLineItem lineItem : requisition.getNonSkippedLineItems()) {
 
       lineItem.validateMandatoryFields(template);
-      lineItem.calculateForFullSupply(template, requisition.getStatus(), lossesAndAdjustmentsTypes);
+      lineItem.calculateForFullSupply(template, requisition.getStatus(), additivityByTypeName);
       lineItem.validateCalculatedFields(template);
 
       requisition.addToFullSupplyCost(lineItem.calculateCost());
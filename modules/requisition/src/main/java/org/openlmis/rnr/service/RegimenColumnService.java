@@ -41,9 +41,13 @@ public class RegimenColumnService {
   @Autowired
   ProgramService programService;
 
+  @Autowired
+  RequisitionTemplateCache requisitionTemplateCache;
+
   public void save(RegimenTemplate regimenTemplate, Long userId) {
     repository.save(regimenTemplate, userId);
     programService.setRegimenTemplateConfigured(regimenTemplate.getProgramId());
+    requisitionTemplateCache.invalidateRegimenTemplate(regimenTemplate.getProgramId());
   }
 
   public List<RegimenColumn> getRegimenColumnsByProgramId(Long programId) {
@@ -59,7 +63,7 @@ public class RegimenColumnService {
   }
 
   public RegimenTemplate getRegimenTemplateByProgramId(Long programId) {
-    return new RegimenTemplate(programId, repository.getRegimenColumnsByProgramId(programId));
+    return requisitionTemplateCache.getRegimenTemplate(programId);
   }
 
   public List<RegimenColumn> getRegimenColumnsForPrintByProgramId(Long programId) {
@@ -10,28 +10,44 @@
 
 package org.openlmis.rnr.service;
 
-import org.ict4h.atomfeed.server.service.EventService;
+import org.ict4h.atomfeed.server.service.Event;
 import org.openlmis.core.exception.DataException;
+import org.openlmis.core.service.EventOutboxService;
 import org.openlmis.rnr.domain.Rnr;
 import org.openlmis.rnr.event.RequisitionStatusChangeEvent;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * Exposes the services for handling event of change in rnr status.
+ * Exposes the services for handling event of change in rnr status. Events are recorded in the outbox within the
+ * caller's transaction and published to the atom feed in the background.
  */
 
 @Service
 public class RequisitionEventService {
 
   @Autowired
-  EventService eventService;
+  EventOutboxService eventOutboxService;
 
   public void notifyForStatusChange(Rnr requisition) {
+    eventOutboxService.record(createEvent(requisition));
+  }
+
+  public void notifyForStatusChange(List<Rnr> requisitions) {
+    List<Event> events = new ArrayList<>();
+    for (Rnr requisition : requisitions) {
+      events.add(createEvent(requisition));
+    }
+    eventOutboxService.recordAll(events);
+  }
+
+  private Event createEvent(Rnr requisition) {
     try {
-      eventService.notify(new RequisitionStatusChangeEvent(requisition));
+      return new RequisitionStatusChangeEvent(requisition);
     } catch (URISyntaxException e) {
       throw new DataException("error.malformed.uri");
     }
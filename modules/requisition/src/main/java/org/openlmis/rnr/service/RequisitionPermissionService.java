@@ -10,19 +10,17 @@
 
 package org.openlmis.rnr.service;
 
-import org.apache.commons.collections.Predicate;
 import org.openlmis.core.domain.*;
 import org.openlmis.core.service.ProgramSupportedService;
 import org.openlmis.core.service.RoleAssignmentService;
 import org.openlmis.core.service.RoleRightsService;
+import org.openlmis.core.service.UserRightsCache;
 import org.openlmis.rnr.domain.Rnr;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
 import java.util.Set;
 
-import static org.apache.commons.collections.CollectionUtils.exists;
 import static org.openlmis.core.domain.Right.*;
 import static org.openlmis.rnr.domain.RnrStatus.*;
 
@@ -40,6 +38,8 @@ public class RequisitionPermissionService {
   private RoleAssignmentService roleAssignmentService;
   @Autowired
   ProgramSupportedService programSupportedService;
+  @Autowired
+  private UserRightsCache userRightsCache;
 
   public Boolean hasPermission(Long userId, Facility facility, Program program, Right right) {
     ProgramSupported programSupported = programSupportedService.getByFacilityIdAndProgramId(facility.getId(), program.getId());
@@ -65,16 +65,12 @@ public class RequisitionPermissionService {
         (rnr.getStatus() == IN_APPROVAL && hasPermissionToApprove(userId, rnr));
   }
 
-  private boolean hasPermissionToApprove(Long userId, final Rnr rnr) {
-    List<RoleAssignment> assignments = roleAssignmentService.getRoleAssignments(APPROVE_REQUISITION, userId);
-
-    return exists(assignments, new Predicate() {
-      @Override
-      public boolean evaluate(Object o) {
-        RoleAssignment roleAssignment = (RoleAssignment) o;
-        return (roleAssignment.getSupervisoryNode().getId().equals(rnr.getSupervisoryNodeId()) && roleAssignment.getProgramId().equals(rnr.getProgram().getId()));
-      }
-    });
+  private boolean hasPermissionToApprove(Long userId, Rnr rnr) {
+    UserRightsCache.UserRights userRights = userRightsCache.get(userId);
+    if (!userRights.isApproveAssignmentsLoaded()) {
+      userRights.setApproveAssignments(roleAssignmentService.getRoleAssignments(APPROVE_REQUISITION, userId));
+    }
+    return rnr.getSupervisoryNodeId() != null && userRights.canApprove(rnr.getSupervisoryNodeId(), rnr.getProgram().getId());
   }
 
   public boolean hasPermission(Long userId, Right right) {
@@ -15,9 +15,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.List;
+import java.util.*;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
@@ -89,6 +87,8 @@ public class RequisitionService {
   private DbMapper dbMapper;
   @Autowired
   private BudgetLineItemService budgetLineItemService;
+  @Autowired
+  private ApprovedRequisitionCountCache approvedRequisitionCountCache;
 
   private RequisitionSearchStrategyFactory requisitionSearchStrategyFactory;
 
@@ -233,21 +233,40 @@ public class RequisitionService {
 
     savedRnr.setModifiedBy(requisition.getModifiedBy());
     requisitionRepository.approve(savedRnr);
+    if (savedRnr.getStatus() == APPROVED) {
+      approvedRequisitionCountCache.invalidateAll();
+    }
 
     logStatusChangeAndNotify(savedRnr, notifyStatusChange, name);
 
     return savedRnr;
   }
 
-  public void releaseRequisitionsAsOrder(List<Rnr> requisitions, Long userId) {
+  /**
+   * Releases the given requisitions as orders in batches and returns lightweight projections of the released
+   * requisitions, as fetched by {@link RequisitionRepository#getStatusSummaries(List)}.
+   */
+  public List<Rnr> releaseRequisitionsAsOrder(List<Rnr> requisitions, Long userId) {
     if (!requisitionPermissionService.hasPermission(userId, CONVERT_TO_ORDER))
       throw new DataException(RNR_OPERATION_UNAUTHORIZED);
+
+    List<Long> rnrIds = new ArrayList<>();
     for (Rnr requisition : requisitions) {
-      Rnr loadedRequisition = requisitionRepository.getById(requisition.getId());
-      fillSupportingInfo(loadedRequisition);
-      loadedRequisition.convertToOrder(userId);
-      update(loadedRequisition);
+      rnrIds.add(requisition.getId());
     }
+
+    requisitionRepository.releaseAsOrder(rnrIds, userId);
+    approvedRequisitionCountCache.invalidateAll();
+    List<Rnr> releasedRequisitions = requisitionRepository.getStatusSummaries(rnrIds);
+    requisitionEventService.notifyForStatusChange(releasedRequisitions);
+    return releasedRequisitions;
+  }
+
+  /**
+   * Returns lightweight projections of the given requisitions, enough to publish status change events.
+   */
+  public List<Rnr> getStatusSummaries(List<Long> rnrIds) {
+    return requisitionRepository.getStatusSummaries(rnrIds);
   }
 
   public List<Rnr> get(RequisitionSearchCriteria criteria) {
@@ -260,9 +279,7 @@ public class RequisitionService {
   }
 
   private void fillSupportingInfo(List<Rnr> requisitions) {
-    for (Rnr rnr : requisitions) {
-      fillSupportingInfo(rnr);
-    }
+    fillFacilityPeriodProgramWithAuditFields(requisitions);
   }
 
   public List<LossesAndAdjustmentsType> getLossesAndAdjustmentsTypes() {
@@ -298,6 +315,19 @@ public class RequisitionService {
     return savedRnr;
   }
 
+  /**
+   * Loads many requisitions the way getFullRequisitionById loads one, sharing the facility, period, program and
+   * submitted date lookups across all of them.
+   */
+  public List<Rnr> getFullRequisitionsByIds(List<Long> ids) {
+    List<Rnr> requisitions = requisitionRepository.getByIds(ids);
+    fillFacilityPeriodProgramWithAuditFields(requisitions);
+    for (Rnr requisition : requisitions) {
+      fillSupplyingDepot(requisition);
+    }
+    return requisitions;
+  }
+
   ProcessingPeriod findPeriod(Facility facility, Program program, Boolean emergency) {
     if (!(emergency || facility.getVirtualFacility())) {
       return getPeriodForInitiating(facility, program);
@@ -353,7 +383,7 @@ public class RequisitionService {
       return null;
     }
 
-    fillFacilityPeriodProgramWithAuditFields(asList(requisition));
+    fillFacilityPeriodProgramWithAuditFields(requisition);
 
     return requisition;
   }
@@ -455,8 +485,34 @@ public class RequisitionService {
     return requisitions;
   }
 
-  public Integer getNumberOfPagesOfApprovedRequisitionsForCriteria(String searchType, String searchVal, Long userId, Right right) {
-    Integer approvedRequisitionsByCriteria = requisitionRepository.getCountOfApprovedRequisitionsForCriteria(searchType, searchVal, userId, right);
+  /**
+   * Returns the page of approved requisitions that follows the given requisition in the requested sort order, or the
+   * first page when no requisition is given. Unlike page numbers, the cost does not grow with the depth of the page.
+   */
+  public List<Rnr> getApprovedRequisitionsForCriteriaAfter(String searchType, String searchVal, Long afterRnrId,
+                                                           Long userId, Right right, String sortBy, String sortDirection) {
+    Integer pageSize = Integer.parseInt(staticReferenceDataService.getPropertyValue(CONVERT_TO_ORDER_PAGE_SIZE));
+
+    List<Rnr> requisitions = requisitionRepository.getApprovedRequisitionsForCriteriaAfter(searchType, searchVal,
+      afterRnrId, pageSize, userId, right, sortBy, sortDirection);
+
+    fillFacilityPeriodProgramWithAuditFields(requisitions);
+    fillSupplyingFacility(requisitions.toArray(new Rnr[requisitions.size()]));
+    return requisitions;
+  }
+
+  /**
+   * Counts are kept briefly per search and user in the {@link ApprovedRequisitionCountCache}.
+   */
+  public Integer getNumberOfPagesOfApprovedRequisitionsForCriteria(final String searchType, final String searchVal,
+                                                                   final Long userId, final Right right) {
+    Integer approvedRequisitionsByCriteria = approvedRequisitionCountCache.get(
+      asList(searchType, searchVal.toLowerCase(), userId, right), new ReferenceDataCache.Loader<Integer>() {
+        @Override
+        public Integer load() {
+          return requisitionRepository.getCountOfApprovedRequisitionsForCriteria(searchType, searchVal, userId, right);
+        }
+      });
     Integer pageSize = Integer.parseInt(staticReferenceDataService.getPropertyValue(CONVERT_TO_ORDER_PAGE_SIZE));
     return (int) Math.ceil(approvedRequisitionsByCriteria.doubleValue() / pageSize.doubleValue());
   }
@@ -486,19 +542,57 @@ public class RequisitionService {
     return requisitionRepository.getFacilityId(id);
   }
 
+  private void fillFacilityPeriodProgramWithAuditFields(Rnr requisition) {
+    Facility facility = facilityService.getById(requisition.getFacility().getId());
+    ProcessingPeriod period = processingScheduleService.getPeriodById(requisition.getPeriod().getId());
+    Program program = programService.getById(requisition.getProgram().getId());
+
+    requisition.fillBasicInformation(facility, program, period);
+    requisition.setSubmittedDate(getOperationDateFor(requisition.getId(), SUBMITTED.toString()));
+  }
+
   private void fillFacilityPeriodProgramWithAuditFields(List<Rnr> requisitions) {
+    if (requisitions.isEmpty()) return;
+
+    Set<Long> rnrIds = new LinkedHashSet<>();
+    Set<Long> facilityIds = new LinkedHashSet<>();
+    Set<Long> periodIds = new LinkedHashSet<>();
+    Set<Long> programIds = new LinkedHashSet<>();
     for (Rnr requisition : requisitions) {
-      Facility facility = facilityService.getById(requisition.getFacility().getId());
-      ProcessingPeriod period = processingScheduleService.getPeriodById(requisition.getPeriod().getId());
-      Program program = programService.getById(requisition.getProgram().getId());
+      rnrIds.add(requisition.getId());
+      facilityIds.add(requisition.getFacility().getId());
+      periodIds.add(requisition.getPeriod().getId());
+      programIds.add(requisition.getProgram().getId());
+    }
+
+    Map<Long, Facility> facilities = new HashMap<>();
+    for (Facility facility : facilityService.getAllByIds(new ArrayList<>(facilityIds))) {
+      facilities.put(facility.getId(), facility);
+    }
+    Map<Long, ProcessingPeriod> periods = new HashMap<>();
+    for (ProcessingPeriod period : processingScheduleService.getPeriodsByIds(new ArrayList<>(periodIds))) {
+      periods.put(period.getId(), period);
+    }
+    Map<Long, Program> programs = new HashMap<>();
+    for (Program program : programService.getAllByIds(new ArrayList<>(programIds))) {
+      programs.put(program.getId(), program);
+    }
+    Map<Long, Date> submittedDates = requisitionRepository.getOperationDatesFor(new ArrayList<>(rnrIds), SUBMITTED.toString());
 
-      requisition.fillBasicInformation(facility, program, period);
-      requisition.setSubmittedDate(getOperationDateFor(requisition.getId(), SUBMITTED.toString()));
+    for (Rnr requisition : requisitions) {
+      requisition.fillBasicInformation(facilities.get(requisition.getFacility().getId()),
+        programs.get(requisition.getProgram().getId()),
+        periods.get(requisition.getPeriod().getId()));
+      requisition.setSubmittedDate(submittedDates.get(requisition.getId()));
     }
   }
 
   public RnrLineItem getNonSkippedLineItem(Long rnrId, String productCode) {
     return requisitionRepository.getNonSkippedLineItem(rnrId, productCode);
   }
+
+  public List<RnrLineItem> getNonSkippedLineItems(List<Long> rnrIds) {
+    return requisitionRepository.getNonSkippedLineItems(rnrIds);
+  }
 }
 
@@ -0,0 +1,198 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.rnr.service;
+
+import org.openlmis.core.domain.Program;
+import org.openlmis.core.service.ProgramService;
+import org.openlmis.rnr.domain.Column;
+import org.openlmis.rnr.domain.ProgramRnrTemplate;
+import org.openlmis.rnr.domain.RegimenColumn;
+import org.openlmis.rnr.domain.RegimenTemplate;
+import org.openlmis.rnr.domain.RnrColumn;
+import org.openlmis.rnr.repository.RegimenColumnRepository;
+import org.openlmis.rnr.repository.RnrTemplateRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Keeps the rnr and regimen template columns of each program in memory, as unmodifiable lists, for the requisition
+ * workflow. Every template handed out is a new template over the cached columns. A program's entries are evicted
+ * when its template is saved, and again when the saving transaction completes. Loads that started before an eviction
+ * are not cached. The cache can be warmed for all configured programs when the application context starts.
+ */
+
+@Component
+public class RequisitionTemplateCache implements ApplicationListener<ContextRefreshedEvent> {
+
+  private static final Logger logger = LoggerFactory.getLogger(RequisitionTemplateCache.class);
+
+  @Autowired
+  private RnrTemplateRepository rnrTemplateRepository;
+
+  @Autowired
+  private RegimenColumnRepository regimenColumnRepository;
+
+  @Autowired
+  private ProgramService programService;
+
+  @Value("${requisition.template.cache.warm.on.startup}")
+  private boolean warmOnStartup;
+
+  private final AtomicBoolean warmed = new AtomicBoolean(false);
+
+  private final AtomicLong version = new AtomicLong();
+
+  private final AtomicLong hits = new AtomicLong();
+
+  private final AtomicLong misses = new AtomicLong();
+
+  private final ConcurrentMap<Long, List<RnrColumn>> programTemplateColumns = new ConcurrentHashMap<>();
+
+  private final ConcurrentMap<Long, List<RnrColumn>> requisitionColumns = new ConcurrentHashMap<>();
+
+  private final ConcurrentMap<Long, List<RegimenColumn>> regimenColumns = new ConcurrentHashMap<>();
+
+  private final ColumnLoader<RnrColumn> programTemplateColumnLoader = new ColumnLoader<RnrColumn>() {
+    @Override
+    public List<RnrColumn> load(Long programId) {
+      return rnrTemplateRepository.fetchRnrTemplateColumnsOrMasterColumns(programId);
+    }
+  };
+
+  private final ColumnLoader<RnrColumn> requisitionColumnLoader = new ColumnLoader<RnrColumn>() {
+    @Override
+    public List<RnrColumn> load(Long programId) {
+      return rnrTemplateRepository.fetchColumnsForRequisition(programId);
+    }
+  };
+
+  private final ColumnLoader<RegimenColumn> regimenColumnLoader = new ColumnLoader<RegimenColumn>() {
+    @Override
+    public List<RegimenColumn> load(Long programId) {
+      return regimenColumnRepository.getRegimenColumnsByProgramId(programId);
+    }
+  };
+
+  public ProgramRnrTemplate getProgramTemplate(Long programId) {
+    return new ProgramRnrTemplate(programId, get(programTemplateColumns, programId, programTemplateColumnLoader));
+  }
+
+  public ProgramRnrTemplate getProgramTemplateForRequisition(Long programId) {
+    return new ProgramRnrTemplate(programId, get(requisitionColumns, programId, requisitionColumnLoader));
+  }
+
+  public RegimenTemplate getRegimenTemplate(Long programId) {
+    return new RegimenTemplate(programId, get(regimenColumns, programId, regimenColumnLoader));
+  }
+
+  public void invalidateProgramTemplate(final Long programId) {
+    evictNowAndOnCompletion(new Runnable() {
+      @Override
+      public void run() {
+        programTemplateColumns.remove(programId);
+        requisitionColumns.remove(programId);
+      }
+    });
+  }
+
+  public void invalidateRegimenTemplate(final Long programId) {
+    evictNowAndOnCompletion(new Runnable() {
+      @Override
+      public void run() {
+        regimenColumns.remove(programId);
+      }
+    });
+  }
+
+  public void warm() {
+    for (Program program : programService.getAll()) {
+      if (program.isTemplateConfigured()) {
+        getProgramTemplate(program.getId());
+        getProgramTemplateForRequisition(program.getId());
+      }
+      if (program.isRegimenTemplateConfigured()) {
+        getRegimenTemplate(program.getId());
+      }
+    }
+  }
+
+  @Override
+  public void onApplicationEvent(ContextRefreshedEvent event) {
+    if (!warmOnStartup || !warmed.compareAndSet(false, true)) return;
+
+    try {
+      warm();
+    } catch (Exception e) {
+      logger.warn("Could not warm requisition template cache", e);
+    }
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  private <C extends Column> List<C> get(ConcurrentMap<Long, List<C>> cache, Long programId, ColumnLoader<C> loader) {
+    List<C> columns = cache.get(programId);
+    if (columns != null) {
+      hits.incrementAndGet();
+      return columns;
+    }
+
+    misses.incrementAndGet();
+    long loadedVersion = version.get();
+    columns = unmodifiableList(new ArrayList<C>(loader.load(programId)));
+    if (loadedVersion == version.get()) {
+      cache.putIfAbsent(programId, columns);
+      if (loadedVersion != version.get()) {
+        cache.remove(programId, columns);
+      }
+    }
+    return columns;
+  }
+
+  private void evictNowAndOnCompletion(final Runnable eviction) {
+    version.incrementAndGet();
+    eviction.run();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+        @Override
+        public void afterCompletion(int status) {
+          version.incrementAndGet();
+          eviction.run();
+        }
+      });
+    }
+  }
+
+  private interface ColumnLoader<C extends Column> {
+    List<C> load(Long programId);
+  }
+}
@@ -35,6 +35,9 @@ public class RnrTemplateService {
   @Autowired
   private ProgramService programService;
 
+  @Autowired
+  private RequisitionTemplateCache requisitionTemplateCache;
+
   public List<RnrColumn> fetchAllRnRColumns(Long programId) {
     return rnrRepository.fetchRnrTemplateColumnsOrMasterColumns(programId);
   }
@@ -46,6 +49,7 @@ public class RnrTemplateService {
     if (errors.isEmpty()) {
       rnrRepository.saveProgramRnrTemplate(programTemplate);
       programService.setTemplateConfigured(programTemplate.getProgramId());
+      requisitionTemplateCache.invalidateProgramTemplate(programTemplate.getProgramId());
     }
 
     return errors;
@@ -56,10 +60,10 @@ public class RnrTemplateService {
   }
 
   public ProgramRnrTemplate fetchProgramTemplate(Long programId) {
-    return new ProgramRnrTemplate(programId, fetchAllRnRColumns(programId));
+    return requisitionTemplateCache.getProgramTemplate(programId);
   }
 
   public ProgramRnrTemplate fetchProgramTemplateForRequisition(Long programId) {
-    return new ProgramRnrTemplate(programId ,fetchColumnsForRequisition(programId));
+    return requisitionTemplateCache.getProgramTemplateForRequisition(programId);
   }
 }
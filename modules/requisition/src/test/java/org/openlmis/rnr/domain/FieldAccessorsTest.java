@@ -0,0 +1,64 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.rnr.domain;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.ExpectedException;
+import org.openlmis.db.categories.UnitTests;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+@Category(UnitTests.class)
+public class FieldAccessorsTest {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  @Test
+  public void shouldShareAccessorsOfAClass() throws Exception {
+    assertThat(FieldAccessors.of(RnrLineItem.class), is(sameInstance(FieldAccessors.of(RnrLineItem.class))));
+  }
+
+  @Test
+  public void shouldReadWriteAndCopyDeclaredFieldsByName() throws Exception {
+    FieldAccessors accessors = FieldAccessors.of(RnrLineItem.class);
+    RnrLineItem source = new RnrLineItem();
+    RnrLineItem destination = new RnrLineItem();
+
+    accessors.set(source, "quantityRequested", 10);
+    accessors.copy("quantityRequested", source, destination);
+
+    assertThat(source.getQuantityRequested(), is(10));
+    assertThat((Integer) accessors.get(destination, "quantityRequested"), is(10));
+  }
+
+  @Test
+  public void shouldOnlyExposeInstanceFieldsDeclaredByTheClass() throws Exception {
+    FieldAccessors accessors = FieldAccessors.of(RnrLineItem.class);
+
+    assertTrue(accessors.has("stockInHand"));
+    assertFalse(accessors.has("NUMBER_OF_DAYS"));
+    assertFalse(accessors.has("rnrId"));
+  }
+
+  @Test
+  public void shouldThrowExceptionForUnknownField() throws Exception {
+    expectedException.expect(NoSuchFieldException.class);
+
+    FieldAccessors.of(RegimenLineItem.class).get(new RegimenLineItem(), "unknown");
+  }
+}
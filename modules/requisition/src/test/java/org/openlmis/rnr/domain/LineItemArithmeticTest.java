@@ -0,0 +1,85 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.rnr.domain;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openlmis.db.categories.UnitTests;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static java.math.RoundingMode.HALF_UP;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.openlmis.rnr.domain.RnrLineItem.MATH_CONTEXT;
+import static org.openlmis.rnr.domain.RnrLineItem.NUMBER_OF_DAYS;
+
+@Category(UnitTests.class)
+public class LineItemArithmeticTest {
+
+  private final Random random = new Random(42);
+
+  @Test
+  public void shouldDivideAndRoundHalfUpLikeBigDecimal() throws Exception {
+    assertThat(LineItemArithmetic.divideAndRound(5, 2), is(3L));
+    assertThat(LineItemArithmetic.divideAndRound(-5, 2), is(-3L));
+    assertThat(LineItemArithmetic.divideAndRound(4, 3), is(1L));
+    assertThat(LineItemArithmetic.divideAndRound(Integer.MIN_VALUE, 7), is(expectedQuotient(Integer.MIN_VALUE, 7)));
+
+    for (int i = 0; i < 100000; i++) {
+      long dividend = random.nextInt();
+      long divisor = 1 + random.nextInt(i % 2 == 0 ? 10 : Integer.MAX_VALUE);
+      assertThat(LineItemArithmetic.divideAndRound(dividend, divisor), is(expectedQuotient(dividend, divisor)));
+    }
+  }
+
+  @Test
+  public void shouldCalculateNormalizedConsumptionLikeBigDecimal() throws Exception {
+    assertThat(LineItemArithmetic.normalizedConsumption(5, 10, 1, 10, 10, 30), is(13));
+    assertThat(LineItemArithmetic.normalizedConsumption(30, 10, 1, 10, 10, 30), is(11));
+    assertThat(LineItemArithmetic.normalizedConsumption(0, 10, 1, 10, 10, null), is(11));
+
+    for (int i = 0; i < 100000; i++) {
+      int bound = i % 2 == 0 ? 1000 : Integer.MAX_VALUE;
+      int stockOutDays = random.nextInt(100) - 10;
+      int quantityDispensed = random.nextInt(bound) - bound / 4;
+      int newPatientCount = random.nextInt(bound) - bound / 4;
+      int dosesPerMonth = random.nextInt(bound);
+      int dosesPerDispensingUnit = 1 + random.nextInt(i % 3 == 0 ? bound : 20);
+      Integer reportingDays = i % 10 == 0 ? null : random.nextInt(i % 7 == 0 ? 100000 : 100);
+
+      assertThat(LineItemArithmetic.normalizedConsumption(stockOutDays, quantityDispensed, newPatientCount, dosesPerMonth,
+          dosesPerDispensingUnit, reportingDays),
+        is(expectedNormalizedConsumption(stockOutDays, quantityDispensed, newPatientCount, dosesPerMonth,
+          dosesPerDispensingUnit, reportingDays)));
+    }
+  }
+
+  private long expectedQuotient(long dividend, long divisor) {
+    return new BigDecimal(dividend).divide(new BigDecimal(divisor), MATH_CONTEXT).setScale(0, HALF_UP).longValue();
+  }
+
+  private int expectedNormalizedConsumption(int stockOutDays, int quantityDispensed, int newPatientCount,
+                                            int dosesPerMonth, int dosesPerDispensingUnit, Integer reportingDays) {
+    BigDecimal newPatientFactor = new BigDecimal(newPatientCount).multiply(new BigDecimal(dosesPerMonth)
+      .divide(new BigDecimal(dosesPerDispensingUnit), MATH_CONTEXT).setScale(0, HALF_UP));
+
+    if (reportingDays == null || stockOutDays >= reportingDays) {
+      return new BigDecimal(quantityDispensed).add(newPatientFactor).setScale(0, HALF_UP).intValue();
+    }
+
+    BigDecimal stockOutFactor = new BigDecimal(quantityDispensed).multiply(NUMBER_OF_DAYS
+      .divide(new BigDecimal(reportingDays).subtract(new BigDecimal(stockOutDays)), MATH_CONTEXT));
+
+    return stockOutFactor.add(newPatientFactor).setScale(0, HALF_UP).intValue();
+  }
+}
@@ -444,6 +444,37 @@ public class RnrTest {
     assertThat(savedRnr.findCorrespondingLineItem(rnrLineItem), is(nullValue()));
   }
 
+  @Test
+  public void shouldFindCorrespondingLineItemIgnoringCaseAfterLineItemsChange() {
+    Rnr savedRnr = make(a(RequisitionBuilder.defaultRequisition));
+    RnrLineItem fullSupplyLineItem = make(a(RnrLineItemBuilder.defaultRnrLineItem, with(RnrLineItemBuilder.productCode, "P11")));
+    RnrLineItem nonFullSupplyLineItem = make(a(RnrLineItemBuilder.defaultRnrLineItem, with(RnrLineItemBuilder.productCode, "P12")));
+    savedRnr.setFullSupplyLineItems(asList(fullSupplyLineItem));
+    RnrLineItem reportedLineItem = make(a(RnrLineItemBuilder.defaultRnrLineItem, with(RnrLineItemBuilder.productCode, "p12")));
+
+    assertThat(savedRnr.findCorrespondingLineItem(reportedLineItem), is(nullValue()));
+
+    savedRnr.getNonFullSupplyLineItems().add(nonFullSupplyLineItem);
+
+    assertThat(savedRnr.findCorrespondingLineItem(reportedLineItem), is(nonFullSupplyLineItem));
+  }
+
+  @Test
+  public void shouldFindCorrespondingRegimenLineItemByCode() {
+    Rnr savedRnr = make(a(RequisitionBuilder.defaultRequisition));
+    RegimenLineItem regimenLineItem = new RegimenLineItem();
+    regimenLineItem.setCode("R01");
+    savedRnr.setRegimenLineItems(asList(regimenLineItem));
+    RegimenLineItem reportedRegimenLineItem = new RegimenLineItem();
+    reportedRegimenLineItem.setCode("r01");
+
+    assertThat(savedRnr.findCorrespondingRegimenLineItem(reportedRegimenLineItem), is(regimenLineItem));
+
+    regimenLineItem.setCode("R02");
+
+    assertThat(savedRnr.findCorrespondingRegimenLineItem(reportedRegimenLineItem), is(nullValue()));
+  }
+
   @Test
   public void shouldReturnNonSkippedLineItemsForRnrWithoutAffectingFullSupplyLineItems() throws Exception {
     Rnr savedRnr = make(a(defaultRequisition));
@@ -26,12 +26,15 @@ import org.openlmis.core.repository.helper.CommaSeparator;
 import org.openlmis.db.categories.UnitTests;
 import org.openlmis.rnr.builder.RnrLineItemBuilder;
 import org.openlmis.rnr.domain.*;
+import org.openlmis.rnr.dto.ProductAuthorizedDateDTO;
 import org.openlmis.rnr.repository.mapper.*;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import static com.natpryce.makeiteasy.MakeItEasy.*;
 import static java.util.Arrays.asList;
@@ -118,9 +121,10 @@ public class RequisitionRepositoryTest {
     requisitionRepository.insert(rnr);
     assertThat(rnr.getStatus(), is(INITIATED));
     verify(requisitionMapper).insert(rnr);
-    verify(rnrLineItemMapper, times(2)).insert(any(RnrLineItem.class), anyString());
-    verify(lossesAndAdjustmentsMapper, never()).insert(any(RnrLineItem.class), any(LossesAndAdjustments.class));
-    verify(regimenLineItemMapper, times(1)).insert(any(RegimenLineItem.class));
+    verify(rnrLineItemMapper).insertAll(asList(rnrLineItem1, rnrLineItem2));
+    verify(rnrLineItemMapper, times(1)).insertAll(anyList());
+    verify(lossesAndAdjustmentsMapper, never()).insertAll(anyList());
+    verify(regimenLineItemMapper).insertAll(asList(regimenLineItem));
     RnrLineItem rnrLineItem = rnr.getFullSupplyLineItems().get(0);
     assertThat(rnrLineItem.getRnrId(), is(1L));
     assertThat(regimenLineItem.getRnrId(), is(1L));
@@ -128,14 +132,38 @@ public class RequisitionRepositoryTest {
 
   @Test
   public void shouldUpdateRnrAndItsLineItemsAlongWithLossesAndAdjustments() throws Exception {
+    when(separator.commaSeparateIds(asList(rnrLineItem1, rnrLineItem2))).thenReturn("{1, 2}");
+
     requisitionRepository.update(rnr);
+
     verify(requisitionMapper).update(rnr);
-    verify(lossesAndAdjustmentsMapper).deleteByLineItemId(rnrLineItem1.getId());
-    verify(lossesAndAdjustmentsMapper).deleteByLineItemId(rnrLineItem2.getId());
-    verify(lossesAndAdjustmentsMapper).insert(rnrLineItem1, lossAndAdjustmentForLineItem);
-    verify(lossesAndAdjustmentsMapper).insert(rnrLineItem2, lossAndAdjustmentForLineItem);
-    verify(rnrLineItemMapper).update(rnrLineItem1);
-    verify(rnrLineItemMapper).update(rnrLineItem2);
+    verify(lossesAndAdjustmentsMapper).deleteByLineItemIds("{1, 2}");
+    verify(lossesAndAdjustmentsMapper).insertAll(asList(rnrLineItem1, rnrLineItem2));
+    verify(rnrLineItemMapper).updateAll(asList(rnrLineItem1, rnrLineItem2));
+    verify(regimenLineItemMapper).updateAll(asList(regimenLineItem));
+  }
+
+  @Test
+  public void shouldNotInsertLossesAndAdjustmentsForLineItemsWithoutAny() throws Exception {
+    rnrLineItem2.setLossesAndAdjustments(new ArrayList<LossesAndAdjustments>());
+
+    requisitionRepository.update(rnr);
+
+    verify(lossesAndAdjustmentsMapper).insertAll(asList(rnrLineItem1));
+  }
+
+  @Test
+  public void shouldSplitLineItemsIntoBatchesWhileInserting() throws Exception {
+    List<RnrLineItem> lineItems = new ArrayList<>();
+    for (int i = 0; i < RequisitionRepository.BATCH_SIZE + 1; i++) {
+      lineItems.add(new RnrLineItem());
+    }
+    rnr.setFullSupplyLineItems(lineItems);
+
+    requisitionRepository.insert(rnr);
+
+    verify(rnrLineItemMapper).insertAll(lineItems.subList(0, RequisitionRepository.BATCH_SIZE));
+    verify(rnrLineItemMapper).insertAll(lineItems.subList(RequisitionRepository.BATCH_SIZE, lineItems.size()));
   }
 
   @Test
@@ -147,11 +175,10 @@ public class RequisitionRepositoryTest {
     rnr.setNonFullSupplyLineItems(nonFullSupplyLineItems);
     requisitionRepository.approve(rnr);
     verify(requisitionMapper).update(rnr);
-    verify(lossesAndAdjustmentsMapper, never()).deleteByLineItemId(rnrLineItem1.getId());
-    verify(lossesAndAdjustmentsMapper, never()).insert(rnrLineItem1, lossAndAdjustmentForLineItem);
-    verify(rnrLineItemMapper).updateOnApproval(rnrLineItem1);
-    verify(rnrLineItemMapper).updateOnApproval(rnrLineItem2);
-    verify(rnrLineItemMapper).updateOnApproval(nonFullSupplyLineItem);
+    verify(lossesAndAdjustmentsMapper, never()).deleteByLineItemIds(anyString());
+    verify(lossesAndAdjustmentsMapper, never()).insertAll(anyList());
+    verify(rnrLineItemMapper).updateAllOnApproval(asList(rnrLineItem1, rnrLineItem2));
+    verify(rnrLineItemMapper).updateAllOnApproval(asList(nonFullSupplyLineItem));
   }
 
   @Test
@@ -166,9 +193,9 @@ public class RequisitionRepositoryTest {
 
   @Test
   public void shouldGetRnrById() throws Exception {
-    Rnr expectedRnr = new Rnr();
+    Rnr expectedRnr = new Rnr(1L);
     Long rnrId = 1L;
-    when(requisitionMapper.getById(rnrId)).thenReturn(expectedRnr);
+    when(requisitionMapper.getByIds("{1}")).thenReturn(asList(expectedRnr));
     Rnr returnedRnr = requisitionRepository.getById(rnrId);
     assertThat(returnedRnr, is(expectedRnr));
   }
@@ -176,12 +203,42 @@ public class RequisitionRepositoryTest {
   @Test
   public void shouldThrowExceptionIfRnrNotFound() throws Exception {
     Long rnrId = 1L;
-    when(requisitionMapper.getById(rnrId)).thenReturn(null);
+    when(requisitionMapper.getByIds("{1}")).thenReturn(new ArrayList<Rnr>());
     expectedException.expect(DataException.class);
     expectedException.expectMessage("error.rnr.not.found");
     requisitionRepository.getById(rnrId);
   }
 
+  @Test
+  public void shouldGetRequisitionsByIdsWithTheirLineItemsAndLossesAndAdjustmentsInFourQueries() throws Exception {
+    Rnr requisition1 = new Rnr(1L);
+    Rnr requisition2 = new Rnr(2L);
+    RnrLineItem fullSupplyItem = lineItem(11L, 1L, true);
+    RnrLineItem nonFullSupplyItem = lineItem(12L, 1L, false);
+    RnrLineItem otherRequisitionItem = lineItem(21L, 2L, true);
+    LossesAndAdjustments lossesAndAdjustments = new LossesAndAdjustments(new LossesAndAdjustmentsType(), 5);
+    lossesAndAdjustments.setRnrLineItemId(11L);
+    RegimenLineItem regimenLineItem = new RegimenLineItem();
+    regimenLineItem.setRnrId(2L);
+
+    when(requisitionMapper.getByIds("{1, 2}")).thenReturn(asList(requisition1, requisition2));
+    when(rnrLineItemMapper.getByRnrIds("{1, 2}")).thenReturn(asList(fullSupplyItem, nonFullSupplyItem, otherRequisitionItem));
+    when(lossesAndAdjustmentsMapper.getByRnrIds("{1, 2}")).thenReturn(asList(lossesAndAdjustments));
+    when(regimenLineItemMapper.getByRnrIds("{1, 2}")).thenReturn(asList(regimenLineItem));
+
+    List<Rnr> requisitions = requisitionRepository.getByIds(asList(1L, 2L));
+
+    assertThat(requisitions, is(asList(requisition1, requisition2)));
+    assertThat(requisition1.getFullSupplyLineItems(), is(asList(fullSupplyItem)));
+    assertThat(requisition1.getNonFullSupplyLineItems(), is(asList(nonFullSupplyItem)));
+    assertThat(requisition2.getFullSupplyLineItems(), is(asList(otherRequisitionItem)));
+    assertThat(fullSupplyItem.getLossesAndAdjustments(), is(asList(lossesAndAdjustments)));
+    assertThat(requisition1.getRegimenLineItems().size(), is(0));
+    assertThat(requisition2.getRegimenLineItems(), is(asList(regimenLineItem)));
+    verify(requisitionMapper, never()).getById(anyLong());
+    verify(rnrLineItemMapper, never()).getRnrLineItemsByRnrId(anyLong());
+  }
+
   @Test
   public void shouldGetRequisitionByRoleAssignment() throws Exception {
     List<Rnr> requisitions = new ArrayList<>();
@@ -213,9 +270,8 @@ public class RequisitionRepositoryTest {
 
     requisitionRepository.update(rnr);
 
-    verify(rnrLineItemMapper).insertNonFullSupply(rnrLineItem);
-    verify(rnrLineItemMapper).insertNonFullSupply(rnrLineItem2);
-    verify(rnrLineItemMapper, never()).insertNonFullSupply(fullSupply);
+    verify(rnrLineItemMapper).insertAllNonFullSupply(asList(rnrLineItem, rnrLineItem2));
+    verify(rnrLineItemMapper, times(1)).insertAllNonFullSupply(anyList());
   }
 
   @Test
@@ -230,8 +286,7 @@ public class RequisitionRepositoryTest {
     rnrLineItem2.setRnrId(rnrId);
     rnr.add(rnrLineItem, false);
     rnr.add(rnrLineItem2, false);
-    when(rnrLineItemMapper.getExistingNonFullSupplyItemByRnrIdAndProductCode(rnrId, "P1")).thenReturn(rnrLineItem);
-    when(rnrLineItemMapper.getExistingNonFullSupplyItemByRnrIdAndProductCode(rnrId, "P2")).thenReturn(rnrLineItem2);
+    when(rnrLineItemMapper.getNonFullSupplyRnrLineItemsByRnrId(rnrId)).thenReturn(asList(rnrLineItem, rnrLineItem2));
 
     rnrLineItem.setQuantityApproved(5);
     rnrLineItem2.setQuantityRequested(3);
@@ -239,10 +294,9 @@ public class RequisitionRepositoryTest {
     rnr.setStatus(IN_APPROVAL);
     requisitionRepository.update(rnr);
 
-    verify(rnrLineItemMapper).updateOnApproval(rnr.getFullSupplyLineItems().get(0));
-    verify(rnrLineItemMapper).updateOnApproval(rnr.getFullSupplyLineItems().get(1));
-    verify(rnrLineItemMapper).updateOnApproval(rnr.getNonFullSupplyLineItems().get(0));
-    verify(rnrLineItemMapper).updateOnApproval(rnr.getNonFullSupplyLineItems().get(1));
+    verify(rnrLineItemMapper).updateAllOnApproval(rnr.getFullSupplyLineItems());
+    verify(rnrLineItemMapper).updateAllOnApproval(rnr.getNonFullSupplyLineItems());
+    verify(rnrLineItemMapper, never()).insertAllNonFullSupply(anyList());
   }
 
   @Test
@@ -253,16 +307,15 @@ public class RequisitionRepositoryTest {
     rnrLineItem.setProductCode("P1");
     rnrLineItem.setRnrId(rnrId);
     rnr.add(rnrLineItem, false);
-    when(rnrLineItemMapper.getExistingNonFullSupplyItemByRnrIdAndProductCode(rnrId, "P1")).thenReturn(rnrLineItem);
+    when(rnrLineItemMapper.getNonFullSupplyRnrLineItemsByRnrId(rnrId)).thenReturn(asList(rnrLineItem));
 
     rnrLineItem.setQuantityApproved(5);
 
     rnr.setStatus(INITIATED);
     requisitionRepository.update(rnr);
 
-    verify(rnrLineItemMapper).update(rnr.getFullSupplyLineItems().get(0));
-    verify(rnrLineItemMapper).update(rnr.getFullSupplyLineItems().get(1));
-    verify(rnrLineItemMapper).update(rnr.getNonFullSupplyLineItems().get(0));
+    verify(rnrLineItemMapper).updateAll(rnr.getFullSupplyLineItems());
+    verify(rnrLineItemMapper).updateAll(rnr.getNonFullSupplyLineItems());
   }
 
   @Test
@@ -311,6 +364,45 @@ public class RequisitionRepositoryTest {
     verify(commentMapper).insert(comment);
   }
 
+  @Test
+  public void shouldGetOperationDatesForAllRequisitionsInOneQuery() throws Exception {
+    Date submittedDate = new Date();
+    RequisitionStatusChange statusChange = new RequisitionStatusChange(1L, RnrStatus.SUBMITTED, null, submittedDate);
+    when(requisitionStatusChangeMapper.getOperationDatesFor("{1, 2}", "SUBMITTED")).thenReturn(asList(statusChange));
+
+    Map<Long, Date> operationDates = requisitionRepository.getOperationDatesFor(asList(1L, 2L), "SUBMITTED");
+
+    assertThat(operationDates.get(1L), is(submittedDate));
+    assertThat(operationDates.containsKey(2L), is(false));
+  }
+
+  @Test
+  public void shouldGroupPreviousNormalizedConsumptionsByProductCode() throws Exception {
+    Rnr requisition = new Rnr();
+    Date startDate = new Date();
+    when(rnrLineItemMapper.getAuthorizedRegularUnSkippedLineItemsForAllProducts(requisition, 2, startDate))
+      .thenReturn(asList(previousLineItem("P1", 10), previousLineItem("P1", 20), previousLineItem("P2", 30)));
+
+    Map<String, List<Integer>> normalizedConsumptions = requisitionRepository.getPreviousNormalizedConsumptions(requisition, 2, startDate);
+
+    assertThat(normalizedConsumptions.get("P1"), is(asList(10, 20)));
+    assertThat(normalizedConsumptions.get("P2"), is(asList(30)));
+  }
+
+  @Test
+  public void shouldGetAuthorizedDatesForPreviousLineItemsByProductCode() throws Exception {
+    Rnr requisition = new Rnr();
+    Date startDate = new Date();
+    Date authorizedDate = new Date();
+    when(rnrLineItemMapper.getAuthorizedDatesForPreviousLineItems(requisition, startDate))
+      .thenReturn(asList(new ProductAuthorizedDateDTO("P1", authorizedDate)));
+
+    Map<String, Date> authorizedDates = requisitionRepository.getAuthorizedDatesForPreviousLineItems(requisition, startDate);
+
+    assertThat(authorizedDates.get("P1"), is(authorizedDate));
+    assertThat(authorizedDates.containsKey("P2"), is(false));
+  }
+
   @Test
   public void shouldLogRequisitionStatusChanges() throws Exception {
     Rnr requisition = new Rnr();
@@ -383,6 +475,18 @@ public class RequisitionRepositoryTest {
         pageSize, 1l, Right.CONVERT_TO_ORDER, sortBy, sortDirection);
   }
 
+  @Test
+  public void shouldGetApprovedRequisitionsForCriteriaAfterGivenRequisition() throws Exception {
+    List<Rnr> expected = mock(List.class);
+    when(requisitionMapper.getApprovedRequisitionsForCriteriaAfter(SEARCH_ALL, "test", 42L, 2, 1l,
+        Right.CONVERT_TO_ORDER, "submittedDate", "desc")).thenReturn(expected);
+
+    List<Rnr> rnrList = requisitionRepository.getApprovedRequisitionsForCriteriaAfter(SEARCH_ALL, "test", 42L, 2, 1l,
+        Right.CONVERT_TO_ORDER, "submittedDate", "desc");
+
+    assertThat(rnrList, is(expected));
+  }
+
   @Test
   public void shouldGetCountOfApprovedRequisitionsForCriteriaAndPageNumber() throws Exception {
 
@@ -422,4 +526,52 @@ public class RequisitionRepositoryTest {
 
     assertThat(lineItem, is(expectedLineItem));
   }
+
+  @Test
+  public void shouldGetNonSkippedLineItemsForRequisitions() throws Exception {
+    List<RnrLineItem> expectedLineItems = asList(new RnrLineItem(), new RnrLineItem());
+    when(rnrLineItemMapper.getNonSkippedLineItemsByRnrIds("{5, 6}")).thenReturn(expectedLineItems);
+
+    List<RnrLineItem> lineItems = requisitionRepository.getNonSkippedLineItems(asList(5L, 6L));
+
+    assertThat(lineItems, is(expectedLineItems));
+  }
+
+  @Test
+  public void shouldReleaseRequisitionsAsOrderAndLogStatusChangesInBatches() throws Exception {
+    List<Long> rnrIds = new ArrayList<>();
+    for (long id = 1; id <= RequisitionRepository.BATCH_SIZE + 1; id++) {
+      rnrIds.add(id);
+    }
+
+    requisitionRepository.releaseAsOrder(rnrIds, 3L);
+
+    verify(requisitionMapper).releaseAsOrder(CommaSeparator.commaSeparateValues(rnrIds.subList(0, RequisitionRepository.BATCH_SIZE)), 3L);
+    verify(requisitionMapper).releaseAsOrder("{" + (RequisitionRepository.BATCH_SIZE + 1) + "}", 3L);
+    verify(requisitionStatusChangeMapper, times(2)).insertAll(anyList());
+    verify(requisitionStatusChangeMapper, never()).insert(any(RequisitionStatusChange.class));
+  }
+
+  @Test
+  public void shouldGetStatusSummariesOfRequisitions() throws Exception {
+    List<Rnr> summaries = asList(new Rnr(1L), new Rnr(2L));
+    when(requisitionMapper.getStatusSummaries("{1, 2}")).thenReturn(summaries);
+
+    assertThat(requisitionRepository.getStatusSummaries(asList(1L, 2L)), is(summaries));
+  }
+
+  private RnrLineItem previousLineItem(String productCode, Integer normalizedConsumption) {
+    RnrLineItem lineItem = new RnrLineItem();
+    lineItem.setProductCode(productCode);
+    lineItem.setNormalizedConsumption(normalizedConsumption);
+    return lineItem;
+  }
+
+  private RnrLineItem lineItem(Long id, Long rnrId, Boolean fullSupply) {
+    RnrLineItem lineItem = new RnrLineItem();
+    lineItem.setId(id);
+    lineItem.setRnrId(rnrId);
+    lineItem.setFullSupply(fullSupply);
+    return lineItem;
+  }
 }
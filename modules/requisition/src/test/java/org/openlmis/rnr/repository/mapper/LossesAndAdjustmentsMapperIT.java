@@ -34,6 +34,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 import static com.natpryce.makeiteasy.MakeItEasy.*;
+import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.junit.Assert.assertThat;
@@ -98,7 +99,8 @@ public class LossesAndAdjustmentsMapperIT {
     requisitionMapper.insert(requisition);
 
     rnrLineItem = new RnrLineItem(requisition.getId(), facilityTypeApprovedProduct, MODIFIED_BY, 1L);
-    rnrLineItemMapper.insert(rnrLineItem, null);
+    rnrLineItemMapper.insertAll(asList(rnrLineItem));
+    rnrLineItem.setId(rnrLineItemMapper.getByRnrIds("{" + requisition.getId() + "}").get(0).getId());
     lossAndAdjustment = new LossesAndAdjustments();
     LossesAndAdjustmentsType lossesAndAdjustmentsType = new LossesAndAdjustmentsType();
     lossesAndAdjustmentsType.setName("CLINIC_RETURN");
@@ -127,6 +129,41 @@ public class LossesAndAdjustmentsMapperIT {
     assertThat(lossesAndAdjustmentsMapper.getByRnrLineItem(rnrLineItem.getId()).size(), is(0));
   }
 
+  @Test
+  public void shouldInsertLossesAndAdjustmentsForAllLineItems() throws Exception {
+    LossesAndAdjustmentsType transferIn = new LossesAndAdjustmentsType();
+    transferIn.setName("TRANSFER_IN");
+    rnrLineItem.addLossesAndAdjustments(lossAndAdjustment);
+    rnrLineItem.addLossesAndAdjustments(new LossesAndAdjustments(transferIn, 45));
+
+    lossesAndAdjustmentsMapper.insertAll(asList(rnrLineItem));
+
+    assertThat(lossesAndAdjustmentsMapper.getByRnrLineItem(rnrLineItem.getId()).size(), is(2));
+  }
+
+  @Test
+  public void shouldDeleteLossesAndAdjustmentsForAllGivenLineItems() throws Exception {
+    lossesAndAdjustmentsMapper.insert(rnrLineItem, lossAndAdjustment);
+
+    lossesAndAdjustmentsMapper.deleteByLineItemIds("{" + rnrLineItem.getId() + "}");
+
+    assertThat(lossesAndAdjustmentsMapper.getByRnrLineItem(rnrLineItem.getId()).size(), is(0));
+  }
+
+  @Test
+  public void shouldGetLossesAndAdjustmentsWithTypeAndLineItemIdForRequisitions() throws Exception {
+    lossesAndAdjustmentsMapper.insert(rnrLineItem, lossAndAdjustment);
+
+    List<LossesAndAdjustments> lossesAndAdjustmentsList = lossesAndAdjustmentsMapper.getByRnrIds("{" + rnrLineItem.getRnrId() + "}");
+
+    assertThat(lossesAndAdjustmentsList.size(), is(1));
+    LossesAndAdjustments lineItemLossAndAdjustment = lossesAndAdjustmentsList.get(0);
+    assertThat(lineItemLossAndAdjustment.getRnrLineItemId(), is(rnrLineItem.getId()));
+    assertThat(lineItemLossAndAdjustment.getQuantity(), is(20));
+    assertThat(lineItemLossAndAdjustment.getModifiedBy(), is(MODIFIED_BY));
+    assertThat(lineItemLossAndAdjustment.getType(), is(lossesAndAdjustmentsMapper.getLossesAndAdjustmentTypeByName("CLINIC_RETURN")));
+  }
+
   @Test
   public void shouldReturnAllLossesAndAdjustmentsTypesAccordingToDisplayOrder() {
     List<LossesAndAdjustmentsType> lossesAndAdjustmentsTypes = lossesAndAdjustmentsMapper.getLossesAndAdjustmentsTypes();
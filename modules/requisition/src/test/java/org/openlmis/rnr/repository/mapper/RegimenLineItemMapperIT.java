@@ -37,9 +37,9 @@ import java.sql.ResultSet;
 import java.util.List;
 
 import static com.natpryce.makeiteasy.MakeItEasy.*;
-import static junit.framework.Assert.assertNotNull;
-import static junit.framework.Assert.assertTrue;
+import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
 import static org.openlmis.core.builder.ProcessingPeriodBuilder.defaultProcessingPeriod;
 import static org.openlmis.core.builder.ProcessingPeriodBuilder.scheduleId;
@@ -91,16 +91,9 @@ public class RegimenLineItemMapperIT {
     regimenLineItem = new RegimenLineItem(rnr.getId(), category, 1L, 1L);
   }
 
-  @Test
-  public void shouldInsertRegimenLineItem() throws Exception {
-    mapper.insert(regimenLineItem);
-
-    assertNotNull(regimenLineItem.getId());
-  }
-
   @Test
   public void shouldGetRegimenLineItems() throws Exception {
-    mapper.insert(regimenLineItem);
+    mapper.insertAll(asList(regimenLineItem));
 
     List<RegimenLineItem> returnedRegimenLineItems = mapper.getRegimenLineItemsByRnrId(rnr.getId());
 
@@ -113,30 +106,33 @@ public class RegimenLineItemMapperIT {
   }
 
   @Test
-  public void shouldUpdateRegimenLineItem() throws Exception {
+  public void shouldInsertAllRegimenLineItemsInOneStatement() throws Exception {
+    mapper.insertAll(asList(regimenLineItem));
+
+    List<RegimenLineItem> returnedRegimenLineItems = mapper.getRegimenLineItemsByRnrId(rnr.getId());
 
-    mapper.insert(regimenLineItem);
+    assertThat(returnedRegimenLineItems.size(), is(1));
+    assertThat(returnedRegimenLineItems.get(0).getCategory().getName(), is(regimenLineItem.getCategory().getName()));
+  }
+
+  @Test
+  public void shouldUpdateAllRegimenLineItemsInOneStatement() throws Exception {
+    mapper.insertAll(asList(regimenLineItem));
+    regimenLineItem.setId(mapper.getRegimenLineItemsByRnrId(rnr.getId()).get(0).getId());
 
-    regimenLineItem.setPatientsToInitiateTreatment(100);
     regimenLineItem.setPatientsOnTreatment(1000);
-    regimenLineItem.setPatientsStoppedTreatment(200);
+    regimenLineItem.setPatientsToInitiateTreatment(null);
     regimenLineItem.setRemarks("Remarks");
-    regimenLineItem.setModifiedBy(1L);
-
-    ResultSet resultSetBeforeUpdate = queryExecutor.execute("SELECT * from regimen_line_items where id=?", regimenLineItem.getId());
-    resultSetBeforeUpdate.next();
+    regimenLineItem.setModifiedBy(2L);
 
-    mapper.update(regimenLineItem);
+    mapper.updateAll(asList(regimenLineItem));
 
     ResultSet resultSet = queryExecutor.execute("SELECT * from regimen_line_items where id=?", regimenLineItem.getId());
     resultSet.next();
 
-    assertThat(resultSet.getInt("patientsToInitiateTreatment"), is(100));
     assertThat(resultSet.getInt("patientsOnTreatment"), is(1000));
-    assertThat(resultSet.getInt("patientsStoppedTreatment"), is(200));
+    assertThat(resultSet.getObject("patientsToInitiateTreatment"), is(nullValue()));
     assertThat(resultSet.getString("remarks"), is("Remarks"));
-    assertTrue(resultSet.getDate("modifiedDate") != resultSetBeforeUpdate.getDate("modifiedDate"));
-    assertThat(resultSet.getLong("modifiedBy"), is(1L));
-
+    assertThat(resultSet.getLong("modifiedBy"), is(2L));
   }
 }
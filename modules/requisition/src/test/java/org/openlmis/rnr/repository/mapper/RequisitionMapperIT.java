@@ -22,7 +22,6 @@ import org.openlmis.core.domain.*;
 import org.openlmis.core.query.QueryExecutor;
 import org.openlmis.core.repository.mapper.*;
 import org.openlmis.db.categories.IntegrationTests;
-import org.openlmis.rnr.builder.RnrLineItemBuilder;
 import org.openlmis.rnr.domain.*;
 import org.openlmis.rnr.service.RequisitionService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -84,8 +83,6 @@ public class RequisitionMapperIT {
   @Autowired
   RnrLineItemMapper lineItemMapper;
   @Autowired
-  LossesAndAdjustmentsMapper lossesAndAdjustmentsMapper;
-  @Autowired
   private ProcessingPeriodMapper processingPeriodMapper;
   @Autowired
   private ProcessingScheduleMapper processingScheduleMapper;
@@ -145,21 +142,13 @@ public class RequisitionMapperIT {
 
     mapper.insert(requisition);
 
-    Product product = insertProduct(true, "P1");
-    RnrLineItem fullSupplyLineItem = make(a(defaultRnrLineItem, with(fullSupply, true), with(productCode, product.getCode())));
-    RnrLineItem nonFullSupplyLineItem = make(a(defaultRnrLineItem, with(fullSupply, false), with(productCode, product.getCode())));
-    fullSupplyLineItem.setRnrId(requisition.getId());
-    nonFullSupplyLineItem.setRnrId(requisition.getId());
-    lineItemMapper.insert(fullSupplyLineItem, Collections.EMPTY_LIST.toString());
-    lineItemMapper.insert(nonFullSupplyLineItem, Collections.EMPTY_LIST.toString());
-
     User author = new User();
     author.setId(1L);
     Comment comment = new Comment(requisition.getId(), author, "A comment", null);
     commentMapper.insert(comment);
     updateSupplyingDepotForRequisition(requisition);
 
-    Rnr fetchedRequisition = mapper.getById(requisition.getId());
+    Rnr fetchedRequisition = mapper.getByIds("{" + requisition.getId() + "}").get(0);
 
     assertThat(fetchedRequisition.getId(), is(requisition.getId()));
     assertThat(fetchedRequisition.getProgram().getId(), is(equalTo(program.getId())));
@@ -167,8 +156,6 @@ public class RequisitionMapperIT {
     assertThat(fetchedRequisition.getPeriod().getId(), is(equalTo(processingPeriod1.getId())));
     assertThat(fetchedRequisition.getModifiedBy(), is(equalTo(MODIFIED_BY)));
     assertThat(fetchedRequisition.getStatus(), is(equalTo(INITIATED)));
-    assertThat(fetchedRequisition.getFullSupplyLineItems().size(), is(1));
-    assertThat(fetchedRequisition.getNonFullSupplyLineItems().size(), is(1));
     assertThat(fetchedRequisition.getAllocatedBudget(), is(new BigDecimal(123.45).setScale(2, RoundingMode.FLOOR)));
   }
 
@@ -183,13 +170,36 @@ public class RequisitionMapperIT {
 
     mapper.update(requisition);
 
-    Rnr updatedRequisition = mapper.getById(requisition.getId());
+    Rnr updatedRequisition = mapper.getByIds("{" + requisition.getId() + "}").get(0);
 
     assertThat(updatedRequisition.getId(), is(requisition.getId()));
     assertThat(updatedRequisition.getSupervisoryNodeId(), is(requisition.getSupervisoryNodeId()));
     assertThat(updatedRequisition.getModifiedBy(), is(equalTo(USER_ID)));
   }
 
+  @Test
+  public void shouldReleaseRequisitionsAsOrderAndFetchTheirStatusSummaries() {
+    Rnr requisition1 = insertRequisition(processingPeriod1, program, APPROVED, false, facility, supervisoryNode, modifiedDate);
+    Rnr requisition2 = insertRequisition(processingPeriod2, program, APPROVED, true, facility, supervisoryNode, modifiedDate);
+    Rnr untouchedRequisition = insertRequisition(processingPeriod3, program, APPROVED, false, facility, supervisoryNode, modifiedDate);
+
+    String rnrIds = "{" + requisition1.getId() + "," + requisition2.getId() + "}";
+    mapper.releaseAsOrder(rnrIds, USER_ID);
+
+    List<Rnr> summaries = mapper.getStatusSummaries(rnrIds);
+
+    assertThat(summaries.size(), is(2));
+    for (Rnr summary : summaries) {
+      assertThat(summary.getStatus(), is(RELEASED));
+      assertThat(summary.getModifiedBy(), is(USER_ID));
+      assertThat(summary.getSupervisoryNodeId(), is(supervisoryNode.getId()));
+      assertThat(summary.getProgram().getId(), is(program.getId()));
+      assertThat(summary.getPeriod().getStartDate(), is(notNullValue()));
+      assertThat(summary.getFullSupplyLineItems().isEmpty(), is(true));
+    }
+    assertThat(mapper.getByIds("{" + untouchedRequisition.getId() + "}").get(0).getStatus(), is(APPROVED));
+  }
+
   @Test
   public void shouldReturnRequisitionWithLineItemsByFacilityProgramAndPeriod() {
     Product fullSupplyProduct = insertProduct(true, "P1");
@@ -255,22 +265,24 @@ public class RequisitionMapperIT {
   }
 
   @Test
-  public void shouldPopulateLineItemsWhenGettingRnrById() throws Exception {
-    Rnr requisition = insertRequisition(processingPeriod1, program, INITIATED, false, facility, supervisoryNode, modifiedDate);
+  public void shouldGetRequisitionsByIdsWithoutLoadingLineItems() throws Exception {
+    Rnr requisition1 = insertRequisition(processingPeriod1, program, INITIATED, false, facility, supervisoryNode, modifiedDate);
+    Rnr requisition2 = insertRequisition(processingPeriod2, program, INITIATED, false, facility, supervisoryNode, modifiedDate);
+    insertRequisition(processingPeriod3, program, INITIATED, false, facility, supervisoryNode, modifiedDate);
     Product product = insertProduct(true, "P1");
     ProgramProduct programProduct = insertProgramProduct(product, program);
-    FacilityTypeApprovedProduct facilityTypeApprovedProduct = insertFacilityApprovedProduct(programProduct);
+    insertRnrLineItem(requisition1, insertFacilityApprovedProduct(programProduct));
 
-    RnrLineItem item1 = insertRnrLineItem(requisition, facilityTypeApprovedProduct);
-    lossesAndAdjustmentsMapper.insert(item1, RnrLineItemBuilder.ONE_LOSS);
-    Rnr returnedRequisition = mapper.getById(requisition.getId());
+    List<Rnr> requisitions = mapper.getByIds("{" + requisition2.getId() + "," + requisition1.getId() + "}");
 
-    assertThat(returnedRequisition.getFullSupplyLineItems().size(), is(1));
-    final RnrLineItem item = returnedRequisition.getFullSupplyLineItems().get(0);
-    assertThat(item.getLossesAndAdjustments().size(), is(1));
-    assertThat(returnedRequisition.getFacility().getId(), is(requisition.getFacility().getId()));
-    assertThat(returnedRequisition.getStatus(), is(requisition.getStatus()));
-    assertThat(returnedRequisition.getId(), is(requisition.getId()));
+    assertThat(requisitions.size(), is(2));
+    assertThat(requisitions.get(0).getId(), is(requisition1.getId()));
+    assertThat(requisitions.get(0).getFacility().getId(), is(facility.getId()));
+    assertThat(requisitions.get(0).getProgram().getId(), is(program.getId()));
+    assertThat(requisitions.get(0).getPeriod().getId(), is(processingPeriod1.getId()));
+    assertThat(requisitions.get(0).getStatus(), is(INITIATED));
+    assertThat(requisitions.get(0).getFullSupplyLineItems().size(), is(0));
+    assertThat(requisitions.get(1).getId(), is(requisition2.getId()));
   }
 
   @Test
@@ -377,6 +389,48 @@ public class RequisitionMapperIT {
     assertThat(requisitions.get(1), is(requisition2));
   }
 
+  @Test
+  public void shouldGetApprovedRequisitionsAfterGivenRequisitionInSortOrder() throws SQLException {
+    Long userId = insertUser();
+    insertRoleForApprovedRequisitions(facility.getId(), userId);
+
+    Rnr requisition1 = insertRequisition(processingPeriod1, program, SUBMITTED, false, facility, supervisoryNode, modifiedDate);
+    Rnr requisition2 = insertRequisition(processingPeriod2, program, SUBMITTED, false, facility, supervisoryNode, modifiedDate);
+    Rnr requisition3 = insertRequisition(processingPeriod3, program, SUBMITTED, false, facility, supervisoryNode, modifiedDate);
+    approve(requisition1, requisition2, requisition3);
+
+    List<Rnr> firstPage = mapper.getApprovedRequisitionsForCriteriaAfter("", "", null, 2, userId,
+      Right.CONVERT_TO_ORDER, "submittedDate", "asc");
+    List<Rnr> nextPage = mapper.getApprovedRequisitionsForCriteriaAfter("", "", requisition1.getId(), 2, userId,
+      Right.CONVERT_TO_ORDER, "submittedDate", "asc");
+    List<Rnr> previousInDescendingOrder = mapper.getApprovedRequisitionsForCriteriaAfter("", "", requisition3.getId(), 2,
+      userId, Right.CONVERT_TO_ORDER, "submittedDate", "desc");
+
+    assertThat(firstPage.size(), is(2));
+    assertThat(firstPage.get(0).getId(), is(requisition1.getId()));
+    assertThat(nextPage.size(), is(2));
+    assertThat(nextPage.get(0).getId(), is(requisition2.getId()));
+    assertThat(nextPage.get(1).getId(), is(requisition3.getId()));
+    assertThat(previousInDescendingOrder.get(0).getId(), is(requisition2.getId()));
+    assertThat(previousInDescendingOrder.get(1).getId(), is(requisition1.getId()));
+  }
+
+  @Test
+  public void shouldCountApprovedRequisitionsForCriteria() throws SQLException {
+    Long userId = insertUser();
+    insertRoleForApprovedRequisitions(facility.getId(), userId);
+
+    Rnr requisition1 = insertRequisition(processingPeriod1, program, SUBMITTED, false, facility, supervisoryNode, modifiedDate);
+    Rnr requisition2 = insertRequisition(processingPeriod2, program, SUBMITTED, false, facility, supervisoryNode, modifiedDate);
+    insertRequisition(processingPeriod3, program, SUBMITTED, false, facility, supervisoryNode, modifiedDate);
+    approve(requisition1, requisition2);
+
+    Integer count = mapper.getCountOfApprovedRequisitionsForCriteria(RequisitionService.SEARCH_FACILITY_NAME, "Apollo",
+      userId, Right.CONVERT_TO_ORDER);
+
+    assertThat(count, is(2));
+  }
+
   @Test
   public void shouldGetApprovedRequisitionsForCriteriaAndPageNumberWhenSearchingByFacilityName() throws SQLException {
     Long userId = insertUser();
@@ -738,8 +792,7 @@ public class RequisitionMapperIT {
     RnrLineItem nonFullSupplyLineItem = make(a(defaultRnrLineItem, with(fullSupply, false), with(productCode, product.getCode())));
     fullSupplyLineItem.setRnrId(requisition.getId());
     nonFullSupplyLineItem.setRnrId(requisition.getId());
-    lineItemMapper.insert(fullSupplyLineItem, null);
-    lineItemMapper.insert(nonFullSupplyLineItem, null);
+    lineItemMapper.insertAll(asList(fullSupplyLineItem, nonFullSupplyLineItem));
 
     User author = new User();
     author.setId(1L);
@@ -814,7 +867,9 @@ public class RequisitionMapperIT {
 
   private RnrLineItem insertRnrLineItem(Rnr rnr, FacilityTypeApprovedProduct facilityTypeApprovedProduct) {
     RnrLineItem item = new RnrLineItem(rnr.getId(), facilityTypeApprovedProduct, 1L, 1L);
-    lineItemMapper.insert(item, Collections.EMPTY_LIST.toString());
+    lineItemMapper.insertAll(asList(item));
+    List<RnrLineItem> lineItems = lineItemMapper.getByRnrIds("{" + rnr.getId() + "}");
+    item.setId(lineItems.get(lineItems.size() - 1).getId());
     return item;
   }
 
@@ -25,6 +25,7 @@ import org.openlmis.core.repository.mapper.*;
 import org.openlmis.db.categories.IntegrationTests;
 import org.openlmis.rnr.builder.RequisitionBuilder;
 import org.openlmis.rnr.domain.*;
+import org.openlmis.rnr.dto.ProductAuthorizedDateDTO;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
@@ -126,7 +127,7 @@ public class RnrLineItemMapperIT {
     lineItem.setFullSupply(true);
     lineItem.setReportingDays(10);
     lineItem.setPreviousStockInHand(5);
-    rnrLineItemMapper.insert(lineItem, lineItem.getPreviousNormalizedConsumptions().toString());
+    insertLineItem(lineItem);
 
     LossesAndAdjustments lossesAndAdjustmentsClinicReturn = new LossesAndAdjustments();
     LossesAndAdjustmentsType lossesAndAdjustmentsTypeClinicReturn = new LossesAndAdjustmentsType();
@@ -172,7 +173,7 @@ public class RnrLineItemMapperIT {
     nonFullSupplyLineItem.setQuantityRequested(20);
     nonFullSupplyLineItem.setReasonForRequestedQuantity("More patients");
     nonFullSupplyLineItem.setFullSupply(false);
-    rnrLineItemMapper.insertNonFullSupply(nonFullSupplyLineItem);
+    insertNonFullSupplyLineItem(nonFullSupplyLineItem);
 
     List<RnrLineItem> fetchedNonSupplyLineItems = rnrLineItemMapper.getNonFullSupplyRnrLineItemsByRnrId(rnr.getId());
 
@@ -183,101 +184,57 @@ public class RnrLineItemMapperIT {
   }
 
   @Test
-  public void shouldReturnNonFullSupplyLineItemByRnrIdAndProductCode() throws Exception {
+  public void shouldReturnFullAndNonFullSupplyLineItemsWithoutLossesAndAdjustmentsByRnrIds() throws Exception {
     requisitionMapper.insert(rnr);
+    RnrLineItem fullSupplyLineItem = new RnrLineItem(rnr.getId(), facilityTypeApprovedProduct, MODIFIED_BY, 1L);
+    fullSupplyLineItem.setFullSupply(true);
+    fullSupplyLineItem.setPreviousNormalizedConsumptions(asList(4, 5));
+    insertLineItem(fullSupplyLineItem);
     RnrLineItem nonFullSupplyLineItem = new RnrLineItem(rnr.getId(), facilityTypeApprovedProduct, MODIFIED_BY, 1L);
-    nonFullSupplyLineItem.setQuantityRequested(20);
-    nonFullSupplyLineItem.setReasonForRequestedQuantity("More patients");
     nonFullSupplyLineItem.setFullSupply(false);
-    rnrLineItemMapper.insertNonFullSupply(nonFullSupplyLineItem);
-
-    RnrLineItem fetchedNonSupplyLineItem = rnrLineItemMapper.getExistingNonFullSupplyItemByRnrIdAndProductCode(rnr.getId(), nonFullSupplyLineItem.getProductCode());
-
-    assertThat(fetchedNonSupplyLineItem.getQuantityRequested(), is(20));
-    assertThat(fetchedNonSupplyLineItem.getReasonForRequestedQuantity(), is("More patients"));
-    assertThat(fetchedNonSupplyLineItem.getProductCategory(), is("Category 1"));
-  }
-
-  @Test
-  public void shouldUpdateRnrLineItem() {
-    requisitionMapper.insert(rnr);
-    RnrLineItem lineItem = new RnrLineItem(rnr.getId(), facilityTypeApprovedProduct, MODIFIED_BY, 1L);
-    rnrLineItemMapper.insert(lineItem, lineItem.getPreviousNormalizedConsumptions().toString());
-    Long anotherModifiedBy = 2L;
-    lineItem.setModifiedBy(anotherModifiedBy);
-    lineItem.setBeginningBalance(43);
-    lineItem.setTotalLossesAndAdjustments(20);
-    lineItem.setExpirationDate("12/2014");
-    lineItem.setReasonForRequestedQuantity("Quantity Requested more in liu of coming rains");
-    lineItem.setReportingDays(5);
-
-    int updateCount = rnrLineItemMapper.update(lineItem);
-
-    assertThat(updateCount, is(1));
-    List<RnrLineItem> rnrLineItems = rnrLineItemMapper.getRnrLineItemsByRnrId(rnr.getId());
-
-    assertThat(rnrLineItems.get(0).getBeginningBalance(), is(43));
-    assertThat(rnrLineItems.get(0).getTotalLossesAndAdjustments(), is(20));
-    assertThat(rnrLineItems.get(0).getProduct(), is("Primary Name Tablet strength mg"));
-    assertThat(rnrLineItems.get(0).getExpirationDate(), is("12/2014"));
-    assertThat(rnrLineItems.get(0).getReportingDays(), is(5));
-    assertThat(rnrLineItems.get(0).getReasonForRequestedQuantity(),
-      is("Quantity Requested more in liu of coming rains"));
+    insertNonFullSupplyLineItem(nonFullSupplyLineItem);
+
+    List<RnrLineItem> lineItems = rnrLineItemMapper.getByRnrIds("{" + rnr.getId() + "}");
+
+    assertThat(lineItems.size(), is(2));
+    assertThat(lineItems.get(0).getId(), is(fullSupplyLineItem.getId()));
+    assertThat(lineItems.get(0).getRnrId(), is(rnr.getId()));
+    assertThat(lineItems.get(0).getFullSupply(), is(true));
+    assertThat(lineItems.get(0).getPreviousNormalizedConsumptions(), is(asList(4, 5)));
+    assertThat(lineItems.get(0).getLossesAndAdjustments().size(), is(0));
+    assertThat(lineItems.get(1).getId(), is(nonFullSupplyLineItem.getId()));
+    assertThat(lineItems.get(1).getFullSupply(), is(false));
   }
 
   @Test
   public void shouldUpdateSkipFlag() throws Exception {
     requisitionMapper.insert(rnr);
     RnrLineItem lineItem = new RnrLineItem(rnr.getId(), facilityTypeApprovedProduct, MODIFIED_BY, 1L);
-    rnrLineItemMapper.insert(lineItem, lineItem.getPreviousNormalizedConsumptions().toString());
+    insertLineItem(lineItem);
 
     lineItem.setSkipped(true);
 
-    rnrLineItemMapper.update(lineItem);
+    rnrLineItemMapper.updateAll(asList(lineItem));
     List<RnrLineItem> rnrLineItems = rnrLineItemMapper.getRnrLineItemsByRnrId(rnr.getId());
     assertTrue(rnrLineItems.get(0).getSkipped());
 
     lineItem.setSkipped(false);
 
-    rnrLineItemMapper.update(lineItem);
+    rnrLineItemMapper.updateAll(asList(lineItem));
     rnrLineItems = rnrLineItemMapper.getRnrLineItemsByRnrId(rnr.getId());
     assertFalse(rnrLineItems.get(0).getSkipped());
   }
 
-  @Test
-  public void shouldInsertNonFullSupplyLineItem() {
-    requisitionMapper.insert(rnr);
-    RnrLineItem requisitionLineItem = new RnrLineItem(rnr.getId(), facilityTypeApprovedProduct, MODIFIED_BY, 1L);
-    requisitionLineItem.setFullSupply(false);
-    rnrLineItemMapper.insertNonFullSupply(requisitionLineItem);
-    assertNotNull(requisitionLineItem.getId());
-    List<RnrLineItem> nonFullSupplyLineItems = rnrLineItemMapper.getNonFullSupplyRnrLineItemsByRnrId(rnr.getId());
-    RnrLineItem nonFullSupply = nonFullSupplyLineItems.get(0);
-    assertThat(nonFullSupply.getQuantityReceived(), is(0));
-    assertThat(nonFullSupply.getQuantityDispensed(), is(0));
-    assertThat(nonFullSupply.getBeginningBalance(), is(0));
-    assertThat(nonFullSupply.getStockInHand(), is(0));
-    assertThat(nonFullSupply.getTotalLossesAndAdjustments(), is(0));
-    assertThat(nonFullSupply.getCalculatedOrderQuantity(), is(0));
-    assertThat(nonFullSupply.getNewPatientCount(), is(0));
-    assertThat(nonFullSupply.getStockOutDays(), is(0));
-    assertThat(nonFullSupply.getNormalizedConsumption(), is(0));
-    assertThat(nonFullSupply.getAmc(), is(0));
-    assertThat(nonFullSupply.getMaxStockQuantity(), is(0));
-    assertThat(nonFullSupply.getProductCategory(), is("Category 1"));
-
-  }
-
   @Test
   public void shouldDeleteAllNonFullSupplyLineItemsForRnr() throws Exception {
     requisitionMapper.insert(rnr);
     RnrLineItem lineItem = make(a(defaultRnrLineItem, with(fullSupply, false)));
     lineItem.setRnrId(rnr.getId());
-    rnrLineItemMapper.insert(lineItem, lineItem.getPreviousNormalizedConsumptions().toString());
+    insertLineItem(lineItem);
 
     RnrLineItem lineItem2 = make(a(defaultRnrLineItem, with(fullSupply, true)));
     lineItem2.setRnrId(rnr.getId());
-    rnrLineItemMapper.insert(lineItem2, lineItem.getPreviousNormalizedConsumptions().toString());
+    insertLineItem(lineItem2);
 
     rnrLineItemMapper.deleteAllNonFullSupplyForRequisition(rnr.getId());
 
@@ -312,40 +269,95 @@ public class RnrLineItemMapperIT {
       facilityApprovedProductMapper.insert(facilityTypeApprovedProduct);
 
       RnrLineItem item = new RnrLineItem(rnr.getId(), facilityTypeApprovedProduct, 1L, 1L);
-      rnrLineItemMapper.insert(item, null);
+      insertLineItem(item);
     }
     assertThat(rnrLineItemMapper.getCategoryCount(rnr, fullSupplyFlag), is(10));
   }
 
   @Test
-  public void shouldUpdateApprovedQuantityAndRemarks() throws Exception {
+  public void shouldInsertAllLineItemsInOneStatement() throws Exception {
     requisitionMapper.insert(rnr);
     RnrLineItem lineItem = new RnrLineItem(rnr.getId(), facilityTypeApprovedProduct, MODIFIED_BY, 1L);
-    rnrLineItemMapper.insert(lineItem, lineItem.getPreviousNormalizedConsumptions().toString());
-    rnr.setStatus(AUTHORIZED);
+    lineItem.setFullSupply(true);
+    lineItem.setBeginningBalance(5);
+    lineItem.setPreviousNormalizedConsumptions(asList(4, 6));
+
+    rnrLineItemMapper.insertAll(asList(lineItem));
+
+    List<RnrLineItem> lineItems = rnrLineItemMapper.getRnrLineItemsByRnrId(rnr.getId());
+    assertThat(lineItems.size(), is(1));
+    assertThat(lineItems.get(0).getBeginningBalance(), is(5));
+    assertThat(lineItems.get(0).getPreviousNormalizedConsumptions(), is(asList(4, 6)));
+    assertThat(lineItems.get(0).getPrice().compareTo(new Money("12.5")), is(0));
+  }
+
+  @Test
+  public void shouldUpdateAllLineItemsInOneStatement() throws Exception {
+    requisitionMapper.insert(rnr);
+    RnrLineItem lineItem = new RnrLineItem(rnr.getId(), facilityTypeApprovedProduct, MODIFIED_BY, 1L);
+    insertLineItem(lineItem);
+    lineItem.setModifiedBy(2L);
+    lineItem.setBeginningBalance(43);
+    lineItem.setStockInHand(null);
+    lineItem.setExpirationDate("12/2014");
+    lineItem.setSkipped(true);
+
+    int updateCount = rnrLineItemMapper.updateAll(asList(lineItem));
+
+    assertThat(updateCount, is(1));
+    RnrLineItem returnedLineItem = rnrLineItemMapper.getRnrLineItemsByRnrId(rnr.getId()).get(0);
+    assertThat(returnedLineItem.getBeginningBalance(), is(43));
+    assertThat(returnedLineItem.getStockInHand(), is(nullValue()));
+    assertThat(returnedLineItem.getExpirationDate(), is("12/2014"));
+    assertThat(returnedLineItem.getSkipped(), is(true));
+    assertThat(returnedLineItem.getModifiedBy(), is(2L));
+  }
+
+  @Test
+  public void shouldUpdateApprovedQuantityForAllLineItemsInOneStatement() throws Exception {
+    requisitionMapper.insert(rnr);
+    RnrLineItem lineItem = new RnrLineItem(rnr.getId(), facilityTypeApprovedProduct, MODIFIED_BY, 1L);
+    insertLineItem(lineItem);
 
     lineItem.setQuantityApproved(23);
     lineItem.setRemarks("Updated Remarks");
     lineItem.setPacksToShip(2);
-    rnrLineItemMapper.updateOnApproval(lineItem);
-
-    RnrLineItem returnedRnrLineItem = rnrLineItemMapper.getRnrLineItemsByRnrId(lineItem.getRnrId()).get(0);
+    rnrLineItemMapper.updateAllOnApproval(asList(lineItem));
 
+    RnrLineItem returnedRnrLineItem = rnrLineItemMapper.getRnrLineItemsByRnrId(rnr.getId()).get(0);
     assertThat(returnedRnrLineItem.getQuantityApproved(), is(23));
     assertThat(returnedRnrLineItem.getPacksToShip(), is(2));
     assertThat(returnedRnrLineItem.getRemarks(), is("Updated Remarks"));
   }
 
   @Test
-  public void shouldGetCreatedDateForMostRecentNonSkippedAuthorizedLineItem() throws Exception {
+  public void shouldInsertAllNonFullSupplyLineItemsInOneStatement() throws Exception {
+    requisitionMapper.insert(rnr);
+    RnrLineItem nonFullSupplyLineItem = new RnrLineItem(rnr.getId(), facilityTypeApprovedProduct, MODIFIED_BY, 1L);
+    nonFullSupplyLineItem.setQuantityRequested(20);
+    nonFullSupplyLineItem.setReasonForRequestedQuantity("More patients");
+    nonFullSupplyLineItem.setFullSupply(false);
+
+    rnrLineItemMapper.insertAllNonFullSupply(asList(nonFullSupplyLineItem));
+
+    List<RnrLineItem> fetchedNonSupplyLineItems = rnrLineItemMapper.getNonFullSupplyRnrLineItemsByRnrId(rnr.getId());
+    assertThat(fetchedNonSupplyLineItems.size(), is(1));
+    assertThat(fetchedNonSupplyLineItems.get(0).getQuantityRequested(), is(20));
+    assertThat(fetchedNonSupplyLineItems.get(0).getReasonForRequestedQuantity(), is("More patients"));
+  }
+
+  @Test
+  public void shouldGetPreviousNRnrLineItemsForGivenProductCode() throws Exception {
     requisitionMapper.insert(rnr);
 
     RnrLineItem lineItem = new RnrLineItem(rnr.getId(), facilityTypeApprovedProduct, MODIFIED_BY, 1L);
-    rnrLineItemMapper.insert(lineItem, lineItem.getPreviousNormalizedConsumptions().toString());
+    insertLineItem(lineItem);
+    lineItem.setNormalizedConsumption(3);
+    lineItem.setStockInHand(0);
+    rnrLineItemMapper.updateAll(asList(lineItem));
 
     rnr.setStatus(AUTHORIZED);
     requisitionStatusChangeMapper.insert(new RequisitionStatusChange(rnr));
-    queryExecutor.executeUpdate("UPDATE requisition_status_changes SET createdDate = ? WHERE rnrId = ?", getDateByDays(-3), rnr.getId());
 
     Rnr rnr1 = make(a(RequisitionBuilder.defaultRequisition, with(RequisitionBuilder.facility, facility),
       with(RequisitionBuilder.program, new Program(PROGRAM_ID)), with(RequisitionBuilder.period, processingPeriod)));
@@ -353,36 +365,37 @@ public class RnrLineItemMapperIT {
 
     RnrLineItem rnrLineItem = make(a(defaultRnrLineItem, with(productCode, lineItem.getProductCode())));
     rnrLineItem.setRnrId(rnr1.getId());
-    rnrLineItemMapper.insert(rnrLineItem, lineItem.getPreviousNormalizedConsumptions().toString());
+    insertLineItem(rnrLineItem);
 
-    rnr1.setStatus(AUTHORIZED);
+    rnr1.setStatus(SUBMITTED);
     requisitionStatusChangeMapper.insert(new RequisitionStatusChange(rnr1));
 
-    List<RequisitionStatusChange> changeList = requisitionStatusChangeMapper.getByRnrId(rnr1.getId());
-
     Rnr currentRnr = make(a(RequisitionBuilder.defaultRequisition, with(RequisitionBuilder.facility, facility),
       with(RequisitionBuilder.program, new Program(PROGRAM_ID)), with(RequisitionBuilder.period, processingPeriod)));
     RnrLineItem currentRnrLineItem = make(a(defaultRnrLineItem, with(productCode, lineItem.getProductCode())));
     requisitionMapper.insert(currentRnr);
 
     currentRnrLineItem.setRnrId(currentRnr.getId());
-    rnrLineItemMapper.insert(currentRnrLineItem, lineItem.getPreviousNormalizedConsumptions().toString());
+    insertLineItem(currentRnrLineItem);
 
-    Date createdDateForPreviousLineItem = rnrLineItemMapper.getAuthorizedDateForPreviousLineItem(currentRnr, lineItem.getProductCode(), getDateByDays(-4));
+    List<RnrLineItem> rnrLineItems = rnrLineItemMapper.getAuthorizedRegularUnSkippedLineItems(lineItem.getProductCode(), currentRnr, 2, getDateByDays(-3));
 
-    assertThat(createdDateForPreviousLineItem, is(changeList.get(0).getCreatedDate()));
+    assertThat(rnrLineItems.size(), is(1));
+    assertThat(rnrLineItems.get(0).getNormalizedConsumption(), is(3));
+    assertThat(rnrLineItems.get(0).getStockInHand(), is(0));
   }
 
   @Test
-  public void shouldNotGetCreatedDateIfNoAuthorizedLineItemExistAfterGivenDateForAProduct() throws Exception {
+  public void shouldNotGetPreviousNNormalizedConsumptionsGivenProductCodeIfNoAuthorizedRnrExist() throws Exception {
     requisitionMapper.insert(rnr);
 
     RnrLineItem lineItem = new RnrLineItem(rnr.getId(), facilityTypeApprovedProduct, MODIFIED_BY, 1L);
-    rnrLineItemMapper.insert(lineItem, lineItem.getPreviousNormalizedConsumptions().toString());
+    insertLineItem(lineItem);
+    lineItem.setNormalizedConsumption(3);
+    rnrLineItemMapper.updateAll(asList(lineItem));
 
-    rnr.setStatus(AUTHORIZED);
+    rnr.setStatus(SUBMITTED);
     requisitionStatusChangeMapper.insert(new RequisitionStatusChange(rnr));
-    queryExecutor.executeUpdate("UPDATE requisition_status_changes SET createdDate = ? WHERE rnrId = ?", getDateByDays(-3), rnr.getId());
 
     Rnr rnr1 = make(a(RequisitionBuilder.defaultRequisition, with(RequisitionBuilder.facility, facility),
       with(RequisitionBuilder.program, new Program(PROGRAM_ID)), with(RequisitionBuilder.period, processingPeriod)));
@@ -390,7 +403,7 @@ public class RnrLineItemMapperIT {
 
     RnrLineItem rnrLineItem = make(a(defaultRnrLineItem, with(productCode, lineItem.getProductCode())));
     rnrLineItem.setRnrId(rnr1.getId());
-    rnrLineItemMapper.insert(rnrLineItem, lineItem.getPreviousNormalizedConsumptions().toString());
+    insertLineItem(rnrLineItem);
 
     rnr1.setStatus(SUBMITTED);
     requisitionStatusChangeMapper.insert(new RequisitionStatusChange(rnr1));
@@ -401,22 +414,21 @@ public class RnrLineItemMapperIT {
     requisitionMapper.insert(currentRnr);
 
     currentRnrLineItem.setRnrId(currentRnr.getId());
-    rnrLineItemMapper.insert(currentRnrLineItem, lineItem.getPreviousNormalizedConsumptions().toString());
+    insertLineItem(currentRnrLineItem);
 
-    Date createdDateForPreviousLineItem = rnrLineItemMapper.getAuthorizedDateForPreviousLineItem(currentRnr, lineItem.getProductCode(), getDateByDays(-2));
+    List<RnrLineItem> rnrLineItems = rnrLineItemMapper.getAuthorizedRegularUnSkippedLineItems(lineItem.getProductCode(), currentRnr, 2, getDateByDays(-3));
 
-    assertNull(createdDateForPreviousLineItem);
+    assertThat(rnrLineItems.size(), is(0));
   }
 
   @Test
-  public void shouldGetPreviousNRnrLineItemsForGivenProductCode() throws Exception {
+  public void shouldGetPreviousNNormalizedConsumptionsGivenProductCodeIfTwoRequisitionsAuthorized() {
     requisitionMapper.insert(rnr);
 
     RnrLineItem lineItem = new RnrLineItem(rnr.getId(), facilityTypeApprovedProduct, MODIFIED_BY, 1L);
-    rnrLineItemMapper.insert(lineItem, lineItem.getPreviousNormalizedConsumptions().toString());
+    insertLineItem(lineItem);
     lineItem.setNormalizedConsumption(3);
-    lineItem.setStockInHand(0);
-    rnrLineItemMapper.update(lineItem);
+    rnrLineItemMapper.updateAll(asList(lineItem));
 
     rnr.setStatus(AUTHORIZED);
     requisitionStatusChangeMapper.insert(new RequisitionStatusChange(rnr));
@@ -427,9 +439,11 @@ public class RnrLineItemMapperIT {
 
     RnrLineItem rnrLineItem = make(a(defaultRnrLineItem, with(productCode, lineItem.getProductCode())));
     rnrLineItem.setRnrId(rnr1.getId());
-    rnrLineItemMapper.insert(rnrLineItem, lineItem.getPreviousNormalizedConsumptions().toString());
+    insertLineItem(rnrLineItem);
+    rnrLineItem.setNormalizedConsumption(9);
+    rnrLineItemMapper.updateAll(asList(rnrLineItem));
 
-    rnr1.setStatus(SUBMITTED);
+    rnr1.setStatus(AUTHORIZED);
     requisitionStatusChangeMapper.insert(new RequisitionStatusChange(rnr1));
 
     Rnr currentRnr = make(a(RequisitionBuilder.defaultRequisition, with(RequisitionBuilder.facility, facility),
@@ -438,25 +452,26 @@ public class RnrLineItemMapperIT {
     requisitionMapper.insert(currentRnr);
 
     currentRnrLineItem.setRnrId(currentRnr.getId());
-    rnrLineItemMapper.insert(currentRnrLineItem, lineItem.getPreviousNormalizedConsumptions().toString());
+    insertLineItem(currentRnrLineItem);
 
     List<RnrLineItem> rnrLineItems = rnrLineItemMapper.getAuthorizedRegularUnSkippedLineItems(lineItem.getProductCode(), currentRnr, 2, getDateByDays(-3));
 
-    assertThat(rnrLineItems.size(), is(1));
-    assertThat(rnrLineItems.get(0).getNormalizedConsumption(), is(3));
-    assertThat(rnrLineItems.get(0).getStockInHand(), is(0));
+    assertThat(rnrLineItems.size(), is(2));
+
+    assertContainsLineItemWithNC(rnrLineItems, 3);
+    assertContainsLineItemWithNC(rnrLineItems, 9);
   }
 
   @Test
-  public void shouldNotGetPreviousNNormalizedConsumptionsGivenProductCodeIfNoAuthorizedRnrExist() throws Exception {
+  public void shouldGetPreviousNNormalizedConsumptionsForAllProductsLimitedPerProduct() {
     requisitionMapper.insert(rnr);
 
     RnrLineItem lineItem = new RnrLineItem(rnr.getId(), facilityTypeApprovedProduct, MODIFIED_BY, 1L);
-    rnrLineItemMapper.insert(lineItem, lineItem.getPreviousNormalizedConsumptions().toString());
+    insertLineItem(lineItem);
     lineItem.setNormalizedConsumption(3);
-    rnrLineItemMapper.update(lineItem);
+    rnrLineItemMapper.updateAll(asList(lineItem));
 
-    rnr.setStatus(SUBMITTED);
+    rnr.setStatus(AUTHORIZED);
     requisitionStatusChangeMapper.insert(new RequisitionStatusChange(rnr));
 
     Rnr rnr1 = make(a(RequisitionBuilder.defaultRequisition, with(RequisitionBuilder.facility, facility),
@@ -465,35 +480,35 @@ public class RnrLineItemMapperIT {
 
     RnrLineItem rnrLineItem = make(a(defaultRnrLineItem, with(productCode, lineItem.getProductCode())));
     rnrLineItem.setRnrId(rnr1.getId());
-    rnrLineItemMapper.insert(rnrLineItem, lineItem.getPreviousNormalizedConsumptions().toString());
+    insertLineItem(rnrLineItem);
+    rnrLineItem.setNormalizedConsumption(9);
+    rnrLineItemMapper.updateAll(asList(rnrLineItem));
 
-    rnr1.setStatus(SUBMITTED);
+    rnr1.setStatus(AUTHORIZED);
     requisitionStatusChangeMapper.insert(new RequisitionStatusChange(rnr1));
+    queryExecutor.executeUpdate("UPDATE requisition_status_changes SET createdDate = ? WHERE rnrId = ?", getDateByDays(-1), rnr.getId());
 
     Rnr currentRnr = make(a(RequisitionBuilder.defaultRequisition, with(RequisitionBuilder.facility, facility),
       with(RequisitionBuilder.program, new Program(PROGRAM_ID)), with(RequisitionBuilder.period, processingPeriod)));
-    RnrLineItem currentRnrLineItem = make(a(defaultRnrLineItem, with(productCode, lineItem.getProductCode())));
     requisitionMapper.insert(currentRnr);
 
-    currentRnrLineItem.setRnrId(currentRnr.getId());
-    rnrLineItemMapper.insert(currentRnrLineItem, lineItem.getPreviousNormalizedConsumptions().toString());
-
-    List<RnrLineItem> rnrLineItems = rnrLineItemMapper.getAuthorizedRegularUnSkippedLineItems(lineItem.getProductCode(), currentRnr, 2, getDateByDays(-3));
+    List<RnrLineItem> rnrLineItems = rnrLineItemMapper.getAuthorizedRegularUnSkippedLineItemsForAllProducts(currentRnr, 1, getDateByDays(-3));
 
-    assertThat(rnrLineItems.size(), is(0));
+    assertThat(rnrLineItems.size(), is(1));
+    assertThat(rnrLineItems.get(0).getProductCode(), is(lineItem.getProductCode()));
+    assertThat(rnrLineItems.get(0).getNormalizedConsumption(), is(9));
   }
 
   @Test
-  public void shouldGetPreviousNNormalizedConsumptionsGivenProductCodeIfTwoRequisitionsAuthorized() {
+  public void shouldGetLatestAuthorizedDatesForPreviousLineItemsOfAllProducts() throws Exception {
     requisitionMapper.insert(rnr);
 
     RnrLineItem lineItem = new RnrLineItem(rnr.getId(), facilityTypeApprovedProduct, MODIFIED_BY, 1L);
-    rnrLineItemMapper.insert(lineItem, lineItem.getPreviousNormalizedConsumptions().toString());
-    lineItem.setNormalizedConsumption(3);
-    rnrLineItemMapper.update(lineItem);
+    insertLineItem(lineItem);
 
     rnr.setStatus(AUTHORIZED);
     requisitionStatusChangeMapper.insert(new RequisitionStatusChange(rnr));
+    queryExecutor.executeUpdate("UPDATE requisition_status_changes SET createdDate = ? WHERE rnrId = ?", getDateByDays(-3), rnr.getId());
 
     Rnr rnr1 = make(a(RequisitionBuilder.defaultRequisition, with(RequisitionBuilder.facility, facility),
       with(RequisitionBuilder.program, new Program(PROGRAM_ID)), with(RequisitionBuilder.period, processingPeriod)));
@@ -501,27 +516,22 @@ public class RnrLineItemMapperIT {
 
     RnrLineItem rnrLineItem = make(a(defaultRnrLineItem, with(productCode, lineItem.getProductCode())));
     rnrLineItem.setRnrId(rnr1.getId());
-    rnrLineItemMapper.insert(rnrLineItem, lineItem.getPreviousNormalizedConsumptions().toString());
-    rnrLineItem.setNormalizedConsumption(9);
-    rnrLineItemMapper.update(rnrLineItem);
+    insertLineItem(rnrLineItem);
 
     rnr1.setStatus(AUTHORIZED);
     requisitionStatusChangeMapper.insert(new RequisitionStatusChange(rnr1));
 
+    List<RequisitionStatusChange> changeList = requisitionStatusChangeMapper.getByRnrId(rnr1.getId());
+
     Rnr currentRnr = make(a(RequisitionBuilder.defaultRequisition, with(RequisitionBuilder.facility, facility),
       with(RequisitionBuilder.program, new Program(PROGRAM_ID)), with(RequisitionBuilder.period, processingPeriod)));
-    RnrLineItem currentRnrLineItem = make(a(defaultRnrLineItem, with(productCode, lineItem.getProductCode())));
     requisitionMapper.insert(currentRnr);
 
-    currentRnrLineItem.setRnrId(currentRnr.getId());
-    rnrLineItemMapper.insert(currentRnrLineItem, lineItem.getPreviousNormalizedConsumptions().toString());
+    List<ProductAuthorizedDateDTO> authorizedDates = rnrLineItemMapper.getAuthorizedDatesForPreviousLineItems(currentRnr, getDateByDays(-4));
 
-    List<RnrLineItem> rnrLineItems = rnrLineItemMapper.getAuthorizedRegularUnSkippedLineItems(lineItem.getProductCode(), currentRnr, 2, getDateByDays(-3));
-
-    assertThat(rnrLineItems.size(), is(2));
-
-    assertContainsLineItemWithNC(rnrLineItems, 3);
-    assertContainsLineItemWithNC(rnrLineItems, 9);
+    assertThat(authorizedDates.size(), is(1));
+    assertThat(authorizedDates.get(0).getProductCode(), is(lineItem.getProductCode()));
+    assertThat(authorizedDates.get(0).getAuthorizedDate(), is(changeList.get(0).getCreatedDate()));
   }
 
   private void assertContainsLineItemWithNC(List<RnrLineItem> rnrLineItems, final Integer expectedNormalizedConsumption) {
@@ -540,7 +550,7 @@ public class RnrLineItemMapperIT {
 
     RnrLineItem lineItem = new RnrLineItem(rnr.getId(), facilityTypeApprovedProduct, MODIFIED_BY, 1L);
     lineItem.setPreviousNormalizedConsumptions(asList(4, 6));
-    rnrLineItemMapper.insert(lineItem, lineItem.getPreviousNormalizedConsumptions().toString());
+    insertLineItem(lineItem);
 
     List<RnrLineItem> lineItems = rnrLineItemMapper.getRnrLineItemsByRnrId(rnr.getId());
 
@@ -555,7 +565,7 @@ public class RnrLineItemMapperIT {
     lineItem.setBeginningBalance(5);
     lineItem.setFullSupply(true);
     lineItem.setReportingDays(10);
-    rnrLineItemMapper.insert(lineItem, lineItem.getPreviousNormalizedConsumptions().toString());
+    insertLineItem(lineItem);
 
     RnrLineItem actualLineItem = rnrLineItemMapper.getNonSkippedLineItem(rnr.getId(), facilityTypeApprovedProduct.getProgramProduct().getProduct().getCode());
 
@@ -570,23 +580,45 @@ public class RnrLineItemMapperIT {
     lineItem.setBeginningBalance(5);
     lineItem.setFullSupply(true);
     lineItem.setReportingDays(10);
-    rnrLineItemMapper.insert(lineItem, lineItem.getPreviousNormalizedConsumptions().toString());
+    insertLineItem(lineItem);
     lineItem.setSkipped(true);
-    rnrLineItemMapper.update(lineItem);
+    rnrLineItemMapper.updateAll(asList(lineItem));
 
     RnrLineItem actualLineItem = rnrLineItemMapper.getNonSkippedLineItem(rnr.getId(), facilityTypeApprovedProduct.getProgramProduct().getProduct().getCode());
 
     assertThat(actualLineItem, is(nullValue()));
   }
 
+  @Test
+  public void shouldGetNonSkippedLineItemsForRequisitions() throws Exception {
+    requisitionMapper.insert(rnr);
+    RnrLineItem lineItem = new RnrLineItem(rnr.getId(), facilityTypeApprovedProduct, MODIFIED_BY, 1L);
+    lineItem.setPacksToShip(20);
+    lineItem.setFullSupply(true);
+    insertLineItem(lineItem);
+
+    List<RnrLineItem> lineItems = rnrLineItemMapper.getNonSkippedLineItemsByRnrIds("{" + rnr.getId() + "}");
+
+    assertThat(lineItems.size(), is(1));
+    assertThat(lineItems.get(0).getId(), is(lineItem.getId()));
+    assertThat(lineItems.get(0).getRnrId(), is(rnr.getId()));
+    assertThat(lineItems.get(0).getProductCode(), is(lineItem.getProductCode()));
+    assertThat(lineItems.get(0).getPacksToShip(), is(20));
+
+    lineItem.setSkipped(true);
+    rnrLineItemMapper.updateAll(asList(lineItem));
+
+    assertThat(rnrLineItemMapper.getNonSkippedLineItemsByRnrIds("{" + rnr.getId() + "}").size(), is(0));
+  }
+
   @Test
   public void shouldNotIncludeEmergencyRnrWhileFetchingPreviousNC() throws Exception {
     requisitionMapper.insert(rnr);
 
     RnrLineItem lineItem = new RnrLineItem(rnr.getId(), facilityTypeApprovedProduct, MODIFIED_BY, 1L);
-    rnrLineItemMapper.insert(lineItem, lineItem.getPreviousNormalizedConsumptions().toString());
+    insertLineItem(lineItem);
     lineItem.setNormalizedConsumption(3);
-    rnrLineItemMapper.update(lineItem);
+    rnrLineItemMapper.updateAll(asList(lineItem));
 
     rnr.setStatus(AUTHORIZED);
     requisitionStatusChangeMapper.insert(new RequisitionStatusChange(rnr));
@@ -598,9 +630,9 @@ public class RnrLineItemMapperIT {
 
     RnrLineItem rnrLineItem = make(a(defaultRnrLineItem, with(productCode, lineItem.getProductCode())));
     rnrLineItem.setRnrId(emergencyRnr.getId());
-    rnrLineItemMapper.insert(rnrLineItem, lineItem.getPreviousNormalizedConsumptions().toString());
+    insertLineItem(rnrLineItem);
     rnrLineItem.setNormalizedConsumption(9);
-    rnrLineItemMapper.update(rnrLineItem);
+    rnrLineItemMapper.updateAll(asList(rnrLineItem));
 
     emergencyRnr.setStatus(AUTHORIZED);
     requisitionStatusChangeMapper.insert(new RequisitionStatusChange(emergencyRnr));
@@ -611,7 +643,7 @@ public class RnrLineItemMapperIT {
     requisitionMapper.insert(currentRnr);
 
     currentRnrLineItem.setRnrId(currentRnr.getId());
-    rnrLineItemMapper.insert(currentRnrLineItem, lineItem.getPreviousNormalizedConsumptions().toString());
+    insertLineItem(currentRnrLineItem);
 
     List<RnrLineItem> lineItems = rnrLineItemMapper.getAuthorizedRegularUnSkippedLineItems(lineItem.getProductCode(), currentRnr, 2, getDateByDays(-3));
 
@@ -619,6 +651,21 @@ public class RnrLineItemMapperIT {
     assertThat(lineItems.get(0).getNormalizedConsumption(), is(3));
   }
 
+  private void insertLineItem(RnrLineItem lineItem) {
+    rnrLineItemMapper.insertAll(asList(lineItem));
+    lineItem.setId(getLastLineItemId(lineItem.getRnrId()));
+  }
+
+  private void insertNonFullSupplyLineItem(RnrLineItem lineItem) {
+    rnrLineItemMapper.insertAllNonFullSupply(asList(lineItem));
+    lineItem.setId(getLastLineItemId(lineItem.getRnrId()));
+  }
+
+  private Long getLastLineItemId(Long rnrId) {
+    List<RnrLineItem> lineItems = rnrLineItemMapper.getByRnrIds("{" + rnrId + "}");
+    return lineItems.get(lineItems.size() - 1).getId();
+  }
+
   private java.sql.Date getDateByDays(int days) {
     Calendar currentDate = Calendar.getInstance();
     currentDate.add(Calendar.DATE, days);
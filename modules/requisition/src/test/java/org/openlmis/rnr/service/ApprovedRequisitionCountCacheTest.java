@@ -0,0 +1,72 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.rnr.service;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openlmis.core.service.ReferenceDataCache;
+import org.openlmis.db.categories.UnitTests;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+@Category(UnitTests.class)
+public class ApprovedRequisitionCountCacheTest {
+
+  @Test
+  public void shouldCountOncePerKeyUntilInvalidated() throws Exception {
+    ApprovedRequisitionCountCache cache = new ApprovedRequisitionCountCache(30, 10);
+    CountingLoader loader = new CountingLoader(5);
+
+    cache.get(asList("facilityName", "abc", 1L), loader);
+    Integer count = cache.get(asList("facilityName", "abc", 1L), loader);
+    cache.get(asList("facilityName", "abc", 2L), loader);
+
+    assertThat(count, is(5));
+    assertThat(loader.loads.get(), is(2));
+
+    cache.invalidateAll();
+    cache.get(asList("facilityName", "abc", 1L), loader);
+
+    assertThat(loader.loads.get(), is(3));
+  }
+
+  @Test
+  public void shouldCountEveryTimeWhenTimeToLiveIsZero() throws Exception {
+    ApprovedRequisitionCountCache cache = new ApprovedRequisitionCountCache(0, 10);
+    CountingLoader loader = new CountingLoader(5);
+
+    cache.get(asList("facilityName", "abc", 1L), loader);
+    cache.get(asList("facilityName", "abc", 1L), loader);
+
+    assertThat(loader.loads.get(), is(2));
+  }
+
+  private static class CountingLoader implements ReferenceDataCache.Loader<Integer> {
+
+    private final Integer count;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private CountingLoader(Integer count) {
+      this.count = count;
+    }
+
+    @Override
+    public Integer load() {
+      loads.incrementAndGet();
+      return count;
+    }
+  }
+}
@@ -30,6 +30,7 @@ import java.util.*;
 import static com.natpryce.makeiteasy.MakeItEasy.*;
 import static java.util.Arrays.asList;
 import static java.util.Collections.EMPTY_LIST;
+import static java.util.Collections.singletonMap;
 import static junit.framework.Assert.assertNull;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
@@ -47,9 +48,10 @@ import static org.openlmis.rnr.domain.RnrStatus.SUBMITTED;
 public class CalculationServiceTest {
 
   private Rnr rnr;
-  @Mock
   List<LossesAndAdjustmentsType> lossesAndAdjustmentsTypes;
 
+  Map<String, Boolean> additivityByTypeName;
+
   @Mock
   RequisitionRepository requisitionRepository;
 
@@ -64,6 +66,9 @@ public class CalculationServiceTest {
   public void setUp() throws Exception {
     initMocks(this);
     rnr = make(a(defaultRequisition));
+    lossesAndAdjustmentsTypes = asList(new LossesAndAdjustmentsType("TRANSFER_IN", "Transfer In", true, 1));
+    additivityByTypeName = new HashMap<>();
+    additivityByTypeName.put("TRANSFER_IN", true);
     when(requisitionRepository.getLossesAndAdjustmentsTypes()).thenReturn(lossesAndAdjustmentsTypes);
     emptyPeriodList = Collections.emptyList();
   }
@@ -108,7 +113,7 @@ public class CalculationServiceTest {
 
     calculationService.perform(rnr, template);
 
-    verify(firstLineItem).calculateForFullSupply(eq(template), eq(SUBMITTED), eq(lossesAndAdjustmentsTypes));
+    verify(firstLineItem).calculateForFullSupply(eq(template), eq(SUBMITTED), eq(additivityByTypeName));
     verify(firstLineItem).calculateCost();
     verify(secondLineItem).calculateCost();
     verify(secondLineItem).calculatePacksToShip();
@@ -128,7 +133,7 @@ public class CalculationServiceTest {
 
     calculationService.perform(rnr, template);
 
-    verify(rnrLineItem1).calculateForFullSupply(eq(template), eq(rnr.getStatus()), eq(lossesAndAdjustmentsTypes));
+    verify(rnrLineItem1).calculateForFullSupply(eq(template), eq(rnr.getStatus()), eq(additivityByTypeName));
     verify(rnrLineItem1).validateMandatoryFields(template);
     verify(rnrLineItem1).validateCalculatedFields(template);
   }
@@ -152,7 +157,7 @@ public class CalculationServiceTest {
 
     verify(skippedLineItem, never()).calculateForFullSupply(any(ProgramRnrTemplate.class),
         any(RnrStatus.class),
-        anyListOf(LossesAndAdjustmentsType.class));
+        anyMap());
 
     verify(skippedLineItem, never()).calculateCost();
     verify(nonSkippedLineItem).calculateCost();
@@ -167,13 +172,13 @@ public class CalculationServiceTest {
     RnrLineItem lineItem = rnr.getFullSupplyLineItems().get(0);
 
     when(processingScheduleService.getNPreviousPeriodsInDescOrder(rnr.getPeriod(), 2)).thenReturn(emptyPeriodList);
-    when(requisitionRepository.getAuthorizedDateForPreviousLineItem(rnr, lineItem.getProductCode(), rnr.getPeriod().getStartDate())).thenReturn(authorizedDateOfPreviousLineItem);
+    when(requisitionRepository.getAuthorizedDatesForPreviousLineItems(rnr, rnr.getPeriod().getStartDate())).thenReturn(singletonMap(lineItem.getProductCode(), authorizedDateOfPreviousLineItem));
 
     calculationService.fillReportingDays(rnr);
 
     assertThat(lineItem.getReportingDays(), is(5));
     verify(processingScheduleService).getNPreviousPeriodsInDescOrder(rnr.getPeriod(), 2);
-    verify(requisitionRepository).getAuthorizedDateForPreviousLineItem(rnr, lineItem.getProductCode(), rnr.getPeriod().getStartDate());
+    verify(requisitionRepository).getAuthorizedDatesForPreviousLineItems(rnr, rnr.getPeriod().getStartDate());
   }
 
   @Test
@@ -185,13 +190,13 @@ public class CalculationServiceTest {
     ProcessingPeriod previousPeriod = new ProcessingPeriod(2l, new Date(), new Date(), 2, "previousPeriod");
 
     when(processingScheduleService.getNPreviousPeriodsInDescOrder(rnr.getPeriod(), 2)).thenReturn(asList(previousPeriod));
-    when(requisitionRepository.getAuthorizedDateForPreviousLineItem(rnr, lineItem.getProductCode(), previousPeriod.getStartDate())).thenReturn(authorizedDateOfPreviousLineItem);
+    when(requisitionRepository.getAuthorizedDatesForPreviousLineItems(rnr, previousPeriod.getStartDate())).thenReturn(singletonMap(lineItem.getProductCode(), authorizedDateOfPreviousLineItem));
 
     calculationService.fillReportingDays(rnr);
 
     assertThat(lineItem.getReportingDays(), is(5));
     verify(processingScheduleService).getNPreviousPeriodsInDescOrder(rnr.getPeriod(), 2);
-    verify(requisitionRepository).getAuthorizedDateForPreviousLineItem(rnr, lineItem.getProductCode(), previousPeriod.getStartDate());
+    verify(requisitionRepository).getAuthorizedDatesForPreviousLineItems(rnr, previousPeriod.getStartDate());
   }
 
   @Test
@@ -204,13 +209,13 @@ public class CalculationServiceTest {
     ProcessingPeriod secondLastPeriod = new ProcessingPeriod(3l, new Date(), new Date(), 2, "secondLastPeriod");
 
     when(processingScheduleService.getNPreviousPeriodsInDescOrder(rnr.getPeriod(), 2)).thenReturn(asList(previousPeriod, secondLastPeriod));
-    when(requisitionRepository.getAuthorizedDateForPreviousLineItem(rnr, lineItem.getProductCode(), secondLastPeriod.getStartDate())).thenReturn(authorizedDateOfPreviousLineItem);
+    when(requisitionRepository.getAuthorizedDatesForPreviousLineItems(rnr, secondLastPeriod.getStartDate())).thenReturn(singletonMap(lineItem.getProductCode(), authorizedDateOfPreviousLineItem));
 
     calculationService.fillReportingDays(rnr);
 
     assertThat(lineItem.getReportingDays(), is(5));
     verify(processingScheduleService).getNPreviousPeriodsInDescOrder(rnr.getPeriod(), 2);
-    verify(requisitionRepository).getAuthorizedDateForPreviousLineItem(rnr, lineItem.getProductCode(), secondLastPeriod.getStartDate());
+    verify(requisitionRepository).getAuthorizedDatesForPreviousLineItems(rnr, secondLastPeriod.getStartDate());
   }
 
   @Test
@@ -222,13 +227,13 @@ public class CalculationServiceTest {
     ProcessingPeriod previousPeriod = new ProcessingPeriod(2l, new Date(), new Date(), 4, "previousPeriod");
 
     when(processingScheduleService.getNPreviousPeriodsInDescOrder(rnr.getPeriod(), 2)).thenReturn(asList(previousPeriod));
-    when(requisitionRepository.getAuthorizedDateForPreviousLineItem(rnr, lineItem.getProductCode(), previousPeriod.getStartDate())).thenReturn(authorizedDateOfPreviousLineItem);
+    when(requisitionRepository.getAuthorizedDatesForPreviousLineItems(rnr, previousPeriod.getStartDate())).thenReturn(singletonMap(lineItem.getProductCode(), authorizedDateOfPreviousLineItem));
 
     calculationService.fillReportingDays(rnr);
 
     assertThat(lineItem.getReportingDays(), is(5));
     verify(processingScheduleService).getNPreviousPeriodsInDescOrder(rnr.getPeriod(), 2);
-    verify(requisitionRepository).getAuthorizedDateForPreviousLineItem(rnr, lineItem.getProductCode(), previousPeriod.getStartDate());
+    verify(requisitionRepository).getAuthorizedDatesForPreviousLineItems(rnr, previousPeriod.getStartDate());
   }
 
   @Test
@@ -241,13 +246,13 @@ public class CalculationServiceTest {
     ProcessingPeriod secondLastPeriod = new ProcessingPeriod(3l, new Date(), new Date(), 2, "secondLastPeriod");
 
     when(processingScheduleService.getNPreviousPeriodsInDescOrder(rnr.getPeriod(), 2)).thenReturn(asList(previousPeriod, secondLastPeriod));
-    when(requisitionRepository.getAuthorizedDateForPreviousLineItem(rnr, lineItem.getProductCode(), secondLastPeriod.getStartDate())).thenReturn(authorizedDateOfPreviousLineItem);
+    when(requisitionRepository.getAuthorizedDatesForPreviousLineItems(rnr, secondLastPeriod.getStartDate())).thenReturn(singletonMap(lineItem.getProductCode(), authorizedDateOfPreviousLineItem));
 
     calculationService.fillReportingDays(rnr);
 
     assertThat(lineItem.getReportingDays(), is(5));
     verify(processingScheduleService).getNPreviousPeriodsInDescOrder(rnr.getPeriod(), 2);
-    verify(requisitionRepository).getAuthorizedDateForPreviousLineItem(rnr, lineItem.getProductCode(), secondLastPeriod.getStartDate());
+    verify(requisitionRepository).getAuthorizedDatesForPreviousLineItems(rnr, secondLastPeriod.getStartDate());
   }
 
   @Test
@@ -258,13 +263,13 @@ public class CalculationServiceTest {
     ProcessingPeriod secondLastPeriod = new ProcessingPeriod(3l, new Date(), new Date(), 2, "secondLastPeriod");
 
     when(processingScheduleService.getNPreviousPeriodsInDescOrder(rnr.getPeriod(), 2)).thenReturn(asList(previousPeriod, secondLastPeriod));
-    when(requisitionRepository.getAuthorizedDateForPreviousLineItem(rnr, lineItem.getProductCode(), secondLastPeriod.getStartDate())).thenReturn(null);
+    when(requisitionRepository.getAuthorizedDatesForPreviousLineItems(rnr, secondLastPeriod.getStartDate())).thenReturn(Collections.<String, Date>emptyMap());
 
     calculationService.fillReportingDays(rnr);
 
     assertNull(lineItem.getReportingDays());
     verify(processingScheduleService).getNPreviousPeriodsInDescOrder(rnr.getPeriod(), 2);
-    verify(requisitionRepository).getAuthorizedDateForPreviousLineItem(rnr, lineItem.getProductCode(), secondLastPeriod.getStartDate());
+    verify(requisitionRepository).getAuthorizedDatesForPreviousLineItems(rnr, secondLastPeriod.getStartDate());
   }
 
   @Test
@@ -282,7 +287,7 @@ public class CalculationServiceTest {
 
     assertNull(lineItem.getReportingDays());
     verify(processingScheduleService).getNPreviousPeriodsInDescOrder(rnr.getPeriod(), 2);
-    verify(requisitionRepository, never()).getAuthorizedDateForPreviousLineItem(rnr, lineItem.getProductCode(), secondLastPeriod.getStartDate());
+    verify(requisitionRepository, never()).getAuthorizedDatesForPreviousLineItems(any(Rnr.class), any(Date.class));
   }
 
   @Test
@@ -297,15 +302,12 @@ public class CalculationServiceTest {
     doNothing().when(requisition).setFieldsAccordingToTemplateFrom(null, programTemplate, regimenTemplate);
 
     when(processingScheduleService.getNPreviousPeriodsInDescOrder(requisition.getPeriod(), 5)).thenReturn(emptyPeriodList);
-    RnrLineItem rnrLineItem = new RnrLineItem();
-    rnrLineItem.setNormalizedConsumption(4);
-    List<RnrLineItem> rnrLineItems = asList(rnrLineItem);
-    when(requisitionRepository.getAuthorizedRegularUnSkippedLineItems(productCode, requisition, 1, requisition.getPeriod().getStartDate())).thenReturn(rnrLineItems);
+    when(requisitionRepository.getPreviousNormalizedConsumptions(requisition, 1, requisition.getPeriod().getStartDate())).thenReturn(singletonMap(productCode, asList(4)));
 
     calculationService.fillFieldsForInitiatedRequisition(requisition, programTemplate, regimenTemplate);
 
     verify(processingScheduleService).getNPreviousPeriodsInDescOrder(requisition.getPeriod(), 5);
-    verify(requisitionRepository).getAuthorizedRegularUnSkippedLineItems(productCode, requisition, 1, requisition.getPeriod().getStartDate());
+    verify(requisitionRepository).getPreviousNormalizedConsumptions(requisition, 1, requisition.getPeriod().getStartDate());
     assertThat(requisition.getFullSupplyLineItems().get(0).getPreviousNormalizedConsumptions(), is(asList(4)));
   }
 
@@ -321,15 +323,12 @@ public class CalculationServiceTest {
     doNothing().when(requisition).setFieldsAccordingToTemplateFrom(null, programTemplate, regimenTemplate);
 
     when(processingScheduleService.getNPreviousPeriodsInDescOrder(requisition.getPeriod(), 5)).thenReturn(emptyPeriodList);
-    RnrLineItem rnrLineItem = new RnrLineItem();
-    rnrLineItem.setNormalizedConsumption(4);
-    List<RnrLineItem> rnrLineItems = asList(rnrLineItem);
-    when(requisitionRepository.getAuthorizedRegularUnSkippedLineItems(productCode, requisition, 1, requisition.getPeriod().getStartDate())).thenReturn(rnrLineItems);
+    when(requisitionRepository.getPreviousNormalizedConsumptions(requisition, 1, requisition.getPeriod().getStartDate())).thenReturn(singletonMap(productCode, asList(4)));
 
     calculationService.fillFieldsForInitiatedRequisition(requisition, programTemplate, regimenTemplate);
 
     verify(processingScheduleService).getNPreviousPeriodsInDescOrder(requisition.getPeriod(), 5);
-    verify(requisitionRepository).getAuthorizedRegularUnSkippedLineItems(productCode, requisition, 1, requisition.getPeriod().getStartDate());
+    verify(requisitionRepository).getPreviousNormalizedConsumptions(requisition, 1, requisition.getPeriod().getStartDate());
     assertThat(requisition.getFullSupplyLineItems().get(0).getPreviousNormalizedConsumptions(), is(asList(4)));
   }
 
@@ -346,17 +345,12 @@ public class CalculationServiceTest {
 
     when(processingScheduleService.findM(requisition.getPeriod())).thenReturn(1);
     when(processingScheduleService.getNPreviousPeriodsInDescOrder(requisition.getPeriod(), 5)).thenReturn(emptyPeriodList);
-    RnrLineItem rnrLineItem = new RnrLineItem();
-    rnrLineItem.setNormalizedConsumption(4);
-    RnrLineItem rnrLineItem2 = new RnrLineItem();
-    rnrLineItem2.setNormalizedConsumption(9);
-    List<RnrLineItem> rnrLineItems = asList(rnrLineItem, rnrLineItem2);
-    when(requisitionRepository.getAuthorizedRegularUnSkippedLineItems(productCode, requisition, 2, requisition.getPeriod().getStartDate())).thenReturn(rnrLineItems);
+    when(requisitionRepository.getPreviousNormalizedConsumptions(requisition, 2, requisition.getPeriod().getStartDate())).thenReturn(singletonMap(productCode, asList(4, 9)));
 
     calculationService.fillFieldsForInitiatedRequisition(requisition, programTemplate, regimenTemplate);
 
     verify(processingScheduleService).getNPreviousPeriodsInDescOrder(requisition.getPeriod(), 5);
-    verify(requisitionRepository).getAuthorizedRegularUnSkippedLineItems(productCode, requisition, 2, requisition.getPeriod().getStartDate());
+    verify(requisitionRepository).getPreviousNormalizedConsumptions(requisition, 2, requisition.getPeriod().getStartDate());
     assertThat(requisition.getFullSupplyLineItems().get(0).getPreviousNormalizedConsumptions(), is(asList(4, 9)));
   }
 
@@ -370,10 +364,7 @@ public class CalculationServiceTest {
     ProcessingPeriod previousPeriod = new ProcessingPeriod(2l, trackingStartDate, new Date(), 3, "previousPeriod");
 
     when(processingScheduleService.getNPreviousPeriodsInDescOrder(requisition.getPeriod(), 5)).thenReturn(asList(previousPeriod));
-    RnrLineItem rnrLineItem = new RnrLineItem();
-    rnrLineItem.setNormalizedConsumption(4);
-    List<RnrLineItem> rnrLineItems = asList(rnrLineItem);
-    when(requisitionRepository.getAuthorizedRegularUnSkippedLineItems(productCode, requisition, 1, previousPeriod.getStartDate())).thenReturn(rnrLineItems);
+    when(requisitionRepository.getPreviousNormalizedConsumptions(requisition, 1, previousPeriod.getStartDate())).thenReturn(singletonMap(productCode, asList(4)));
 
     Rnr previousRnr = make(a(defaultRequisition, with(period, make(a(defaultProcessingPeriod, with(numberOfMonths, 3))))));
     ProgramRnrTemplate programTemplate = new ProgramRnrTemplate();
@@ -385,7 +376,7 @@ public class CalculationServiceTest {
     calculationService.fillFieldsForInitiatedRequisition(requisition, programTemplate, regimenTemplate);
 
     verify(processingScheduleService).getNPreviousPeriodsInDescOrder(requisition.getPeriod(), 5);
-    verify(requisitionRepository).getAuthorizedRegularUnSkippedLineItems(productCode, requisition, 1, previousPeriod.getStartDate());
+    verify(requisitionRepository).getPreviousNormalizedConsumptions(requisition, 1, previousPeriod.getStartDate());
     assertThat(requisition.getFullSupplyLineItems().get(0).getPreviousNormalizedConsumptions(), is(asList(4)));
   }
 
@@ -401,10 +392,7 @@ public class CalculationServiceTest {
 
     when(processingScheduleService.findM(requisition.getPeriod())).thenReturn(2);
     when(processingScheduleService.getNPreviousPeriodsInDescOrder(requisition.getPeriod(), 5)).thenReturn(asList(previousPeriod, secondLastPeriod));
-    RnrLineItem rnrLineItem = new RnrLineItem();
-    rnrLineItem.setNormalizedConsumption(4);
-    List<RnrLineItem> rnrLineItems = asList(rnrLineItem);
-    when(requisitionRepository.getAuthorizedRegularUnSkippedLineItems(productCode, requisition, 1, trackingStartDate)).thenReturn(rnrLineItems);
+    when(requisitionRepository.getPreviousNormalizedConsumptions(requisition, 1, trackingStartDate)).thenReturn(singletonMap(productCode, asList(4)));
 
     Rnr previousRnr = make(a(defaultRequisition, with(period, make(a(defaultProcessingPeriod, with(numberOfMonths, 3))))));
     ProgramRnrTemplate programTemplate = new ProgramRnrTemplate();
@@ -416,7 +404,7 @@ public class CalculationServiceTest {
     calculationService.fillFieldsForInitiatedRequisition(requisition, programTemplate, regimenTemplate);
 
     verify(processingScheduleService).getNPreviousPeriodsInDescOrder(requisition.getPeriod(), 5);
-    verify(requisitionRepository).getAuthorizedRegularUnSkippedLineItems(productCode, requisition, 1, trackingStartDate);
+    verify(requisitionRepository).getPreviousNormalizedConsumptions(requisition, 1, trackingStartDate);
     assertThat(requisition.getFullSupplyLineItems().get(0).getPreviousNormalizedConsumptions(), is(asList(4)));
   }
 
@@ -431,10 +419,7 @@ public class CalculationServiceTest {
 
     when(processingScheduleService.getNPreviousPeriodsInDescOrder(requisition.getPeriod(), 5)).thenReturn(asList(previousPeriod));
 
-    RnrLineItem rnrLineItem = new RnrLineItem();
-    rnrLineItem.setNormalizedConsumption(4);
-    List<RnrLineItem> rnrLineItems = asList(rnrLineItem);
-    when(requisitionRepository.getAuthorizedRegularUnSkippedLineItems(productCode, requisition, 1, trackingStartDate)).thenReturn(rnrLineItems);
+    when(requisitionRepository.getPreviousNormalizedConsumptions(requisition, 1, trackingStartDate)).thenReturn(singletonMap(productCode, asList(4)));
 
     Rnr previousRnr = make(a(defaultRequisition, with(period, make(a(defaultProcessingPeriod, with(numberOfMonths, 3))))));
     ProgramRnrTemplate programTemplate = new ProgramRnrTemplate();
@@ -446,7 +431,7 @@ public class CalculationServiceTest {
     calculationService.fillFieldsForInitiatedRequisition(requisition, programTemplate, regimenTemplate);
 
     verify(processingScheduleService).getNPreviousPeriodsInDescOrder(requisition.getPeriod(), 5);
-    verify(requisitionRepository).getAuthorizedRegularUnSkippedLineItems(productCode, requisition, 1, trackingStartDate);
+    verify(requisitionRepository).getPreviousNormalizedConsumptions(requisition, 1, trackingStartDate);
     assertThat(requisition.getFullSupplyLineItems().get(0).getPreviousNormalizedConsumptions(), is(asList(4)));
   }
 
@@ -463,10 +448,7 @@ public class CalculationServiceTest {
 
     when(processingScheduleService.findM(requisition.getPeriod())).thenReturn(2);
     when(processingScheduleService.getNPreviousPeriodsInDescOrder(requisition.getPeriod(), 5)).thenReturn(asList(previousPeriod, secondLastPeriod, thirdLastPeriod));
-    RnrLineItem rnrLineItem = new RnrLineItem();
-    rnrLineItem.setNormalizedConsumption(4);
-    List<RnrLineItem> rnrLineItems = asList(rnrLineItem);
-    when(requisitionRepository.getAuthorizedRegularUnSkippedLineItems(productCode, requisition, 1, trackingStartDate)).thenReturn(rnrLineItems);
+    when(requisitionRepository.getPreviousNormalizedConsumptions(requisition, 1, trackingStartDate)).thenReturn(singletonMap(productCode, asList(4)));
 
     Rnr previousRnr = make(a(defaultRequisition, with(period, make(a(defaultProcessingPeriod, with(numberOfMonths, 3))))));
     ProgramRnrTemplate programTemplate = new ProgramRnrTemplate();
@@ -478,7 +460,7 @@ public class CalculationServiceTest {
     calculationService.fillFieldsForInitiatedRequisition(requisition, programTemplate, regimenTemplate);
 
     verify(processingScheduleService).getNPreviousPeriodsInDescOrder(requisition.getPeriod(), 5);
-    verify(requisitionRepository).getAuthorizedRegularUnSkippedLineItems(productCode, requisition, 1, trackingStartDate);
+    verify(requisitionRepository).getPreviousNormalizedConsumptions(requisition, 1, trackingStartDate);
     assertThat(requisition.getFullSupplyLineItems().get(0).getPreviousNormalizedConsumptions(), is(asList(4)));
   }
 
@@ -497,12 +479,7 @@ public class CalculationServiceTest {
 
     when(processingScheduleService.findM(requisition.getPeriod())).thenReturn(1);
     when(processingScheduleService.getNPreviousPeriodsInDescOrder(requisition.getPeriod(), 5)).thenReturn(asList(previousPeriod, secondLastPeriod, thirdLastPeriod, fourthLastPeriod, fifthLastPeriod));
-    RnrLineItem rnrLineItem = new RnrLineItem();
-    rnrLineItem.setNormalizedConsumption(4);
-    RnrLineItem rnrLineItem2 = new RnrLineItem();
-    rnrLineItem2.setNormalizedConsumption(5);
-    List<RnrLineItem> rnrLineItems = asList(rnrLineItem, rnrLineItem2);
-    when(requisitionRepository.getAuthorizedRegularUnSkippedLineItems(productCode, requisition, 2, trackingStartDate)).thenReturn(rnrLineItems);
+    when(requisitionRepository.getPreviousNormalizedConsumptions(requisition, 2, trackingStartDate)).thenReturn(singletonMap(productCode, asList(4, 5)));
 
     Rnr previousRnr = make(a(defaultRequisition, with(period, make(a(defaultProcessingPeriod, with(numberOfMonths, 3))))));
     ProgramRnrTemplate programTemplate = new ProgramRnrTemplate();
@@ -514,7 +491,7 @@ public class CalculationServiceTest {
     calculationService.fillFieldsForInitiatedRequisition(requisition, programTemplate, regimenTemplate);
 
     verify(processingScheduleService).getNPreviousPeriodsInDescOrder(requisition.getPeriod(), 5);
-    verify(requisitionRepository).getAuthorizedRegularUnSkippedLineItems(productCode, requisition, 2, trackingStartDate);
+    verify(requisitionRepository).getPreviousNormalizedConsumptions(requisition, 2, trackingStartDate);
     assertThat(requisition.getFullSupplyLineItems().get(0).getPreviousNormalizedConsumptions(), is(asList(4, 5)));
   }
 
@@ -539,7 +516,7 @@ public class CalculationServiceTest {
     calculationService.fillFieldsForInitiatedRequisition(spyRnr, programTemplate, regimenTemplate);
 
     verify(processingScheduleService).getNPreviousPeriodsInDescOrder(spyRnr.getPeriod(), 5);
-    verify(requisitionRepository, never()).getAuthorizedRegularUnSkippedLineItems(anyString(), any(Rnr.class), anyInt(), any(Date.class));
+    verify(requisitionRepository, never()).getPreviousNormalizedConsumptions(any(Rnr.class), anyInt(), any(Date.class));
     assertThat(rnr.getFullSupplyLineItems().get(0).getPreviousNormalizedConsumptions(), is(EMPTY_LIST));
   }
 
@@ -553,11 +530,7 @@ public class CalculationServiceTest {
     ProcessingPeriod secondLastPeriod = new ProcessingPeriod(3l, new Date(), new Date(), 1, "secondLastPeriod");
 
     when(processingScheduleService.getNPreviousPeriodsInDescOrder(spyRnr.getPeriod(), 5)).thenReturn(asList(previousPeriod, secondLastPeriod));
-    RnrLineItem previousLineItem1 = new RnrLineItem();
-    previousLineItem1.setNormalizedConsumption(5);
-    RnrLineItem previousLineItem2 = new RnrLineItem();
-    previousLineItem2.setNormalizedConsumption(50);
-    when(requisitionRepository.getAuthorizedRegularUnSkippedLineItems(productCode, spyRnr, 2, secondLastPeriod.getStartDate())).thenReturn(asList(previousLineItem1, previousLineItem2));
+    when(requisitionRepository.getPreviousNormalizedConsumptions(spyRnr, 2, secondLastPeriod.getStartDate())).thenReturn(singletonMap(productCode, asList(5, 50)));
 
     Rnr previousRnr = make(a(defaultRequisition, with(period, previousPeriod)));
     ProgramRnrTemplate programTemplate = new ProgramRnrTemplate();
@@ -569,10 +542,38 @@ public class CalculationServiceTest {
     calculationService.fillFieldsForInitiatedRequisition(spyRnr, programTemplate, regimenTemplate);
 
     verify(processingScheduleService).getNPreviousPeriodsInDescOrder(spyRnr.getPeriod(), 5);
-    verify(requisitionRepository).getAuthorizedRegularUnSkippedLineItems(productCode, spyRnr, 2, secondLastPeriod.getStartDate());
+    verify(requisitionRepository).getPreviousNormalizedConsumptions(spyRnr, 2, secondLastPeriod.getStartDate());
     assertThat(spyRnr.getFullSupplyLineItems().get(0).getPreviousNormalizedConsumptions(), is(asList(5, 50)));
   }
 
+  @Test
+  public void shouldFetchPreviousNormalizedConsumptionsForAllLineItemsInOneCall() throws Exception {
+    Rnr requisition = getVirtualFacilityRnr();
+    RnrLineItem lineItem1 = make(a(defaultRnrLineItem, with(RnrLineItemBuilder.productCode, "Code1")));
+    RnrLineItem lineItem2 = make(a(defaultRnrLineItem, with(RnrLineItemBuilder.productCode, "Code2")));
+    RnrLineItem lineItem3 = make(a(defaultRnrLineItem, with(RnrLineItemBuilder.productCode, "Code3")));
+    requisition.setFullSupplyLineItems(asList(lineItem1, lineItem2, lineItem3));
+
+    ProcessingPeriod previousPeriod = new ProcessingPeriod(2l, new Date(), new Date(), 3, "previousPeriod");
+    when(processingScheduleService.getNPreviousPeriodsInDescOrder(requisition.getPeriod(), 5)).thenReturn(asList(previousPeriod));
+
+    Map<String, List<Integer>> normalizedConsumptions = new HashMap<>();
+    normalizedConsumptions.put("Code1", asList(4));
+    normalizedConsumptions.put("Code2", asList(7));
+    when(requisitionRepository.getPreviousNormalizedConsumptions(requisition, 1, previousPeriod.getStartDate())).thenReturn(normalizedConsumptions);
+
+    ProgramRnrTemplate programTemplate = new ProgramRnrTemplate();
+    RegimenTemplate regimenTemplate = new RegimenTemplate();
+    doNothing().when(requisition).setFieldsAccordingToTemplateFrom(null, programTemplate, regimenTemplate);
+
+    calculationService.fillFieldsForInitiatedRequisition(requisition, programTemplate, regimenTemplate);
+
+    verify(requisitionRepository, times(1)).getPreviousNormalizedConsumptions(any(Rnr.class), anyInt(), any(Date.class));
+    assertThat(lineItem1.getPreviousNormalizedConsumptions(), is(asList(4)));
+    assertThat(lineItem2.getPreviousNormalizedConsumptions(), is(asList(7)));
+    assertThat(lineItem3.getPreviousNormalizedConsumptions(), is(EMPTY_LIST));
+  }
+
   @Test
   public void shouldSetDto90daysForRegularRnrWithMEqualTo3() throws Exception {
     RnrLineItem lineItem = rnr.getFullSupplyLineItems().get(0);
@@ -587,7 +588,7 @@ public class CalculationServiceTest {
     Integer expectedNumberOfDays = 90;
     assertThat(lineItem.getReportingDays(), is(expectedNumberOfDays));
     verify(processingScheduleService).getNPreviousPeriodsInDescOrder(rnr.getPeriod(), 2);
-    verify(requisitionRepository, never()).getAuthorizedDateForPreviousLineItem(rnr, lineItem.getProductCode(), previousPeriod.getStartDate());
+    verify(requisitionRepository, never()).getAuthorizedDatesForPreviousLineItems(any(Rnr.class), any(Date.class));
   }
 
   @Test
@@ -605,7 +606,7 @@ public class CalculationServiceTest {
     Integer expectedNumberOfDays = 31;
     assertThat(lineItem.getReportingDays(), is(expectedNumberOfDays));
     verify(processingScheduleService).getNPreviousPeriodsInDescOrder(rnr.getPeriod(), 2);
-    verify(requisitionRepository, never()).getAuthorizedDateForPreviousLineItem(rnr, lineItem.getProductCode(), previousPeriod.getStartDate());
+    verify(requisitionRepository, never()).getAuthorizedDatesForPreviousLineItems(any(Rnr.class), any(Date.class));
   }
 
   private Rnr getVirtualFacilityRnr() {
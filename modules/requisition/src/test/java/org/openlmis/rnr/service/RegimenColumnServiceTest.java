@@ -50,6 +50,9 @@ public class RegimenColumnServiceTest {
   @Mock
   ProgramService programService;
 
+  @Mock
+  RequisitionTemplateCache requisitionTemplateCache;
+
   @InjectMocks
   RegimenColumnService service;
 
@@ -65,6 +68,7 @@ public class RegimenColumnServiceTest {
 
     verify(repository).save(regimenTemplate, userId);
     verify(programService).setRegimenTemplateConfigured(programId);
+    verify(requisitionTemplateCache).invalidateRegimenTemplate(programId);
   }
 
   @Test
@@ -122,18 +126,15 @@ public class RegimenColumnServiceTest {
   }
 
   @Test
-  public void shouldGetProgramRegimenTemplate() throws Exception {
-    List<RegimenColumn> regimenColumns = new ArrayList<>();
+  public void shouldGetProgramRegimenTemplateFromCache() throws Exception {
     Long programId = 1L;
-    when(repository.getRegimenColumnsByProgramId(programId)).thenReturn(regimenColumns);
-    RegimenTemplate programRegimenTemplate = new RegimenTemplate();
-    whenNew(RegimenTemplate.class).withArguments(programId, regimenColumns).thenReturn(programRegimenTemplate);
+    RegimenTemplate programRegimenTemplate = new RegimenTemplate(programId, new ArrayList<RegimenColumn>());
+    when(requisitionTemplateCache.getRegimenTemplate(programId)).thenReturn(programRegimenTemplate);
 
     RegimenTemplate regimenTemplate = service.getRegimenTemplateByProgramId(programId);
 
-    verifyNew(RegimenTemplate.class).withArguments(programId, regimenColumns);
     assertThat(regimenTemplate, is(programRegimenTemplate));
-    verify(repository).getRegimenColumnsByProgramId(programId);
+    verify(repository, never()).getRegimenColumnsByProgramId(programId);
   }
 
   @Test
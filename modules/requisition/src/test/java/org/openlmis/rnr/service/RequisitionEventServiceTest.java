@@ -10,23 +10,27 @@
 
 package org.openlmis.rnr.service;
 
-import org.ict4h.atomfeed.server.service.EventService;
+import org.ict4h.atomfeed.server.service.Event;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.openlmis.core.service.EventOutboxService;
 import org.openlmis.db.categories.UnitTests;
 import org.openlmis.rnr.domain.Rnr;
 import org.openlmis.rnr.event.RequisitionStatusChangeEvent;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
+import static java.util.Arrays.asList;
 import static com.natpryce.makeiteasy.MakeItEasy.a;
 import static com.natpryce.makeiteasy.MakeItEasy.make;
+import static com.natpryce.makeiteasy.MakeItEasy.with;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.openlmis.rnr.builder.RequisitionBuilder.defaultRequisition;
+import static org.openlmis.rnr.builder.RequisitionBuilder.id;
 import static org.powermock.api.mockito.PowerMockito.whenNew;
 
 @Category(UnitTests.class)
@@ -35,19 +39,33 @@ import static org.powermock.api.mockito.PowerMockito.whenNew;
 public class RequisitionEventServiceTest {
 
   @Mock
-  EventService eventService;
+  EventOutboxService eventOutboxService;
 
   @InjectMocks
   RequisitionEventService service;
 
   @Test
-  public void shouldTriggerNotifyOnEventService() throws Exception {
+  public void shouldRecordStatusChangeEventInOutbox() throws Exception {
     Rnr requisition = make(a(defaultRequisition));
     RequisitionStatusChangeEvent event = mock(RequisitionStatusChangeEvent.class);
     whenNew(RequisitionStatusChangeEvent.class).withArguments(requisition).thenReturn(event);
 
     service.notifyForStatusChange(requisition);
 
-    verify(eventService).notify(event);
+    verify(eventOutboxService).record(event);
+  }
+
+  @Test
+  public void shouldRecordStatusChangeEventsOfAllRequisitionsInOneCall() throws Exception {
+    Rnr requisition1 = make(a(defaultRequisition, with(id, 1L)));
+    Rnr requisition2 = make(a(defaultRequisition, with(id, 2L)));
+    RequisitionStatusChangeEvent event1 = mock(RequisitionStatusChangeEvent.class);
+    RequisitionStatusChangeEvent event2 = mock(RequisitionStatusChangeEvent.class);
+    whenNew(RequisitionStatusChangeEvent.class).withArguments(requisition1).thenReturn(event1);
+    whenNew(RequisitionStatusChangeEvent.class).withArguments(requisition2).thenReturn(event2);
+
+    service.notifyForStatusChange(asList(requisition1, requisition2));
+
+    verify(eventOutboxService).recordAll(asList((Event) event1, event2));
   }
 }
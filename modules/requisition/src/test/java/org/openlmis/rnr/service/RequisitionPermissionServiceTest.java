@@ -16,11 +16,13 @@ import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.openlmis.core.domain.*;
 import org.openlmis.core.service.ProgramSupportedService;
 import org.openlmis.core.service.RoleAssignmentService;
 import org.openlmis.core.service.RoleRightsService;
+import org.openlmis.core.service.UserRightsCache;
 import org.openlmis.db.categories.UnitTests;
 import org.openlmis.rnr.builder.RequisitionBuilder;
 import org.openlmis.rnr.domain.Rnr;
@@ -31,6 +33,7 @@ import java.util.List;
 import java.util.Set;
 
 import static com.natpryce.makeiteasy.MakeItEasy.*;
+import static java.util.Arrays.asList;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
@@ -57,6 +60,9 @@ public class RequisitionPermissionServiceTest {
   @Mock
   private ProgramSupportedService programSupportedService;
 
+  @Spy
+  private UserRightsCache userRightsCache = new UserRightsCache(300, 100, 100);
+
   @InjectMocks
   private RequisitionPermissionService requisitionPermissionService;
   private Long userId;
@@ -200,6 +206,20 @@ public class RequisitionPermissionServiceTest {
     assertThat(requisitionPermissionService.hasPermission(userId, rnr, APPROVE_REQUISITION), is(true));
   }
 
+  @Test
+  public void shouldFetchApproveAssignmentsOfUserOnlyOnce() throws Exception {
+    Long supervisoryNodeId = 1L;
+    Rnr rnr = make(a(RequisitionBuilder.defaultRequisition, with(status, AUTHORIZED)));
+    rnr.setSupervisoryNodeId(supervisoryNodeId);
+    List<RoleAssignment> roleAssignments = asList(roleAssignmentWithSupervisoryNodeId(supervisoryNodeId, 3l));
+    when(roleAssignmentService.getRoleAssignments(APPROVE_REQUISITION, userId)).thenReturn(roleAssignments);
+
+    requisitionPermissionService.hasPermission(userId, rnr, APPROVE_REQUISITION);
+    assertThat(requisitionPermissionService.hasPermission(userId, rnr, APPROVE_REQUISITION), is(true));
+
+    verify(roleAssignmentService, times(1)).getRoleAssignments(APPROVE_REQUISITION, userId);
+  }
+
   @Test
   public void shouldReturnFalseIfUserHasApproveRightOnNodeButNotForProgram() throws Exception {
     Long supervisoryNodeId = 1L;
@@ -21,6 +21,7 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.openlmis.core.builder.FacilityBuilder;
 import org.openlmis.core.builder.ProcessingPeriodBuilder;
 import org.openlmis.core.builder.SupervisoryNodeBuilder;
@@ -48,6 +49,7 @@ import java.util.List;
 
 import static com.natpryce.makeiteasy.MakeItEasy.*;
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
@@ -130,6 +132,8 @@ public class RequisitionServiceTest {
   private DbMapper dbMapper;
   @Mock
   private BudgetLineItemService budgetLineItemService;
+  @Spy
+  private ApprovedRequisitionCountCache approvedRequisitionCountCache = new ApprovedRequisitionCountCache(0, 0);
 
   @InjectMocks
   private RequisitionSearchStrategyFactory requisitionSearchStrategyFactory;
@@ -505,12 +509,15 @@ public class RequisitionServiceTest {
     when(roleAssignmentService.getRoleAssignments(APPROVE_REQUISITION, USER_ID)).thenReturn(roleAssignments);
     when(requisitionRepository.getAuthorizedRequisitions(firstAssignment)).thenReturn(requisitionsForFirstAssignment);
     when(requisitionRepository.getAuthorizedRequisitions(secondAssignment)).thenReturn(requisitionsForSecondAssignment);
-    Program expectedProgram = new Program();
-    Facility expectedFacility = new Facility();
-    ProcessingPeriod expectedPeriod = new ProcessingPeriod();
-    when(programService.getById(3L)).thenReturn(expectedProgram);
-    when(facilityService.getById(3L)).thenReturn(expectedFacility);
-    when(processingScheduleService.getPeriodById(3L)).thenReturn(expectedPeriod);
+    Program expectedProgram = new Program(3L);
+    Facility expectedFacility = new Facility(3L);
+    ProcessingPeriod expectedPeriod = new ProcessingPeriod(3L);
+    Date submittedDate = new Date();
+    when(programService.getAllByIds(asList(3L))).thenReturn(asList(expectedProgram));
+    when(facilityService.getAllByIds(asList(3L))).thenReturn(asList(expectedFacility));
+    when(processingScheduleService.getPeriodsByIds(asList(3L))).thenReturn(asList(expectedPeriod));
+    when(requisitionRepository.getOperationDatesFor(asList(requisition.getId()), SUBMITTED.toString()))
+      .thenReturn(singletonMap(requisition.getId(), submittedDate));
 
     List<Rnr> requisitions = requisitionService.listForApproval(USER_ID);
 
@@ -523,6 +530,7 @@ public class RequisitionServiceTest {
     assertThat(requisition.getProgram(), is(expectedProgram));
     assertThat(requisition.getFacility(), is(expectedFacility));
     assertThat(requisition.getPeriod(), is(expectedPeriod));
+    assertThat(requisition.getSubmittedDate(), is(submittedDate));
     verify(requisitionRepository, times(1)).getAuthorizedRequisitions(firstAssignment);
     verify(requisitionRepository, times(1)).getAuthorizedRequisitions(secondAssignment);
   }
@@ -701,9 +709,9 @@ public class RequisitionServiceTest {
     Program expectedProgram = requisition.getProgram();
     Facility expectedFacility = requisition.getFacility();
     ProcessingPeriod expectedPeriod = requisition.getPeriod();
-    when(programService.getById(3L)).thenReturn(expectedProgram);
-    when(facilityService.getById(3L)).thenReturn(expectedFacility);
-    when(processingScheduleService.getPeriodById(3L)).thenReturn(expectedPeriod);
+    when(programService.getAllByIds(asList(3L))).thenReturn(asList(expectedProgram));
+    when(facilityService.getAllByIds(asList(3L))).thenReturn(asList(expectedFacility));
+    when(processingScheduleService.getPeriodsByIds(asList(3L))).thenReturn(asList(expectedPeriod));
 
     Facility facility = new Facility(1L);
     Program program = new Program(2L);
@@ -726,9 +734,10 @@ public class RequisitionServiceTest {
 
     assertThat(actual, is(expected));
     verify(spyFactory).getSearchStrategy(criteria);
-    verify(programService).getById(3L);
-    verify(facilityService).getById(3L);
-    verify(processingScheduleService).getPeriodById(3L);
+    verify(programService).getAllByIds(asList(3L));
+    verify(facilityService).getAllByIds(asList(3L));
+    verify(processingScheduleService).getPeriodsByIds(asList(3L));
+    verify(facilityService, never()).getById(anyLong());
   }
 
   @Test
@@ -763,6 +772,35 @@ public class RequisitionServiceTest {
     assertThat(fullRequisition.getSupplyingDepot(), is(supplyingDepot));
   }
 
+  @Test
+  public void shouldGetFullRequisitionsByIdsWithSharedLookups() {
+    Rnr requisition1 = new Rnr(1L);
+    Rnr requisition2 = new Rnr(2L);
+    for (Rnr requisition : asList(requisition1, requisition2)) {
+      requisition.setFacility(new Facility(FACILITY.getId()));
+      requisition.setProgram(new Program(PROGRAM.getId()));
+      requisition.setPeriod(new ProcessingPeriod(PERIOD.getId()));
+      requisition.setStatus(RnrStatus.RELEASED);
+    }
+    Date submittedDate = new Date();
+    when(requisitionRepository.getByIds(asList(1L, 2L))).thenReturn(asList(requisition1, requisition2));
+    when(facilityService.getAllByIds(asList(FACILITY.getId()))).thenReturn(asList(FACILITY));
+    when(programService.getAllByIds(asList(PROGRAM.getId()))).thenReturn(asList(PROGRAM));
+    when(processingScheduleService.getPeriodsByIds(asList(PERIOD.getId()))).thenReturn(asList(PERIOD));
+    when(requisitionRepository.getOperationDatesFor(asList(1L, 2L), SUBMITTED.toString()))
+      .thenReturn(singletonMap(1L, submittedDate));
+
+    List<Rnr> requisitions = requisitionService.getFullRequisitionsByIds(asList(1L, 2L));
+
+    assertThat(requisitions, is(asList(requisition1, requisition2)));
+    assertThat(requisition2.getFacility(), is(FACILITY));
+    assertThat(requisition2.getProgram(), is(PROGRAM));
+    assertThat(requisition2.getPeriod(), is(PERIOD));
+    assertThat(requisition1.getSubmittedDate(), is(submittedDate));
+    verify(requisitionRepository, never()).getById(anyLong());
+    verify(facilityService, never()).getById(anyLong());
+  }
+
   @Test
   public void shouldGetRequisitionFilledWithSupplyLine() {
     Long requisitionId = 1L;
@@ -971,41 +1009,41 @@ public class RequisitionServiceTest {
   }
 
   @Test
-  public void shouldReleaseRequisitionAsOrder() throws Exception {
+  public void shouldReleaseRequisitionsAsOrderInBulk() throws Exception {
     when(requisitionPermissionService.hasPermission(USER_ID, CONVERT_TO_ORDER)).thenReturn(true);
-    final Rnr requisition = spy(authorizedRnr);
-    when(requisitionRepository.getById(authorizedRnr.getId())).thenReturn(requisition);
-    List<Rnr> requisitionList = new ArrayList<Rnr>() {{
-      add(requisition);
-    }};
-
-    when(facilityService.getById(requisition.getFacility().getId())).thenReturn(FACILITY);
-    when(processingScheduleService.getPeriodById(requisition.getPeriod().getId())).thenReturn(PERIOD);
-    when(programService.getById(requisition.getProgram().getId())).thenReturn(PROGRAM);
+    List<Rnr> requisitionList = asList(new Rnr(1L), new Rnr(2L));
+    List<Rnr> releasedRequisitions = asList(new Rnr(1L), new Rnr(2L));
+    when(requisitionRepository.getStatusSummaries(asList(1L, 2L))).thenReturn(releasedRequisitions);
 
-    requisitionService.releaseRequisitionsAsOrder(requisitionList, USER_ID);
+    List<Rnr> returnedRequisitions = requisitionService.releaseRequisitionsAsOrder(requisitionList, USER_ID);
 
-    verify(requisition).convertToOrder(USER_ID);
+    verify(requisitionRepository).releaseAsOrder(asList(1L, 2L), USER_ID);
+    verify(requisitionRepository, never()).getById(anyLong());
+    verify(requisitionRepository, never()).update(any(Rnr.class));
+    verify(approvedRequisitionCountCache).invalidateAll();
+    assertThat(returnedRequisitions, is(releasedRequisitions));
   }
 
   @Test
-  public void shouldNotifyStatusChangeToReleased() throws Exception {
+  public void shouldNotifyStatusChangeToReleasedFromSummaries() throws Exception {
     when(requisitionPermissionService.hasPermission(USER_ID, CONVERT_TO_ORDER)).thenReturn(true);
-    final Rnr requisition = spy(authorizedRnr);
-    when(requisitionRepository.getById(authorizedRnr.getId())).thenReturn(requisition);
-    List<Rnr> requisitionList = new ArrayList<Rnr>() {{
-      add(requisition);
-    }};
-
-    when(facilityService.getById(requisition.getFacility().getId())).thenReturn(FACILITY);
-    when(processingScheduleService.getPeriodById(requisition.getPeriod().getId())).thenReturn(PERIOD);
-    when(programService.getById(requisition.getProgram().getId())).thenReturn(PROGRAM);
+    Rnr releasedRequisition = new Rnr(1L);
+    when(requisitionRepository.getStatusSummaries(asList(1L))).thenReturn(asList(releasedRequisition));
 
-    requisitionService.releaseRequisitionsAsOrder(requisitionList, USER_ID);
+    requisitionService.releaseRequisitionsAsOrder(asList(new Rnr(1L)), USER_ID);
 
-    verify(requisitionEventService).notifyForStatusChange(requisition);
+    verify(requisitionEventService).notifyForStatusChange(asList(releasedRequisition));
   }
 
+  @Test
+  public void shouldNotReleaseRequisitionsAsOrderWithoutConvertToOrderRight() throws Exception {
+    when(requisitionPermissionService.hasPermission(USER_ID, CONVERT_TO_ORDER)).thenReturn(false);
+
+    expectedException.expect(DataException.class);
+    expectedException.expectMessage(RNR_OPERATION_UNAUTHORIZED);
+
+    requisitionService.releaseRequisitionsAsOrder(asList(new Rnr(1L)), USER_ID);
+  }
 
   @Test
   public void shouldSaveRnrWithOnlyThoseFieldsWhichAreCreatorEditableBasedOnRnrStatus() throws Exception {
@@ -1105,6 +1143,8 @@ public class RequisitionServiceTest {
     String sortDirection = "asc";
     Rnr rnr = getFilledSavedRequisitionWithDefaultFacilityProgramPeriod(make(a(defaultRequisition)), Right.CONVERT_TO_ORDER);
     List<Rnr> filteredRnrList = Arrays.asList(rnr);
+    when(programService.getAllByIds(asList(rnr.getProgram().getId()))).thenReturn(asList(PROGRAM));
+    when(facilityService.getAllByIds(asList(rnr.getFacility().getId()))).thenReturn(asList(FACILITY));
 
     when(requisitionRepository.getApprovedRequisitionsForCriteriaAndPageNumber(searchType, searchVal, pageNumber,
       pageSize, 1l, Right.CONVERT_TO_ORDER, sortBy, sortDirection)).thenReturn(filteredRnrList);
@@ -1118,6 +1158,25 @@ public class RequisitionServiceTest {
     assertThat(rnrList, is(filteredRnrList));
   }
 
+  @Test
+  public void shouldGetApprovedRequisitionsAfterGivenRequisition() throws Exception {
+    Integer pageSize = 3;
+    Rnr rnr = getFilledSavedRequisitionWithDefaultFacilityProgramPeriod(make(a(defaultRequisition)), Right.CONVERT_TO_ORDER);
+    List<Rnr> filteredRnrList = Arrays.asList(rnr);
+    when(programService.getAllByIds(asList(rnr.getProgram().getId()))).thenReturn(asList(PROGRAM));
+    when(facilityService.getAllByIds(asList(rnr.getFacility().getId()))).thenReturn(asList(FACILITY));
+    when(staticReferenceDataService.getPropertyValue(CONVERT_TO_ORDER_PAGE_SIZE)).thenReturn(pageSize.toString());
+    when(requisitionRepository.getApprovedRequisitionsForCriteriaAfter(SEARCH_ALL, "test", 42L, pageSize, 1l,
+      Right.CONVERT_TO_ORDER, "submittedDate", "asc")).thenReturn(filteredRnrList);
+
+    List<Rnr> rnrList = requisitionService.getApprovedRequisitionsForCriteriaAfter(SEARCH_ALL, "test", 42L, 1l,
+      Right.CONVERT_TO_ORDER, "submittedDate", "asc");
+
+    verify(requisitionRepository, never()).getApprovedRequisitionsForCriteriaAndPageNumber(anyString(), anyString(),
+      anyInt(), anyInt(), anyLong(), any(Right.class), anyString(), anyString());
+    assertThat(rnrList, is(filteredRnrList));
+  }
+
   @Test
   public void shouldThrowErrorInCasePageNumberRequestedNotAvailable() throws Exception {
     expectedException.expect(DataException.class);
@@ -1153,6 +1212,8 @@ public class RequisitionServiceTest {
     Integer count = requisitionService.getNumberOfPagesOfApprovedRequisitionsForCriteria(searchType, searchVal, 1l, Right.CONVERT_TO_ORDER);
 
     assertThat(count, is(2));
+    verify(approvedRequisitionCountCache).get(eq(asList(searchType, searchVal, 1l, Right.CONVERT_TO_ORDER)),
+      any(ReferenceDataCache.Loader.class));
   }
 
   @Test
@@ -0,0 +1,132 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.rnr.service;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.openlmis.core.domain.Program;
+import org.openlmis.core.service.ProgramService;
+import org.openlmis.db.categories.UnitTests;
+import org.openlmis.rnr.domain.ProgramRnrTemplate;
+import org.openlmis.rnr.domain.RegimenColumn;
+import org.openlmis.rnr.domain.RegimenTemplate;
+import org.openlmis.rnr.domain.RnrColumn;
+import org.openlmis.rnr.repository.RegimenColumnRepository;
+import org.openlmis.rnr.repository.RnrTemplateRepository;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.*;
+
+@Category(UnitTests.class)
+@RunWith(MockitoJUnitRunner.class)
+public class RequisitionTemplateCacheTest {
+
+  @Mock
+  private RnrTemplateRepository rnrTemplateRepository;
+
+  @Mock
+  private RegimenColumnRepository regimenColumnRepository;
+
+  @Mock
+  private ProgramService programService;
+
+  @InjectMocks
+  private RequisitionTemplateCache cache;
+
+  @Test
+  public void shouldLoadProgramTemplateOnceAndServeItFromCache() throws Exception {
+    RnrColumn column = new RnrColumn();
+    column.setName("stockInHand");
+    when(rnrTemplateRepository.fetchRnrTemplateColumnsOrMasterColumns(1L)).thenReturn(asList(column));
+
+    ProgramRnrTemplate first = cache.getProgramTemplate(1L);
+    ProgramRnrTemplate second = cache.getProgramTemplate(1L);
+
+    verify(rnrTemplateRepository, times(1)).fetchRnrTemplateColumnsOrMasterColumns(1L);
+    assertThat(second.getProgramId(), is(1L));
+    assertThat(second.getRnrColumnsMap().get("stockInHand"), is(column));
+    assertThat(first == second, is(false));
+    assertThat(cache.getMisses(), is(1L));
+    assertThat(cache.getHits(), is(1L));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void shouldNotAllowCachedColumnsToBeModified() throws Exception {
+    when(rnrTemplateRepository.fetchColumnsForRequisition(1L)).thenReturn(asList(new RnrColumn()));
+
+    List<RnrColumn> columns = (List<RnrColumn>) cache.getProgramTemplateForRequisition(1L).getColumns();
+
+    columns.add(new RnrColumn());
+  }
+
+  @Test
+  public void shouldReloadProgramTemplatesAfterInvalidation() throws Exception {
+    when(rnrTemplateRepository.fetchRnrTemplateColumnsOrMasterColumns(1L)).thenReturn(asList(new RnrColumn()));
+    when(rnrTemplateRepository.fetchColumnsForRequisition(1L)).thenReturn(asList(new RnrColumn()));
+    cache.getProgramTemplate(1L);
+    cache.getProgramTemplateForRequisition(1L);
+
+    cache.invalidateProgramTemplate(1L);
+    cache.getProgramTemplate(1L);
+    cache.getProgramTemplateForRequisition(1L);
+
+    verify(rnrTemplateRepository, times(2)).fetchRnrTemplateColumnsOrMasterColumns(1L);
+    verify(rnrTemplateRepository, times(2)).fetchColumnsForRequisition(1L);
+  }
+
+  @Test
+  public void shouldReloadRegimenTemplateAfterInvalidationOfThatProgramOnly() throws Exception {
+    when(regimenColumnRepository.getRegimenColumnsByProgramId(1L)).thenReturn(asList(new RegimenColumn()));
+    when(regimenColumnRepository.getRegimenColumnsByProgramId(2L)).thenReturn(asList(new RegimenColumn()));
+    cache.getRegimenTemplate(1L);
+    cache.getRegimenTemplate(2L);
+
+    cache.invalidateRegimenTemplate(1L);
+    RegimenTemplate template = cache.getRegimenTemplate(1L);
+    cache.getRegimenTemplate(2L);
+
+    assertThat(template.getColumns().size(), is(1));
+    verify(regimenColumnRepository, times(2)).getRegimenColumnsByProgramId(1L);
+    verify(regimenColumnRepository, times(1)).getRegimenColumnsByProgramId(2L);
+  }
+
+  @Test
+  public void shouldWarmTemplatesOfConfiguredPrograms() throws Exception {
+    Program configured = new Program(1L);
+    configured.setTemplateConfigured(true);
+    configured.setRegimenTemplateConfigured(true);
+    Program notConfigured = new Program(2L);
+    when(programService.getAll()).thenReturn(asList(configured, notConfigured));
+
+    cache.warm();
+
+    verify(rnrTemplateRepository).fetchRnrTemplateColumnsOrMasterColumns(1L);
+    verify(rnrTemplateRepository).fetchColumnsForRequisition(1L);
+    verify(regimenColumnRepository).getRegimenColumnsByProgramId(1L);
+    verify(rnrTemplateRepository, never()).fetchRnrTemplateColumnsOrMasterColumns(2L);
+    verify(regimenColumnRepository, never()).getRegimenColumnsByProgramId(2L);
+  }
+
+  @Test
+  public void shouldNotWarmOnContextRefreshWhenDisabled() throws Exception {
+    cache.onApplicationEvent(null);
+
+    verify(programService, never()).getAll();
+  }
+}
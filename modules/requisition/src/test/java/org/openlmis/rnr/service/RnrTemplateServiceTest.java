@@ -42,6 +42,9 @@ public class RnrTemplateServiceTest {
   @Mock
   private ProgramService programService;
 
+  @Mock
+  private RequisitionTemplateCache requisitionTemplateCache;
+
   @InjectMocks
   private RnrTemplateService service;
   private final static Long EXISTING_PROGRAM_ID = 1L;
@@ -64,6 +67,7 @@ public class RnrTemplateServiceTest {
     service.saveRnRTemplateForProgram(programRnrTemplate);
     verify(repository).saveProgramRnrTemplate(programRnrTemplate);
     verify(programService).setTemplateConfigured(1L);
+    verify(requisitionTemplateCache).invalidateProgramTemplate(1L);
   }
 
   @Test
@@ -77,16 +81,25 @@ public class RnrTemplateServiceTest {
     when(programRnrTemplate.validateToSave()).thenReturn(errors);
     service.saveRnRTemplateForProgram(programRnrTemplate);
     verify(repository, never()).saveProgramRnrTemplate(programRnrTemplate);
+    verify(requisitionTemplateCache, never()).invalidateProgramTemplate(anyLong());
   }
 
   @Test
-  public void shouldFetchProgramTemplate() throws Exception {
-    List<? extends Column> columns = new ArrayList<>();
-    doReturn(columns).when(repository).fetchRnrTemplateColumnsOrMasterColumns(1L);
+  public void shouldFetchProgramTemplateFromCache() throws Exception {
+    ProgramRnrTemplate cachedTemplate = new ProgramRnrTemplate(1L, new ArrayList<RnrColumn>());
+    when(requisitionTemplateCache.getProgramTemplate(1L)).thenReturn(cachedTemplate);
 
     ProgramRnrTemplate template = service.fetchProgramTemplate(1L);
 
-    verify(repository).fetchRnrTemplateColumnsOrMasterColumns(1l);
-    assertThat(template.getColumns().size(), is(columns.size()));
+    assertThat(template, is(cachedTemplate));
+    verify(repository, never()).fetchRnrTemplateColumnsOrMasterColumns(1L);
+  }
+
+  @Test
+  public void shouldFetchProgramTemplateForRequisitionFromCache() throws Exception {
+    ProgramRnrTemplate cachedTemplate = new ProgramRnrTemplate(1L, new ArrayList<RnrColumn>());
+    when(requisitionTemplateCache.getProgramTemplateForRequisition(1L)).thenReturn(cachedTemplate);
+
+    assertThat(service.fetchProgramTemplateForRequisition(1L), is(cachedTemplate));
   }
 }
@@ -12,6 +12,7 @@ package org.openlmis.restapi.authentication;
 
 import org.openlmis.core.domain.User;
 import org.openlmis.core.service.MessageService;
+import org.openlmis.core.service.UserCredentialCache;
 import org.openlmis.core.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationProvider;
@@ -25,31 +26,49 @@ import java.util.Collection;
 
 /**
  * This class extends org.springframework.security.authentication.AuthenticationProvider
- * and is responsible for handling authentication for REST API endpoints.
+ * and is responsible for handling authentication for REST API endpoints. Verified credentials are remembered for a
+ * short time in UserCredentialCache, so repeated calls by the same client do not query the users table each time.
  */
 
 public class RestApiAuthenticationProvider implements AuthenticationProvider {
 
+  private static final MessageService SHARED_MESSAGE_SERVICE = MessageService.getRequestInstance();
+
   @Autowired
   private UserService userService;
 
-  MessageService messageService = MessageService.getRequestInstance();
+  @Autowired
+  private UserCredentialCache userCredentialCache;
+
+  MessageService messageService = SHARED_MESSAGE_SERVICE;
 
   @Override
   public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+    String userName = authentication.getPrincipal().toString();
+    String password = authentication.getCredentials().toString();
+
+    Long userId = userCredentialCache.get(userName, password);
+    if (userId == null) {
+      userId = verify(userName, password);
+      userCredentialCache.put(userName, password, userId);
+    }
+
+    Collection<? extends GrantedAuthority> authorities = null;
+
+    return new UsernamePasswordAuthenticationToken(userId, null, authorities);
+  }
+
+  private Long verify(String userName, String password) {
     User user = new User();
-    user.setUserName(authentication.getPrincipal().toString());
-    user.setPassword(authentication.getCredentials().toString());
+    user.setUserName(userName);
+    user.setPassword(password);
 
     User authenticatedUser = userService.selectUserByUserNameAndPassword(user.getUserName(), user.getPassword());
 
     if (authenticatedUser == null)
       throw new BadCredentialsException(messageService.message("error.authentication.failed"));
 
-    Collection<? extends GrantedAuthority> authorities = null;
-
-    return new UsernamePasswordAuthenticationToken(authenticatedUser.getId(), user.getPassword(),
-      authorities);
+    return authenticatedUser.getId();
   }
 
   @Override
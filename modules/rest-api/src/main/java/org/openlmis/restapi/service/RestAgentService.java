@@ -10,6 +10,7 @@
 package org.openlmis.restapi.service;
 
 import org.openlmis.core.domain.Facility;
+import org.openlmis.core.domain.ProgramSupported;
 import org.openlmis.core.domain.RequisitionGroupMember;
 import org.openlmis.core.exception.DataException;
 import org.openlmis.core.service.FacilityService;
@@ -21,6 +22,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -117,7 +119,11 @@ public class RestAgentService {
     facility.setParentFacilityId(baseFacility.getId());
     facility.setFacilityType(baseFacility.getFacilityType());
     facility.setGeographicZone(baseFacility.getGeographicZone());
-    facility.setSupportedPrograms(baseFacility.getSupportedPrograms());
+    List<ProgramSupported> supportedPrograms = new ArrayList<>();
+    for (ProgramSupported programSupported : baseFacility.getSupportedPrograms()) {
+      supportedPrograms.add(programSupported.copy());
+    }
+    facility.setSupportedPrograms(supportedPrograms);
   }
 
   private Facility getValidatedBaseFacility(Agent agent) {
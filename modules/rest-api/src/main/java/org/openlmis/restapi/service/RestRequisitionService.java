@@ -11,7 +11,6 @@
 package org.openlmis.restapi.service;
 
 import lombok.NoArgsConstructor;
-import org.apache.commons.collections.Predicate;
 import org.apache.log4j.Logger;
 import org.openlmis.core.domain.Facility;
 import org.openlmis.core.domain.Program;
@@ -28,10 +27,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.lang.reflect.Field;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
-import static org.apache.commons.collections.CollectionUtils.find;
 import static org.openlmis.restapi.domain.ReplenishmentDTO.prepareForREST;
 
 /**
@@ -64,6 +63,8 @@ public class RestRequisitionService {
 
   private static final Logger logger = Logger.getLogger(RestRequisitionService.class);
 
+  private static final FieldAccessors RNR_LINE_ITEM_FIELDS = FieldAccessors.of(RnrLineItem.class);
+
   @Transactional
   public Rnr submitReport(Report report, Long userId) {
     report.validate();
@@ -134,18 +135,23 @@ public class RestRequisitionService {
     ProgramRnrTemplate rnrTemplate = rnrTemplateService.fetchProgramTemplateForRequisition(rnr.getProgram().getId());
 
     List<RnrLineItem> savedLineItems = rnr.getFullSupplyLineItems();
-    List<RnrLineItem> reportedProducts = report.getProducts();
+    Map<String, RnrLineItem> reportedProducts = byProductCode(report.getProducts());
 
-    for (final RnrLineItem savedLineItem : savedLineItems) {
-      RnrLineItem reportedLineItem = (RnrLineItem) find(reportedProducts, new Predicate() {
-        @Override
-        public boolean evaluate(Object product) {
-          return ((RnrLineItem) product).getProductCode().equals(savedLineItem.getProductCode());
-        }
-      });
+    for (RnrLineItem savedLineItem : savedLineItems) {
+      copyInto(savedLineItem, reportedProducts.get(savedLineItem.getProductCode()), rnrTemplate);
+    }
+  }
 
-      copyInto(savedLineItem, reportedLineItem, rnrTemplate);
+  private Map<String, RnrLineItem> byProductCode(List<RnrLineItem> products) {
+    Map<String, RnrLineItem> productsByCode = new HashMap<>();
+    if (products == null) return productsByCode;
+
+    for (RnrLineItem product : products) {
+      if (!productsByCode.containsKey(product.getProductCode())) {
+        productsByCode.put(product.getProductCode(), product);
+      }
     }
+    return productsByCode;
   }
 
   private void copyInto(RnrLineItem savedLineItem, RnrLineItem reportedLineItem, ProgramRnrTemplate rnrTemplate) {
@@ -158,12 +164,10 @@ public class RestRequisitionService {
       if (!column.getVisible() || !rnrTemplate.columnsUserInput(column.getName()))
         continue;
       try {
-        Field field = RnrLineItem.class.getDeclaredField(column.getName());
-        field.setAccessible(true);
-
-        Object reportedValue = field.get(reportedLineItem);
-        Object toBeSavedValue = (reportedValue != null ? reportedValue : field.get(savedLineItem));
-        field.set(savedLineItem, toBeSavedValue);
+        Object reportedValue = RNR_LINE_ITEM_FIELDS.get(reportedLineItem, column.getName());
+        if (reportedValue != null) {
+          RNR_LINE_ITEM_FIELDS.set(savedLineItem, column.getName(), reportedValue);
+        }
       } catch (Exception e) {
         logger.error("could not copy field: " + column.getName());
       }
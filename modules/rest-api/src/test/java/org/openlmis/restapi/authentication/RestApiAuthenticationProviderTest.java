@@ -21,6 +21,7 @@ import org.mockito.runners.MockitoJUnitRunner;
 import org.openlmis.core.domain.User;
 import org.openlmis.core.hash.Encoder;
 import org.openlmis.core.service.MessageService;
+import org.openlmis.core.service.UserCredentialCache;
 import org.openlmis.core.service.UserService;
 import org.openlmis.db.categories.UnitTests;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -30,6 +31,9 @@ import org.springframework.security.core.Authentication;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.*;
 import static org.junit.rules.ExpectedException.none;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -46,6 +50,9 @@ public class RestApiAuthenticationProviderTest {
   @Mock
   UserService userService;
 
+  @Mock
+  UserCredentialCache userCredentialCache;
+
   @Mock
   Authentication authentication;
 
@@ -65,7 +72,11 @@ public class RestApiAuthenticationProviderTest {
     expectedException.expect(BadCredentialsException.class);
     expectedException.expectMessage("message");
 
-    restApiAuthenticationProvider.authenticate(authentication);
+    try {
+      restApiAuthenticationProvider.authenticate(authentication);
+    } finally {
+      verify(userCredentialCache, never()).put(anyString(), anyString(), anyLong());
+    }
   }
 
   @Test
@@ -81,6 +92,21 @@ public class RestApiAuthenticationProviderTest {
 
     assertThat((Long) authenticated.getPrincipal(), is(55L));
     verify(userService).selectUserByUserNameAndPassword(userName, Encoder.hash(password));
+    verify(userCredentialCache).put(userName, password, 55L);
+  }
+
+  @Test
+  public void shouldAuthenticateFromCacheWithoutQueryingUsers() throws Exception {
+    String userName = "userName";
+    String password = "valid token";
+    when(authentication.getPrincipal()).thenReturn(userName);
+    when(authentication.getCredentials()).thenReturn(password);
+    when(userCredentialCache.get(userName, password)).thenReturn(55L);
+
+    Authentication authenticated = restApiAuthenticationProvider.authenticate(authentication);
+
+    assertThat((Long) authenticated.getPrincipal(), is(55L));
+    verify(userService, never()).selectUserByUserNameAndPassword(anyString(), anyString());
   }
 
   @Test
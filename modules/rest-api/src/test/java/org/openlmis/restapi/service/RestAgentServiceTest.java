@@ -30,12 +30,15 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
 import java.security.Principal;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 import static com.natpryce.makeiteasy.MakeItEasy.a;
 import static com.natpryce.makeiteasy.MakeItEasy.make;
 import static java.util.Arrays.asList;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.*;
 import static org.openlmis.restapi.builder.AgentBuilder.defaultCHW;
@@ -147,6 +150,34 @@ public class RestAgentServiceTest {
     verify(requisitionGroupMemberService, never()).deleteMembersFor(chwFacility);
   }
 
+  @Test
+  public void shouldNotShareSupportedProgramsOfBaseFacilityWithUpdatedCHWFacility() throws Exception {
+    Agent agent = make(a(defaultCHW));
+
+    Facility baseFacility = getBaseFacility(agent);
+    ProgramSupported programSupported = new ProgramSupported(3l, true, null);
+    programSupported.setFacilityId(baseFacility.getId());
+    List<ProgramSupported> baseSupportedPrograms = new ArrayList<>(asList(programSupported));
+    baseFacility.setSupportedPrograms(baseSupportedPrograms);
+
+    when(facilityService.getFacilityWithReferenceDataForCode(agent.getParentFacilityCode())).thenReturn(baseFacility);
+    Facility chwFacility = new Facility();
+    chwFacility.setVirtualFacility(true);
+    chwFacility.setEnabled(true);
+    chwFacility.setParentFacilityId(1l);
+    whenNew(Facility.class).withNoArguments().thenReturn(chwFacility);
+    when(facilityService.getByCode(chwFacility)).thenReturn(chwFacility);
+
+    restAgentService.update(agent, user.getId());
+    chwFacility.getSupportedPrograms().get(0).setFacilityId(2l);
+    chwFacility.getSupportedPrograms().clear();
+
+    assertThat(baseFacility.getSupportedPrograms(), is(sameInstance(baseSupportedPrograms)));
+    assertThat(baseSupportedPrograms.size(), is(1));
+    assertThat(baseSupportedPrograms.get(0), is(sameInstance(programSupported)));
+    assertThat(programSupported.getFacilityId(), is(1l));
+  }
+
   @Test
   public void shouldUpdateACHWFacilityAndRequisitionGroupIfParentChanges() throws Exception {
     Agent agent = make(a(defaultCHW));
@@ -15,6 +15,7 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import org.openlmis.core.domain.BaseModel;
 import org.openlmis.core.domain.Facility;
+import org.openlmis.core.domain.Money;
 import org.openlmis.core.domain.SupplyLine;
 import org.openlmis.rnr.domain.Rnr;
 import org.openlmis.shipment.domain.ShipmentFileInfo;
@@ -34,6 +35,8 @@ public class Order extends BaseModel implements Comparable {
   private SupplyLine supplyLine;
   private ShipmentFileInfo shipmentFileInfo;
   private String ftpComment;
+  private Integer orderedLineItemCount;
+  private Money orderedCost;
 
   public Order(Rnr rnr) {
     this(rnr.getId());
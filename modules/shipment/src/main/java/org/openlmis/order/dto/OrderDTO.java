@@ -13,6 +13,7 @@ package org.openlmis.order.dto;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.openlmis.core.domain.Money;
 import org.openlmis.core.domain.SupplyLine;
 import org.openlmis.order.domain.Order;
 import org.openlmis.order.domain.OrderStatus;
@@ -42,6 +43,7 @@ public class OrderDTO {
   private String ftpComment;
   private SupplyLine supplyLine;
   private Boolean shipmentError;
+  private Money orderedCost;
 
   public static List<OrderDTO> getOrdersForView(List<Order> orders) {
     List<OrderDTO> orderDTOs = new ArrayList<>();
@@ -65,7 +67,10 @@ public class OrderDTO {
     orderDTO.setSupplyLine(order.getSupplyLine());
     ShipmentFileInfo shipmentFileInfo = order.getShipmentFileInfo();
     if (shipmentFileInfo != null) orderDTO.setShipmentError(shipmentFileInfo.isProcessingError());
-    if (order.getRnr().getFullSupplyLineItems().size() == 0 && order.getRnr().getNonFullSupplyLineItems().size() == 0) {
+    orderDTO.setOrderedCost(order.getOrderedCost());
+    if (order.getOrderedLineItemCount() != null) {
+      orderDTO.setProductsOrdered(order.getOrderedLineItemCount() > 0);
+    } else if (order.getRnr().getFullSupplyLineItems().size() == 0 && order.getRnr().getNonFullSupplyLineItems().size() == 0) {
       orderDTO.setProductsOrdered(false);
     } else {
       orderDTO.setProductsOrdered(true);
@@ -12,7 +12,6 @@ package org.openlmis.order.helper;
 
 import lombok.NoArgsConstructor;
 import org.apache.commons.collections.Predicate;
-import org.apache.commons.jxpath.JXPathContext;
 import org.openlmis.order.domain.Order;
 import org.openlmis.order.domain.OrderFileColumn;
 import org.openlmis.order.dto.OrderFileTemplateDTO;
@@ -21,32 +20,54 @@ import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.io.Writer;
-import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
-import static org.apache.commons.collections.CollectionUtils.filter;
-import static org.joda.time.format.DateTimeFormat.forPattern;
+import static org.apache.commons.collections.CollectionUtils.select;
 
 /**
- * OrderCsvHelper provides helper methods to generate a csv file for Order entity.
+ * OrderCsvHelper provides helper methods to generate a csv file for Order entity. Column key paths are compiled into
+ * accessors once and reused across rows and files; values of order level columns are read once per order.
  */
 
 @Component
 @NoArgsConstructor
 public class OrderCsvHelper {
 
+  private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+  private static final String SEPARATOR = ",";
+  private static final String QUOTE = "\"";
+  private static final String NESTED_ORDER = "order";
+
+  private ConcurrentMap<String, OrderFileColumnAccessor> accessors = new ConcurrentHashMap<>();
+
   public void writeCsvFile(Order order, OrderFileTemplateDTO orderFileTemplateDTO, Writer writer) throws IOException {
-    List<OrderFileColumn> orderFileColumns = orderFileTemplateDTO.getOrderFileColumns();
-    removeExcludedColumns(orderFileColumns);
+    List<OrderFileColumn> orderFileColumns = getIncludedColumns(orderFileTemplateDTO.getOrderFileColumns());
     if (orderFileTemplateDTO.getOrderConfiguration().isHeaderInFile()) {
       writeHeader(orderFileColumns, writer);
     }
-    writeLineItems(order, order.getRnr().getFullSupplyLineItems(), orderFileColumns, writer);
-    writeLineItems(order, order.getRnr().getNonFullSupplyLineItems(), orderFileColumns, writer);
+
+    OrderFileColumnAccessor[] columnAccessors = new OrderFileColumnAccessor[orderFileColumns.size()];
+    String[] orderValues = new String[orderFileColumns.size()];
+    for (int i = 0; i < orderFileColumns.size(); i++) {
+      OrderFileColumn column = orderFileColumns.get(i);
+      if (isBlank(column)) {
+        continue;
+      }
+      if (column.getNested().equals(NESTED_ORDER)) {
+        orderValues[i] = getAccessor(Order.class, column).getValue(order);
+      } else {
+        columnAccessors[i] = getAccessor(RnrLineItem.class, column);
+      }
+    }
+
+    writeLineItems(order.getRnr().getFullSupplyLineItems(), columnAccessors, orderValues, writer);
+    writeLineItems(order.getRnr().getNonFullSupplyLineItems(), columnAccessors, orderValues, writer);
   }
 
-  private void removeExcludedColumns(List<OrderFileColumn> orderFileColumns) {
-    filter(orderFileColumns, new Predicate() {
+  private List<OrderFileColumn> getIncludedColumns(List<OrderFileColumn> orderFileColumns) {
+    return (List<OrderFileColumn>) select(orderFileColumns, new Predicate() {
       @Override
       public boolean evaluate(Object o) {
         return ((OrderFileColumn) o).getIncludeInOrderFile();
@@ -54,46 +75,54 @@ public class OrderCsvHelper {
     });
   }
 
+  private OrderFileColumnAccessor getAccessor(Class<?> rootType, OrderFileColumn column) {
+    String key = column.getNested() + ":" + column.getKeyPath() + ":" + column.getFormat();
+    OrderFileColumnAccessor accessor = accessors.get(key);
+    if (accessor == null) {
+      accessor = new OrderFileColumnAccessor(rootType, column);
+      accessors.putIfAbsent(key, accessor);
+    }
+    return accessor;
+  }
+
+  private boolean isBlank(OrderFileColumn column) {
+    return column.getNested() == null || column.getNested().isEmpty();
+  }
+
   private void writeHeader(List<OrderFileColumn> orderFileColumns, Writer writer) throws IOException {
-    for (OrderFileColumn column : orderFileColumns) {
-      String columnLabel = column.getColumnLabel();
-      if (columnLabel == null) columnLabel = "";
-      writer.write(columnLabel);
-      if (orderFileColumns.indexOf(column) == (orderFileColumns.size() - 1)) {
-        writer.write(System.getProperty("line.separator"));
-        break;
-      }
-      writer.write(",");
+    for (int i = 0; i < orderFileColumns.size(); i++) {
+      String columnLabel = orderFileColumns.get(i).getColumnLabel();
+      writer.write(columnLabel == null ? "" : columnLabel);
+      writer.write(i == orderFileColumns.size() - 1 ? LINE_SEPARATOR : SEPARATOR);
     }
   }
 
-  private void writeLineItems(Order order, List<RnrLineItem> fullSupplyLineItems, List<OrderFileColumn> orderFileColumns, Writer writer) throws IOException {
-    for (RnrLineItem rnrLineItem : fullSupplyLineItems) {
-      writeCsvLineItem(order, rnrLineItem, orderFileColumns, writer);
-      writer.write(System.getProperty("line.separator"));
+  private void writeLineItems(List<RnrLineItem> lineItems, OrderFileColumnAccessor[] columnAccessors, String[] orderValues,
+                              Writer writer) throws IOException {
+    for (RnrLineItem rnrLineItem : lineItems) {
+      writeCsvLineItem(rnrLineItem, columnAccessors, orderValues, writer);
+      writer.write(LINE_SEPARATOR);
     }
   }
 
-  private void writeCsvLineItem(Order order, RnrLineItem rnrLineItem, List<OrderFileColumn> orderFileColumns, Writer writer) throws IOException {
-    JXPathContext orderContext = JXPathContext.newContext(order);
-    JXPathContext lineItemContext = JXPathContext.newContext(rnrLineItem);
-    for (OrderFileColumn orderFileColumn : orderFileColumns) {
-      if (orderFileColumn.getNested() == null || orderFileColumn.getNested().isEmpty()) {
-        writer.write(",");
+  private void writeCsvLineItem(RnrLineItem rnrLineItem, OrderFileColumnAccessor[] columnAccessors, String[] orderValues,
+                                Writer writer) throws IOException {
+    int lastColumn = columnAccessors.length - 1;
+    for (int i = 0; i <= lastColumn; i++) {
+      String columnValue = orderValues[i];
+      if (columnValue == null && columnAccessors[i] == null) {
+        writer.write(SEPARATOR);
         continue;
       }
-      Object columnValue;
-      if (orderFileColumn.getNested().equals("order")) {
-        columnValue = orderContext.getValue(orderFileColumn.getKeyPath());
-      } else {
-        columnValue = lineItemContext.getValue(orderFileColumn.getKeyPath());
+      if (columnValue == null) {
+        columnValue = columnAccessors[i].getValue(rnrLineItem);
       }
-      if (columnValue instanceof Date) {
-        columnValue = forPattern(orderFileColumn.getFormat()).print(((Date) columnValue).getTime());
+      writer.write(QUOTE);
+      writer.write(columnValue);
+      writer.write(QUOTE);
+      if (i < lastColumn) {
+        writer.write(SEPARATOR);
       }
-      writer.write("\"" + (columnValue).toString() + "\"");
-      if (orderFileColumns.indexOf(orderFileColumn) < orderFileColumns.size() - 1)
-        writer.write(",");
     }
   }
 }
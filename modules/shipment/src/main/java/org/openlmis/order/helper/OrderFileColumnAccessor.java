@@ -0,0 +1,105 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.order.helper;
+
+import org.apache.commons.jxpath.JXPathContext;
+import org.joda.time.format.DateTimeFormatter;
+import org.openlmis.order.domain.OrderFileColumn;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.joda.time.format.DateTimeFormat.forPattern;
+
+/**
+ * OrderFileColumnAccessor reads the value of an OrderFileColumn from an order or a line item. The column's keyPath is
+ * resolved into a chain of getters once, against the declared property types; key paths which cannot be resolved
+ * that way are evaluated through JXPath.
+ */
+
+class OrderFileColumnAccessor {
+
+  private static final String PATH_SEPARATOR = "/";
+
+  private String keyPath;
+  private String format;
+  private DateTimeFormatter dateFormatter;
+  private List<Method> getters;
+
+  OrderFileColumnAccessor(Class<?> rootType, OrderFileColumn column) {
+    this.keyPath = column.getKeyPath();
+    this.format = column.getFormat();
+    if (format != null && !format.isEmpty()) {
+      this.dateFormatter = forPattern(format);
+    }
+    this.getters = resolveGetters(rootType, keyPath);
+  }
+
+  String getValue(Object root) {
+    Object value = (getters == null) ? JXPathContext.newContext(root).getValue(keyPath) : invokeGetters(root);
+    if (value instanceof Date) {
+      DateTimeFormatter formatter = (dateFormatter == null) ? forPattern(format) : dateFormatter;
+      return formatter.print(((Date) value).getTime());
+    }
+    return value.toString();
+  }
+
+  private Object invokeGetters(Object root) {
+    Object value = root;
+    try {
+      for (Method getter : getters) {
+        if (value == null) {
+          return null;
+        }
+        value = getter.invoke(value);
+      }
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException("Unable to read " + keyPath, e);
+    }
+    return value;
+  }
+
+  private static List<Method> resolveGetters(Class<?> rootType, String keyPath) {
+    if (keyPath == null || keyPath.isEmpty()) {
+      return null;
+    }
+    List<Method> getters = new ArrayList<>();
+    Class<?> type = rootType;
+    for (String property : keyPath.split(PATH_SEPARATOR)) {
+      Method getter = findGetter(type, property);
+      if (getter == null) {
+        return null;
+      }
+      getters.add(getter);
+      type = getter.getReturnType();
+    }
+    return getters;
+  }
+
+  private static Method findGetter(Class<?> type, String property) {
+    try {
+      for (PropertyDescriptor descriptor : Introspector.getBeanInfo(type).getPropertyDescriptors()) {
+        if (descriptor.getName().equals(property)) {
+          return descriptor.getReadMethod();
+        }
+      }
+    } catch (IntrospectionException e) {
+      return null;
+    }
+    return null;
+  }
+}
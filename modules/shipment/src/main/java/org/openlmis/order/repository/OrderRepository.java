@@ -19,8 +19,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
+import static org.openlmis.core.repository.helper.CommaSeparator.commaSeparateValues;
+import static org.openlmis.core.repository.helper.ListPartitioner.partition;
+
 /**
  * Repository class for Order related database operations.
  */
@@ -28,6 +33,11 @@ import java.util.List;
 @Repository
 public class OrderRepository {
 
+  /**
+   * Maximum number of orders written per multi-row statement.
+   */
+  static final int BATCH_SIZE = 500;
+
   @Autowired
   private OrderMapper orderMapper;
 
@@ -42,6 +52,16 @@ public class OrderRepository {
     }
   }
 
+  public void saveAll(List<Order> orders) {
+    try {
+      for (List<Order> batch : partition(orders, BATCH_SIZE)) {
+        orderMapper.insertAll(batch);
+      }
+    } catch (DuplicateKeyException dke) {
+      throw new DataException("msg.rnr.already.converted.to.order");
+    }
+  }
+
   public List<Order> getOrdersForPage(int page, int pageSize, Long userId, Right right) {
     return orderMapper.getOrders(pageSize, (page - 1) * pageSize, userId, right);
   }
@@ -50,10 +70,29 @@ public class OrderRepository {
     return orderMapper.getById(id);
   }
 
+  /**
+   * Loads the given orders with only the id of their requisition and supply line filled in.
+   */
+  public List<Order> getByIds(List<Long> orderIds) {
+    List<Order> orders = new ArrayList<>();
+    for (List<Long> batch : partition(orderIds, BATCH_SIZE)) {
+      orders.addAll(orderMapper.getByIds(commaSeparateValues(batch)));
+    }
+    return orders;
+  }
+
   public void updateStatusAndShipmentIdForOrder(Long orderId, OrderStatus status, Long shipmentId) {
     orderMapper.updateShipmentAndStatus(orderId, status, shipmentId);
   }
 
+  public void updateStatusAndShipmentIdForOrders(Collection<Long> orderIds, OrderStatus status, Long shipmentId) {
+    orderMapper.updateShipmentAndStatusForOrders(commaSeparateValues(orderIds), status, shipmentId);
+  }
+
+  public List<Long> getIdsWithStatus(Collection<Long> orderIds, OrderStatus status) {
+    return orderMapper.getIdsWithStatus(commaSeparateValues(orderIds), status);
+  }
+
   public List<OrderFileColumn> getOrderFileTemplate() {
     return orderMapper.getOrderFileColumns();
   }
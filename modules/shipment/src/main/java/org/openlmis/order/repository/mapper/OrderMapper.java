@@ -18,7 +18,6 @@ import org.openlmis.core.domain.SupplyLine;
 import org.openlmis.order.domain.Order;
 import org.openlmis.order.domain.OrderFileColumn;
 import org.openlmis.order.domain.OrderStatus;
-import org.openlmis.shipment.domain.ShipmentFileInfo;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -33,28 +32,60 @@ public interface OrderMapper {
   @Insert("INSERT INTO orders(id, status, ftpcomment, supplyLineId, createdBy, modifiedBy) VALUES (#{rnr.id}, #{status}, #{ftpComment}, #{supplyLine.id}, #{createdBy}, #{createdBy})")
   void insert(Order order);
 
-  @Select({"SELECT DISTINCT O.* FROM orders O INNER JOIN supply_lines S ON O.supplyLineId = S.id ",
-    "INNER JOIN fulfillment_role_assignments FRA ON S.supplyingFacilityId = FRA.facilityId ",
-    "INNER JOIN role_rights RR ON FRA.roleId = RR.roleId",
-    "WHERE FRA.userid = #{userId} AND RR.rightName = #{right} ORDER BY O.createdDate DESC LIMIT #{limit} OFFSET #{offset}"})
+  @Insert({"<script>",
+    "INSERT INTO orders(id, status, ftpcomment, supplyLineId, createdBy, modifiedBy) VALUES",
+    "<foreach collection='orders' item='order' separator=','>",
+    "(#{order.rnr.id}, #{order.status}, #{order.ftpComment}, #{order.supplyLine.id}, #{order.createdBy}, #{order.createdBy})",
+    "</foreach>",
+    "</script>"})
+  void insertAll(@Param("orders") List<Order> orders);
+
+  /**
+   * Summary projection used by order listings: order, requisition header, supply line and shipment file fields in one
+   * row, with the count and cost of ordered line items (packsToShip > 0) aggregated in SQL. Line items themselves
+   * are not loaded. Rows are mapped by the "orderSummary" result map in OrderMapper.xml.
+   */
+  String ORDER_SUMMARY_SELECT = "SELECT O.id, O.status, O.ftpComment, O.supplyLineId, O.shipmentId, O.createdBy, O.createdDate, " +
+    "O.modifiedBy, O.modifiedDate, R.emergency, R.modifiedDate AS rnrModifiedDate, " +
+    "R.programId, P.name AS programName, R.facilityId, F.code AS facilityCode, F.name AS facilityName, " +
+    "R.periodId, PP.name AS periodName, PP.startDate AS periodStartDate, PP.endDate AS periodEndDate, " +
+    "S.description AS supplyLineDescription, S.exportOrders, S.supervisoryNodeId, S.programId AS supplyLineProgramId, " +
+    "SF.id AS supplyingFacilityId, SF.code AS supplyingFacilityCode, SF.name AS supplyingFacilityName, " +
+    "SFI.fileName AS shipmentFileName, SFI.processingError AS shipmentProcessingError, " +
+    "(SELECT MAX(RSC.createdDate) FROM requisition_status_changes RSC WHERE RSC.rnrId = R.id AND RSC.status = 'SUBMITTED') AS submittedDate, " +
+    "(SELECT COUNT(*) FROM requisition_line_items LI WHERE LI.rnrId = R.id AND LI.packsToShip > 0) AS orderedLineItemCount, " +
+    "(SELECT COALESCE(SUM(LI.packsToShip * LI.price), 0) FROM requisition_line_items LI WHERE LI.rnrId = R.id AND LI.packsToShip > 0) AS orderedCost " +
+    "FROM orders O INNER JOIN requisitions R ON R.id = O.id " +
+    "INNER JOIN programs P ON P.id = R.programId " +
+    "INNER JOIN facilities F ON F.id = R.facilityId " +
+    "INNER JOIN processing_periods PP ON PP.id = R.periodId " +
+    "LEFT JOIN supply_lines S ON S.id = O.supplyLineId " +
+    "LEFT JOIN facilities SF ON SF.id = S.supplyingFacilityId " +
+    "LEFT JOIN shipment_file_info SFI ON SFI.id = O.shipmentId ";
+
+  @Select({ORDER_SUMMARY_SELECT,
+    "WHERE EXISTS (SELECT 1 FROM fulfillment_role_assignments FRA INNER JOIN role_rights RR ON FRA.roleId = RR.roleId",
+    "WHERE FRA.facilityId = S.supplyingFacilityId AND FRA.userId = #{userId} AND RR.rightName = #{right})",
+    "ORDER BY O.createdDate DESC LIMIT #{limit} OFFSET #{offset}"})
+  @ResultMap("orderSummary")
+  List<Order> getOrders(@Param("limit") int limit, @Param("offset") int offset, @Param("userId") Long userId, @Param("right") Right right);
+
+  @Select("SELECT * FROM orders WHERE id = #{id}")
   @Results({
     @Result(property = "id", column = "id"),
     @Result(property = "rnr.id", column = "id"),
-    @Result(property = "shipmentFileInfo", javaType = ShipmentFileInfo.class, column = "shipmentId",
-      one = @One(select = "org.openlmis.shipment.repository.mapper.ShipmentMapper.getShipmentFileInfo")),
     @Result(property = "supplyLine", javaType = SupplyLine.class, column = "supplyLineId",
       one = @One(select = "org.openlmis.core.repository.mapper.SupplyLineMapper.getById"))
   })
-  List<Order> getOrders(@Param("limit") int limit, @Param("offset") int offset, @Param("userId") Long userId, @Param("right") Right right);
+  Order getById(Long id);
 
-  @Select("SELECT * FROM orders WHERE id = #{id}")
+  @Select("SELECT * FROM orders WHERE id = ANY(#{commaSeparatedOrderIds}::INTEGER[]) ORDER BY id")
   @Results({
     @Result(property = "id", column = "id"),
     @Result(property = "rnr.id", column = "id"),
-    @Result(property = "supplyLine", javaType = SupplyLine.class, column = "supplyLineId",
-      one = @One(select = "org.openlmis.core.repository.mapper.SupplyLineMapper.getById"))
+    @Result(property = "supplyLine.id", column = "supplyLineId")
   })
-  Order getById(Long id);
+  List<Order> getByIds(@Param("commaSeparatedOrderIds") String commaSeparatedOrderIds);
 
   @Update({"UPDATE orders SET",
     "shipmentId = #{shipmentId},",
@@ -65,6 +96,19 @@ public interface OrderMapper {
                                @Param("status") OrderStatus status,
                                @Param("shipmentId") Long shipmentId);
 
+  @Update({"UPDATE orders SET",
+    "shipmentId = #{shipmentId},",
+    "status = #{status},",
+    "modifiedDate = DEFAULT",
+    "WHERE id = ANY(#{commaSeparatedOrderIds}::INTEGER[])"})
+  void updateShipmentAndStatusForOrders(@Param("commaSeparatedOrderIds") String commaSeparatedOrderIds,
+                                        @Param("status") OrderStatus status,
+                                        @Param("shipmentId") Long shipmentId);
+
+  @Select("SELECT id FROM orders WHERE id = ANY(#{commaSeparatedOrderIds}::INTEGER[]) AND status = #{status}")
+  List<Long> getIdsWithStatus(@Param("commaSeparatedOrderIds") String commaSeparatedOrderIds,
+                              @Param("status") OrderStatus status);
+
   @Select("SELECT * FROM order_file_columns ORDER BY position")
   List<OrderFileColumn> getOrderFileColumns();
 
@@ -85,16 +129,9 @@ public interface OrderMapper {
   @Select("SELECT ceil(count(*)::float/#{pageSize}) FROM orders")
   Integer getNumberOfPages(int pageSize);
 
-  @Select({"SELECT O.* FROM orders O INNER JOIN supply_lines S ON O.supplyLineId = S.id",
-    "WHERE supplyingFacilityId = ANY(#{facilityIds}::INTEGER[]) AND status = ANY(#{statuses}::VARCHAR[])",
+  @Select({ORDER_SUMMARY_SELECT,
+    "WHERE S.supplyingFacilityId = ANY(#{facilityIds}::INTEGER[]) AND O.status = ANY(#{statuses}::VARCHAR[])",
     "ORDER BY O.createdDate"})
-  @Results({
-    @Result(property = "id", column = "id"),
-    @Result(property = "rnr.id", column = "id"),
-    @Result(property = "shipmentFileInfo", javaType = ShipmentFileInfo.class, column = "shipmentId",
-      one = @One(select = "org.openlmis.shipment.repository.mapper.ShipmentMapper.getShipmentFileInfo")),
-    @Result(property = "supplyLine", javaType = SupplyLine.class, column = "supplyLineId",
-      one = @One(select = "org.openlmis.core.repository.mapper.SupplyLineMapper.getById"))
-  })
+  @ResultMap("orderSummary")
   List<Order> getByWarehouseIdsAndStatuses(@Param("facilityIds") String facilityIds, @Param("statuses") String statuses);
 }
@@ -10,28 +10,44 @@
 
 package org.openlmis.order.service;
 
-import org.ict4h.atomfeed.server.service.EventService;
+import org.ict4h.atomfeed.server.service.Event;
 import org.openlmis.core.exception.DataException;
+import org.openlmis.core.service.EventOutboxService;
 import org.openlmis.order.domain.Order;
 import org.openlmis.order.event.OrderStatusChangeEvent;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * Exposes the services for handling events related to Order entity and notifying these events.
+ * Exposes the services for handling events related to Order entity and notifying these events. Events are recorded
+ * in the outbox within the caller's transaction and published to the atom feed in the background.
  */
 
 @Service
 public class OrderEventService {
 
   @Autowired
-  EventService eventService;
+  EventOutboxService eventOutboxService;
 
   public void notifyForStatusChange(Order order) {
+    eventOutboxService.record(createEvent(order));
+  }
+
+  public void notifyForStatusChange(List<Order> orders) {
+    List<Event> events = new ArrayList<>();
+    for (Order order : orders) {
+      events.add(createEvent(order));
+    }
+    eventOutboxService.recordAll(events);
+  }
+
+  private Event createEvent(Order order) {
     try {
-      eventService.notify(new OrderStatusChangeEvent(order));
+      return new OrderStatusChangeEvent(order);
     } catch (URISyntaxException e) {
       throw new DataException("error.malformed.uri");
     }
@@ -15,7 +15,7 @@ import org.apache.commons.collections.Transformer;
 import org.openlmis.core.domain.FulfillmentRoleAssignment;
 import org.openlmis.core.domain.OrderConfiguration;
 import org.openlmis.core.domain.Right;
-import org.openlmis.core.domain.SupervisoryNode;
+import org.openlmis.core.domain.SupplyLine;
 import org.openlmis.core.repository.OrderConfigurationRepository;
 import org.openlmis.core.service.RoleAssignmentService;
 import org.openlmis.core.service.SupplyLineService;
@@ -33,10 +33,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Set;
-import java.util.TreeSet;
+import java.util.*;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.sort;
@@ -81,13 +78,14 @@ public class OrderService {
 
   @Transactional
   public void convertToOrder(List<Rnr> rnrList, Long userId) {
-    requisitionService.releaseRequisitionsAsOrder(rnrList, userId);
-    Order order;
-    for (Rnr rnr : rnrList) {
-      rnr = requisitionService.getLWById(rnr.getId());
+    List<Rnr> releasedRequisitions = requisitionService.releaseRequisitionsAsOrder(rnrList, userId);
+    Map<String, SupplyLine> supplyLines = getSupplyLinesFor(releasedRequisitions);
+
+    List<Order> orders = new ArrayList<>();
+    for (Rnr rnr : releasedRequisitions) {
       rnr.setModifiedBy(userId);
-      order = new Order(rnr);
-      order.setSupplyLine(supplyLineService.getSupplyLineBy(new SupervisoryNode(rnr.getSupervisoryNodeId()), rnr.getProgram()));
+      Order order = new Order(rnr);
+      order.setSupplyLine(supplyLines.get(supplyLineKey(rnr.getSupervisoryNodeId(), rnr.getProgram().getId())));
       OrderStatus status;
       if (order.getSupplyLine() == null) {
         status = TRANSFER_FAILED;
@@ -96,15 +94,37 @@ public class OrderService {
         status = order.getSupplyLine().getExportOrders() ? IN_ROUTE : READY_TO_PACK;
       }
       order.setStatus(status);
-      orderRepository.save(order);
-      order.setRnr(requisitionService.getFullRequisitionById(order.getRnr().getId()));
-      orderEventService.notifyForStatusChange(order);
+      orders.add(order);
+    }
+
+    orderRepository.saveAll(orders);
+    orderEventService.notifyForStatusChange(orders);
+  }
+
+  private Map<String, SupplyLine> getSupplyLinesFor(List<Rnr> requisitions) {
+    Set<Long> supervisoryNodeIds = new HashSet<>();
+    Set<Long> programIds = new HashSet<>();
+    for (Rnr requisition : requisitions) {
+      if (requisition.getSupervisoryNodeId() != null) supervisoryNodeIds.add(requisition.getSupervisoryNodeId());
+      programIds.add(requisition.getProgram().getId());
+    }
+
+    Map<String, SupplyLine> supplyLines = new HashMap<>();
+    for (SupplyLine supplyLine : supplyLineService.getSupplyLinesBy(supervisoryNodeIds, programIds)) {
+      supplyLines.put(supplyLineKey(supplyLine.getSupervisoryNode().getId(), supplyLine.getProgram().getId()), supplyLine);
     }
+    return supplyLines;
   }
 
+  private String supplyLineKey(Long supervisoryNodeId, Long programId) {
+    return supervisoryNodeId + ":" + programId;
+  }
+
+  /**
+   * Returns order summaries for the page; requisition line items are not loaded, use getOrder for full details.
+   */
   public List<Order> getOrdersForPage(int page, Long userId, Right right) {
-    List<Order> orders = orderRepository.getOrdersForPage(page, pageSize, userId, right);
-    return fillOrders(orders);
+    return orderRepository.getOrdersForPage(page, pageSize, userId, right);
   }
 
   public Order getOrder(Long id) {
@@ -118,6 +138,30 @@ public class OrderService {
     return order;
   }
 
+  /**
+   * Bulk counterpart of getOrder: loads the orders and their full requisitions with a fixed number of queries per
+   * batch instead of a round of queries per order. Only the id of the supply line of each order is filled in.
+   */
+  public List<Order> getOrders(List<Long> ids) {
+    List<Order> orders = orderRepository.getByIds(ids);
+    if (orders.isEmpty()) {
+      return orders;
+    }
+    List<Long> rnrIds = new ArrayList<>();
+    for (Order order : orders) {
+      rnrIds.add(order.getRnr().getId());
+    }
+    Map<Long, Rnr> requisitions = new HashMap<>();
+    for (Rnr requisition : requisitionService.getFullRequisitionsByIds(rnrIds)) {
+      removeUnorderedProducts(requisition);
+      requisitions.put(requisition.getId(), requisition);
+    }
+    for (Order order : orders) {
+      order.setRnr(requisitions.get(order.getRnr().getId()));
+    }
+    return orders;
+  }
+
   private void removeUnorderedProducts(Rnr requisition) {
     List<RnrLineItem> fullSupplyLineItems = requisition.getFullSupplyLineItems();
     requisition.setFullSupplyLineItems(getLineItemsForOrder(fullSupplyLineItems));
@@ -126,13 +170,19 @@ public class OrderService {
   }
 
   public void updateStatusAndShipmentIdForOrders(Set<Long> orderIds, ShipmentFileInfo shipmentFileInfo) {
-    for (Long orderId : orderIds) {
-      OrderStatus status = (shipmentFileInfo.isProcessingError()) ? RELEASED : PACKED;
-      orderRepository.updateStatusAndShipmentIdForOrder(orderId, status, shipmentFileInfo.getId());
-      Order order = orderRepository.getById(orderId);
-      order.setRnr(requisitionService.getFullRequisitionById(order.getRnr().getId()));
-      orderEventService.notifyForStatusChange(order);
+    if (orderIds.isEmpty()) {
+      return;
     }
+    OrderStatus status = (shipmentFileInfo.isProcessingError()) ? RELEASED : PACKED;
+    orderRepository.updateStatusAndShipmentIdForOrders(orderIds, status, shipmentFileInfo.getId());
+
+    List<Order> orders = new ArrayList<>();
+    for (Rnr requisition : requisitionService.getStatusSummaries(new ArrayList<>(orderIds))) {
+      Order order = new Order(requisition);
+      order.setStatus(status);
+      orders.add(order);
+    }
+    orderEventService.notifyForStatusChange(orders);
   }
 
   public OrderFileTemplateDTO getOrderFileTemplateDTO() {
@@ -155,7 +205,7 @@ public class OrderService {
 
   public void updateOrderStatus(Order order) {
     orderRepository.updateOrderStatus(order);
-    order.setRnr(requisitionService.getFullRequisitionById(order.getId()));
+    order.setRnr(requisitionService.getStatusSummaries(asList(order.getId())).get(0));
     orderEventService.notifyForStatusChange(order);
   }
 
@@ -163,6 +213,13 @@ public class OrderService {
     return hasStatus(orderId, RELEASED);
   }
 
+  public Set<Long> getShippableOrderIds(Set<Long> orderIds) {
+    if (orderIds.isEmpty()) {
+      return new HashSet<>();
+    }
+    return new HashSet<>(orderRepository.getIdsWithStatus(orderIds, RELEASED));
+  }
+
   public Integer getNumberOfPages() {
     return orderRepository.getNumberOfPages(pageSize);
   }
@@ -181,22 +238,11 @@ public class OrderService {
       }
     }), statuses);
 
-    orders = fillOrders(orders);
     sort(orders);
 
     return orders;
   }
 
-  private List<Order> fillOrders(List<Order> orders) {
-    Rnr rnr;
-    for (Order order : orders) {
-      rnr = requisitionService.getFullRequisitionById(order.getRnr().getId());
-      removeUnorderedProducts(rnr);
-      order.setRnr(rnr);
-    }
-    return orders;
-  }
-
   private List<RnrLineItem> getLineItemsForOrder(List<RnrLineItem> rnrLineItems) {
     List<RnrLineItem> lineItemsForOrder = new ArrayList<>();
     for (RnrLineItem rnrLineItem : rnrLineItems) {
@@ -17,21 +17,26 @@ import org.apache.camel.impl.DefaultCamelContext;
 import org.openlmis.core.domain.FacilityFtpDetails;
 import org.springframework.stereotype.Service;
 
-import java.io.File;
 import java.text.MessageFormat;
 
 /**
- * Exposes the services for creating FTP URI and sending file through FTP.
+ * Exposes the services for creating FTP URI and sending file through FTP. A single producer template is shared
+ * across sends so that Camel can keep FTP connections open and reuse them for files going to the same destination.
  */
 
 @Service
 public class OrderFtpSender {
   private static final String CAMEL_FTP_PATTERN = "ftp://{0}@{1}:{2}{3}?password={4}&passiveMode=true";
 
-  public void sendFile(FacilityFtpDetails supplyingFacility, File file) {
+  private ProducerTemplate template;
+
+  public OrderFtpSender() {
     CamelContext context = new DefaultCamelContext();
-    ProducerTemplate template = context.createProducerTemplate();
-    template.sendBodyAndHeader(createFtpUri(supplyingFacility), file, Exchange.FILE_NAME, file.getName());
+    template = context.createProducerTemplate();
+  }
+
+  public void sendFile(FacilityFtpDetails supplyingFacility, String fileName, byte[] content) {
+    template.sendBodyAndHeader(createFtpUri(supplyingFacility), content, Exchange.FILE_NAME, fileName);
   }
 
   private String createFtpUri(FacilityFtpDetails supplyingFacility) {
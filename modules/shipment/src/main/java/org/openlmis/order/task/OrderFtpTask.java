@@ -14,6 +14,7 @@ package org.openlmis.order.task;
 import org.apache.camel.CamelExecutionException;
 import org.apache.camel.FailedToCreateProducerException;
 import org.apache.log4j.Logger;
+import org.openlmis.core.domain.Facility;
 import org.openlmis.core.domain.FacilityFtpDetails;
 import org.openlmis.core.domain.SupplyLine;
 import org.openlmis.core.service.FacilityFtpDetailsService;
@@ -24,13 +25,17 @@ import org.openlmis.order.dto.OrderFileTemplateDTO;
 import org.openlmis.order.helper.OrderCsvHelper;
 import org.openlmis.order.service.OrderService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.integration.annotation.Payload;
 import org.springframework.stereotype.Component;
 
-import java.io.File;
-import java.io.FileWriter;
-import java.util.List;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -38,7 +43,9 @@ import static org.openlmis.order.domain.OrderStatus.RELEASED;
 import static org.openlmis.order.domain.OrderStatus.TRANSFER_FAILED;
 
 /**
- * Exposes the services for processing orders, sending their order files to respective ftp locations.
+ * Exposes the services for processing orders, sending their order files to respective ftp locations. Orders of a
+ * poll are grouped by supplying facility and exported in parallel on the order ftp executor, with at most
+ * maxConnectionsPerDestination workers sending to the same ftp location at a time.
  */
 
 @Component
@@ -59,8 +66,14 @@ public class OrderFtpTask {
   @Autowired
   private OrderFtpSender ftpSender;
 
-  @Value("${order.ftp.local.directory}")
-  String localFileDirectory;
+  @Autowired
+  @Qualifier("orderFtpExecutor")
+  AsyncTaskExecutor orderFtpExecutor;
+
+  @Value("${order.ftp.max.connections.per.destination}")
+  Integer maxConnectionsPerDestination;
+
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
 
   private static Logger logger = Logger.getLogger(OrderFtpTask.class);
 
@@ -74,41 +87,91 @@ public class OrderFtpTask {
   public static String FTP_CREDENTIAL_MISSING_COMMENT = "order.ftpComment.ftpcredential.missing";
 
   public void processOrder(@Payload List<Order> orders) {
+    OrderFileTemplateDTO orderFileTemplateDTO = orderService.getOrderFileTemplateDTO();
+
+    Map<Long, SupplyLine> supplyLines = new HashMap<>();
+    Map<Long, FacilityFtpDetails> ftpDetailsByFacility = new HashMap<>();
+    Map<Long, List<Order>> ordersByFacility = new LinkedHashMap<>();
+
+    List<Long> orderIds = new ArrayList<>();
     for (Order order : orders) {
-      order = orderService.getOrder(order.getId());
+      orderIds.add(order.getId());
+    }
 
-      SupplyLine supplyLine = order.getSupplyLine();
+    for (Order order : orderService.getOrders(orderIds)) {
+      Long supplyLineId = order.getSupplyLine().getId();
+      if (!supplyLines.containsKey(supplyLineId)) {
+        supplyLines.put(supplyLineId, supplyLineService.getById(supplyLineId));
+      }
+      order.setSupplyLine(supplyLines.get(supplyLineId));
+      Facility supplyingFacility = order.getSupplyLine().getSupplyingFacility();
 
-      supplyLine = supplyLineService.getById(supplyLine.getId());
-      FacilityFtpDetails supplyingFacilityFtpDetails = facilityFtpDetailsService.getByFacilityId(supplyLine.getSupplyingFacility());
-      if (supplyingFacilityFtpDetails == null) {
+      if (!ftpDetailsByFacility.containsKey(supplyingFacility.getId())) {
+        ftpDetailsByFacility.put(supplyingFacility.getId(), facilityFtpDetailsService.getByFacilityId(supplyingFacility));
+      }
+      if (ftpDetailsByFacility.get(supplyingFacility.getId()) == null) {
         updateOrder(order, TRANSFER_FAILED, FTP_CREDENTIAL_MISSING_COMMENT);
         continue;
       }
 
-      OrderFileTemplateDTO orderFileTemplateDTO = orderService.getOrderFileTemplateDTO();
-      String fileName = orderFileTemplateDTO.getOrderConfiguration().getFilePrefix() + order.getId() + ".csv";
-      File localDirectory = new File(localFileDirectory);
-      if (!localDirectory.exists()) {
-        localDirectory.mkdir();
+      if (!ordersByFacility.containsKey(supplyingFacility.getId())) {
+        ordersByFacility.put(supplyingFacility.getId(), new ArrayList<Order>());
       }
-      File file = new File(localFileDirectory + System.getProperty("file.separator") + fileName);
-      try (FileWriter fileWriter = new FileWriter(file)) {
-        orderCsvHelper.writeCsvFile(order, orderFileTemplateDTO, fileWriter);
-        fileWriter.flush();
-        ftpSender.sendFile(supplyingFacilityFtpDetails, file);
-        updateOrder(order, RELEASED, null);
-      } catch (FailedToCreateProducerException producerException) {
-        updateOrder(order, TRANSFER_FAILED, CONNECTION_REFUSED_COMMENT);
-      } catch (CamelExecutionException camelException) {
-        handleException(camelException, order);
-      } catch (Exception e) {
-        logger.error("Error in ftp of order file", e);
-        updateOrder(order, TRANSFER_FAILED, null);
-      } finally {
-        file.delete();
+      ordersByFacility.get(supplyingFacility.getId()).add(order);
+    }
+
+    List<Future<?>> exports = new ArrayList<>();
+    for (Map.Entry<Long, List<Order>> destination : ordersByFacility.entrySet()) {
+      FacilityFtpDetails ftpDetails = ftpDetailsByFacility.get(destination.getKey());
+      for (List<Order> batch : splitForDestination(destination.getValue())) {
+        exports.add(orderFtpExecutor.submit(new OrderExport(batch, ftpDetails, orderFileTemplateDTO)));
       }
     }
+
+    waitForExports(exports);
+  }
+
+  private List<List<Order>> splitForDestination(List<Order> orders) {
+    int numberOfBatches = Math.min(maxConnectionsPerDestination, orders.size());
+    List<List<Order>> batches = new ArrayList<>();
+    for (int i = 0; i < numberOfBatches; i++) {
+      batches.add(new ArrayList<Order>());
+    }
+    for (int i = 0; i < orders.size(); i++) {
+      batches.get(i % numberOfBatches).add(orders.get(i));
+    }
+    return batches;
+  }
+
+  private void waitForExports(List<Future<?>> exports) {
+    for (Future<?> export : exports) {
+      try {
+        export.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        logger.error("Interrupted while waiting for order files to be sent", e);
+        return;
+      } catch (ExecutionException e) {
+        logger.error("Error in ftp of order files", e.getCause());
+      }
+    }
+  }
+
+  private void sendOrder(Order order, FacilityFtpDetails ftpDetails, OrderFileTemplateDTO orderFileTemplateDTO) {
+    String fileName = orderFileTemplateDTO.getOrderConfiguration().getFilePrefix() + order.getId() + ".csv";
+    try {
+      StringWriter writer = new StringWriter();
+      orderCsvHelper.writeCsvFile(order, orderFileTemplateDTO, writer);
+      ftpSender.sendFile(ftpDetails, fileName, writer.toString().getBytes(UTF_8));
+      updateOrder(order, RELEASED, null);
+    } catch (FailedToCreateProducerException producerException) {
+      updateOrder(order, TRANSFER_FAILED, CONNECTION_REFUSED_COMMENT);
+    } catch (CamelExecutionException camelException) {
+      handleException(camelException, order);
+    } catch (Exception e) {
+      logger.error("Error in ftp of order file", e);
+      updateOrder(order, TRANSFER_FAILED, null);
+    }
   }
 
   private void handleException(CamelExecutionException camelException, Order order) {
@@ -140,4 +203,23 @@ public class OrderFtpTask {
     orderService.updateOrderStatus(order);
   }
 
+  private class OrderExport implements Runnable {
+
+    private List<Order> orders;
+    private FacilityFtpDetails ftpDetails;
+    private OrderFileTemplateDTO orderFileTemplateDTO;
+
+    private OrderExport(List<Order> orders, FacilityFtpDetails ftpDetails, OrderFileTemplateDTO orderFileTemplateDTO) {
+      this.orders = orders;
+      this.ftpDetails = ftpDetails;
+      this.orderFileTemplateDTO = orderFileTemplateDTO;
+    }
+
+    @Override
+    public void run() {
+      for (Order order : orders) {
+        sendOrder(order, ftpDetails, orderFileTemplateDTO);
+      }
+    }
+  }
 }
@@ -38,13 +38,16 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static java.lang.Long.parseLong;
 import static org.supercsv.prefs.CsvPreference.STANDARD_PREFERENCE;
 
 /**
  * Exposes the services for processing shipment file and its line items. It validates the data received in
- * shipment file, processes each record and then logs the errors if any.
+ * shipment file, processes each record and then logs the errors if any. Files may be processed concurrently; files
+ * that refer to the same orders are serialized through a set of order locks.
  */
 
 @Component
@@ -53,6 +56,8 @@ import static org.supercsv.prefs.CsvPreference.STANDARD_PREFERENCE;
 public class ShipmentFileProcessor {
   private static Logger logger = Logger.getLogger(ShipmentFileProcessor.class);
 
+  private static final int ORDER_LOCK_STRIPES = 64;
+
   @Autowired
   private ShipmentFilePostProcessHandler shipmentFilePostProcessHandler;
 
@@ -71,6 +76,8 @@ public class ShipmentFileProcessor {
   @Autowired
   private ApplicationContext applicationContext;
 
+  private final Lock[] orderLocks = createOrderLocks();
+
   private ShipmentFileProcessor getSpringProxy() {
     return applicationContext.getBean(this.getClass());
   }
@@ -86,43 +93,52 @@ public class ShipmentFileProcessor {
     EDIFileTemplate shipmentFileTemplate = shipmentFileTemplateService.get();
 
     boolean successfullyProcessed = true;
+    List<ShipmentLineItemDTO> lineItemDTOs = new ArrayList<>();
     try (ICsvListReader listReader = new CsvListReader(new FileReader(shipmentFile), STANDARD_PREFERENCE)) {
 
       ignoreFirstLineIfHeadersArePresent(shipmentFileTemplate, listReader);
-
-      getSpringProxy().processShipmentLineItem(listReader, shipmentFileTemplate, orderIds, creationDate);
-      logger.debug("Successfully processed file " + shipmentFile.getName());
+      lineItemDTOs = readLineItems(listReader, shipmentFileTemplate);
 
     } catch (Exception e) {
       successfullyProcessed = false;
     }
 
-    shipmentFilePostProcessHandler.process(orderIds, shipmentFile, successfullyProcessed);
+    List<Lock> locks = lockOrders(lineItemDTOs);
+    try {
+      if (successfullyProcessed) {
+        try {
+          getSpringProxy().processShipmentLineItem(lineItemDTOs, shipmentFileTemplate, orderIds, creationDate);
+          logger.debug("Successfully processed file " + shipmentFile.getName());
+        } catch (Exception e) {
+          successfullyProcessed = false;
+        }
+      }
+
+      shipmentFilePostProcessHandler.process(orderIds, shipmentFile, successfullyProcessed);
+    } finally {
+      for (Lock lock : locks) {
+        lock.unlock();
+      }
+    }
   }
 
-  //  TODO: important add unit test fot this method
   @Transactional
-  public void processShipmentLineItem(ICsvListReader listReader,
+  public void processShipmentLineItem(List<ShipmentLineItemDTO> lineItemDTOs,
                                       EDIFileTemplate shipmentFileTemplate,
                                       Set<Long> orderSet,
                                       Date creationDate) throws Exception {
-    boolean status = true;
-
-    Collection<EDIFileColumn> includedColumns = shipmentFileTemplate.filterIncludedColumns();
-
     String packedDateFormat = shipmentFileTemplate.getDateFormatForColumn("packedDate");
     String shippedDateFormat = shipmentFileTemplate.getDateFormatForColumn("shippedDate");
 
-    List<String> fieldsInOneRow;
-
-    while ((fieldsInOneRow = listReader.read()) != null) {
+    Set<Long> orderIds = new HashSet<>();
+    boolean status = parseOrderIds(lineItemDTOs, orderIds);
 
-      ShipmentLineItemDTO dto = ShipmentLineItemDTO.populate(fieldsInOneRow, includedColumns);
-      status = addShippableOrder(orderSet, dto) && status;
+    Set<Long> shippableOrderIds = orderService.getShippableOrderIds(orderIds);
+    orderSet.addAll(shippableOrderIds);
+    status = status && shippableOrderIds.size() == orderIds.size();
 
-      if (status) {
-        status = saveLineItem(dto, packedDateFormat, shippedDateFormat, creationDate);
-      }
+    if (status) {
+      status = saveLineItems(lineItemDTOs, packedDateFormat, shippedDateFormat, creationDate);
     }
 
     if (!status) {
@@ -133,40 +149,81 @@ public class ShipmentFileProcessor {
     }
   }
 
-  private boolean addShippableOrder(Set<Long> orderIds, ShipmentLineItemDTO dto) {
-    boolean status = true;
-    try {
-      Long orderId = parseLong(dto.getOrderId());
+  private List<ShipmentLineItemDTO> readLineItems(ICsvListReader listReader, EDIFileTemplate shipmentFileTemplate) throws IOException {
+    Collection<EDIFileColumn> includedColumns = shipmentFileTemplate.filterIncludedColumns();
+    List<ShipmentLineItemDTO> lineItemDTOs = new ArrayList<>();
 
-      if (!orderIds.contains(orderId)) {
-        if (orderService.isShippable(orderId)) {
-          orderIds.add(orderId);
-        } else {
-          status = false;
-        }
-      }
-    } catch (NumberFormatException e) {
-      logger.warn("invalid orderId: " + dto.getOrderId() + " in shipment file");
-      status = false;
+    List<String> fieldsInOneRow;
+    while ((fieldsInOneRow = listReader.read()) != null) {
+      lineItemDTOs.add(ShipmentLineItemDTO.populate(fieldsInOneRow, includedColumns));
     }
+    return lineItemDTOs;
+  }
 
+  private boolean parseOrderIds(List<ShipmentLineItemDTO> lineItemDTOs, Set<Long> orderIds) {
+    boolean status = true;
+    for (ShipmentLineItemDTO dto : lineItemDTOs) {
+      try {
+        orderIds.add(parseLong(dto.getOrderId()));
+      } catch (NumberFormatException e) {
+        logger.warn("invalid orderId: " + dto.getOrderId() + " in shipment file");
+        status = false;
+      }
+    }
     return status;
   }
 
-  private boolean saveLineItem(ShipmentLineItemDTO dto,
-                               String packedDateFormat,
-                               String shippedDateFormat,
-                               Date creationDate) {
-    boolean savedSuccessfully = true;
+  private boolean saveLineItems(List<ShipmentLineItemDTO> lineItemDTOs,
+                                String packedDateFormat,
+                                String shippedDateFormat,
+                                Date creationDate) {
+    List<ShipmentLineItem> lineItems = new ArrayList<>();
+    for (ShipmentLineItemDTO dto : lineItemDTOs) {
+      try {
+        lineItems.add(transformer.transform(dto, packedDateFormat, shippedDateFormat, creationDate));
+      } catch (DataException e) {
+        logger.warn("Error in processing shipment file for orderId: " + dto.getOrderId(), e);
+        return false;
+      }
+    }
+
     try {
-      ShipmentLineItem lineItem = transformer.transform(dto, packedDateFormat, shippedDateFormat, creationDate);
-      shipmentService.save(lineItem);
+      shipmentService.saveAll(lineItems);
     } catch (DataException e) {
-      logger.warn("Error in processing shipment file for orderId: " + dto.getOrderId(), e);
-      savedSuccessfully = false;
+      logger.warn("Error in saving shipment line items", e);
+      return false;
+    }
+    return true;
+  }
+
+  private List<Lock> lockOrders(List<ShipmentLineItemDTO> lineItemDTOs) {
+    SortedSet<Integer> stripes = new TreeSet<>();
+    for (ShipmentLineItemDTO dto : lineItemDTOs) {
+      stripes.add(lockStripeFor(dto.getOrderId()));
+    }
+
+    List<Lock> locks = new ArrayList<>();
+    for (Integer stripe : stripes) {
+      orderLocks[stripe].lock();
+      locks.add(orderLocks[stripe]);
     }
+    return locks;
+  }
 
-    return savedSuccessfully;
+  private int lockStripeFor(String orderId) {
+    try {
+      return (int) Math.abs(parseLong(orderId) % ORDER_LOCK_STRIPES);
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  private static Lock[] createOrderLocks() {
+    Lock[] locks = new Lock[ORDER_LOCK_STRIPES];
+    for (int i = 0; i < ORDER_LOCK_STRIPES; i++) {
+      locks[i] = new ReentrantLock();
+    }
+    return locks;
   }
 
   private void ignoreFirstLineIfHeadersArePresent(EDIFileTemplate shipmentFileTemplate,
@@ -19,7 +19,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
+import java.util.*;
+
+import static org.openlmis.core.repository.helper.CommaSeparator.commaSeparateValues;
+import static org.openlmis.core.repository.helper.ListPartitioner.partition;
 
 /**
  * Repository class for shipment file related database operations.
@@ -29,6 +32,8 @@ import java.util.List;
 @NoArgsConstructor
 public class ShipmentRepository {
 
+  static final int BATCH_SIZE = 500;
+
   private ShipmentMapper shipmentMapper;
 
   @Autowired
@@ -52,6 +57,52 @@ public class ShipmentRepository {
     }
   }
 
+  public void saveAll(List<ShipmentLineItem> shipmentLineItems) {
+    if (shipmentLineItems.isEmpty()) {
+      return;
+    }
+    Set<String> shippedKeys = new HashSet<>();
+    for (ShipmentLineItem shippedLineItem : shipmentMapper.getShippedLineItemKeys(commaSeparateValues(getOrderIds(shipmentLineItems)))) {
+      shippedKeys.add(keyFor(shippedLineItem));
+    }
+
+    Map<String, ShipmentLineItem> lineItemsToInsert = new LinkedHashMap<>();
+    Map<String, ShipmentLineItem> lineItemsToUpdate = new LinkedHashMap<>();
+    for (ShipmentLineItem lineItem : shipmentLineItems) {
+      String key = keyFor(lineItem);
+      if (shippedKeys.contains(key)) {
+        lineItemsToUpdate.put(key, lineItem);
+      } else if (lineItemsToInsert.containsKey(key)) {
+        lineItemsToInsert.get(key).setQuantityShipped(lineItem.getQuantityShipped());
+      } else {
+        lineItemsToInsert.put(key, lineItem);
+      }
+    }
+
+    try {
+      for (List<ShipmentLineItem> batch : partition(new ArrayList<>(lineItemsToInsert.values()), BATCH_SIZE)) {
+        shipmentMapper.insertShippedLineItems(batch);
+      }
+      for (List<ShipmentLineItem> batch : partition(new ArrayList<>(lineItemsToUpdate.values()), BATCH_SIZE)) {
+        shipmentMapper.updateShippedLineItems(batch);
+      }
+    } catch (DataIntegrityViolationException exception) {
+      throw new DataException("error.incorrect.length");
+    }
+  }
+
+  private Set<Long> getOrderIds(List<ShipmentLineItem> shipmentLineItems) {
+    Set<Long> orderIds = new HashSet<>();
+    for (ShipmentLineItem lineItem : shipmentLineItems) {
+      orderIds.add(lineItem.getOrderId());
+    }
+    return orderIds;
+  }
+
+  private String keyFor(ShipmentLineItem lineItem) {
+    return lineItem.getOrderId() + ":" + lineItem.getProductCode();
+  }
+
   public List<ShipmentLineItem> getLineItems(Long orderId) {
     return shipmentMapper.getLineItems(orderId);
   }
@@ -12,6 +12,7 @@ package org.openlmis.shipment.repository.mapper;
 
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
 import org.openlmis.shipment.domain.ShipmentFileInfo;
@@ -36,6 +37,30 @@ public interface ShipmentMapper {
   @Options(useGeneratedKeys = true)
   public void insertShippedLineItem(ShipmentLineItem shipmentLineItem);
 
+  @Insert({"<script>INSERT INTO shipment_line_items",
+    "(orderId, productCode, quantityShipped, cost, packedDate, shippedDate, productName, dispensingUnit, productCategory,",
+    "packsToShip, productCategoryDisplayOrder, productDisplayOrder, fullSupply) VALUES",
+    "<foreach collection='lineItems' item='lineItem' separator=','>",
+    "(#{lineItem.orderId}, #{lineItem.productCode}, #{lineItem.quantityShipped}, #{lineItem.cost}, #{lineItem.packedDate},",
+    "#{lineItem.shippedDate}, #{lineItem.productName}, #{lineItem.dispensingUnit}, #{lineItem.productCategory},",
+    "#{lineItem.packsToShip}, #{lineItem.productCategoryDisplayOrder}, #{lineItem.productDisplayOrder}, #{lineItem.fullSupply})",
+    "</foreach></script>"})
+  void insertShippedLineItems(@Param("lineItems") List<ShipmentLineItem> lineItems);
+
+  @Update({"<script>",
+    "UPDATE shipment_line_items SET quantityShipped = V.quantityShipped, modifiedDate = DEFAULT",
+    "FROM (VALUES",
+    "<foreach collection='lineItems' item='lineItem' separator=','>",
+    "(#{lineItem.orderId}::INTEGER, #{lineItem.productCode}::VARCHAR, #{lineItem.quantityShipped}::INTEGER)",
+    "</foreach>",
+    ") AS V (orderId, productCode, quantityShipped)",
+    "WHERE shipment_line_items.orderId = V.orderId AND shipment_line_items.productCode = V.productCode",
+    "</script>"})
+  void updateShippedLineItems(@Param("lineItems") List<ShipmentLineItem> lineItems);
+
+  @Select({"SELECT orderId, productCode FROM shipment_line_items WHERE orderId = ANY(#{commaSeparatedOrderIds}::INTEGER[])"})
+  List<ShipmentLineItem> getShippedLineItemKeys(String commaSeparatedOrderIds);
+
   @Insert({"INSERT INTO shipment_file_info (fileName, processingError) VALUES (#{fileName},#{processingError})"})
   @Options(useGeneratedKeys = true)
   void insertShipmentFileInfo(ShipmentFileInfo shipmentFileInfo);
@@ -22,7 +22,7 @@ import org.openlmis.shipment.repository.ShipmentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.*;
 
 /**
  * Exposes the services for handling Shipment file and shipment file line items
@@ -42,21 +42,56 @@ public class ShipmentService {
 
 
   public void save(ShipmentLineItem shipmentLineItem) {
+    validate(shipmentLineItem);
+    RnrLineItem lineItem = requisitionService.getNonSkippedLineItem(shipmentLineItem.getOrderId(), shipmentLineItem.getProductCode());
+    fillReferenceFields(shipmentLineItem, lineItem, new HashMap<String, Product>());
+    shipmentRepository.save(shipmentLineItem);
+  }
+
+  public void saveAll(List<ShipmentLineItem> shipmentLineItems) {
+    Set<Long> orderIds = new LinkedHashSet<>();
+    for (ShipmentLineItem shipmentLineItem : shipmentLineItems) {
+      validate(shipmentLineItem);
+      orderIds.add(shipmentLineItem.getOrderId());
+    }
+
+    Map<Long, Map<String, RnrLineItem>> lineItemsByOrder = new HashMap<>();
+    for (RnrLineItem lineItem : requisitionService.getNonSkippedLineItems(new ArrayList<>(orderIds))) {
+      if (!lineItemsByOrder.containsKey(lineItem.getRnrId())) {
+        lineItemsByOrder.put(lineItem.getRnrId(), new HashMap<String, RnrLineItem>());
+      }
+      lineItemsByOrder.get(lineItem.getRnrId()).put(lineItem.getProductCode(), lineItem);
+    }
+
+    Map<String, Product> products = new HashMap<>();
+    for (ShipmentLineItem shipmentLineItem : shipmentLineItems) {
+      Map<String, RnrLineItem> orderLineItems = lineItemsByOrder.get(shipmentLineItem.getOrderId());
+      RnrLineItem lineItem = (orderLineItems == null) ? null : orderLineItems.get(shipmentLineItem.getProductCode());
+      fillReferenceFields(shipmentLineItem, lineItem, products);
+    }
+    shipmentRepository.saveAll(shipmentLineItems);
+  }
+
+  private void validate(ShipmentLineItem shipmentLineItem) {
     if (shipmentLineItem.getQuantityShipped() < 0) {
       throw new DataException("error.negative.shipped.quantity");
     }
-    RnrLineItem lineItem;
-    if ((lineItem = requisitionService.getNonSkippedLineItem(shipmentLineItem.getOrderId(), shipmentLineItem.getProductCode())) != null) {
+  }
+
+  private void fillReferenceFields(ShipmentLineItem shipmentLineItem, RnrLineItem lineItem, Map<String, Product> products) {
+    if (lineItem != null) {
       shipmentLineItem.fillReferenceFields(lineItem);
     } else {
-      Product product = productService.getByCode(shipmentLineItem.getProductCode());
+      String productCode = shipmentLineItem.getProductCode();
+      if (!products.containsKey(productCode)) {
+        products.put(productCode, productService.getByCode(productCode));
+      }
+      Product product = products.get(productCode);
       if (product == null) {
         throw new DataException("error.unknown.product");
       }
       shipmentLineItem.fillReferenceFields(product);
     }
-
-    shipmentRepository.save(shipmentLineItem);
   }
 
   public void insertShipmentFileInfo(ShipmentFileInfo shipmentFileInfo) {
@@ -13,6 +13,7 @@ package org.openlmis.order.dto;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
+import org.openlmis.core.domain.Money;
 import org.openlmis.core.domain.Program;
 import org.openlmis.core.domain.SupplyLine;
 import org.openlmis.db.categories.UnitTests;
@@ -29,6 +30,7 @@ import java.util.Date;
 import java.util.List;
 
 import static com.natpryce.makeiteasy.MakeItEasy.*;
+import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.openlmis.rnr.builder.RequisitionBuilder.defaultRequisition;
@@ -75,4 +77,25 @@ public class OrderDTOTest {
     assertThat(orderDTOs.get(0).getShipmentError(), is(false));
     assertThat(orderDTOs.get(0).getSupplyLine(), is(supplyLine));
   }
+
+  @Test
+  public void shouldUseOrderedLineItemCountAndCostFromSummaryForView() throws Exception {
+    mockStatic(RnrDTO.class);
+
+    final Order summary = new Order();
+    summary.setRnr(make(a(defaultRequisition)));
+    summary.setOrderedLineItemCount(0);
+    summary.setOrderedCost(new Money("0"));
+    final Order orderedSummary = new Order();
+    orderedSummary.setRnr(make(a(defaultRequisition, with(RequisitionBuilder.periodId, 2L))));
+    orderedSummary.setOrderedLineItemCount(3);
+    orderedSummary.setOrderedCost(new Money("12.5"));
+
+    List<OrderDTO> orderDTOs = OrderDTO.getOrdersForView(asList(summary, orderedSummary));
+
+    assertThat(orderDTOs.get(0).getProductsOrdered(), is(false));
+    assertThat(orderDTOs.get(0).getOrderedCost(), is(new Money("0")));
+    assertThat(orderDTOs.get(1).getProductsOrdered(), is(true));
+    assertThat(orderDTOs.get(1).getOrderedCost(), is(new Money("12.5")));
+  }
 }
@@ -0,0 +1,67 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.order.helper;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openlmis.core.domain.Facility;
+import org.openlmis.db.categories.UnitTests;
+import org.openlmis.order.domain.Order;
+import org.openlmis.order.domain.OrderFileColumn;
+import org.openlmis.rnr.domain.Rnr;
+import org.openlmis.rnr.domain.RnrLineItem;
+
+import static com.natpryce.makeiteasy.MakeItEasy.*;
+import static org.apache.commons.lang3.time.DateUtils.parseDate;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.openlmis.shipment.builder.OrderFileColumnBuilder.*;
+
+@Category(UnitTests.class)
+public class OrderFileColumnAccessorTest {
+
+  @Test
+  public void shouldReadNestedPropertyThroughGetterChain() throws Exception {
+    Facility facility = new Facility();
+    facility.setCode("F10");
+    Rnr rnr = new Rnr();
+    rnr.setFacility(facility);
+    Order order = new Order(2L);
+    order.setRnr(rnr);
+    OrderFileColumn column = make(a(defaultColumn, with(keyPath, "rnr/facility/code"), with(nested, "order")));
+
+    OrderFileColumnAccessor accessor = new OrderFileColumnAccessor(Order.class, column);
+
+    assertThat(accessor.getValue(order), is("F10"));
+  }
+
+  @Test
+  public void shouldFormatDateValuesUsingColumnFormat() throws Exception {
+    Order order = new Order(2L);
+    order.setCreatedDate(parseDate("22/12/13", "dd/MM/yy"));
+    OrderFileColumn column = make(a(defaultColumn, with(keyPath, "createdDate"), with(nested, "order"), with(format, "MM/yy")));
+
+    OrderFileColumnAccessor accessor = new OrderFileColumnAccessor(Order.class, column);
+
+    assertThat(accessor.getValue(order), is("12/13"));
+  }
+
+  @Test
+  public void shouldFallBackToJXPathForKeyPathsWhichAreNotPlainProperties() throws Exception {
+    RnrLineItem lineItem = new RnrLineItem();
+    lineItem.setQuantityApproved(67);
+    OrderFileColumn column = make(a(defaultColumn, with(keyPath, "./quantityApproved"), with(nested, "lineItem")));
+
+    OrderFileColumnAccessor accessor = new OrderFileColumnAccessor(RnrLineItem.class, column);
+
+    assertThat(accessor.getValue(lineItem), is("67"));
+  }
+}
@@ -35,6 +35,7 @@ import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.rules.ExpectedException.none;
 import static org.mockito.Mockito.*;
+import static org.openlmis.order.domain.OrderStatus.PACKED;
 import static org.openlmis.order.domain.OrderStatus.READY_TO_PACK;
 import static org.openlmis.order.domain.OrderStatus.RELEASED;
 
@@ -80,6 +81,22 @@ public class OrderRepositoryTest {
     verify(orderMapper).updateShipmentAndStatus(orderId, status, shipmentId);
   }
 
+  @Test
+  public void shouldUpdateStatusAndShipmentIdForOrders() throws Exception {
+    orderRepository.updateStatusAndShipmentIdForOrders(asList(1L, 2L), PACKED, 456L);
+
+    verify(orderMapper).updateShipmentAndStatusForOrders("{1, 2}", PACKED, 456L);
+  }
+
+  @Test
+  public void shouldGetIdsOfOrdersWithStatus() throws Exception {
+    when(orderMapper.getIdsWithStatus("{1, 2}", RELEASED)).thenReturn(asList(1L));
+
+    List<Long> orderIds = orderRepository.getIdsWithStatus(asList(1L, 2L), RELEASED);
+
+    assertThat(orderIds, is(asList(1L)));
+  }
+
   @Test
   public void shouldGetOrderById() throws Exception {
     Order expectedOrder = new Order();
@@ -89,6 +106,16 @@ public class OrderRepositoryTest {
     assertThat(savedOrder, is(expectedOrder));
   }
 
+  @Test
+  public void shouldGetOrdersByIds() throws Exception {
+    List<Order> expectedOrders = asList(new Order(1L), new Order(2L));
+    when(orderMapper.getByIds("{1, 2}")).thenReturn(expectedOrders);
+
+    List<Order> orders = orderRepository.getByIds(asList(1L, 2L));
+
+    assertThat(orders, is(expectedOrders));
+  }
+
   @Test
   public void shouldGetOrderFileColumns() {
     OrderFileColumn orderFileColumn = new OrderFileColumn();
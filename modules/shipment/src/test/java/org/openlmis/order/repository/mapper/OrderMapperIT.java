@@ -14,6 +14,7 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 import org.openlmis.core.builder.ProcessingScheduleBuilder;
+import org.openlmis.core.builder.ProductBuilder;
 import org.openlmis.core.builder.SupervisoryNodeBuilder;
 import org.openlmis.core.builder.SupplyLineBuilder;
 import org.openlmis.core.domain.*;
@@ -34,6 +35,7 @@ import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.test.context.transaction.TransactionConfiguration;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.HashSet;
@@ -72,6 +74,8 @@ public class OrderMapperIT {
   private RequisitionMapper requisitionMapper;
   @Autowired
   private ShipmentMapper shipmentMapper;
+  @Autowired
+  private ProductMapper productMapper;
 
   @Autowired
   private QueryExecutor queryExecutor;
@@ -153,6 +157,32 @@ public class OrderMapperIT {
     assertThat(orders.get(0).getShipmentFileInfo().isProcessingError(), is(false));
   }
 
+  @Test
+  public void shouldGetOrderSummaryWithRequisitionHeaderAndOrderedLineItemAggregates() throws Exception {
+    Order order = insertOrder(1L);
+    Product product = make(a(ProductBuilder.defaultProduct));
+    productMapper.insert(product);
+    insertLineItem(order.getId(), product.getCode(), 3, "2.50", true);
+    insertLineItem(order.getId(), product.getCode(), 2, "1.25", false);
+    insertLineItem(order.getId(), product.getCode(), 0, "10.00", true);
+    Long userId = insertUserAndRoleForOrders();
+    queryExecutor.executeUpdate("INSERT INTO requisition_status_changes (rnrId, status, createdBy, modifiedBy) VALUES (?, 'SUBMITTED', ?, ?)",
+      order.getId(), userId, userId);
+
+    Order summary = mapper.getOrders(1, 0, userId, Right.VIEW_ORDER).get(0);
+
+    assertThat(summary.getId(), is(order.getId()));
+    assertThat(summary.getStatus(), is(IN_ROUTE));
+    assertThat(summary.getOrderedLineItemCount(), is(2));
+    assertThat(summary.getOrderedCost(), is(new Money("10.00")));
+    assertThat(summary.getRnr().getFacility().getCode(), is(facility.getCode()));
+    assertThat(summary.getRnr().getPeriod().getName(), is(processingPeriod.getName()));
+    assertThat(summary.getRnr().getProgram().getId(), is(1L));
+    assertThat(summary.getRnr().getSubmittedDate() != null, is(true));
+    assertThat(summary.getSupplyingFacility().getName(), is(facility.getName()));
+    assertThat(summary.getRnr().getFullSupplyLineItems().size(), is(0));
+  }
+
   @Test
   public void shouldUpdateStatusAndShipmentIdForOrder() throws Exception {
     Order order = insertOrder(1L);
@@ -180,6 +210,22 @@ public class OrderMapperIT {
     assertThat(savedOrder.getSupplyLine().getId(), is(supplyLine.getId()));
   }
 
+  @Test
+  public void shouldGetOrdersByIds() {
+    Order order1 = insertOrder(1L);
+    insertOrder(2L);
+    Order order3 = insertOrder(3L);
+
+    List<Order> orders = mapper.getByIds("{" + order3.getId() + ", " + order1.getId() + "}");
+
+    assertThat(orders.size(), is(2));
+    assertThat(orders.get(0).getId(), is(order1.getId()));
+    assertThat(orders.get(0).getRnr().getId(), is(order1.getRnr().getId()));
+    assertThat(orders.get(0).getStatus(), is(IN_ROUTE));
+    assertThat(orders.get(0).getSupplyLine().getId(), is(supplyLine.getId()));
+    assertThat(orders.get(1).getId(), is(order3.getId()));
+  }
+
   @Test
   public void shouldGetOrderFileTemplate() throws Exception {
     List<OrderFileColumn> orderFileColumns = mapper.getOrderFileColumns();
@@ -285,6 +331,12 @@ public class OrderMapperIT {
     assertThat(noOrders.size(), is(0));
   }
 
+  private void insertLineItem(Long rnrId, String productCode, Integer packsToShip, String price, Boolean fullSupply) throws SQLException {
+    queryExecutor.executeUpdate("INSERT INTO requisition_line_items (rnrId, productCode, dispensingUnit, maxMonthsOfStock, " +
+        "dosesPerMonth, dosesPerDispensingUnit, packSize, fullSupply, packsToShip, price) VALUES (?, ?, 'Strip', 3, 30, 10, 10, ?, ?, ?)",
+      rnrId, productCode, fullSupply, packsToShip, new BigDecimal(price));
+  }
+
   private Order insertOrderWithStatus(OrderStatus status, Long programId) {
     Rnr rnr = insertRequisition(programId);
     Order order = new Order(rnr);
@@ -10,12 +10,13 @@
 
 package org.openlmis.order.service;
 
-import org.ict4h.atomfeed.server.service.EventService;
+import org.ict4h.atomfeed.server.service.Event;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.openlmis.core.service.EventOutboxService;
 import org.openlmis.db.categories.UnitTests;
 import org.openlmis.order.domain.Order;
 import org.openlmis.order.event.OrderStatusChangeEvent;
@@ -25,10 +26,13 @@ import org.powermock.modules.junit4.PowerMockRunner;
 
 import static com.natpryce.makeiteasy.MakeItEasy.a;
 import static com.natpryce.makeiteasy.MakeItEasy.make;
+import static com.natpryce.makeiteasy.MakeItEasy.with;
+import static java.util.Arrays.asList;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.openlmis.order.domain.OrderStatus.READY_TO_PACK;
 import static org.openlmis.rnr.builder.RequisitionBuilder.defaultRequisition;
+import static org.openlmis.rnr.builder.RequisitionBuilder.id;
 import static org.powermock.api.mockito.PowerMockito.whenNew;
 
 @Category(UnitTests.class)
@@ -37,13 +41,13 @@ import static org.powermock.api.mockito.PowerMockito.whenNew;
 public class OrderEventServiceTest {
 
   @Mock
-  EventService eventService;
+  EventOutboxService eventOutboxService;
 
   @InjectMocks
   OrderEventService service;
 
   @Test
-  public void shouldTriggerNotifyOnEventService() throws Exception {
+  public void shouldRecordStatusChangeEventInOutbox() throws Exception {
     Rnr requisition = make(a(defaultRequisition));
     Order order = new Order(requisition);
     order.setStatus(READY_TO_PACK);
@@ -53,6 +57,20 @@ public class OrderEventServiceTest {
 
     service.notifyForStatusChange(order);
 
-    verify(eventService).notify(event);
+    verify(eventOutboxService).record(event);
+  }
+
+  @Test
+  public void shouldRecordStatusChangeEventsOfAllOrdersInOneCall() throws Exception {
+    Order order1 = new Order(make(a(defaultRequisition, with(id, 1L))));
+    Order order2 = new Order(make(a(defaultRequisition, with(id, 2L))));
+    OrderStatusChangeEvent event1 = mock(OrderStatusChangeEvent.class);
+    OrderStatusChangeEvent event2 = mock(OrderStatusChangeEvent.class);
+    whenNew(OrderStatusChangeEvent.class).withArguments(order1).thenReturn(event1);
+    whenNew(OrderStatusChangeEvent.class).withArguments(order2).thenReturn(event2);
+
+    service.notifyForStatusChange(asList(order1, order2));
+
+    verify(eventOutboxService).recordAll(asList((Event) event1, event2));
   }
 }
@@ -38,6 +38,7 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
@@ -46,6 +47,10 @@ import static com.natpryce.makeiteasy.MakeItEasy.*;
 import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollection;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.openlmis.core.builder.FacilityBuilder.*;
@@ -56,7 +61,6 @@ import static org.openlmis.order.domain.DateFormat.*;
 import static org.openlmis.order.domain.OrderStatus.*;
 import static org.openlmis.rnr.builder.RequisitionBuilder.*;
 import static org.powermock.api.mockito.PowerMockito.when;
-import static org.powermock.api.mockito.PowerMockito.whenNew;
 
 @Category(UnitTests.class)
 @RunWith(PowerMockRunner.class)
@@ -86,90 +90,53 @@ public class OrderServiceTest {
 
   @Test
   public void shouldConvertRequisitionsToOrderWithStatusInRoute() throws Exception {
-    Program program = new Program();
     Long userId = 1L;
-    Rnr rnr = new Rnr();
-    rnr.setId(1L);
-    rnr.setSupervisoryNodeId(1L);
-    rnr.setProgram(program);
-
-    SupplyLine supplyLine = new SupplyLine();
-    supplyLine.setExportOrders(Boolean.TRUE);
+    Rnr rnr = releasedRequisition(1L, 1L, 3L);
+    List<Rnr> rnrList = asList(rnr);
+    SupplyLine supplyLine = supplyLine(1L, 3L, Boolean.TRUE);
 
-    when(requisitionService.getLWById(1L)).thenReturn(rnr);
-    SupervisoryNode supervisoryNode = new SupervisoryNode(1L);
-    whenNew(SupervisoryNode.class).withArguments(1l).thenReturn(supervisoryNode);
-    when(supplyLineService.getSupplyLineBy(supervisoryNode, program)).thenReturn(supplyLine);
-
-    List<Rnr> rnrList = new ArrayList<>();
-    rnrList.add(rnr);
-    when(requisitionService.getFullRequisitionById(1L)).thenReturn(rnr);
+    when(requisitionService.releaseRequisitionsAsOrder(rnrList, userId)).thenReturn(rnrList);
+    when(supplyLineService.getSupplyLinesBy(new HashSet<>(asList(1L)), new HashSet<>(asList(3L)))).thenReturn(asList(supplyLine));
 
     orderService.convertToOrder(rnrList, userId);
 
     Order order = new Order(rnr);
-
     order.setStatus(OrderStatus.IN_ROUTE);
     order.setSupplyLine(supplyLine);
-    verify(orderRepository).save(order);
-    verify(supplyLineService).getSupplyLineBy(supervisoryNode, program);
-    verify(requisitionService).getLWById(rnr.getId());
     verify(requisitionService).releaseRequisitionsAsOrder(rnrList, userId);
-    verify(orderEventService).notifyForStatusChange(order);
-    assertThat(order.getSupplyLine(), is(supplyLine));
+    verify(orderRepository).saveAll(asList(order));
+    verify(orderEventService).notifyForStatusChange(asList(order));
+    verify(requisitionService, never()).getFullRequisitionById(anyLong());
+    verify(supplyLineService, never()).getSupplyLineBy(any(SupervisoryNode.class), any(Program.class));
   }
 
   @Test
   public void shouldConvertRequisitionsToOrderWithStatusReadyToPack() throws Exception {
-    Program program = new Program();
     Long userId = 1L;
-    Rnr rnr = new Rnr();
-    rnr.setId(1L);
-    rnr.setSupervisoryNodeId(1L);
-    rnr.setProgram(program);
-
-    SupplyLine supplyLine = new SupplyLine();
-    supplyLine.setExportOrders(Boolean.FALSE);
+    Rnr rnr = releasedRequisition(1L, 1L, 3L);
+    List<Rnr> rnrList = asList(rnr);
+    SupplyLine supplyLine = supplyLine(1L, 3L, Boolean.FALSE);
 
-    when(requisitionService.getLWById(1L)).thenReturn(rnr);
-    SupervisoryNode supervisoryNode = new SupervisoryNode(1L);
-    whenNew(SupervisoryNode.class).withArguments(1l).thenReturn(supervisoryNode);
-    when(supplyLineService.getSupplyLineBy(supervisoryNode, program)).thenReturn(supplyLine);
-
-    List<Rnr> rnrList = new ArrayList<>();
-    rnrList.add(rnr);
-    when(requisitionService.getFullRequisitionById(1L)).thenReturn(rnr);
+    when(requisitionService.releaseRequisitionsAsOrder(rnrList, userId)).thenReturn(rnrList);
+    when(supplyLineService.getSupplyLinesBy(new HashSet<>(asList(1L)), new HashSet<>(asList(3L)))).thenReturn(asList(supplyLine));
 
     orderService.convertToOrder(rnrList, userId);
 
     Order order = new Order(rnr);
     order.setStatus(OrderStatus.READY_TO_PACK);
     order.setSupplyLine(supplyLine);
-    verify(orderRepository).save(order);
-    verify(supplyLineService).getSupplyLineBy(supervisoryNode, program);
-    verify(requisitionService).getLWById(rnr.getId());
-    verify(requisitionService).releaseRequisitionsAsOrder(rnrList, userId);
-    assertThat(order.getSupplyLine(), is(supplyLine));
+    verify(orderRepository).saveAll(asList(order));
   }
 
   @Test
   public void shouldConvertRequisitionsToOrderWithStatusTransferFailed() throws Exception {
     String SUPPLY_LINE_MISSING_COMMENT = "order.ftpComment.supplyline.missing";
-    Program program = new Program();
     Long userId = 1L;
-    Rnr rnr = new Rnr();
-    rnr.setId(1L);
-    rnr.setSupervisoryNodeId(1L);
-    rnr.setProgram(program);
+    Rnr rnr = releasedRequisition(1L, 1L, 3L);
+    List<Rnr> rnrList = asList(rnr);
 
-    when(requisitionService.getLWById(1L)).thenReturn(rnr);
-    SupervisoryNode supervisoryNode = new SupervisoryNode(1L);
-    whenNew(SupervisoryNode.class).withArguments(1l).thenReturn(supervisoryNode);
-    when(supplyLineService.getSupplyLineBy(supervisoryNode, program)).thenReturn(null);
-    when(requisitionService.getFullRequisitionById(1L)).thenReturn(rnr);
-
-    List<Rnr> rnrList = new ArrayList<>();
-    rnrList.add(rnr);
+    when(requisitionService.releaseRequisitionsAsOrder(rnrList, userId)).thenReturn(rnrList);
+    when(supplyLineService.getSupplyLinesBy(new HashSet<>(asList(1L)), new HashSet<>(asList(3L)))).thenReturn(new ArrayList<SupplyLine>());
 
     orderService.convertToOrder(rnrList, userId);
 
@@ -177,14 +144,56 @@ public class OrderServiceTest {
     order.setStatus(OrderStatus.TRANSFER_FAILED);
     order.setFtpComment(SUPPLY_LINE_MISSING_COMMENT);
     order.setSupplyLine(null);
-    verify(orderRepository).save(order);
-    verify(supplyLineService).getSupplyLineBy(supervisoryNode, program);
-    verify(requisitionService).getLWById(rnr.getId());
-    verify(requisitionService).releaseRequisitionsAsOrder(rnrList, userId);
+    verify(orderRepository).saveAll(asList(order));
+  }
+
+  @Test
+  public void shouldMatchSupplyLinesToRequisitionsBySupervisoryNodeAndProgram() throws Exception {
+    Long userId = 1L;
+    Rnr firstRnr = releasedRequisition(1L, 1L, 3L);
+    Rnr secondRnr = releasedRequisition(2L, 2L, 3L);
+    Rnr thirdRnr = releasedRequisition(3L, 2L, 4L);
+    List<Rnr> rnrList = asList(firstRnr, secondRnr, thirdRnr);
+    SupplyLine firstSupplyLine = supplyLine(1L, 3L, Boolean.TRUE);
+    SupplyLine secondSupplyLine = supplyLine(2L, 3L, Boolean.FALSE);
+
+    when(requisitionService.releaseRequisitionsAsOrder(rnrList, userId)).thenReturn(rnrList);
+    when(supplyLineService.getSupplyLinesBy(new HashSet<>(asList(1L, 2L)), new HashSet<>(asList(3L, 4L))))
+      .thenReturn(asList(firstSupplyLine, secondSupplyLine));
+
+    orderService.convertToOrder(rnrList, userId);
+
+    Order firstOrder = new Order(firstRnr);
+    firstOrder.setStatus(IN_ROUTE);
+    firstOrder.setSupplyLine(firstSupplyLine);
+    Order secondOrder = new Order(secondRnr);
+    secondOrder.setStatus(READY_TO_PACK);
+    secondOrder.setSupplyLine(secondSupplyLine);
+    Order thirdOrder = new Order(thirdRnr);
+    thirdOrder.setStatus(TRANSFER_FAILED);
+    thirdOrder.setFtpComment(OrderService.SUPPLY_LINE_MISSING_COMMENT);
+    verify(supplyLineService, times(1)).getSupplyLinesBy(anyCollection(), anyCollection());
+    verify(orderRepository).saveAll(asList(firstOrder, secondOrder, thirdOrder));
+    verify(orderEventService).notifyForStatusChange(asList(firstOrder, secondOrder, thirdOrder));
+  }
+
+  private Rnr releasedRequisition(Long id, Long supervisoryNodeId, Long programId) {
+    Rnr rnr = new Rnr(id);
+    rnr.setSupervisoryNodeId(supervisoryNodeId);
+    rnr.setProgram(new Program(programId));
+    return rnr;
+  }
+
+  private SupplyLine supplyLine(Long supervisoryNodeId, Long programId, Boolean exportOrders) {
+    SupplyLine supplyLine = new SupplyLine();
+    supplyLine.setSupervisoryNode(new SupervisoryNode(supervisoryNodeId));
+    supplyLine.setProgram(new Program(programId));
+    supplyLine.setExportOrders(exportOrders);
+    return supplyLine;
   }
 
   @Test
-  public void shouldGetOrdersFilledWithRequisition() throws Exception {
+  public void shouldGetOrderSummariesForPageWithoutLoadingFullRequisitions() throws Exception {
     orderService.setPageSize("3");
     Rnr rnr1 = make(a(defaultRequisition, with(id, 78L)));
     final Order order1 = new Order();
@@ -201,15 +210,12 @@ public class OrderServiceTest {
     }};
 
     when(orderRepository.getOrdersForPage(2, 3, 1l, Right.VIEW_ORDER)).thenReturn(expectedOrders);
-    when(requisitionService.getFullRequisitionById(rnr1.getId())).thenReturn(rnr1);
-    when(requisitionService.getFullRequisitionById(rnr2.getId())).thenReturn(rnr2);
 
     List<Order> orders = orderService.getOrdersForPage(2, 1l, Right.VIEW_ORDER);
 
     assertThat(orders, is(expectedOrders));
     verify(orderRepository).getOrdersForPage(2, 3, 1l, Right.VIEW_ORDER);
-    verify(requisitionService).getFullRequisitionById(rnr1.getId());
-    verify(requisitionService).getFullRequisitionById(rnr2.getId());
+    verify(requisitionService, never()).getFullRequisitionById(anyLong());
   }
 
   @Test
@@ -227,20 +233,16 @@ public class OrderServiceTest {
     ShipmentFileInfo shipmentFileInfo = new ShipmentFileInfo("shipmentFile.csv", processingError);
     shipmentFileInfo.setId(shipmentId);
 
-    when(orderRepository.getById(123L)).thenReturn(order1);
-    when(orderRepository.getById(456L)).thenReturn(order2);
-    when(requisitionService.getFullRequisitionById(order1.getRnr().getId())).thenReturn(order1.getRnr());
-    when(requisitionService.getFullRequisitionById(order2.getRnr().getId())).thenReturn(order2.getRnr());
+    when(requisitionService.getStatusSummaries(asList(123L, 456L))).thenReturn(asList(order1.getRnr(), order2.getRnr()));
 
     orderService.updateStatusAndShipmentIdForOrders(orderIds, shipmentFileInfo);
 
-    verify(orderRepository).getById(123L);
-    verify(orderRepository).updateStatusAndShipmentIdForOrder(order1.getId(), RELEASED, shipmentId);
-    verify(orderEventService).notifyForStatusChange(order1);
-
-    verify(orderRepository).getById(456L);
-    verify(orderRepository).updateStatusAndShipmentIdForOrder(order2.getId(), RELEASED, shipmentId);
-    verify(orderEventService).notifyForStatusChange(order2);
+    order1.setStatus(RELEASED);
+    order2.setStatus(RELEASED);
+    verify(orderRepository).updateStatusAndShipmentIdForOrders(orderIds, RELEASED, shipmentId);
+    verify(orderEventService).notifyForStatusChange(asList(order1, order2));
+    verify(orderRepository, never()).getById(anyLong());
+    verify(requisitionService, never()).getFullRequisitionById(anyLong());
   }
 
   @Test
@@ -258,14 +260,20 @@ public class OrderServiceTest {
     ShipmentFileInfo shipmentFileInfo = new ShipmentFileInfo("shipmentFile.csv", processingError);
     shipmentFileInfo.setId(shipmentId);
 
-    when(orderRepository.getById(order1.getId())).thenReturn(order1);
-    when(orderRepository.getById(order2.getId())).thenReturn(order2);
-    when(requisitionService.getFullRequisitionById(order1.getRnr().getId())).thenReturn(order1.getRnr());
-    when(requisitionService.getFullRequisitionById(order2.getRnr().getId())).thenReturn(order2.getRnr());
+    when(requisitionService.getStatusSummaries(asList(123L, 456L))).thenReturn(asList(order1.getRnr(), order2.getRnr()));
     orderService.updateStatusAndShipmentIdForOrders(orderIds, shipmentFileInfo);
 
-    verify(orderRepository).updateStatusAndShipmentIdForOrder(123L, PACKED, shipmentId);
-    verify(orderRepository).updateStatusAndShipmentIdForOrder(456L, PACKED, shipmentId);
+    verify(orderRepository, times(1)).updateStatusAndShipmentIdForOrders(orderIds, PACKED, shipmentId);
+  }
+
+  @Test
+  public void shouldGetShippableOrderIdsInOneCall() throws Exception {
+    Set<Long> orderIds = new LinkedHashSet<>(asList(1L, 2L, 3L));
+    when(orderRepository.getIdsWithStatus(orderIds, RELEASED)).thenReturn(asList(1L, 3L));
+
+    Set<Long> shippableOrderIds = orderService.getShippableOrderIds(orderIds);
+
+    assertThat(shippableOrderIds, is((Set<Long>) new HashSet<>(asList(1L, 3L))));
   }
 
   @Test
@@ -296,6 +304,32 @@ public class OrderServiceTest {
     assertThat(expectedOrder, is(order));
   }
 
+  @Test
+  public void shouldGetOrdersWithFullRequisitionsInBulk() {
+    Rnr rnr1 = new Rnr(1L);
+    Rnr rnr2 = new Rnr(2L);
+    RnrLineItem orderedLineItem = new RnrLineItem();
+    orderedLineItem.setPacksToShip(5);
+    RnrLineItem unorderedLineItem = new RnrLineItem();
+    unorderedLineItem.setPacksToShip(0);
+    rnr1.setFullSupplyLineItems(new ArrayList<>(asList(orderedLineItem, unorderedLineItem)));
+    rnr1.setNonFullSupplyLineItems(new ArrayList<>(asList(unorderedLineItem)));
+    Order order1 = new Order(new Rnr(1L));
+    Order order2 = new Order(new Rnr(2L));
+
+    when(orderRepository.getByIds(asList(1L, 2L))).thenReturn(asList(order1, order2));
+    when(requisitionService.getFullRequisitionsByIds(asList(1L, 2L))).thenReturn(asList(rnr2, rnr1));
+
+    List<Order> orders = orderService.getOrders(asList(1L, 2L));
+
+    assertThat(orders, is(asList(order1, order2)));
+    assertThat(order1.getRnr(), is(rnr1));
+    assertThat(order2.getRnr(), is(rnr2));
+    assertThat(rnr1.getFullSupplyLineItems(), is(asList(orderedLineItem)));
+    assertThat(rnr1.getNonFullSupplyLineItems().size(), is(0));
+    verify(requisitionService, never()).getFullRequisitionById(anyLong());
+  }
+
   @Test
   public void shouldGetOrderFileTemplateWithConfiguration() throws Exception {
     OrderConfiguration orderConfiguration = new OrderConfiguration();
@@ -334,11 +368,12 @@ public class OrderServiceTest {
   @Test
   public void shouldUpdateOrderStatusAndFtpComment() throws Exception {
     Order order = new Order(make(a(defaultRequisition, with(id, 123L))));
-    when(requisitionService.getFullRequisitionById(order.getRnr().getId())).thenReturn(order.getRnr());
+    when(requisitionService.getStatusSummaries(asList(123L))).thenReturn(asList(order.getRnr()));
 
     orderService.updateOrderStatus(order);
     verify(orderRepository).updateOrderStatus(order);
     verify(orderEventService).notifyForStatusChange(order);
+    verify(requisitionService, never()).getFullRequisitionById(anyLong());
   }
 
   @Test
@@ -400,12 +435,12 @@ public class OrderServiceTest {
     order.setRnr(new Rnr(13l));
     List<Order> expectedOrders = asList(order);
     when(roleAssignmentService.getFulfilmentRolesWithRight(3L, MANAGE_POD)).thenReturn(asList(new FulfillmentRoleAssignment(3L, 4l, new ArrayList<Long>())));
-    when(requisitionService.getFullRequisitionById(13L)).thenReturn(new Rnr());
     when(orderRepository.searchByWarehousesAndStatuses(asList(4l), asList(RELEASED, PACKED, TRANSFER_FAILED, READY_TO_PACK))).thenReturn(expectedOrders);
 
     List<Order> returnedOrders = orderService.searchByStatusAndRight(3l, MANAGE_POD, asList(RELEASED, PACKED, TRANSFER_FAILED, READY_TO_PACK));
 
     assertThat(returnedOrders, is(expectedOrders));
+    verify(requisitionService, never()).getFullRequisitionById(anyLong());
   }
 
   @Test
@@ -414,20 +449,17 @@ public class OrderServiceTest {
     Rnr rnrForTB = make(a(RequisitionBuilder.defaultRequisition, with(id, 4L), with(program, make(a(defaultProgram, with(ProgramBuilder.programName, "TB"))))));
     Rnr rnrForMalaria = make(a(RequisitionBuilder.defaultRequisition, with(id, 6L), with(program, make(a(defaultProgram, with(ProgramBuilder.programName, "MALARIA"))))));
 
-    Order order1 = new Order(new Rnr(2L));
+    Order order1 = new Order(rnrForHIV);
     order1.setSupplyLine(make(a(defaultSupplyLine, with(SupplyLineBuilder.facility, make(a(FacilityBuilder.defaultFacility, with(name, "F10")))))));
 
-    Order order2 = new Order(new Rnr(4L));
+    Order order2 = new Order(rnrForTB);
     order2.setSupplyLine(make(a(defaultSupplyLine, with(SupplyLineBuilder.facility, make(a(FacilityBuilder.defaultFacility, with(name, "F11")))))));
 
-    Order order3 = new Order(new Rnr(6L));
+    Order order3 = new Order(rnrForMalaria);
     order3.setSupplyLine(make(a(defaultSupplyLine, with(SupplyLineBuilder.facility, make(a(FacilityBuilder.defaultFacility, with(name, "F10")))))));
 
     List<Order> expectedOrders = asList(order1, order2, order3);
     when(roleAssignmentService.getFulfilmentRolesWithRight(3L, MANAGE_POD)).thenReturn(asList(new FulfillmentRoleAssignment(3L, 4l, new ArrayList<Long>())));
-    when(requisitionService.getFullRequisitionById(2L)).thenReturn(rnrForHIV);
-    when(requisitionService.getFullRequisitionById(4L)).thenReturn(rnrForTB);
-    when(requisitionService.getFullRequisitionById(6L)).thenReturn(rnrForMalaria);
     when(orderRepository.searchByWarehousesAndStatuses(asList(4l), asList(RELEASED, PACKED, TRANSFER_FAILED, READY_TO_PACK))).thenReturn(expectedOrders);
 
     List<Order> returnedOrders = orderService.searchByStatusAndRight(3l, MANAGE_POD, asList(RELEASED, PACKED, TRANSFER_FAILED, READY_TO_PACK));
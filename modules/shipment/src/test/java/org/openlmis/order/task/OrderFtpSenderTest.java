@@ -23,8 +23,6 @@ import org.openlmis.db.categories.UnitTests;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
-import java.io.File;
-
 import static org.mockito.Mockito.*;
 import static org.powermock.api.mockito.PowerMockito.whenNew;
 
@@ -42,13 +40,28 @@ public class OrderFtpSenderTest {
     when(camelContext.createProducerTemplate()).thenReturn(producerTemplate);
     OrderFtpSender orderFtpSender = new OrderFtpSender();
     FacilityFtpDetails facilityFtpDetails = getFacilityFtpDetails();
-    File file = mock(File.class);
     String fileName = "dummyfile";
-    when(file.getName()).thenReturn(fileName);
+    byte[] content = "content".getBytes();
+
+    orderFtpSender.sendFile(facilityFtpDetails, fileName, content);
+
+    verify(producerTemplate).sendBodyAndHeader("ftp://username@serverhost:serverport/localfolderpath?password=password&passiveMode=true", content, Exchange.FILE_NAME, fileName);
+  }
+
+  @Test
+  public void shouldReuseProducerTemplateAcrossSends() throws Exception {
+    DefaultCamelContext camelContext = mock(DefaultCamelContext.class);
+    ProducerTemplate producerTemplate = mock(ProducerTemplate.class);
+    whenNew(DefaultCamelContext.class).withNoArguments().thenReturn(camelContext);
+    when(camelContext.createProducerTemplate()).thenReturn(producerTemplate);
+    OrderFtpSender orderFtpSender = new OrderFtpSender();
+    FacilityFtpDetails facilityFtpDetails = getFacilityFtpDetails();
 
-    orderFtpSender.sendFile(facilityFtpDetails, file);
+    orderFtpSender.sendFile(facilityFtpDetails, "file1", "content1".getBytes());
+    orderFtpSender.sendFile(facilityFtpDetails, "file2", "content2".getBytes());
 
-    verify(producerTemplate).sendBodyAndHeader("ftp://username@serverhost:serverport/localfolderpath?password=password&passiveMode=true", file, Exchange.FILE_NAME, fileName);
+    verify(camelContext, times(1)).createProducerTemplate();
+    verify(producerTemplate, times(2)).sendBodyAndHeader(anyString(), any(byte[].class), eq(Exchange.FILE_NAME), anyString());
   }
 
   private FacilityFtpDetails getFacilityFtpDetails() {
@@ -16,6 +16,7 @@ import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
 import org.openlmis.core.domain.Facility;
 import org.openlmis.core.domain.FacilityFtpDetails;
 import org.openlmis.core.domain.OrderConfiguration;
@@ -27,22 +28,20 @@ import org.openlmis.order.domain.Order;
 import org.openlmis.order.dto.OrderFileTemplateDTO;
 import org.openlmis.order.helper.OrderCsvHelper;
 import org.openlmis.order.service.OrderService;
-import org.powermock.core.classloader.annotations.PrepareForTest;
-import org.powermock.modules.junit4.PowerMockRunner;
+import org.springframework.core.task.support.TaskExecutorAdapter;
 
-import java.io.File;
-import java.io.FileWriter;
+import java.io.StringWriter;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import static java.util.Arrays.asList;
 import static org.mockito.Mockito.*;
+import static org.openlmis.order.domain.OrderStatus.RELEASED;
 import static org.openlmis.order.domain.OrderStatus.TRANSFER_FAILED;
 import static org.openlmis.order.task.OrderFtpTask.FTP_CREDENTIAL_MISSING_COMMENT;
-import static org.powermock.api.mockito.PowerMockito.whenNew;
 
 @Category(UnitTests.class)
-@RunWith(PowerMockRunner.class)
-@PrepareForTest(OrderFtpTask.class)
+@RunWith(MockitoJUnitRunner.class)
 public class OrderFtpTaskTest {
 
   @Mock
@@ -60,9 +59,6 @@ public class OrderFtpTaskTest {
   @Mock
   private OrderFtpSender ftpSender;
 
-  @Mock
-  String localFileDirectory = "test";
-
   @InjectMocks
   private OrderFtpTask orderFtpTask;
 
@@ -75,12 +71,19 @@ public class OrderFtpTaskTest {
     fullOrder = mock(Order.class);
     order = new Order(1l);
     orderList = asList(order);
+    orderFtpTask.orderFtpExecutor = new TaskExecutorAdapter(new Executor() {
+      @Override
+      public void execute(Runnable command) {
+        command.run();
+      }
+    });
+    orderFtpTask.maxConnectionsPerDestination = 2;
   }
 
   @Test
   public void shouldProcessOrders() throws Exception {
     SupplyLine supplyLine = mock(SupplyLine.class);
-    when(orderService.getOrder(order.getId())).thenReturn(fullOrder);
+    when(orderService.getOrders(asList(1l))).thenReturn(asList(fullOrder));
     when(fullOrder.getId()).thenReturn(1l);
     when(fullOrder.getSupplyLine()).thenReturn(supplyLine);
     Long supplyLineId = 1l;
@@ -95,23 +98,53 @@ public class OrderFtpTaskTest {
     orderFileTemplateDTO.setOrderConfiguration(orderConfiguration);
     orderConfiguration.setFilePrefix("Order");
     when(orderService.getOrderFileTemplateDTO()).thenReturn(orderFileTemplateDTO);
-    File file = mock(File.class);
-    whenNew(File.class).withArguments(localFileDirectory).thenReturn(file);
-    whenNew(File.class).withArguments(localFileDirectory + System.getProperty("file.separator") + "Order1.csv").thenReturn(file);
-    FileWriter fileWriter = mock(FileWriter.class);
-    whenNew(FileWriter.class).withArguments(file).thenReturn(fileWriter);
 
     orderFtpTask.processOrder(orderList);
 
-    verify(orderCsvHelper).writeCsvFile(fullOrder, orderFileTemplateDTO, fileWriter);
-    verify(fileWriter).flush();
-    verify(ftpSender).sendFile(facilityFtpDetails, file);
+    verify(orderCsvHelper).writeCsvFile(eq(fullOrder), eq(orderFileTemplateDTO), any(StringWriter.class));
+    verify(ftpSender).sendFile(eq(facilityFtpDetails), eq("Order1.csv"), any(byte[].class));
+    verify(fullOrder).setStatus(RELEASED);
+    verify(orderService).updateOrderStatus(fullOrder);
+  }
+
+  @Test
+  public void shouldLoadTemplateSupplyLineAndFtpDetailsOncePerPoll() throws Exception {
+    Order order2 = new Order(2l);
+    Order fullOrder2 = mock(Order.class);
+    SupplyLine supplyLine = mock(SupplyLine.class);
+    when(orderService.getOrders(asList(1l, 2l))).thenReturn(asList(fullOrder, fullOrder2));
+    when(fullOrder.getId()).thenReturn(1l);
+    when(fullOrder2.getId()).thenReturn(2l);
+    when(fullOrder.getSupplyLine()).thenReturn(supplyLine);
+    when(fullOrder2.getSupplyLine()).thenReturn(supplyLine);
+    Long supplyLineId = 1l;
+    when(supplyLine.getId()).thenReturn(supplyLineId);
+    when(supplyLineService.getById(supplyLineId)).thenReturn(supplyLine);
+    Facility facility = new Facility(5l);
+    when(supplyLine.getSupplyingFacility()).thenReturn(facility);
+    FacilityFtpDetails facilityFtpDetails = mock(FacilityFtpDetails.class);
+    when(facilityFtpDetailsService.getByFacilityId(facility)).thenReturn(facilityFtpDetails);
+    OrderFileTemplateDTO orderFileTemplateDTO = new OrderFileTemplateDTO();
+    OrderConfiguration orderConfiguration = new OrderConfiguration();
+    orderFileTemplateDTO.setOrderConfiguration(orderConfiguration);
+    orderConfiguration.setFilePrefix("Order");
+    when(orderService.getOrderFileTemplateDTO()).thenReturn(orderFileTemplateDTO);
+
+    orderFtpTask.processOrder(asList(order, order2));
+
+    verify(orderService, times(1)).getOrderFileTemplateDTO();
+    verify(orderService, times(1)).getOrders(asList(1l, 2l));
+    verify(orderService, never()).getOrder(anyLong());
+    verify(supplyLineService, times(1)).getById(supplyLineId);
+    verify(facilityFtpDetailsService, times(1)).getByFacilityId(facility);
+    verify(ftpSender).sendFile(eq(facilityFtpDetails), eq("Order1.csv"), any(byte[].class));
+    verify(ftpSender).sendFile(eq(facilityFtpDetails), eq("Order2.csv"), any(byte[].class));
   }
 
   @Test
   public void shouldUpdateOrderAsTransferFailedIfFacilityFtpDetailsDoesNotExist() {
     SupplyLine supplyLine = mock(SupplyLine.class);
-    when(orderService.getOrder(order.getId())).thenReturn(fullOrder);
+    when(orderService.getOrders(asList(1l))).thenReturn(asList(fullOrder));
     when(fullOrder.getSupplyLine()).thenReturn(supplyLine);
     Long supplyLineId = 1l;
     when(supplyLine.getId()).thenReturn(supplyLineId);
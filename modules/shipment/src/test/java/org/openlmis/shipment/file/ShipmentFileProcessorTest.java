@@ -145,7 +145,7 @@ public class ShipmentFileProcessorTest {
       assertThat(e.getMessage(), is("shipment.file.error"));
     }
 
-    verify(shipmentService, times(0)).save(any(ShipmentLineItem.class));
+    verify(shipmentService, never()).saveAll(anyListOf(ShipmentLineItem.class));
 
     verify(shipmentFilePostProcessHandler).process(new HashSet<Long>(), shipmentFile, false);
   }
@@ -168,12 +168,12 @@ public class ShipmentFileProcessorTest {
     lineItem.setOrderId(232L);
     when(shipmentLineItemTransformer.transform(any(ShipmentLineItemDTO.class), anyString(), anyString(), any(Date.class))).thenReturn(lineItem);
     when(applicationContext.getBean(ShipmentFileProcessor.class)).thenReturn(shipmentFileProcessor);
-    when(orderService.isShippable(232L)).thenReturn(true);
+    when(orderService.getShippableOrderIds(new HashSet<>(asList(232L)))).thenReturn(new HashSet<>(asList(232L)));
 
     shipmentFileProcessor.process(message);
 
     verify(mockedCsvListReader, times(0)).getHeader(true);
-    verify(shipmentService, times(1)).save(any(ShipmentLineItem.class));
+    verify(shipmentService, times(1)).saveAll(asList(lineItem));
 
     Set<Long> orderIds = new HashSet<>();
     orderIds.add(232L);
@@ -232,17 +232,37 @@ public class ShipmentFileProcessorTest {
     shipmentLineItemDTO.setShippedDate("11/11/2011");
     ShipmentLineItem shipmentLineItem = mock(ShipmentLineItem.class);
     when(shipmentLineItem.getOrderId()).thenReturn(333L);
-    when(orderService.isShippable(333L)).thenReturn(true);
+    when(orderService.getShippableOrderIds(new HashSet<>(asList(333L)))).thenReturn(new HashSet<>(asList(333L)));
 
     when(shipmentLineItemTransformer.transform(shipmentLineItemDTO, "MM/yy", "dd/MM/yyyy", creationDate)).thenReturn(shipmentLineItem);
     when(applicationContext.getBean(ShipmentFileProcessor.class)).thenReturn(shipmentFileProcessor);
 
     shipmentFileProcessor.process(message);
 
-    verify(shipmentService).save(shipmentLineItem);
+    verify(shipmentService).saveAll(asList(shipmentLineItem));
 
     HashSet<Long> orderIds = new HashSet<>();
     orderIds.add(333L);
     verify(shipmentFilePostProcessHandler).process(orderIds, shipmentFile, true);
   }
+
+  @Test
+  public void shouldNotSaveLineItemsIfAnyOrderInFileIsNotShippable() throws Exception {
+    List<EDIFileColumn> shipmentFileColumnList = new ArrayList<EDIFileColumn>() {{
+      add(make(a(mandatoryShipmentFileColumn, with(fieldName, "orderId"), with(columnPosition, 1))));
+    }};
+
+    EDIFileTemplate shipmentFileTemplate = new EDIFileTemplate(shipmentConfiguration, shipmentFileColumnList);
+
+    when(shipmentFileTemplateService.get()).thenReturn(shipmentFileTemplate);
+    when(mockedCsvListReader.read()).thenReturn(asList("232")).thenReturn(asList("233")).thenReturn(null);
+    when(applicationContext.getBean(ShipmentFileProcessor.class)).thenReturn(shipmentFileProcessor);
+    when(orderService.getShippableOrderIds(new HashSet<>(asList(232L, 233L)))).thenReturn(new HashSet<>(asList(232L)));
+
+    shipmentFileProcessor.process(message);
+
+    verify(orderService, times(1)).getShippableOrderIds(anySetOf(Long.class));
+    verify(shipmentService, never()).saveAll(anyListOf(ShipmentLineItem.class));
+    verify(shipmentFilePostProcessHandler).process(new HashSet<>(asList(232L)), shipmentFile, false);
+  }
 }
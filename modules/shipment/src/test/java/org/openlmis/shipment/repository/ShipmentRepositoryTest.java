@@ -24,7 +24,12 @@ import org.openlmis.shipment.domain.ShipmentLineItem;
 import org.openlmis.shipment.repository.mapper.ShipmentMapper;
 import org.springframework.dao.DataIntegrityViolationException;
 
+import java.util.ArrayList;
+
 import static com.natpryce.makeiteasy.MakeItEasy.*;
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
 import static org.junit.rules.ExpectedException.none;
 import static org.mockito.Mockito.*;
 import static org.openlmis.core.matchers.Matchers.dataExceptionMatcher;
@@ -90,4 +95,40 @@ public class ShipmentRepositoryTest {
     verify(shipmentMapper).updateShippedLineItem(shipmentLineItem);
   }
 
-}
\ No newline at end of file
+  @Test
+  public void shouldInsertNewAndUpdateShippedLineItemsInBatches() throws Exception {
+    ShipmentLineItem shippedLineItem = make(a(defaultShipmentLineItem, with(productCode, "P10"), with(orderId, 1L)));
+    ShipmentLineItem newLineItem = make(a(defaultShipmentLineItem, with(productCode, "P11"), with(orderId, 1L)));
+    ShipmentLineItem existingKey = make(a(defaultShipmentLineItem, with(productCode, "P10"), with(orderId, 1L)));
+    when(shipmentMapper.getShippedLineItemKeys("{1}")).thenReturn(asList(existingKey));
+
+    shipmentRepository.saveAll(asList(shippedLineItem, newLineItem));
+
+    verify(shipmentMapper).insertShippedLineItems(asList(newLineItem));
+    verify(shipmentMapper).updateShippedLineItems(asList(shippedLineItem));
+    verify(shipmentMapper, never()).getShippedLineItem(any(ShipmentLineItem.class));
+  }
+
+  @Test
+  public void shouldKeepLastQuantityForRepeatedProductOfAnOrder() throws Exception {
+    ShipmentLineItem firstLineItem = make(a(defaultShipmentLineItem, with(productCode, "P10"), with(orderId, 1L), with(quantityShipped, 5)));
+    ShipmentLineItem repeatedLineItem = make(a(defaultShipmentLineItem, with(productCode, "P10"), with(orderId, 1L), with(quantityShipped, 7)));
+    when(shipmentMapper.getShippedLineItemKeys("{1}")).thenReturn(new ArrayList<ShipmentLineItem>());
+
+    shipmentRepository.saveAll(asList(firstLineItem, repeatedLineItem));
+
+    verify(shipmentMapper).insertShippedLineItems(asList(firstLineItem));
+    assertThat(firstLineItem.getQuantityShipped(), is(7));
+  }
+
+  @Test
+  public void shouldThrowExceptionIfBatchHasIncorrectDataLength() throws Exception {
+    ShipmentLineItem shipmentLineItem = make(a(defaultShipmentLineItem, with(productCode, "P10"), with(orderId, 1L)));
+    when(shipmentMapper.getShippedLineItemKeys("{1}")).thenReturn(new ArrayList<ShipmentLineItem>());
+    doThrow(new DataIntegrityViolationException("Incorrect data length")).when(shipmentMapper).insertShippedLineItems(asList(shipmentLineItem));
+
+    expectedException.expect(dataExceptionMatcher("error.incorrect.length"));
+
+    shipmentRepository.saveAll(asList(shipmentLineItem));
+  }
+}
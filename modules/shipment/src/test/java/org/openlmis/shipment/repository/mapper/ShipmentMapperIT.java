@@ -40,6 +40,7 @@ import java.util.Date;
 import java.util.List;
 
 import static com.natpryce.makeiteasy.MakeItEasy.*;
+import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
@@ -244,6 +245,31 @@ public class ShipmentMapperIT {
     assertThat(date, is(shipmentLineItemFromDB.getModifiedDate()));
   }
 
+  @Test
+  public void shouldUpdateShippedLineItemsInBulk() throws Exception {
+    ShipmentLineItem shipmentLineItem = createShippedLineItem();
+    mapper.insertShippedLineItems(asList(shipmentLineItem));
+
+    shipmentLineItem.setQuantityShipped(10);
+    mapper.updateShippedLineItems(asList(shipmentLineItem));
+
+    ShipmentLineItem shipmentLineItemFromDB = mapper.getShippedLineItem(shipmentLineItem);
+
+    assertThat(shipmentLineItemFromDB.getQuantityShipped(), is(10));
+  }
+
+  @Test
+  public void shouldGetKeysOfShippedLineItemsForOrders() throws Exception {
+    ShipmentLineItem shipmentLineItem = createShippedLineItem();
+    mapper.insertShippedLineItem(shipmentLineItem);
+
+    List<ShipmentLineItem> keys = mapper.getShippedLineItemKeys("{" + shipmentLineItem.getOrderId() + "}");
+
+    assertThat(keys.size(), is(1));
+    assertThat(keys.get(0).getOrderId(), is(shipmentLineItem.getOrderId()));
+    assertThat(keys.get(0).getProductCode(), is(shipmentLineItem.getProductCode()));
+  }
+
   @Test
   public void shouldReturnLineItemsForAnOrder() throws Exception {
     ShipmentLineItem shipmentLineItem = createShippedLineItem();
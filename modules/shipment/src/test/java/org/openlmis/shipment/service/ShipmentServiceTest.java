@@ -23,6 +23,7 @@ import org.openlmis.core.domain.Product;
 import org.openlmis.core.exception.DataException;
 import org.openlmis.core.service.ProductService;
 import org.openlmis.db.categories.UnitTests;
+import org.openlmis.rnr.builder.RnrLineItemBuilder;
 import org.openlmis.rnr.domain.RnrLineItem;
 import org.openlmis.rnr.service.RequisitionService;
 import org.openlmis.shipment.domain.ShipmentFileInfo;
@@ -73,6 +74,29 @@ public class ShipmentServiceTest {
     verify(shipmentRepository).save(shipmentLineItem);
   }
 
+  @Test
+  public void shouldFillReferenceFieldsAndSaveAllLineItemsTogether() throws Exception {
+    ShipmentLineItem firstLineItem = spy(make(a(defaultShipmentLineItem, with(productCode, "P10"), with(orderId, 1L))));
+    ShipmentLineItem secondLineItem = spy(make(a(defaultShipmentLineItem, with(productCode, "P11"), with(orderId, 2L))));
+    ShipmentLineItem thirdLineItem = spy(make(a(defaultShipmentLineItem, with(productCode, "P12"), with(orderId, 1L))));
+    RnrLineItem firstRnrLineItem = make(a(defaultRnrLineItem, with(RnrLineItemBuilder.productCode, "P10")));
+    firstRnrLineItem.setRnrId(1L);
+    RnrLineItem secondRnrLineItem = make(a(defaultRnrLineItem, with(RnrLineItemBuilder.productCode, "P11")));
+    secondRnrLineItem.setRnrId(2L);
+    when(requisitionService.getNonSkippedLineItems(asList(1L, 2L))).thenReturn(asList(firstRnrLineItem, secondRnrLineItem));
+    Product product = make(a(defaultProduct));
+    when(productService.getByCode("P12")).thenReturn(product);
+
+    shipmentService.saveAll(asList(firstLineItem, secondLineItem, thirdLineItem));
+
+    verify(firstLineItem).fillReferenceFields(firstRnrLineItem);
+    verify(secondLineItem).fillReferenceFields(secondRnrLineItem);
+    verify(thirdLineItem).fillReferenceFields(product);
+    verify(requisitionService, never()).getNonSkippedLineItem(anyLong(), anyString());
+    verify(shipmentRepository).saveAll(asList(firstLineItem, secondLineItem, thirdLineItem));
+    verify(shipmentRepository, never()).save(any(ShipmentLineItem.class));
+  }
+
   @Test
   public void shouldNotInsertShipmentIfProductCodeIsNotValid() throws Exception {
 
@@ -11,11 +11,14 @@
 package org.openlmis.upload.parser;
 
 import lombok.NoArgsConstructor;
+import org.openlmis.upload.BatchRecordHandler;
 import org.openlmis.upload.Importable;
 import org.openlmis.upload.RecordHandler;
 import org.openlmis.upload.exception.UploadException;
 import org.openlmis.upload.model.AuditFields;
 import org.openlmis.upload.model.ModelClass;
+import org.openlmis.upload.model.UploadErrors;
+import org.openlmis.upload.model.UploadResult;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.supercsv.exception.SuperCsvCellProcessorException;
@@ -25,6 +28,8 @@ import org.supercsv.util.CsvContext;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * This class has logic to invoke corresponding respective record handler to parse data from input stream into the corresponding model.
@@ -34,21 +39,32 @@ import java.io.InputStream;
 @NoArgsConstructor
 public class CSVParser {
 
+  public static final int CHUNK_SIZE = 500;
+
+  /**
+   * Rows rejected by a BatchRecordHandler are returned in the result while the rest of the file is saved. Any other
+   * failure is thrown and rolls the whole upload back.
+   */
   @Transactional
-  public int process(InputStream inputStream, ModelClass modelClass, RecordHandler recordHandler, AuditFields auditFields)
-      throws UploadException {
+  public UploadResult process(InputStream inputStream, ModelClass modelClass, RecordHandler recordHandler,
+                              AuditFields auditFields) throws UploadException {
 
     CsvBeanReader csvBeanReader = null;
     String[] headers = null;
+    UploadErrors errors = new UploadErrors();
 
     try {
       csvBeanReader = new CsvBeanReader(modelClass, inputStream);
       headers = csvBeanReader.getHeaders();
       csvBeanReader.validateHeaders();
-      Importable importedModel;
 
-      while ((importedModel = csvBeanReader.readWithCellProcessors()) != null) {
-        recordHandler.execute(importedModel, csvBeanReader.getRowNumber(), auditFields);
+      if (recordHandler instanceof BatchRecordHandler) {
+        processInChunks(csvBeanReader, (BatchRecordHandler) recordHandler, auditFields, errors);
+      } else {
+        Importable importedModel;
+        while ((importedModel = csvBeanReader.readWithCellProcessors()) != null) {
+          recordHandler.execute(importedModel, csvBeanReader.getRowNumber(), auditFields);
+        }
       }
       recordHandler.postProcess(auditFields);
     } catch (SuperCsvConstraintViolationException constraintException) {
@@ -69,7 +85,29 @@ public class CSVParser {
       throw new UploadException(e.getStackTrace().toString());
     }
 
-    return csvBeanReader.getRowNumber() - 1;
+    return new UploadResult(csvBeanReader.getRowNumber() - 1, errors.getMessages());
+  }
+
+  private void processInChunks(CsvBeanReader csvBeanReader, BatchRecordHandler recordHandler, AuditFields auditFields,
+                               UploadErrors errors) throws IOException {
+    List<Importable> chunk = new ArrayList<>(CHUNK_SIZE);
+    List<Integer> rowNumbers = new ArrayList<>(CHUNK_SIZE);
+    Importable importedModel;
+
+    while ((importedModel = csvBeanReader.readWithCellProcessors()) != null) {
+      chunk.add(importedModel);
+      rowNumbers.add(csvBeanReader.getRowNumber());
+
+      if (chunk.size() == CHUNK_SIZE) {
+        recordHandler.execute(chunk, rowNumbers, auditFields, errors);
+        chunk = new ArrayList<>(CHUNK_SIZE);
+        rowNumbers = new ArrayList<>(CHUNK_SIZE);
+      }
+    }
+
+    if (!chunk.isEmpty()) {
+      recordHandler.execute(chunk, rowNumbers, auditFields, errors);
+    }
   }
 
   private void createHeaderException(String error, String[] headers, SuperCsvException exception) {
@@ -0,0 +1,51 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.upload.model;
+
+import lombok.Getter;
+import org.openlmis.upload.BatchRecordHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class DummyBatchRecordHandler implements BatchRecordHandler<DummyImportable> {
+
+  @Getter
+  private List<List<DummyImportable>> chunks = new ArrayList<>();
+
+  @Getter
+  private List<Integer> rowNumbers = new ArrayList<>();
+
+  @Getter
+  private boolean postProcessed;
+
+  @Override
+  public void execute(List<DummyImportable> importables, List<Integer> rowNumbers, AuditFields auditFields,
+                      UploadErrors errors) {
+    chunks.add(importables);
+    this.rowNumbers.addAll(rowNumbers);
+    for (int i = 0; i < importables.size(); i++) {
+      if (importables.get(i).getMandatoryIntField() < 0) {
+        errors.add("negative value in row " + (rowNumbers.get(i) - 1));
+      }
+    }
+  }
+
+  @Override
+  public void execute(DummyImportable importable, int rowNumber, AuditFields auditFields) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void postProcess(AuditFields auditFields) {
+    postProcessed = true;
+  }
+}
@@ -20,9 +20,11 @@ import org.openlmis.db.categories.UnitTests;
 import org.openlmis.upload.Importable;
 import org.openlmis.upload.exception.UploadException;
 import org.openlmis.upload.model.AuditFields;
+import org.openlmis.upload.model.DummyBatchRecordHandler;
 import org.openlmis.upload.model.DummyImportable;
 import org.openlmis.upload.model.DummyRecordHandler;
 import org.openlmis.upload.model.ModelClass;
+import org.openlmis.upload.model.UploadResult;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -31,8 +33,11 @@ import java.io.UnsupportedEncodingException;
 import java.util.Date;
 import java.util.List;
 
+import static java.util.Arrays.asList;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -198,4 +203,41 @@ public class CSVParserTest {
     verify(spyRecordHandler).postProcess(auditFields);
   }
 
+
+  @Test
+  public void shouldHandOverRecordsInChunksToBatchRecordHandler() throws IOException {
+    StringBuilder csvInput = new StringBuilder("mandatory string field, mandatoryIntField\n");
+    for (int i = 0; i < CSVParser.CHUNK_SIZE + 1; i++) {
+      csvInput.append("Random").append(i).append(", ").append(i).append("\n");
+    }
+    DummyBatchRecordHandler batchRecordHandler = new DummyBatchRecordHandler();
+
+    UploadResult result = csvParser.process(new ByteArrayInputStream(csvInput.toString().getBytes("UTF-8")),
+      dummyImportableClass, batchRecordHandler, auditFields);
+
+    assertThat(result.getRecordsProcessed(), is(CSVParser.CHUNK_SIZE + 1));
+    assertFalse(result.hasErrors());
+    assertThat(batchRecordHandler.getChunks().size(), is(2));
+    assertThat(batchRecordHandler.getChunks().get(0).size(), is(CSVParser.CHUNK_SIZE));
+    assertThat(batchRecordHandler.getChunks().get(1).size(), is(1));
+    assertThat(batchRecordHandler.getRowNumbers().get(0), is(2));
+    assertTrue(batchRecordHandler.isPostProcessed());
+  }
+
+  @Test
+  public void shouldReturnAllRowErrorsFromBatchRecordHandlerAfterReadingFile() throws IOException {
+    String csvInput = "mandatory string field, mandatoryIntField\n" +
+      "Random1, -1\n" +
+      "Random2, 2\n" +
+      "Random3, -3\n";
+    DummyBatchRecordHandler batchRecordHandler = new DummyBatchRecordHandler();
+
+    UploadResult result = csvParser.process(new ByteArrayInputStream(csvInput.getBytes("UTF-8")), dummyImportableClass,
+      batchRecordHandler, auditFields);
+
+    assertThat(result.getRecordsProcessed(), is(3));
+    assertThat(result.getErrors(), is(asList("negative value in row 1", "negative value in row 3")));
+    assertThat(batchRecordHandler.getRowNumbers(), is(asList(2, 3, 4)));
+    assertTrue(batchRecordHandler.isPostProcessed());
+  }
 }
@@ -0,0 +1,68 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.rnr.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openlmis.rnr.domain.LossesAndAdjustmentsType;
+import org.openlmis.rnr.domain.ProgramRnrTemplate;
+import org.openlmis.rnr.domain.Rnr;
+import org.openlmis.rnr.domain.RnrStatus;
+import org.openlmis.rnr.repository.RequisitionRepository;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures CalculationService.perform, the recalculation run on save, submit, authorize and approve, over synthetic
+ * requisitions of increasing size.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class CalculationServiceBenchmark {
+
+  @Param({"100", "400", "1000"})
+  public int numberOfProducts;
+
+  @Param({"SUBMITTED", "AUTHORIZED"})
+  public RnrStatus status;
+
+  private CalculationService calculationService;
+
+  private ProgramRnrTemplate template;
+
+  private Rnr requisition;
+
+  @Setup
+  public void setUp() {
+    final List<LossesAndAdjustmentsType> lossesAndAdjustmentsTypes = SyntheticRequisitions.lossesAndAdjustmentsTypes();
+
+    calculationService = new CalculationService();
+    calculationService.requisitionRepository = new RequisitionRepository() {
+      @Override
+      public List<LossesAndAdjustmentsType> getLossesAndAdjustmentsTypes() {
+        return lossesAndAdjustmentsTypes;
+      }
+    };
+    template = SyntheticRequisitions.template();
+    requisition = SyntheticRequisitions.requisition(numberOfProducts, status);
+  }
+
+  @Benchmark
+  public Rnr perform() {
+    calculationService.perform(requisition, template);
+    return requisition;
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.rnr.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openlmis.core.domain.ProgramProduct;
+import org.openlmis.rnr.domain.ProgramRnrTemplate;
+import org.openlmis.rnr.domain.RegimenTemplate;
+import org.openlmis.rnr.domain.RegimenColumn;
+import org.openlmis.rnr.domain.Rnr;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.openlmis.rnr.domain.RnrStatus.INITIATED;
+
+/**
+ * Measures copying the user editable fields of a submitted requisition onto the saved one, which matches every
+ * submitted line item to a saved line item by product code.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class RequisitionCopyBenchmark {
+
+  @Param({"100", "400", "1000"})
+  public int numberOfProducts;
+
+  private ProgramRnrTemplate template;
+
+  private RegimenTemplate regimenTemplate;
+
+  private Rnr savedRequisition;
+
+  private Rnr submittedRequisition;
+
+  @Setup
+  public void setUp() {
+    template = SyntheticRequisitions.template();
+    regimenTemplate = new RegimenTemplate(1L, new ArrayList<RegimenColumn>());
+    savedRequisition = SyntheticRequisitions.requisition(numberOfProducts, INITIATED);
+    submittedRequisition = SyntheticRequisitions.requisition(numberOfProducts, INITIATED);
+  }
+
+  @Benchmark
+  public Rnr copyCreatorEditableFields() {
+    savedRequisition.copyCreatorEditableFields(submittedRequisition, template, regimenTemplate,
+      new ArrayList<ProgramProduct>());
+    return savedRequisition;
+  }
+
+  @Benchmark
+  public Rnr copyApproverEditableFields() {
+    savedRequisition.copyApproverEditableFields(submittedRequisition, template);
+    return savedRequisition;
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * This program is part of the OpenLMIS logistics management information system platform software.
+ * Copyright © 2013 VillageReach
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *  
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Affero General Public License for more details.
+ * You should have received a copy of the GNU Affero General Public License along with this program.  If not, see http://www.gnu.org/licenses.  For additional information contact info@OpenLMIS.org. 
+ */
+
+package org.openlmis.rnr.service;
+
+import org.openlmis.core.domain.Money;
+import org.openlmis.rnr.domain.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.openlmis.rnr.domain.ProgramRnrTemplate.*;
+import static org.openlmis.rnr.domain.RnRColumnSource.CALCULATED;
+import static org.openlmis.rnr.domain.RnRColumnSource.USER_INPUT;
+
+/**
+ * Builds requisitions of a given size whose line items pass validation, for benchmarking requisition calculations.
+ */
+
+public class SyntheticRequisitions {
+
+  public static final String TRANSFER_IN = "TRANSFER_IN";
+  public static final String DAMAGED = "DAMAGED";
+
+  public static List<LossesAndAdjustmentsType> lossesAndAdjustmentsTypes() {
+    List<LossesAndAdjustmentsType> types = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      types.add(new LossesAndAdjustmentsType("TYPE_" + i, "Type " + i, i % 2 == 0, i));
+    }
+    types.add(new LossesAndAdjustmentsType(TRANSFER_IN, "Transfer In", true, 10));
+    types.add(new LossesAndAdjustmentsType(DAMAGED, "Damaged", false, 11));
+    return types;
+  }
+
+  public static ProgramRnrTemplate template() {
+    return new ProgramRnrTemplate(asList(
+      column(BEGINNING_BALANCE, USER_INPUT),
+      column(QUANTITY_RECEIVED, USER_INPUT),
+      column(QUANTITY_DISPENSED, USER_INPUT),
+      column(LOSSES_AND_ADJUSTMENTS, USER_INPUT),
+      column(STOCK_IN_HAND, CALCULATED),
+      column(NEW_PATIENT_COUNT, USER_INPUT),
+      column(STOCK_OUT_DAYS, USER_INPUT),
+      column(NORMALIZED_CONSUMPTION, CALCULATED),
+      column(QUANTITY_REQUESTED, USER_INPUT),
+      column(REASON_FOR_REQUESTED_QUANTITY, USER_INPUT),
+      column(REMARKS, USER_INPUT)));
+  }
+
+  public static Rnr requisition(int numberOfProducts, RnrStatus status) {
+    Rnr requisition = new Rnr(1L);
+    requisition.setStatus(status);
+    for (int i = 0; i < numberOfProducts; i++) {
+      if (i % 10 == 9) {
+        requisition.getNonFullSupplyLineItems().add(nonFullSupplyLineItem(i));
+      } else {
+        requisition.getFullSupplyLineItems().add(fullSupplyLineItem(i));
+      }
+    }
+    return requisition;
+  }
+
+  public static RnrLineItem fullSupplyLineItem(int index) {
+    RnrLineItem lineItem = lineItem(index, true);
+    lineItem.setBeginningBalance(1000 + index % 50);
+    lineItem.setQuantityReceived(200);
+    lineItem.setQuantityDispensed(300 + index % 100);
+    lineItem.setNewPatientCount(index % 7);
+    lineItem.setStockOutDays(index % 5);
+    lineItem.setReportingDays(30);
+    lineItem.setPreviousNormalizedConsumptions(asList(280 + index % 40, 310));
+    lineItem.addLossesAndAdjustments(new LossesAndAdjustments(new LossesAndAdjustmentsType(TRANSFER_IN, null, null, null), 20));
+    lineItem.addLossesAndAdjustments(new LossesAndAdjustments(new LossesAndAdjustmentsType(DAMAGED, null, null, null), 10));
+    return lineItem;
+  }
+
+  public static RnrLineItem nonFullSupplyLineItem(int index) {
+    RnrLineItem lineItem = lineItem(index, false);
+    lineItem.setQuantityRequested(50 + index % 20);
+    lineItem.setReasonForRequestedQuantity("reason");
+    return lineItem;
+  }
+
+  private static RnrLineItem lineItem(int index, boolean fullSupply) {
+    RnrLineItem lineItem = new RnrLineItem();
+    lineItem.setProductCode("P" + index);
+    lineItem.setFullSupply(fullSupply);
+    lineItem.setDosesPerMonth(30);
+    lineItem.setDosesPerDispensingUnit(1 + index % 4);
+    lineItem.setMaxMonthsOfStock(3);
+    lineItem.setPackSize(10 + index % 10);
+    lineItem.setPackRoundingThreshold(5);
+    lineItem.setRoundToZero(false);
+    lineItem.setPrice(new Money("12.5"));
+    return lineItem;
+  }
+
+  private static RnrColumn column(String name, RnRColumnSource source) {
+    RnrColumn column = new RnrColumn();
+    column.setName(name);
+    column.setVisible(true);
+    column.setSource(source);
+    return column;
+  }
+}